@@ -0,0 +1,322 @@
+package com.spring6microservices.common.spring.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ *    Local, bounded and thread-safe map whose entries expire at the given time, used as in-memory cache in every node.
+ * <p>
+ *    The entries are stored in a {@link ConcurrentHashMap}, so the reads and writes of different keys do not block each
+ * other. Every entry keeps when it was used for the last time, and when a new key is stored and the map is full, only
+ * one thread cleans it while the others go on: first the expired entries are removed and, if it is still full, the least
+ * recently used ones until {@link ExpiringLruMap#EVICTION_BATCH_PERCENTAGE} of the capacity is free again, so the cost
+ * of going through all the entries is shared by the next stored ones.
+ * <p>
+ *    The expired entries are never returned, and besides being removed when they are accessed, all of them are removed
+ * every {@link ExpiringLruMap#EXPIRED_ENTRIES_SWEEP_INTERVAL} when the map is used.
+ *
+ * @param <K>
+ *    Type of the keys
+ * @param <V>
+ *    Type of the values
+ */
+public class ExpiringLruMap<K, V> {
+
+    // Percentage of the capacity released when the least recently used entries are removed
+    private static final int EVICTION_BATCH_PERCENTAGE = 10;
+
+    // Maximum time the expired entries not accessed are kept
+    private static final Duration EXPIRED_ENTRIES_SWEEP_INTERVAL = Duration.ofMinutes(1);
+
+    private final int entryCapacity;
+
+    // Number of entries kept when the least recently used ones are removed
+    private final int entriesAfterEviction;
+
+    private final Clock clock;
+
+    // Logical time used to know which entries were used more recently
+    private final AtomicLong accessCounter;
+
+    private final ConcurrentHashMap<K, Entry<V>> entries;
+
+    // Only one thread removes entries at the same time, the rest do not wait for it
+    private final ReentrantLock cleanLock;
+
+    private volatile Instant nextExpiredEntriesSweep;
+
+
+    public ExpiringLruMap(final int entryCapacity) {
+        this(
+                entryCapacity,
+                Clock.systemUTC()
+        );
+    }
+
+
+    public ExpiringLruMap(final int entryCapacity,
+                          final Clock clock) {
+        this.entryCapacity = Math.max(0, entryCapacity);
+        this.entriesAfterEviction = this.entryCapacity - (this.entryCapacity * EVICTION_BATCH_PERCENTAGE / 100);
+        this.clock = clock;
+        this.accessCounter = new AtomicLong();
+        this.entries = new ConcurrentHashMap<>();
+        this.cleanLock = new ReentrantLock();
+        this.nextExpiredEntriesSweep = clock.instant().plus(EXPIRED_ENTRIES_SWEEP_INTERVAL);
+    }
+
+
+    /**
+     * Removes all the stored entries.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+
+    /**
+     * Returns the value related with the given {@code key}, if it was stored and has not expired.
+     *
+     * @param key
+     *    Identifier to search
+     *
+     * @return value related with {@code key},
+     *         {@code null} if it was not stored or has expired
+     */
+    public V get(final K key) {
+        if (null == key) {
+            return null;
+        }
+        final Instant now = clock.instant();
+        sweepExpiredEntriesIfRequired(now);
+        final Entry<V> entry = entries.get(key);
+        if (null == entry) {
+            return null;
+        }
+        if (entry.isExpired(now)) {
+            entries.remove(
+                    key,
+                    entry
+            );
+            return null;
+        }
+        entry.lastAccess = accessCounter.incrementAndGet();
+        return entry.value;
+    }
+
+
+    /**
+     *    Stores the given {@code key} - {@code value} until {@code expiration}, removing the least recently used entries
+     * if the map is full. Nothing is stored if any of them is {@code null} or {@code expiration} has already passed.
+     *
+     * @param key
+     *    Identifier of {@code value}
+     * @param value
+     *    Value to store
+     * @param expiration
+     *    {@link Instant} when the entry expires
+     *
+     * @return {@code true} if the given entry was stored,
+     *         {@code false} otherwise
+     */
+    public boolean put(final K key,
+                       final V value,
+                       final Instant expiration) {
+        final Instant now = clock.instant();
+        if (null == key || null == value || null == expiration ||
+                0 == entryCapacity || !expiration.isAfter(now)) {
+            return false;
+        }
+        final Entry<V> previous = entries.put(
+                key,
+                new Entry<>(
+                        value,
+                        expiration,
+                        accessCounter.incrementAndGet()
+                )
+        );
+        if (null == previous) {
+            evictIfFull(now);
+        }
+        sweepExpiredEntriesIfRequired(now);
+        return true;
+    }
+
+
+    /**
+     * Removes the entry related with the given {@code key}, if exists.
+     *
+     * @param key
+     *    Identifier to remove
+     */
+    public void remove(final K key) {
+        if (null == key) {
+            return;
+        }
+        entries.remove(key);
+    }
+
+
+    /**
+     * Removes the entry related with the given {@code key} only if its current value is {@code value}.
+     *
+     * @param key
+     *    Identifier to remove
+     * @param value
+     *    Value expected to be related with {@code key}
+     *
+     * @return {@code true} if the entry was removed,
+     *         {@code false} otherwise
+     */
+    public boolean remove(final K key,
+                          final V value) {
+        if (null == key) {
+            return false;
+        }
+        final Entry<V> entry = entries.get(key);
+        return null != entry &&
+                Objects.equals(value, entry.value) &&
+                entries.remove(
+                        key,
+                        entry
+                );
+    }
+
+
+    /**
+     * Returns the number of stored entries that have not expired, going through all of them.
+     *
+     * @return number of stored entries
+     */
+    public int size() {
+        final Instant now = clock.instant();
+        return (int) entries.values()
+                .stream()
+                .filter(e -> !e.isExpired(now))
+                .count();
+    }
+
+
+    /**
+     *    If there are more entries than {@link ExpiringLruMap#entryCapacity} and no other thread is already doing it,
+     * removes the expired entries and, if they are still too many, the least recently used ones until only
+     * {@link ExpiringLruMap#entriesAfterEviction} are kept.
+     *
+     * @param now
+     *    {@link Instant} used to know if an entry has expired
+     */
+    private void evictIfFull(final Instant now) {
+        // Checked again once the lock is released, so the entries stored meanwhile by other threads are not missed
+        while (entries.size() > entryCapacity) {
+            if (!cleanLock.tryLock()) {
+                return;
+            }
+            try {
+                removeExpiredEntries(now);
+                removeLeastRecentlyUsedEntries(entries.size() - entriesAfterEviction);
+            } finally {
+                cleanLock.unlock();
+            }
+        }
+    }
+
+
+    /**
+     *    Removes all the expired entries if {@link ExpiringLruMap#EXPIRED_ENTRIES_SWEEP_INTERVAL} has passed since the
+     * last time and no other thread is already doing it.
+     *
+     * @param now
+     *    {@link Instant} used to know if an entry has expired
+     */
+    private void sweepExpiredEntriesIfRequired(final Instant now) {
+        if (now.isBefore(nextExpiredEntriesSweep) || !cleanLock.tryLock()) {
+            return;
+        }
+        try {
+            if (!now.isBefore(nextExpiredEntriesSweep)) {
+                nextExpiredEntriesSweep = now.plus(EXPIRED_ENTRIES_SWEEP_INTERVAL);
+                removeExpiredEntries(now);
+            }
+        } finally {
+            cleanLock.unlock();
+        }
+    }
+
+
+    /**
+     * Removes the entries expired at the given {@link Instant}.
+     *
+     * @param now
+     *    {@link Instant} used to know if an entry has expired
+     */
+    private void removeExpiredEntries(final Instant now) {
+        entries.entrySet()
+                .removeIf(e -> e.getValue().isExpired(now));
+    }
+
+
+    /**
+     * Removes the given number of entries, choosing the ones that have not been used for longer.
+     *
+     * @param entriesToRemove
+     *    Number of entries to remove
+     */
+    private void removeLeastRecentlyUsedEntries(final int entriesToRemove) {
+        if (0 >= entriesToRemove) {
+            return;
+        }
+        final long[] lastAccesses = entries.values()
+                .stream()
+                .mapToLong(e -> e.lastAccess)
+                .sorted()
+                .toArray();
+        if (0 == lastAccesses.length) {
+            return;
+        }
+        final long lastAccessToRemove = lastAccesses[Math.min(entriesToRemove, lastAccesses.length) - 1];
+        int removedEntries = 0;
+        for (Map.Entry<K, Entry<V>> entry : entries.entrySet()) {
+            if (removedEntries >= entriesToRemove) {
+                return;
+            }
+            if (entry.getValue().lastAccess <= lastAccessToRemove &&
+                    entries.remove(entry.getKey(), entry.getValue())) {
+                removedEntries++;
+            }
+        }
+    }
+
+
+    /**
+     * Stored value, with the time when it expires and the last time it was used.
+     */
+    private static final class Entry<V> {
+
+        private final V value;
+
+        private final Instant expiration;
+
+        private volatile long lastAccess;
+
+
+        private Entry(final V value,
+                      final Instant expiration,
+                      final long lastAccess) {
+            this.value = value;
+            this.expiration = expiration;
+            this.lastAccess = lastAccess;
+        }
+
+
+        private boolean isExpired(final Instant now) {
+            return !expiration.isAfter(now);
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.spring6microservices.common.spring.cache;
+
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapEvent;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryEvictedListener;
+import com.hazelcast.map.listener.EntryExpiredListener;
+import com.hazelcast.map.listener.EntryRemovedListener;
+import com.hazelcast.map.listener.EntryUpdatedListener;
+import com.hazelcast.map.listener.MapClearedListener;
+import com.hazelcast.map.listener.MapEvictedListener;
+
+/**
+ *    Listener of a Hazelcast's {@link IMap} that removes the local copies of a {@link TwoLevelCache} when their entries
+ * are modified by any node. Only loaded when Hazelcast is included in the microservice.
+ */
+final class HazelcastLocalCacheInvalidator implements EntryAddedListener<Object, Object>,
+                                                      EntryUpdatedListener<Object, Object>,
+                                                      EntryRemovedListener<Object, Object>,
+                                                      EntryEvictedListener<Object, Object>,
+                                                      EntryExpiredListener<Object, Object>,
+                                                      MapClearedListener,
+                                                      MapEvictedListener {
+
+    private final TwoLevelCache twoLevelCache;
+
+
+    private HazelcastLocalCacheInvalidator(final TwoLevelCache twoLevelCache) {
+        this.twoLevelCache = twoLevelCache;
+    }
+
+
+    /**
+     * Registers a new {@link HazelcastLocalCacheInvalidator} of {@code twoLevelCache} if {@code nativeCache} is an {@link IMap}.
+     *
+     * @param nativeCache
+     *    Native cache of the remote level of {@code twoLevelCache}
+     * @param twoLevelCache
+     *    {@link TwoLevelCache} whose local copies will be removed
+     *
+     * @return {@code true} if the listener was registered, {@code false} otherwise
+     */
+    @SuppressWarnings("unchecked")
+    static boolean register(final Object nativeCache,
+                            final TwoLevelCache twoLevelCache) {
+        if (!(nativeCache instanceof IMap<?, ?> map)) {
+            return false;
+        }
+        ((IMap<Object, Object>) map).addEntryListener(
+                new HazelcastLocalCacheInvalidator(twoLevelCache),
+                false
+        );
+        return true;
+    }
+
+
+    @Override
+    public void entryAdded(final EntryEvent<Object, Object> event) {
+        twoLevelCache.invalidateLocal(
+                event.getKey()
+        );
+    }
+
+
+    @Override
+    public void entryUpdated(final EntryEvent<Object, Object> event) {
+        twoLevelCache.invalidateLocal(
+                event.getKey()
+        );
+    }
+
+
+    @Override
+    public void entryRemoved(final EntryEvent<Object, Object> event) {
+        twoLevelCache.invalidateLocal(
+                event.getKey()
+        );
+    }
+
+
+    @Override
+    public void entryEvicted(final EntryEvent<Object, Object> event) {
+        twoLevelCache.invalidateLocal(
+                event.getKey()
+        );
+    }
+
+
+    @Override
+    public void entryExpired(final EntryEvent<Object, Object> event) {
+        twoLevelCache.invalidateLocal(
+                event.getKey()
+        );
+    }
+
+
+    @Override
+    public void mapCleared(final MapEvent event) {
+        twoLevelCache.invalidateAllLocal();
+    }
+
+
+    @Override
+    public void mapEvicted(final MapEvent event) {
+        twoLevelCache.invalidateAllLocal();
+    }
+
+}
@@ -0,0 +1,535 @@
+package com.spring6microservices.common.spring.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Clock;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ *    {@link Cache} with two levels: a local and bounded one in every node, in front of the given {@code remoteCache}
+ * (usually a distributed one). The reads are resolved by the local level when possible, avoiding the remote call and
+ * the deserialization of the value. The writes are sent to the remote level, removing the local copy.
+ * <p>
+ *    The local copies are shared by all the callers of the node, so when the values are mutable the given
+ * {@code localCopier} is used to store and return copies of them, instead of the same instance.
+ * <p>
+ *    Every local copy is removed when it expires or, before that, when the remote level notifies the key was modified,
+ * by using {@link TwoLevelCache#invalidateLocal(Object)} and {@link TwoLevelCache#invalidateAllLocal()}.
+ * <p>
+ *    {@link TwoLevelCache#getNativeCache()} returns a {@link ConcurrentMap} over the native cache of the remote level
+ * that removes the local copy of every key it modifies, so the atomic operations of
+ * {@link com.spring6microservices.common.spring.service.CacheService} are applied remotely without knowing there is a
+ * local level.
+ */
+public class TwoLevelCache implements Cache {
+
+    // Number of versions shared by the keys, so the invalidation of one key does not affect most of the other ones
+    private static final int KEY_VERSIONS = 1024;
+
+    private final Cache remoteCache;
+
+    private final int localExpireInSeconds;
+
+    private final UnaryOperator<Object> localCopier;
+
+    private final Clock clock;
+
+    private final ExpiringLruMap<Object, LocalEntry> localCache;
+
+    // Increased on every invalidation of its keys, to know if a remote value was modified while it was being loaded
+    private final AtomicLongArray keyVersions;
+
+
+    public TwoLevelCache(final Cache remoteCache,
+                         final int localEntryCapacity,
+                         final int localExpireInSeconds) {
+        this(
+                remoteCache,
+                localEntryCapacity,
+                localExpireInSeconds,
+                UnaryOperator.identity()
+        );
+    }
+
+
+    public TwoLevelCache(final Cache remoteCache,
+                         final int localEntryCapacity,
+                         final int localExpireInSeconds,
+                         final UnaryOperator<Object> localCopier) {
+        this(
+                remoteCache,
+                localEntryCapacity,
+                localExpireInSeconds,
+                localCopier,
+                Clock.systemUTC()
+        );
+    }
+
+
+    TwoLevelCache(final Cache remoteCache,
+                  final int localEntryCapacity,
+                  final int localExpireInSeconds,
+                  final UnaryOperator<Object> localCopier,
+                  final Clock clock) {
+        this.remoteCache = remoteCache;
+        this.localExpireInSeconds = localExpireInSeconds;
+        this.localCopier = null == localCopier
+                ? UnaryOperator.identity()
+                : localCopier;
+        this.clock = clock;
+        this.localCache = new ExpiringLruMap<>(
+                localEntryCapacity,
+                clock
+        );
+        this.keyVersions = new AtomicLongArray(KEY_VERSIONS);
+    }
+
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        invalidateAllLocal();
+    }
+
+
+    @Override
+    public void evict(final Object key) {
+        remoteCache.evict(key);
+        invalidateLocal(key);
+    }
+
+
+    @Override
+    public boolean evictIfPresent(final Object key) {
+        final boolean result = remoteCache.evictIfPresent(key);
+        invalidateLocal(key);
+        return result;
+    }
+
+
+    @Override
+    public ValueWrapper get(final Object key) {
+        final LocalEntry localEntry = getLocal(key);
+        if (null != localEntry) {
+            return new SimpleValueWrapper(
+                    localCopier.apply(
+                            localEntry.value()
+                    )
+            );
+        }
+        final long currentKeyVersion = getKeyVersion(key);
+        final ValueWrapper remoteValue = remoteCache.get(key);
+        if (null != remoteValue) {
+            putLocal(
+                    key,
+                    remoteValue.get(),
+                    currentKeyVersion
+            );
+        }
+        return remoteValue;
+    }
+
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key,
+                     final Class<T> type) {
+        final ValueWrapper valueWrapper = get(key);
+        final Object value = null != valueWrapper
+                ? valueWrapper.get()
+                : null;
+        if (null != value && null != type && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value
+            );
+        }
+        return (T) value;
+    }
+
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key,
+                     final Callable<T> valueLoader) {
+        final LocalEntry localEntry = getLocal(key);
+        if (null != localEntry) {
+            return (T) localCopier.apply(
+                    localEntry.value()
+            );
+        }
+        final long currentKeyVersion = getKeyVersion(key);
+        final T value = remoteCache.get(
+                key,
+                valueLoader
+        );
+        putLocal(
+                key,
+                value,
+                currentKeyVersion
+        );
+        return value;
+    }
+
+
+    @Override
+    public String getName() {
+        return remoteCache.getName();
+    }
+
+
+    /**
+     *    Returns a {@link ConcurrentMap} over the native cache of the remote level, whose modifications remove the local
+     * copies of the related keys. If the native cache of the remote level is not a {@link ConcurrentMap}, it is returned
+     * as it is.
+     *
+     * @return {@link Object} with the native cache of the remote level
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object getNativeCache() {
+        final Object remoteNativeCache = remoteCache.getNativeCache();
+        return remoteNativeCache instanceof ConcurrentMap<?, ?> remoteMap
+                ? new RemoteNativeMap((ConcurrentMap<Object, Object>) remoteMap)
+                : remoteNativeCache;
+    }
+
+
+    /**
+     * Returns the {@link Cache} used as second level.
+     *
+     * @return remote {@link Cache}
+     */
+    public Cache getRemoteCache() {
+        return remoteCache;
+    }
+
+
+    @Override
+    public boolean invalidate() {
+        final boolean result = remoteCache.invalidate();
+        invalidateAllLocal();
+        return result;
+    }
+
+
+    @Override
+    public void put(final Object key,
+                    final Object value) {
+        remoteCache.put(
+                key,
+                value
+        );
+        invalidateLocal(key);
+    }
+
+
+    @Override
+    public ValueWrapper putIfAbsent(final Object key,
+                                    final Object value) {
+        final ValueWrapper result = remoteCache.putIfAbsent(
+                key,
+                value
+        );
+        invalidateLocal(key);
+        return result;
+    }
+
+
+    /**
+     * Removes the local copy of the given {@code key}, used when it was modified in the remote level.
+     *
+     * @param key
+     *    Identifier to remove
+     */
+    public void invalidateLocal(final Object key) {
+        if (null == key) {
+            return;
+        }
+        keyVersions.incrementAndGet(
+                getKeyVersionIndex(key)
+        );
+        localCache.remove(key);
+    }
+
+
+    /**
+     * Removes all the local copies, used when the remote level was cleared.
+     */
+    public void invalidateAllLocal() {
+        for (int i = 0; i < KEY_VERSIONS; i++) {
+            keyVersions.incrementAndGet(i);
+        }
+        localCache.clear();
+    }
+
+
+    /**
+     * Returns the stored local copy of {@code key}, if it exists and has not expired.
+     */
+    private LocalEntry getLocal(final Object key) {
+        return localCache.get(key);
+    }
+
+
+    /**
+     * Returns the current version of the given {@code key}, increased every time it is invalidated.
+     */
+    private long getKeyVersion(final Object key) {
+        return null == key
+                ? 0
+                : keyVersions.get(
+                        getKeyVersionIndex(key)
+                  );
+    }
+
+
+    private static int getKeyVersionIndex(final Object key) {
+        return Math.floorMod(
+                key.hashCode(),
+                KEY_VERSIONS
+        );
+    }
+
+
+    /**
+     *    Stores a local copy of the given {@code key} - {@code value}, unless {@code key} was invalidated since
+     * {@code previousKeyVersion}, because then {@code value} could be an old one. If the local level is full, the least
+     * recently used copies are removed.
+     * <p>
+     *    {@code value} is also returned to the current caller, so the stored one is a copy of it.
+     */
+    private void putLocal(final Object key,
+                          final Object value,
+                          final long previousKeyVersion) {
+        if (null == key || null == value) {
+            return;
+        }
+        final LocalEntry localEntry = new LocalEntry(
+                localCopier.apply(value)
+        );
+        localCache.put(
+                key,
+                localEntry,
+                clock.instant()
+                        .plusSeconds(localExpireInSeconds)
+        );
+        if (previousKeyVersion != getKeyVersion(key)) {
+            localCache.remove(
+                    key,
+                    localEntry
+            );
+        }
+    }
+
+
+    /**
+     *    {@link ConcurrentMap} over the native cache of the remote level, that removes the local copies of the keys it
+     * modifies once the remote operation finishes. Its entries cannot be modified through {@link Map#entrySet()}.
+     */
+    private final class RemoteNativeMap extends AbstractMap<Object, Object> implements ConcurrentMap<Object, Object> {
+
+        private final ConcurrentMap<Object, Object> remoteMap;
+
+
+        private RemoteNativeMap(final ConcurrentMap<Object, Object> remoteMap) {
+            this.remoteMap = remoteMap;
+        }
+
+
+        @Override
+        public void clear() {
+            remoteMap.clear();
+            invalidateAllLocal();
+        }
+
+
+        @Override
+        public Object compute(final Object key,
+                              final BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+            final Object result = remoteMap.compute(
+                    key,
+                    remappingFunction
+            );
+            invalidateLocal(key);
+            return result;
+        }
+
+
+        @Override
+        public Object computeIfAbsent(final Object key,
+                                      final Function<? super Object, ?> mappingFunction) {
+            final Object result = remoteMap.computeIfAbsent(
+                    key,
+                    mappingFunction
+            );
+            invalidateLocal(key);
+            return result;
+        }
+
+
+        @Override
+        public Object computeIfPresent(final Object key,
+                                       final BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+            final Object result = remoteMap.computeIfPresent(
+                    key,
+                    remappingFunction
+            );
+            invalidateLocal(key);
+            return result;
+        }
+
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return remoteMap.containsKey(key);
+        }
+
+
+        @Override
+        public Set<Entry<Object, Object>> entrySet() {
+            return Collections.unmodifiableSet(
+                    remoteMap.entrySet()
+            );
+        }
+
+
+        @Override
+        public Object get(final Object key) {
+            return remoteMap.get(key);
+        }
+
+
+        @Override
+        public Object merge(final Object key,
+                            final Object value,
+                            final BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+            final Object result = remoteMap.merge(
+                    key,
+                    value,
+                    remappingFunction
+            );
+            invalidateLocal(key);
+            return result;
+        }
+
+
+        @Override
+        public Object put(final Object key,
+                          final Object value) {
+            final Object result = remoteMap.put(
+                    key,
+                    value
+            );
+            invalidateLocal(key);
+            return result;
+        }
+
+
+        @Override
+        public void putAll(final Map<?, ?> entries) {
+            remoteMap.putAll(entries);
+            entries.keySet()
+                    .forEach(TwoLevelCache.this::invalidateLocal);
+        }
+
+
+        @Override
+        public Object putIfAbsent(final Object key,
+                                  final Object value) {
+            final Object result = remoteMap.putIfAbsent(
+                    key,
+                    value
+            );
+            invalidateLocal(key);
+            return result;
+        }
+
+
+        @Override
+        public Object remove(final Object key) {
+            final Object result = remoteMap.remove(key);
+            invalidateLocal(key);
+            return result;
+        }
+
+
+        @Override
+        public boolean remove(final Object key,
+                              final Object value) {
+            final boolean result = remoteMap.remove(
+                    key,
+                    value
+            );
+            invalidateLocal(key);
+            return result;
+        }
+
+
+        @Override
+        public Object replace(final Object key,
+                              final Object value) {
+            final Object result = remoteMap.replace(
+                    key,
+                    value
+            );
+            invalidateLocal(key);
+            return result;
+        }
+
+
+        @Override
+        public boolean replace(final Object key,
+                               final Object oldValue,
+                               final Object newValue) {
+            final boolean result = remoteMap.replace(
+                    key,
+                    oldValue,
+                    newValue
+            );
+            invalidateLocal(key);
+            return result;
+        }
+
+
+        @Override
+        public void replaceAll(final BiFunction<? super Object, ? super Object, ?> function) {
+            remoteMap.replaceAll(function);
+            invalidateAllLocal();
+        }
+
+
+        @Override
+        public int size() {
+            return remoteMap.size();
+        }
+    }
+
+
+    /**
+     *    Local copy of a value. It is not a record, so two copies of equal values are never the same entry when one of
+     * them is removed because it could be an old one.
+     */
+    private static final class LocalEntry {
+
+        private final Object value;
+
+        LocalEntry(final Object value) {
+            this.value = value;
+        }
+
+        Object value() {
+            return value;
+        }
+    }
+
+}
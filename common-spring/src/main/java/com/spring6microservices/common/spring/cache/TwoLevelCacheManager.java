@@ -0,0 +1,140 @@
+package com.spring6microservices.common.spring.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ *    {@link CacheManager} that adds a local and bounded level, in every node, in front of the caches of the given
+ * {@code remoteCacheManager}, returning {@link TwoLevelCache}s. Only the caches included in {@code localCaches} get the
+ * local level, the rest ones are returned as they are.
+ * <p>
+ *    If the remote caches are Hazelcast ones, the local copies are removed when the related entries are modified by any
+ * node, through map entry listeners.
+ * <p>
+ *    It is not a subtype of {@code remoteCacheManager}, so the services that need its native client, like the
+ * Hazelcast's {@code HazelcastInstance}, must receive it directly instead of casting the {@link CacheManager}.
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private static final boolean IS_HAZELCAST_PRESENT = ClassUtils.isPresent(
+            "com.hazelcast.map.IMap",
+            TwoLevelCacheManager.class.getClassLoader()
+    );
+
+    private final CacheManager remoteCacheManager;
+
+    private final Map<String, LocalCacheConfiguration> localCaches;
+
+    private final Map<String, TwoLevelCache> twoLevelCaches;
+
+
+    /**
+     * Creates a new {@link TwoLevelCacheManager}.
+     *
+     * @param remoteCacheManager
+     *    {@link CacheManager} with the remote caches used as second level
+     * @param localCaches
+     *    {@link Map} with the names of the caches with local level and its {@link LocalCacheConfiguration}
+     */
+    public TwoLevelCacheManager(final CacheManager remoteCacheManager,
+                                final Map<String, LocalCacheConfiguration> localCaches) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localCaches = null == localCaches
+                ? Map.of()
+                : Map.copyOf(localCaches);
+        this.twoLevelCaches = new ConcurrentHashMap<>();
+    }
+
+
+    @Override
+    public Cache getCache(final String name) {
+        final LocalCacheConfiguration localCacheConfiguration = null != name
+                ? localCaches.get(name)
+                : null;
+
+        if (null == localCacheConfiguration || !localCacheConfiguration.isEnabled()) {
+            return remoteCacheManager.getCache(name);
+        }
+        return twoLevelCaches.computeIfAbsent(
+                name,
+                n -> ofNullable(remoteCacheManager.getCache(n))
+                        .map(rc -> {
+                            TwoLevelCache twoLevelCache = new TwoLevelCache(
+                                    rc,
+                                    localCacheConfiguration.entryCapacity(),
+                                    localCacheConfiguration.expireInSeconds(),
+                                    localCacheConfiguration.copier()
+                            );
+                            if (IS_HAZELCAST_PRESENT) {
+                                HazelcastLocalCacheInvalidator.register(
+                                        rc.getNativeCache(),
+                                        twoLevelCache
+                                );
+                            }
+                            return twoLevelCache;
+                        })
+                        .orElse(null)
+        );
+    }
+
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+
+    /**
+     *    Configuration of the local level of a cache. Its copies are shared by all the callers of the current node, so
+     * if the cached values are mutable, {@code copier} must return a new instance equal to the given one: it is used to
+     * store every local copy and to return it, so the changes of one caller never affect the rest ones.
+     *
+     * @param entryCapacity
+     *    Maximum number of local copies
+     * @param expireInSeconds
+     *    Maximum time a local copy is used before reading the value again from the remote level
+     * @param copier
+     *    {@link UnaryOperator} used to copy the values stored in the local level
+     */
+    public record LocalCacheConfiguration(int entryCapacity,
+                                          int expireInSeconds,
+                                          UnaryOperator<Object> copier) {
+
+        /**
+         * Configuration of the local level of a cache whose values are immutable, so they are not copied.
+         *
+         * @param entryCapacity
+         *    Maximum number of local copies
+         * @param expireInSeconds
+         *    Maximum time a local copy is used before reading the value again from the remote level
+         */
+        public LocalCacheConfiguration(final int entryCapacity,
+                                       final int expireInSeconds) {
+            this(
+                    entryCapacity,
+                    expireInSeconds,
+                    UnaryOperator.identity()
+            );
+        }
+
+        public LocalCacheConfiguration {
+            copier = null == copier
+                    ? UnaryOperator.identity()
+                    : copier;
+        }
+
+        public boolean isEnabled() {
+            return 0 < entryCapacity &&
+                    0 < expireInSeconds;
+        }
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.spring6microservices.common.spring.dto.order;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.spring6microservices.common.spring.dto.ErrorResponseDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+@AllArgsConstructor
+@Builder
+@Data
+@JsonInclude(
+        JsonInclude.Include.NON_NULL
+)
+@NoArgsConstructor
+@Schema(
+        description = "Result of importing one of the orders included in a bulk request"
+)
+public class OrderImportResultDto {
+
+    @Schema(
+            description = "Line of the bulk request that contains the order, starting from 1",
+            requiredMode = RequiredMode.REQUIRED
+    )
+    private long lineNumber;
+
+    @Schema(
+            description = "Internal unique identifier, only if the order was saved",
+            requiredMode = RequiredMode.AUTO
+    )
+    private Integer id;
+
+    @Schema(
+            description = "Unique identifier of the order, if it could be read",
+            requiredMode = RequiredMode.AUTO
+    )
+    private String code;
+
+    @Schema(
+            description = "Why the order was not saved, only if it was not",
+            requiredMode = RequiredMode.AUTO
+    )
+    private ErrorResponseDto error;
+
+}
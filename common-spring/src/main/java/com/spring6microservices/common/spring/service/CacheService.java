@@ -1,26 +1,74 @@
 package com.spring6microservices.common.spring.service;
 
+import com.hazelcast.map.IMap;
+import com.spring6microservices.common.spring.service.CacheServiceMetrics.Operation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NullValue;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toCollection;
 
 /**
  * Common service used by other microservices to deal with a cache.
+ * <p>
+ *    When the native cache behind the {@link Cache} is a {@link ConcurrentMap} (like Hazelcast's {@link IMap} or the
+ * one used by Spring's {@code ConcurrentMapCache}), the "conditional" and bulk operations are delegated to it, so they
+ * are atomic and, with a distributed cache, require only one remote call.
+ * <p>
+ *    The {@code null} values are never stored, because every cache uses its own representation of them (like Spring's
+ * {@link NullValue} or the one of Hazelcast's {@code HazelcastCache}), and they would be returned as they are by the
+ * native cache.
+ * <p>
+ *    Every operation is measured using the {@link MeterRegistry} of the microservice (see {@link CacheServiceMetrics}),
+ * published by the {@code metrics} endpoint of Spring Boot Actuator.
  */
 @Service
 public class CacheService {
 
+    private static final boolean IS_HAZELCAST_PRESENT = ClassUtils.isPresent(
+            "com.hazelcast.map.IMap",
+            CacheService.class.getClassLoader()
+    );
+
     private final CacheManager cacheManager;
 
+    private final CacheServiceMetrics metrics;
+
     @Autowired
-    public CacheService(@Lazy final CacheManager cacheManager) {
+    public CacheService(@Lazy final CacheManager cacheManager,
+                        final ObjectProvider<MeterRegistry> meterRegistry) {
+        this(
+                cacheManager,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+        );
+    }
+
+
+    CacheService(final CacheManager cacheManager,
+                 final MeterRegistry meterRegistry) {
         this.cacheManager = cacheManager;
+        this.metrics = new CacheServiceMetrics(meterRegistry);
     }
 
 
@@ -33,13 +81,72 @@ public class CacheService {
      * @return {@code true} if the {@code cacheName} exists and its elements were removed, {@code false} otherwise
      */
     public boolean clear(final String cacheName) {
-        return ofNullable(cacheName)
-                .map(cacheManager::getCache)
-                .map(c -> {
-                    c.clear();
-                    return true;
-                })
-                .orElse(false);
+        return metrics.record(
+                cacheName,
+                Operation.CLEAR,
+                () -> getCache(cacheName)
+                        .map(c -> {
+                            c.clear();
+                            return true;
+                        })
+                        .orElse(false)
+        );
+    }
+
+
+    /**
+     *    Returns the {@code value} related with the given {@code key} inside the cache. If it does not exist, the
+     * {@code loader} is invoked and its result, if not {@code null}, stored and returned. Both steps are atomic: with
+     * several concurrent invocations, only one {@code value} is stored and returned to all of them.
+     *
+     * @param cacheName
+     *    Cache on which the {@code key} will be searched
+     * @param key
+     *    Identifier to search in the cache
+     * @param loader
+     *    {@link Function} used to get the {@code value} if {@code key} does not exist
+     *
+     * @return {@link Optional} with the {@code value} if it was found or loaded, {@link Optional#empty()} otherwise
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> Optional<V> computeIfAbsent(final String cacheName,
+                                              final K key,
+                                              final Function<? super K, ? extends V> loader) {
+        if (null == loader) {
+            return get(cacheName, key);
+        }
+        final AtomicBoolean loaded = new AtomicBoolean(false);
+        final Function<K, V> measuredLoader = k -> {
+            loaded.set(true);
+            return loader.apply(k);
+        };
+        final Optional<V> result = metrics.record(
+                cacheName,
+                Operation.COMPUTE_IF_ABSENT,
+                () -> getCache(cacheName)
+                        .flatMap(c ->
+                                getNativeConcurrentMap(c)
+                                        .map(m ->
+                                                ofNullable(
+                                                        (V) fromNativeValue(
+                                                                m.computeIfAbsent(
+                                                                        key,
+                                                                        k -> measuredLoader.apply(key)
+                                                                )
+                                                        )
+                                                )
+                                        )
+                                        .orElseGet(() ->
+                                                computeIfAbsent(c, key, measuredLoader)
+                                        )
+                        )
+        );
+        metrics.gets(
+                cacheName,
+                loaded.get() ? 0 : 1,
+                loaded.get() ? 1 : 0
+        );
+        return result;
     }
 
 
@@ -55,12 +162,47 @@ public class CacheService {
      */
     public <K> boolean contains(final String cacheName,
                                 final K key) {
-        return ofNullable(cacheName)
-                .map(cacheManager::getCache)
-                .map(c ->
-                        c.get(key)
-                )
-                .isPresent();
+        final boolean result = metrics.record(
+                cacheName,
+                Operation.CONTAINS,
+                () -> getCache(cacheName)
+                        .map(c ->
+                                c.get(key)
+                        )
+                        .isPresent()
+        );
+        metrics.gets(
+                cacheName,
+                result ? 1 : 0,
+                result ? 0 : 1
+        );
+        return result;
+    }
+
+
+    /**
+     * Removes the given {@code keys} of the cache.
+     *
+     * @param cacheName
+     *    Cache on which the information will be removed
+     * @param keys
+     *    Identifiers of the {@code value}s we want to remove
+     *
+     * @return {@code true} if no problem was found during the operation, {@code false} otherwise
+     */
+    public <K> boolean evictAll(final String cacheName,
+                                final Collection<K> keys) {
+        return metrics.record(
+                cacheName,
+                Operation.EVICT_ALL,
+                () -> getCache(cacheName)
+                        .map(c -> {
+                            getNonNullKeys(keys)
+                                    .forEach(c::evict);
+                            return true;
+                        })
+                        .orElse(false)
+        );
     }
 
 
@@ -77,14 +219,127 @@ public class CacheService {
     @SuppressWarnings("unchecked")
     public <K, V> Optional<V> get(final String cacheName,
                                   final K key) {
-        return ofNullable(cacheName)
-                .map(cacheManager::getCache)
-                .map(c ->
-                        c.get(key)
-                )
-                .map(v ->
-                        (V) v.get()
-                );
+        final Optional<Cache.ValueWrapper> result = metrics.record(
+                cacheName,
+                Operation.GET,
+                () -> getCache(cacheName)
+                        .map(c ->
+                                c.get(key)
+                        )
+        );
+        metrics.gets(
+                cacheName,
+                result.isPresent() ? 1 : 0,
+                result.isPresent() ? 0 : 1
+        );
+        return result.map(v ->
+                (V) v.get()
+        );
+    }
+
+
+    /**
+     *    Returns the {@code value}s related with the given {@code keys} inside the cache. If the native cache is a
+     * Hazelcast's {@link IMap}, all of them are fetched using only one remote call.
+     *
+     * @param cacheName
+     *    Cache on which the {@code keys} will be searched
+     * @param keys
+     *    Identifiers to search in the cache
+     *
+     * @return {@link Map} with the found {@code key}s and their {@code value}s
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> Map<K, V> getAll(final String cacheName,
+                                   final Collection<K> keys) {
+        final Set<K> keysToSearch = getNonNullKeys(keys);
+        if (keysToSearch.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+        final Map<K, V> result = metrics.record(
+                cacheName,
+                Operation.GET_ALL,
+                () -> getCache(cacheName)
+                        .map(c -> {
+                            Map<K, V> values = new LinkedHashMap<>();
+                            if (isHazelcastMap(c.getNativeCache())) {
+                                HazelcastOperations.<K, Object>getAll(c.getNativeCache(), keysToSearch)
+                                        .forEach((k, v) -> {
+                                            Object value = fromNativeValue(v);
+                                            if (null != value) {
+                                                values.put(k, (V) value);
+                                            }
+                                        });
+                            }
+                            else {
+                                keysToSearch.forEach(k ->
+                                        ofNullable(c.get(k))
+                                                .map(Cache.ValueWrapper::get)
+                                                .ifPresent(v ->
+                                                        values.put(k, (V) v)
+                                                )
+                                );
+                            }
+                            return values;
+                        })
+                        .orElseGet(LinkedHashMap::new)
+        );
+        metrics.gets(
+                cacheName,
+                result.size(),
+                keysToSearch.size() - result.size()
+        );
+        return result;
+    }
+
+
+    /**
+     *    Returns the {@code value} related with the given {@code key} inside the cache, removing it too. Both steps are
+     * atomic: with several concurrent invocations, the {@code value} is only returned to one of them.
+     *
+     * @param cacheName
+     *    Cache on which the {@code key} will be searched
+     * @param key
+     *    Identifier to search in the cache
+     *
+     * @return {@link Optional} with the {@code value} if it was found, {@link Optional#empty()} otherwise
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> Optional<V> getAndEvict(final String cacheName,
+                                          final K key) {
+        if (null == key) {
+            return empty();
+        }
+        final Optional<V> result = metrics.record(
+                cacheName,
+                Operation.GET_AND_EVICT,
+                () -> getCache(cacheName)
+                        .flatMap(c ->
+                                getNativeConcurrentMap(c)
+                                        .map(m ->
+                                                ofNullable(
+                                                        (V) fromNativeValue(
+                                                                m.remove(key)
+                                                        )
+                                                )
+                                        )
+                                        .orElseGet(() ->
+                                                ofNullable(c.get(key))
+                                                        .filter(v ->
+                                                                c.evictIfPresent(key)
+                                                        )
+                                                        .map(v ->
+                                                                (V) v.get()
+                                                        )
+                                        )
+                        )
+        );
+        metrics.gets(
+                cacheName,
+                result.isPresent() ? 1 : 0,
+                result.isPresent() ? 0 : 1
+        );
+        return result;
     }
 
 
@@ -98,7 +353,28 @@ public class CacheService {
      */
     public Optional<Cache> getCache(final String cacheName) {
         return ofNullable(cacheName)
-                .map(cacheManager::getCache);
+                .map(cacheManager::getCache)
+                .map(c ->
+                        metrics.bind(cacheName, c)
+                );
+    }
+
+
+    /**
+     *    Publishes the metrics of the given {@code cacheNames} together, tagged with {@code groupName}. Used when several
+     * caches store the same type of information, like the buckets of a ring.
+     *
+     * @param groupName
+     *    Name used to tag the metrics of {@code cacheNames}
+     * @param cacheNames
+     *    Names of the caches to include in the group
+     */
+    public void groupMetrics(final String groupName,
+                             final Collection<String> cacheNames) {
+        metrics.group(
+                groupName,
+                cacheNames
+        );
     }
 
 
@@ -112,18 +388,67 @@ public class CacheService {
      * @param value
      *    Information to store
      *
-     * @return {@code true} if the data was stored, {@code false} otherwise
+     * @return {@code true} if the data was stored, {@code false} otherwise (like when {@code value} is {@code null})
      */
     public <K, V> boolean put(final String cacheName,
                               final K key,
                               final V value) {
-        return ofNullable(cacheName)
-                .map(cacheManager::getCache)
-                .map(c -> {
-                    c.put(key, value);
-                    return true;
-                })
-                .orElse(false);
+        if (null == value) {
+            return false;
+        }
+        return metrics.record(
+                cacheName,
+                Operation.PUT,
+                () -> getCache(cacheName)
+                        .map(c -> {
+                            c.put(key, value);
+                            return true;
+                        })
+                        .orElse(false)
+        );
+    }
+
+
+    /**
+     *    Includes the given pairs of {@code key} - {@code value} inside the cache, ignoring the ones with a {@code null}
+     * {@code key} or {@code value}. If the native cache is a {@link ConcurrentMap}, all of them are stored using only
+     * one operation.
+     *
+     * @param cacheName
+     *    Cache on which the information will be included
+     * @param entries
+     *    {@link Map} with the identifiers and the information to store
+     *
+     * @return {@code true} if the data was stored, {@code false} otherwise
+     */
+    public <K, V> boolean putAll(final String cacheName,
+                                 final Map<K, V> entries) {
+        if (null == entries) {
+            return false;
+        }
+        return metrics.record(
+                cacheName,
+                Operation.PUT_ALL,
+                () -> getCache(cacheName)
+                        .map(c -> {
+                            Map<K, V> entriesToStore = new LinkedHashMap<>();
+                            entries.forEach((k, v) -> {
+                                if (null != k && null != v) {
+                                    entriesToStore.put(k, v);
+                                }
+                            });
+                            Optional<ConcurrentMap<Object, Object>> nativeConcurrentMap = getNativeConcurrentMap(c);
+                            if (nativeConcurrentMap.isPresent()) {
+                                nativeConcurrentMap.get()
+                                        .putAll(entriesToStore);
+                            }
+                            else {
+                                entriesToStore.forEach(c::put);
+                            }
+                            return true;
+                        })
+                        .orElse(false)
+        );
     }
 
 
@@ -137,13 +462,23 @@ public class CacheService {
      * @param value
      *    Information to store
      *
-     * @return {@code true} if the data was stored, {@code false} otherwise
+     * @return {@code true} if the data was stored, {@code false} otherwise (like when {@code value} is {@code null})
      */
     public <K, V> boolean putIfAbsent(final String cacheName,
                                       final K key,
                                       final V value) {
-        return !contains(cacheName, key) &&
-                put(cacheName, key, value);
+        if (null == value) {
+            return false;
+        }
+        return metrics.record(
+                cacheName,
+                Operation.PUT_IF_ABSENT,
+                () -> getCache(cacheName)
+                        .map(c ->
+                                null == c.putIfAbsent(key, value)
+                        )
+                        .orElse(false)
+        );
     }
 
 
@@ -157,13 +492,31 @@ public class CacheService {
      * @param value
      *    Information to store
      *
-     * @return {@code true} if the data was stored, {@code false} otherwise
+     * @return {@code true} if the data was stored, {@code false} otherwise (like when {@code value} is {@code null})
      */
     public <K, V> boolean putIfPresent(final String cacheName,
                                        final K key,
                                        final V value) {
-        return contains(cacheName, key) &&
-                put(cacheName, key, value);
+        if (null == value) {
+            return false;
+        }
+        return metrics.record(
+                cacheName,
+                Operation.PUT_IF_PRESENT,
+                () -> getCache(cacheName)
+                        .map(c ->
+                                null == key
+                                        ? putIfPresent(c, key, value)
+                                        : getNativeConcurrentMap(c)
+                                                .map(m ->
+                                                        null != m.replace(key, value)
+                                                )
+                                                .orElseGet(() ->
+                                                        putIfPresent(c, key, value)
+                                                )
+                        )
+                        .orElse(false)
+        );
     }
 
 
@@ -179,13 +532,148 @@ public class CacheService {
      */
     public <K> boolean remove(final String cacheName,
                               final K key) {
-        return ofNullable(cacheName)
-                .map(cacheManager::getCache)
-                .map(c -> {
-                    c.evict(key);
-                    return true;
-                })
-                .orElse(false);
+        return metrics.record(
+                cacheName,
+                Operation.EVICT,
+                () -> getCache(cacheName)
+                        .map(c -> {
+                            c.evict(key);
+                            return true;
+                        })
+                        .orElse(false)
+        );
+    }
+
+
+
+    /**
+     * Generic version of {@link CacheService#computeIfAbsent(String, Object, Function)}, used when the native cache
+     * is not a {@link ConcurrentMap}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> Optional<V> computeIfAbsent(final Cache cache,
+                                                      final K key,
+                                                      final Function<? super K, ? extends V> loader) {
+        final Cache.ValueWrapper existingValue = cache.get(key);
+        if (null != existingValue) {
+            return ofNullable(
+                    (V) existingValue.get()
+            );
+        }
+        final V loadedValue = loader.apply(key);
+        if (null == loadedValue) {
+            return empty();
+        }
+        final Cache.ValueWrapper previousValue = cache.putIfAbsent(key, loadedValue);
+        return null == previousValue
+                ? of(loadedValue)
+                : ofNullable((V) previousValue.get());
+    }
+
+
+    /**
+     * Checks if the given native cache is a Hazelcast's {@link IMap}, without loading its class when Hazelcast is not
+     * included in the microservice.
+     */
+    static boolean isHazelcastMap(final Object nativeCache) {
+        return IS_HAZELCAST_PRESENT &&
+                HazelcastOperations.isSupported(nativeCache);
+    }
+
+
+    /**
+     * Returns the number of entries evicted by the given native cache, that must be a Hazelcast's {@link IMap}.
+     */
+    static long getEvictionCount(final Object nativeCache) {
+        return HazelcastOperations.getEvictionCount(nativeCache);
+    }
+
+
+    /**
+     *    Returns the number of entries of the given native cache, that must be a Hazelcast's {@link IMap}, owned by the
+     * current member.
+     */
+    static long getOwnedEntryCount(final Object nativeCache) {
+        return HazelcastOperations.getOwnedEntryCount(nativeCache);
+    }
+
+
+    /**
+     *    Returns the value stored in a native cache, translating the Spring's {@link NullValue} into {@code null}, in case
+     * it was stored without using this service (like by a {@code @Cacheable} method).
+     */
+    private static Object fromNativeValue(final Object nativeValue) {
+        return nativeValue instanceof NullValue
+                ? null
+                : nativeValue;
+    }
+
+
+    /**
+     * Returns the native cache of the given {@link Cache} if it is a {@link ConcurrentMap}.
+     */
+    @SuppressWarnings("unchecked")
+    private static Optional<ConcurrentMap<Object, Object>> getNativeConcurrentMap(final Cache cache) {
+        return cache.getNativeCache() instanceof ConcurrentMap<?, ?> map
+                ? of((ConcurrentMap<Object, Object>) map)
+                : empty();
+    }
+
+
+    private static <K> Set<K> getNonNullKeys(final Collection<K> keys) {
+        return null == keys
+                ? new LinkedHashSet<>()
+                : keys.stream()
+                      .filter(Objects::nonNull)
+                      .collect(
+                              toCollection(LinkedHashSet::new)
+                      );
+    }
+
+
+    /**
+     *    Generic version of {@link CacheService#putIfPresent(String, Object, Object)}, used when the native cache is not
+     * a {@link ConcurrentMap} or the {@code key} is {@code null}, which it does not accept.
+     */
+    private static <K, V> boolean putIfPresent(final Cache cache,
+                                               final K key,
+                                               final V value) {
+        if (null == cache.get(key)) {
+            return false;
+        }
+        cache.put(key, value);
+        return true;
+    }
+
+
+    /**
+     * Native operations of Hazelcast, only loaded when it is included in the microservice.
+     */
+    private static final class HazelcastOperations {
+
+        static boolean isSupported(final Object nativeCache) {
+            return nativeCache instanceof IMap<?, ?>;
+        }
+
+
+        @SuppressWarnings("unchecked")
+        static <K, V> Map<K, V> getAll(final Object nativeCache,
+                                       final Set<K> keys) {
+            return ((IMap<K, V>) nativeCache).getAll(keys);
+        }
+
+
+        static long getEvictionCount(final Object nativeCache) {
+            return ((IMap<?, ?>) nativeCache).getLocalMapStats()
+                    .getEvictionCount();
+        }
+
+
+        static long getOwnedEntryCount(final Object nativeCache) {
+            return ((IMap<?, ?>) nativeCache).getLocalMapStats()
+                    .getOwnedEntryCount();
+        }
+
     }
 
 }
@@ -0,0 +1,310 @@
+package com.spring6microservices.common.spring.service;
+
+import com.spring6microservices.common.spring.cache.TwoLevelCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ *    Metrics of the operations executed by {@link CacheService}, tagged by the name of the used cache:
+ * <ul>
+ *   <li>{@code cache.service.operations}: latency of every operation, also tagged by {@code operation}.</li>
+ *   <li>{@code cache.service.gets}: number of searched keys, also tagged by {@code result} ({@code hit} or {@code miss}).</li>
+ *   <li>{@code cache.service.size}: number of stored entries. If the native cache is a Hazelcast's map, only the ones
+ *       owned by the current member, so no remote call is needed.</li>
+ *   <li>{@code cache.service.evictions}: number of entries evicted by the native cache, only if it is a Hazelcast's
+ *       map (entries of the current member).</li>
+ * </ul>
+ *    The size and evictions are published for every cache the first time it is used, including the ones created on
+ * demand and the ones managed by a {@link TwoLevelCache}, not covered by the metrics of Spring Boot.
+ * <p>
+ *    The caches registered in {@link CacheServiceMetrics#group(String, Collection)}, like the buckets of a ring created
+ * on demand, are tagged with the name of their group, so all of them share the same meters, whose size and evictions
+ * are the sum of the ones of the used caches.
+ * <p>
+ *    The statistics of the native caches with the Spring Boot meter names ({@code cache.gets}, {@code cache.evictions},
+ * etc) are not registered here: Spring Boot registers them, with its own tags, for the supported caches known at
+ * startup, and registering the same meter names with different tags is rejected by some registries.
+ */
+class CacheServiceMetrics {
+
+    static final String METRIC_NAME = "cache.service";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, CacheMeters> cacheMeters;
+
+    private final Map<String, String> groupNames;
+
+
+    CacheServiceMetrics(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.cacheMeters = new ConcurrentHashMap<>();
+        this.groupNames = new ConcurrentHashMap<>();
+    }
+
+
+    /**
+     *    Registers the metrics related with the size and evictions of the given {@link Cache}, only the first time it
+     * is used.
+     *
+     * @param cacheName
+     *    Name of {@code cache}
+     * @param cache
+     *    {@link Cache} to monitor
+     *
+     * @return {@code cache}
+     */
+    Cache bind(final String cacheName,
+               final Cache cache) {
+        final CacheMeters meters = getCacheMeters(cacheName);
+        if (!meters.caches.containsKey(cacheName)) {
+            meters.bind(
+                    cacheName,
+                    cache
+            );
+        }
+        return cache;
+    }
+
+
+    /**
+     * Adds the given number of found and not found keys in {@code cacheName}.
+     *
+     * @param cacheName
+     *    Cache on which the keys were searched
+     * @param hits
+     *    Number of found keys
+     * @param misses
+     *    Number of not found keys
+     */
+    void gets(final String cacheName,
+              final long hits,
+              final long misses) {
+        if (null == cacheName) {
+            return;
+        }
+        final CacheMeters meters = getCacheMeters(cacheName);
+        if (0 < hits) {
+            meters.hits.increment(hits);
+        }
+        if (0 < misses) {
+            meters.misses.increment(misses);
+        }
+    }
+
+
+    /**
+     * Executes the given {@code operation}, recording its latency.
+     *
+     * @param cacheName
+     *    Cache used by {@code operation}
+     * @param operation
+     *    {@link Operation} to record
+     * @param execution
+     *    {@link Supplier} with the code of {@code operation}
+     *
+     * @return result of {@code execution}
+     */
+    <T> T record(final String cacheName,
+                 final Operation operation,
+                 final Supplier<T> execution) {
+        if (null == cacheName) {
+            return execution.get();
+        }
+        return getCacheMeters(cacheName)
+                .timers
+                .get(operation)
+                .record(execution);
+    }
+
+
+    /**
+     * Tags the meters of the given {@code cacheNames} with {@code groupName}, so all of them share the same meters.
+     *
+     * @param groupName
+     *    Name used to tag the meters of {@code cacheNames}
+     * @param cacheNames
+     *    Names of the caches to include in the group
+     */
+    void group(final String groupName,
+               final Collection<String> cacheNames) {
+        if (null == groupName || null == cacheNames) {
+            return;
+        }
+        cacheNames.forEach(cacheName ->
+                groupNames.put(
+                        cacheName,
+                        groupName
+                )
+        );
+    }
+
+
+    private CacheMeters getCacheMeters(final String cacheName) {
+        return cacheMeters.computeIfAbsent(
+                groupNames.getOrDefault(
+                        cacheName,
+                        cacheName
+                ),
+                CacheMeters::new
+        );
+    }
+
+
+    /**
+     *    Returns the number of entries of the given {@link Cache}, {@link Double#NaN} if it cannot be known. For
+     * Hazelcast's maps, only the ones owned by the current member, because {@code IMap#size()} asks every member.
+     */
+    private static double size(final Cache cache) {
+        final Object nativeCache = getNativeCache(cache);
+        if (CacheService.isHazelcastMap(nativeCache)) {
+            return CacheService.getOwnedEntryCount(nativeCache);
+        }
+        return nativeCache instanceof Map<?, ?> map
+                ? map.size()
+                : Double.NaN;
+    }
+
+
+    /**
+     * Returns the number of entries evicted by the given {@link Cache}, {@code 0} if it does not evict or cannot be known.
+     */
+    private static long evictions(final Cache cache) {
+        final Object nativeCache = getNativeCache(cache);
+        return CacheService.isHazelcastMap(nativeCache)
+                ? CacheService.getEvictionCount(nativeCache)
+                : 0;
+    }
+
+
+    /**
+     *    Returns the native cache of the given {@link Cache}. The native cache of a {@link TwoLevelCache} is a view of the
+     * remote one, so in that case the native cache of its remote {@link Cache} is returned.
+     */
+    private static Object getNativeCache(final Cache cache) {
+        return cache instanceof TwoLevelCache twoLevelCache
+                ? twoLevelCache.getRemoteCache().getNativeCache()
+                : cache.getNativeCache();
+    }
+
+
+    /**
+     * Operations of {@link CacheService} whose latency is recorded.
+     */
+    enum Operation {
+        CLEAR("clear"),
+        COMPUTE_IF_ABSENT("computeIfAbsent"),
+        CONTAINS("contains"),
+        EVICT("evict"),
+        EVICT_ALL("evictAll"),
+        GET("get"),
+        GET_ALL("getAll"),
+        GET_AND_EVICT("getAndEvict"),
+        PUT("put"),
+        PUT_ALL("putAll"),
+        PUT_IF_ABSENT("putIfAbsent"),
+        PUT_IF_PRESENT("putIfPresent");
+
+        private final String tag;
+
+        Operation(final String tag) {
+            this.tag = tag;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+    }
+
+
+    /**
+     * Meters related with one cache.
+     */
+    private final class CacheMeters {
+
+        private final String cacheName;
+
+        private final Map<Operation, Timer> timers;
+
+        private final Counter hits;
+
+        private final Counter misses;
+
+        private final Map<String, Cache> caches;
+
+
+        private CacheMeters(final String cacheName) {
+            this.cacheName = cacheName;
+            this.timers = new EnumMap<>(Operation.class);
+            for (Operation operation : Operation.values()) {
+                timers.put(
+                        operation,
+                        Timer.builder(METRIC_NAME + ".operations")
+                                .description("Latency of the operations executed in the cache")
+                                .tag("cache", cacheName)
+                                .tag("operation", operation.getTag())
+                                .register(meterRegistry)
+                );
+            }
+            this.hits = buildGetsCounter("hit");
+            this.misses = buildGetsCounter("miss");
+            this.caches = new ConcurrentHashMap<>();
+        }
+
+
+        private synchronized void bind(final String boundCacheName,
+                                       final Cache cache) {
+            if (caches.isEmpty()) {
+                Gauge.builder(METRIC_NAME + ".size", this, CacheMeters::size)
+                        .description("Number of entries stored in the cache")
+                        .tag("cache", cacheName)
+                        .strongReference(true)
+                        .register(meterRegistry);
+                FunctionCounter.builder(METRIC_NAME + ".evictions", this, CacheMeters::evictions)
+                        .description("Number of entries evicted by the cache")
+                        .tag("cache", cacheName)
+                        .register(meterRegistry);
+            }
+            caches.putIfAbsent(
+                    boundCacheName,
+                    cache
+            );
+        }
+
+
+        private double size() {
+            return caches.values()
+                    .stream()
+                    .mapToDouble(CacheServiceMetrics::size)
+                    .sum();
+        }
+
+
+        private double evictions() {
+            return caches.values()
+                    .stream()
+                    .mapToLong(CacheServiceMetrics::evictions)
+                    .sum();
+        }
+
+
+        private Counter buildGetsCounter(final String result) {
+            return Counter.builder(METRIC_NAME + ".gets")
+                    .description("Number of keys searched in the cache")
+                    .tag("cache", cacheName)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+
+}
@@ -5,8 +5,10 @@ import com.spring6microservices.common.core.util.StringUtil;
 import com.spring6microservices.common.spring.enums.HashAlgorithm;
 import lombok.experimental.UtilityClass;
 
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 
 import static com.spring6microservices.common.core.util.StringUtil.getOrElse;
 import static java.lang.String.format;
@@ -29,22 +31,40 @@ public class HashUtil {
      */
     public static String hash(final String sourceString,
                               final HashAlgorithm hashAlgorithm) {
-        AssertUtil.notNull(hashAlgorithm, "hashAlgorithm must be not null");
-        final String finalSourceString = getOrElse(
-                sourceString,
-                StringUtil.EMPTY_STRING
-        );
-        MessageDigest messageDigest = getMessageDigestInstance(
-                hashAlgorithm
-        );
         return bytesToHexString(
-                messageDigest.digest(
-                        finalSourceString.getBytes()
+                digest(
+                        sourceString,
+                        hashAlgorithm
                 )
         );
     }
 
 
+    /**
+     *    Returns the hash value of given {@code sourceString} using provided {@link HashAlgorithm}, encoded in Base64.
+     * Useful to build the cache keys of the tokens without storing them.
+     *
+     * @param sourceString
+     *    {@link String} to hash, whose UTF-8 bytes will be used. {@link StringUtil#EMPTY_STRING} will be used if it has no value
+     * @param hashAlgorithm
+     *    {@link HashAlgorithm} to use
+     *
+     * @return {@link String} with the Base64 encoded hash value of {@code sourceString}
+     *
+     * @throws IllegalArgumentException if {@code hashAlgorithm} is {@code null} or it could not be used to hash {@code sourceString}
+     */
+    public static String hashToBase64(final String sourceString,
+                                      final HashAlgorithm hashAlgorithm) {
+        return Base64.getEncoder()
+                .encodeToString(
+                        digest(
+                                sourceString,
+                                hashAlgorithm
+                        )
+                );
+    }
+
+
     /**
      * Verify if applying the given {@code hashAlgorithm} with the provided {@code sourceString}, the result is {@code hashedString}.
      *
@@ -81,6 +101,34 @@ public class HashUtil {
     }
 
 
+    /**
+     * Returns the digest of the UTF-8 bytes of given {@code sourceString} using provided {@link HashAlgorithm}.
+     *
+     * @param sourceString
+     *    {@link String} to hash. {@link StringUtil#EMPTY_STRING} will be used if it has no value
+     * @param hashAlgorithm
+     *    {@link HashAlgorithm} to use
+     *
+     * @return byte array with the hash value of {@code sourceString}
+     *
+     * @throws IllegalArgumentException if {@code hashAlgorithm} is {@code null} or it could not be used to hash {@code sourceString}
+     */
+    private static byte[] digest(final String sourceString,
+                                 final HashAlgorithm hashAlgorithm) {
+        AssertUtil.notNull(hashAlgorithm, "hashAlgorithm must be not null");
+        final String finalSourceString = getOrElse(
+                sourceString,
+                StringUtil.EMPTY_STRING
+        );
+        MessageDigest messageDigest = getMessageDigestInstance(
+                hashAlgorithm
+        );
+        return messageDigest.digest(
+                finalSourceString.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+
     /**
      * Returns the {@link MessageDigest} related with provided {@link HashAlgorithm}.
      *
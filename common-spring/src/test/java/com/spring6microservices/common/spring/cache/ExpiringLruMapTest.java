@@ -0,0 +1,297 @@
+package com.spring6microservices.common.spring.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class ExpiringLruMapTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    private static final int ENTRY_CAPACITY = 2;
+
+    @Mock
+    private Clock mockClock;
+
+    private ExpiringLruMap<String, String> map;
+
+
+    @BeforeEach
+    public void init() {
+        when(mockClock.instant())
+                .thenReturn(
+                        NOW
+                );
+        map = new ExpiringLruMap<>(
+                ENTRY_CAPACITY,
+                mockClock
+        );
+    }
+
+
+    static Stream<Arguments> putTestCases() {
+        Instant future = NOW.plusSeconds(60);
+        return Stream.of(
+                //@formatter:off
+                //            key,    value,    expiration,   expectedResult
+                Arguments.of( null,   "value",  future,       false ),
+                Arguments.of( "key",  null,     future,       false ),
+                Arguments.of( "key",  "value",  null,         false ),
+                Arguments.of( "key",  "value",  NOW,          false ),
+                Arguments.of( "key",  "value",  future,       true )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("putTestCases")
+    @DisplayName("put: test cases")
+    public void put_testCases(String key,
+                              String value,
+                              Instant expiration,
+                              boolean expectedResult) {
+        assertEquals(
+                expectedResult,
+                map.put(
+                        key,
+                        value,
+                        expiration
+                )
+        );
+        assertEquals(
+                expectedResult ? 1 : 0,
+                map.size()
+        );
+    }
+
+
+    @Test
+    @DisplayName("put: when the capacity is 0 then nothing is stored")
+    public void put_whenCapacityIsZero_thenNothingIsStored() {
+        map = new ExpiringLruMap<>(
+                0,
+                mockClock
+        );
+
+        assertFalse(
+                map.put(
+                        "key",
+                        "value",
+                        NOW.plusSeconds(60)
+                )
+        );
+        assertEquals(0, map.size());
+    }
+
+
+    @Test
+    @DisplayName("put: when the map is full then the least recently used entry is removed")
+    public void put_whenMapIsFull_thenLeastRecentlyUsedEntryIsRemoved() {
+        map.put("key1", "value1", NOW.plusSeconds(60));
+        map.put("key2", "value2", NOW.plusSeconds(60));
+
+        // key1 becomes the most recently used one
+        assertEquals("value1", map.get("key1"));
+
+        map.put("key3", "value3", NOW.plusSeconds(60));
+
+        assertEquals(ENTRY_CAPACITY, map.size());
+        assertEquals("value1", map.get("key1"));
+        assertNull(map.get("key2"));
+        assertEquals("value3", map.get("key3"));
+    }
+
+
+    @Test
+    @DisplayName("put: when the map is full and there is an expired entry then it is removed")
+    public void put_whenMapIsFullAndThereIsAnExpiredEntry_thenItIsRemoved() {
+        map.put("key1", "value1", NOW.plusSeconds(60));
+        map.put("key2", "value2", NOW.plusSeconds(30));
+
+        // key2 becomes the most recently used one
+        assertEquals("value2", map.get("key2"));
+
+        when(mockClock.instant())
+                .thenReturn(
+                        NOW.plusSeconds(30)
+                );
+        map.put("key3", "value3", NOW.plusSeconds(60));
+
+        assertEquals(ENTRY_CAPACITY, map.size());
+        assertEquals("value1", map.get("key1"));
+        assertEquals("value3", map.get("key3"));
+    }
+
+
+    @Test
+    @DisplayName("put: when there are concurrent requests then the capacity is not exceeded")
+    public void put_whenThereAreConcurrentRequests_thenCapacityIsNotExceeded() {
+        int entryCapacity = 100;
+        map = new ExpiringLruMap<>(
+                entryCapacity,
+                mockClock
+        );
+
+        IntStream.range(0, 10000)
+                .parallel()
+                .forEach(i -> {
+                    map.put("key" + i, "value" + i, NOW.plusSeconds(60));
+                    map.get("key" + (i / 2));
+                });
+
+        assertTrue(map.size() <= entryCapacity);
+    }
+
+
+    @Test
+    @DisplayName("put: when the map is full then the least recently used entries are removed wherever they are stored")
+    public void put_whenMapIsFull_thenLeastRecentlyUsedEntriesAreRemovedWhereverTheyAreStored() {
+        int entryCapacity = 1000;
+        map = new ExpiringLruMap<>(
+                entryCapacity,
+                mockClock
+        );
+        IntStream.range(0, entryCapacity)
+                .forEach(i -> map.put("key" + i, "value" + i, NOW.plusSeconds(60)));
+
+        // The second half becomes the most recently used one
+        IntStream.range(entryCapacity / 2, entryCapacity)
+                .forEach(i -> map.get("key" + i));
+
+        IntStream.range(entryCapacity, entryCapacity + 100)
+                .forEach(i -> map.put("key" + i, "value" + i, NOW.plusSeconds(60)));
+
+        assertTrue(map.size() <= entryCapacity);
+        IntStream.range(entryCapacity / 2, entryCapacity + 100)
+                .forEach(i -> assertEquals("value" + i, map.get("key" + i)));
+    }
+
+
+    @Test
+    @DisplayName("put: when the sweep interval has passed then the expired entries are removed")
+    public void put_whenSweepIntervalHasPassed_thenExpiredEntriesAreRemoved() {
+        map.put("key1", "value1", NOW.plusSeconds(30));
+
+        when(mockClock.instant())
+                .thenReturn(
+                        NOW.plusSeconds(120)
+                );
+        map.put("key2", "value2", NOW.plusSeconds(180));
+
+        when(mockClock.instant())
+                .thenReturn(
+                        NOW
+                );
+        assertEquals(1, map.size());
+        assertNull(map.get("key1"));
+        assertEquals("value2", map.get("key2"));
+    }
+
+
+    @Test
+    @DisplayName("size: when there are expired entries then they are not counted")
+    public void size_whenThereAreExpiredEntries_thenTheyAreNotCounted() {
+        map.put("key1", "value1", NOW.plusSeconds(30));
+        map.put("key2", "value2", NOW.plusSeconds(60));
+
+        when(mockClock.instant())
+                .thenReturn(
+                        NOW.plusSeconds(30)
+                );
+
+        assertEquals(1, map.size());
+    }
+
+
+    @Test
+    @DisplayName("put: when the key was stored then its value is replaced without removing other entries")
+    public void put_whenKeyWasStored_thenItsValueIsReplacedWithoutRemovingOtherEntries() {
+        map.put("key1", "value1", NOW.plusSeconds(60));
+        map.put("key2", "value2", NOW.plusSeconds(60));
+        map.put("key1", "value3", NOW.plusSeconds(60));
+
+        assertEquals(ENTRY_CAPACITY, map.size());
+        assertEquals("value3", map.get("key1"));
+        assertEquals("value2", map.get("key2"));
+    }
+
+
+    @Test
+    @DisplayName("get: when the entry has expired then null is returned and it is removed")
+    public void get_whenEntryHasExpired_thenNullIsReturnedAndItIsRemoved() {
+        map.put("key", "value", NOW.plusSeconds(60));
+
+        when(mockClock.instant())
+                .thenReturn(
+                        NOW.plusSeconds(60)
+                );
+
+        assertNull(map.get("key"));
+        assertEquals(0, map.size());
+    }
+
+
+    @Test
+    @DisplayName("get: when the key was not stored then null is returned")
+    public void get_whenKeyWasNotStored_thenNullIsReturned() {
+        assertNull(map.get(null));
+        assertNull(map.get("key"));
+    }
+
+
+    @Test
+    @DisplayName("remove: when the key was stored then it is removed")
+    public void remove_whenKeyWasStored_thenItIsRemoved() {
+        map.put("key", "value", NOW.plusSeconds(60));
+
+        map.remove(null);
+        map.remove("key");
+
+        assertNull(map.get("key"));
+        assertEquals(0, map.size());
+    }
+
+
+    @Test
+    @DisplayName("remove: when the key is related with other value then it is not removed")
+    public void remove_whenKeyIsRelatedWithOtherValue_thenItIsNotRemoved() {
+        map.put("key", "value", NOW.plusSeconds(60));
+
+        assertFalse(map.remove("key", "other value"));
+        assertEquals("value", map.get("key"));
+
+        assertTrue(map.remove("key", "value"));
+        assertNull(map.get("key"));
+    }
+
+
+    @Test
+    @DisplayName("clear: when there are entries then all of them are removed")
+    public void clear_whenThereAreEntries_thenAllOfThemAreRemoved() {
+        map.put("key1", "value1", NOW.plusSeconds(60));
+        map.put("key2", "value2", NOW.plusSeconds(60));
+
+        map.clear();
+
+        assertEquals(0, map.size());
+        assertNull(map.get("key1"));
+    }
+
+}
@@ -0,0 +1,222 @@
+package com.spring6microservices.common.spring.cache;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.spring6microservices.common.spring.cache.TwoLevelCacheManager.LocalCacheConfiguration;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.Optional.ofNullable;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class TwoLevelCacheManagerTest {
+
+    @Mock
+    private CacheManager mockRemoteCacheManager;
+
+    private TwoLevelCacheManager cacheManager;
+
+
+    @BeforeEach
+    public void init() {
+        cacheManager = new TwoLevelCacheManager(
+                mockRemoteCacheManager,
+                Map.of(
+                        "LocalCache", new LocalCacheConfiguration(10, 60),
+                        "DisabledLocalCache", new LocalCacheConfiguration(0, 60)
+                )
+        );
+    }
+
+
+    static Stream<Arguments> getCacheTestCases() {
+        Cache remoteCache = new ConcurrentMapCache("ItDoesNotCare");
+        return Stream.of(
+                //@formatter:off
+                //            cacheName,              remoteCacheManagerResult,   expectedType
+                Arguments.of( null,                   null,                       null ),
+                Arguments.of( "NotFoundCache",        null,                       null ),
+                Arguments.of( "LocalCache",           null,                       null ),
+                Arguments.of( "RemoteCache",          remoteCache,                ConcurrentMapCache.class ),
+                Arguments.of( "DisabledLocalCache",   remoteCache,                ConcurrentMapCache.class ),
+                Arguments.of( "LocalCache",           remoteCache,                TwoLevelCache.class )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("getCacheTestCases")
+    @DisplayName("getCache: test cases")
+    public void getCache_testCases(String cacheName,
+                                   Cache remoteCacheManagerResult,
+                                   Class<? extends Cache> expectedType) {
+        when(mockRemoteCacheManager.getCache(cacheName))
+                .thenReturn(
+                        remoteCacheManagerResult
+                );
+
+        Cache result = cacheManager.getCache(cacheName);
+
+        if (null == expectedType) {
+            assertNull(result);
+        }
+        else {
+            assertNotNull(result);
+            assertEquals(
+                    expectedType,
+                    result.getClass()
+            );
+        }
+    }
+
+
+    @Test
+    @DisplayName("getCache: when it is invoked several times then the same two level cache is returned")
+    public void getCache_whenItIsInvokedSeveralTimes_thenTheSameTwoLevelCacheIsReturned() {
+        when(mockRemoteCacheManager.getCache("LocalCache"))
+                .thenReturn(
+                        new ConcurrentMapCache("LocalCache")
+                );
+
+        assertSame(
+                cacheManager.getCache("LocalCache"),
+                cacheManager.getCache("LocalCache")
+        );
+        verify(mockRemoteCacheManager, times(1))
+                .getCache(
+                        "LocalCache"
+                );
+    }
+
+
+    @Test
+    @DisplayName("getCacheNames: then the remote ones are returned")
+    public void getCacheNames_thenTheRemoteOnesAreReturned() {
+        List<String> cacheNames = List.of("LocalCache", "RemoteCache");
+        when(mockRemoteCacheManager.getCacheNames())
+                .thenReturn(
+                        cacheNames
+                );
+
+        assertEquals(
+                cacheNames,
+                cacheManager.getCacheNames()
+        );
+    }
+
+
+    @Test
+    @SneakyThrows
+    @DisplayName("getCache: when the remote cache is a Hazelcast one then the local copies are removed when its entries are modified")
+    public void getCache_whenRemoteCacheIsHazelcastOne_thenLocalCopiesAreRemovedWhenItsEntriesAreModified() {
+        Config config = new Config()
+                .setInstanceName("TwoLevelCacheManagerTest")
+                .setClusterName("TwoLevelCacheManagerTest");
+        config.getNetworkConfig()
+                .getJoin()
+                .getMulticastConfig()
+                .setEnabled(false);
+        config.getNetworkConfig()
+                .getJoin()
+                .getAutoDetectionConfig()
+                .setEnabled(false);
+        HazelcastInstance hazelcastInstance = Hazelcast.newHazelcastInstance(config);
+        try {
+            IMap<Object, Object> map = hazelcastInstance.getMap("LocalCache");
+            Cache remoteCache = buildHazelcastCache(map);
+            when(mockRemoteCacheManager.getCache("LocalCache"))
+                    .thenReturn(
+                            remoteCache
+                    );
+            map.put("FoundKey", "FoundValue");
+
+            Cache cache = cacheManager.getCache("LocalCache");
+            assertEquals(
+                    "FoundValue",
+                    cache.get("FoundKey").get()
+            );
+
+            // Modified without using the two level cache, like another node would do
+            map.put("FoundKey", "UpdatedValue");
+            assertEventually(() ->
+                    "UpdatedValue".equals(getValue(cache, "FoundKey"))
+            );
+
+            map.remove("FoundKey");
+            assertEventually(() ->
+                    null == cache.get("FoundKey")
+            );
+
+            map.put("FoundKey", "NewValue");
+            assertEventually(() ->
+                    "NewValue".equals(getValue(cache, "FoundKey"))
+            );
+
+            map.clear();
+            assertEventually(() ->
+                    null == cache.get("FoundKey")
+            );
+        }
+        finally {
+            hazelcastInstance.shutdown();
+        }
+    }
+
+
+    private static Cache buildHazelcastCache(final IMap<Object, Object> map) {
+        Cache mockCache = mock(Cache.class);
+        when(mockCache.getNativeCache())
+                .thenReturn(
+                        map
+                );
+        when(mockCache.get(any()))
+                .thenAnswer(invocation ->
+                        ofNullable(map.get(invocation.getArgument(0)))
+                                .map(SimpleValueWrapper::new)
+                                .orElse(null)
+                );
+        return mockCache;
+    }
+
+
+    private static Object getValue(final Cache cache,
+                                   final Object key) {
+        return ofNullable(cache.get(key))
+                .map(Cache.ValueWrapper::get)
+                .orElse(null);
+    }
+
+
+    @SneakyThrows
+    private static void assertEventually(final Supplier<Boolean> condition) {
+        for (int i = 0; i < 100; i++) {
+            if (condition.get()) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        fail("The expected condition was not verified on time");
+    }
+
+}
@@ -0,0 +1,413 @@
+package com.spring6microservices.common.spring.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class TwoLevelCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    private static final int LOCAL_ENTRY_CAPACITY = 2;
+
+    private static final int LOCAL_EXPIRE_IN_SECONDS = 60;
+
+    @Mock
+    private Clock mockClock;
+
+    private Cache remoteCache;
+
+    private TwoLevelCache cache;
+
+
+    @BeforeEach
+    public void init() {
+        when(mockClock.instant())
+                .thenReturn(
+                        NOW
+                );
+        remoteCache = spy(
+                new ConcurrentMapCache("TestCache")
+        );
+        cache = new TwoLevelCache(
+                remoteCache,
+                LOCAL_ENTRY_CAPACITY,
+                LOCAL_EXPIRE_IN_SECONDS,
+                UnaryOperator.identity(),
+                mockClock
+        );
+    }
+
+
+    @Test
+    @DisplayName("get: when the key is not stored then empty is returned and nothing is stored locally")
+    public void get_whenKeyIsNotStored_thenNullIsReturnedAndNothingIsStoredLocally() {
+        assertNull(
+                cache.get("NotFoundKey")
+        );
+        assertNull(
+                cache.get("NotFoundKey")
+        );
+
+        verify(remoteCache, times(2))
+                .get(
+                        "NotFoundKey"
+                );
+    }
+
+
+    @Test
+    @DisplayName("get: when the key was read before then the remote cache is not used again")
+    public void get_whenKeyWasReadBefore_thenRemoteCacheIsNotUsedAgain() {
+        remoteCache.put("FoundKey", "FoundValue");
+
+        assertEquals(
+                "FoundValue",
+                cache.get("FoundKey").get()
+        );
+        assertEquals(
+                "FoundValue",
+                cache.get("FoundKey", String.class)
+        );
+        assertEquals(
+                "FoundValue",
+                cache.get("FoundKey", () -> "Loaded")
+        );
+
+        verify(remoteCache, times(1))
+                .get(
+                        "FoundKey"
+                );
+    }
+
+
+    @Test
+    @DisplayName("get: when the local copy expires then the remote cache is used again")
+    public void get_whenLocalCopyExpires_thenRemoteCacheIsUsedAgain() {
+        remoteCache.put("FoundKey", "FoundValue");
+
+        cache.get("FoundKey");
+        when(mockClock.instant())
+                .thenReturn(
+                        NOW.plusSeconds(LOCAL_EXPIRE_IN_SECONDS)
+                );
+        cache.get("FoundKey");
+
+        verify(remoteCache, times(2))
+                .get(
+                        "FoundKey"
+                );
+    }
+
+
+    @Test
+    @DisplayName("get: when a local copier is provided then every caller receives its own copy of the local one")
+    public void get_whenLocalCopierIsProvided_thenEveryCallerReceivesItsOwnCopyOfLocalOne() {
+        TwoLevelCache copyingCache = new TwoLevelCache(
+                remoteCache,
+                LOCAL_ENTRY_CAPACITY,
+                LOCAL_EXPIRE_IN_SECONDS,
+                v -> new StringBuilder((StringBuilder) v),
+                mockClock
+        );
+        remoteCache.put("FoundKey", new StringBuilder("FoundValue"));
+
+        StringBuilder firstValue = (StringBuilder) copyingCache.get("FoundKey").get();
+        firstValue.append("Modified");
+        StringBuilder secondValue = copyingCache.get("FoundKey", StringBuilder.class);
+        secondValue.append("Modified");
+        StringBuilder thirdValue = copyingCache.get("FoundKey", () -> new StringBuilder("Loaded"));
+
+        assertNotSame(secondValue, thirdValue);
+        assertEquals(
+                "FoundValue",
+                thirdValue.toString()
+        );
+        verify(remoteCache, times(1))
+                .get(
+                        "FoundKey"
+                );
+    }
+
+
+    @Test
+    @DisplayName("get: when the local level is full then it never contains more entries than the configured capacity")
+    public void get_whenLocalLevelIsFull_thenItNeverContainsMoreEntriesThanConfiguredCapacity() {
+        remoteCache.put("Key1", "Value1");
+        remoteCache.put("Key2", "Value2");
+        remoteCache.put("Key3", "Value3");
+
+        cache.get("Key1");
+        cache.get("Key2");
+        cache.get("Key3");
+        // The last stored one is always kept
+        cache.get("Key3");
+
+        verify(remoteCache, times(3))
+                .get(
+                        any()
+                );
+
+        // One of the previous ones was removed to make room
+        cache.get("Key1");
+        cache.get("Key2");
+
+        verify(remoteCache, atLeast(4))
+                .get(
+                        any()
+                );
+    }
+
+
+    @Test
+    @DisplayName("get: when the type does not match then IllegalStateException is thrown")
+    public void get_whenTypeDoesNotMatch_thenIllegalStateExceptionIsThrown() {
+        remoteCache.put("FoundKey", "FoundValue");
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> cache.get("FoundKey", Integer.class)
+        );
+    }
+
+
+    @Test
+    @DisplayName("get: when a loader is provided and the key is not stored then the loaded value is stored in both levels")
+    public void get_whenLoaderIsProvidedAndKeyIsNotStored_thenLoadedValueIsStoredInBothLevels() {
+        assertEquals(
+                "Loaded",
+                cache.get("NewKey", () -> "Loaded")
+        );
+        assertEquals(
+                "Loaded",
+                cache.get("NewKey").get()
+        );
+
+        verify(remoteCache, times(1))
+                .get(
+                        any(),
+                        any(Callable.class)
+                );
+        verify(remoteCache, never())
+                .get(
+                        any()
+                );
+        assertEquals(
+                "Loaded",
+                remoteCache.get("NewKey").get()
+        );
+    }
+
+
+    static Stream<Arguments> writeOperationsTestCases() {
+        //@formatter:off
+        Consumer<Cache> clear = Cache::clear;
+        Consumer<Cache> evict = c -> c.evict("FoundKey");
+        Consumer<Cache> evictIfPresent = c -> c.evictIfPresent("FoundKey");
+        Consumer<Cache> invalidate = Cache::invalidate;
+        Consumer<Cache> put = c -> c.put("FoundKey", "UpdatedValue");
+        Consumer<Cache> putIfAbsent = c -> c.putIfAbsent("FoundKey", "UpdatedValue");
+        return Stream.of(
+                //            operation,        expectedValue
+                Arguments.of( clear,            null ),
+                Arguments.of( evict,            null ),
+                Arguments.of( evictIfPresent,   null ),
+                Arguments.of( invalidate,       null ),
+                Arguments.of( put,              "UpdatedValue" ),
+                Arguments.of( putIfAbsent,      "FoundValue" )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("writeOperationsTestCases")
+    @DisplayName("write operations: then they are applied in the remote level and the local copy is removed")
+    public void writeOperations_thenTheyAreAppliedInRemoteLevelAndLocalCopyIsRemoved(Consumer<Cache> operation,
+                                                                                       String expectedValue) {
+        remoteCache.put("FoundKey", "FoundValue");
+        cache.get("FoundKey");
+
+        operation.accept(cache);
+
+        Cache.ValueWrapper result = cache.get("FoundKey");
+        assertEquals(
+                expectedValue,
+                null == result ? null : result.get()
+        );
+        verify(remoteCache, times(2))
+                .get(
+                        "FoundKey"
+                );
+    }
+
+
+    @Test
+    @DisplayName("invalidateLocal: then only the local copy is removed")
+    public void invalidateLocal_thenOnlyTheLocalCopyIsRemoved() {
+        remoteCache.put("FoundKey", "FoundValue");
+        cache.get("FoundKey");
+
+        cache.invalidateLocal("FoundKey");
+
+        assertEquals(
+                "FoundValue",
+                cache.get("FoundKey").get()
+        );
+        verify(remoteCache, times(2))
+                .get(
+                        "FoundKey"
+                );
+    }
+
+
+    @Test
+    @DisplayName("invalidateAllLocal: then only the local copies are removed")
+    public void invalidateAllLocal_thenOnlyTheLocalCopiesAreRemoved() {
+        remoteCache.put("FoundKey", "FoundValue");
+        cache.get("FoundKey");
+
+        cache.invalidateAllLocal();
+
+        assertEquals(
+                "FoundValue",
+                cache.get("FoundKey").get()
+        );
+        verify(remoteCache, times(2))
+                .get(
+                        "FoundKey"
+                );
+    }
+
+
+    @Test
+    @DisplayName("get: when the key is invalidated while it is being read then no local copy is stored")
+    public void get_whenKeyIsInvalidatedWhileItIsBeingRead_thenNoLocalCopyIsStored() {
+        remoteCache.put("FoundKey", "FoundValue");
+        doAnswer(invocation -> {
+            Object result = invocation.callRealMethod();
+            cache.invalidateLocal("FoundKey");
+            return result;
+        })
+        .doCallRealMethod()
+        .when(remoteCache)
+        .get("FoundKey");
+
+        cache.get("FoundKey");
+        cache.get("FoundKey");
+        cache.get("FoundKey");
+
+        verify(remoteCache, times(2))
+                .get(
+                        "FoundKey"
+                );
+    }
+
+
+    @Test
+    @DisplayName("get: when other key is invalidated while it is being read then the local copy is stored")
+    public void get_whenOtherKeyIsInvalidatedWhileItIsBeingRead_thenLocalCopyIsStored() {
+        remoteCache.put("FoundKey", "FoundValue");
+        doAnswer(invocation -> {
+            Object result = invocation.callRealMethod();
+            cache.invalidateLocal("OtherKey");
+            return result;
+        })
+        .doCallRealMethod()
+        .when(remoteCache)
+        .get("FoundKey");
+
+        cache.get("FoundKey");
+        cache.get("FoundKey");
+
+        verify(remoteCache, times(1))
+                .get(
+                        "FoundKey"
+                );
+    }
+
+
+    @Test
+    @DisplayName("getName and getRemoteCache: then the remote ones are returned")
+    public void getNameAndGetRemoteCache_thenTheRemoteOnesAreReturned() {
+        assertEquals(
+                remoteCache.getName(),
+                cache.getName()
+        );
+        assertSame(
+                remoteCache,
+                cache.getRemoteCache()
+        );
+    }
+
+
+    static Stream<Arguments> nativeCacheWriteOperationsTestCases() {
+        //@formatter:off
+        Consumer<ConcurrentMap<Object, Object>> clear = ConcurrentMap::clear;
+        Consumer<ConcurrentMap<Object, Object>> computeIfAbsent = m -> m.computeIfAbsent("FoundKey", k -> "UpdatedValue");
+        Consumer<ConcurrentMap<Object, Object>> computeIfPresent = m -> m.computeIfPresent("FoundKey", (k, v) -> "UpdatedValue");
+        Consumer<ConcurrentMap<Object, Object>> put = m -> m.put("FoundKey", "UpdatedValue");
+        Consumer<ConcurrentMap<Object, Object>> putAll = m -> m.putAll(Map.of("FoundKey", "UpdatedValue"));
+        Consumer<ConcurrentMap<Object, Object>> remove = m -> m.remove("FoundKey");
+        Consumer<ConcurrentMap<Object, Object>> replace = m -> m.replace("FoundKey", "UpdatedValue");
+        return Stream.of(
+                //            operation,          expectedValue
+                Arguments.of( clear,              null ),
+                Arguments.of( computeIfAbsent,    "FoundValue" ),
+                Arguments.of( computeIfPresent,   "UpdatedValue" ),
+                Arguments.of( put,                "UpdatedValue" ),
+                Arguments.of( putAll,             "UpdatedValue" ),
+                Arguments.of( remove,             null ),
+                Arguments.of( replace,            "UpdatedValue" )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("nativeCacheWriteOperationsTestCases")
+    @DisplayName("getNativeCache: when it is modified then the changes are applied in the remote level and the local copy is removed")
+    @SuppressWarnings("unchecked")
+    public void getNativeCache_whenItIsModified_thenChangesAreAppliedInRemoteLevelAndLocalCopyIsRemoved(Consumer<ConcurrentMap<Object, Object>> operation,
+                                                                                                          String expectedValue) {
+        remoteCache.put("FoundKey", "FoundValue");
+        cache.get("FoundKey");
+
+        operation.accept(
+                (ConcurrentMap<Object, Object>) cache.getNativeCache()
+        );
+
+        Cache.ValueWrapper result = cache.get("FoundKey");
+        assertEquals(
+                expectedValue,
+                null == result ? null : result.get()
+        );
+        assertEquals(
+                expectedValue,
+                ((ConcurrentMap<Object, Object>) remoteCache.getNativeCache()).get("FoundKey")
+        );
+        verify(remoteCache, times(2))
+                .get(
+                        "FoundKey"
+                );
+    }
+
+}
@@ -1,7 +1,13 @@
 package com.spring6microservices.common.spring.service;
 
+import com.spring6microservices.common.spring.cache.TwoLevelCache;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.LocalMapStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -10,16 +16,33 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.cache.support.SimpleValueWrapper;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -29,12 +52,15 @@ public class CacheServiceTest {
     private CacheManager mockCacheManager;
 
 
+    private MeterRegistry meterRegistry;
+
     private CacheService service;
 
 
     @BeforeEach
     public void init() {
-        service = new CacheService(mockCacheManager);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new CacheService(mockCacheManager, meterRegistry);
     }
 
 
@@ -75,6 +101,59 @@ public class CacheServiceTest {
     }
 
 
+    static Stream<Arguments> computeIfAbsentTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            cacheName,         key,            cacheManagerResult,                       loaderResult,   expectedResult,       expectedLoaderInvocations
+                Arguments.of( null,              null,           null,                                     null,           empty(),              0 ),
+                Arguments.of( "NotFoundCache",   "FoundKey",     null,                                     "Loaded",       empty(),              0 ),
+                Arguments.of( "FoundCache",      "FoundKey",     buildConcurrentMapCache(),                "Loaded",       of("FoundValue"),     0 ),
+                Arguments.of( "FoundCache",      "NotFoundKey",  buildConcurrentMapCache(),                null,           empty(),              1 ),
+                Arguments.of( "FoundCache",      "NotFoundKey",  buildConcurrentMapCache(),                "Loaded",       of("Loaded"),         1 ),
+                Arguments.of( "FoundCache",      "FoundKey",     buildNotConcurrentMapCache("FoundValue"), "Loaded",       of("FoundValue"),     0 ),
+                Arguments.of( "FoundCache",      "NotFoundKey",  buildNotConcurrentMapCache(null),         null,           empty(),              1 ),
+                Arguments.of( "FoundCache",      "NotFoundKey",  buildNotConcurrentMapCache(null),         "Loaded",       of("Loaded"),         1 )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("computeIfAbsentTestCases")
+    @DisplayName("computeIfAbsent: test cases")
+    public void computeIfAbsent_testCases(String cacheName,
+                                          String key,
+                                          Cache cacheManagerResult,
+                                          String loaderResult,
+                                          Optional<String> expectedResult,
+                                          int expectedLoaderInvocations) {
+        List<String> loadedKeys = new ArrayList<>();
+        Function<String, String> loader = k -> {
+            loadedKeys.add(k);
+            return loaderResult;
+        };
+        when(mockCacheManager.getCache(cacheName))
+                .thenReturn(
+                        cacheManagerResult
+                );
+
+        Optional<String> result = service.computeIfAbsent(cacheName, key, loader);
+
+        assertEquals(
+                expectedResult,
+                result
+        );
+        assertEquals(
+                expectedLoaderInvocations,
+                loadedKeys.size()
+        );
+        if (cacheManagerResult instanceof ConcurrentMapCache concurrentMapCache) {
+            assertEquals(
+                    expectedResult.orElse(null),
+                    ofNullableValue(concurrentMapCache.get(key))
+            );
+        }
+    }
+
+
     static Stream<Arguments> containsTestCases() {
         Cache mockCache = Mockito.mock(Cache.class);
         SimpleValueWrapper returnedValue = new SimpleValueWrapper("FoundValue");
@@ -117,6 +196,48 @@ public class CacheServiceTest {
     }
 
 
+    static Stream<Arguments> evictAllTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            cacheName,         keys,                                      cacheManagerResult,          expectedResult
+                Arguments.of( null,              null,                                      null,                        false ),
+                Arguments.of( "NotFoundCache",   List.of("FoundKey"),                       null,                        false ),
+                Arguments.of( "FoundCache",      null,                                      buildConcurrentMapCache(),   true ),
+                Arguments.of( "FoundCache",      Arrays.asList("FoundKey", null),           buildConcurrentMapCache(),   true ),
+                Arguments.of( "FoundCache",      List.of("FoundKey", "OtherFoundKey"),      buildConcurrentMapCache(),   true )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("evictAllTestCases")
+    @DisplayName("evictAll: test cases")
+    public void evictAll_testCases(String cacheName,
+                                   List<String> keys,
+                                   Cache cacheManagerResult,
+                                   boolean expectedResult) {
+        when(mockCacheManager.getCache(cacheName))
+                .thenReturn(
+                        cacheManagerResult
+                );
+
+        boolean result = service.evictAll(cacheName, keys);
+
+        assertEquals(
+                expectedResult,
+                result
+        );
+        if (null != cacheManagerResult) {
+            List<String> evictedKeys = null == keys ? List.of() : keys;
+            for (String key: List.of("FoundKey", "OtherFoundKey")) {
+                assertEquals(
+                        evictedKeys.contains(key),
+                        null == cacheManagerResult.get(key)
+                );
+            }
+        }
+    }
+
+
     static Stream<Arguments> getTestCases() {
         Cache mockCache = Mockito.mock(Cache.class);
         SimpleValueWrapper returnedValue = new SimpleValueWrapper("FoundValue");
@@ -159,6 +280,124 @@ public class CacheServiceTest {
     }
 
 
+    static Stream<Arguments> getAllTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            cacheName,         keys,                                                    cacheManagerResult,          expectedResult
+                Arguments.of( null,              null,                                                    null,                        Map.of() ),
+                Arguments.of( "NotFoundCache",   List.of("FoundKey"),                                     null,                        Map.of() ),
+                Arguments.of( "FoundCache",      List.of(),                                               buildConcurrentMapCache(),   Map.of() ),
+                Arguments.of( "FoundCache",      List.of("NotFoundKey"),                                  buildConcurrentMapCache(),   Map.of() ),
+                Arguments.of( "FoundCache",      Arrays.asList("FoundKey", "NotFoundKey", null),          buildConcurrentMapCache(),   Map.of("FoundKey", "FoundValue") ),
+                Arguments.of( "FoundCache",      List.of("FoundKey", "OtherFoundKey"),                    buildConcurrentMapCache(),   Map.of("FoundKey", "FoundValue", "OtherFoundKey", "OtherFoundValue") )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("getAllTestCases")
+    @DisplayName("getAll: test cases")
+    public void getAll_testCases(String cacheName,
+                                 List<String> keys,
+                                 Cache cacheManagerResult,
+                                 Map<String, String> expectedResult) {
+        when(mockCacheManager.getCache(cacheName))
+                .thenReturn(
+                        cacheManagerResult
+                );
+
+        Map<String, String> result = service.getAll(cacheName, keys);
+
+        assertEquals(
+                expectedResult,
+                result
+        );
+    }
+
+
+    @Test
+    @DisplayName("getAll: when the native cache is a Hazelcast map then only one call is used")
+    @SuppressWarnings("unchecked")
+    public void getAll_whenNativeCacheIsHazelcastMap_thenOnlyOneCallIsUsed() {
+        Cache mockCache = mock(Cache.class);
+        IMap<Object, Object> mockMap = mock(IMap.class);
+        when(mockCacheManager.getCache("FoundCache"))
+                .thenReturn(
+                        mockCache
+                );
+        when(mockCache.getNativeCache())
+                .thenReturn(
+                        mockMap
+                );
+        when(mockMap.getName())
+                .thenReturn(
+                        "FoundCache"
+                );
+        when(mockMap.getAll(Set.of("FoundKey", "NotFoundKey")))
+                .thenReturn(
+                        Map.of("FoundKey", "FoundValue")
+                );
+
+        Map<String, String> result = service.getAll("FoundCache", List.of("FoundKey", "NotFoundKey"));
+
+        assertEquals(
+                Map.of("FoundKey", "FoundValue"),
+                result
+        );
+        verify(mockMap, times(1))
+                .getAll(
+                        any()
+                );
+        verify(mockCache, never())
+                .get(
+                        any()
+                );
+    }
+
+
+    static Stream<Arguments> getAndEvictTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            cacheName,         key,             cacheManagerResult,                         expectedResult
+                Arguments.of( null,              null,            null,                                       empty() ),
+                Arguments.of( "NotFoundCache",   "FoundKey",      null,                                       empty() ),
+                Arguments.of( "FoundCache",      null,            buildConcurrentMapCache(),                  empty() ),
+                Arguments.of( "FoundCache",      "NotFoundKey",   buildConcurrentMapCache(),                  empty() ),
+                Arguments.of( "FoundCache",      "FoundKey",      buildConcurrentMapCache(),                  of("FoundValue") ),
+                Arguments.of( "FoundCache",      "NotFoundKey",   buildNotConcurrentMapCache(null),           empty() ),
+                Arguments.of( "FoundCache",      "FoundKey",      buildNotConcurrentMapCache("FoundValue"),   of("FoundValue") )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("getAndEvictTestCases")
+    @DisplayName("getAndEvict: test cases")
+    public void getAndEvict_testCases(String cacheName,
+                                      String key,
+                                      Cache cacheManagerResult,
+                                      Optional<String> expectedResult) {
+        when(mockCacheManager.getCache(cacheName))
+                .thenReturn(
+                        cacheManagerResult
+                );
+
+        Optional<String> result = service.getAndEvict(cacheName, key);
+
+        assertEquals(
+                expectedResult,
+                result
+        );
+        if (cacheManagerResult instanceof ConcurrentMapCache concurrentMapCache && null != key) {
+            assertNull(
+                    concurrentMapCache.get(key)
+            );
+            assertEquals(
+                    empty(),
+                    service.getAndEvict(cacheName, key)
+            );
+        }
+    }
+
+
     static Stream<Arguments> getCacheTestCases() {
         Cache mockCache = Mockito.mock(Cache.class);
         return Stream.of(
@@ -205,6 +444,7 @@ public class CacheServiceTest {
                 Arguments.of( null,              null,              null,              null,                  false ),
                 Arguments.of( null,              "ItDoesNotCare",   "ItDoesNotCare",   mockCache,             false ),
                 Arguments.of( "NotFoundCache",   "ItDoesNotCare",   "ItDoesNotCare",   null,                  false ),
+                Arguments.of( "FoundCache",      "ValidKey",        null,              mockCache,             false ),
                 Arguments.of( "FoundCache",      "ValidKey",        "ValidValue",      mockCache,             true )
         ); //@formatter:on
     }
@@ -239,6 +479,51 @@ public class CacheServiceTest {
     }
 
 
+    static Stream<Arguments> putAllTestCases() {
+        Map<String, String> nullValueEntries = new HashMap<>();
+        nullValueEntries.put("NewKey", null);
+        return Stream.of(
+                //@formatter:off
+                //            cacheName,         entries,                                   cacheManagerResult,          expectedResult
+                Arguments.of( null,              null,                                      null,                        false ),
+                Arguments.of( "NotFoundCache",   Map.of("NewKey", "NewValue"),              null,                        false ),
+                Arguments.of( "FoundCache",      null,                                      buildConcurrentMapCache(),   false ),
+                Arguments.of( "FoundCache",      Map.of(),                                  buildConcurrentMapCache(),   true ),
+                Arguments.of( "FoundCache",      Map.of("NewKey", "NewValue",
+                                                        "FoundKey", "UpdatedValue"),        buildConcurrentMapCache(),   true ),
+                Arguments.of( "FoundCache",      nullValueEntries,                          buildConcurrentMapCache(),   true )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("putAllTestCases")
+    @DisplayName("putAll: test cases")
+    public void putAll_testCases(String cacheName,
+                                 Map<String, String> entries,
+                                 Cache cacheManagerResult,
+                                 boolean expectedResult) {
+        when(mockCacheManager.getCache(cacheName))
+                .thenReturn(
+                        cacheManagerResult
+                );
+
+        boolean result = service.putAll(cacheName, entries);
+
+        assertEquals(
+                expectedResult,
+                result
+        );
+        if (null != cacheManagerResult && null != entries) {
+            entries.forEach((k, v) ->
+                    assertEquals(
+                            v,
+                            ofNullableValue(cacheManagerResult.get(k))
+                    )
+            );
+        }
+    }
+
+
     static Stream<Arguments> putIfAbsentTestCases() {
         Cache mockCache = Mockito.mock(Cache.class);
         SimpleValueWrapper returnedValue = new SimpleValueWrapper("FoundValue");
@@ -248,6 +533,7 @@ public class CacheServiceTest {
                 Arguments.of( null,              null,              null,              null,                 null,            false ),
                 Arguments.of( null,              "ItDoesNotCare",   "ItDoesNotCare",   mockCache,            null,            false ),
                 Arguments.of( "NotFoundCache",   "ItDoesNotCare",   "ItDoesNotCare",   null,                 null,            false ),
+                Arguments.of( "FoundCache",      "ValidKey",        null,              mockCache,            null,            false ),
                 Arguments.of( "FoundCache",      "ValidKey",        "ValidValue",      mockCache,            null,            true ),
                 Arguments.of( "FoundCache",      "ValidKey",        "ValidValue",      mockCache,            returnedValue,   false )
         ); //@formatter:on
@@ -267,16 +553,10 @@ public class CacheServiceTest {
                         cacheManagerResult
                 );
         if (null != cacheManagerResult) {
-            when(cacheManagerResult.get(key))
+            when(cacheManagerResult.putIfAbsent(key, value))
                     .thenReturn(
                             cacheResult
                     );
-            doNothing()
-                    .when(cacheManagerResult)
-                    .put(
-                            key,
-                            value
-                    );
         }
 
         boolean result = service.putIfAbsent(cacheName, key, value);
@@ -298,6 +578,7 @@ public class CacheServiceTest {
                 Arguments.of( null,              "ItDoesNotCare",   "ItDoesNotCare",   mockCache,            null,            false ),
                 Arguments.of( "NotFoundCache",   "ItDoesNotCare",   "ItDoesNotCare",   null,                 null,            false ),
                 Arguments.of( "FoundCache",      "ValidKey",        "ValidValue",      mockCache,            null,            false ),
+                Arguments.of( "FoundCache",      "ValidKey",        null,              mockCache,            returnedValue,   false ),
                 Arguments.of( "FoundCache",      "ValidKey",        "ValidValue",      mockCache,            returnedValue,   true )
         ); //@formatter:on
     }
@@ -337,6 +618,89 @@ public class CacheServiceTest {
     }
 
 
+    @Test
+    @DisplayName("putIfAbsent and putIfPresent: when the native cache is a concurrent map then it is used")
+    public void putIfAbsentAndPutIfPresent_whenNativeCacheIsConcurrentMap_thenItIsUsed() {
+        ConcurrentMapCache cache = buildConcurrentMapCache();
+        when(mockCacheManager.getCache("FoundCache"))
+                .thenReturn(
+                        cache
+                );
+
+        assertFalse(
+                service.putIfAbsent("FoundCache", "FoundKey", "UpdatedValue")
+        );
+        assertTrue(
+                service.putIfAbsent("FoundCache", "NewKey", "NewValue")
+        );
+        assertFalse(
+                service.putIfPresent("FoundCache", "NotFoundKey", "NewValue")
+        );
+        assertTrue(
+                service.putIfPresent("FoundCache", "OtherFoundKey", "UpdatedValue")
+        );
+
+        assertEquals(
+                "FoundValue",
+                ofNullableValue(cache.get("FoundKey"))
+        );
+        assertEquals(
+                "NewValue",
+                ofNullableValue(cache.get("NewKey"))
+        );
+        assertNull(
+                cache.get("NotFoundKey")
+        );
+        assertEquals(
+                "UpdatedValue",
+                ofNullableValue(cache.get("OtherFoundKey"))
+        );
+    }
+
+
+    @Test
+    @DisplayName("putIfPresent and getAndEvict: when the cache is a two level one then the native map of the remote one is used and the local copies are removed")
+    public void putIfPresentAndGetAndEvict_whenCacheIsTwoLevelOne_thenNativeMapOfRemoteOneIsUsedAndLocalCopiesAreRemoved() {
+        ConcurrentMapCache remoteCache = spy(buildConcurrentMapCache());
+        TwoLevelCache cache = new TwoLevelCache(remoteCache, 10, 60);
+        when(mockCacheManager.getCache("FoundCache"))
+                .thenReturn(
+                        cache
+                );
+
+        // Stores the current value in the local level
+        assertEquals(
+                of("FoundValue"),
+                service.get("FoundCache", "FoundKey")
+        );
+        assertTrue(
+                service.putIfPresent("FoundCache", "FoundKey", "UpdatedValue")
+        );
+        assertEquals(
+                of("UpdatedValue"),
+                service.get("FoundCache", "FoundKey")
+        );
+        assertEquals(
+                of("UpdatedValue"),
+                service.getAndEvict("FoundCache", "FoundKey")
+        );
+        assertEquals(
+                empty(),
+                service.get("FoundCache", "FoundKey")
+        );
+
+        verify(remoteCache, never())
+                .put(
+                        any(),
+                        any()
+                );
+        verify(remoteCache, never())
+                .evictIfPresent(
+                        any()
+                );
+    }
+
+
     static Stream<Arguments> removeTestCases() {
         Cache mockCache = Mockito.mock(Cache.class);
         return Stream.of(
@@ -369,4 +733,246 @@ public class CacheServiceTest {
         );
     }
 
+
+    @Test
+    @DisplayName("metrics: when the operations are invoked then their latencies, hits, misses and size are registered")
+    public void metrics_whenOperationsAreInvoked_thenTheirLatenciesHitsMissesAndSizeAreRegistered() {
+        when(mockCacheManager.getCache("FoundCache"))
+                .thenReturn(
+                        buildConcurrentMapCache()
+                );
+
+        service.get("FoundCache", "FoundKey");
+        service.get("FoundCache", "NotFoundKey");
+        service.getAll("FoundCache", List.of("FoundKey", "OtherFoundKey", "NotFoundKey"));
+        service.computeIfAbsent("FoundCache", "NewKey", k -> "NewValue");
+        service.put("FoundCache", "FoundKey", "UpdatedValue");
+        service.remove("FoundCache", "OtherFoundKey");
+
+        assertEquals(
+                2,
+                meterRegistry.get("cache.service.operations")
+                        .tags("cache", "FoundCache", "operation", "get")
+                        .timer()
+                        .count()
+        );
+        assertEquals(
+                1,
+                meterRegistry.get("cache.service.operations")
+                        .tags("cache", "FoundCache", "operation", "put")
+                        .timer()
+                        .count()
+        );
+        assertEquals(
+                1,
+                meterRegistry.get("cache.service.operations")
+                        .tags("cache", "FoundCache", "operation", "evict")
+                        .timer()
+                        .count()
+        );
+        assertEquals(
+                3,
+                meterRegistry.get("cache.service.gets")
+                        .tags("cache", "FoundCache", "result", "hit")
+                        .counter()
+                        .count()
+        );
+        assertEquals(
+                3,
+                meterRegistry.get("cache.service.gets")
+                        .tags("cache", "FoundCache", "result", "miss")
+                        .counter()
+                        .count()
+        );
+        assertEquals(
+                2,
+                meterRegistry.get("cache.service.size")
+                        .tags("cache", "FoundCache")
+                        .gauge()
+                        .value()
+        );
+    }
+
+
+    @Test
+    @DisplayName("metrics: when grouped caches are used then they share the meters of their group")
+    public void metrics_whenGroupedCachesAreUsed_thenTheyShareTheMetersOfTheirGroup() {
+        when(mockCacheManager.getCache("BucketCache_1"))
+                .thenReturn(
+                        buildConcurrentMapCache()
+                );
+        when(mockCacheManager.getCache("BucketCache_2"))
+                .thenReturn(
+                        buildConcurrentMapCache()
+                );
+
+        service.groupMetrics("BucketCache", List.of("BucketCache_1", "BucketCache_2"));
+        service.get("BucketCache_1", "FoundKey");
+        service.get("BucketCache_2", "NotFoundKey");
+
+        assertEquals(
+                2,
+                meterRegistry.get("cache.service.operations")
+                        .tags("cache", "BucketCache", "operation", "get")
+                        .timer()
+                        .count()
+        );
+        assertEquals(
+                1,
+                meterRegistry.get("cache.service.gets")
+                        .tags("cache", "BucketCache", "result", "hit")
+                        .counter()
+                        .count()
+        );
+        assertEquals(
+                4,
+                meterRegistry.get("cache.service.size")
+                        .tags("cache", "BucketCache")
+                        .gauge()
+                        .value()
+        );
+        assertTrue(
+                meterRegistry.find("cache.service.operations")
+                        .tags("cache", "BucketCache_1")
+                        .timers()
+                        .isEmpty()
+        );
+    }
+
+
+    @Test
+    @DisplayName("metrics: when the native cache is a Hazelcast map then its evictions and local size are registered")
+    @SuppressWarnings("unchecked")
+    public void metrics_whenNativeCacheIsHazelcastMap_thenItsEvictionsAndLocalSizeAreRegistered() {
+        Cache mockCache = mock(Cache.class);
+        IMap<Object, Object> mockMap = mock(IMap.class);
+        LocalMapStats mockLocalMapStats = mock(LocalMapStats.class);
+        when(mockCacheManager.getCache("FoundCache"))
+                .thenReturn(
+                        mockCache
+                );
+        when(mockCache.getNativeCache())
+                .thenReturn(
+                        mockMap
+                );
+        when(mockMap.getLocalMapStats())
+                .thenReturn(
+                        mockLocalMapStats
+                );
+        when(mockLocalMapStats.getEvictionCount())
+                .thenReturn(
+                        5L
+                );
+        when(mockLocalMapStats.getOwnedEntryCount())
+                .thenReturn(
+                        3L
+                );
+
+        service.get("FoundCache", "FoundKey");
+
+        assertEquals(
+                5,
+                meterRegistry.get("cache.service.evictions")
+                        .tags("cache", "FoundCache")
+                        .functionCounter()
+                        .count()
+        );
+        assertEquals(
+                3,
+                meterRegistry.get("cache.service.size")
+                        .tags("cache", "FoundCache")
+                        .gauge()
+                        .value()
+        );
+        verify(mockMap, never())
+                .size();
+    }
+
+
+    @Test
+    @DisplayName("metrics: when putIfPresent does not use a concurrent map then only its own operation is registered")
+    public void metrics_whenPutIfPresentDoesNotUseConcurrentMap_thenOnlyItsOwnOperationIsRegistered() {
+        Cache notConcurrentMapCache = buildNotConcurrentMapCache("FoundValue");
+        when(mockCacheManager.getCache("FoundCache"))
+                .thenReturn(
+                        notConcurrentMapCache
+                );
+
+        assertTrue(
+                service.putIfPresent("FoundCache", "FoundKey", "UpdatedValue")
+        );
+        assertTrue(
+                service.putIfPresent("FoundCache", null, "UpdatedValue")
+        );
+
+        assertEquals(
+                2,
+                meterRegistry.get("cache.service.operations")
+                        .tags("cache", "FoundCache", "operation", "putIfPresent")
+                        .timer()
+                        .count()
+        );
+        for (String operation : List.of("contains", "put")) {
+            assertEquals(
+                    0,
+                    meterRegistry.get("cache.service.operations")
+                            .tags("cache", "FoundCache", "operation", operation)
+                            .timer()
+                            .count()
+            );
+        }
+        for (String result : List.of("hit", "miss")) {
+            assertEquals(
+                    0,
+                    meterRegistry.get("cache.service.gets")
+                            .tags("cache", "FoundCache", "result", result)
+                            .counter()
+                            .count()
+            );
+        }
+    }
+
+
+    @Test
+    @DisplayName("metrics: when the cache name is null then no meter is registered")
+    public void metrics_whenCacheNameIsNull_thenNoMeterIsRegistered() {
+        service.get(null, "ItDoesNotCare");
+        service.put(null, "ItDoesNotCare", "ItDoesNotCare");
+
+        assertTrue(
+                meterRegistry.getMeters().isEmpty()
+        );
+    }
+
+
+    private static ConcurrentMapCache buildConcurrentMapCache() {
+        ConcurrentMapCache cache = new ConcurrentMapCache("FoundCache");
+        cache.put("FoundKey", "FoundValue");
+        cache.put("OtherFoundKey", "OtherFoundValue");
+        return cache;
+    }
+
+
+    private static Cache buildNotConcurrentMapCache(String value) {
+        Cache mockCache = mock(Cache.class);
+        when(mockCache.get(any()))
+                .thenReturn(
+                        null == value
+                                ? null
+                                : new SimpleValueWrapper(value)
+                );
+        when(mockCache.evictIfPresent(any()))
+                .thenReturn(
+                        null != value
+                );
+        return mockCache;
+    }
+
+
+    private static Object ofNullableValue(Cache.ValueWrapper valueWrapper) {
+        return null == valueWrapper
+                ? null
+                : valueWrapper.get();
+    }
+
 }
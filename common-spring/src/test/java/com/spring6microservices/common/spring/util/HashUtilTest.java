@@ -60,6 +60,45 @@ public class HashUtilTest {
     }
 
 
+    static Stream<Arguments> hashToBase64TestCases() {
+        String sourceString = "123456";
+        String expectedEmptySHA_256 = "47DEQpj8HBSa+/TImW+5JCeuQeRkm5NMpJWZG3hSuFU=";
+        String expectedSHA_256 = "jZae727K08KaOmKSgOaGzww/XVqGr/PKEgIMkjrcbJI=";
+        String expectedSHA_512 = "ujJTh2rta8ItSm/1PYQGxq2GQZXtFEq1yHYhtsIztUi66uaVbfNG7IwX9eoQ817jy8UUeX7X3dMUVGTioLq0Ew==";
+
+        return Stream.of(
+                //@formatter:off
+                //            sourceString,      hashAlgorithm,            expectedException,                expectedResult
+                Arguments.of( null,              null,                     IllegalArgumentException.class,   null ),
+                Arguments.of( "ItDoesNotCare",   null,                     IllegalArgumentException.class,   null ),
+                Arguments.of( null,              HashAlgorithm.SHA_256,    null,                             expectedEmptySHA_256 ),
+                Arguments.of( sourceString,      HashAlgorithm.SHA_256,    null,                             expectedSHA_256 ),
+                Arguments.of( sourceString,      HashAlgorithm.SHA_512,    null,                             expectedSHA_512 )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("hashToBase64TestCases")
+    @DisplayName("hashToBase64: test cases")
+    public void hashToBase64_testCases(String sourceString,
+                                       HashAlgorithm hashAlgorithm,
+                                       Class<? extends Exception> expectedException,
+                                       String expectedResult) {
+        if (null != expectedException) {
+            assertThrows(
+                    expectedException,
+                    () -> HashUtil.hashToBase64(sourceString, hashAlgorithm)
+            );
+        }
+        else {
+            assertEquals(
+                    expectedResult,
+                    HashUtil.hashToBase64(sourceString, hashAlgorithm)
+            );
+        }
+    }
+
+
     static Stream<Arguments> verifyHashTestCases() {
         String sourceString = "123456";
         String expectedMD5 = "e10adc3949ba59abbe56e057f20f883e";
@@ -0,0 +1,229 @@
+package com.invoice.configuration.security;
+
+import com.invoice.configuration.security.configuration.AuthorizationServerConfiguration;
+import com.nimbusds.jwt.SignedJWT;
+import com.spring6microservices.common.spring.cache.ExpiringLruMap;
+import com.spring6microservices.common.spring.dto.AuthorizationInformationDto;
+import com.spring6microservices.common.spring.enums.HashAlgorithm;
+import com.spring6microservices.common.spring.util.HashUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.ofNullable;
+
+/**
+ *    Local and bounded cache with the {@link AuthorizationInformationDto} returned by the authorization server for
+ * every token, avoiding to ask for the same one every time it is received.
+ * <p>
+ *    The tokens are not stored as they are, but a digest of them. Every entry expires when the related token does, read
+ * from the {@link AuthorizationInformationCache#EXPIRATION_TIME_KEY} of the authorization server's response or from the
+ * token itself if it is not encrypted, or after {@link AuthorizationServerConfiguration#getCacheExpireInSeconds()},
+ * whichever comes first. That way, an expired token is never accepted because of its stored information.
+ * <p>
+ *    Concurrent requests of the same not stored token share the same invocation of the authorization server.
+ */
+@Component
+public class AuthorizationInformationCache {
+
+    // Additional information returned by the authorization server with the expiration of the token in seconds since the epoch
+    private static final String EXPIRATION_TIME_KEY = "exp";
+
+    private final AuthorizationServerConfiguration authorizationServerConfiguration;
+
+    private final Clock clock;
+
+    private final ExpiringLruMap<String, AuthorizationInformationDto> cache;
+
+    private final Map<String, Mono<AuthorizationInformationDto>> ongoingRequests;
+
+
+    @Autowired
+    public AuthorizationInformationCache(@Lazy final AuthorizationServerConfiguration authorizationServerConfiguration) {
+        this(
+                authorizationServerConfiguration,
+                Clock.systemUTC()
+        );
+    }
+
+
+    AuthorizationInformationCache(final AuthorizationServerConfiguration authorizationServerConfiguration,
+                                  final Clock clock) {
+        this.authorizationServerConfiguration = authorizationServerConfiguration;
+        this.clock = clock;
+        this.cache = new ExpiringLruMap<>(
+                authorizationServerConfiguration.getCacheEntryCapacity(),
+                clock
+        );
+        this.ongoingRequests = new ConcurrentHashMap<>();
+    }
+
+
+    /**
+     *    Returns the {@link AuthorizationInformationDto} related with the given {@code token} if it was stored and has
+     * not expired, otherwise it is requested using {@code request} and stored.
+     *
+     * @param token
+     *    Token to search
+     * @param request
+     *    {@link Supplier} with the request to the authorization server if {@code token} was not stored
+     *
+     * @return {@link Mono} with the {@link AuthorizationInformationDto} of {@code token}
+     */
+    public Mono<AuthorizationInformationDto> get(final String token,
+                                                 final Supplier<Mono<AuthorizationInformationDto>> request) {
+        if (!isEnabled() || null == token) {
+            return request.get();
+        }
+        final String key = HashUtil.hashToBase64(
+                token,
+                HashAlgorithm.SHA_256
+        );
+        final AuthorizationInformationDto storedAuthorizationInformation = cache.get(key);
+        if (null != storedAuthorizationInformation) {
+            return Mono.just(
+                    storedAuthorizationInformation
+            );
+        }
+        return ongoingRequests.computeIfAbsent(
+                key,
+                k ->
+                        request.get()
+                                .doOnNext(authorizationInformation ->
+                                        put(
+                                                k,
+                                                token,
+                                                authorizationInformation
+                                        )
+                                )
+                                .doFinally(signal ->
+                                        ongoingRequests.remove(k)
+                                )
+                                .cache()
+        );
+    }
+
+
+    /**
+     *    Removes the stored information of the given {@code token}, if exists. Used when the authorization server reports
+     * the token has expired, in case its information was stored meanwhile by a concurrent request.
+     *
+     * @param token
+     *    Token to remove
+     */
+    public void evict(final String token) {
+        if (null != token) {
+            cache.remove(
+                    HashUtil.hashToBase64(
+                            token,
+                            HashAlgorithm.SHA_256
+                    )
+            );
+        }
+    }
+
+
+    /**
+     *    Stores the given {@code authorizationInformation} until the given {@code token} expires, according to the
+     * authorization server or the token itself, or the configured maximum time, whichever comes first. If the cache is
+     * full, the least recently used entry is removed.
+     *
+     * @param key
+     *    Digest of {@code token}
+     * @param token
+     *    Token related with {@code authorizationInformation}
+     * @param authorizationInformation
+     *    {@link AuthorizationInformationDto} to store
+     */
+    private void put(final String key,
+                     final String token,
+                     final AuthorizationInformationDto authorizationInformation) {
+        final Instant now = clock.instant();
+        final Instant maxExpiration = now.plusSeconds(
+                authorizationServerConfiguration.getCacheExpireInSeconds()
+        );
+        final Instant expiration = Stream.of(
+                        getExpiration(authorizationInformation),
+                        getExpiration(token)
+                )
+                .flatMap(Optional::stream)
+                .filter(maxExpiration::isAfter)
+                .min(Instant::compareTo)
+                .orElse(maxExpiration);
+
+        cache.put(
+                key,
+                authorizationInformation,
+                expiration
+        );
+    }
+
+
+    private boolean isEnabled() {
+        return 0 < authorizationServerConfiguration.getCacheEntryCapacity() &&
+                0 < authorizationServerConfiguration.getCacheExpireInSeconds();
+    }
+
+
+    /**
+     * Returns when the token related with the given {@code authorizationInformation} expires, according to the authorization server.
+     *
+     * @param authorizationInformation
+     *    {@link AuthorizationInformationDto} returned by the authorization server
+     *
+     * @return {@link Optional} with the expiration of the token,
+     *         {@link Optional#empty()} if it was not included in {@link AuthorizationInformationDto#getAdditionalInformation()}
+     */
+    private Optional<Instant> getExpiration(final AuthorizationInformationDto authorizationInformation) {
+        return ofNullable(authorizationInformation.getAdditionalInformation())
+                .map(additionalInformation ->
+                        additionalInformation.get(
+                                EXPIRATION_TIME_KEY
+                        )
+                )
+                .filter(Number.class::isInstance)
+                .map(exp ->
+                        Instant.ofEpochSecond(
+                                ((Number) exp).longValue()
+                        )
+                );
+    }
+
+
+    /**
+     *    Returns when the given {@code token} expires. Its signature is not verified here, because this method is only
+     * invoked once the authorization server has accepted it.
+     *
+     * @param token
+     *    Token to get its expiration
+     *
+     * @return {@link Optional} with the expiration of {@code token},
+     *         {@link Optional#empty()} if it is not a JWS token or has no expiration
+     */
+    private Optional<Instant> getExpiration(final String token) {
+        try {
+            return ofNullable(
+                    SignedJWT.parse(token)
+                            .getJWTClaimsSet()
+                            .getExpirationTime()
+            )
+            .map(Date::toInstant);
+
+        } catch (ParseException e) {
+            return empty();
+        }
+    }
+
+}
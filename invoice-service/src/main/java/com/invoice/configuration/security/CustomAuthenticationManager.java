@@ -8,6 +8,7 @@ import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.ReactiveAuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -33,20 +34,31 @@ import static org.springframework.http.HttpStatus.*;
  *    Manages the validation of the token related with a logged user, using the {@link Authentication}
  * to get and fill the required {@link UsernamePasswordAuthenticationToken} used later to know if the
  * user has the correct {@link GrantedAuthority}.
+ * <p>
+ *    The tokens are verified locally by {@link JwsTokenVerifier} when possible and this client opted out of the
+ * revocation, otherwise the authorization server is invoked, storing its responses in {@link AuthorizationInformationCache}.
  */
 @Component
 @Log4j2
 public class CustomAuthenticationManager implements ReactiveAuthenticationManager {
 
+    private final AuthorizationInformationCache authorizationInformationCache;
+
     private final AuthorizationServerConfiguration authorizationServerConfiguration;
 
+    private final JwsTokenVerifier jwsTokenVerifier;
+
     private final WebClient webClient;
 
 
     @Autowired
-    public CustomAuthenticationManager(@Lazy final AuthorizationServerConfiguration authorizationServerConfiguration,
+    public CustomAuthenticationManager(final AuthorizationInformationCache authorizationInformationCache,
+                                       @Lazy final AuthorizationServerConfiguration authorizationServerConfiguration,
+                                       final JwsTokenVerifier jwsTokenVerifier,
                                        @Lazy final WebClient webClient) {
+        this.authorizationInformationCache = authorizationInformationCache;
         this.authorizationServerConfiguration = authorizationServerConfiguration;
+        this.jwsTokenVerifier = jwsTokenVerifier;
         this.webClient = webClient;
     }
 
@@ -54,11 +66,34 @@ public class CustomAuthenticationManager implements ReactiveAuthenticationManage
     @Override
     public Mono<Authentication> authenticate(final Authentication authentication) {
         String authToken = authentication.getCredentials().toString();
-        return getAuthenticationInformation(
-                authorizationServerConfiguration.getAuthenticationInformationWebService(),
-                authToken
-        )
-        .map(this::getFromAuthorizationInformationDto);
+        return jwsTokenVerifier.verify(
+                        authToken
+                )
+                .switchIfEmpty(
+                        Mono.defer(() ->
+                                authorizationInformationCache.get(
+                                        authToken,
+                                        () ->
+                                                getAuthenticationInformation(
+                                                        authorizationServerConfiguration.getAuthenticationInformationWebService(),
+                                                        authToken
+                                                )
+                                )
+                        )
+                )
+                .onErrorResume(
+                        BadCredentialsException.class,
+                        e -> {
+                            log.warn(
+                                    format("The provided token: %s is not valid. %s",
+                                            authToken,
+                                            e.getMessage()
+                                    )
+                            );
+                            return Mono.empty();
+                        }
+                )
+                .map(this::getFromAuthorizationInformationDto);
     }
 
 
@@ -113,6 +148,9 @@ public class CustomAuthenticationManager implements ReactiveAuthenticationManage
                                             token
                                     )
                             );
+                            authorizationInformationCache.evict(
+                                    token
+                            );
                             /**
                              *    {@link DefaultErrorAttributes#determineHttpStatus(Throwable, MergedAnnotation)} transforms
                              * the information of the thrown exception into the suitable HTTP status to return.
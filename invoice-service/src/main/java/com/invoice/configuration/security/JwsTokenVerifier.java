@@ -0,0 +1,377 @@
+package com.invoice.configuration.security;
+
+import com.invoice.configuration.security.configuration.AuthorizationServerConfiguration;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.spring6microservices.common.spring.dto.AuthorizationInformationDto;
+import com.spring6microservices.common.spring.util.HttpUtil;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.lang.String.format;
+import static java.util.Optional.ofNullable;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
+
+/**
+ *    Verifies the JWS access tokens locally, using the public keys published by the authorization server in
+ * {@link AuthorizationServerConfiguration#getVerificationKeysWebService()}, instead of invoking
+ * {@link AuthorizationServerConfiguration#getAuthenticationInformationWebService()} for every request.
+ * <p>
+ *    The public keys are cached and requested again when {@link AuthorizationServerConfiguration#getVerificationKeysRefreshInSeconds()}
+ * have passed, or before that if a token signed with an unknown key is received (at most once every
+ * {@link JwsTokenVerifier#MIN_TIME_BETWEEN_REFRESHES}), so rotated keys are used as soon as possible.
+ * <p>
+ *    The tokens that cannot be verified locally: encrypted ones, without {@code kid} header or signed with an unknown or
+ * not supported key, are not managed here and must be verified by the authorization server.
+ *
+ * @apiNote
+ *    Revoked tokens and blacklisted users are only checked by the authorization server, so the tokens verified locally
+ * are accepted until they expire: a logout or a blacklisted user are ignored. That is why the tokens are verified locally
+ * only when {@link AuthorizationServerConfiguration#isVerificationKeysWithoutRevocation()} is {@code true}, that is, this
+ * client opts out of the revocation.
+ */
+@Component
+@Log4j2
+public class JwsTokenVerifier {
+
+    // Minimum time between two requests of the public keys, used when a token signed with an unknown key is received
+    static final Duration MIN_TIME_BETWEEN_REFRESHES = Duration.ofSeconds(30);
+
+    private static final String AUDIENCE = "aud";
+
+    private static final String AUTHORITIES = "authorities";
+
+    private static final String EXPIRATION_TIME = "exp";
+
+    private static final String REFRESH_JWT_ID = "ati";
+
+    private static final String USERNAME = "username";
+
+    private final AuthorizationServerConfiguration authorizationServerConfiguration;
+
+    private final WebClient webClient;
+
+    private final Clock clock;
+
+    private final AtomicReference<VerificationKeys> verificationKeys;
+
+    private final AtomicReference<Mono<VerificationKeys>> ongoingRefresh;
+
+
+    @Autowired
+    public JwsTokenVerifier(@Lazy final AuthorizationServerConfiguration authorizationServerConfiguration,
+                            @Lazy final WebClient webClient) {
+        this(
+                authorizationServerConfiguration,
+                webClient,
+                Clock.systemUTC()
+        );
+    }
+
+
+    JwsTokenVerifier(final AuthorizationServerConfiguration authorizationServerConfiguration,
+                     final WebClient webClient,
+                     final Clock clock) {
+        this.authorizationServerConfiguration = authorizationServerConfiguration;
+        this.webClient = webClient;
+        this.clock = clock;
+        this.verificationKeys = new AtomicReference<>(
+                new VerificationKeys(
+                        Map.of(),
+                        Instant.EPOCH
+                )
+        );
+        this.ongoingRefresh = new AtomicReference<>();
+    }
+
+
+    /**
+     *    Verifies locally the given {@code token}, returning its authorization information if it is valid. Nothing is
+     * done if this client did not opt out of the revocation of the tokens.
+     *
+     * @param token
+     *    Access token to verify
+     *
+     * @return {@link Mono} with the {@link AuthorizationInformationDto} of {@code token},
+     *         {@link Mono#empty()} if {@code token} cannot or must not be verified locally,
+     *         {@link Mono#error(Throwable)} with {@link BadCredentialsException} if {@code token} is not a valid access
+     *         token and with {@link ResponseStatusException} if {@code token} has expired
+     */
+    public Mono<AuthorizationInformationDto> verify(final String token) {
+        if (!authorizationServerConfiguration.isVerificationKeysWithoutRevocation() ||
+                !StringUtils.hasText(authorizationServerConfiguration.getVerificationKeysWebService())) {
+            return Mono.empty();
+        }
+        final SignedJWT signedJwt;
+        try {
+            signedJwt = SignedJWT.parse(token);
+        } catch (ParseException e) {
+            // Encrypted or not JWT tokens
+            return Mono.empty();
+        }
+        final String keyId = signedJwt.getHeader().getKeyID();
+        if (null == keyId) {
+            return Mono.empty();
+        }
+        return getVerifier(keyId)
+                .map(verifier ->
+                        verify(
+                                signedJwt,
+                                verifier
+                        )
+                );
+    }
+
+
+    /**
+     * Returns the {@link JWSVerifier} related with the given {@code keyId}, requesting the public keys again if required.
+     *
+     * @param keyId
+     *    Identifier of the public key to search
+     *
+     * @return {@link Mono} with the {@link JWSVerifier} related with {@code keyId},
+     *         {@link Mono#empty()} if there is no public key with such identifier
+     */
+    private Mono<JWSVerifier> getVerifier(final String keyId) {
+        final VerificationKeys currentKeys = verificationKeys.get();
+        final Instant now = clock.instant();
+
+        final boolean expired = !now.isBefore(
+                currentKeys.refreshedAt().plusSeconds(
+                        authorizationServerConfiguration.getVerificationKeysRefreshInSeconds()
+                )
+        );
+        final boolean unknownKeyCanBeRefreshed = !currentKeys.verifiers().containsKey(keyId) &&
+                !now.isBefore(
+                        currentKeys.refreshedAt().plus(MIN_TIME_BETWEEN_REFRESHES)
+                );
+
+        final Mono<VerificationKeys> keys = expired || unknownKeyCanBeRefreshed
+                ? refresh()
+                : Mono.just(currentKeys);
+
+        return keys.mapNotNull(k ->
+                k.verifiers().get(keyId)
+        );
+    }
+
+
+    /**
+     *    Requests the public keys to the authorization server. The concurrent invocations share the same request and, if
+     * it fails, the current keys are kept until the next refresh.
+     *
+     * @return {@link Mono} with the refreshed {@link VerificationKeys}
+     */
+    private Mono<VerificationKeys> refresh() {
+        final Mono<VerificationKeys> currentRefresh = ongoingRefresh.get();
+        if (null != currentRefresh) {
+            return currentRefresh;
+        }
+        final Mono<VerificationKeys> newRefresh = requestVerificationKeys()
+                .map(this::toVerificationKeys)
+                .onErrorResume(e -> {
+                    log.warn(
+                            format("There was an error requesting the public keys to: %s, the current ones will be used",
+                                    authorizationServerConfiguration.getVerificationKeysWebService()
+                            ),
+                            e
+                    );
+                    return Mono.just(
+                            new VerificationKeys(
+                                    verificationKeys.get().verifiers(),
+                                    clock.instant()
+                            )
+                    );
+                })
+                .doOnNext(verificationKeys::set)
+                .doFinally(signal ->
+                        ongoingRefresh.set(null)
+                )
+                .cache();
+
+        return ongoingRefresh.compareAndSet(null, newRefresh)
+                ? newRefresh
+                : ofNullable(ongoingRefresh.get())
+                        .orElse(newRefresh);
+    }
+
+
+    private Mono<Map<String, Object>> requestVerificationKeys() {
+        return webClient.get()
+                .uri(authorizationServerConfiguration.getVerificationKeysWebService())
+                .header(
+                        HttpHeaders.AUTHORIZATION,
+                        HttpUtil.encodeBasicAuthentication(
+                                authorizationServerConfiguration.getClientId(),
+                                authorizationServerConfiguration.getClientPassword()
+                        )
+                )
+                .retrieve()
+                .bodyToMono(
+                        new ParameterizedTypeReference<>() {}
+                );
+    }
+
+
+    /**
+     *    Converts the given JWK Set into {@link VerificationKeys}. Only RSA and EC keys are supported, the other ones are
+     * ignored so their tokens will be verified by the authorization server.
+     *
+     * @param jwkSet
+     *    {@link Map} with the JWK Set to convert
+     *
+     * @return {@link VerificationKeys}
+     *
+     * @throws IllegalStateException if {@code jwkSet} is not a valid one
+     */
+    private VerificationKeys toVerificationKeys(final Map<String, Object> jwkSet) {
+        try {
+            Map<String, JWSVerifier> verifiers = new HashMap<>();
+            for (JWK jwk : JWKSet.parse(jwkSet).getKeys()) {
+                if (null == jwk.getKeyID()) {
+                    continue;
+                }
+                if (jwk instanceof RSAKey rsaKey) {
+                    verifiers.put(jwk.getKeyID(), new RSASSAVerifier(rsaKey));
+                }
+                else if (jwk instanceof ECKey ecKey) {
+                    verifiers.put(jwk.getKeyID(), new ECDSAVerifier(ecKey));
+                }
+            }
+            return new VerificationKeys(
+                    verifiers,
+                    clock.instant()
+            );
+        } catch (ParseException | JOSEException e) {
+            throw new IllegalStateException(
+                    "The received public keys are not valid",
+                    e
+            );
+        }
+    }
+
+
+    /**
+     *    Checks the signature, expiration and content of the given {@code signedJwt}, returning its authorization
+     * information if it is a valid access token.
+     *
+     * @param signedJwt
+     *    {@link SignedJWT} to verify
+     * @param verifier
+     *    {@link JWSVerifier} used to check the signature
+     *
+     * @return {@link AuthorizationInformationDto}
+     *
+     * @throws BadCredentialsException if {@code signedJwt} is not a valid access token
+     * @throws ResponseStatusException if {@code signedJwt} has expired
+     */
+    private AuthorizationInformationDto verify(final SignedJWT signedJwt,
+                                               final JWSVerifier verifier) {
+        final JWTClaimsSet claims;
+        try {
+            if (!signedJwt.verify(verifier)) {
+                throw new BadCredentialsException("The signature of the provided token is not valid");
+            }
+            claims = signedJwt.getJWTClaimsSet();
+        } catch (JOSEException | ParseException e) {
+            throw new BadCredentialsException("The provided token is not valid", e);
+        }
+        final Date expiration = claims.getExpirationTime();
+        if (null == expiration || !clock.instant().isBefore(expiration.toInstant())) {
+            log.warn("The provided authentication token has expired");
+            /**
+             *    {@link DefaultErrorAttributes#determineHttpStatus(Throwable, MergedAnnotation)} transforms
+             * the information of the thrown exception into the suitable HTTP status to return.
+             */
+            throw new ResponseStatusException(
+                    UNAUTHORIZED,
+                    "Provided token has expired"
+            );
+        }
+        if (null != claims.getClaim(REFRESH_JWT_ID)) {
+            throw new BadCredentialsException("The provided token is not an access token");
+        }
+        final List<String> audience = claims.getAudience();
+        if (!audience.isEmpty() && !audience.contains(authorizationServerConfiguration.getClientId())) {
+            throw new BadCredentialsException("The provided token does not belong to: " + authorizationServerConfiguration.getClientId());
+        }
+        return getAuthorizationInformation(claims);
+    }
+
+
+    /**
+     *    Returns the {@link AuthorizationInformationDto} included in the given {@code claims}, with the same additional
+     * information returned by the authorization server: username, authorities and expiration time as seconds since the
+     * epoch.
+     *
+     * @param claims
+     *    {@link JWTClaimsSet} of a verified access token
+     *
+     * @return {@link AuthorizationInformationDto}
+     *
+     * @throws BadCredentialsException if {@code claims} contains no username or it has not the expected format
+     */
+    private AuthorizationInformationDto getAuthorizationInformation(final JWTClaimsSet claims) {
+        try {
+            final String username = claims.getStringClaim(USERNAME);
+            if (null == username) {
+                throw new BadCredentialsException("The provided token does not contain a username");
+            }
+            final List<String> authorities = ofNullable(claims.getStringListClaim(AUTHORITIES))
+                    .orElseGet(List::of);
+
+            Map<String, Object> additionalInformation = new HashMap<>();
+            additionalInformation.put(USERNAME, username);
+            additionalInformation.put(AUTHORITIES, authorities);
+            additionalInformation.put(EXPIRATION_TIME, claims.getExpirationTime().toInstant().getEpochSecond());
+            return new AuthorizationInformationDto(
+                    authorizationServerConfiguration.getClientId(),
+                    username,
+                    authorities,
+                    additionalInformation
+            );
+        } catch (ParseException e) {
+            throw new BadCredentialsException("The content of the provided token is not valid", e);
+        }
+    }
+
+
+    /**
+     * Public keys of the authorization server.
+     *
+     * @param verifiers
+     *    {@link JWSVerifier} of every public key, using its identifier as key
+     * @param refreshedAt
+     *    When the public keys were requested
+     */
+    private record VerificationKeys(Map<String, JWSVerifier> verifiers,
+                                    Instant refreshedAt) {}
+
+}
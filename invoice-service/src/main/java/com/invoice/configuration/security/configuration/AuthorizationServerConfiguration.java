@@ -14,10 +14,33 @@ public class AuthorizationServerConfiguration {
     @Value("${security.authorizationServer.authenticationInformation}")
     private String authenticationInformationWebService;
 
+    // Maximum number of authorization responses stored locally. 0 means no cache
+    @Value("${security.authorizationServer.cache.entryCapacity}")
+    private int cacheEntryCapacity;
+
+    // Maximum time an authorization response is stored, even if its token has not expired yet. 0 means no cache
+    @Value("${security.authorizationServer.cache.expireInSeconds}")
+    private int cacheExpireInSeconds;
+
     @Value("${security.authorizationServer.clientId}")
     private String clientId;
 
     @Value("${security.authorizationServer.clientPassword}")
     private String clientPassword;
 
+    // Web service with the public keys used to verify the tokens locally. If it is empty, tokens are always verified remotely
+    @Value("${security.authorizationServer.verificationKeys}")
+    private String verificationKeysWebService;
+
+    @Value("${security.authorizationServer.verificationKeysRefreshInSeconds}")
+    private long verificationKeysRefreshInSeconds;
+
+    /**
+     *    The tokens verified locally are not checked against the revoked tokens and blacklisted users of the
+     * authorization server, so they are accepted until they expire. Only if it is {@code true}, this client opts out of
+     * the revocation and {@link AuthorizationServerConfiguration#verificationKeysWebService} is used.
+     */
+    @Value("${security.authorizationServer.verificationKeysWithoutRevocation}")
+    private boolean verificationKeysWithoutRevocation;
+
 }
\ No newline at end of file
@@ -0,0 +1,254 @@
+package com.invoice.configuration.security;
+
+import com.invoice.configuration.security.configuration.AuthorizationServerConfiguration;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.spring6microservices.common.spring.dto.AuthorizationInformationDto;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(
+        SpringExtension.class
+)
+public class AuthorizationInformationCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    private static final AuthorizationInformationDto AUTHORIZATION_INFORMATION = new AuthorizationInformationDto(
+            "TestClient",
+            "username value"
+    );
+
+    @Mock
+    private AuthorizationServerConfiguration mockAuthorizationServerConfiguration;
+
+    @Mock
+    private Clock mockClock;
+
+    private AtomicInteger requests;
+
+    private AuthorizationInformationCache cache;
+
+
+    @BeforeEach
+    public void init() {
+        requests = new AtomicInteger();
+        when(mockAuthorizationServerConfiguration.getCacheEntryCapacity())
+                .thenReturn(2);
+        when(mockAuthorizationServerConfiguration.getCacheExpireInSeconds())
+                .thenReturn(60);
+        when(mockClock.instant())
+                .thenReturn(NOW);
+
+        cache = new AuthorizationInformationCache(
+                mockAuthorizationServerConfiguration,
+                mockClock
+        );
+    }
+
+
+    @Test
+    @DisplayName("get: when the cache is disabled then the authorization server is always invoked")
+    public void get_whenCacheIsDisabled_thenAuthorizationServerIsAlwaysInvoked() {
+        when(mockAuthorizationServerConfiguration.getCacheEntryCapacity())
+                .thenReturn(0);
+
+        verifyGet("token", 2);
+        assertEquals(2, requests.get());
+    }
+
+
+    @Test
+    @DisplayName("get: when the token was stored then the authorization server is not invoked again")
+    public void get_whenTokenWasStored_thenAuthorizationServerIsNotInvokedAgain() {
+        verifyGet("token", 3);
+        assertEquals(1, requests.get());
+
+        when(mockClock.instant())
+                .thenReturn(NOW.plusSeconds(60));
+
+        verifyGet("token", 1);
+        assertEquals(2, requests.get());
+    }
+
+
+    @Test
+    @DisplayName("get: when the token expires before the configured time then its entry expires with the token")
+    public void get_whenTokenExpiresBeforeConfiguredTime_thenItsEntryExpiresWithTheToken() {
+        String token = buildToken(NOW.plusSeconds(10));
+
+        verifyGet(token, 1);
+
+        when(mockClock.instant())
+                .thenReturn(NOW.plusSeconds(9));
+        verifyGet(token, 1);
+        assertEquals(1, requests.get());
+
+        when(mockClock.instant())
+                .thenReturn(NOW.plusSeconds(10));
+        verifyGet(token, 1);
+        assertEquals(2, requests.get());
+    }
+
+
+    @Test
+    @DisplayName("get: when the authorization server returns no information then nothing is stored")
+    public void get_whenAuthorizationServerReturnsNoInformation_thenNothingIsStored() {
+        Supplier<Mono<AuthorizationInformationDto>> request = () -> {
+            requests.incrementAndGet();
+            return Mono.empty();
+        };
+
+        StepVerifier.create(cache.get("token", request))
+                .verifyComplete();
+        StepVerifier.create(cache.get("token", request))
+                .verifyComplete();
+
+        assertEquals(2, requests.get());
+    }
+
+
+    @Test
+    @DisplayName("get: when there are concurrent requests of the same token then the authorization server is invoked once")
+    public void get_whenThereAreConcurrentRequestsOfSameToken_thenAuthorizationServerIsInvokedOnce() {
+        Sinks.One<AuthorizationInformationDto> response = Sinks.one();
+        Supplier<Mono<AuthorizationInformationDto>> request = () -> {
+            requests.incrementAndGet();
+            return response.asMono();
+        };
+
+        Mono<AuthorizationInformationDto> first = cache.get("token", request);
+        Mono<AuthorizationInformationDto> second = cache.get("token", request);
+
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> response.tryEmitValue(AUTHORIZATION_INFORMATION))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verifyGet("token", 1);
+        assertEquals(1, requests.get());
+    }
+
+
+    @Test
+    @DisplayName("evict: when the token was stored then the authorization server is invoked again")
+    public void evict_whenTokenWasStored_thenAuthorizationServerIsInvokedAgain() {
+        verifyGet("token", 1);
+
+        cache.evict("token");
+        cache.evict(null);
+
+        verifyGet("token", 1);
+        assertEquals(2, requests.get());
+    }
+
+
+    @Test
+    @DisplayName("get: when the authorization server returns the token expiration then its entry expires with the token")
+    public void get_whenAuthorizationServerReturnsTheTokenExpiration_thenItsEntryExpiresWithTheToken() {
+        AuthorizationInformationDto authorizationInformation = new AuthorizationInformationDto(
+                "TestClient",
+                "username value",
+                Set.of(),
+                Map.of(
+                        "exp", NOW.plusSeconds(10).getEpochSecond()
+                )
+        );
+        Supplier<Mono<AuthorizationInformationDto>> request = () -> {
+            requests.incrementAndGet();
+            return Mono.just(authorizationInformation);
+        };
+
+        // An encrypted token, whose expiration cannot be read
+        cache.get("token", request).block();
+
+        when(mockClock.instant())
+                .thenReturn(NOW.plusSeconds(9));
+        cache.get("token", request).block();
+        assertEquals(1, requests.get());
+
+        when(mockClock.instant())
+                .thenReturn(NOW.plusSeconds(10));
+        cache.get("token", request).block();
+        assertEquals(2, requests.get());
+    }
+
+
+    @Test
+    @DisplayName("get: when the cache is full then it never contains more entries than the configured capacity")
+    public void get_whenCacheIsFull_thenItNeverContainsMoreEntriesThanConfiguredCapacity() {
+        verifyGet("token1", 1);
+        verifyGet("token2", 1);
+        verifyGet("token3", 1);
+        assertEquals(3, requests.get());
+
+        // The last one is stored and only one of the previous ones
+        verifyGet("token3", 1);
+        assertEquals(3, requests.get());
+
+        Supplier<Mono<AuthorizationInformationDto>> request = () -> {
+            requests.incrementAndGet();
+            return Mono.empty();
+        };
+        cache.get("token1", request).block();
+        cache.get("token2", request).block();
+        assertEquals(4, requests.get());
+    }
+
+
+    private void verifyGet(final String token,
+                           final int times) {
+        for (int i = 0; i < times; i++) {
+            StepVerifier.create(
+                            cache.get(
+                                    token,
+                                    () -> {
+                                        requests.incrementAndGet();
+                                        return Mono.just(AUTHORIZATION_INFORMATION);
+                                    }
+                            )
+                    )
+                    .expectNext(AUTHORIZATION_INFORMATION)
+                    .verifyComplete();
+        }
+    }
+
+
+    @SneakyThrows
+    private static String buildToken(final Instant expiration) {
+        SignedJWT signedJwt = new SignedJWT(
+                new JWSHeader(JWSAlgorithm.HS256),
+                new JWTClaimsSet.Builder()
+                        .claim("username", "username value")
+                        .expirationTime(Date.from(expiration))
+                        .build()
+        );
+        signedJwt.sign(
+                new MACSigner("hs256SignatureSecret#secret#789(jwt)$3411781_GTDSAET")
+        );
+        return signedJwt.serialize();
+    }
+
+}
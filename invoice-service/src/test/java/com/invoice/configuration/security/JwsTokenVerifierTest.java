@@ -0,0 +1,306 @@
+package com.invoice.configuration.security;
+
+import com.invoice.configuration.security.configuration.AuthorizationServerConfiguration;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.spring6microservices.common.spring.dto.AuthorizationInformationDto;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@ExtendWith(
+        SpringExtension.class
+)
+public class JwsTokenVerifierTest {
+
+    private static final String CLIENT_ID = "TestClient";
+
+    private static final String KEY_ID = "keyId";
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    private static RSAKey signatureKey;
+
+    @Mock
+    private AuthorizationServerConfiguration mockAuthorizationServerConfiguration;
+
+    @Mock
+    private Clock mockClock;
+
+    private AtomicInteger verificationKeysRequests;
+
+    private JwsTokenVerifier verifier;
+
+
+    @BeforeAll
+    @SneakyThrows
+    public static void initSignatureKey() {
+        signatureKey = new RSAKeyGenerator(2048)
+                .keyID(KEY_ID)
+                .generate();
+    }
+
+
+    @BeforeEach
+    public void init() {
+        verificationKeysRequests = new AtomicInteger();
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    verificationKeysRequests.incrementAndGet();
+                    return Mono.just(
+                            ClientResponse.create(OK)
+                                    .header(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON_VALUE)
+                                    .body(new JWKSet(signatureKey.toPublicJWK()).toString())
+                                    .build()
+                    );
+                })
+                .build();
+
+        when(mockAuthorizationServerConfiguration.getClientId())
+                .thenReturn(CLIENT_ID);
+        when(mockAuthorizationServerConfiguration.getClientPassword())
+                .thenReturn("TestPassword");
+        when(mockAuthorizationServerConfiguration.getVerificationKeysWebService())
+                .thenReturn("http://localhost/jwks");
+        when(mockAuthorizationServerConfiguration.getVerificationKeysRefreshInSeconds())
+                .thenReturn(300L);
+        when(mockAuthorizationServerConfiguration.isVerificationKeysWithoutRevocation())
+                .thenReturn(true);
+        when(mockClock.instant())
+                .thenReturn(NOW);
+
+        verifier = new JwsTokenVerifier(
+                mockAuthorizationServerConfiguration,
+                webClient,
+                mockClock
+        );
+    }
+
+
+    @Test
+    @DisplayName("verify: when the verification keys web service is not configured then the token is not verified locally")
+    public void verify_whenVerificationKeysWebServiceIsNotConfigured_thenTokenIsNotVerifiedLocally() {
+        when(mockAuthorizationServerConfiguration.getVerificationKeysWebService())
+                .thenReturn("");
+
+        StepVerifier.create(verifier.verify(buildAccessToken(signatureKey, KEY_ID, NOW.plusSeconds(60))))
+                .verifyComplete();
+
+        assertEquals(0, verificationKeysRequests.get());
+    }
+
+
+    @Test
+    @DisplayName("verify: when this client did not opt out of the revocation then the token is not verified locally")
+    public void verify_whenThisClientDidNotOptOutOfRevocation_thenTokenIsNotVerifiedLocally() {
+        when(mockAuthorizationServerConfiguration.isVerificationKeysWithoutRevocation())
+                .thenReturn(false);
+
+        StepVerifier.create(verifier.verify(buildAccessToken(signatureKey, KEY_ID, NOW.plusSeconds(60))))
+                .verifyComplete();
+
+        assertEquals(0, verificationKeysRequests.get());
+    }
+
+
+    @Test
+    @DisplayName("verify: when the token is not a JWS one or has no key identifier then it is not verified locally")
+    @SneakyThrows
+    public void verify_whenTokenIsNotJwsOrHasNoKeyIdentifier_thenItIsNotVerifiedLocally() {
+        SignedJWT tokenWithoutKeyId = new SignedJWT(
+                new JWSHeader(JWSAlgorithm.HS256),
+                new JWTClaimsSet.Builder()
+                        .claim("username", "username value")
+                        .build()
+        );
+        tokenWithoutKeyId.sign(
+                new MACSigner("hs256SignatureSecret#secret#789(jwt)$3411781_GTDSAET")
+        );
+
+        StepVerifier.create(verifier.verify("NotAJwsToken"))
+                .verifyComplete();
+        StepVerifier.create(verifier.verify(tokenWithoutKeyId.serialize()))
+                .verifyComplete();
+
+        assertEquals(0, verificationKeysRequests.get());
+    }
+
+
+    @Test
+    @DisplayName("verify: when the token is valid then its authorization information is returned and the keys are reused")
+    public void verify_whenTokenIsValid_thenItsAuthorizationInformationIsReturnedAndKeysAreReused() {
+        String accessToken = buildAccessToken(signatureKey, KEY_ID, NOW.plusSeconds(60));
+
+        StepVerifier.create(verifier.verify(accessToken))
+                .assertNext(authorizationInformation -> {
+                    assertEquals(CLIENT_ID, authorizationInformation.getApplication());
+                    assertEquals("username value", authorizationInformation.getUsername());
+                    assertEquals(Set.of("admin", "user"), authorizationInformation.getAuthorities());
+                    assertEquals(
+                            Map.of(
+                                    "username", "username value",
+                                    "authorities", List.of("admin", "user"),
+                                    "exp", NOW.plusSeconds(60).getEpochSecond()
+                            ),
+                            authorizationInformation.getAdditionalInformation()
+                    );
+                })
+                .verifyComplete();
+
+        StepVerifier.create(verifier.verify(accessToken))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(1, verificationKeysRequests.get());
+    }
+
+
+    @Test
+    @DisplayName("verify: when the refresh time has passed then the keys are requested again")
+    public void verify_whenRefreshTimeHasPassed_thenKeysAreRequestedAgain() {
+        String accessToken = buildAccessToken(signatureKey, KEY_ID, NOW.plusSeconds(600));
+
+        StepVerifier.create(verifier.verify(accessToken))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        when(mockClock.instant())
+                .thenReturn(NOW.plusSeconds(300));
+
+        StepVerifier.create(verifier.verify(accessToken))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(2, verificationKeysRequests.get());
+    }
+
+
+    @Test
+    @DisplayName("verify: when the key identifier is unknown then the keys are requested again at most once in a while")
+    public void verify_whenKeyIdentifierIsUnknown_thenKeysAreRequestedAgainAtMostOnceInAWhile() {
+        String accessToken = buildAccessToken(signatureKey, "unknownKeyId", NOW.plusSeconds(600));
+
+        StepVerifier.create(verifier.verify(accessToken))
+                .verifyComplete();
+        StepVerifier.create(verifier.verify(accessToken))
+                .verifyComplete();
+
+        assertEquals(1, verificationKeysRequests.get());
+
+        when(mockClock.instant())
+                .thenReturn(NOW.plus(JwsTokenVerifier.MIN_TIME_BETWEEN_REFRESHES));
+
+        StepVerifier.create(verifier.verify(accessToken))
+                .verifyComplete();
+
+        assertEquals(2, verificationKeysRequests.get());
+    }
+
+
+    @Test
+    @DisplayName("verify: when the token has expired then ResponseStatusException is thrown")
+    public void verify_whenTokenHasExpired_thenResponseStatusExceptionIsThrown() {
+        StepVerifier.create(verifier.verify(buildAccessToken(signatureKey, KEY_ID, NOW.minusSeconds(1))))
+                .expectError(ResponseStatusException.class)
+                .verify();
+    }
+
+
+    @Test
+    @DisplayName("verify: when the signature is not valid then BadCredentialsException is thrown")
+    @SneakyThrows
+    public void verify_whenSignatureIsNotValid_thenBadCredentialsExceptionIsThrown() {
+        RSAKey otherKey = new RSAKeyGenerator(2048)
+                .keyID(KEY_ID)
+                .generate();
+
+        StepVerifier.create(verifier.verify(buildAccessToken(otherKey, KEY_ID, NOW.plusSeconds(60))))
+                .expectError(BadCredentialsException.class)
+                .verify();
+    }
+
+
+    @Test
+    @DisplayName("verify: when the token is a refresh one then BadCredentialsException is thrown")
+    public void verify_whenTokenIsRefreshOne_thenBadCredentialsExceptionIsThrown() {
+        String refreshToken = buildToken(
+                signatureKey,
+                KEY_ID,
+                new JWTClaimsSet.Builder()
+                        .claim("username", "username value")
+                        .claim("ati", "access token identifier")
+                        .expirationTime(Date.from(NOW.plusSeconds(60)))
+                        .build()
+        );
+
+        StepVerifier.create(verifier.verify(refreshToken))
+                .expectError(BadCredentialsException.class)
+                .verify();
+    }
+
+
+    private static String buildAccessToken(final RSAKey key,
+                                           final String keyId,
+                                           final Instant expiration) {
+        return buildToken(
+                key,
+                keyId,
+                new JWTClaimsSet.Builder()
+                        .audience(CLIENT_ID)
+                        .claim("username", "username value")
+                        .claim("authorities", List.of("admin", "user"))
+                        .expirationTime(Date.from(expiration))
+                        .build()
+        );
+    }
+
+
+    @SneakyThrows
+    private static String buildToken(final RSAKey key,
+                                     final String keyId,
+                                     final JWTClaimsSet claims) {
+        SignedJWT signedJwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256)
+                        .keyID(keyId)
+                        .build(),
+                claims
+        );
+        signedJwt.sign(
+                new RSASSASigner(key)
+        );
+        return signedJwt.serialize();
+    }
+
+}
@@ -13,7 +13,12 @@ import org.springframework.kafka.support.SendResult;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static com.spring6microservices.common.core.util.ExceptionUtil.getFormattedCurrentAndRootError;
 import static java.lang.String.format;
@@ -23,6 +28,8 @@ import static java.lang.String.format;
 @Log4j2
 public class JmsProducerConfiguration {
 
+    public static final String JMS_SEND_EXECUTOR = "jmsSendExecutor";
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String servers;
 
@@ -38,6 +45,51 @@ public class JmsProducerConfiguration {
     @Value("${spring.kafka.producer.reconnect-backoff-ms}")
     private String reconnectBackoffMs;
 
+    @Value("${spring.kafka.producer.send-pool-size}")
+    private int sendPoolSize;
+
+    @Value("${spring.kafka.producer.send-queue-capacity}")
+    private int sendQueueCapacity;
+
+
+    /**
+     *    Bounded {@link ExecutorService} used to send the messages, so the requests do not wait for Kafka: its
+     * {@link KafkaTemplate#send(String, Object)} blocks until the metadata of the topic is available, what could take
+     * up to {@code max.block.ms} when the broker is down. When its threads and queue are full, the new messages are sent
+     * by the thread that provides them, slowing it down instead of discarding any message.
+     *
+     * @return {@link ExecutorService}
+     */
+    @Bean(
+            name = JMS_SEND_EXECUTOR,
+            destroyMethod = "shutdown"
+    )
+    public ExecutorService jmsSendExecutor() {
+        return new ThreadPoolExecutor(
+                sendPoolSize,
+                sendPoolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(sendQueueCapacity),
+                Thread.ofPlatform().name("jms-send-", 0).daemon().factory(),
+                runInCallerThread()
+        );
+    }
+
+
+    /**
+     *    Returns a {@link RejectedExecutionHandler} that runs the rejected message sending in the thread that provided
+     * it, even if the executor was shut down, so no message is lost.
+     *
+     * @return {@link RejectedExecutionHandler}
+     */
+    private static RejectedExecutionHandler runInCallerThread() {
+        return (task, executor) -> {
+            log.warn("The executor of the messages to send is full, so the current thread will send it");
+            task.run();
+        };
+    }
+
 
     /**
      * Configuration of the factory used to work with {@link KafkaTemplate},
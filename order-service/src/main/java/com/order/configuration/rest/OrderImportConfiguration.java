@@ -0,0 +1,17 @@
+package com.order.configuration.rest;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class OrderImportConfiguration {
+
+    @Value("${rest.order.import.batch-size}")
+    private int batchSize;
+
+    @Value("${rest.order.import.max-line-length}")
+    private int maxLineLength;
+
+}
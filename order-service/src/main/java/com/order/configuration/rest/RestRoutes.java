@@ -9,6 +9,7 @@ public final class RestRoutes {
 
     public static final class ORDER {
         public static final String ROOT = RestRoutes.ROOT;
+        public static final String BULK = "/bulk";
         public static final String BY_CODE = "/code";
         public static final String BY_ID = "/id";
     }
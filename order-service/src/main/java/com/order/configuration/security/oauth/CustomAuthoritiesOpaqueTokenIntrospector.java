@@ -2,46 +2,156 @@ package com.order.configuration.security.oauth;
 
 import com.order.configuration.Constants;
 import com.spring6microservices.common.core.util.CollectionUtil;
+import com.spring6microservices.common.spring.cache.ExpiringLruMap;
+import com.spring6microservices.common.spring.enums.HashAlgorithm;
+import com.spring6microservices.common.spring.util.HashUtil;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Lazy;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.http.client.support.BasicAuthenticationInterceptor;
 import org.springframework.security.core.AuthenticatedPrincipal;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.core.DefaultOAuth2AuthenticatedPrincipal;
 import org.springframework.security.oauth2.core.OAuth2AuthenticatedPrincipal;
+import org.springframework.security.oauth2.core.OAuth2TokenIntrospectionClaimNames;
+import org.springframework.security.oauth2.server.resource.introspection.OAuth2IntrospectionException;
 import org.springframework.security.oauth2.server.resource.introspection.OpaqueTokenIntrospector;
 import org.springframework.security.oauth2.server.resource.introspection.SpringOpaqueTokenIntrospector;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestOperations;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Custom class to manage the {@link AuthenticatedPrincipal} and the {@link List} of {@link GrantedAuthority} included.
+ * <p>
+ *    To avoid asking the authorization server for every received request:
+ * <ul>
+ *   <li>It uses a shared {@link HttpClient}, which keeps alive and reuses the connections.</li>
+ *   <li>
+ *      The introspected {@link OAuth2AuthenticatedPrincipal}s are stored in a local and bounded cache, using a digest
+ *      of the token as key, until the token expires or {@link OauthAuthorizationConfiguration#getCacheExpireInSeconds()},
+ *      whichever comes first.
+ *   </li>
+ *   <li>Concurrent introspections of the same not stored token share the same request to the authorization server.</li>
+ * </ul>
  */
 @Component
 public class CustomAuthoritiesOpaqueTokenIntrospector implements OpaqueTokenIntrospector {
 
+    private final OauthAuthorizationConfiguration oauthAuthorizationConfiguration;
+
     private final OpaqueTokenIntrospector delegate;
 
+    private final Clock clock;
+
+    private final ExpiringLruMap<String, OAuth2AuthenticatedPrincipal> cache;
+
+    private final Map<String, CompletableFuture<OAuth2AuthenticatedPrincipal>> ongoingIntrospections;
+
 
     @Autowired
-    public CustomAuthoritiesOpaqueTokenIntrospector(@Lazy final OauthAuthorizationConfiguration oauthAuthorizationConfiguration) {
-        this.delegate = new SpringOpaqueTokenIntrospector(
-                oauthAuthorizationConfiguration.getAuthorizationServerTokenIntrospectionUri(),
-                createRestOperations(
-                        oauthAuthorizationConfiguration.getAuthorizationServerClientId(),
-                        oauthAuthorizationConfiguration.getAuthorizationServerClientSecret()
-                )
+    public CustomAuthoritiesOpaqueTokenIntrospector(final OauthAuthorizationConfiguration oauthAuthorizationConfiguration) {
+        this(
+                oauthAuthorizationConfiguration,
+                new SpringOpaqueTokenIntrospector(
+                        oauthAuthorizationConfiguration.getAuthorizationServerTokenIntrospectionUri(),
+                        createRestOperations(
+                                oauthAuthorizationConfiguration
+                        )
+                ),
+                Clock.systemUTC()
+        );
+    }
+
+
+    CustomAuthoritiesOpaqueTokenIntrospector(final OauthAuthorizationConfiguration oauthAuthorizationConfiguration,
+                                             final OpaqueTokenIntrospector delegate,
+                                             final Clock clock) {
+        this.oauthAuthorizationConfiguration = oauthAuthorizationConfiguration;
+        this.delegate = delegate;
+        this.clock = clock;
+        this.cache = new ExpiringLruMap<>(
+                oauthAuthorizationConfiguration.getCacheEntryCapacity(),
+                clock
         );
+        this.ongoingIntrospections = new ConcurrentHashMap<>();
     }
 
 
     @Override
     public OAuth2AuthenticatedPrincipal introspect(final String token) {
+        if (!isCacheEnabled() || null == token) {
+            return introspectInAuthorizationServer(
+                    token
+            );
+        }
+        final String key = HashUtil.hashToBase64(
+                token,
+                HashAlgorithm.SHA_256
+        );
+        final OAuth2AuthenticatedPrincipal storedPrincipal = cache.get(key);
+        if (null != storedPrincipal) {
+            return storedPrincipal;
+        }
+        final CompletableFuture<OAuth2AuthenticatedPrincipal> introspection = new CompletableFuture<>();
+        final CompletableFuture<OAuth2AuthenticatedPrincipal> ongoingIntrospection = ongoingIntrospections.putIfAbsent(
+                key,
+                introspection
+        );
+        if (null != ongoingIntrospection) {
+            return waitFor(
+                    ongoingIntrospection
+            );
+        }
+        try {
+            final OAuth2AuthenticatedPrincipal principal = introspectInAuthorizationServer(
+                    token
+            );
+            put(
+                    key,
+                    principal
+            );
+            introspection.complete(
+                    principal
+            );
+            return principal;
+
+        } catch (RuntimeException e) {
+            introspection.completeExceptionally(
+                    e
+            );
+            throw e;
+
+        } finally {
+            ongoingIntrospections.remove(
+                    key,
+                    introspection
+            );
+        }
+    }
+
+
+    /**
+     *    Asks the authorization server about the given {@code token}, adding to the returned {@link OAuth2AuthenticatedPrincipal}
+     * the {@link List} of {@link GrantedAuthority} included.
+     *
+     * @param token
+     *    Token to introspect
+     *
+     * @return {@link OAuth2AuthenticatedPrincipal} related with {@code token}
+     */
+    private OAuth2AuthenticatedPrincipal introspectInAuthorizationServer(final String token) {
         OAuth2AuthenticatedPrincipal principal = this.delegate.introspect(
                 token
         );
@@ -55,6 +165,65 @@ public class CustomAuthoritiesOpaqueTokenIntrospector implements OpaqueTokenIntr
     }
 
 
+    /**
+     * Waits until the given {@code introspection}, started by another thread, finishes.
+     *
+     * @param introspection
+     *    {@link CompletableFuture} with the ongoing introspection
+     *
+     * @return {@link OAuth2AuthenticatedPrincipal} returned by {@code introspection}
+     *
+     * @throws RuntimeException the same one thrown by {@code introspection}
+     */
+    private OAuth2AuthenticatedPrincipal waitFor(final CompletableFuture<OAuth2AuthenticatedPrincipal> introspection) {
+        try {
+            return introspection.join();
+
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new OAuth2IntrospectionException(
+                    e.getMessage(),
+                    e
+            );
+        }
+    }
+
+
+    /**
+     *    Stores the given {@code principal} until its token expires or the configured maximum time, whichever comes
+     * first. If the cache is full, the least recently used entry is removed.
+     *
+     * @param key
+     *    Digest of the introspected token
+     * @param principal
+     *    {@link OAuth2AuthenticatedPrincipal} to store
+     */
+    private void put(final String key,
+                     final OAuth2AuthenticatedPrincipal principal) {
+        final Instant now = clock.instant();
+        Instant expiration = now.plusSeconds(
+                oauthAuthorizationConfiguration.getCacheExpireInSeconds()
+        );
+        if (principal.getAttribute(OAuth2TokenIntrospectionClaimNames.EXP) instanceof Instant tokenExpiration &&
+                tokenExpiration.isBefore(expiration)) {
+            expiration = tokenExpiration;
+        }
+        cache.put(
+                key,
+                principal,
+                expiration
+        );
+    }
+
+
+    private boolean isCacheEnabled() {
+        return 0 < oauthAuthorizationConfiguration.getCacheEntryCapacity() &&
+                0 < oauthAuthorizationConfiguration.getCacheExpireInSeconds();
+    }
+
+
     /**
      * Gets from the given {@link OAuth2AuthenticatedPrincipal} the {@link List} of {@link GrantedAuthority} included.
      *
@@ -75,27 +244,40 @@ public class CustomAuthoritiesOpaqueTokenIntrospector implements OpaqueTokenIntr
 
 
     /**
-     *    Creates a {@link RestOperations} configured internally with Basic Authentication for the given {@code username}
-     * and {@code password}.
+     *    Creates a {@link RestOperations} configured internally with Basic Authentication for the configured client,
+     * sending the requests through a shared {@link HttpClient} which keeps alive and reuses its connections.
      *
-     * @param username
-     *    The username to use
-     * @param password
-     *   The username to use
+     * @param oauthAuthorizationConfiguration
+     *    {@link OauthAuthorizationConfiguration} with the client credentials and timeouts
      *
      * @return {@link RestOperations} that uses Basic Authentication in the requests
      */
-    private RestOperations createRestOperations(final String username,
-                                                final String password) {
-        RestTemplate restTemplate = new RestTemplate();
+    private static RestOperations createRestOperations(final OauthAuthorizationConfiguration oauthAuthorizationConfiguration) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(
+                        Duration.ofMillis(
+                                oauthAuthorizationConfiguration.getConnectTimeoutInMilliseconds()
+                        )
+                )
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(
+                Duration.ofMillis(
+                        oauthAuthorizationConfiguration.getReadTimeoutInMilliseconds()
+                )
+        );
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
         restTemplate.getInterceptors()
                 .add(
                         new BasicAuthenticationInterceptor(
-                                username,
-                                password
+                                oauthAuthorizationConfiguration.getAuthorizationServerClientId(),
+                                oauthAuthorizationConfiguration.getAuthorizationServerClientSecret()
                         )
                 );
         return restTemplate;
     }
 
+
 }
@@ -17,4 +17,16 @@ public class OauthAuthorizationConfiguration {
     @Value("${spring.security.oauth2.authorizationserver.endpoint.client-secret}")
     private String authorizationServerClientSecret;
 
+    @Value("${spring.security.oauth2.authorizationserver.endpoint.connect-timeout-in-milliseconds}")
+    private long connectTimeoutInMilliseconds;
+
+    @Value("${spring.security.oauth2.authorizationserver.endpoint.read-timeout-in-milliseconds}")
+    private long readTimeoutInMilliseconds;
+
+    @Value("${spring.security.oauth2.authorizationserver.endpoint.cache.entry-capacity}")
+    private int cacheEntryCapacity;
+
+    @Value("${spring.security.oauth2.authorizationserver.endpoint.cache.expire-in-seconds}")
+    private int cacheExpireInSeconds;
+
 }
@@ -7,18 +7,23 @@ import com.order.configuration.security.annotation.DeleteOrderPermission;
 import com.order.configuration.security.annotation.GetOrderPermission;
 import com.order.configuration.security.annotation.UpdateOrderPermission;
 import com.order.model.Order;
+import com.order.service.OrderImportService;
 import com.order.service.OrderService;
 import com.order.util.converter.OrderConverter;
 import com.spring6microservices.common.spring.dto.ErrorResponseDto;
 import com.spring6microservices.common.spring.dto.order.OrderDto;
+import com.spring6microservices.common.spring.dto.order.OrderImportResultDto;
 import com.spring6microservices.common.spring.dto.order.OrderLineDto;
 import com.spring6microservices.common.spring.validator.group.CreateAction;
 import com.spring6microservices.common.spring.validator.group.UpdateAction;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import lombok.extern.log4j.Log4j2;
@@ -30,9 +35,12 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+
 import static java.lang.String.format;
 import static org.springframework.http.HttpStatus.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 /**
  * Rest services to work with {@link Order}.
@@ -47,13 +55,17 @@ public class OrderController {
 
     private final OrderConverter converter;
 
+    private final OrderImportService importService;
+
     private final OrderService service;
 
 
     @Autowired
     public OrderController(@Lazy final OrderConverter orderConverter,
+                           @Lazy final OrderImportService orderImportService,
                            @Lazy final OrderService orderService) {
         this.converter = orderConverter;
+        this.importService = orderImportService;
         this.service = orderService;
     }
 
@@ -152,6 +164,83 @@ public class OrderController {
     }
 
 
+    /**
+     *    Creates the {@link Order}s included in the body of the request: newline-delimited JSON with one {@link OrderDto}
+     * by line. The body is read and answered as a stream, so its size is not limited by the available memory.
+     * <p>
+     *    The {@link Order}s are saved in batches, every one in its own transaction, so this method is not transactional:
+     * the {@link Order}s of the batches already saved are kept if a later one fails.
+     *
+     * @param request
+     *    {@link HttpServletRequest} with the newline-delimited {@link OrderDto}s to create
+     * @param response
+     *    {@link HttpServletResponse} where the newline-delimited {@link OrderImportResultDto}s are written, one by
+     *    received {@link OrderDto}, in the same order
+     *
+     * @throws IOException if there was a problem reading the request or writing the response
+     */
+    @Operation(
+            summary = "Creates several orders",
+            description = "Creates the orders included in the newline-delimited JSON body, one by line (only allowed for users with permission: " + Constants.PERMISSIONS.CREATE_ORDER
+    )
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "The request was read, the result of every order is returned by line",
+                            content = @Content(
+                                    mediaType = APPLICATION_NDJSON_VALUE,
+                                    array = @ArraySchema(
+                                            schema = @Schema(
+                                                    implementation = OrderImportResultDto.class
+                                            )
+                                    )
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "The user has not authorization to execute this request or provided authorization has expired",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(
+                                            implementation = ErrorResponseDto.class
+                                    )
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "There was an internal problem in the server",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(
+                                            implementation = ErrorResponseDto.class
+                                    )
+                            )
+                    )
+            }
+    )
+    @PostMapping(
+            value = RestRoutes.ORDER.BULK,
+            consumes = APPLICATION_NDJSON_VALUE,
+            produces = APPLICATION_NDJSON_VALUE
+    )
+    @CreateOrderPermission
+    public void createAll(final HttpServletRequest request,
+                          final HttpServletResponse response) throws IOException {
+        log.info("Creating the orders included in the bulk request");
+        response.setStatus(
+                OK.value()
+        );
+        response.setContentType(
+                APPLICATION_NDJSON_VALUE
+        );
+        importService.importOrders(
+                request.getInputStream(),
+                response.getOutputStream()
+        );
+    }
+
+
     /**
      * Deletes an existing {@link Order} using provided {@link Order#getCode()}}.
      *
@@ -6,6 +6,7 @@ import com.order.model.OrderLine;
 import org.apache.ibatis.annotations.*;
 import org.apache.ibatis.mapping.FetchType;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -24,6 +25,8 @@ public interface OrderLineMapper {
     // Used to know how to manage raw results from database
     String ORDER_LINE_RESULT_MAP_IDENTIFIER = "OrderLineResultMap";
     String ORDER_LINE_RESULT_MAP_METHOD = "com.order.mapper.OrderLineMapper.findByOrderId";
+    String ORDER_LINE_WITH_ORDER_ID_RESULT_MAP_IDENTIFIER = "OrderLineWithOrderIdResultMap";
+    String ORDER_LINE_WITH_ORDER_ID_RESULT_MAP = "com.order.mapper.OrderLineMapper." + ORDER_LINE_WITH_ORDER_ID_RESULT_MAP_IDENTIFIER;
 
 
     @Select("SELECT count(*) "
@@ -104,6 +107,46 @@ public interface OrderLineMapper {
     List<OrderLine> findByOrderId(final Integer orderId);
 
 
+    @Select("<script>"
+          + "SELECT * "
+          + "FROM " + TABLE
+          + " WHERE " + ORDER_COLUMN + " IN "
+          + "<foreach item='orderId' collection='orderIds' open='(' separator=',' close=')'>"
+               + "#{orderId}"
+          + "</foreach>"
+          + " ORDER BY " + ORDER_COLUMN + ", " + ID_COLUMN
+          + "</script>"
+    )
+    @Results(
+            id = ORDER_LINE_WITH_ORDER_ID_RESULT_MAP_IDENTIFIER,
+            value = {
+                    @Result(
+                            property = "id",
+                            column = ID_COLUMN,
+                            id = true
+                    ),
+                    @Result(
+                            // Only the identifier of the Order is loaded
+                            property = "order.id",
+                            column = ORDER_COLUMN
+                    ),
+                    @Result(
+                            property = "concept",
+                            column = CONCEPT_COLUMN
+                    ),
+                    @Result(
+                            property = "amount",
+                            column = AMOUNT_COLUMN
+                    ),
+                    @Result(
+                            property = "cost",
+                            column = COST_COLUMN
+                    )
+            }
+    )
+    List<OrderLine> findByOrderIds(@Param("orderIds") final Collection<Integer> orderIds);
+
+
     @Insert("INSERT INTO " + TABLE + " ("
                + ORDER_COLUMN
                + ", " + CONCEPT_COLUMN
@@ -125,6 +168,32 @@ public interface OrderLineMapper {
     int insert(final OrderLine orderLine);
 
 
+    @Insert("<script>"
+          + "INSERT INTO " + TABLE + " ("
+               + ORDER_COLUMN
+               + ", " + CONCEPT_COLUMN
+               + ", " + AMOUNT_COLUMN
+               + ", " + COST_COLUMN
+          + ") "
+          + "VALUES "
+          + "<foreach item='orderLine' collection='orderLines' separator=','>"
+               + "("
+                    + "#{orderLine.order.id} "
+                    + ", #{orderLine.concept} "
+                    + ", #{orderLine.amount} "
+                    + ", #{orderLine.cost} "
+               + ")"
+          + "</foreach>"
+          + "</script>"
+    )
+    @Options(
+            useGeneratedKeys = true,
+            keyColumn = ID_COLUMN,
+            keyProperty = ID_COLUMN
+    )
+    int insertAll(@Param("orderLines") final Collection<OrderLine> orderLines);
+
+
     @Update("UPDATE " + TABLE
           + " SET "
                + CONCEPT_COLUMN + " = #{concept} "
@@ -3,8 +3,8 @@ package com.order.mapper;
 import com.order.configuration.persistence.PersistenceConfiguration;
 import com.order.model.Order;
 import org.apache.ibatis.annotations.*;
-import org.apache.ibatis.mapping.FetchType;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -22,6 +22,15 @@ public interface OrderMapper {
     // Used to know how to manage raw results from database
     String ORDER_RESULT_MAP_IDENTIFIER = "OrderResultMap";
     String ORDER_RESULT_MAP_METHOD = "com.order.mapper.OrderMapper.findById";
+    String ORDER_WITHOUT_ORDER_LINES_RESULT_MAP_IDENTIFIER = "OrderWithoutOrderLinesResultMap";
+
+    // Columns of the OrderLines joined with every Order, using a prefix to distinguish them
+    String ORDER_LINE_COLUMN_PREFIX = "line_";
+    String ORDER_LINE_COLUMNS = "ol." + OrderLineMapper.ID_COLUMN + " AS " + ORDER_LINE_COLUMN_PREFIX + OrderLineMapper.ID_COLUMN
+            + ", ol." + OrderLineMapper.ORDER_COLUMN + " AS " + ORDER_LINE_COLUMN_PREFIX + OrderLineMapper.ORDER_COLUMN
+            + ", ol." + OrderLineMapper.CONCEPT_COLUMN + " AS " + ORDER_LINE_COLUMN_PREFIX + OrderLineMapper.CONCEPT_COLUMN
+            + ", ol." + OrderLineMapper.AMOUNT_COLUMN + " AS " + ORDER_LINE_COLUMN_PREFIX + OrderLineMapper.AMOUNT_COLUMN
+            + ", ol." + OrderLineMapper.COST_COLUMN + " AS " + ORDER_LINE_COLUMN_PREFIX + OrderLineMapper.COST_COLUMN;
 
 
     @Select("SELECT count(*) "
@@ -42,16 +51,23 @@ public interface OrderMapper {
     int deleteByCode(final String code);
 
 
-    @Select("SELECT * "
-          + "FROM " + TABLE
-          + " WHERE " + ID_COLUMN + " = #{id}"
+    @Select("SELECT o." + ID_COLUMN
+               + ", o." + CODE_COLUMN
+               + ", o." + CUSTOMER_CODE_COLUMN
+               + ", o." + CREATED_AT_COLUMN
+               + ", " + ORDER_LINE_COLUMNS + " "
+          + "FROM " + TABLE + " o "
+          + "LEFT JOIN " + OrderLineMapper.TABLE + " ol ON ol." + OrderLineMapper.ORDER_COLUMN + " = o." + ID_COLUMN + " "
+          + "WHERE o." + ID_COLUMN + " = #{id} "
+          + "ORDER BY ol." + OrderLineMapper.ID_COLUMN
     )
     @Results(
             id = ORDER_RESULT_MAP_IDENTIFIER,
             value = {
                     @Result(
                             property = "id",
-                            column = ID_COLUMN
+                            column = ID_COLUMN,
+                            id = true
                     ),
                     @Result(
                             property = "code",
@@ -68,17 +84,14 @@ public interface OrderMapper {
                     @Result(
                             // Variable name in Order to map onto
                             property = "orderLines",
-                            // Column data that should be passed to the method referenced below
-                            column = OrderLineMapper.ID_COLUMN,
                             // The type of the variable referenced above
                             javaType = List.class,
-                            // There could be several OrderLines for each Order
+                            // There could be several OrderLines for each Order, included in the same rows
                             many = @Many(
-                                    // Reference the method in the OrderLineMapper class that will return
-                                    // the orderLines based on the data the column specified above contains
-                                    select = OrderLineMapper.ORDER_LINE_RESULT_MAP_METHOD,
-                                    // Lazy loaded of OrderLine
-                                    fetchType = FetchType.LAZY
+                                    // Reference the result map in the OrderLineMapper class used to build the
+                                    // orderLines with the columns starting with the prefix below
+                                    resultMap = OrderLineMapper.ORDER_LINE_WITH_ORDER_ID_RESULT_MAP,
+                                    columnPrefix = ORDER_LINE_COLUMN_PREFIX
                             )
                     )
             }
@@ -86,14 +99,55 @@ public interface OrderMapper {
     Order findById(Integer id);
 
 
-    @Select("SELECT * "
-          + "FROM " + TABLE
-          + " WHERE " + CODE_COLUMN + " = #{code}"
+    @Select("SELECT o." + ID_COLUMN
+               + ", o." + CODE_COLUMN
+               + ", o." + CUSTOMER_CODE_COLUMN
+               + ", o." + CREATED_AT_COLUMN
+               + ", " + ORDER_LINE_COLUMNS + " "
+          + "FROM " + TABLE + " o "
+          + "LEFT JOIN " + OrderLineMapper.TABLE + " ol ON ol." + OrderLineMapper.ORDER_COLUMN + " = o." + ID_COLUMN + " "
+          + "WHERE o." + CODE_COLUMN + " = #{code} "
+          + "ORDER BY ol." + OrderLineMapper.ID_COLUMN
     )
     @ResultMap(ORDER_RESULT_MAP_IDENTIFIER)
     Order findByCode(final String code);
 
 
+    @Select("<script>"
+          + "SELECT * "
+          + "FROM " + TABLE
+          + " WHERE " + ID_COLUMN + " IN "
+          + "<foreach item='id' collection='ids' open='(' separator=',' close=')'>"
+               + "#{id}"
+          + "</foreach>"
+          + " ORDER BY " + ID_COLUMN
+          + "</script>"
+    )
+    @Results(
+            id = ORDER_WITHOUT_ORDER_LINES_RESULT_MAP_IDENTIFIER,
+            value = {
+                    @Result(
+                            property = "id",
+                            column = ID_COLUMN,
+                            id = true
+                    ),
+                    @Result(
+                            property = "code",
+                            column = CODE_COLUMN
+                    ),
+                    @Result(
+                            property = "customerCode",
+                            column = CUSTOMER_CODE_COLUMN
+                    ),
+                    @Result(
+                            property = "createdAt",
+                            column = CREATED_AT_COLUMN
+                    )
+            }
+    )
+    List<Order> findByIds(@Param("ids") final Collection<Integer> ids);
+
+
     @Insert("INSERT INTO " + TABLE + " ("
                + CODE_COLUMN
                + ", " + CUSTOMER_CODE_COLUMN
@@ -113,6 +167,30 @@ public interface OrderMapper {
     int insert(final Order order);
 
 
+    @Insert("<script>"
+          + "INSERT INTO " + TABLE + " ("
+               + CODE_COLUMN
+               + ", " + CUSTOMER_CODE_COLUMN
+               + ", " + CREATED_AT_COLUMN
+          + ") "
+          + "VALUES "
+          + "<foreach item='order' collection='orders' separator=','>"
+               + "("
+                    + "#{order.code}"
+                    + ", #{order.customerCode} "
+                    + ", #{order.createdAt} "
+               + ")"
+          + "</foreach>"
+          + "</script>"
+    )
+    @Options(
+            useGeneratedKeys = true,
+            keyColumn = ID_COLUMN,
+            keyProperty = ID_COLUMN
+    )
+    int insertAll(@Param("orders") final Collection<Order> orders);
+
+
     @Update("UPDATE " + TABLE
           + " SET "
                + CODE_COLUMN + " = #{code} "
@@ -0,0 +1,521 @@
+package com.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.order.configuration.rest.OrderImportConfiguration;
+import com.order.model.Order;
+import com.order.util.converter.OrderConverter;
+import com.spring6microservices.common.core.util.StringUtil;
+import com.spring6microservices.common.spring.dto.ErrorResponseDto;
+import com.spring6microservices.common.spring.dto.order.OrderDto;
+import com.spring6microservices.common.spring.dto.order.OrderImportResultDto;
+import com.spring6microservices.common.spring.validator.group.CreateAction;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.spring6microservices.common.core.util.ExceptionUtil.getFormattedCurrentAndRootError;
+import static com.spring6microservices.common.spring.enums.RestApiErrorCode.INTERNAL;
+import static com.spring6microservices.common.spring.enums.RestApiErrorCode.VALIDATION;
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+
+/**
+ *    Imports the {@link Order}s received as newline-delimited JSON (one {@link OrderDto} per line), reading, validating
+ * and saving them incrementally, so the memory used does not depend on the size of the request.
+ * <p>
+ *    Every {@link OrderImportConfiguration#getBatchSize()} lines, the valid {@link OrderDto}s are saved in their own
+ * transaction and the {@link OrderImportResultDto} of every line is written, also as newline-delimited JSON. If
+ * a batch cannot be saved, its {@link Order}s are saved again one by one, each in its own transaction, so only the
+ * failed ones are reported, with their own error.
+ * <p>
+ *    The lines longer than {@link OrderImportConfiguration#getMaxLineLength()} characters are reported as failed,
+ * without keeping them in memory.
+ */
+@Log4j2
+@Service
+public class OrderImportService {
+
+    private static final byte[] LINE_SEPARATOR = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private final OrderImportConfiguration importConfiguration;
+
+    private final OrderConverter converter;
+
+    private final ObjectMapper objectMapper;
+
+    private final OrderService orderService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Validator validator;
+
+
+    @Autowired
+    public OrderImportService(@Lazy final OrderImportConfiguration importConfiguration,
+                              @Lazy final OrderConverter converter,
+                              @Lazy final ObjectMapper objectMapper,
+                              @Lazy final OrderService orderService,
+                              @Lazy final PlatformTransactionManager transactionManager,
+                              @Lazy final Validator validator) {
+        this.importConfiguration = importConfiguration;
+        this.converter = converter;
+        this.objectMapper = objectMapper;
+        this.orderService = orderService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+    }
+
+
+    /**
+     *    Reads every {@link OrderDto} included in {@code input}, one by line, saving the valid ones and writing in
+     * {@code output} the {@link OrderImportResultDto} of every non-blank line, in the same order.
+     *
+     * @param input
+     *    {@link InputStream} with the newline-delimited {@link OrderDto}s to import
+     * @param output
+     *    {@link OutputStream} where the newline-delimited {@link OrderImportResultDto}s are written
+     *
+     * @return number of saved {@link Order}s
+     *
+     * @throws IOException if there was a problem reading {@code input} or writing in {@code output}
+     */
+    public long importOrders(final InputStream input,
+                             final OutputStream output) throws IOException {
+        final BufferedReader reader = new BufferedReader(
+                new InputStreamReader(
+                        input,
+                        StandardCharsets.UTF_8
+                )
+        );
+        final int maxLineLength = importConfiguration.getMaxLineLength();
+        final List<ImportEntry> batch = new ArrayList<>();
+        long lineNumber = 0;
+        long savedOrders = 0;
+        ReadLine line;
+        while (null != (line = readLine(reader, maxLineLength))) {
+            lineNumber++;
+            if (line.isTooLong()) {
+                batch.add(
+                        new ImportEntry(
+                                lineNumber,
+                                null,
+                                new ErrorResponseDto(
+                                        VALIDATION,
+                                        List.of(
+                                                format("The line exceeds the maximum length of %d characters",
+                                                        maxLineLength
+                                                )
+                                        )
+                                )
+                        )
+                );
+            }
+            else if (StringUtil.isBlank(line.content())) {
+                continue;
+            }
+            else {
+                batch.add(
+                        read(
+                                lineNumber,
+                                line.content()
+                        )
+                );
+            }
+            if (batch.size() >= importConfiguration.getBatchSize()) {
+                savedOrders += saveAndWrite(
+                        batch,
+                        output
+                );
+                batch.clear();
+            }
+        }
+        savedOrders += saveAndWrite(
+                batch,
+                output
+        );
+        log.info(
+                format("Imported %d orders from %d lines",
+                        savedOrders,
+                        lineNumber
+                )
+        );
+        return savedOrders;
+    }
+
+
+    /**
+     *    Reads the next line of {@code reader}, ended by {@code \n} or {@code \r\n}. If it is longer than
+     * {@code maxLineLength} characters, the rest of the line is skipped instead of keeping it.
+     *
+     * @param reader
+     *    {@link BufferedReader} to read
+     * @param maxLineLength
+     *    Maximum number of characters of the line
+     *
+     * @return {@link ReadLine} with the content of the line, or marked as too long,
+     *         {@code null} if the end of {@code reader} was reached
+     *
+     * @throws IOException if there was a problem reading {@code reader}
+     */
+    private static ReadLine readLine(final BufferedReader reader,
+                                     final int maxLineLength) throws IOException {
+        final StringBuilder content = new StringBuilder();
+        boolean tooLong = false;
+        int character = reader.read();
+        if (-1 == character) {
+            return null;
+        }
+        while (-1 != character && '\n' != character) {
+            // One more character is kept, because it could be the \r of a \r\n line separator
+            if (content.length() <= maxLineLength) {
+                content.append((char) character);
+            }
+            else {
+                tooLong = true;
+            }
+            character = reader.read();
+        }
+        final int length = content.length();
+        if (0 < length && '\r' == content.charAt(length - 1)) {
+            content.setLength(length - 1);
+        }
+        tooLong |= content.length() > maxLineLength;
+        return new ReadLine(
+                tooLong
+                        ? null
+                        : content.toString(),
+                tooLong
+        );
+    }
+
+
+    /**
+     * Parses and validates the {@link OrderDto} included in the given {@code line}.
+     *
+     * @param lineNumber
+     *    Position of {@code line} in the request, starting from 1
+     * @param line
+     *    JSON with the {@link OrderDto}
+     *
+     * @return {@link ImportEntry} with the {@link OrderDto} and, if it is not valid, why
+     */
+    private ImportEntry read(final long lineNumber,
+                             final String line) {
+        final OrderDto dto;
+        try {
+            dto = objectMapper.readValue(
+                    line,
+                    OrderDto.class
+            );
+        } catch (JsonProcessingException e) {
+            return new ImportEntry(
+                    lineNumber,
+                    null,
+                    new ErrorResponseDto(
+                            VALIDATION,
+                            List.of(
+                                    format("The line could not be read as an order: %s",
+                                            e.getOriginalMessage()
+                                    )
+                            )
+                    )
+            );
+        }
+        if (null == dto) {
+            return new ImportEntry(
+                    lineNumber,
+                    null,
+                    new ErrorResponseDto(
+                            VALIDATION,
+                            List.of("The line does not contain an order")
+                    )
+            );
+        }
+        final Set<ConstraintViolation<OrderDto>> violations = validator.validate(
+                dto,
+                CreateAction.class
+        );
+        return new ImportEntry(
+                lineNumber,
+                dto,
+                violations.isEmpty()
+                        ? null
+                        : new ErrorResponseDto(
+                                VALIDATION,
+                                violations.stream()
+                                        .map(cv ->
+                                                format("Field error in object: orderDto on field: %s due to: %s",
+                                                        cv.getPropertyPath(),
+                                                        cv.getMessage()
+                                                )
+                                        )
+                                        .sorted()
+                                        .collect(
+                                                toList()
+                                        )
+                          )
+        );
+    }
+
+
+    /**
+     *    Saves in the same transaction the valid {@link OrderDto}s of {@code batch}, writing in {@code output} the
+     * {@link OrderImportResultDto} of all of them.
+     *
+     * @param batch
+     *    {@link List} of {@link ImportEntry} to save
+     * @param output
+     *    {@link OutputStream} where the {@link OrderImportResultDto}s are written
+     *
+     * @return number of saved {@link Order}s
+     *
+     * @throws IOException if there was a problem writing in {@code output}
+     */
+    private long saveAndWrite(final List<ImportEntry> batch,
+                              final OutputStream output) throws IOException {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        final List<SaveResult> saveResults = save(
+                batch.stream()
+                        .filter(ImportEntry::isValid)
+                        .collect(
+                                toList()
+                        )
+        );
+        long savedOrders = 0;
+        int validIndex = 0;
+        for (ImportEntry entry : batch) {
+            OrderImportResultDto result = OrderImportResultDto.builder()
+                    .lineNumber(entry.lineNumber())
+                    .code(
+                            null == entry.dto()
+                                    ? null
+                                    : entry.dto().getCode()
+                    )
+                    .error(entry.error())
+                    .build();
+
+            if (entry.isValid()) {
+                SaveResult saveResult = saveResults.get(validIndex);
+                result.setId(saveResult.id());
+                result.setError(saveResult.error());
+                if (null == saveResult.error()) {
+                    savedOrders++;
+                }
+                validIndex++;
+            }
+            output.write(
+                    objectMapper.writeValueAsBytes(
+                            result
+                    )
+            );
+            output.write(
+                    LINE_SEPARATOR
+            );
+        }
+        output.flush();
+        return savedOrders;
+    }
+
+
+    /**
+     *    Saves in the same transaction the {@link OrderDto}s of the given {@code validEntries}. If it is not possible
+     * because some of them do not match the restrictions of the stored ones ({@link DataIntegrityViolationException}),
+     * they are saved again one by one, each in its own transaction, so a wrong one does not prevent storing the rest.
+     * With any other error, like an unavailable database, all of them are reported as failed without retrying them.
+     *
+     * @param validEntries
+     *    {@link List} of valid {@link ImportEntry} to save
+     *
+     * @return {@link List} with the {@link SaveResult} of every {@link ImportEntry}, in the same order
+     */
+    private List<SaveResult> save(final List<ImportEntry> validEntries) {
+        if (validEntries.isEmpty()) {
+            return List.of();
+        }
+        final List<Order> orders = validEntries.stream()
+                .map(ie ->
+                        converter.fromDtoToModel(
+                                ie.dto()
+                        )
+                )
+                .collect(
+                        toList()
+                );
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    orderService.saveAll(
+                            orders
+                    )
+            );
+            return orders.stream()
+                    .map(o ->
+                            new SaveResult(
+                                    o.getId(),
+                                    null
+                            )
+                    )
+                    .collect(
+                            toList()
+                    );
+
+        } catch (DataIntegrityViolationException e) {
+            log.warn(
+                    format("There was an error saving the orders of the lines from %d to %d, they will be saved one by one. %s",
+                            validEntries.getFirst().lineNumber(),
+                            validEntries.getLast().lineNumber(),
+                            getFormattedCurrentAndRootError(
+                                    e
+                            )
+                    )
+            );
+            if (1 == validEntries.size()) {
+                return List.of(
+                        new SaveResult(
+                                null,
+                                getSaveError(e)
+                        )
+                );
+            }
+
+        } catch (RuntimeException e) {
+            log.error(
+                    format("There was an error saving the orders of the lines from %d to %d. %s",
+                            validEntries.getFirst().lineNumber(),
+                            validEntries.getLast().lineNumber(),
+                            getFormattedCurrentAndRootError(
+                                    e
+                            )
+                    ),
+                    e
+            );
+            final SaveResult failedResult = new SaveResult(
+                    null,
+                    getSaveError(e)
+            );
+            return validEntries.stream()
+                    .map(ie ->
+                            failedResult
+                    )
+                    .collect(
+                            toList()
+                    );
+        }
+        return validEntries.stream()
+                .map(this::saveOne)
+                .collect(
+                        toList()
+                );
+    }
+
+
+    /**
+     *    Saves in its own transaction the {@link OrderDto} of the given {@code entry}, converting it again, because the
+     * {@link Order} of a rolled back transaction could keep the identifiers assigned inside it.
+     *
+     * @param entry
+     *    Valid {@link ImportEntry} to save
+     *
+     * @return {@link SaveResult} with the identifier of the saved {@link Order} or why it could not be saved
+     */
+    private SaveResult saveOne(final ImportEntry entry) {
+        final Order order = converter.fromDtoToModel(
+                entry.dto()
+        );
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    orderService.saveAll(
+                            List.of(order)
+                    )
+            );
+            return new SaveResult(
+                    order.getId(),
+                    null
+            );
+
+        } catch (RuntimeException e) {
+            log.error(
+                    format("There was an error saving the order of the line %d. %s",
+                            entry.lineNumber(),
+                            getFormattedCurrentAndRootError(
+                                    e
+                            )
+                    ),
+                    e
+            );
+            return new SaveResult(
+                    null,
+                    getSaveError(e)
+            );
+        }
+    }
+
+
+    /**
+     * Returns the {@link ErrorResponseDto} to report when an {@link Order} could not be saved due to the given exception.
+     *
+     * @param exception
+     *    {@link RuntimeException} thrown saving the {@link Order}
+     *
+     * @return {@link ErrorResponseDto} with why the {@link Order} was not saved
+     */
+    private static ErrorResponseDto getSaveError(final RuntimeException exception) {
+        return exception instanceof DataIntegrityViolationException
+                ? new ErrorResponseDto(
+                        VALIDATION,
+                        List.of("The order does not match the restrictions of the stored ones, like a unique code")
+                  )
+                : new ErrorResponseDto(
+                        INTERNAL,
+                        List.of("The order could not be saved")
+                  );
+    }
+
+
+    /**
+     * Read line of the request, with its {@link OrderDto} if it could be parsed and, if it is not valid, why.
+     */
+    private record ImportEntry(long lineNumber,
+                               OrderDto dto,
+                               ErrorResponseDto error) {
+
+        boolean isValid() {
+            return null == error;
+        }
+    }
+
+
+    /**
+     * Line of the request, without its content if it is longer than {@link OrderImportConfiguration#getMaxLineLength()}.
+     */
+    private record ReadLine(String content,
+                            boolean isTooLong) {
+    }
+
+
+    /**
+     * Result of saving one {@link Order}: its identifier if it was saved or, otherwise, why.
+     */
+    private record SaveResult(Integer id,
+                              ErrorResponseDto error) {
+    }
+
+}
@@ -2,6 +2,7 @@ package com.order.service;
 
 import com.order.mapper.OrderLineMapper;
 import com.order.model.OrderLine;
+import com.spring6microservices.common.core.util.CollectionUtil;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
@@ -10,16 +11,22 @@ import org.springframework.stereotype.Service;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.partitioningBy;
 import static java.util.stream.Collectors.toList;
 
 @Log4j2
 @Service
 public class OrderLineService {
 
+    // Maximum number of rows included in every insert statement
+    static final int INSERT_BATCH_SIZE = 500;
+
     private final OrderLineMapper mapper;
 
 
@@ -124,6 +131,25 @@ public class OrderLineService {
     }
 
 
+    /**
+     *    Returns the {@link OrderLine}s belonging to any of the given {@code orderIds}, using only one query. Their
+     * {@link OrderLine#getOrder()} only contains its identifier.
+     *
+     * @param orderIds
+     *    {@link OrderLine#getOrder()}'s identifiers to search
+     *
+     * @return {@link List} of {@link OrderLine} related with provided {@code orderIds}
+     */
+    public List<OrderLine> findByOrderIds(final Collection<Integer> orderIds) {
+        if (CollectionUtil.isEmpty(orderIds)) {
+            return new ArrayList<>();
+        }
+        return mapper.findByOrderIds(
+                orderIds
+        );
+    }
+
+
     /**
      *    Persists the information included in the given {@link OrderLine}, inserting if it is new or updating
      * when the {@code orderLine} exists.
@@ -165,6 +191,9 @@ public class OrderLineService {
     /**
      *    Persists the information included in the given {@link Collection} of {@link OrderLine}s, inserting the new
      * and updating the existing ones.
+     * <p>
+     *    The new {@link OrderLine}s are inserted using multi-row statements of up to {@link #INSERT_BATCH_SIZE} rows,
+     * assigning to every one its generated {@link OrderLine#getId()}.
      *
      * @param orderLines
      *    {@link Collection} of {@link OrderLine}s to save
@@ -172,17 +201,34 @@ public class OrderLineService {
      * @return {@link List} with the updated {@link OrderLine}s
      */
     public List<OrderLine> saveAll(final Collection<OrderLine> orderLines) {
-        return ofNullable(orderLines)
-                .map(olines ->
-                        olines.stream()
-                                .map(this::save)
-                                .filter(Optional::isPresent)
-                                .map(Optional::get)
-                                .collect(
-                                        toList()
-                                )
+        if (CollectionUtil.isEmpty(orderLines)) {
+            return new ArrayList<>();
+        }
+        final List<OrderLine> orderLinesToSave = orderLines.stream()
+                .filter(Objects::nonNull)
+                .collect(
+                        toList()
+                );
+        final Map<Boolean, List<OrderLine>> orderLinesByIsNew = orderLinesToSave.stream()
+                .collect(
+                        partitioningBy(OrderLine::isNew)
+                );
+        log.info(
+                format("Saving %d new and updating %d existing orderLines",
+                        orderLinesByIsNew.get(true).size(),
+                        orderLinesByIsNew.get(false).size()
                 )
-                .orElseGet(ArrayList::new);
+        );
+        CollectionUtil.split(
+                orderLinesByIsNew.get(true),
+                INSERT_BATCH_SIZE
+        )
+        .forEach(mapper::insertAll);
+
+        orderLinesByIsNew.get(false)
+                .forEach(mapper::update);
+
+        return orderLinesToSave;
     }
 
 }
@@ -2,40 +2,57 @@ package com.order.service;
 
 import com.order.mapper.OrderMapper;
 import com.order.model.Order;
+import com.order.model.OrderLine;
+import com.spring6microservices.common.core.util.CollectionUtil;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+import static com.order.configuration.jms.JmsProducerConfiguration.JMS_SEND_EXECUTOR;
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.partitioningBy;
 import static java.util.stream.Collectors.toList;
 
 @Log4j2
 @Service
 public class OrderService {
 
+    // Maximum number of rows included in every insert statement
+    static final int INSERT_BATCH_SIZE = 500;
+
     private final OrderMapper mapper;
 
     private final OrderLineService orderLineService;
 
     private final JmsService jmsService;
 
+    private final Executor jmsSendExecutor;
+
 
     @Autowired
     public OrderService(@Lazy final OrderMapper mapper,
                         @Lazy final OrderLineService orderLineService,
-                        @Lazy final JmsService jmsService) {
+                        @Lazy final JmsService jmsService,
+                        @Lazy @Qualifier(JMS_SEND_EXECUTOR) final Executor jmsSendExecutor) {
         this.mapper = mapper;
         this.orderLineService = orderLineService;
         this.jmsService = jmsService;
+        this.jmsSendExecutor = jmsSendExecutor;
     }
 
 
@@ -126,6 +143,51 @@ public class OrderService {
     }
 
 
+    /**
+     *    Returns the {@link Order}s which {@link Order#getId()} is included in {@code ids}, with their
+     * {@link Order#getOrderLines()}. Only two queries are executed: one for the {@link Order}s and another one for
+     * all their {@link OrderLine}s.
+     *
+     * @param ids
+     *    {@link Order#getId()}s to find
+     *
+     * @return {@link List} of {@link Order}s which identifiers match with the given ones, ordered by them
+     */
+    public List<Order> findByIds(final Collection<Integer> ids) {
+        if (CollectionUtil.isEmpty(ids)) {
+            return new ArrayList<>();
+        }
+        final List<Order> orders = mapper.findByIds(
+                ids
+        );
+        if (orders.isEmpty()) {
+            return orders;
+        }
+        final Map<Integer, Order> ordersById = new HashMap<>();
+        orders.forEach(o -> {
+            o.setOrderLines(
+                    new ArrayList<>()
+            );
+            ordersById.put(
+                    o.getId(),
+                    o
+            );
+        });
+        orderLineService.findByOrderIds(ordersById.keySet())
+                .forEach(ol -> {
+                    final Order order = ordersById.get(
+                            ol.getOrder().getId()
+                    );
+                    ol.setOrder(
+                            order
+                    );
+                    order.getOrderLines()
+                            .add(ol);
+                });
+        return orders;
+    }
+
+
     /**
      *    Persists the information included in the given {@link Order}, inserting if it is new or updating
      * when the {@code order} exists. This method will also save the {@link Order#getOrderLines()} related
@@ -152,8 +214,8 @@ public class OrderService {
                         mapper.insert(
                                 o
                         );
-                        CompletableFuture.runAsync(() ->
-                            jmsService.send(o)
+                        sendAfterCommit(
+                                List.of(o)
                         );
                     }
                     else {
@@ -176,7 +238,12 @@ public class OrderService {
 
     /**
      *    Persists the information included in the given {@link Collection} of {@link Order}s, inserting the new
-     * and updating the existing ones.
+     * and updating the existing ones. This method will also save the {@link Order#getOrderLines()} related with
+     * the given {@code orders}.
+     * <p>
+     *    The new {@link Order}s are inserted using multi-row statements of up to {@link #INSERT_BATCH_SIZE} rows,
+     * assigning to every one its generated {@link Order#getId()}, and all the {@link OrderLine}s are saved at once
+     * by {@link OrderLineService#saveAll(Collection)}.
      *
      * @param orders
      *    {@link Collection} of {@link Order}s to save
@@ -184,17 +251,108 @@ public class OrderService {
      * @return {@link List} with the updated {@link Order}s
      */
     public List<Order> saveAll(final Collection<Order> orders) {
-        return ofNullable(orders)
-                .map(o ->
-                        o.stream()
-                                .map(this::save)
-                                .filter(Optional::isPresent)
-                                .map(Optional::get)
-                                .collect(
-                                        toList()
-                                )
+        if (CollectionUtil.isEmpty(orders)) {
+            return new ArrayList<>();
+        }
+        final List<Order> ordersToSave = orders.stream()
+                .filter(Objects::nonNull)
+                .collect(
+                        toList()
+                );
+        final Map<Boolean, List<Order>> ordersByIsNew = ordersToSave.stream()
+                .collect(
+                        partitioningBy(Order::isNew)
+                );
+        log.info(
+                format("Saving %d new and updating %d existing orders",
+                        ordersByIsNew.get(true).size(),
+                        ordersByIsNew.get(false).size()
                 )
-                .orElseGet(ArrayList::new);
+        );
+        final LocalDateTime now = LocalDateTime.now();
+        ordersByIsNew.get(true)
+                .forEach(o ->
+                        o.setCreatedAt(
+                                now
+                        )
+                );
+        CollectionUtil.split(
+                ordersByIsNew.get(true),
+                INSERT_BATCH_SIZE
+        )
+        .forEach(mapper::insertAll);
+
+        ordersByIsNew.get(false)
+                .forEach(mapper::update);
+
+        final List<OrderLine> orderLines = new ArrayList<>();
+        ordersToSave.forEach(o -> {
+            if (null != o.getOrderLines()) {
+                o.getOrderLines()
+                        .stream()
+                        .filter(Objects::nonNull)
+                        .forEach(ol -> {
+                            ol.setOrder(
+                                    o
+                            );
+                            orderLines.add(
+                                    ol
+                            );
+                        });
+            }
+        });
+        orderLineService.saveAll(
+                orderLines
+        );
+        sendAfterCommit(
+                ordersByIsNew.get(true)
+        );
+        return ordersToSave;
+    }
+
+
+    /**
+     *    Sends the JMS related with every given new {@link Order} once the current transaction is committed, so nothing
+     * is sent for the rolled back ones, neither twice if they are saved again later. Without transaction, they are sent
+     * right now.
+     * <p>
+     *    Every {@link JmsService#send(Order)} is executed by {@link OrderService#jmsSendExecutor}, so the current request
+     * does not wait for Kafka, even when it is not available. If that bounded executor is full, the JMS is sent by the
+     * current thread, so it is never discarded.
+     *
+     * @param newOrders
+     *    {@link List} of inserted {@link Order}s
+     */
+    private void sendAfterCommit(final List<Order> newOrders) {
+        if (newOrders.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            newOrders.forEach(OrderService.this::sendAsync);
+                        }
+                    }
+            );
+        }
+        else {
+            newOrders.forEach(this::sendAsync);
+        }
+    }
+
+
+    /**
+     * Sends the JMS related with the given {@link Order} using {@link OrderService#jmsSendExecutor}.
+     *
+     * @param order
+     *    Inserted {@link Order}
+     */
+    private void sendAsync(final Order order) {
+        jmsSendExecutor.execute(() ->
+                jmsService.send(order)
+        );
     }
 
 }
@@ -0,0 +1,87 @@
+package com.order.configuration.jms;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JmsProducerConfigurationTest {
+
+    private ExecutorService executor;
+
+
+    @BeforeEach
+    public void init() {
+        JmsProducerConfiguration configuration = new JmsProducerConfiguration();
+        ReflectionTestUtils.setField(configuration, "sendPoolSize", 1);
+        ReflectionTestUtils.setField(configuration, "sendQueueCapacity", 1);
+        executor = configuration.jmsSendExecutor();
+    }
+
+
+    @AfterEach
+    public void dispose() {
+        executor.shutdownNow();
+    }
+
+
+    @Test
+    @DisplayName("jmsSendExecutor: when its threads and queue are full then the new task is run by the current thread")
+    public void jmsSendExecutor_whenItsThreadsAndQueueAreFull_thenNewTaskIsRunByCurrentThread() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        executor.execute(() -> {});
+
+        AtomicReference<Thread> sendingThread = new AtomicReference<>();
+        executor.execute(() ->
+                sendingThread.set(Thread.currentThread())
+        );
+
+        assertSame(
+                Thread.currentThread(),
+                sendingThread.get()
+        );
+        release.countDown();
+    }
+
+
+    @Test
+    @DisplayName("jmsSendExecutor: when it was shut down then the new task is run by the current thread")
+    public void jmsSendExecutor_whenItWasShutDown_thenNewTaskIsRunByCurrentThread() {
+        executor.shutdown();
+
+        AtomicReference<Thread> sendingThread = new AtomicReference<>();
+        executor.execute(() ->
+                sendingThread.set(Thread.currentThread())
+        );
+
+        assertSame(
+                Thread.currentThread(),
+                sendingThread.get()
+        );
+    }
+
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,229 @@
+package com.order.configuration.security.oauth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.core.DefaultOAuth2AuthenticatedPrincipal;
+import org.springframework.security.oauth2.core.OAuth2AuthenticatedPrincipal;
+import org.springframework.security.oauth2.core.OAuth2TokenIntrospectionClaimNames;
+import org.springframework.security.oauth2.server.resource.introspection.BadOpaqueTokenException;
+import org.springframework.security.oauth2.server.resource.introspection.OpaqueTokenIntrospector;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class CustomAuthoritiesOpaqueTokenIntrospectorTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    @Mock
+    private OauthAuthorizationConfiguration mockOauthAuthorizationConfiguration;
+
+    @Mock
+    private OpaqueTokenIntrospector mockDelegate;
+
+    @Mock
+    private Clock mockClock;
+
+    private CustomAuthoritiesOpaqueTokenIntrospector introspector;
+
+
+    @BeforeEach
+    public void init() {
+        when(mockOauthAuthorizationConfiguration.getCacheEntryCapacity())
+                .thenReturn(2);
+        when(mockOauthAuthorizationConfiguration.getCacheExpireInSeconds())
+                .thenReturn(60);
+        when(mockClock.instant())
+                .thenReturn(NOW);
+
+        introspector = new CustomAuthoritiesOpaqueTokenIntrospector(
+                mockOauthAuthorizationConfiguration,
+                mockDelegate,
+                mockClock
+        );
+    }
+
+
+    @Test
+    @DisplayName("introspect: when the token is valid then its principal with the included authorities is returned")
+    public void introspect_whenTokenIsValid_thenItsPrincipalWithIncludedAuthoritiesIsReturned() {
+        when(mockDelegate.introspect("token"))
+                .thenReturn(buildPrincipal(NOW.plusSeconds(300)));
+
+        OAuth2AuthenticatedPrincipal result = introspector.introspect("token");
+
+        assertEquals("username value", result.getName());
+        assertEquals(
+                List.of(new SimpleGrantedAuthority("admin"), new SimpleGrantedAuthority("user")),
+                List.copyOf(result.getAuthorities())
+        );
+    }
+
+
+    @Test
+    @DisplayName("introspect: when the cache is disabled then the authorization server is always invoked")
+    public void introspect_whenCacheIsDisabled_thenAuthorizationServerIsAlwaysInvoked() {
+        when(mockOauthAuthorizationConfiguration.getCacheEntryCapacity())
+                .thenReturn(0);
+        when(mockDelegate.introspect("token"))
+                .thenReturn(buildPrincipal(NOW.plusSeconds(300)));
+
+        introspector.introspect("token");
+        introspector.introspect("token");
+
+        verify(mockDelegate, times(2))
+                .introspect("token");
+    }
+
+
+    @Test
+    @DisplayName("introspect: when the token was stored then the authorization server is not invoked until the configured time passes")
+    public void introspect_whenTokenWasStored_thenAuthorizationServerIsNotInvokedUntilConfiguredTimePasses() {
+        when(mockDelegate.introspect("token"))
+                .thenReturn(buildPrincipal(NOW.plusSeconds(300)));
+
+        OAuth2AuthenticatedPrincipal first = introspector.introspect("token");
+        assertEquals(first, introspector.introspect("token"));
+        verify(mockDelegate, times(1))
+                .introspect("token");
+
+        when(mockClock.instant())
+                .thenReturn(NOW.plusSeconds(60));
+
+        introspector.introspect("token");
+        verify(mockDelegate, times(2))
+                .introspect("token");
+    }
+
+
+    @Test
+    @DisplayName("introspect: when the token expires before the configured time then its entry expires with the token")
+    public void introspect_whenTokenExpiresBeforeConfiguredTime_thenItsEntryExpiresWithTheToken() {
+        when(mockDelegate.introspect("token"))
+                .thenReturn(buildPrincipal(NOW.plusSeconds(10)));
+
+        introspector.introspect("token");
+
+        when(mockClock.instant())
+                .thenReturn(NOW.plusSeconds(9));
+        introspector.introspect("token");
+        verify(mockDelegate, times(1))
+                .introspect("token");
+
+        when(mockClock.instant())
+                .thenReturn(NOW.plusSeconds(10));
+        introspector.introspect("token");
+        verify(mockDelegate, times(2))
+                .introspect("token");
+    }
+
+
+    @Test
+    @DisplayName("introspect: when the token is not valid then the exception is thrown and nothing is stored")
+    public void introspect_whenTokenIsNotValid_thenExceptionIsThrownAndNothingIsStored() {
+        when(mockDelegate.introspect("token"))
+                .thenThrow(new BadOpaqueTokenException("Provided token isn't active"));
+
+        assertThrows(
+                BadOpaqueTokenException.class,
+                () -> introspector.introspect("token")
+        );
+        assertThrows(
+                BadOpaqueTokenException.class,
+                () -> introspector.introspect("token")
+        );
+        verify(mockDelegate, times(2))
+                .introspect("token");
+    }
+
+
+    @Test
+    @DisplayName("introspect: when there are concurrent introspections of the same token then the authorization server is invoked once")
+    public void introspect_whenThereAreConcurrentIntrospectionsOfSameToken_thenAuthorizationServerIsInvokedOnce() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(mockDelegate.introspect("token"))
+                .thenAnswer(invocation -> {
+                    started.countDown();
+                    release.await();
+                    return buildPrincipal(NOW.plusSeconds(300));
+                });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<OAuth2AuthenticatedPrincipal> first = executor.submit(() -> introspector.introspect("token"));
+            started.await();
+            Future<OAuth2AuthenticatedPrincipal> second = executor.submit(() -> introspector.introspect("token"));
+            release.countDown();
+
+            assertEquals(first.get(), second.get());
+            verify(mockDelegate, times(1))
+                    .introspect(anyString());
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+
+    @Test
+    @DisplayName("introspect: when the cache is full then it never contains more entries than the configured capacity")
+    public void introspect_whenCacheIsFull_thenItNeverContainsMoreEntriesThanConfiguredCapacity() {
+        when(mockDelegate.introspect(anyString()))
+                .thenReturn(buildPrincipal(NOW.plusSeconds(300)));
+
+        introspector.introspect("token1");
+        introspector.introspect("token2");
+        introspector.introspect("token3");
+
+        // The last one is stored and only one of the previous ones
+        introspector.introspect("token3");
+        verify(mockDelegate, times(1))
+                .introspect("token3");
+
+        when(mockDelegate.introspect(anyString()))
+                .thenThrow(new BadOpaqueTokenException("Provided token isn't active"));
+
+        int misses = 0;
+        for (String token : List.of("token1", "token2")) {
+            try {
+                introspector.introspect(token);
+            } catch (BadOpaqueTokenException e) {
+                misses++;
+            }
+        }
+        assertEquals(1, misses);
+    }
+
+
+    private static OAuth2AuthenticatedPrincipal buildPrincipal(final Instant expiration) {
+        return new DefaultOAuth2AuthenticatedPrincipal(
+                "username value",
+                Map.of(
+                        "authorities", List.of("admin", "user"),
+                        OAuth2TokenIntrospectionClaimNames.EXP, expiration
+                ),
+                List.of()
+        );
+    }
+
+}
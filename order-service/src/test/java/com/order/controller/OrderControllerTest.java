@@ -4,11 +4,13 @@ import com.order.configuration.Constants;
 import com.order.configuration.rest.RestRoutes;
 import com.order.model.Order;
 import com.order.model.OrderLine;
+import com.order.service.OrderImportService;
 import com.order.service.OrderService;
 import com.order.util.converter.OrderConverter;
 import com.spring6microservices.common.core.util.StringUtil;
 import com.spring6microservices.common.spring.dto.ErrorResponseDto;
 import com.spring6microservices.common.spring.dto.order.OrderDto;
+import com.spring6microservices.common.spring.dto.order.OrderImportResultDto;
 import com.spring6microservices.common.spring.dto.order.OrderLineDto;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.DisplayName;
@@ -24,6 +26,9 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -34,9 +39,11 @@ import static com.spring6microservices.common.spring.enums.RestApiErrorCode.VALI
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 import static org.springframework.http.HttpStatus.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -50,6 +57,9 @@ public class OrderControllerTest extends BaseControllerTest {
     @MockitoBean
     private OrderConverter mockConverter;
 
+    @MockitoBean
+    private OrderImportService mockImportService;
+
     @MockitoBean
     private OrderService mockService;
 
@@ -303,6 +313,97 @@ public class OrderControllerTest extends BaseControllerTest {
     }
 
 
+    @Test
+    @SneakyThrows
+    @DisplayName("createAll: when no logged user is given then unauthorized Http code is returned")
+    public void createAll_whenNoLoggedUserIsGiven_thenUnauthorizedHttpCodeIsReturned() {
+        mockMvc.perform(
+                        post(RestRoutes.ORDER.ROOT + RestRoutes.ORDER.BULK)
+                                .contentType(APPLICATION_NDJSON)
+                                .content(
+                                        objectMapper.writeValueAsString(buildNewOrderDtoWithOrderLine())
+                                )
+                )
+                .andExpect(
+                        status().isUnauthorized()
+                );
+
+        verifyNoInteractions(mockImportService);
+    }
+
+
+    @Test
+    @SneakyThrows
+    @WithMockUser(
+            authorities = { Constants.PERMISSIONS.GET_ORDER }
+    )
+    @DisplayName("createAll: when no valid authority is given then forbidden Http code is returned")
+    public void createAll_whenNotValidAuthorityIsGiven_thenForbiddenHttpCodeIsReturned() {
+        mockMvc.perform(
+                        post(RestRoutes.ORDER.ROOT + RestRoutes.ORDER.BULK)
+                                .contentType(APPLICATION_NDJSON)
+                                .content(
+                                        objectMapper.writeValueAsString(buildNewOrderDtoWithOrderLine())
+                                )
+                )
+                .andExpect(
+                        status().isForbidden()
+                );
+
+        verifyNoInteractions(mockImportService);
+    }
+
+
+    @Test
+    @SneakyThrows
+    @WithMockUser(
+            authorities = { Constants.PERMISSIONS.CREATE_ORDER }
+    )
+    @DisplayName("createAll: when valid authority is given then the request is streamed to the service and its results are returned")
+    public void createAll_whenValidAuthorityIsGiven_thenRequestIsStreamedToServiceAndItsResultsAreReturned() {
+        String request = objectMapper.writeValueAsString(buildNewOrderDtoWithOrderLine()) + "\n";
+        String expectedResponse = objectMapper.writeValueAsString(
+                new OrderImportResultDto(1, 1, "Order 1", null)
+        ) + "\n";
+
+        doAnswer(invocation -> {
+            InputStream input = invocation.getArgument(0);
+            OutputStream output = invocation.getArgument(1);
+            assertEquals(
+                    request,
+                    new String(input.readAllBytes(), StandardCharsets.UTF_8)
+            );
+            output.write(
+                    expectedResponse.getBytes(StandardCharsets.UTF_8)
+            );
+            return 1L;
+        }).when(mockImportService)
+                .importOrders(any(InputStream.class), any(OutputStream.class));
+
+        mockMvc.perform(
+                        post(RestRoutes.ORDER.ROOT + RestRoutes.ORDER.BULK)
+                                .contentType(APPLICATION_NDJSON)
+                                .content(request)
+                )
+                .andExpect(
+                        status().isOk()
+                )
+                .andExpect(
+                        content().contentType(APPLICATION_NDJSON)
+                )
+                .andExpect(
+                        content().string(expectedResponse)
+                );
+
+        verify(mockImportService, times(1))
+                .importOrders(
+                        any(InputStream.class),
+                        any(OutputStream.class)
+                );
+        verifyNoInteractions(mockService);
+    }
+
+
     @Test
     @SneakyThrows
     @DisplayName("deleteByCode: when no logged user is given then unauthorized Http code is returned")
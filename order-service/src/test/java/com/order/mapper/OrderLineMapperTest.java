@@ -308,6 +308,41 @@ public class OrderLineMapperTest {
     }
 
 
+    static Stream<Arguments> findByOrderIdsTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            orderIds,            expectedResult
+                Arguments.of( List.of(22),         List.of() ),
+                Arguments.of( List.of(3, 22),      List.of() ),
+                Arguments.of( List.of(2, 1),       List.of(1, 2, 3) ),
+                Arguments.of( List.of(2),          List.of(2, 3) )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("findByOrderIdsTestCases")
+    @DisplayName("findByOrderIds: test cases")
+    public void findByOrderIds_testCases(List<Integer> orderIds,
+                                         List<Integer> expectedResult) {
+        List<OrderLine> result = mapper.findByOrderIds(orderIds);
+
+        assertNotNull(result);
+        assertEquals(
+                expectedResult,
+                result.stream()
+                        .map(OrderLine::getId)
+                        .toList()
+        );
+        result.forEach(ol ->
+                assertTrue(
+                        orderIds.contains(
+                                ol.getOrder().getId()
+                        )
+                )
+        );
+    }
+
+
     @Test
     @DisplayName("insert: when null orderLine is provided then an exception is thrown")
     public void insert_whenNullOrderLineIsProvided_thenAnExceptionIsThrown() {
@@ -360,6 +395,60 @@ public class OrderLineMapperTest {
     }
 
 
+    @Test
+    @Rollback
+    @DisplayName("insertAll: when valid orderLines are provided then they are added in database with their identifiers")
+    public void insertAll_whenValidOrderLinesAreProvided_thenTheyAreAddedInDatabaseWithTheirIdentifiers() {
+        Order order = buildOrder(
+                1,
+                "Order 1",
+                new ArrayList<>()
+        );
+        OrderLine orderLine1 = buildOrderLine(
+                order,
+                "Test insertAll 1",
+                1,
+                10d
+        );
+        OrderLine orderLine2 = buildOrderLine(
+                order,
+                "Test insertAll 2",
+                2,
+                20d
+        );
+        int totalOrderLines = 3;
+        int expectedToBeInserted = 2;
+
+        int result = mapper.insertAll(
+                List.of(
+                        orderLine1,
+                        orderLine2
+                )
+        );
+
+        assertEquals(
+                expectedToBeInserted,
+                result
+        );
+        assertNotNull(orderLine1.getId());
+        assertNotNull(orderLine2.getId());
+        assertNotEquals(
+                orderLine1.getId(),
+                orderLine2.getId()
+        );
+        assertEquals(
+                orderLine2.getConcept(),
+                mapper.findById(
+                        orderLine2.getId()
+                ).getConcept()
+        );
+        assertEquals(
+                totalOrderLines + expectedToBeInserted,
+                mapper.count()
+        );
+    }
+
+
     @Test
     @DisplayName("update: when null orderLine is provided then nothing happens")
     public void update_whenNullOrderLineIsProvided_thenNothingHappens() {
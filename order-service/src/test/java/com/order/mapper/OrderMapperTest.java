@@ -1,6 +1,7 @@
 package com.order.mapper;
 
 import com.order.model.Order;
+import com.order.model.OrderLine;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -14,6 +15,7 @@ import org.springframework.test.annotation.Rollback;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static com.order.TestDataFactory.*;
@@ -212,6 +214,73 @@ public class OrderMapperTest {
     }
 
 
+    @Test
+    @DisplayName("findById: when the order has order lines then they are loaded with the identifier of the order")
+    public void findById_whenOrderHasOrderLines_thenTheyAreLoadedWithTheIdentifierOfTheOrder() {
+        int orderId = 2;
+
+        Order result = mapper.findById(orderId);
+
+        assertNotNull(result);
+        assertEquals(
+                List.of(2, 3),
+                result.getOrderLines().stream()
+                        .map(OrderLine::getId)
+                        .toList()
+        );
+        result.getOrderLines()
+                .forEach(ol ->
+                        assertEquals(
+                                orderId,
+                                ol.getOrder().getId()
+                        )
+                );
+    }
+
+
+    @Test
+    @DisplayName("findById: when the order has no order lines then an empty list is returned")
+    public void findById_whenOrderHasNoOrderLines_thenAnEmptyListIsReturned() {
+        Order result = mapper.findById(3);
+
+        assertNotNull(result);
+        assertNotNull(result.getOrderLines());
+        assertTrue(
+                result.getOrderLines().isEmpty()
+        );
+    }
+
+
+    static Stream<Arguments> findByIdsTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            ids,                 expectedResult
+                Arguments.of( List.of(22),         List.of() ),
+                Arguments.of( List.of(3, 1, 22),   List.of(1, 3) ),
+                Arguments.of( List.of(1, 2, 3),    List.of(1, 2, 3) )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("findByIdsTestCases")
+    @DisplayName("findByIds: test cases")
+    public void findByIds_testCases(List<Integer> ids,
+                                    List<Integer> expectedResult) {
+        List<Order> result = mapper.findByIds(ids);
+
+        assertNotNull(result);
+        assertEquals(
+                expectedResult,
+                result.stream()
+                        .map(Order::getId)
+                        .toList()
+        );
+        result.forEach(o ->
+                assertNull(o.getOrderLines())
+        );
+    }
+
+
     static Stream<Arguments> findByCodeTestCases() {
         Order order = buildExistingOrderInDatabase();
         return Stream.of(
@@ -287,6 +356,45 @@ public class OrderMapperTest {
     }
 
 
+    @Test
+    @Rollback
+    @DisplayName("insertAll: when valid orders are provided then they are added in database with their identifiers")
+    public void insertAll_whenValidOrdersAreProvided_thenTheyAreAddedInDatabaseWithTheirIdentifiers() {
+        Order order1 = buildOrder(
+                "Order 4",
+                new ArrayList<>()
+        );
+        Order order2 = buildOrder(
+                "Order 5",
+                new ArrayList<>()
+        );
+        int totalOrders = 3;
+        int expectedToBeInserted = 2;
+
+        int result = mapper.insertAll(
+                List.of(
+                        order1,
+                        order2
+                )
+        );
+
+        assertEquals(
+                expectedToBeInserted,
+                result
+        );
+        assertNotNull(order1.getId());
+        assertNotNull(order2.getId());
+        assertEquals(
+                order2.getId(),
+                mapper.findByCode("Order 5").getId()
+        );
+        assertEquals(
+                totalOrders + expectedToBeInserted,
+                mapper.count()
+        );
+    }
+
+
     @Test
     @DisplayName("update: when null order is provided then nothing happens")
     public void update_whenNullOrderIsProvided_thenNothingHappens() {
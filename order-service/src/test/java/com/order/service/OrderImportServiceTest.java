@@ -0,0 +1,365 @@
+package com.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.order.configuration.rest.OrderImportConfiguration;
+import com.order.model.Order;
+import com.order.util.converter.OrderConverter;
+import com.spring6microservices.common.spring.dto.ErrorResponseDto;
+import com.spring6microservices.common.spring.dto.order.OrderDto;
+import com.spring6microservices.common.spring.dto.order.OrderImportResultDto;
+import jakarta.validation.Validation;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.order.TestDataFactory.buildOrder;
+import static com.order.TestDataFactory.buildOrderDto;
+import static com.order.TestDataFactory.buildOrderLineDto;
+import static com.spring6microservices.common.spring.enums.RestApiErrorCode.INTERNAL;
+import static com.spring6microservices.common.spring.enums.RestApiErrorCode.VALIDATION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class OrderImportServiceTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .build();
+
+    @Mock
+    private OrderImportConfiguration mockImportConfiguration;
+
+    @Mock
+    private OrderConverter mockConverter;
+
+    @Mock
+    private OrderService mockOrderService;
+
+    @Mock
+    private PlatformTransactionManager mockTransactionManager;
+
+    private OrderImportService service;
+
+
+    @BeforeEach
+    public void init() {
+        service = new OrderImportService(
+                mockImportConfiguration,
+                mockConverter,
+                objectMapper,
+                mockOrderService,
+                mockTransactionManager,
+                Validation.buildDefaultValidatorFactory()
+                        .getValidator()
+        );
+        when(mockImportConfiguration.getBatchSize())
+                .thenReturn(2);
+        when(mockImportConfiguration.getMaxLineLength())
+                .thenReturn(1000);
+        when(mockConverter.fromDtoToModel(any(OrderDto.class)))
+                .thenAnswer(invocation ->
+                        buildOrder(
+                                ((OrderDto) invocation.getArgument(0)).getCode(),
+                                List.of()
+                        )
+                );
+    }
+
+
+    @Test
+    @SneakyThrows
+    @DisplayName("importOrders: when the request is empty then nothing is saved nor written")
+    public void importOrders_whenRequestIsEmpty_thenNothingIsSavedNorWritten() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long result = service.importOrders(
+                toInputStream("\n  \n"),
+                output
+        );
+
+        assertEquals(0, result);
+        assertEquals(0, output.size());
+        verifyNoInteractions(mockOrderService);
+        verifyNoInteractions(mockTransactionManager);
+    }
+
+
+    @Test
+    @SneakyThrows
+    @DisplayName("importOrders: when there are valid and invalid lines then only the valid ones are saved, by batches, and the result of every line is written in order")
+    public void importOrders_whenThereAreValidAndInvalidLines_thenOnlyValidOnesAreSavedByBatchesAndResultOfEveryLineIsWrittenInOrder() {
+        OrderDto dtoWithoutCode = buildNewOrderDto(null);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        AtomicInteger nextId = new AtomicInteger(1);
+        doAnswer(invocation -> {
+            Collection<Order> orders = invocation.getArgument(0);
+            orders.forEach(o -> o.setId(nextId.getAndIncrement()));
+            return new ArrayList<>(orders);
+        }).when(mockOrderService)
+                .saveAll(anyCollection());
+
+        long result = service.importOrders(
+                toInputStream(
+                        toJson(buildNewOrderDto("Order 1")) + "\n"
+                      + "not a json\n"
+                      + "\n"
+                      + toJson(dtoWithoutCode) + "\n"
+                      + toJson(buildNewOrderDto("Order 2")) + "\n"
+                      + toJson(buildNewOrderDto("Order 3"))
+                ),
+                output
+        );
+
+        assertEquals(3, result);
+
+        List<OrderImportResultDto> results = fromNdJson(output);
+        assertEquals(5, results.size());
+        assertEquals(
+                new OrderImportResultDto(1, 1, "Order 1", null),
+                results.get(0)
+        );
+        assertEquals(2, results.get(1).getLineNumber());
+        assertNull(results.get(1).getId());
+        assertEquals(VALIDATION, results.get(1).getError().getCode());
+        assertEquals(
+                new OrderImportResultDto(
+                        4,
+                        null,
+                        null,
+                        new ErrorResponseDto(
+                                VALIDATION,
+                                List.of("Field error in object: orderDto on field: code due to: must not be null")
+                        )
+                ),
+                results.get(2)
+        );
+        assertEquals(
+                new OrderImportResultDto(5, 2, "Order 2", null),
+                results.get(3)
+        );
+        assertEquals(
+                new OrderImportResultDto(6, 3, "Order 3", null),
+                results.get(4)
+        );
+
+        // Batches of 2 lines: [1, 2], [4, 5] and [6]
+        verify(mockOrderService, times(3))
+                .saveAll(anyCollection());
+        verify(mockTransactionManager, times(3))
+                .commit(any());
+    }
+
+
+    @Test
+    @SneakyThrows
+    @DisplayName("importOrders: when a batch does not match the restrictions then its orders are saved one by one and only the failed ones are reported with their error")
+    public void importOrders_whenBatchDoesNotMatchTheRestrictions_thenItsOrdersAreSavedOneByOneAndOnlyFailedOnesAreReportedWithTheirError() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Set<String> storedCodes = new HashSet<>();
+        AtomicInteger nextId = new AtomicInteger(1);
+        doAnswer(invocation -> {
+            Collection<Order> orders = invocation.getArgument(0);
+            Set<String> codes = new HashSet<>();
+            for (Order order : orders) {
+                if (storedCodes.contains(order.getCode()) || !codes.add(order.getCode())) {
+                    throw new DataIntegrityViolationException("Duplicated code");
+                }
+            }
+            storedCodes.addAll(codes);
+            orders.forEach(o -> o.setId(nextId.getAndIncrement()));
+            return new ArrayList<>(orders);
+        }).when(mockOrderService)
+                .saveAll(anyCollection());
+
+        long result = service.importOrders(
+                toInputStream(
+                        toJson(buildNewOrderDto("Order 1")) + "\n"
+                      + toJson(buildNewOrderDto("Order 1")) + "\n"
+                      + toJson(buildNewOrderDto("Order 2")) + "\n"
+                      + toJson(buildNewOrderDto("Order 1")) + "\n"
+                ),
+                output
+        );
+
+        assertEquals(2, result);
+
+        List<OrderImportResultDto> results = fromNdJson(output);
+        assertEquals(4, results.size());
+        assertEquals(
+                new OrderImportResultDto(1, 1, "Order 1", null),
+                results.get(0)
+        );
+        assertEquals(2, results.get(1).getLineNumber());
+        assertNull(results.get(1).getId());
+        assertEquals("Order 1", results.get(1).getCode());
+        assertEquals(VALIDATION, results.get(1).getError().getCode());
+        assertEquals(
+                new OrderImportResultDto(3, 2, "Order 2", null),
+                results.get(2)
+        );
+        assertEquals(4, results.get(3).getLineNumber());
+        assertNull(results.get(3).getId());
+        assertEquals("Order 1", results.get(3).getCode());
+        assertEquals(VALIDATION, results.get(3).getError().getCode());
+
+        // Batches [1, 2], retried as [1] and [2], and [3, 4], retried as [3] and [4]
+        verify(mockOrderService, times(6))
+                .saveAll(anyCollection());
+        verify(mockTransactionManager, times(4))
+                .rollback(any());
+        verify(mockTransactionManager, times(2))
+                .commit(any());
+    }
+
+
+    @Test
+    @SneakyThrows
+    @DisplayName("importOrders: when a batch cannot be saved due to other error then its orders are reported as failed without saving them one by one")
+    public void importOrders_whenBatchCannotBeSavedDueToOtherError_thenItsOrdersAreReportedAsFailedWithoutSavingThemOneByOne() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        doThrow(new DataAccessResourceFailureException("Database is not available"))
+                .when(mockOrderService)
+                .saveAll(anyCollection());
+
+        long result = service.importOrders(
+                toInputStream(
+                        toJson(buildNewOrderDto("Order 1")) + "\n"
+                      + toJson(buildNewOrderDto("Order 2")) + "\n"
+                      + toJson(buildNewOrderDto("Order 3")) + "\n"
+                ),
+                output
+        );
+
+        assertEquals(0, result);
+
+        List<OrderImportResultDto> results = fromNdJson(output);
+        assertEquals(3, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i + 1, results.get(i).getLineNumber());
+            assertNull(results.get(i).getId());
+            assertEquals("Order " + (i + 1), results.get(i).getCode());
+            assertEquals(INTERNAL, results.get(i).getError().getCode());
+        }
+
+        // Batches [1, 2] and [3], without retrying their orders
+        verify(mockOrderService, times(2))
+                .saveAll(anyCollection());
+        verify(mockTransactionManager, times(2))
+                .rollback(any());
+        verify(mockTransactionManager, never())
+                .commit(any());
+    }
+
+
+    @Test
+    @SneakyThrows
+    @DisplayName("importOrders: when a line is longer than the maximum length then it is reported as failed and the next ones are imported")
+    public void importOrders_whenLineIsLongerThanMaximumLength_thenItIsReportedAsFailedAndNextOnesAreImported() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        doAnswer(invocation -> {
+            Collection<Order> orders = invocation.getArgument(0);
+            orders.forEach(o -> o.setId(10));
+            return new ArrayList<>(orders);
+        }).when(mockOrderService)
+                .saveAll(anyCollection());
+
+        long result = service.importOrders(
+                toInputStream(
+                        "x".repeat(5000) + "\r\n"
+                      + toJson(buildNewOrderDto("Order 1")) + "\r\n"
+                ),
+                output
+        );
+
+        assertEquals(1, result);
+
+        List<OrderImportResultDto> results = fromNdJson(output);
+        assertEquals(2, results.size());
+        assertEquals(
+                new OrderImportResultDto(
+                        1,
+                        null,
+                        null,
+                        new ErrorResponseDto(
+                                VALIDATION,
+                                List.of("The line exceeds the maximum length of 1000 characters")
+                        )
+                ),
+                results.get(0)
+        );
+        assertEquals(
+                new OrderImportResultDto(2, 10, "Order 1", null),
+                results.get(1)
+        );
+    }
+
+
+    private static OrderDto buildNewOrderDto(final String code) {
+        return buildOrderDto(
+                code,
+                List.of(
+                        buildOrderLineDto(
+                                null,
+                                "Keyboard",
+                                2,
+                                10.1d
+                        )
+                )
+        );
+    }
+
+
+    @SneakyThrows
+    private String toJson(final OrderDto dto) {
+        return objectMapper.writeValueAsString(dto);
+    }
+
+
+    private static ByteArrayInputStream toInputStream(final String content) {
+        return new ByteArrayInputStream(
+                content.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+
+    @SneakyThrows
+    private List<OrderImportResultDto> fromNdJson(final ByteArrayOutputStream output) {
+        String content = output.toString(StandardCharsets.UTF_8);
+        assertTrue(content.endsWith("\n"));
+
+        List<OrderImportResultDto> results = new ArrayList<>();
+        for (String line : content.split("\n")) {
+            results.add(
+                    objectMapper.readValue(
+                            line,
+                            OrderImportResultDto.class
+                    )
+            );
+        }
+        return results;
+    }
+
+}
@@ -14,6 +14,7 @@ import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -25,6 +26,7 @@ import static java.util.Arrays.asList;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(
@@ -386,11 +388,11 @@ public class OrderLineServiceTest {
         );
 
         doAnswer(invocation -> {
-            OrderLine orderLineArg = invocation.getArgument(0);
-            orderLineArg.setId(newOrderLineId);
-            return null;
+            Collection<OrderLine> orderLinesArg = invocation.getArgument(0);
+            orderLinesArg.forEach(ol -> ol.setId(newOrderLineId));
+            return orderLinesArg.size();
         }).when(mockMapper)
-                .insert(any(OrderLine.class));
+                .insertAll(anyCollection());
 
         List<OrderLine> result = service.saveAll(
                 modelsToSave
@@ -412,6 +414,10 @@ public class OrderLineServiceTest {
                 result.getLast()
         );
         verify(mockMapper, times(1))
+                .insertAll(
+                        List.of(newOrderLine)
+                );
+        verify(mockMapper, never())
                 .insert(
                         any(OrderLine.class)
                 );
@@ -422,6 +428,90 @@ public class OrderLineServiceTest {
     }
 
 
+    @Test
+    @DisplayName("saveAll: when there are more new models than the batch size then several insert statements are used")
+    public void saveAll_whenThereAreMoreNewModelsThanBatchSize_thenSeveralInsertStatementsAreUsed() {
+        Order order = buildOrder(
+                1,
+                "Order 1",
+                List.of()
+        );
+        List<OrderLine> modelsToSave = new ArrayList<>();
+        for (int i = 0; i <= OrderLineService.INSERT_BATCH_SIZE; i++) {
+            modelsToSave.add(
+                    buildOrderLine(
+                            order,
+                            "Concept " + i,
+                            1,
+                            10d
+                    )
+            );
+        }
+
+        List<OrderLine> result = service.saveAll(
+                modelsToSave
+        );
+
+        assertEquals(
+                modelsToSave,
+                result
+        );
+        verify(mockMapper, times(1))
+                .insertAll(
+                        modelsToSave.subList(0, OrderLineService.INSERT_BATCH_SIZE)
+                );
+        verify(mockMapper, times(1))
+                .insertAll(
+                        List.of(modelsToSave.getLast())
+                );
+        verify(mockMapper, never())
+                .update(
+                        any(OrderLine.class)
+                );
+    }
+
+
+    static Stream<Arguments> findByOrderIdsTestCases() {
+        OrderLine orderLine = buildOrderLineWithOrder();
+        return Stream.of(
+                //@formatter:off
+                //            orderIds,                               mapperResult,         expectedResult
+                Arguments.of( null,                                   null,                 List.of() ),
+                Arguments.of( List.of(),                              null,                 List.of() ),
+                Arguments.of( List.of(21),                            List.of(),            List.of() ),
+                Arguments.of( List.of(orderLine.getOrder().getId()),  List.of(orderLine),   List.of(orderLine) )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("findByOrderIdsTestCases")
+    @DisplayName("findByOrderIds: test cases")
+    public void findByOrderIds_testCases(List<Integer> orderIds,
+                                         List<OrderLine> mapperResult,
+                                         List<OrderLine> expectedResult) {
+        when(mockMapper.findByOrderIds(orderIds))
+                .thenReturn(
+                        mapperResult
+                );
+
+        List<OrderLine> result = service.findByOrderIds(
+                orderIds
+        );
+
+        assertNotNull(result);
+        assertEquals(
+                expectedResult.size(),
+                result.size()
+        );
+        for (int i = 0; i < expectedResult.size(); i++) {
+            compareOrderLines(
+                    expectedResult.get(i),
+                    result.get(i)
+            );
+        }
+    }
+
+
     private static OrderLine buildOrderLineWithOrder() {
         Order order = buildOrder(
                 1,
@@ -12,10 +12,14 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 import static com.order.TestDataFactory.buildOrder;
@@ -25,6 +29,7 @@ import static java.util.Arrays.asList;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(
@@ -41,15 +46,25 @@ public class OrderServiceTest {
     @Mock
     private JmsService mockJmsService;
 
+    @Mock
+    private Executor mockJmsSendExecutor;
+
     private OrderService service;
 
 
     @BeforeEach
     public void init() {
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(mockJmsSendExecutor)
+                .execute(any(Runnable.class));
+
         service = new OrderService(
                 mockMapper,
                 mockOrderLineService,
-                mockJmsService
+                mockJmsService,
+                mockJmsSendExecutor
         );
     }
 
@@ -395,11 +410,11 @@ public class OrderServiceTest {
         );
 
         doAnswer(invocation -> {
-            Order orderArg = invocation.getArgument(0);
-            orderArg.setId(newOrderId);
-            return null;
+            Collection<Order> ordersArg = invocation.getArgument(0);
+            ordersArg.forEach(o -> o.setId(newOrderId));
+            return ordersArg.size();
         }).when(mockMapper)
-                .insert(any(Order.class));
+                .insertAll(anyCollection());
 
         List<Order> result = service.saveAll(
                 modelsToSave
@@ -421,6 +436,10 @@ public class OrderServiceTest {
                 result.getLast()
         );
         verify(mockMapper, times(1))
+                .insertAll(
+                        List.of(newOrder)
+                );
+        verify(mockMapper, never())
                 .insert(
                         any(Order.class)
                 );
@@ -428,8 +447,157 @@ public class OrderServiceTest {
                 .update(
                         any(Order.class)
                 );
-        verify(mockOrderLineService, times(2))
+        verify(mockOrderLineService, times(1))
+                .saveAll(
+                        existingOrder.getOrderLines()
+                );
+        verify(mockJmsService, times(1))
+                .send(
+                        newOrder
+                );
+    }
+
+
+    @Test
+    @DisplayName("saveAll: when there is an active transaction then the JMS are sent only once it is committed")
+    public void saveAll_whenThereIsAnActiveTransaction_thenTheJmsAreSentOnlyOnceItIsCommitted() {
+        Order newOrder = buildOrder(
+                "Order 2",
+                List.of()
+        );
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.saveAll(
+                    List.of(newOrder)
+            );
+
+            verify(mockJmsService, never())
+                    .send(
+                            any(Order.class)
+                    );
+
+            TransactionSynchronizationUtils.invokeAfterCommit(
+                    TransactionSynchronizationManager.getSynchronizations()
+            );
+
+            verify(mockJmsService, times(1))
+                    .send(
+                            newOrder
+                    );
+
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+
+    @Test
+    @DisplayName("saveAll: when there are more new models than the batch size then several insert statements are used")
+    public void saveAll_whenThereAreMoreNewModelsThanBatchSize_thenSeveralInsertStatementsAreUsed() {
+        List<Order> modelsToSave = new ArrayList<>();
+        for (int i = 0; i <= OrderService.INSERT_BATCH_SIZE; i++) {
+            modelsToSave.add(
+                    buildOrder(
+                            "Order " + i,
+                            List.of()
+                    )
+            );
+        }
+
+        List<Order> result = service.saveAll(
+                modelsToSave
+        );
+
+        assertEquals(
+                modelsToSave,
+                result
+        );
+        verify(mockMapper, times(1))
+                .insertAll(
+                        modelsToSave.subList(0, OrderService.INSERT_BATCH_SIZE)
+                );
+        verify(mockMapper, times(1))
+                .insertAll(
+                        List.of(modelsToSave.getLast())
+                );
+        verify(mockOrderLineService, times(1))
                 .saveAll(
+                        List.of()
+                );
+    }
+
+
+    @Test
+    @DisplayName("findByIds: when no identifier is given then an empty list is returned and nothing is searched")
+    public void findByIds_whenNoIdentifierIsGiven_thenAnEmptyListIsReturnedAndNothingIsSearched() {
+        assertTrue(
+                service.findByIds(null).isEmpty()
+        );
+        assertTrue(
+                service.findByIds(List.of()).isEmpty()
+        );
+        verify(mockMapper, never())
+                .findByIds(
+                        any()
+                );
+        verify(mockOrderLineService, never())
+                .findByOrderIds(
+                        any()
+                );
+    }
+
+
+    @Test
+    @DisplayName("findByIds: when no order is found then their order lines are not searched")
+    public void findByIds_whenNoOrderIsFound_thenTheirOrderLinesAreNotSearched() {
+        when(mockMapper.findByIds(List.of(22)))
+                .thenReturn(
+                        new ArrayList<>()
+                );
+
+        assertTrue(
+                service.findByIds(List.of(22)).isEmpty()
+        );
+        verify(mockOrderLineService, never())
+                .findByOrderIds(
+                        any()
+                );
+    }
+
+
+    @Test
+    @DisplayName("findByIds: when orders are found then they are returned with their order lines")
+    public void findByIds_whenOrdersAreFound_thenTheyAreReturnedWithTheirOrderLines() {
+        Order order1 = buildOrder(1, "Order 1", List.of());
+        Order order2 = buildOrder(2, "Order 2", List.of());
+        Order order3 = buildOrder(3, "Order 3", List.of());
+        OrderLine orderLine1 = buildOrderLine(1, buildOrder(1, "Order 1", List.of()), "Keyboard", 2, 10.1d);
+        OrderLine orderLine2 = buildOrderLine(2, buildOrder(2, "Order 2", List.of()), "Trip", 1, 900d);
+        OrderLine orderLine3 = buildOrderLine(3, buildOrder(2, "Order 2", List.of()), "Swimsuit", 3, 11.5d);
+
+        when(mockMapper.findByIds(List.of(1, 2, 3)))
+                .thenReturn(
+                        List.of(order1, order2, order3)
+                );
+        when(mockOrderLineService.findByOrderIds(any()))
+                .thenReturn(
+                        List.of(orderLine1, orderLine2, orderLine3)
+                );
+
+        List<Order> result = service.findByIds(List.of(1, 2, 3));
+
+        assertEquals(
+                List.of(order1, order2, order3),
+                result
+        );
+        assertEquals(List.of(orderLine1), order1.getOrderLines());
+        assertEquals(List.of(orderLine2, orderLine3), order2.getOrderLines());
+        assertEquals(List.of(), order3.getOrderLines());
+        assertSame(order1, orderLine1.getOrder());
+        assertSame(order2, orderLine2.getOrder());
+        assertSame(order2, orderLine3.getOrder());
+        verify(mockOrderLineService, times(1))
+                .findByOrderIds(
                         any()
                 );
     }
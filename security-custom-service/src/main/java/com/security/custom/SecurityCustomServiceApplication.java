@@ -2,10 +2,14 @@ package com.security.custom;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import reactor.core.publisher.Hooks;
 
-@SpringBootApplication
+// R2DBC is only used in read-only searches, so the JPA transaction manager remains as the only one
+@SpringBootApplication(
+        exclude = R2dbcTransactionManagerAutoConfiguration.class
+)
 @EnableDiscoveryClient
 public class SecurityCustomServiceApplication {
 
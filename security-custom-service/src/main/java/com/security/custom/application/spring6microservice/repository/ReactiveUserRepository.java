@@ -0,0 +1,56 @@
+package com.security.custom.application.spring6microservice.repository;
+
+import com.security.custom.application.spring6microservice.configuration.Spring6MicroserviceConstants;
+import com.security.custom.application.spring6microservice.model.Role;
+import com.security.custom.application.spring6microservice.model.User;
+import com.security.custom.application.spring6microservice.model.enums.PermissionEnum;
+import com.security.custom.application.spring6microservice.repository.mapper.UserMapper;
+import jakarta.annotation.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import static com.security.custom.application.spring6microservice.repository.UserRepository.FIND_BY_USERNAME_QUERY;
+import static com.security.custom.application.spring6microservice.repository.UserRepository.USER_USERNAME_COLUMN;
+
+/**
+ * Non-blocking (R2DBC) version of {@link UserRepository}.
+ */
+@Repository(value = Spring6MicroserviceConstants.SPRING6MICROSERVICE_APPLICATION_NAME + "ReactiveUserRepository")
+public class ReactiveUserRepository {
+
+    private final DatabaseClient databaseClient;
+
+
+    @Autowired
+    public ReactiveUserRepository(final DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+
+    /**
+     *    Gets the {@link User} (including its {@link Role}s and {@link PermissionEnum}) which {@link User#getUsername()}
+     * matches with the given one.
+     *
+     * @param username
+     *    Username to search a coincidence in {@link User#getUsername()}
+     *
+     * @return {@link Mono} with the {@link User} which {@link User#getUsername()} matches with the given one,
+     *         {@link Mono#empty()} otherwise.
+     */
+    public Mono<User> findByUsername(@Nullable String username) {
+        return Mono.justOrEmpty(username)
+                .flatMap(u ->
+                        databaseClient.sql(FIND_BY_USERNAME_QUERY)
+                                .bind(
+                                        USER_USERNAME_COLUMN,
+                                        u
+                                )
+                                .map(UserMapper.userWithRoleAndPermissionRowMapper)
+                                .all()
+                                .reduce(UserMapper::mergeRolesAndPermissions)
+                );
+    }
+
+}
@@ -29,6 +29,26 @@ public class UserRepository {
     public static String ROLE_NAME_COLUMN = "roleName";
     public static String PERMISSION_NAME_COLUMN = "permissionName";
 
+    /**
+     * Shared with {@link ReactiveUserRepository}, that is why it uses named parameters supported by both.
+     */
+    static final String FIND_BY_USERNAME_QUERY =
+            "select u.id as " + USER_ID_COLUMN
+                 + ", u.name as " + USER_NAME_COLUMN
+                 + ", u.username as " + USER_USERNAME_COLUMN
+                 + ", u.password as " + USER_PASSWORD_COLUMN
+                 + ", u.active as " + USER_ACTIVE_COLUMN
+                 + ", u.created_at as " + USER_CREATED_AT_COLUMN
+                 + ", r.id as " + ROLE_ID_COLUMN
+                 + ", r.name as " + ROLE_NAME_COLUMN
+                 + ", p.name as " + PERMISSION_NAME_COLUMN + " "
+          + "from " + TABLE.USER + " u "
+          + "join " + TABLE.USER_ROLE + " ur on (ur.user_id = u.id) "
+          + "join " + TABLE.ROLE + " r on (r.id = ur.role_id) "
+          + "join " + TABLE.ROLE_PERMISSION + " rp on (rp.role_id = r.id) "
+          + "join " + TABLE.PERMISSION + " p on (p.id = rp.permission_id) "
+          + "where u.username = :username";
+
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
 
@@ -52,21 +72,7 @@ public class UserRepository {
         return ofNullable(username)
                 .map(u ->
                         namedParameterJdbcTemplate.query(
-                                "select u.id as " + USER_ID_COLUMN
-                                     + ", u.name as " + USER_NAME_COLUMN
-                                     + ", u.username as " + USER_USERNAME_COLUMN
-                                     + ", u.password as " + USER_PASSWORD_COLUMN
-                                     + ", u.active as " + USER_ACTIVE_COLUMN
-                                     + ", u.created_at as " + USER_CREATED_AT_COLUMN
-                                     + ", r.id as " + ROLE_ID_COLUMN
-                                     + ", r.name as " + ROLE_NAME_COLUMN
-                                     + ", p.name as " + PERMISSION_NAME_COLUMN + " "
-                              + "from " + TABLE.USER + " u "
-                              + "join " + TABLE.USER_ROLE + " ur on (ur.user_id = u.id) "
-                              + "join " + TABLE.ROLE + " r on (r.id = ur.role_id) "
-                              + "join " + TABLE.ROLE_PERMISSION + " rp on (rp.role_id = r.id) "
-                              + "join " + TABLE.PERMISSION + " p on (p.id = rp.permission_id) "
-                              + "where u.username = :username",
+                           FIND_BY_USERNAME_QUERY,
                            Map.of(
                                    USER_USERNAME_COLUMN,
                                    username
@@ -5,6 +5,8 @@ import com.security.custom.application.spring6microservice.model.enums.RoleEnum;
 import com.security.custom.application.spring6microservice.model.Role;
 import com.security.custom.application.spring6microservice.model.User;
 import com.spring6microservices.common.core.util.MapUtil;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
 import lombok.experimental.UtilityClass;
 import org.springframework.jdbc.core.ResultSetExtractor;
 
@@ -14,6 +16,8 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
 
 import static com.security.custom.application.spring6microservice.repository.UserRepository.*;
 import static java.util.Optional.ofNullable;
@@ -59,6 +63,71 @@ public class UserMapper {
     };
 
 
+    /**
+     *    Using provided {@link Row} returns a new {@link User} instance containing only the {@link Role} and
+     * {@link PermissionEnum} of that row. The results of all the rows of the same {@link User} must be combined
+     * with {@link UserMapper#mergeRolesAndPermissions(User, User)}.
+     *
+     * @throws IllegalArgumentException if stored role name in database has no constant with the specified name in {@link RoleEnum}
+     *                                  or its related permission in database has no constant with the specified name in {@link PermissionEnum}
+     */
+    public static final BiFunction<Row, RowMetadata, User> userWithRoleAndPermissionRowMapper = (row, rowMetadata) -> {
+        Role role = new Role(
+                row.get(ROLE_ID_COLUMN, Integer.class),
+                row.get(ROLE_NAME_COLUMN, String.class)
+        );
+        role.addPermission(
+                PermissionEnum.valueOf(
+                        row.get(PERMISSION_NAME_COLUMN, String.class)
+                )
+        );
+        return new User(
+                // The id column is an int4 (serial), so the driver returns an Integer
+                ofNullable(row.get(USER_ID_COLUMN, Number.class))
+                        .map(Number::longValue)
+                        .orElse(null),
+                row.get(USER_NAME_COLUMN, String.class),
+                row.get(USER_USERNAME_COLUMN, String.class),
+                row.get(USER_PASSWORD_COLUMN, String.class),
+                Boolean.TRUE.equals(
+                        row.get(USER_ACTIVE_COLUMN, Boolean.class)
+                ),
+                row.get(USER_CREATED_AT_COLUMN, LocalDateTime.class),
+                new HashSet<>(
+                        Set.of(role)
+                )
+        );
+    };
+
+
+    /**
+     * Adds into {@code user} the {@link Role}s and {@link PermissionEnum} of {@code sameUser}.
+     *
+     * @param user
+     *    {@link User} to update
+     * @param sameUser
+     *    {@link User} with the same {@link User#getUsername()} than {@code user} and the {@link Role}s to add
+     *
+     * @return {@code user} with the {@link Role}s and {@link PermissionEnum} of both
+     */
+    public static User mergeRolesAndPermissions(final User user,
+                                                final User sameUser) {
+        for (Role role: sameUser.getRoles()) {
+            user.getRoles().stream()
+                    .filter(role::equals)
+                    .findFirst()
+                    .ifPresentOrElse(
+                            existingRole ->
+                                    role.getPermissions()
+                                            .forEach(existingRole::addPermission),
+                            () ->
+                                    user.addRole(role)
+                    );
+        }
+        return user;
+    }
+
+
     private static void updateRoleAndPermissions(final Map<Integer, Role> roleMap,
                                                  final ResultSet resultSet) throws SQLException {
         Role role = MapUtil.getOrElse(
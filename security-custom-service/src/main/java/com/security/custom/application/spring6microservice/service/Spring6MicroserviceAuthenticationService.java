@@ -2,9 +2,10 @@ package com.security.custom.application.spring6microservice.service;
 
 import com.security.custom.application.spring6microservice.configuration.Spring6MicroserviceConstants;
 import com.security.custom.application.spring6microservice.model.User;
+import com.security.custom.application.spring6microservice.repository.ReactiveUserRepository;
 import com.security.custom.application.spring6microservice.repository.UserRepository;
 import com.security.custom.dto.RawAuthenticationInformationDto;
-import com.security.custom.interfaces.IApplicationClientAuthenticationService;
+import com.security.custom.interfaces.IReactiveApplicationClientAuthenticationService;
 import com.spring6microservices.common.core.util.StringUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
@@ -13,6 +14,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -26,21 +28,57 @@ import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
 
 @Service(value = Spring6MicroserviceConstants.SPRING6MICROSERVICE_APPLICATION_NAME + "AuthenticationService")
-public class Spring6MicroserviceAuthenticationService implements IApplicationClientAuthenticationService {
+public class Spring6MicroserviceAuthenticationService implements IReactiveApplicationClientAuthenticationService {
 
     private final UserRepository repository;
 
+    private final ReactiveUserRepository reactiveRepository;
+
     private final PasswordEncoder passwordEncoder;
 
 
     @Autowired
     public Spring6MicroserviceAuthenticationService(final UserRepository repository,
+                                                    final ReactiveUserRepository reactiveRepository,
                                                     final PasswordEncoder passwordEncoder) {
         this.repository = repository;
+        this.reactiveRepository = reactiveRepository;
         this.passwordEncoder = passwordEncoder;
     }
 
 
+    /**
+     * Gets, without blocking, {@link UserDetails} information in database related with the given {@link User#getUsername()}.
+     *
+     * @param username
+     *    Username to search a coincidence in {@link User#getUsername()}
+     *
+     * @return {@link Mono} of {@link UserDetails}
+     *
+     * @throws UsernameNotFoundException if the given {@code username} does not exist in database.
+     *         {@link AccountStatusUserDetailsChecker#check(UserDetails)} for more information about the {@link Exception}s
+     *         that could be thrown
+     */
+    @Override
+    public Mono<UserDetails> findByUsername(final String username) {
+        return reactiveRepository.findByUsername(username)
+                .switchIfEmpty(
+                        Mono.error(() ->
+                                new UsernameNotFoundException(
+                                        format("Username: %s not found in database",
+                                                username
+                                        )
+                                )
+                        )
+                )
+                .map(u -> {
+                    new AccountStatusUserDetailsChecker()
+                            .check(u);
+                    return u;
+                });
+    }
+
+
     @Override
     public Optional<RawAuthenticationInformationDto> getRawAuthenticationInformation(final UserDetails userDetails) {
         return ofNullable(userDetails)
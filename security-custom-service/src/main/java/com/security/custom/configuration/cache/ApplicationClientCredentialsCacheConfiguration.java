@@ -0,0 +1,24 @@
+package com.security.custom.configuration.cache;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ *    With the cache configuration related with the already verified credentials of the application clients. It is
+ * a local cache of every node, so it is not included in the distributed one.
+ */
+@Configuration
+@Getter
+public class ApplicationClientCredentialsCacheConfiguration {
+
+    @Value("${cache.applicationClientCredentials.entryCapacity}")
+    private int cacheEntryCapacity;
+
+    @Value("${cache.applicationClientCredentials.expireInSeconds}")
+    private int cacheExpireInSeconds;
+
+    @Value("${cache.applicationClientCredentials.name}")
+    private String cacheName;
+
+}
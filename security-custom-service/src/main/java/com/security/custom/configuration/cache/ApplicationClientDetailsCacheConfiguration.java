@@ -12,13 +12,28 @@ import org.springframework.context.annotation.Configuration;
 @Getter
 public class ApplicationClientDetailsCacheConfiguration {
 
+    @Value("${cache.applicationClientDetails.backupCount}")
+    private int cacheBackupCount;
+
     @Value("${cache.applicationClientDetails.entryCapacity}")
     private int cacheEntryCapacity;
 
     @Value("${cache.applicationClientDetails.expireInSeconds}")
     private int cacheExpireInSeconds;
 
+    @Value("${cache.applicationClientDetails.localEntryCapacity}")
+    private int localEntryCapacity;
+
     @Value("${cache.applicationClientDetails.name}")
     private String cacheName;
 
+    @Value("${cache.applicationClientDetails.readBackupData}")
+    private boolean cacheReadBackupData;
+
+    @Value("${cache.applicationClientDetails.refreshAheadInSeconds}")
+    private int cacheRefreshAheadInSeconds;
+
+    @Value("${cache.applicationClientDetails.useLocalCache}")
+    private boolean useLocalCache;
+
 }
@@ -11,6 +11,9 @@ import org.springframework.context.annotation.Configuration;
 @Getter
 public class ApplicationUserBlackListCacheConfiguration {
 
+    @Value("${cache.applicationUserBlackList.backupCount}")
+    private int cacheBackupCount;
+
     @Value("${cache.applicationUserBlackList.entryCapacity}")
     private int cacheEntryCapacity;
 
@@ -20,4 +23,13 @@ public class ApplicationUserBlackListCacheConfiguration {
     @Value("${cache.applicationUserBlackList.name}")
     private String cacheName;
 
+    @Value("${cache.applicationUserBlackList.readBackupData}")
+    private boolean cacheReadBackupData;
+
+    @Value("${cache.applicationUserBlackList.filterExpectedEntries}")
+    private int filterExpectedEntries;
+
+    @Value("${cache.applicationUserBlackList.filterFalsePositiveProbability}")
+    private double filterFalsePositiveProbability;
+
 }
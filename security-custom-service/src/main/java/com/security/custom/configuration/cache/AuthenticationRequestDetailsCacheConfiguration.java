@@ -14,6 +14,9 @@ import org.springframework.context.annotation.Configuration;
 @Getter
 public class AuthenticationRequestDetailsCacheConfiguration {
 
+    @Value("${cache.authenticationRequestDetails.backupCount}")
+    private int cacheBackupCount;
+
     @Value("${cache.authenticationRequestDetails.entryCapacity}")
     private int cacheEntryCapacity;
 
@@ -23,4 +26,7 @@ public class AuthenticationRequestDetailsCacheConfiguration {
     @Value("${cache.authenticationRequestDetails.name}")
     private String cacheName;
 
+    @Value("${cache.authenticationRequestDetails.readBackupData}")
+    private boolean cacheReadBackupData;
+
 }
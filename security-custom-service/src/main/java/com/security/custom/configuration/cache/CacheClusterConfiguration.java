@@ -0,0 +1,52 @@
+package com.security.custom.configuration.cache;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ *    Membership of the Hazelcast cluster shared by all the instances of the microservice, so the distributed caches
+ * (blacklist, PKCE authorization codes, revoked tokens, etc) contain the same information in every one of them.
+ */
+@Configuration
+@Getter
+public class CacheClusterConfiguration {
+
+    // Key of the Eureka instance's metadata with the port used by Hazelcast
+    public static final String EUREKA_METADATA_PORT = "hazelcastPort";
+
+    @Value("${cache.cluster.discovery}")
+    private DiscoveryType discovery;
+
+    @Value("#{'${cache.cluster.members}'.split(',')}")
+    private List<String> members;
+
+    @Value("${cache.cluster.name}")
+    private String name;
+
+    @Value("${cache.cluster.port}")
+    private int port;
+
+    @Value("${spring.application.name}")
+    private String serviceId;
+
+
+    /**
+     * How the members of the cluster find each other.
+     */
+    public enum DiscoveryType {
+
+        // Every instance works alone, no cluster is created
+        NONE,
+
+        // Every instance joins the members of the cluster included in: cache.cluster.members
+        TCP_IP,
+
+        // Every instance joins the other instances of the microservice registered in Eureka
+        EUREKA
+
+    }
+
+}
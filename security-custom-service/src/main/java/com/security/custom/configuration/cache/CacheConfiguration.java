@@ -1,20 +1,32 @@
 package com.security.custom.configuration.cache;
 
 import com.hazelcast.config.Config;
+import com.hazelcast.config.DiscoveryStrategyConfig;
 import com.hazelcast.config.EvictionConfig;
 import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.JoinConfig;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MaxSizePolicy;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.spi.properties.ClusterProperty;
 import com.hazelcast.spring.cache.HazelcastCacheManager;
 import com.security.custom.configuration.Constants;
+import com.security.custom.model.ApplicationClientDetails;
+import com.spring6microservices.common.spring.cache.TwoLevelCacheManager;
+import com.spring6microservices.common.spring.cache.TwoLevelCacheManager.LocalCacheConfiguration;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @ComponentScan(basePackages = { Constants.PATH.EXTERNAL.COMMON_SPRING })
@@ -27,47 +39,121 @@ public class CacheConfiguration {
 
     private final AuthenticationRequestDetailsCacheConfiguration authenticationRequestDetailsCacheConfiguration;
 
+    private final RevokedTokenCacheConfiguration revokedTokenCacheConfiguration;
+
+    private final CacheClusterConfiguration cacheClusterConfiguration;
+
+    private final ObjectProvider<DiscoveryClient> discoveryClient;
+
 
     @Autowired
     public CacheConfiguration(final ApplicationClientDetailsCacheConfiguration applicationClientDetailsCacheConfiguration,
                               final ApplicationUserBlackListCacheConfiguration applicationUserBlackListCacheConfiguration,
-                              final AuthenticationRequestDetailsCacheConfiguration authenticationRequestDetailsCacheConfiguration) {
+                              final AuthenticationRequestDetailsCacheConfiguration authenticationRequestDetailsCacheConfiguration,
+                              final RevokedTokenCacheConfiguration revokedTokenCacheConfiguration,
+                              final CacheClusterConfiguration cacheClusterConfiguration,
+                              final ObjectProvider<DiscoveryClient> discoveryClient) {
         this.applicationClientDetailsCacheConfiguration = applicationClientDetailsCacheConfiguration;
         this.applicationUserBlackListCacheConfiguration = applicationUserBlackListCacheConfiguration;
         this.authenticationRequestDetailsCacheConfiguration = authenticationRequestDetailsCacheConfiguration;
+        this.revokedTokenCacheConfiguration = revokedTokenCacheConfiguration;
+        this.cacheClusterConfiguration = cacheClusterConfiguration;
+        this.discoveryClient = discoveryClient;
+    }
+
+
+    /**
+     *    Hazelcast member of this node, shared by the {@link CacheManager} and the services that need to work with
+     * the distributed maps directly.
+     *
+     * @return {@link HazelcastInstance}
+     */
+    @Bean
+    public HazelcastInstance hazelcastInstance() {
+        return hazelcastInstance(
+                Constants.APPLICATION.CACHE_INSTANCE_NAME
+        );
     }
 
 
     /**
-     * Centralized cache configuration to manage the information we want to cache
+     *    Centralized cache configuration to manage the information we want to cache. The caches configured to use a
+     * local one get a local copy in every node in front of Hazelcast.
+     *
+     * @param hazelcastInstance
+     *    {@link HazelcastInstance} with the distributed caches
      *
      * @return {@link CacheManager}
      */
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(final HazelcastInstance hazelcastInstance) {
+        return new TwoLevelCacheManager(
+                new HazelcastCacheManager(
+                        hazelcastInstance
+                ),
+                getLocalCaches()
+        );
+    }
+
+
+    /**
+     * Returns the Hazelcast member with the given {@code instanceName}, starting it if it does not exist yet.
+     *
+     * @param instanceName
+     *    Name of the Hazelcast member in the current JVM
+     *
+     * @return {@link HazelcastInstance}
+     */
+    HazelcastInstance hazelcastInstance(final String instanceName) {
         HazelcastInstance existingInstance = Hazelcast.getHazelcastInstanceByName(
-                Constants.APPLICATION.CACHE_INSTANCE_NAME
+                instanceName
         );
-        HazelcastInstance hazelcastInstance = null != existingInstance
+        return null != existingInstance
                 ? existingInstance
                 : Hazelcast.newHazelcastInstance(
-                        hazelCastConfig()
+                        hazelCastConfig(instanceName)
                   );
-        return new HazelcastCacheManager(
-                hazelcastInstance
-        );
+    }
+
+
+    /**
+     *    Returns the caches that will keep a local copy in every node, with their configuration. {@link ApplicationClientDetails}
+     * is mutable, so every caller gets its own copy of the local one.
+     *
+     * @return {@link Map} with the names of the caches and their {@link LocalCacheConfiguration}
+     */
+    private Map<String, LocalCacheConfiguration> getLocalCaches() {
+        Map<String, LocalCacheConfiguration> localCaches = new HashMap<>();
+        if (this.applicationClientDetailsCacheConfiguration.isUseLocalCache()) {
+            localCaches.put(
+                    this.applicationClientDetailsCacheConfiguration.getCacheName(),
+                    new LocalCacheConfiguration(
+                            this.applicationClientDetailsCacheConfiguration.getLocalEntryCapacity(),
+                            this.applicationClientDetailsCacheConfiguration.getCacheExpireInSeconds(),
+                            acd -> ((ApplicationClientDetails) acd).toBuilder()
+                                    .build()
+                    )
+            );
+        }
+        return localCaches;
     }
 
 
     /**
      * Include all configuration options and different caches used in the application.
      *
+     * @param instanceName
+     *    Name of the Hazelcast member in the current JVM
+     *
      * @return {@link Config}
      */
-    private Config hazelCastConfig() {
-        return new Config()
+    private Config hazelCastConfig(final String instanceName) {
+        Config config = new Config()
                 .setInstanceName(
-                        Constants.APPLICATION.CACHE_INSTANCE_NAME
+                        instanceName
+                )
+                .setClusterName(
+                        this.cacheClusterConfiguration.getName()
                 )
                 .addMapConfig(
                         addApplicationClientDetailsCache(
@@ -83,7 +169,71 @@ public class CacheConfiguration {
                         addAuthenticationRequestsDetailsCache(
                                 this.authenticationRequestDetailsCacheConfiguration
                         )
+                )
+                .addMapConfig(
+                        addRevokedTokenCaches(
+                                this.revokedTokenCacheConfiguration
+                        )
                 );
+        addClusterMembership(
+                config,
+                this.cacheClusterConfiguration
+        );
+        return config;
+    }
+
+
+    /**
+     *    Configures how the current member finds the rest of the cluster, disabling the default multicast and automatic
+     * detection ones, to avoid joining unexpected members.
+     *
+     * @param config
+     *    {@link Config} to update
+     * @param clusterConfiguration
+     *    {@link CacheClusterConfiguration} with the cluster values
+     */
+    private void addClusterMembership(final Config config,
+                                      final CacheClusterConfiguration clusterConfiguration) {
+        config.getNetworkConfig()
+                .setPort(
+                        clusterConfiguration.getPort()
+                );
+        JoinConfig joinConfig = config.getNetworkConfig()
+                .getJoin();
+        joinConfig.getMulticastConfig()
+                .setEnabled(false);
+        joinConfig.getAutoDetectionConfig()
+                .setEnabled(false);
+
+        switch (clusterConfiguration.getDiscovery()) {
+            case TCP_IP -> clusterConfiguration.getMembers()
+                    .stream()
+                    .filter(StringUtils::hasText)
+                    .forEach(m ->
+                            joinConfig.getTcpIpConfig()
+                                    .setEnabled(true)
+                                    .addMember(m.trim())
+                    );
+
+            case EUREKA -> {
+                config.setProperty(
+                        ClusterProperty.DISCOVERY_SPI_ENABLED.getName(),
+                        "true"
+                );
+                joinConfig.getDiscoveryConfig()
+                        .addDiscoveryStrategyConfig(
+                                new DiscoveryStrategyConfig(
+                                        new EurekaDiscoveryStrategy.Factory(
+                                                this.discoveryClient,
+                                                clusterConfiguration
+                                        )
+                                )
+                        );
+            }
+
+            // Standalone member
+            case NONE -> {}
+        }
     }
 
 
@@ -100,6 +250,12 @@ public class CacheConfiguration {
                 .setName(
                         cacheConfiguration.getCacheName()
                 )
+                .setBackupCount(
+                        cacheConfiguration.getCacheBackupCount()
+                )
+                .setReadBackupData(
+                        cacheConfiguration.isCacheReadBackupData()
+                )
                 .setEvictionConfig(
                         getEvictionConfig(
                                 cacheConfiguration.getCacheEntryCapacity()
@@ -124,6 +280,12 @@ public class CacheConfiguration {
                 .setName(
                         cacheConfiguration.getCacheName()
                 )
+                .setBackupCount(
+                        cacheConfiguration.getCacheBackupCount()
+                )
+                .setReadBackupData(
+                        cacheConfiguration.isCacheReadBackupData()
+                )
                 .setEvictionConfig(
                         getEvictionConfig(
                                 cacheConfiguration.getCacheEntryCapacity()
@@ -148,6 +310,12 @@ public class CacheConfiguration {
                 .setName(
                         cacheConfiguration.getCacheName()
                 )
+                .setBackupCount(
+                        cacheConfiguration.getCacheBackupCount()
+                )
+                .setReadBackupData(
+                        cacheConfiguration.isCacheReadBackupData()
+                )
                 .setEvictionConfig(
                         getEvictionConfig(
                                 cacheConfiguration.getCacheEntryCapacity()
@@ -159,6 +327,38 @@ public class CacheConfiguration {
     }
 
 
+    /**
+     *    Creates the {@link MapConfig} related with {@link RevokedTokenCacheConfiguration}, shared by all its bucket caches.
+     * Every bucket cache is cleared at once when all its tokens have expired, so there is no eviction: removing a revoked
+     * token before it expires would make it valid again.
+     * <p>
+     *    The TTL is only a safeguard in case a bucket is not cleared. A token is revoked after being issued, so it expires
+     * at most {@link RevokedTokenCacheConfiguration#getMaxTokenValidityInSeconds()} after being stored, and its bucket
+     * ends at most {@link RevokedTokenCacheConfiguration#getBucketSizeInSeconds()} later. With their sum, no entry is
+     * removed while its token is valid.
+     *
+     * @param cacheConfiguration
+     *    {@link RevokedTokenCacheConfiguration} with its specific configuration values
+     *
+     * @return {@link MapConfig}
+     */
+    private MapConfig addRevokedTokenCaches(final RevokedTokenCacheConfiguration cacheConfiguration) {
+        return new MapConfig()
+                .setName(
+                        cacheConfiguration.getCacheName() + "_*"
+                )
+                .setBackupCount(
+                        cacheConfiguration.getCacheBackupCount()
+                )
+                .setReadBackupData(
+                        cacheConfiguration.isCacheReadBackupData()
+                )
+                .setTimeToLiveSeconds(
+                        cacheConfiguration.getMaxTokenValidityInSeconds() + cacheConfiguration.getBucketSizeInSeconds()
+                );
+    }
+
+
     /**
      * Returns a new configuration for cache's eviction.
      *
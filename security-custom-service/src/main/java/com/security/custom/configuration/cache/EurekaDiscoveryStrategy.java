@@ -0,0 +1,135 @@
+package com.security.custom.configuration.cache;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.config.properties.PropertyDefinition;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.spi.discovery.AbstractDiscoveryStrategy;
+import com.hazelcast.spi.discovery.DiscoveryNode;
+import com.hazelcast.spi.discovery.DiscoveryStrategy;
+import com.hazelcast.spi.discovery.DiscoveryStrategyFactory;
+import com.hazelcast.spi.discovery.SimpleDiscoveryNode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static com.security.custom.configuration.cache.CacheClusterConfiguration.EUREKA_METADATA_PORT;
+
+/**
+ *    Hazelcast's {@link DiscoveryStrategy} that uses the instances of the microservice registered in Eureka (through
+ * Spring Cloud's {@link DiscoveryClient}) as members of the cluster. Every instance publishes the port used by Hazelcast
+ * in its metadata: {@link CacheClusterConfiguration#EUREKA_METADATA_PORT}, if it is not included
+ * {@link CacheClusterConfiguration#getPort()} is used.
+ * <p>
+ *    The registered instances are requested every time Hazelcast looks for new members, so the instances started after
+ * this one are joined to the cluster too.
+ */
+final class EurekaDiscoveryStrategy extends AbstractDiscoveryStrategy {
+
+    private final ObjectProvider<DiscoveryClient> discoveryClient;
+
+    private final CacheClusterConfiguration clusterConfiguration;
+
+
+    private EurekaDiscoveryStrategy(final ILogger logger,
+                                    final Map<String, Comparable> properties,
+                                    final ObjectProvider<DiscoveryClient> discoveryClient,
+                                    final CacheClusterConfiguration clusterConfiguration) {
+        super(logger, properties);
+        this.discoveryClient = discoveryClient;
+        this.clusterConfiguration = clusterConfiguration;
+    }
+
+
+    @Override
+    public Iterable<DiscoveryNode> discoverNodes() {
+        final DiscoveryClient client = discoveryClient.getIfAvailable();
+        if (null == client) {
+            getLogger().warning("There is no discovery client to find the members of the cluster");
+            return List.of();
+        }
+        List<DiscoveryNode> nodes = new ArrayList<>();
+        for (ServiceInstance instance : client.getInstances(clusterConfiguration.getServiceId())) {
+            try {
+                nodes.add(
+                        new SimpleDiscoveryNode(
+                                new Address(
+                                        instance.getHost(),
+                                        getPort(instance)
+                                )
+                        )
+                );
+            }
+            catch (UnknownHostException | NumberFormatException e) {
+                getLogger().warning(
+                        "The instance: " + instance.getInstanceId() + " could not be included as member of the cluster",
+                        e
+                );
+            }
+        }
+        return nodes;
+    }
+
+
+    /**
+     * Returns the port used by Hazelcast in the given {@link ServiceInstance}.
+     */
+    private int getPort(final ServiceInstance instance) {
+        final String metadataPort = null != instance.getMetadata()
+                ? instance.getMetadata().get(EUREKA_METADATA_PORT)
+                : null;
+
+        return null != metadataPort
+                ? Integer.parseInt(metadataPort.trim())
+                : clusterConfiguration.getPort();
+    }
+
+
+    /**
+     * {@link DiscoveryStrategyFactory} of {@link EurekaDiscoveryStrategy}.
+     */
+    static final class Factory implements DiscoveryStrategyFactory {
+
+        private final ObjectProvider<DiscoveryClient> discoveryClient;
+
+        private final CacheClusterConfiguration clusterConfiguration;
+
+
+        Factory(final ObjectProvider<DiscoveryClient> discoveryClient,
+                final CacheClusterConfiguration clusterConfiguration) {
+            this.discoveryClient = discoveryClient;
+            this.clusterConfiguration = clusterConfiguration;
+        }
+
+
+        @Override
+        public Class<? extends DiscoveryStrategy> getDiscoveryStrategyType() {
+            return EurekaDiscoveryStrategy.class;
+        }
+
+
+        @Override
+        public DiscoveryStrategy newDiscoveryStrategy(final DiscoveryNode discoveryNode,
+                                                      final ILogger logger,
+                                                      final Map<String, Comparable> properties) {
+            return new EurekaDiscoveryStrategy(
+                    logger,
+                    properties,
+                    discoveryClient,
+                    clusterConfiguration
+            );
+        }
+
+
+        @Override
+        public Collection<PropertyDefinition> getConfigurationProperties() {
+            return List.of();
+        }
+    }
+
+}
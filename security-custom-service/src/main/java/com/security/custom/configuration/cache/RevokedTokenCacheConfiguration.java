@@ -0,0 +1,30 @@
+package com.security.custom.configuration.cache;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ *    With the cache configuration related with the revoked tokens. Every token is stored in the bucket of its expiration
+ * time, so the whole bucket is removed once all its tokens have expired.
+ */
+@Configuration
+@Getter
+public class RevokedTokenCacheConfiguration {
+
+    @Value("${cache.revokedToken.backupCount}")
+    private int cacheBackupCount;
+
+    @Value("${cache.revokedToken.bucketSizeInSeconds}")
+    private int bucketSizeInSeconds;
+
+    @Value("${cache.revokedToken.maxTokenValidityInSeconds}")
+    private int maxTokenValidityInSeconds;
+
+    @Value("${cache.revokedToken.name}")
+    private String cacheName;
+
+    @Value("${cache.revokedToken.readBackupData}")
+    private boolean cacheReadBackupData;
+
+}
@@ -0,0 +1,24 @@
+package com.security.custom.configuration.cache;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ *    With the cache configuration related with the already verified access tokens. It is a local cache of every node,
+ * so it is not included in the distributed one.
+ */
+@Configuration
+@Getter
+public class VerifiedAccessTokenCacheConfiguration {
+
+    @Value("${cache.verifiedAccessToken.entryCapacity}")
+    private int cacheEntryCapacity;
+
+    @Value("${cache.verifiedAccessToken.expireInSeconds}")
+    private int cacheExpireInSeconds;
+
+    @Value("${cache.verifiedAccessToken.name}")
+    private String cacheName;
+
+}
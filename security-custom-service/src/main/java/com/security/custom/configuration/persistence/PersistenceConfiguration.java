@@ -2,10 +2,17 @@ package com.security.custom.configuration.persistence;
 
 import com.security.custom.configuration.Constants;
 import com.spring6microservices.common.spring.repository.ExtendedJpaRepositoryImpl;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import javax.sql.DataSource;
+
 @Configuration(value = Constants.APPLICATION.NAME + "PersistenceConfiguration")
 @EnableJpaRepositories(
         basePackages = PersistenceConfiguration.REPOSITORY_PATH,
@@ -22,4 +29,28 @@ public class PersistenceConfiguration {
         public static final String APPLICATION_CLIENT_DETAILS = "application_client_details";
     }
 
+
+    /**
+     *    Spring Boot does not configure a {@link DataSource} when a R2DBC {@code ConnectionFactory} is present, however
+     * both are used: R2DBC in the reactive searches and JDBC/JPA in the rest of them (and as fallback of the reactive ones).
+     *
+     * @return {@link DataSourceProperties} with the values included in {@code spring.datasource}
+     */
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(final DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
 }
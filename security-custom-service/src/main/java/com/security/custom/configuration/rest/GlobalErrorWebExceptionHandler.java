@@ -26,9 +26,11 @@ import org.springframework.web.bind.support.WebExchangeBindException;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.ServerWebInputException;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 import static com.spring6microservices.common.spring.enums.ExtendedHttpStatus.TOKEN_EXPIRED;
 import static com.spring6microservices.common.spring.enums.RestApiErrorCode.INTERNAL;
@@ -39,6 +41,7 @@ import static java.util.stream.Collectors.toList;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
@@ -273,6 +276,33 @@ public class GlobalErrorWebExceptionHandler {
     }
 
 
+    /**
+     *    Method used to manage when a Rest request throws a {@link RejectedExecutionException}, that is, when the
+     * {@link Scheduler} used to run expensive operations is full.
+     *
+     * @param exchange
+     *    {@link ServerWebExchange} with the request information
+     * @param exception
+     *    {@link RejectedExecutionException} thrown
+     *
+     * @return {@link Mono} with the suitable response
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public Mono<Void> rejectedExecutionException(final ServerWebExchange exchange,
+                                                 final RejectedExecutionException exception) {
+        log.warn(
+                getErrorMessageUsingHttpRequest(exchange),
+                exception
+        );
+        return buildErrorResponse(
+                INTERNAL,
+                List.of("The server is too busy to handle the request, try again later"),
+                exchange,
+                SERVICE_UNAVAILABLE.value()
+        );
+    }
+
+
     /**
      * Method used to manage when a Rest request throws a {@link ServerWebInputException}.
      *
@@ -458,6 +488,90 @@ public class GlobalErrorWebExceptionHandler {
     }
 
 
+    /**
+     *    Returns the Http code and error information that a request checking only one token receives when it fails with
+     * the given {@code exception}. Used by the requests that check several tokens at once, reporting the error of every
+     * token instead of failing the whole request.
+     *
+     * @param exception
+     *    {@link Throwable} thrown checking a token
+     *
+     * @return {@link ErrorResponse}
+     */
+    public static ErrorResponse getTokenErrorResponse(final Throwable exception) {
+        if (exception instanceof AccountStatusException) {
+            return new ErrorResponse(
+                    SECURITY,
+                    List.of("The account of the user is disabled"),
+                    FORBIDDEN.value(),
+                    true
+            );
+        }
+        if (exception instanceof ApplicationClientNotFoundException) {
+            return new ErrorResponse(
+                    SECURITY,
+                    List.of("Given invalid application client details identifier"),
+                    UNAUTHORIZED.value(),
+                    true
+            );
+        }
+        if (exception instanceof TokenExpiredException) {
+            return new ErrorResponse(
+                    SECURITY,
+                    List.of("The given authorization token has expired"),
+                    TOKEN_EXPIRED.getValue(),
+                    true
+            );
+        }
+        if (exception instanceof TokenInvalidException) {
+            return new ErrorResponse(
+                    SECURITY,
+                    List.of("The provided token is invalid"),
+                    UNAUTHORIZED.value(),
+                    true
+            );
+        }
+        if (exception instanceof UnauthorizedException) {
+            return new ErrorResponse(
+                    SECURITY,
+                    List.of(exception.getMessage()),
+                    UNAUTHORIZED.value(),
+                    true
+            );
+        }
+        if (exception instanceof UsernameNotFoundException) {
+            return new ErrorResponse(
+                    SECURITY,
+                    List.of("Given invalid credentials"),
+                    UNAUTHORIZED.value(),
+                    true
+            );
+        }
+        if (exception instanceof IllegalArgumentException) {
+            return new ErrorResponse(
+                    VALIDATION,
+                    List.of("There was an error in the provided information"),
+                    BAD_REQUEST.value(),
+                    true
+            );
+        }
+        if (exception instanceof RejectedExecutionException) {
+            return new ErrorResponse(
+                    INTERNAL,
+                    List.of("The server is too busy to handle the request, try again later"),
+                    SERVICE_UNAVAILABLE.value(),
+                    true
+            );
+        }
+        return new ErrorResponse(
+                INTERNAL,
+                List.of("Internal error in the application"),
+                INTERNAL_SERVER_ERROR.value(),
+                false
+        );
+    }
+
+
     /**
      * Using the given {@link ServerWebExchange} builds a message with information about the Http request.
      *
@@ -574,4 +688,35 @@ public class GlobalErrorWebExceptionHandler {
                 );
     }
 
-}
\ No newline at end of file
+
+    /**
+     * Error information returned to the client when the check of a token fails.
+     *
+     * @param error
+     *    {@link ErrorResponseDto} included in the response
+     * @param httpStatus
+     *    Http code used in the response
+     * @param expected
+     *    {@code true} if the check failed due to a known situation, like an expired token or wrong provided
+     *    information, and not due to an internal problem
+     */
+    public record ErrorResponse(ErrorResponseDto error,
+                                int httpStatus,
+                                boolean expected) {
+
+        ErrorResponse(final RestApiErrorCode errorCode,
+                      final List<String> errorMessages,
+                      final int httpStatus,
+                      final boolean expected) {
+            this(
+                    new ErrorResponseDto(
+                            errorCode,
+                            errorMessages
+                    ),
+                    httpStatus,
+                    expected
+            );
+        }
+    }
+
+}
@@ -19,6 +19,8 @@ public final class RestRoutes {
     public static final class AUTHORIZATION {
         public static final String ROOT = RestRoutes.ROOT + "/authorization";
         public static final String CHECK_TOKEN = "/check_token";
+        public static final String CHECK_TOKENS = "/check_tokens";
+        public static final String JWKS = "/jwks";
     }
 
     public static final class CACHE {
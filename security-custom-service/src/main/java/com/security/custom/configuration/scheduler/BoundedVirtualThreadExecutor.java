@@ -0,0 +1,161 @@
+package com.security.custom.configuration.scheduler;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ *    {@link ExecutorService} that runs every task in a new virtual thread, instead of reusing a fixed number of them
+ * like a {@link java.util.concurrent.ThreadPoolExecutor}, because virtual threads are cheap to create and must not be
+ * pooled.
+ * <p>
+ *    The limits of a pool are kept using {@link Semaphore}s: at most {@code maxRunningTasks} tasks are run at the same
+ * time, the rest wait for a permit in their virtual thread, and when {@code maxRunningTasks} + {@code maxQueuedTasks}
+ * tasks were already accepted the new ones are rejected immediately.
+ */
+final class BoundedVirtualThreadExecutor extends AbstractExecutorService {
+
+    private final ExecutorService executor;
+
+    private final int maxRunningTasks;
+
+    private final int maxAcceptedTasks;
+
+    private final Semaphore acceptedTasks;
+
+    private final Semaphore runningTasks;
+
+    private final Supplier<RejectedExecutionException> rejection;
+
+
+    /**
+     * Builds a new executor with the given limits.
+     *
+     * @param maxRunningTasks
+     *    Maximum number of tasks run at the same time
+     * @param maxQueuedTasks
+     *    Maximum number of tasks waiting to be run
+     * @param threadFactory
+     *    {@link ThreadFactory} used to create the virtual threads
+     * @param rejection
+     *    {@link Supplier} of the {@link RejectedExecutionException} thrown when a task is rejected
+     */
+    BoundedVirtualThreadExecutor(final int maxRunningTasks,
+                                 final int maxQueuedTasks,
+                                 final ThreadFactory threadFactory,
+                                 final Supplier<RejectedExecutionException> rejection) {
+        this.executor = Executors.newThreadPerTaskExecutor(threadFactory);
+        this.maxRunningTasks = maxRunningTasks;
+        this.maxAcceptedTasks = maxRunningTasks + maxQueuedTasks;
+        this.acceptedTasks = new Semaphore(maxAcceptedTasks);
+        this.runningTasks = new Semaphore(maxRunningTasks);
+        this.rejection = rejection;
+    }
+
+
+    @Override
+    public void execute(final Runnable task) {
+        if (!acceptedTasks.tryAcquire()) {
+            throw rejection.get();
+        }
+        try {
+            executor.execute(() ->
+                    run(task)
+            );
+
+        } catch (RejectedExecutionException e) {
+            acceptedTasks.release();
+            throw e;
+        }
+    }
+
+
+    /**
+     * Returns the approximate number of tasks that are being run.
+     *
+     * @return number of running tasks
+     */
+    int getActiveCount() {
+        return maxRunningTasks - runningTasks.availablePermits();
+    }
+
+
+    /**
+     * Returns the approximate number of accepted tasks that are waiting to be run.
+     *
+     * @return number of queued tasks
+     */
+    int getQueuedCount() {
+        return Math.max(
+                0,
+                maxAcceptedTasks - acceptedTasks.availablePermits() - getActiveCount()
+        );
+    }
+
+
+    @Override
+    public boolean awaitTermination(final long timeout,
+                                    final TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(
+                timeout,
+                unit
+        );
+    }
+
+
+    @Override
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+
+    @Override
+    public boolean isTerminated() {
+        return executor.isTerminated();
+    }
+
+
+    @Override
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return executor.shutdownNow();
+    }
+
+
+    /**
+     *    Runs the given {@code task} once there are less than {@code maxRunningTasks} running ones, releasing its
+     * permits when it finishes.
+     *
+     * @param task
+     *    {@link Runnable} to run
+     */
+    private void run(final Runnable task) {
+        try {
+            runningTasks.acquire();
+
+        } catch (InterruptedException e) {
+            acceptedTasks.release();
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            task.run();
+
+        } finally {
+            runningTasks.release();
+            acceptedTasks.release();
+        }
+    }
+
+}
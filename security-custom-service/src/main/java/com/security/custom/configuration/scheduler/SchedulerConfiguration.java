@@ -0,0 +1,311 @@
+package com.security.custom.configuration.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ *    With the {@link Scheduler}s used to run expensive operations out of the event loop. Every one of them contains a
+ * fixed number of threads and a bounded queue, so when both are full the new tasks are rejected immediately with a
+ * {@link RejectedExecutionException} instead of waiting (and stalling the rest of the requests of the node). When
+ * virtual threads are used, those limits are applied by {@link BoundedVirtualThreadExecutor}, because virtual threads
+ * must not be pooled.
+ * <p>
+ *    The metrics of every one are published using {@link ExecutorServiceMetrics} (executor.active, executor.queued,
+ * executor.completed, etc.) and the {@link SchedulerConfiguration#REJECTED_TASKS_METRIC} counter, all of them tagged
+ * with {@code name} equals to the {@link Scheduler}'s one. {@link ExecutorServiceMetrics} only knows the state of a
+ * {@link ThreadPoolExecutor}, so executor.active and executor.queued of {@link BoundedVirtualThreadExecutor} are
+ * registered here, and the ones about the pool, like executor.completed, are not published for it.
+ * <p>
+ *    It also enables the periodic tasks, like the clearing of the ended buckets of revoked tokens.
+ */
+@Configuration
+@EnableScheduling
+@Getter
+public class SchedulerConfiguration {
+
+    public static final String BLOCKING_IO_SCHEDULER = "blockingIoScheduler";
+
+    public static final String CRYPTO_SCHEDULER = "cryptoScheduler";
+
+    public static final String REJECTED_TASKS_METRIC = "executor.rejected";
+
+    // Same names used by ExecutorServiceMetrics for a ThreadPoolExecutor
+    private static final String ACTIVE_TASKS_METRIC = "executor.active";
+
+    private static final String QUEUED_TASKS_METRIC = "executor.queued";
+
+    @Value("${scheduler.blockingIo.poolSize}")
+    private int blockingIoPoolSize;
+
+    @Value("${scheduler.blockingIo.queueCapacity}")
+    private int blockingIoQueueCapacity;
+
+    @Value("${scheduler.blockingIo.virtualThreads}")
+    private boolean blockingIoVirtualThreads;
+
+    @Value("${scheduler.crypto.poolSize}")
+    private int cryptoPoolSize;
+
+    @Value("${scheduler.crypto.queueCapacity}")
+    private int cryptoQueueCapacity;
+
+
+    /**
+     *    Bounded {@link Scheduler} to run blocking I/O operations, like database queries. If
+     * {@link SchedulerConfiguration#blockingIoVirtualThreads} is {@code true}, every task will be run in a new virtual
+     * thread, so {@link SchedulerConfiguration#blockingIoPoolSize} (the maximum number of running tasks) can be much
+     * bigger than available processors.
+     *
+     * @param meterRegistry
+     *    {@link MeterRegistry} used to publish the metrics of the {@link Scheduler}
+     *
+     * @return {@link Scheduler}
+     */
+    @Bean(
+            name = BLOCKING_IO_SCHEDULER,
+            destroyMethod = "dispose"
+    )
+    public Scheduler blockingIoScheduler(final MeterRegistry meterRegistry) {
+        final String name = "blocking-io";
+        return blockingIoVirtualThreads
+                ? buildBoundedVirtualThreadScheduler(
+                        name,
+                        blockingIoPoolSize,
+                        blockingIoQueueCapacity,
+                        meterRegistry
+                  )
+                : buildBoundedScheduler(
+                        name,
+                        blockingIoPoolSize,
+                        blockingIoQueueCapacity,
+                        Thread.ofPlatform().name(name + "-", 0).daemon().factory(),
+                        meterRegistry
+                  );
+    }
+
+
+    /**
+     *    Bounded {@link Scheduler} to run CPU bound operations, like password hashing or token signing, encryption and
+     * verification. It should not contain more threads than available processors.
+     *
+     * @param meterRegistry
+     *    {@link MeterRegistry} used to publish the metrics of the {@link Scheduler}
+     *
+     * @return {@link Scheduler}
+     */
+    @Bean(
+            name = CRYPTO_SCHEDULER,
+            destroyMethod = "dispose"
+    )
+    public Scheduler cryptoScheduler(final MeterRegistry meterRegistry) {
+        final String name = "crypto";
+        return buildBoundedScheduler(
+                name,
+                cryptoPoolSize,
+                cryptoQueueCapacity,
+                Thread.ofPlatform().name(name + "-", 0).daemon().factory(),
+                meterRegistry
+        );
+    }
+
+
+    /**
+     *    Builds a {@link Scheduler} with {@code poolSize} threads and a queue of {@code queueCapacity} pending tasks,
+     * rejecting the new ones when both are full.
+     *
+     * @param name
+     *    Name of the {@link Scheduler} and tag of its metrics
+     * @param poolSize
+     *    Number of threads
+     * @param queueCapacity
+     *    Maximum number of pending tasks
+     * @param threadFactory
+     *    {@link ThreadFactory} used to create the threads
+     * @param meterRegistry
+     *    {@link MeterRegistry} used to publish the metrics
+     *
+     * @return {@link Scheduler}
+     */
+    private static Scheduler buildBoundedScheduler(final String name,
+                                                   final int poolSize,
+                                                   final int queueCapacity,
+                                                   final ThreadFactory threadFactory,
+                                                   final MeterRegistry meterRegistry) {
+        final Counter rejectedTasks = rejectedTasksCounter(
+                name,
+                meterRegistry
+        );
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                rejectAndCount(
+                        name,
+                        rejectedTasks
+                )
+        );
+        return buildMonitoredScheduler(
+                name,
+                executor,
+                meterRegistry
+        );
+    }
+
+
+    /**
+     *    Builds a {@link Scheduler} that runs every task in a new virtual thread, running at most {@code maxRunningTasks}
+     * at the same time and rejecting the new ones when {@code maxQueuedTasks} more are waiting.
+     *
+     * @param name
+     *    Name of the {@link Scheduler}, prefix of its threads and tag of its metrics
+     * @param maxRunningTasks
+     *    Maximum number of tasks run at the same time
+     * @param maxQueuedTasks
+     *    Maximum number of pending tasks
+     * @param meterRegistry
+     *    {@link MeterRegistry} used to publish the metrics
+     *
+     * @return {@link Scheduler}
+     */
+    private static Scheduler buildBoundedVirtualThreadScheduler(final String name,
+                                                                final int maxRunningTasks,
+                                                                final int maxQueuedTasks,
+                                                                final MeterRegistry meterRegistry) {
+        final Counter rejectedTasks = rejectedTasksCounter(
+                name,
+                meterRegistry
+        );
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor(
+                maxRunningTasks,
+                maxQueuedTasks,
+                Thread.ofVirtual().name(name + "-", 0).factory(),
+                () -> reject(
+                        name,
+                        rejectedTasks
+                )
+        );
+        Gauge.builder(ACTIVE_TASKS_METRIC, executor, BoundedVirtualThreadExecutor::getActiveCount)
+                .description("The approximate number of tasks that are actively executing tasks")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder(QUEUED_TASKS_METRIC, executor, BoundedVirtualThreadExecutor::getQueuedCount)
+                .description("The approximate number of tasks that are queued for execution")
+                .tag("name", name)
+                .register(meterRegistry);
+        return buildMonitoredScheduler(
+                name,
+                executor,
+                meterRegistry
+        );
+    }
+
+
+    /**
+     * Returns a {@link Scheduler} over the given {@code executor}, publishing its metrics.
+     *
+     * @param name
+     *    Name of the {@link Scheduler} and tag of its metrics
+     * @param executor
+     *    {@link ExecutorService} that runs the tasks
+     * @param meterRegistry
+     *    {@link MeterRegistry} used to publish the metrics
+     *
+     * @return {@link Scheduler}
+     */
+    private static Scheduler buildMonitoredScheduler(final String name,
+                                                     final ExecutorService executor,
+                                                     final MeterRegistry meterRegistry) {
+        return Schedulers.fromExecutorService(
+                ExecutorServiceMetrics.monitor(
+                        meterRegistry,
+                        executor,
+                        name
+                ),
+                name
+        );
+    }
+
+
+    /**
+     * Registers the {@link Counter} of rejected tasks of the {@link Scheduler} with the given {@code name}.
+     *
+     * @param name
+     *    Name of the {@link Scheduler}
+     * @param meterRegistry
+     *    {@link MeterRegistry} used to publish the metric
+     *
+     * @return {@link Counter}
+     */
+    private static Counter rejectedTasksCounter(final String name,
+                                                final MeterRegistry meterRegistry) {
+        return Counter.builder(REJECTED_TASKS_METRIC)
+                .description("Number of tasks rejected because the executor and its queue were full")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * Returns a {@link RejectedExecutionHandler} that increases {@code rejectedTasks} and fails fast.
+     *
+     * @param name
+     *    Name of the {@link Scheduler}
+     * @param rejectedTasks
+     *    {@link Counter} of rejected tasks
+     *
+     * @return {@link RejectedExecutionHandler}
+     */
+    private static RejectedExecutionHandler rejectAndCount(final String name,
+                                                           final Counter rejectedTasks) {
+        return (task, executor) -> {
+            throw reject(
+                    name,
+                    rejectedTasks
+            );
+        };
+    }
+
+
+    /**
+     * Increases {@code rejectedTasks} and returns the {@link RejectedExecutionException} to throw.
+     *
+     * @param name
+     *    Name of the {@link Scheduler}
+     * @param rejectedTasks
+     *    {@link Counter} of rejected tasks
+     *
+     * @return {@link RejectedExecutionException}
+     */
+    private static RejectedExecutionException reject(final String name,
+                                                     final Counter rejectedTasks) {
+        rejectedTasks.increment();
+        return new RejectedExecutionException(
+                format("The scheduler: %s is full",
+                        name
+                )
+        );
+    }
+
+}
@@ -1,26 +1,96 @@
 package com.security.custom.configuration.security;
 
 import com.security.custom.service.ApplicationClientDetailsService;
+import com.security.custom.service.cache.ApplicationClientCredentialsCacheService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
 import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Scheduler;
+
+import static com.security.custom.configuration.scheduler.SchedulerConfiguration.CRYPTO_SCHEDULER;
 
 /**
  *    Overwrites the default authentication functionality {@link UserDetailsRepositoryReactiveAuthenticationManager},
  * adding customs: {@link PasswordEncoder} and {@link ReactiveUserDetailsService}
+ * <p>
+ *    The successful verifications of the application clients' credentials are stored in
+ * {@link ApplicationClientCredentialsCacheService}, so the expensive {@link PasswordEncoder#matches(CharSequence, String)}
+ * is not executed every time the same application client is authenticated.
+ * <p>
+ *    The search of the application client does not block the event loop
+ * ({@link ApplicationClientDetailsService#findByUsername(String)} uses the cache in a bounded {@link Scheduler} and
+ * R2DBC when it is not cached), and the verification of its password is executed in other bounded {@link Scheduler}.
  */
 @Component
 public class AuthenticationManager extends UserDetailsRepositoryReactiveAuthenticationManager {
 
     @Autowired
     public AuthenticationManager(final ApplicationClientDetailsService applicationClientDetailsService,
-                                 final PasswordEncoder passwordEncoder) {
+                                 final ApplicationClientCredentialsCacheService applicationClientCredentialsCacheService,
+                                 final PasswordEncoder passwordEncoder,
+                                 @Qualifier(CRYPTO_SCHEDULER) final Scheduler cryptoScheduler) {
         super(applicationClientDetailsService);
         this.setPasswordEncoder(
-                passwordEncoder
+                new CachedCredentialsPasswordEncoder(
+                        passwordEncoder,
+                        applicationClientCredentialsCacheService
+                )
         );
+        this.setScheduler(cryptoScheduler);
+    }
+
+
+    /**
+     *    {@link PasswordEncoder} that only delegates the verification of the given credentials if they were not
+     * successfully verified before.
+     */
+    private static final class CachedCredentialsPasswordEncoder implements PasswordEncoder {
+
+        private final PasswordEncoder delegate;
+
+        private final ApplicationClientCredentialsCacheService credentialsCacheService;
+
+
+        private CachedCredentialsPasswordEncoder(final PasswordEncoder delegate,
+                                                 final ApplicationClientCredentialsCacheService credentialsCacheService) {
+            this.delegate = delegate;
+            this.credentialsCacheService = credentialsCacheService;
+        }
+
+
+        @Override
+        public String encode(final CharSequence rawPassword) {
+            return delegate.encode(rawPassword);
+        }
+
+
+        @Override
+        public boolean matches(final CharSequence rawPassword,
+                               final String encodedPassword) {
+            if (credentialsCacheService.contains(rawPassword, encodedPassword)) {
+                return true;
+            }
+            boolean matches = delegate.matches(
+                    rawPassword,
+                    encodedPassword
+            );
+            if (matches) {
+                credentialsCacheService.put(
+                        rawPassword,
+                        encodedPassword
+                );
+            }
+            return matches;
+        }
+
+
+        @Override
+        public boolean upgradeEncoding(final String encodedPassword) {
+            return delegate.upgradeEncoding(encodedPassword);
+        }
     }
 
 }
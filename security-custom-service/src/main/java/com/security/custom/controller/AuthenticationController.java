@@ -19,6 +19,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Size;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,7 +29,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
+import java.util.concurrent.Callable;
+
+import static com.security.custom.configuration.scheduler.SchedulerConfiguration.BLOCKING_IO_SCHEDULER;
 import static java.lang.String.format;
 import static org.springframework.http.HttpStatus.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
@@ -43,10 +48,14 @@ public class AuthenticationController extends BaseController {
 
     private final AuthenticationService service;
 
+    private final Scheduler blockingIoScheduler;
+
 
     @Autowired
-    public AuthenticationController(final AuthenticationService service) {
+    public AuthenticationController(final AuthenticationService service,
+                                    @Qualifier(BLOCKING_IO_SCHEDULER) final Scheduler blockingIoScheduler) {
         this.service = service;
+        this.blockingIoScheduler = blockingIoScheduler;
     }
 
 
@@ -114,6 +123,16 @@ public class AuthenticationController extends BaseController {
                                             implementation = ErrorResponseDto.class
                                     )
                             )
+                    ),
+                    @ApiResponse(
+                            responseCode = "503",
+                            description = "The server is too busy to handle the request, try again later",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(
+                                            implementation = ErrorResponseDto.class
+                                    )
+                            )
                     )
             }
     )
@@ -130,8 +149,8 @@ public class AuthenticationController extends BaseController {
                 )
         );
         return getPrincipal()
-                .map(applicationClientDetails ->
-                        service.login(
+                .flatMap(applicationClientDetails ->
+                        service.loginReactive(
                                         applicationClientDetails.getUsername(),
                                         authenticationRequest.getUsername(),
                                         authenticationRequest.getPassword()
@@ -142,7 +161,7 @@ public class AuthenticationController extends BaseController {
                                                 OK
                                         )
                                 )
-                                .orElseGet(() ->
+                                .defaultIfEmpty(
                                         new ResponseEntity<>(
                                                 UNPROCESSABLE_ENTITY
                                         )
@@ -215,6 +234,16 @@ public class AuthenticationController extends BaseController {
                                             implementation = ErrorResponseDto.class
                                     )
                             )
+                    ),
+                    @ApiResponse(
+                            responseCode = "503",
+                            description = "The server is too busy to handle the request, try again later",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(
+                                            implementation = ErrorResponseDto.class
+                                    )
+                            )
                     )
             }
     )
@@ -228,11 +257,16 @@ public class AuthenticationController extends BaseController {
                 )
         );
         return getPrincipal()
-                .map(applicationClientDetails ->
-                        service.loginAuthorized(
+                .flatMap(applicationClientDetails ->
+                        runBlocking(() ->
+                                service.loginAuthorized(
                                         applicationClientDetails.getUsername(),
                                         authenticationRequest
                                 )
+                        )
+                )
+                .map(authenticationInformation ->
+                        authenticationInformation
                                 .map(ai ->
                                         new ResponseEntity<>(
                                                 ai,
@@ -325,6 +359,16 @@ public class AuthenticationController extends BaseController {
                                             implementation = ErrorResponseDto.class
                                     )
                             )
+                    ),
+                    @ApiResponse(
+                            responseCode = "503",
+                            description = "The server is too busy to handle the request, try again later",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(
+                                            implementation = ErrorResponseDto.class
+                                    )
+                            )
                     )
             }
     )
@@ -338,8 +382,8 @@ public class AuthenticationController extends BaseController {
                 )
         );
         return getPrincipal()
-                .map(applicationClientDetails ->
-                        service.loginToken(
+                .flatMap(applicationClientDetails ->
+                        service.loginTokenReactive(
                                         applicationClientDetails.getUsername(),
                                         authenticationRequest
                                 )
@@ -349,7 +393,7 @@ public class AuthenticationController extends BaseController {
                                                 OK
                                         )
                                 )
-                                .orElseGet(() ->
+                                .defaultIfEmpty(
                                         new ResponseEntity<>(
                                                 UNPROCESSABLE_ENTITY
                                         )
@@ -413,6 +457,16 @@ public class AuthenticationController extends BaseController {
                                             implementation = ErrorResponseDto.class
                                     )
                             )
+                    ),
+                    @ApiResponse(
+                            responseCode = "503",
+                            description = "The server is too busy to handle the request, try again later",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(
+                                            implementation = ErrorResponseDto.class
+                                    )
+                            )
                     )
             }
     )
@@ -426,8 +480,8 @@ public class AuthenticationController extends BaseController {
                 )
         );
         return getPrincipal()
-                .map(applicationClientDetails ->
-                        service.logout(
+                .flatMap(applicationClientDetails ->
+                        service.logoutReactive(
                                 applicationClientDetails.getUsername(),
                                 logoutRequest
                         )
@@ -507,6 +561,16 @@ public class AuthenticationController extends BaseController {
                                             implementation = ErrorResponseDto.class
                                     )
                             )
+                    ),
+                    @ApiResponse(
+                            responseCode = "503",
+                            description = "The server is too busy to handle the request, try again later",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(
+                                            implementation = ErrorResponseDto.class
+                                    )
+                            )
                     )
             }
     )
@@ -523,8 +587,8 @@ public class AuthenticationController extends BaseController {
                 )
         );
         return getPrincipal()
-                .map(applicationClientDetails ->
-                        service.refresh(
+                .flatMap(applicationClientDetails ->
+                        service.refreshReactive(
                                         applicationClientDetails.getUsername(),
                                         refreshToken
                                 )
@@ -534,7 +598,7 @@ public class AuthenticationController extends BaseController {
                                                 OK
                                         )
                                 )
-                                .orElseGet(() ->
+                                .defaultIfEmpty(
                                         new ResponseEntity<>(
                                                 HttpStatus.UNAUTHORIZED
                                         )
@@ -542,5 +606,19 @@ public class AuthenticationController extends BaseController {
                 );
     }
 
-}
 
+    /**
+     *    Runs the given {@code operation} in {@link AuthenticationController#blockingIoScheduler}, because it includes
+     * blocking accesses to distributed caches that must not be executed in the event loop.
+     *
+     * @param operation
+     *    {@link Callable} to run
+     *
+     * @return {@link Mono} with the result of {@code operation}
+     */
+    private <T> Mono<T> runBlocking(final Callable<T> operation) {
+        return Mono.fromCallable(operation)
+                .subscribeOn(blockingIoScheduler);
+    }
+
+}
@@ -1,14 +1,18 @@
 package com.security.custom.controller;
 
+import com.security.custom.configuration.rest.GlobalErrorWebExceptionHandler.ErrorResponse;
 import com.security.custom.configuration.rest.RestRoutes;
+import com.security.custom.dto.CheckTokenResultDto;
 import com.security.custom.service.AuthorizationService;
 import com.spring6microservices.common.spring.dto.AuthorizationInformationDto;
 import com.spring6microservices.common.spring.dto.ErrorResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,12 +20,19 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Map;
+
+import static com.security.custom.configuration.rest.GlobalErrorWebExceptionHandler.getTokenErrorResponse;
+import static com.spring6microservices.common.core.util.ExceptionUtil.getFormattedCurrentAndRootError;
 import static java.lang.String.format;
 import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
@@ -34,6 +45,11 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 @Validated
 public class AuthorizationController extends BaseController {
 
+    /**
+     * Maximum number of tokens allowed in a batch request.
+     */
+    private static final int MAX_TOKENS_TO_CHECK = 100;
+
     private final AuthorizationService service;
 
 
@@ -46,6 +62,9 @@ public class AuthorizationController extends BaseController {
     /**
      *    Verifies provided {@code accessToken}, generating {@link AuthorizationInformationDto} if it is valid and belongs
      * to the given application's credentials included in the Basic Auth.
+     * <p>
+     *    The additional information of the response always contains {@code exp}: the expiration of {@code accessToken}
+     * as seconds since the epoch.
      *
      * @param accessToken
      *    Access token used to extract the authorization information
@@ -54,7 +73,8 @@ public class AuthorizationController extends BaseController {
      */
     @Operation(
             summary = "Gets the authorization data of the user included in the given access token",
-            description = "First validates the given token and then returns his/her: username, roles and additional information"
+            description = "First validates the given token and then returns his/her: username, roles and additional information. "
+                        + "The additional information always contains exp: the expiration of the token as seconds since the epoch"
     )
     @ApiResponses(
             value = {
@@ -105,6 +125,16 @@ public class AuthorizationController extends BaseController {
                                             implementation = ErrorResponseDto.class
                                     )
                             )
+                    ),
+                    @ApiResponse(
+                            responseCode = "503",
+                            description = "The server is too busy to handle the request, try again later",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(
+                                            implementation = ErrorResponseDto.class
+                                    )
+                            )
                     )
             }
     )
@@ -121,15 +151,244 @@ public class AuthorizationController extends BaseController {
                 )
         );
         return getPrincipal()
-                .map(applicationClientDetails ->
+                .flatMap(applicationClientDetails ->
+                        service.checkAccessTokenReactive(
+                                applicationClientDetails.getUsername(),
+                                accessToken
+                        )
+                )
+                .map(ai ->
                         new ResponseEntity<>(
-                                service.checkAccessToken(
-                                        applicationClientDetails.getUsername(),
-                                        accessToken
-                                ),
+                                ai,
                                 OK
                         )
                 );
     }
 
+
+    /**
+     *    Verifies every provided access token, generating one {@link CheckTokenResultDto} per each of them in the same
+     * order, with its {@link AuthorizationInformationDto} if it is valid and belongs to the given application's
+     * credentials included in the Basic Auth, or the error otherwise.
+     * <p>
+     *    The tokens are independent of each other, so they are verified in parallel using the bounded schedulers of
+     * {@link AuthorizationService}.
+     *
+     * @param accessTokens
+     *    Access tokens used to extract the authorization information
+     *
+     * @return the {@link List} of {@link CheckTokenResultDto} with {@link HttpStatus#OK}
+     */
+    @Operation(
+            summary = "Gets the authorization data of the users included in the given access tokens",
+            description = "Validates every given token and returns, in the same order, his/her: username, roles and "
+                        + "additional information or the reason the token is not valid"
+    )
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successful operation with the result of every token in the response",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(
+                                            schema = @Schema(
+                                                    implementation = CheckTokenResultDto.class
+                                            )
+                                    )
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Given tokens do not verify included format validations",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(
+                                            implementation = ErrorResponseDto.class
+                                    )
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "As part of the Basic Auth, the username (application) does not exists or "
+                                        + "the given password does not belongs to this one",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(
+                                            implementation = ErrorResponseDto.class
+                                    )
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Any other internal server error",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(
+                                            implementation = ErrorResponseDto.class
+                                    )
+                            )
+                    )
+            }
+    )
+    @PostMapping(
+            RestRoutes.AUTHORIZATION.CHECK_TOKENS
+    )
+    public Mono<ResponseEntity<List<CheckTokenResultDto>>> checkTokens(@RequestBody @NotNull @Size(min = 1, max = MAX_TOKENS_TO_CHECK) final List<@NotNull @Size(min = 1) String> accessTokens) {
+        log.info(
+                format("Checking %d tokens and getting their authorization information",
+                        accessTokens.size()
+                )
+        );
+        return getPrincipal()
+                .flatMap(applicationClientDetails ->
+                        Flux.fromIterable(accessTokens)
+                                .flatMapSequential(accessToken ->
+                                        checkToken(
+                                                applicationClientDetails.getUsername(),
+                                                accessToken
+                                        )
+                                )
+                                .collectList()
+                )
+                .map(results ->
+                        new ResponseEntity<>(
+                                results,
+                                OK
+                        )
+                );
+    }
+
+
+    /**
+     *    Returns the public keys used to verify the access tokens of the application's credentials included in the Basic
+     * Auth, with the JWK Set format. Only the applications using JWS tokens signed with an asymmetric algorithm include
+     * their public key, so their microservices can verify the access tokens without invoking
+     * {@link AuthorizationController#checkToken(String)}.
+     *
+     * @return {@link Map} with the JWK Set and {@link HttpStatus#OK}
+     */
+    @Operation(
+            summary = "Gets the public keys used to verify the access tokens",
+            description = "Returns the JWK Set with the public keys of the application included in the Basic Auth, empty if its "
+                        + "tokens cannot be verified by third parties"
+    )
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successful operation with the JWK Set in the response",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(
+                                            implementation = Map.class
+                                    )
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "As part of the Basic Auth, the username (application) does not exists or "
+                                        + "the given password does not belongs to this one",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(
+                                            implementation = ErrorResponseDto.class
+                                    )
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Any other internal server error",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(
+                                            implementation = ErrorResponseDto.class
+                                    )
+                            )
+                    )
+            }
+    )
+    @GetMapping(
+            RestRoutes.AUTHORIZATION.JWKS
+    )
+    public Mono<ResponseEntity<Map<String, Object>>> jwks() {
+        return getPrincipal()
+                .flatMap(applicationClientDetails -> {
+                    log.info(
+                            format("Getting the public keys of the application client details: %s",
+                                    applicationClientDetails.getUsername()
+                            )
+                    );
+                    return service.getVerificationKeysReactive(
+                            applicationClientDetails.getUsername()
+                    );
+                })
+                .map(jwkSet ->
+                        new ResponseEntity<>(
+                                jwkSet,
+                                OK
+                        )
+                );
+    }
+
+
+    /**
+     * Verifies the given {@code accessToken}, converting any error into the {@link CheckTokenResultDto} returned.
+     *
+     * @param applicationClientId
+     *    Identifier of the application client details included in the Basic Auth
+     * @param accessToken
+     *    Access token used to extract the authorization information
+     *
+     * @return {@link Mono} of {@link CheckTokenResultDto} with the result of the verification
+     */
+    private Mono<CheckTokenResultDto> checkToken(final String applicationClientId,
+                                                 final String accessToken) {
+        return service.checkAccessTokenReactive(
+                        applicationClientId,
+                        accessToken
+                )
+                .map(ai ->
+                        CheckTokenResultDto.builder()
+                                .status(
+                                        OK.value()
+                                )
+                                .authorizationInformation(ai)
+                                .build()
+                )
+                .onErrorResume(exception -> {
+                    final ErrorResponse errorResponse = getTokenErrorResponse(
+                            exception
+                    );
+                    if (errorResponse.expected()) {
+                        log.warn(
+                                format("One of the tokens related with the application client details: %s was not valid. %s",
+                                        applicationClientId,
+                                        getFormattedCurrentAndRootError(
+                                                exception
+                                        )
+                                )
+                        );
+                    }
+                    else {
+                        log.error(
+                                format("There was an error checking one of the tokens related with the application client details: %s",
+                                        applicationClientId
+                                ),
+                                exception
+                        );
+                    }
+                    return Mono.just(
+                            CheckTokenResultDto.builder()
+                                    .status(
+                                            errorResponse.httpStatus()
+                                    )
+                                    .error(
+                                            errorResponse.error()
+                                    )
+                                    .build()
+                    );
+                });
+    }
+
 }
@@ -7,6 +7,8 @@ import com.security.custom.model.AuthenticationRequestDetails;
 import com.security.custom.service.cache.ApplicationClientDetailsCacheService;
 import com.security.custom.service.cache.ApplicationUserBlackListCacheService;
 import com.security.custom.service.cache.AuthenticationRequestDetailsCacheService;
+import com.security.custom.service.cache.LocalCacheInvalidationService;
+import com.security.custom.service.cache.RevokedTokenCacheService;
 import com.spring6microservices.common.spring.dto.ErrorResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -42,14 +44,22 @@ public class CacheController extends BaseController {
 
     private final AuthenticationRequestDetailsCacheService authenticationRequestDetailsCacheService;
 
+    private final LocalCacheInvalidationService localCacheInvalidationService;
+
+    private final RevokedTokenCacheService revokedTokenCacheService;
+
 
     @Autowired
     public CacheController(final ApplicationClientDetailsCacheService applicationClientDetailsCacheService,
                            final ApplicationUserBlackListCacheService applicationUserBlackListCacheService,
-                           final AuthenticationRequestDetailsCacheService authenticationRequestDetailsCacheService) {
+                           final AuthenticationRequestDetailsCacheService authenticationRequestDetailsCacheService,
+                           final LocalCacheInvalidationService localCacheInvalidationService,
+                           final RevokedTokenCacheService revokedTokenCacheService) {
         this.applicationClientDetailsCacheService = applicationClientDetailsCacheService;
         this.applicationUserBlackListCacheService = applicationUserBlackListCacheService;
         this.authenticationRequestDetailsCacheService = authenticationRequestDetailsCacheService;
+        this.localCacheInvalidationService = localCacheInvalidationService;
+        this.revokedTokenCacheService = revokedTokenCacheService;
     }
 
 
@@ -57,9 +67,11 @@ public class CacheController extends BaseController {
      * Clear the internal caches used to store:
      *
      * <ul>
-     *     <li>{@link ApplicationClientDetails}</li>
+     *     <li>{@link ApplicationClientDetails}, its related crypto information, verified credentials and verified access tokens,
+     *         the last ones in every node (see {@link LocalCacheInvalidationService})</li>
      *     <li>Pair {@link ApplicationClientDetails#getId()} and user's identifier (username)</li>
      *     <li>{@link AuthenticationRequestDetails}</li>
+     *     <li>Revoked tokens, that will be accepted again until their expiration</li>
      * </ul>
      *
      * @param clearCacheRequest
@@ -116,6 +128,7 @@ public class CacheController extends BaseController {
                             applicationClientDetailsCacheService.clear()
                     )
             );
+            localCacheInvalidationService.clear();
         }
         if (clearCacheRequest.isApplicationUserBlackList()) {
             log.info(
@@ -133,6 +146,14 @@ public class CacheController extends BaseController {
                     )
             );
         }
+        if (clearCacheRequest.isRevokedToken()) {
+            log.info(
+                    format(cleanedCacheMessage,
+                            revokedTokenCacheService.getCacheName(),
+                            revokedTokenCacheService.clear()
+                    )
+            );
+        }
         return Mono.just(
                 new ResponseEntity<>(
                         OK
@@ -0,0 +1,42 @@
+package com.security.custom.dto;
+
+import com.spring6microservices.common.spring.dto.AuthorizationInformationDto;
+import com.spring6microservices.common.spring.dto.ErrorResponseDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+/**
+ *    Result of verifying one of the tokens included in a batch request: its {@link AuthorizationInformationDto} if it
+ * is valid or the {@link ErrorResponseDto} with the reason it is not.
+ */
+@AllArgsConstructor
+@Builder
+@Data
+@NoArgsConstructor
+@Schema(
+        description = "Result of verifying one of the tokens included in a batch request"
+)
+public class CheckTokenResultDto {
+
+    @Schema(
+            description = "Http code related with the verification of the token, the one that would be returned verifying it alone",
+            requiredMode = RequiredMode.REQUIRED
+    )
+    private int status;
+
+    @Schema(
+            description = "Authorization information of the valid token"
+    )
+    private AuthorizationInformationDto authorizationInformation;
+
+    @Schema(
+            description = "Details about why the token is not valid"
+    )
+    private ErrorResponseDto error;
+
+}
@@ -28,4 +28,10 @@ public class ClearCacheRequestDto {
     )
     private boolean authenticationRequestDetails;
 
+    @Schema(
+            description = "Revoked tokens will be valid again until their expiration after clearing them",
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED
+    )
+    private boolean revokedToken;
+
 }
\ No newline at end of file
@@ -27,4 +27,14 @@ public class LogoutRequestDto {
     )
     private String username;
 
+    @Schema(
+            description = "Access token to revoke, so it will be rejected until it expires, even if the user logs in again"
+    )
+    private String accessToken;
+
+    @Schema(
+            description = "Refresh token to revoke, so it will be rejected until it expires, even if the user logs in again"
+    )
+    private String refreshToken;
+
 }
@@ -8,25 +8,33 @@ import java.util.Optional;
 
 /**
  * Claims added in the returned access and refresh tokens.
+ * <p>
+ *    Every claim has a {@link TokenKey#getCwtKey()}, the integer used as key in {@link TokenType#CWT} tokens instead of
+ * {@link TokenKey#getKey()}: the registered ones for the standard claims (RFC 8392) and private use ones (less than
+ * -65536) for the rest.
  */
 @Getter
 public enum TokenKey {
 
-    AUDIENCE("aud"),
-    AUTHORITIES("authorities"),
-    EXPIRATION_TIME("exp"),
-    ISSUED_AT("iat"),
-    JWT_ID("jti"),
-    NAME("name"),
-    REFRESH_JWT_ID("ati"),
-    USERNAME("username");
+    AUDIENCE("aud", 3),
+    AUTHORITIES("authorities", -65537),
+    EXPIRATION_TIME("exp", 4),
+    ISSUED_AT("iat", 6),
+    JWT_ID("jti", 7),
+    NAME("name", -65538),
+    REFRESH_JWT_ID("ati", -65539),
+    USERNAME("username", -65540);
 
 
     private final String key;
 
+    private final int cwtKey;
 
-    TokenKey(String key) {
+
+    TokenKey(String key,
+             int cwtKey) {
         this.key = key;
+        this.cwtKey = cwtKey;
     }
 
 
@@ -47,4 +55,23 @@ public enum TokenKey {
         );
     }
 
+
+
+    /**
+     * Gets the {@link TokenKey} that matches with the given {@link TokenKey#getCwtKey()}.
+     *
+     * @param cwtKey
+     *    Integer key of the claim in {@link TokenType#CWT} tokens
+     *
+     * @return {@link Optional} with {@link TokenKey} if {@code cwtKey} matches with existing one,
+     *         {@link Optional#empty()} otherwise
+     */
+    public static Optional<TokenKey> getByCwtKey(@Nullable final Integer cwtKey) {
+        return EnumUtil.getByInternalProperty(
+                TokenKey.class,
+                cwtKey,
+                TokenKey::getCwtKey
+        );
+    }
+
 }
@@ -5,13 +5,17 @@ import com.nimbusds.jose.JWSSigner;
 import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.crypto.*;
 import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.KeyUse;
 import com.nimbusds.jose.jwk.RSAKey;
 import com.security.custom.exception.token.TokenException;
 import com.security.custom.interfaces.ITokenSignatureAlgorithm;
+import com.security.custom.util.OctetKeyPairUtil;
 import com.spring6microservices.common.core.util.EnumUtil;
 import lombok.Getter;
 import org.springframework.lang.Nullable;
 
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -20,6 +24,15 @@ import java.util.Optional;
  * Regarding how to generate a valid signature according to the selected algorithm:
  * <p>
  * <ul>
+ *   <li>{@link TokenSignatureAlgorithm#ED25519}:
+ *        using <a href="https://www.openssl.org/">openssl</a>
+ *        <pre>
+ *          1. openssl genpkey -algorithm ed25519 -out key.pem
+ *          2. openssl pkey -in key.pem -pubout -out public.pem
+ *          3. cat public.pem key.pem > keypair.pem
+ *        </pre>
+ *        Or an OKP JWK, see {@link OctetKeyPairUtil}.
+ *   </li>
  *   <li>{@link TokenSignatureAlgorithm#ES256}, {@link TokenSignatureAlgorithm#ES384}, {@link TokenSignatureAlgorithm#ES512}:
  *        using <a href="https://www.openssl.org/">openssl</a>
  *        <pre>
@@ -45,6 +58,42 @@ import java.util.Optional;
 @Getter
 public enum TokenSignatureAlgorithm implements ITokenSignatureAlgorithm {
 
+    ED25519(JWSAlgorithm.EdDSA) {
+
+        @Override
+        public JWSSigner getSigner(final String signatureSecret) {
+            try {
+                return new Ed25519Signer(
+                        OctetKeyPairUtil.parseEd25519(
+                                signatureSecret
+                        )
+                );
+            } catch (Throwable t) {
+                throw new TokenException(
+                        "There was an error returning the JWSSigner of: " + this.name(),
+                        t
+                );
+            }
+        }
+
+
+        @Override
+        public JWSVerifier getVerifier(final String signatureSecret) {
+            try {
+                return new Ed25519Verifier(
+                        OctetKeyPairUtil.parseEd25519(
+                                        signatureSecret
+                                )
+                                .toPublicJWK()
+                );
+            } catch (Throwable t) {
+                throw new TokenException(
+                        "There was an error returning the JWSVerifier of: " + this.name(),
+                        t
+                );
+            }
+        }
+    },
     ES256(JWSAlgorithm.ES256) {
 
         @Override
@@ -370,6 +419,47 @@ public enum TokenSignatureAlgorithm implements ITokenSignatureAlgorithm {
     }
 
 
+    /**
+     *    Returns the public {@link JWK} that can be shared with third parties to verify the JWS tokens signed with the
+     * given {@code signatureSecret}, identified by its JWK thumbprint (RFC 7638) as key ID.
+     *
+     * @apiNote
+     *    The symmetric algorithms: {@link TokenSignatureAlgorithm#HS256}, {@link TokenSignatureAlgorithm#HS384} and
+     * {@link TokenSignatureAlgorithm#HS512} have no public key, so {@link Optional#empty()} is returned for them.
+     *
+     * @param signatureSecret
+     *    {@link String} used to sign the JWS token
+     *
+     * @return {@link Optional} with the public {@link JWK} if the current algorithm is an asymmetric one,
+     *         {@link Optional#empty()} otherwise
+     *
+     * @throws TokenException if there was an error extracting the public key of {@code signatureSecret}
+     */
+    public Optional<JWK> getPublicJwk(final String signatureSecret) {
+        if (JWSAlgorithm.Family.HMAC_SHA.contains(algorithm)) {
+            return Optional.empty();
+        }
+        try {
+            final JWK publicJwk = ED25519 == this
+                    ? OctetKeyPairUtil.parseEd25519(signatureSecret).toPublicJWK()
+                    : JWK.parseFromPEMEncodedObjects(signatureSecret).toPublicJWK();
+
+            Map<String, Object> publicJwkContent = publicJwk.toJSONObject();
+            publicJwkContent.put("kid", publicJwk.computeThumbprint().toString());
+            publicJwkContent.put("alg", algorithm.getName());
+            publicJwkContent.put("use", KeyUse.SIGNATURE.identifier());
+            return Optional.of(
+                    JWK.parse(publicJwkContent)
+            );
+        } catch (Throwable t) {
+            throw new TokenException(
+                    "There was an error returning the public JWK of: " + this.name(),
+                    t
+            );
+        }
+    }
+
+
     /**
      * Gets the {@link TokenSignatureAlgorithm} that matches with the given one.
      *
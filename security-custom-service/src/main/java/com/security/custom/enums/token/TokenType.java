@@ -6,13 +6,17 @@ import java.util.Set;
 
 /**
  * Allowed types of tokens.
+ * <p>
+ *    {@link TokenType#CWT} is a CBOR Web Token (RFC 8392) signed with COSE (RFC 9052) and encoded in base64url, more
+ * compact and cheaper to parse than a JWS with the same claims.
  */
 public enum TokenType {
 
     JWS,
     JWE,
     ENCRYPTED_JWS,
-    ENCRYPTED_JWE;
+    ENCRYPTED_JWE,
+    CWT;
 
 
     /**
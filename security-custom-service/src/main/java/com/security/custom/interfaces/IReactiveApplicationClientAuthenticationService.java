@@ -0,0 +1,24 @@
+package com.security.custom.interfaces;
+
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import reactor.core.publisher.Mono;
+
+/**
+ *    Non-blocking functionality related with the authentication process in every application. The blocking one
+ * included in {@link IApplicationClientAuthenticationService} remains available as fallback.
+ */
+public interface IReactiveApplicationClientAuthenticationService extends IApplicationClientAuthenticationService {
+
+    /**
+     * Gets, without blocking the caller thread, the {@link UserDetails} related with the given {@code username}.
+     *
+     * @param username
+     *    Identifier of the user to search
+     *
+     * @return {@link Mono} with the {@link UserDetails},
+     *         {@link Mono#error(Throwable)} with {@link UsernameNotFoundException} if the given {@code username} does not exist
+     */
+    Mono<UserDetails> findByUsername(final String username);
+
+}
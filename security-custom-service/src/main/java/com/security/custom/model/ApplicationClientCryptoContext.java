@@ -0,0 +1,217 @@
+package com.security.custom.model;
+
+import com.nimbusds.jose.JWEDecrypter;
+import com.nimbusds.jose.JWEEncrypter;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.jwk.JWK;
+import com.security.custom.enums.token.TokenEncryptionAlgorithm;
+import com.security.custom.enums.token.TokenEncryptionMethod;
+import com.security.custom.enums.token.TokenSignatureAlgorithm;
+import com.security.custom.exception.token.TokenException;
+import com.spring6microservices.common.core.functional.Try.Try;
+import com.spring6microservices.common.core.util.AssertUtil;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import static java.lang.String.format;
+
+/**
+ *    Immutable crypto information related with an {@link ApplicationClientDetails}: decrypted secrets and the ready to
+ * use {@link JWSSigner}, {@link JWSVerifier}, {@link JWEEncrypter}, {@link JWEDecrypter} and public {@link JWK}, built
+ * only once instead of parsing the key material every time a token is generated or verified.
+ * <p>
+ *    Every instance keeps the raw values of the {@link ApplicationClientDetails} it was built from, so it is possible
+ * to know if it is still valid for a newer version of such {@link ApplicationClientDetails}.
+ */
+@Getter
+public final class ApplicationClientCryptoContext {
+
+    private final String applicationClientDetailsId;
+
+    private final TokenSignatureAlgorithm signatureAlgorithm;
+    private final String rawSignatureSecret;
+    private final String signatureSecret;
+
+    private final TokenEncryptionAlgorithm encryptionAlgorithm;
+    private final TokenEncryptionMethod encryptionMethod;
+    private final String rawEncryptionSecret;
+    private final String encryptionSecret;
+
+    @Getter(AccessLevel.NONE)
+    private final Try<JWSSigner> signer;
+
+    @Getter(AccessLevel.NONE)
+    private final Try<JWSVerifier> verifier;
+
+    @Getter(AccessLevel.NONE)
+    private final Try<Optional<JWK>> signaturePublicJwk;
+
+    @Getter(AccessLevel.NONE)
+    private final Try<JWEEncrypter> encrypter;
+
+    @Getter(AccessLevel.NONE)
+    private final Try<JWEDecrypter> decrypter;
+
+
+    /**
+     *    Builds the crypto context of the given {@code applicationClientDetails}. The errors creating the
+     * {@link JWSSigner}, {@link JWSVerifier}, {@link JWEEncrypter}, {@link JWEDecrypter} or public {@link JWK} are not
+     * thrown here but when the related one is requested, because not all of them are always required: for example, only
+     * a public key could be configured to verify tokens.
+     *
+     * @param applicationClientDetails
+     *    {@link ApplicationClientDetails} used to build the crypto context
+     * @param signatureSecret
+     *    Decrypted {@link ApplicationClientDetails#getSignatureSecret()}
+     * @param encryptionSecret
+     *    Decrypted {@link ApplicationClientDetails#getEncryptionSecret()}
+     *
+     * @throws IllegalArgumentException if {@code applicationClientDetails} is {@code null}
+     */
+    public ApplicationClientCryptoContext(final ApplicationClientDetails applicationClientDetails,
+                                          final String signatureSecret,
+                                          final String encryptionSecret) {
+        AssertUtil.notNull(applicationClientDetails, "applicationClientDetails must be not null");
+        this.applicationClientDetailsId = applicationClientDetails.getId();
+
+        this.signatureAlgorithm = applicationClientDetails.getSignatureAlgorithm();
+        this.rawSignatureSecret = applicationClientDetails.getSignatureSecret();
+        this.signatureSecret = signatureSecret;
+
+        this.encryptionAlgorithm = applicationClientDetails.getEncryptionAlgorithm();
+        this.encryptionMethod = applicationClientDetails.getEncryptionMethod();
+        this.rawEncryptionSecret = applicationClientDetails.getEncryptionSecret();
+        this.encryptionSecret = encryptionSecret;
+
+        this.signer = null == signatureAlgorithm
+                ? Try.failure(notConfiguredException("signature algorithm"))
+                : Try.of(() -> signatureAlgorithm.getSigner(signatureSecret));
+
+        this.verifier = null == signatureAlgorithm
+                ? Try.failure(notConfiguredException("signature algorithm"))
+                : Try.of(() -> signatureAlgorithm.getVerifier(signatureSecret));
+
+        this.signaturePublicJwk = null == signatureAlgorithm
+                ? Try.failure(notConfiguredException("signature algorithm"))
+                : Try.of(() -> signatureAlgorithm.getPublicJwk(signatureSecret));
+
+        this.encrypter = null == encryptionAlgorithm
+                ? Try.failure(notConfiguredException("encryption algorithm"))
+                : Try.of(() -> encryptionAlgorithm.getEncrypter(encryptionSecret));
+
+        this.decrypter = null == encryptionAlgorithm
+                ? Try.failure(notConfiguredException("encryption algorithm"))
+                : Try.of(() -> encryptionAlgorithm.getDecrypter(encryptionSecret));
+    }
+
+
+    /**
+     * Returns the {@link JWSSigner} related with {@link ApplicationClientCryptoContext#signatureAlgorithm}.
+     *
+     * @return {@link JWSSigner}
+     *
+     * @throws TokenException if there was an error creating the {@link JWSSigner}
+     */
+    public JWSSigner getSigner() {
+        return signer.get();
+    }
+
+
+    /**
+     * Returns the {@link JWSVerifier} related with {@link ApplicationClientCryptoContext#signatureAlgorithm}.
+     *
+     * @return {@link JWSVerifier}
+     *
+     * @throws TokenException if there was an error creating the {@link JWSVerifier}
+     */
+    public JWSVerifier getVerifier() {
+        return verifier.get();
+    }
+
+
+    /**
+     *    Returns the public {@link JWK} related with {@link ApplicationClientCryptoContext#signatureAlgorithm}, used by
+     * third parties to verify the JWS tokens without sharing the signature secret.
+     *
+     * @return {@link Optional} with the public {@link JWK},
+     *         {@link Optional#empty()} if {@link ApplicationClientCryptoContext#signatureAlgorithm} is a symmetric one
+     *
+     * @throws TokenException if there was an error extracting the public {@link JWK}
+     */
+    public Optional<JWK> getSignaturePublicJwk() {
+        return signaturePublicJwk.get();
+    }
+
+
+    /**
+     * Returns the {@link JWEEncrypter} related with {@link ApplicationClientCryptoContext#encryptionAlgorithm}.
+     *
+     * @return {@link JWEEncrypter}
+     *
+     * @throws TokenException if there was an error creating the {@link JWEEncrypter}
+     */
+    public JWEEncrypter getEncrypter() {
+        return encrypter.get();
+    }
+
+
+    /**
+     * Returns the {@link JWEDecrypter} related with {@link ApplicationClientCryptoContext#encryptionAlgorithm}.
+     *
+     * @return {@link JWEDecrypter}
+     *
+     * @throws TokenException if there was an error creating the {@link JWEDecrypter}
+     */
+    public JWEDecrypter getDecrypter() {
+        return decrypter.get();
+    }
+
+
+    /**
+     *    Checks if {@link ApplicationClientCryptoContext#signatureSecret} contains a valid key for
+     * {@link ApplicationClientCryptoContext#signatureAlgorithm}, that is, at least the {@link JWSVerifier} could be
+     * created with it.
+     *
+     * @return {@code true} if the signature secret is valid,
+     *         {@code false} otherwise
+     */
+    public boolean isValidSignatureSecret() {
+        return verifier.isSuccess();
+    }
+
+
+    /**
+     *    Checks if the current crypto context was built using the same crypto configuration than the given
+     * {@code applicationClientDetails}.
+     *
+     * @param applicationClientDetails
+     *    {@link ApplicationClientDetails} to compare
+     *
+     * @return {@code true} if the current instance is still valid for {@code applicationClientDetails},
+     *         {@code false} otherwise
+     */
+    public boolean isBuiltFrom(final ApplicationClientDetails applicationClientDetails) {
+        return null != applicationClientDetails &&
+                Objects.equals(applicationClientDetailsId, applicationClientDetails.getId()) &&
+                signatureAlgorithm == applicationClientDetails.getSignatureAlgorithm() &&
+                Objects.equals(rawSignatureSecret, applicationClientDetails.getSignatureSecret()) &&
+                encryptionAlgorithm == applicationClientDetails.getEncryptionAlgorithm() &&
+                encryptionMethod == applicationClientDetails.getEncryptionMethod() &&
+                Objects.equals(rawEncryptionSecret, applicationClientDetails.getEncryptionSecret());
+    }
+
+
+    private TokenException notConfiguredException(final String missingConfiguration) {
+        return new TokenException(
+                format("The application client details: %s has no %s configured",
+                        applicationClientDetailsId,
+                        missingConfiguration
+                )
+        );
+    }
+
+}
@@ -20,7 +20,7 @@ import java.util.HashSet;
 import java.util.Objects;
 
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Entity
 @Getter
 @NoArgsConstructor
@@ -1,6 +1,7 @@
 package com.security.custom.model.validator;
 
 import com.security.custom.enums.token.TokenType;
+import com.security.custom.model.ApplicationClientCryptoContext;
 import com.security.custom.model.ApplicationClientDetails;
 import com.spring6microservices.common.core.functional.validation.Validate;
 import com.spring6microservices.common.core.functional.validation.Validation;
@@ -21,7 +22,8 @@ public final class ApplicationClientDetailsValidator implements Validate<Applica
     @Override
     public Validation<ValidationError, ApplicationClientDetails> validate(final ApplicationClientDetails applicationClientDetails) {
         return Validation.combine(
-                validateTokenType(applicationClientDetails)
+                validateTokenType(applicationClientDetails),
+                validateSignature(applicationClientDetails)
         );
     }
 
@@ -104,4 +106,44 @@ public final class ApplicationClientDetailsValidator implements Validate<Applica
                 .toList();
     }
 
-}
\ No newline at end of file
+
+
+    /**
+     *    Verifies the {@link ApplicationClientDetails#getSignatureAlgorithm()} and {@link ApplicationClientDetails#getSignatureSecret()}
+     * of the provided {@code applicationClientDetails}.
+     *
+     * @apiNote
+     *    A {@code null} {@code applicationClientDetails} is considered valid here, because it is already reported by
+     * {@link ApplicationClientDetailsValidator#validateTokenType(ApplicationClientDetails)}. The key contained in
+     * {@link ApplicationClientDetails#getSignatureSecret()} is not parsed here, because this validation is done in every
+     * search of an {@link ApplicationClientDetails}: it is verified only once, when its {@link ApplicationClientCryptoContext}
+     * is built.
+     *
+     * @param applicationClientDetails
+     *    {@link ApplicationClientDetails} to check
+     *
+     * @return {@link Validation} with the result after checking the signature configuration
+     */
+    private Validation<ValidationError, ApplicationClientDetails> validateSignature(final ApplicationClientDetails applicationClientDetails) {
+        if (null == applicationClientDetails) {
+            return Validation.valid(null);
+        }
+        List<String> errorMessages = new ArrayList<>();
+        if (null == applicationClientDetails.getSignatureAlgorithm()) {
+            errorMessages.add("signatureAlgorithm must be not null");
+        }
+        if (StringUtil.isBlank(applicationClientDetails.getSignatureSecret())) {
+            errorMessages.add("signatureSecret must be not null or empty");
+        }
+        return errorMessages.isEmpty()
+                ? Validation.valid(applicationClientDetails)
+                : Validation.invalid(
+                        errorMessages.stream()
+                                .map(e ->
+                                        ValidationError.of(3, e)
+                                )
+                                .toList()
+                  );
+    }
+
+}
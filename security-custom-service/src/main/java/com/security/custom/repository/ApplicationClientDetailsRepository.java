@@ -18,4 +18,17 @@ public interface ApplicationClientDetailsRepository extends ExtendedJpaRepositor
                  + "WHERE acd.id = :id")
     Optional<ApplicationClientDetails> findById(@Nullable @Param("id") String id);
 
+
+    /**
+     * Returns the greatest access or refresh token validity of the stored {@link ApplicationClientDetails}.
+     *
+     * @return {@link Optional} with the greatest token validity in seconds,
+     *         {@link Optional#empty()} if there is no {@link ApplicationClientDetails}
+     */
+    @Query(value = "SELECT MAX(CASE WHEN acd.refreshTokenValidityInSeconds > acd.accessTokenValidityInSeconds "
+                 + "                THEN acd.refreshTokenValidityInSeconds "
+                 + "                ELSE acd.accessTokenValidityInSeconds END) "
+                 + "FROM ApplicationClientDetails acd")
+    Optional<Integer> findMaxTokenValidityInSeconds();
+
 }
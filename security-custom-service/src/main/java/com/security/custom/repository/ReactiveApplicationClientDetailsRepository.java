@@ -0,0 +1,78 @@
+package com.security.custom.repository;
+
+import com.security.custom.configuration.persistence.PersistenceConfiguration;
+import com.security.custom.model.ApplicationClientDetails;
+import com.security.custom.repository.mapper.ApplicationClientDetailsMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking (R2DBC) version of {@link ApplicationClientDetailsRepository}.
+ */
+@Repository
+public class ReactiveApplicationClientDetailsRepository {
+
+    public static final String ID_COLUMN = "id";
+    public static final String APPLICATION_CLIENT_SECRET_COLUMN = "application_client_secret";
+    public static final String SIGNATURE_ALGORITHM_COLUMN = "signature_algorithm";
+    public static final String SIGNATURE_SECRET_COLUMN = "signature_secret";
+    public static final String SECURITY_HANDLER_COLUMN = "security_handler";
+    public static final String TOKEN_TYPE_COLUMN = "token_type";
+    public static final String ENCRYPTION_ALGORITHM_COLUMN = "encryption_algorithm";
+    public static final String ENCRYPTION_METHOD_COLUMN = "encryption_method";
+    public static final String ENCRYPTION_SECRET_COLUMN = "encryption_secret";
+    public static final String ACCESS_TOKEN_VALIDITY_IN_SECONDS_COLUMN = "access_token_validity_in_seconds";
+    public static final String REFRESH_TOKEN_VALIDITY_IN_SECONDS_COLUMN = "refresh_token_validity_in_seconds";
+    public static final String CREATED_AT_COLUMN = "created_at";
+
+    private static final String FIND_BY_ID_QUERY =
+            "select " + ID_COLUMN
+                 + ", " + APPLICATION_CLIENT_SECRET_COLUMN
+                 + ", " + SIGNATURE_ALGORITHM_COLUMN
+                 + ", " + SIGNATURE_SECRET_COLUMN
+                 + ", " + SECURITY_HANDLER_COLUMN
+                 + ", " + TOKEN_TYPE_COLUMN
+                 + ", " + ENCRYPTION_ALGORITHM_COLUMN
+                 + ", " + ENCRYPTION_METHOD_COLUMN
+                 + ", " + ENCRYPTION_SECRET_COLUMN
+                 + ", " + ACCESS_TOKEN_VALIDITY_IN_SECONDS_COLUMN
+                 + ", " + REFRESH_TOKEN_VALIDITY_IN_SECONDS_COLUMN
+                 + ", " + CREATED_AT_COLUMN + " "
+          + "from " + PersistenceConfiguration.SCHEMA + "." + PersistenceConfiguration.TABLE.APPLICATION_CLIENT_DETAILS + " "
+          + "where " + ID_COLUMN + " = :" + ID_COLUMN;
+
+    private final DatabaseClient databaseClient;
+
+
+    @Autowired
+    public ReactiveApplicationClientDetailsRepository(final DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+
+    /**
+     * Gets the {@link ApplicationClientDetails} which {@link ApplicationClientDetails#getId()} matches with the given one.
+     *
+     * @param id
+     *    {@link ApplicationClientDetails#getId()} to search
+     *
+     * @return {@link Mono} with the {@link ApplicationClientDetails} which {@link ApplicationClientDetails#getId()}
+     *         matches with the given one, {@link Mono#empty()} otherwise.
+     */
+    public Mono<ApplicationClientDetails> findById(@Nullable final String id) {
+        return Mono.justOrEmpty(id)
+                .flatMap(i ->
+                        databaseClient.sql(FIND_BY_ID_QUERY)
+                                .bind(
+                                        ID_COLUMN,
+                                        i
+                                )
+                                .map(ApplicationClientDetailsMapper.applicationClientDetailsRowMapper)
+                                .one()
+                );
+    }
+
+}
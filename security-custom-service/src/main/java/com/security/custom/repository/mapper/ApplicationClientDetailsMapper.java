@@ -0,0 +1,78 @@
+package com.security.custom.repository.mapper;
+
+import com.security.custom.enums.SecurityHandler;
+import com.security.custom.enums.token.TokenEncryptionAlgorithm;
+import com.security.custom.enums.token.TokenEncryptionMethod;
+import com.security.custom.enums.token.TokenSignatureAlgorithm;
+import com.security.custom.enums.token.TokenType;
+import com.security.custom.model.ApplicationClientDetails;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import lombok.experimental.UtilityClass;
+
+import java.time.LocalDateTime;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static com.security.custom.repository.ReactiveApplicationClientDetailsRepository.*;
+import static java.util.Optional.ofNullable;
+
+@UtilityClass
+public class ApplicationClientDetailsMapper {
+
+    /**
+     * Using provided {@link Row} returns a new {@link ApplicationClientDetails} instance.
+     *
+     * @throws IllegalArgumentException if any stored enumerated value in database has no constant with the specified name
+     */
+    public static final BiFunction<Row, RowMetadata, ApplicationClientDetails> applicationClientDetailsRowMapper = (row, rowMetadata) ->
+            ApplicationClientDetails.builder()
+                    .id(
+                            row.get(ID_COLUMN, String.class)
+                    )
+                    .applicationClientSecret(
+                            row.get(APPLICATION_CLIENT_SECRET_COLUMN, String.class)
+                    )
+                    .signatureAlgorithm(
+                            getEnum(row, SIGNATURE_ALGORITHM_COLUMN, TokenSignatureAlgorithm::valueOf)
+                    )
+                    .signatureSecret(
+                            row.get(SIGNATURE_SECRET_COLUMN, String.class)
+                    )
+                    .securityHandler(
+                            getEnum(row, SECURITY_HANDLER_COLUMN, SecurityHandler::valueOf)
+                    )
+                    .tokenType(
+                            getEnum(row, TOKEN_TYPE_COLUMN, TokenType::valueOf)
+                    )
+                    .encryptionAlgorithm(
+                            getEnum(row, ENCRYPTION_ALGORITHM_COLUMN, TokenEncryptionAlgorithm::valueOf)
+                    )
+                    .encryptionMethod(
+                            getEnum(row, ENCRYPTION_METHOD_COLUMN, TokenEncryptionMethod::valueOf)
+                    )
+                    .encryptionSecret(
+                            row.get(ENCRYPTION_SECRET_COLUMN, String.class)
+                    )
+                    .accessTokenValidityInSeconds(
+                            ofNullable(row.get(ACCESS_TOKEN_VALIDITY_IN_SECONDS_COLUMN, Integer.class))
+                                    .orElse(0)
+                    )
+                    .refreshTokenValidityInSeconds(
+                            row.get(REFRESH_TOKEN_VALIDITY_IN_SECONDS_COLUMN, Integer.class)
+                    )
+                    .createdAt(
+                            row.get(CREATED_AT_COLUMN, LocalDateTime.class)
+                    )
+                    .build();
+
+
+    private static <E extends Enum<E>> E getEnum(final Row row,
+                                                 final String column,
+                                                 final Function<String, E> valueOf) {
+        return ofNullable(row.get(column, String.class))
+                .map(valueOf)
+                .orElse(null);
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.security.custom.service;
+
+import com.security.custom.model.ApplicationClientCryptoContext;
+import com.security.custom.model.ApplicationClientDetails;
+import com.spring6microservices.common.core.util.AssertUtil;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.String.format;
+
+/**
+ *    Manages the {@link ApplicationClientCryptoContext} of every {@link ApplicationClientDetails}, avoiding to decrypt
+ * its secrets and parse its keys every time a token is generated or verified.
+ * <p>
+ *    The stored {@link ApplicationClientCryptoContext} are local to every node, due to they contain non serializable
+ * crypto instances, and will be rebuilt when the related {@link ApplicationClientDetails} changes its crypto
+ * configuration.
+ * <p>
+ *    The keys included in the secrets are verified only when a new {@link ApplicationClientCryptoContext} is built,
+ * not in every search of its {@link ApplicationClientDetails}.
+ */
+@Log4j2
+@Service
+public class ApplicationClientCryptoContextService {
+
+    private final EncryptorService encryptorService;
+
+    private final Map<String, ApplicationClientCryptoContext> cryptoContexts;
+
+
+    @Autowired
+    public ApplicationClientCryptoContextService(final EncryptorService encryptorService) {
+        this.encryptorService = encryptorService;
+        this.cryptoContexts = new ConcurrentHashMap<>();
+    }
+
+
+    /**
+     * Removes all the stored {@link ApplicationClientCryptoContext}.
+     */
+    public void clear() {
+        cryptoContexts.clear();
+    }
+
+
+    /**
+     *    Returns the {@link ApplicationClientCryptoContext} related with the given {@code applicationClientDetails}.
+     * If there is no one or the stored one was built with a different crypto configuration, a new one will be created.
+     *
+     * @param applicationClientDetails
+     *    {@link ApplicationClientDetails} to get its {@link ApplicationClientCryptoContext}
+     *
+     * @return {@link ApplicationClientCryptoContext}
+     *
+     * @throws IllegalArgumentException if {@code applicationClientDetails} or its identifier are {@code null}
+     */
+    public ApplicationClientCryptoContext get(final ApplicationClientDetails applicationClientDetails) {
+        AssertUtil.notNull(applicationClientDetails, "applicationClientDetails must be not null");
+        AssertUtil.notNull(applicationClientDetails.getId(), "applicationClientDetails's id must be not null");
+        ApplicationClientCryptoContext cryptoContext = cryptoContexts.get(
+                applicationClientDetails.getId()
+        );
+        if (null != cryptoContext && cryptoContext.isBuiltFrom(applicationClientDetails)) {
+            return cryptoContext;
+        }
+        return cryptoContexts.compute(
+                applicationClientDetails.getId(),
+                (id, existingContext) ->
+                        null != existingContext && existingContext.isBuiltFrom(applicationClientDetails)
+                                ? existingContext
+                                : build(applicationClientDetails)
+        );
+    }
+
+
+    /**
+     * Removes the {@link ApplicationClientCryptoContext} related with the given {@link ApplicationClientDetails#getId()}.
+     *
+     * @param id
+     *    {@link ApplicationClientDetails#getId()} to remove its {@link ApplicationClientCryptoContext}
+     */
+    public void remove(final String id) {
+        if (null != id) {
+            cryptoContexts.remove(id);
+        }
+    }
+
+
+    /**
+     *    Builds the {@link ApplicationClientCryptoContext} of the given {@code applicationClientDetails}, reporting if its
+     * signature secret does not contain a valid key. In that case, the tokens related with {@code applicationClientDetails}
+     * will be rejected when they are generated or verified.
+     *
+     * @param applicationClientDetails
+     *    {@link ApplicationClientDetails} used to build the crypto context
+     *
+     * @return {@link ApplicationClientCryptoContext}
+     */
+    private ApplicationClientCryptoContext build(final ApplicationClientDetails applicationClientDetails) {
+        final ApplicationClientCryptoContext cryptoContext = new ApplicationClientCryptoContext(
+                applicationClientDetails,
+                encryptorService.defaultDecrypt(
+                        applicationClientDetails.getSignatureSecret()
+                ),
+                encryptorService.defaultDecrypt(
+                        applicationClientDetails.getEncryptionSecret()
+                )
+        );
+        if (!cryptoContext.isValidSignatureSecret()) {
+            log.error(
+                    format("The signature secret of the application client details: %s does not contain a valid key for the signature algorithm: %s",
+                            applicationClientDetails.getId(),
+                            applicationClientDetails.getSignatureAlgorithm()
+                    )
+            );
+        }
+        return cryptoContext;
+    }
+
+}
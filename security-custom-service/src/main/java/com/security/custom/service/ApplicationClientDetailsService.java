@@ -1,43 +1,131 @@
 package com.security.custom.service;
 
+import com.security.custom.configuration.cache.ApplicationClientDetailsCacheConfiguration;
 import com.security.custom.exception.ApplicationClientNotFoundException;
 import com.security.custom.model.ApplicationClientDetails;
 import com.security.custom.model.validator.ApplicationClientDetailsValidator;
 import com.security.custom.repository.ApplicationClientDetailsRepository;
+import com.security.custom.repository.ReactiveApplicationClientDetailsRepository;
+import com.security.custom.service.cache.ApplicationClientCredentialsCacheService;
 import com.security.custom.service.cache.ApplicationClientDetailsCacheService;
+import com.security.custom.service.cache.RevokedTokenCacheService;
 import com.spring6microservices.common.core.functional.validation.Validation;
 import com.spring6microservices.common.core.functional.validation.ValidationError;
 import com.spring6microservices.common.core.util.StringUtil;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
 import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.security.custom.configuration.scheduler.SchedulerConfiguration.BLOCKING_IO_SCHEDULER;
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
 
+/**
+ *    Manages the {@link ApplicationClientDetails}, stored in database and cached in {@link ApplicationClientDetailsCacheService}.
+ * <p>
+ *    When an {@link ApplicationClientDetails} is not in the cache, only one load per {@link ApplicationClientDetails#getId()}
+ * is executed at the same time in every node: the rest of concurrent requests of the same one wait for its result instead
+ * of querying the database too.
+ * <p>
+ *    If {@link ApplicationClientDetailsCacheConfiguration#getCacheRefreshAheadInSeconds()} is greater than zero, the
+ * {@link ApplicationClientDetails} found in the cache during the last seconds before their expiration are reloaded in
+ * background, so the used ones never expire. Only the node that loaded an {@link ApplicationClientDetails} knows when it
+ * should be refreshed.
+ * <p>
+ *    The token validities of the {@link ApplicationClientDetails} cannot be greater than
+ * {@link RevokedTokenCacheService#getMaxTokenValidityInSeconds()}, otherwise their tokens could not be revoked: the
+ * application does not start if any stored one has a greater validity, and the ones modified later are rejected when
+ * they are used.
+ * <p>
+ *    The non-blocking methods read and write the cache in the {@link Scheduler} of blocking I/O operations, because
+ * the distributed one requires remote calls.
+ */
 @Log4j2
 @Service
 public class ApplicationClientDetailsService implements ReactiveUserDetailsService {
 
+    private final ApplicationClientDetailsCacheConfiguration cacheConfiguration;
+
     private final ApplicationClientDetailsCacheService cacheService;
 
+    private final ApplicationClientCredentialsCacheService credentialsCacheService;
+
     private final ApplicationClientDetailsRepository repository;
 
+    private final ReactiveApplicationClientDetailsRepository reactiveRepository;
+
+    private final RevokedTokenCacheService revokedTokenCacheService;
+
+    private final Scheduler blockingIoScheduler;
+
+    private final Clock clock;
+
+    private final Map<String, CompletableFuture<Optional<ApplicationClientDetails>>> inFlightLoads;
+
+    private final Map<String, Instant> refreshAheadInstants;
+
 
     @Autowired
-    public ApplicationClientDetailsService(final ApplicationClientDetailsCacheService cacheService,
-                                           final ApplicationClientDetailsRepository repository) {
+    public ApplicationClientDetailsService(final ApplicationClientDetailsCacheConfiguration cacheConfiguration,
+                                           final ApplicationClientDetailsCacheService cacheService,
+                                           final ApplicationClientCredentialsCacheService credentialsCacheService,
+                                           final ApplicationClientDetailsRepository repository,
+                                           final ReactiveApplicationClientDetailsRepository reactiveRepository,
+                                           final RevokedTokenCacheService revokedTokenCacheService,
+                                           @Qualifier(BLOCKING_IO_SCHEDULER) final Scheduler blockingIoScheduler) {
+        this(
+                cacheConfiguration,
+                cacheService,
+                credentialsCacheService,
+                repository,
+                reactiveRepository,
+                revokedTokenCacheService,
+                blockingIoScheduler,
+                Clock.systemUTC()
+        );
+    }
+
+
+    ApplicationClientDetailsService(final ApplicationClientDetailsCacheConfiguration cacheConfiguration,
+                                    final ApplicationClientDetailsCacheService cacheService,
+                                    final ApplicationClientCredentialsCacheService credentialsCacheService,
+                                    final ApplicationClientDetailsRepository repository,
+                                    final ReactiveApplicationClientDetailsRepository reactiveRepository,
+                                    final RevokedTokenCacheService revokedTokenCacheService,
+                                    final Scheduler blockingIoScheduler,
+                                    final Clock clock) {
+        this.cacheConfiguration = cacheConfiguration;
         this.cacheService = cacheService;
+        this.credentialsCacheService = credentialsCacheService;
         this.repository = repository;
+        this.reactiveRepository = reactiveRepository;
+        this.revokedTokenCacheService = revokedTokenCacheService;
+        this.blockingIoScheduler = blockingIoScheduler;
+        this.clock = clock;
+        this.inFlightLoads = new ConcurrentHashMap<>();
+        this.refreshAheadInstants = new ConcurrentHashMap<>();
     }
 
 
     /**
-     * Returns the {@link ApplicationClientDetails} that matches with {@code id}.
+     *    Returns the {@link ApplicationClientDetails} that matches with {@code id}. If it is loaded from database, its
+     * already verified credentials are invalidated.
      *
      * @param id
      *    {@link ApplicationClientDetails#getId()} to search
@@ -50,19 +138,15 @@ public class ApplicationClientDetailsService implements ReactiveUserDetailsServi
      */
     public ApplicationClientDetails findById(final String id) {
         return ofNullable(id)
-                .map(i ->
+                .flatMap(i ->
                         cacheService.get(i)
-                                .orElseGet(() ->
-                                        repository.findById(i)
-                                                .map(acd -> {
-                                                    cacheService.put(
-                                                            i,
-                                                            acd
-                                                    );
-                                                    return acd;
-                                                })
-                                                .orElse(null)
-                                    )
+                                .map(acd -> {
+                                    refreshAheadIfRequired(i);
+                                    return acd;
+                                })
+                                .or(() ->
+                                        load(i)
+                                )
                 )
                 .map(this::validateApplicationClientDetailsOrThrow)
                 .orElseThrow(() ->
@@ -75,6 +159,76 @@ public class ApplicationClientDetailsService implements ReactiveUserDetailsServi
     }
 
 
+    /**
+     *    Non-blocking version of {@link ApplicationClientDetailsService#findById(String)}: the cache is used in the
+     * {@link Scheduler} of blocking I/O operations and {@link ReactiveApplicationClientDetailsRepository} when the
+     * {@link ApplicationClientDetails} is not in the cache.
+     *
+     * @param id
+     *    {@link ApplicationClientDetails#getId()} to search
+     *
+     * @return {@link Mono} with the {@link ApplicationClientDetails} if exists,
+     *         {@link Mono#error(Throwable)} with {@link ApplicationClientNotFoundException} if the given {@code id} does
+     *         not exist neither in database nor cache or {@link UnsupportedOperationException} if the returned
+     *         {@link ApplicationClientDetails} is not a valid one (it was not well configured)
+     */
+    public Mono<ApplicationClientDetails> findByIdReactive(final String id) {
+        return Mono.justOrEmpty(id)
+                .flatMap(i ->
+                        Mono.fromCallable(() ->
+                                        cacheService.get(i)
+                                )
+                                .subscribeOn(blockingIoScheduler)
+                                .flatMap(Mono::justOrEmpty)
+                                .doOnNext(acd ->
+                                        refreshAheadIfRequired(i)
+                                )
+                                .switchIfEmpty(
+                                        Mono.defer(() ->
+                                                loadReactive(i)
+                                        )
+                                )
+                )
+                .map(this::validateApplicationClientDetailsOrThrow)
+                .switchIfEmpty(
+                        Mono.error(() ->
+                                new ApplicationClientNotFoundException(
+                                        format("The given id: %s was not found in database",
+                                                id
+                                        )
+                                )
+                        )
+                );
+    }
+
+
+    /**
+     *    Verifies no stored {@link ApplicationClientDetails} has a token validity greater than
+     * {@link RevokedTokenCacheService#getMaxTokenValidityInSeconds()}, so the application does not start with
+     * application clients whose tokens could not be revoked.
+     *
+     * @throws IllegalStateException if there is an {@link ApplicationClientDetails} with a greater token validity
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyTokenValidities() {
+        final int maxTokenValidityInSeconds = revokedTokenCacheService.getMaxTokenValidityInSeconds();
+        repository.findMaxTokenValidityInSeconds()
+                .filter(tv ->
+                        tv > maxTokenValidityInSeconds
+                )
+                .ifPresent(tv -> {
+                    throw new IllegalStateException(
+                            format("There are application client details with a token validity: %d greater than the one of "
+                                 + "the revoked tokens: %d. Increase cache.revokedToken.maxTokenValidityInSeconds or reduce "
+                                 + "their validities",
+                                    tv,
+                                    maxTokenValidityInSeconds
+                            )
+                    );
+                });
+    }
+
+
     /**
      * Gets {@link UserDetails} information in database related with the given {@link ApplicationClientDetails#getId()}.
      *
@@ -89,16 +243,204 @@ public class ApplicationClientDetailsService implements ReactiveUserDetailsServi
      */
     @Override
     public Mono<UserDetails> findByUsername(final String id) {
-        UserDetails userDetails = findById(id);
-        new AccountStatusUserDetailsChecker()
-                .check(userDetails);
-        return Mono.just(userDetails);
+        return findByIdReactive(id)
+                .map(acd -> {
+                    new AccountStatusUserDetailsChecker()
+                            .check(acd);
+                    return acd;
+                });
+    }
+
+
+    /**
+     *    Loads from database the {@link ApplicationClientDetails} related with the given {@code id}, storing it in the
+     * cache. If there is already a load in progress of the same {@code id}, waits for its result instead of running
+     * a new one.
+     * <p>
+     *    The result is shared with the waiting requests as soon as it is read from database, so they never wait for
+     * the storage in the cache.
+     *
+     * @param id
+     *    {@link ApplicationClientDetails#getId()} to search
+     *
+     * @return {@link Optional} with the {@link ApplicationClientDetails} if exists,
+     *         {@link Optional#empty()} otherwise
+     */
+    private Optional<ApplicationClientDetails> load(final String id) {
+        final CompletableFuture<Optional<ApplicationClientDetails>> newLoad = new CompletableFuture<>();
+        final CompletableFuture<Optional<ApplicationClientDetails>> inFlightLoad = inFlightLoads.putIfAbsent(
+                id,
+                newLoad
+        );
+        if (null != inFlightLoad) {
+            try {
+                return inFlightLoad.join();
+
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        try {
+            Optional<ApplicationClientDetails> applicationClientDetails = repository.findById(id);
+            newLoad.complete(applicationClientDetails);
+            applicationClientDetails.ifPresent(acd ->
+                    storeInCache(
+                            id,
+                            acd
+                    )
+            );
+            return applicationClientDetails;
+
+        } catch (RuntimeException e) {
+            newLoad.completeExceptionally(e);
+            throw e;
+
+        } finally {
+            inFlightLoads.remove(
+                    id,
+                    newLoad
+            );
+        }
+    }
+
+
+    /**
+     *    Non-blocking version of {@link ApplicationClientDetailsService#load(String)}, storing the loaded
+     * {@link ApplicationClientDetails} in the {@link Scheduler} of blocking I/O operations. The load is not cancelled if
+     * the subscriber that started it cancels its subscription, because other ones could be waiting for it.
+     * <p>
+     *    The result is shared before storing it, because the storage needs a thread of {@link ApplicationClientDetailsService#blockingIoScheduler}
+     * and a blocking {@link ApplicationClientDetailsService#load(String)} could be waiting for the result in one of them,
+     * so when all of them are busy the storage would never start. If the storage fails, the error is only logged.
+     *
+     * @param id
+     *    {@link ApplicationClientDetails#getId()} to search
+     *
+     * @return {@link Mono} with the {@link ApplicationClientDetails} if exists,
+     *         {@link Mono#empty()} otherwise
+     */
+    private Mono<ApplicationClientDetails> loadReactive(final String id) {
+        final CompletableFuture<Optional<ApplicationClientDetails>> newLoad = new CompletableFuture<>();
+        final CompletableFuture<Optional<ApplicationClientDetails>> inFlightLoad = inFlightLoads.putIfAbsent(
+                id,
+                newLoad
+        );
+        if (null == inFlightLoad) {
+            reactiveRepository.findById(id)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .doOnNext(newLoad::complete)
+                    .flatMap(applicationClientDetails ->
+                            Mono.justOrEmpty(applicationClientDetails)
+                                    .flatMap(acd ->
+                                            Mono.fromRunnable(() ->
+                                                            storeInCache(
+                                                                    id,
+                                                                    acd
+                                                            )
+                                                    )
+                                                    .subscribeOn(blockingIoScheduler)
+                                    )
+                    )
+                    .doFinally(signal ->
+                            inFlightLoads.remove(
+                                    id,
+                                    newLoad
+                            )
+                    )
+                    .subscribe(
+                            nothing -> {},
+                            error -> {
+                                if (!newLoad.completeExceptionally(error)) {
+                                    log.warn(
+                                            format("There was an error storing in the cache the application client details: %s",
+                                                    id
+                                            ),
+                                            error
+                                    );
+                                }
+                            }
+                    );
+        }
+        return Mono.fromFuture(
+                        null == inFlightLoad
+                                ? newLoad
+                                : inFlightLoad,
+                        true
+                )
+                .flatMap(Mono::justOrEmpty);
+    }
+
+
+    /**
+     *    Reloads in background the {@link ApplicationClientDetails} related with the given {@code id} if its cached
+     * version is going to expire soon. Only the first request after reaching that moment launches the reload.
+     *
+     * @param id
+     *    {@link ApplicationClientDetails#getId()} found in the cache
+     */
+    private void refreshAheadIfRequired(final String id) {
+        final Instant refreshAheadInstant = refreshAheadInstants.get(id);
+        if (null == refreshAheadInstant ||
+                clock.instant().isBefore(refreshAheadInstant) ||
+                !refreshAheadInstants.remove(id, refreshAheadInstant)) {
+            return;
+        }
+        log.debug(
+                format("Refreshing the application client details: %s before its expiration",
+                        id
+                )
+        );
+        loadReactive(id)
+                .subscribe(
+                        acd -> {},
+                        error ->
+                                log.warn(
+                                        format("There was an error refreshing the application client details: %s",
+                                                id
+                                        ),
+                                        error
+                                )
+                );
+    }
+
+
+    /**
+     *    Stores the given {@link ApplicationClientDetails} in the cache, invalidating its already verified credentials
+     * and, if refresh-ahead is enabled, calculating when it should be reloaded.
+     *
+     * @param id
+     *    {@link ApplicationClientDetails#getId()} to store
+     * @param applicationClientDetails
+     *    {@link ApplicationClientDetails} loaded from database
+     */
+    private void storeInCache(final String id,
+                              final ApplicationClientDetails applicationClientDetails) {
+        cacheService.put(
+                id,
+                applicationClientDetails
+        );
+        credentialsCacheService.remove(
+                applicationClientDetails.getPassword()
+        );
+        final int refreshAheadInSeconds = cacheConfiguration.getCacheRefreshAheadInSeconds();
+        final int expireInSeconds = cacheConfiguration.getCacheExpireInSeconds();
+        if (0 < refreshAheadInSeconds && refreshAheadInSeconds < expireInSeconds) {
+            refreshAheadInstants.put(
+                    id,
+                    clock.instant()
+                            .plusSeconds(expireInSeconds - refreshAheadInSeconds)
+            );
+        }
     }
 
 
     /**
-     *    Returns the given {@code applicationClientDetails} if it was well configured, otherwise throws a
-     * {@link UnsupportedOperationException} containing them.
+     *    Returns the given {@code applicationClientDetails} if it was well configured and its tokens can be revoked,
+     * otherwise throws a {@link UnsupportedOperationException} containing the errors.
      *
      * @param applicationClientDetails
      *    {@link ApplicationClientDetails} to verify
@@ -112,7 +454,7 @@ public class ApplicationClientDetailsService implements ReactiveUserDetailsServi
         Validation<ValidationError, ApplicationClientDetails> validation = new ApplicationClientDetailsValidator()
                 .validate(applicationClientDetails);
 
-        return validation.getOrElseThrow(() ->
+        validation.getOrElseThrow(() ->
                 new UnsupportedOperationException(
                         format("The application client details: %s was not well configured. Error messages: %s",
                                 applicationClientDetails.getId(),
@@ -122,6 +464,21 @@ public class ApplicationClientDetailsService implements ReactiveUserDetailsServi
                         )
                 )
         );
+        final int maxTokenValidityInSeconds = revokedTokenCacheService.getMaxTokenValidityInSeconds();
+        if (applicationClientDetails.getAccessTokenValidityInSeconds() > maxTokenValidityInSeconds ||
+                (null != applicationClientDetails.getRefreshTokenValidityInSeconds() &&
+                 applicationClientDetails.getRefreshTokenValidityInSeconds() > maxTokenValidityInSeconds)) {
+            throw new UnsupportedOperationException(
+                    format("The application client details: %s was not well configured. Its access token validity: %d "
+                         + "or refresh token validity: %d are greater than the one of the revoked tokens: %d",
+                            applicationClientDetails.getId(),
+                            applicationClientDetails.getAccessTokenValidityInSeconds(),
+                            applicationClientDetails.getRefreshTokenValidityInSeconds(),
+                            maxTokenValidityInSeconds
+                    )
+            );
+        }
+        return applicationClientDetails;
     }
 
 }
@@ -44,13 +44,7 @@ public class AuthenticationRequestDetailsService {
      */
     public AuthenticationRequestDetails findByAuthorizationCode(final String authorizationCode) {
         return ofNullable(authorizationCode)
-                .flatMap(cacheService::get)
-                .map(ard -> {
-                    cacheService.remove(
-                            authorizationCode
-                    );
-                    return ard;
-                })
+                .flatMap(cacheService::getAndRemove)
                 .orElseThrow(() ->
                         new AuthenticationRequestDetailsNotFoundException(
                                 format("The given authorizationCode: %s was not found in the cache",
@@ -12,6 +12,7 @@ import com.security.custom.exception.token.TokenException;
 import com.security.custom.exception.token.TokenExpiredException;
 import com.security.custom.exception.token.TokenInvalidException;
 import com.security.custom.interfaces.IApplicationClientAuthenticationService;
+import com.security.custom.interfaces.IReactiveApplicationClientAuthenticationService;
 import com.security.custom.model.ApplicationClientDetails;
 import com.security.custom.model.AuthenticationRequestDetails;
 import com.security.custom.service.token.TokenService;
@@ -25,14 +26,25 @@ import com.spring6microservices.common.spring.util.HashUtil;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationContext;
 import org.springframework.security.authentication.AccountStatusException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuple3;
+import reactor.util.function.Tuples;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import static com.security.custom.configuration.scheduler.SchedulerConfiguration.BLOCKING_IO_SCHEDULER;
+import static com.security.custom.configuration.scheduler.SchedulerConfiguration.CRYPTO_SCHEDULER;
 import static java.lang.String.format;
 
 @Log4j2
@@ -51,6 +63,10 @@ public class AuthenticationService {
 
     private final TokenService tokenService;
 
+    private final Scheduler blockingIoScheduler;
+
+    private final Scheduler cryptoScheduler;
+
 
     @Autowired
     public AuthenticationService(final ApplicationContext applicationContext,
@@ -58,13 +74,17 @@ public class AuthenticationService {
                                  final ApplicationUserBlackListService applicationUserBlackListService,
                                  final AuthenticationRequestDetailsService authenticationRequestDetailsService,
                                  final AuthorizationService authorizationService,
-                                 final TokenService tokenService) {
+                                 final TokenService tokenService,
+                                 @Qualifier(BLOCKING_IO_SCHEDULER) final Scheduler blockingIoScheduler,
+                                 @Qualifier(CRYPTO_SCHEDULER) final Scheduler cryptoScheduler) {
         this.applicationContext = applicationContext;
         this.applicationClientDetailsService = applicationClientDetailsService;
         this.applicationUserBlackListService = applicationUserBlackListService;
         this.authenticationRequestDetailsService = authenticationRequestDetailsService;
         this.authorizationService = authorizationService;
         this.tokenService = tokenService;
+        this.blockingIoScheduler = blockingIoScheduler;
+        this.cryptoScheduler = cryptoScheduler;
     }
 
 
@@ -102,31 +122,76 @@ public class AuthenticationService {
         UserDetails userDetails = applicationAuthenticationService.loadUserByUsername(
                 username
         );
-        if (!applicationAuthenticationService.isValidPassword(password, userDetails)) {
-            throw new UnauthorizedException(
-                    format("The password given for the username: %s does not match",
-                            username
-                    )
-            );
-        }
-        log.info(
-                format("Regarding to the ApplicationClientDetails: %s, the username: %s exists in database and provided password matches",
-                        applicationClientId,
-                        username
-                )
-        );
-        applicationUserBlackListService.remove(
-                applicationClientId,
-                username
-        );
-        return getAuthenticationInformation(
+        return getAuthenticationInformationIfValidPassword(
                 applicationClientDetails,
                 applicationAuthenticationService,
-                userDetails
+                userDetails,
+                password
         );
     }
 
 
+    /**
+     *    Non-blocking version of {@link AuthenticationService#login(String, String, String)}. If the
+     * {@link IApplicationClientAuthenticationService} related with {@code applicationClientId} implements
+     * {@link IReactiveApplicationClientAuthenticationService}, the searches in database do not block. Otherwise, they are
+     * executed in {@link AuthenticationService#blockingIoScheduler}. In both cases, the verification of the password and
+     * the creation of the tokens are executed in {@link AuthenticationService#cryptoScheduler}.
+     *
+     * @param applicationClientId
+     *    {@link ApplicationClientDetails#getId()} used to know how to get the specific authentication data to include
+     * @param username
+     *    Identifier of the user who is trying to authenticate
+     * @param password
+     *    Password of the user who is trying to authenticate
+     *
+     * @return {@link Mono} of {@link AuthenticationInformationDto} with the authentication data based on {@link ApplicationClientDetails}.
+     *         {@link Mono#empty()} if {@link SecurityHandler#getAuthenticationServiceClass()} of specific {@link ApplicationClientDetails}
+     *         returns no data. {@link Mono#error(Throwable)} with the same {@link Exception}s thrown by
+     *         {@link AuthenticationService#login(String, String, String)}.
+     */
+    public Mono<AuthenticationInformationDto> loginReactive(final String applicationClientId,
+                                                            final String username,
+                                                            final String password) {
+        return Mono.defer(() -> {
+            IApplicationClientAuthenticationService applicationAuthenticationService = getApplicationClientAuthenticationService(
+                    applicationClientId
+            );
+            if (!(applicationAuthenticationService instanceof IReactiveApplicationClientAuthenticationService reactiveApplicationAuthenticationService)) {
+                return getAuthenticationInformationIfValidPassword(
+                        Mono.fromCallable(() ->
+                                        Tuples.of(
+                                                applicationClientDetailsService.findById(
+                                                        applicationClientId
+                                                ),
+                                                applicationAuthenticationService.loadUserByUsername(
+                                                        username
+                                                )
+                                        )
+                                )
+                                .subscribeOn(blockingIoScheduler)
+                                .publishOn(cryptoScheduler),
+                        applicationAuthenticationService,
+                        password
+                );
+            }
+            return getAuthenticationInformationIfValidPassword(
+                    Mono.zip(
+                            applicationClientDetailsService.findByIdReactive(
+                                    applicationClientId
+                            ),
+                            reactiveApplicationAuthenticationService.findByUsername(
+                                    username
+                            )
+                    )
+                    .publishOn(cryptoScheduler),
+                    reactiveApplicationAuthenticationService,
+                    password
+            );
+        });
+    }
+
+
     /**
      *     Builds the {@link AuthenticationInformationAuthorizationCodeDto} using the authentication information: {@code authenticationRequest}
      * related with a {@code applicationClientId} (belonging to a {@link ApplicationClientDetails}). This method is part of the
@@ -197,30 +262,10 @@ public class AuthenticationService {
      */
     public Optional<AuthenticationInformationDto> loginToken(final String applicationClientId,
                                                              final AuthenticationRequestLoginTokenDto authenticationRequestLoginToken) {
-        AssertUtil.notNull(authenticationRequestLoginToken, "authenticationRequestLoginToken must be not null");
-        AuthenticationRequestDetails authenticationRequestDetails = authenticationRequestDetailsService.findByAuthorizationCode(
-                authenticationRequestLoginToken.getAuthorizationCode()
+        verifyAuthenticationRequestDetails(
+                applicationClientId,
+                authenticationRequestLoginToken
         );
-        if (null == applicationClientId ||
-                null == authenticationRequestDetails.getApplicationClientId() ||
-                !applicationClientId.equals(authenticationRequestDetails.getApplicationClientId())) {
-            throw new ApplicationClientMismatchException(
-                    format("The provided application identifier: %s does not match with stored one: %s",
-                            applicationClientId,
-                            authenticationRequestDetails.getApplicationClientId()
-                    )
-            );
-        }
-        // Checks provided verifier with stored: challenge & challengeMethod
-        if (!HashUtil.verifyHash(authenticationRequestLoginToken.getVerifier(), authenticationRequestDetails.getChallenge(), authenticationRequestDetails.getChallengeMethod())) {
-            throw new UnauthorizedException(
-                    format("Provided verifier: %s does not match with the stored challenge: %s and challenge method: %s",
-                            authenticationRequestLoginToken.getVerifier(),
-                            authenticationRequestDetails.getChallenge(),
-                            authenticationRequestDetails.getChallengeMethod()
-                    )
-            );
-        }
         return login(
                 applicationClientId,
                 authenticationRequestLoginToken.getUsername(),
@@ -229,9 +274,83 @@ public class AuthenticationService {
     }
 
 
+    /**
+     *    Non-blocking version of {@link AuthenticationService#loginToken(String, AuthenticationRequestLoginTokenDto)}.
+     * The searches in database and distributed caches are executed together in {@link AuthenticationService#blockingIoScheduler},
+     * and the verification of the PKCE verifier and the password, and the creation of the tokens in
+     * {@link AuthenticationService#cryptoScheduler}.
+     * <p>
+     *    The errors searching the application and the user are reported after the verification of the PKCE verifier,
+     * like {@link AuthenticationService#loginToken(String, AuthenticationRequestLoginTokenDto)} does.
+     *
+     * @param applicationClientId
+     *    {@link ApplicationClientDetails#getId()} used to know how to get the specific authentication data to include
+     * @param authenticationRequestLoginToken
+     *    {@link AuthenticationRequestLoginTokenDto} used to check the origin of the request, verifying that it was generated by the security microservice
+     *
+     * @return {@link Mono} of {@link AuthenticationInformationDto} with the authentication data based on {@link ApplicationClientDetails}.
+     *         {@link Mono#empty()} if {@link SecurityHandler#getAuthenticationServiceClass()} of specific {@link ApplicationClientDetails}
+     *         returns no data. {@link Mono#error(Throwable)} with the same {@link Exception}s thrown by
+     *         {@link AuthenticationService#loginToken(String, AuthenticationRequestLoginTokenDto)}.
+     */
+    public Mono<AuthenticationInformationDto> loginTokenReactive(final String applicationClientId,
+                                                                 final AuthenticationRequestLoginTokenDto authenticationRequestLoginToken) {
+        return Mono.zip(
+                        Mono.fromCallable(() ->
+                                findAuthenticationRequestDetails(
+                                        applicationClientId,
+                                        authenticationRequestLoginToken
+                                )
+                        ),
+                        Mono.fromCallable(() -> {
+                                    IApplicationClientAuthenticationService applicationAuthenticationService = getApplicationClientAuthenticationService(
+                                            applicationClientId
+                                    );
+                                    return Tuples.of(
+                                            applicationAuthenticationService,
+                                            applicationClientDetailsService.findById(
+                                                    applicationClientId
+                                            ),
+                                            applicationAuthenticationService.loadUserByUsername(
+                                                    authenticationRequestLoginToken.getUsername()
+                                            )
+                                    );
+                                })
+                                .materialize()
+                )
+                .subscribeOn(blockingIoScheduler)
+                .publishOn(cryptoScheduler)
+                .flatMap(authenticationRequestDetailsAndSearches -> {
+                    verifyChallenge(
+                            authenticationRequestLoginToken,
+                            authenticationRequestDetailsAndSearches.getT1()
+                    );
+                    return Mono.just(
+                                    authenticationRequestDetailsAndSearches.getT2()
+                            )
+                            .<Tuple3<IApplicationClientAuthenticationService, ApplicationClientDetails, UserDetails>>dematerialize();
+                })
+                .flatMap(serviceApplicationClientDetailsAndUser ->
+                        getAuthenticationInformationIfValidPassword(
+                                Mono.just(
+                                        Tuples.of(
+                                                serviceApplicationClientDetailsAndUser.getT2(),
+                                                serviceApplicationClientDetailsAndUser.getT3()
+                                        )
+                                ),
+                                serviceApplicationClientDetailsAndUser.getT1(),
+                                authenticationRequestLoginToken.getPassword()
+                        )
+                );
+    }
+
+
     /**
      *    Logs out the {@link LogoutRequestDto#getUsername()} related with provided {@code applicationClientId}, rejecting
      * any request coming from the same user until he/she logs in again.
+     * <p>
+     *    The {@link LogoutRequestDto#getAccessToken()} and {@link LogoutRequestDto#getRefreshToken()}, if they were
+     * provided, are revoked too, so they are rejected until they expire even if the user logs in again.
      *
      * @param applicationClientId
      *    {@link ApplicationClientDetails#getId()} used to know how to get the specific authentication data to include
@@ -240,8 +359,11 @@ public class AuthenticationService {
      *
      * @return {@code true} if the log-out was successful, {@code false} otherwise.
      *
-     * @throws ApplicationClientNotFoundException if the given {@code applicationClientId} is {@code null} or empty.
+     * @throws ApplicationClientNotFoundException if the given {@code applicationClientId} is {@code null} or empty, or
+     *                                            does not exist in database when a token to revoke was provided
      * @throws IllegalArgumentException if {@code logoutRequest} is {@code null}
+     * @throws TokenInvalidException if a provided token to revoke is not a valid one
+     * @throws TokenException if there was a problem getting the content of a provided token to revoke
      */
     public boolean logout(final String applicationClientId,
                           final LogoutRequestDto logoutRequest) {
@@ -250,16 +372,113 @@ public class AuthenticationService {
                 () -> new ApplicationClientNotFoundException("The applicationClientId cannot be empty")
         );
         AssertUtil.notNull(logoutRequest, "logoutRequest must be not null");
-        return applicationUserBlackListService.save(
+        final List<String> tokensToRevoke = getTokensToRevoke(
+                logoutRequest
+        );
+        boolean result = applicationUserBlackListService.save(
                 applicationClientId,
                 logoutRequest.getUsername()
         );
+        if (!tokensToRevoke.isEmpty()) {
+            ApplicationClientDetails applicationClientDetails = applicationClientDetailsService.findById(
+                    applicationClientId
+            );
+            for (String token : tokensToRevoke) {
+                result &= authorizationService.revokeToken(
+                        applicationClientDetails,
+                        token
+                );
+            }
+        }
+        return result;
+    }
+
+
+    /**
+     *    Non-blocking version of {@link AuthenticationService#logout(String, LogoutRequestDto)}. The searches and writes
+     * in database and distributed caches are executed in {@link AuthenticationService#blockingIoScheduler}, and the
+     * verification of the tokens to revoke in {@link AuthenticationService#cryptoScheduler}.
+     *
+     * @param applicationClientId
+     *    {@link ApplicationClientDetails#getId()} used to know how to get the specific authentication data to include
+     * @param logoutRequest
+     *   {@link LogoutRequestDto} with the required information to complete the log-out
+     *
+     * @return {@link Mono} with {@code true} if the log-out was successful, {@code false} otherwise.
+     *         {@link Mono#error(Throwable)} with the same {@link Exception}s thrown by
+     *         {@link AuthenticationService#logout(String, LogoutRequestDto)}.
+     */
+    public Mono<Boolean> logoutReactive(final String applicationClientId,
+                                        final LogoutRequestDto logoutRequest) {
+        return Mono.fromCallable(() -> {
+                    AssertUtil.hasText(
+                            applicationClientId,
+                            () -> new ApplicationClientNotFoundException("The applicationClientId cannot be empty")
+                    );
+                    AssertUtil.notNull(logoutRequest, "logoutRequest must be not null");
+                    final boolean blackListed = applicationUserBlackListService.save(
+                            applicationClientId,
+                            logoutRequest.getUsername()
+                    );
+                    final List<String> tokensToRevoke = getTokensToRevoke(
+                            logoutRequest
+                    );
+                    return Tuples.of(
+                            blackListed,
+                            tokensToRevoke,
+                            tokensToRevoke.isEmpty()
+                                    ? Optional.<ApplicationClientDetails>empty()
+                                    : Optional.of(
+                                            applicationClientDetailsService.findById(
+                                                    applicationClientId
+                                            )
+                                      )
+                    );
+                })
+                .subscribeOn(blockingIoScheduler)
+                .flatMap(blackListedTokensAndApplicationClientDetails -> {
+                    final boolean blackListed = blackListedTokensAndApplicationClientDetails.getT1();
+                    final List<String> tokensToRevoke = blackListedTokensAndApplicationClientDetails.getT2();
+                    if (tokensToRevoke.isEmpty()) {
+                        return Mono.just(blackListed);
+                    }
+                    return Mono.just(
+                                    blackListedTokensAndApplicationClientDetails.getT3().get()
+                            )
+                            .publishOn(cryptoScheduler)
+                            .map(applicationClientDetails ->
+                                    tokensToRevoke.stream()
+                                            .map(token ->
+                                                    authorizationService.getTokenToRevoke(
+                                                            applicationClientDetails,
+                                                            token
+                                                    )
+                                            )
+                                            .toList()
+                            )
+                            .publishOn(blockingIoScheduler)
+                            .map(verifiedTokensToRevoke -> {
+                                boolean result = blackListed;
+                                for (Optional<AuthorizationService.TokenToRevoke> tokenToRevoke : verifiedTokensToRevoke) {
+                                    result &= tokenToRevoke
+                                            .map(ttr ->
+                                                    authorizationService.revoke(
+                                                            applicationClientId,
+                                                            ttr
+                                                    )
+                                            )
+                                            .orElse(true);
+                                }
+                                return result;
+                            });
+                });
     }
 
 
     /**
      *    Builds the {@link AuthenticationInformationDto} using the given {@code refreshToken}, based on the provided
-     * {@code applicationClientId} (belonging to a {@link ApplicationClientDetails}).
+     * {@code applicationClientId} (belonging to a {@link ApplicationClientDetails}). The {@code refreshToken} is revoked,
+     * so it cannot be used again.
      *
      * @param applicationClientId
      *    {@link ApplicationClientDetails#getId()} used to know how to get the specific authentication data to include
@@ -287,10 +506,321 @@ public class AuthenticationService {
         ApplicationClientDetails applicationClientDetails = applicationClientDetailsService.findById(
                 applicationClientId
         );
-        AuthorizationInformationDto authorizationInformation = authorizationService.checkRefreshToken(
+        AuthorizationInformationDto authorizationInformation = authorizationService.checkAndRevokeRefreshToken(
                 applicationClientDetails,
                 refreshToken
         );
+        UserDetails userDetails = loadRefreshedUser(
+                applicationClientId,
+                applicationAuthenticationService,
+                authorizationInformation
+        );
+        return getAuthenticationInformation(
+                applicationClientDetails,
+                applicationAuthenticationService,
+                userDetails
+        );
+    }
+
+
+    /**
+     *    Non-blocking version of {@link AuthenticationService#refresh(String, String)}. The searches and writes in
+     * database and distributed caches are executed in {@link AuthenticationService#blockingIoScheduler}, and the
+     * verification of {@code refreshToken} and the creation of the new tokens in {@link AuthenticationService#cryptoScheduler}.
+     *
+     * @param applicationClientId
+     *    {@link ApplicationClientDetails#getId()} used to know how to get the specific authentication data to include
+     * @param refreshToken
+     *    {@link String} with the refresh token to check
+     *
+     * @return {@link Mono} of {@link AuthenticationInformationDto} with the authentication data based on {@link ApplicationClientDetails}.
+     *         {@link Mono#empty()} if {@link SecurityHandler#getAuthenticationServiceClass()} of specific {@link ApplicationClientDetails}
+     *         returns no data. {@link Mono#error(Throwable)} with the same {@link Exception}s thrown by
+     *         {@link AuthenticationService#refresh(String, String)}.
+     */
+    public Mono<AuthenticationInformationDto> refreshReactive(final String applicationClientId,
+                                                              final String refreshToken) {
+        return Mono.fromCallable(() ->
+                        Tuples.of(
+                                getApplicationClientAuthenticationService(
+                                        applicationClientId
+                                ),
+                                applicationClientDetailsService.findById(
+                                        applicationClientId
+                                )
+                        )
+                )
+                .subscribeOn(blockingIoScheduler)
+                .publishOn(cryptoScheduler)
+                .map(serviceAndApplicationClientDetails ->
+                        Tuples.of(
+                                serviceAndApplicationClientDetails.getT1(),
+                                serviceAndApplicationClientDetails.getT2(),
+                                authorizationService.verifyRefreshToken(
+                                        serviceAndApplicationClientDetails.getT2(),
+                                        refreshToken
+                                )
+                        )
+                )
+                .publishOn(blockingIoScheduler)
+                .map(serviceApplicationClientDetailsAndToken ->
+                        Tuples.of(
+                                serviceApplicationClientDetailsAndToken.getT1(),
+                                serviceApplicationClientDetailsAndToken.getT2(),
+                                loadRefreshedUser(
+                                        applicationClientId,
+                                        serviceApplicationClientDetailsAndToken.getT1(),
+                                        authorizationService.checkAndRevokeVerifiedRefreshToken(
+                                                applicationClientId,
+                                                serviceApplicationClientDetailsAndToken.getT3()
+                                        )
+                                )
+                        )
+                )
+                .publishOn(cryptoScheduler)
+                .flatMap(serviceApplicationClientDetailsAndUser ->
+                        Mono.justOrEmpty(
+                                getAuthenticationInformation(
+                                        serviceApplicationClientDetailsAndUser.getT2(),
+                                        serviceApplicationClientDetailsAndUser.getT1(),
+                                        serviceApplicationClientDetailsAndUser.getT3()
+                                )
+                        )
+                );
+    }
+
+
+    /**
+     *    Checks the {@link AuthenticationRequestDetails} related with {@link AuthenticationRequestLoginTokenDto#getAuthorizationCode()}
+     * belongs to {@code applicationClientId} and its challenge matches with {@link AuthenticationRequestLoginTokenDto#getVerifier()}.
+     *
+     * @param applicationClientId
+     *    {@link ApplicationClientDetails#getId()} that sent the request
+     * @param authenticationRequestLoginToken
+     *    {@link AuthenticationRequestLoginTokenDto} used to check the origin of the request
+     *
+     * @throws ApplicationClientMismatchException if given {@code applicationClientId} does not match with stored one
+     * @throws AuthenticationRequestDetailsNotFoundException if the given {@code authorizationCode} does not exist in cache
+     * @throws IllegalArgumentException if {@code authenticationRequestLoginToken} is {@code null}
+     * @throws UnauthorizedException if the provided {@code verifier} does not match with stored {@link AuthenticationRequestDetails#getChallenge()}
+     *                               and {@link AuthenticationRequestDetails#getChallengeMethod()} of the first request
+     */
+    private void verifyAuthenticationRequestDetails(final String applicationClientId,
+                                                    final AuthenticationRequestLoginTokenDto authenticationRequestLoginToken) {
+        verifyChallenge(
+                authenticationRequestLoginToken,
+                findAuthenticationRequestDetails(
+                        applicationClientId,
+                        authenticationRequestLoginToken
+                )
+        );
+    }
+
+
+    /**
+     *    Returns the {@link AuthenticationRequestDetails} related with {@link AuthenticationRequestLoginTokenDto#getAuthorizationCode()},
+     * checking it belongs to {@code applicationClientId}.
+     *
+     * @param applicationClientId
+     *    {@link ApplicationClientDetails#getId()} that sent the request
+     * @param authenticationRequestLoginToken
+     *    {@link AuthenticationRequestLoginTokenDto} used to check the origin of the request
+     *
+     * @return {@link AuthenticationRequestDetails}
+     *
+     * @throws ApplicationClientMismatchException if given {@code applicationClientId} does not match with stored one
+     * @throws AuthenticationRequestDetailsNotFoundException if the given {@code authorizationCode} does not exist in cache
+     * @throws IllegalArgumentException if {@code authenticationRequestLoginToken} is {@code null}
+     */
+    private AuthenticationRequestDetails findAuthenticationRequestDetails(final String applicationClientId,
+                                                                          final AuthenticationRequestLoginTokenDto authenticationRequestLoginToken) {
+        AssertUtil.notNull(authenticationRequestLoginToken, "authenticationRequestLoginToken must be not null");
+        AuthenticationRequestDetails authenticationRequestDetails = authenticationRequestDetailsService.findByAuthorizationCode(
+                authenticationRequestLoginToken.getAuthorizationCode()
+        );
+        if (null == applicationClientId ||
+                null == authenticationRequestDetails.getApplicationClientId() ||
+                !applicationClientId.equals(authenticationRequestDetails.getApplicationClientId())) {
+            throw new ApplicationClientMismatchException(
+                    format("The provided application identifier: %s does not match with stored one: %s",
+                            applicationClientId,
+                            authenticationRequestDetails.getApplicationClientId()
+                    )
+            );
+        }
+        return authenticationRequestDetails;
+    }
+
+
+    /**
+     *    Checks {@link AuthenticationRequestLoginTokenDto#getVerifier()} matches with the challenge stored in
+     * {@code authenticationRequestDetails}. It is CPU bound, because the verifier must be hashed.
+     *
+     * @param authenticationRequestLoginToken
+     *    {@link AuthenticationRequestLoginTokenDto} with the verifier to check
+     * @param authenticationRequestDetails
+     *    {@link AuthenticationRequestDetails} with the challenge and challenge method of the first request
+     *
+     * @throws UnauthorizedException if the provided {@code verifier} does not match with stored {@link AuthenticationRequestDetails#getChallenge()}
+     *                               and {@link AuthenticationRequestDetails#getChallengeMethod()} of the first request
+     */
+    private void verifyChallenge(final AuthenticationRequestLoginTokenDto authenticationRequestLoginToken,
+                                 final AuthenticationRequestDetails authenticationRequestDetails) {
+        // Checks provided verifier with stored: challenge & challengeMethod
+        if (!HashUtil.verifyHash(authenticationRequestLoginToken.getVerifier(), authenticationRequestDetails.getChallenge(), authenticationRequestDetails.getChallengeMethod())) {
+            throw new UnauthorizedException(
+                    format("Provided verifier: %s does not match with the stored challenge: %s and challenge method: %s",
+                            authenticationRequestLoginToken.getVerifier(),
+                            authenticationRequestDetails.getChallenge(),
+                            authenticationRequestDetails.getChallengeMethod()
+                    )
+            );
+        }
+    }
+
+
+    /**
+     *    Verifies the given {@code password} belongs to {@code userDetails} and, if it does, builds the
+     * {@link AuthenticationInformationDto} with the specific information related with them.
+     *
+     * @param applicationClientDetails
+     *    {@link ApplicationClientDetails} with the details about how to generate authentication information
+     * @param applicationAuthenticationService
+     *    {@link IApplicationClientAuthenticationService} used to know the authentication data to include
+     * @param userDetails
+     *    {@link UserDetails} with the information about who is trying to authenticate
+     * @param password
+     *    Password of the user who is trying to authenticate
+     *
+     * @return {@link Optional} of {@link AuthenticationInformationDto}
+     *
+     * @throws UnauthorizedException if the given {@code password} does not match with {@link UserDetails#getPassword()}
+     */
+    private Optional<AuthenticationInformationDto> getAuthenticationInformationIfValidPassword(final ApplicationClientDetails applicationClientDetails,
+                                                                                               final IApplicationClientAuthenticationService applicationAuthenticationService,
+                                                                                               final UserDetails userDetails,
+                                                                                               final String password) {
+        verifyPassword(
+                applicationClientDetails,
+                applicationAuthenticationService,
+                userDetails,
+                password
+        );
+        applicationUserBlackListService.remove(
+                applicationClientDetails.getId(),
+                userDetails.getUsername()
+        );
+        return getAuthenticationInformation(
+                applicationClientDetails,
+                applicationAuthenticationService,
+                userDetails
+        );
+    }
+
+
+    /**
+     *    Non-blocking version of {@link AuthenticationService#getAuthenticationInformationIfValidPassword(ApplicationClientDetails, IApplicationClientAuthenticationService, UserDetails, String)}.
+     * The verification of {@code password} and the creation of the tokens are executed where {@code applicationClientDetailsAndUser}
+     * is published, that must be {@link AuthenticationService#cryptoScheduler}, and the removal of the user from the
+     * blacklist in {@link AuthenticationService#blockingIoScheduler}.
+     *
+     * @param applicationClientDetailsAndUser
+     *    {@link Mono} with the {@link ApplicationClientDetails} and the {@link UserDetails} who is trying to authenticate,
+     *    published on {@link AuthenticationService#cryptoScheduler}
+     * @param applicationAuthenticationService
+     *    {@link IApplicationClientAuthenticationService} used to know the authentication data to include
+     * @param password
+     *    Password of the user who is trying to authenticate
+     *
+     * @return {@link Mono} of {@link AuthenticationInformationDto}
+     */
+    private Mono<AuthenticationInformationDto> getAuthenticationInformationIfValidPassword(final Mono<Tuple2<ApplicationClientDetails, UserDetails>> applicationClientDetailsAndUser,
+                                                                                           final IApplicationClientAuthenticationService applicationAuthenticationService,
+                                                                                           final String password) {
+        return applicationClientDetailsAndUser
+                .map(applicationClientDetailsAndUserToVerify -> {
+                    verifyPassword(
+                            applicationClientDetailsAndUserToVerify.getT1(),
+                            applicationAuthenticationService,
+                            applicationClientDetailsAndUserToVerify.getT2(),
+                            password
+                    );
+                    return Tuples.of(
+                            applicationClientDetailsAndUserToVerify.getT1(),
+                            applicationClientDetailsAndUserToVerify.getT2(),
+                            getAuthenticationInformation(
+                                    applicationClientDetailsAndUserToVerify.getT1(),
+                                    applicationAuthenticationService,
+                                    applicationClientDetailsAndUserToVerify.getT2()
+                            )
+                    );
+                })
+                .publishOn(blockingIoScheduler)
+                .flatMap(applicationClientDetailsUserAndAuthenticationInformation -> {
+                    applicationUserBlackListService.remove(
+                            applicationClientDetailsUserAndAuthenticationInformation.getT1().getId(),
+                            applicationClientDetailsUserAndAuthenticationInformation.getT2().getUsername()
+                    );
+                    return Mono.justOrEmpty(
+                            applicationClientDetailsUserAndAuthenticationInformation.getT3()
+                    );
+                });
+    }
+
+
+    /**
+     * Verifies the given {@code password} belongs to {@code userDetails}.
+     *
+     * @param applicationClientDetails
+     *    {@link ApplicationClientDetails} the user is trying to authenticate in
+     * @param applicationAuthenticationService
+     *    {@link IApplicationClientAuthenticationService} used to verify {@code password}
+     * @param userDetails
+     *    {@link UserDetails} with the information about who is trying to authenticate
+     * @param password
+     *    Password of the user who is trying to authenticate
+     *
+     * @throws UnauthorizedException if the given {@code password} does not match with {@link UserDetails#getPassword()}
+     */
+    private void verifyPassword(final ApplicationClientDetails applicationClientDetails,
+                                final IApplicationClientAuthenticationService applicationAuthenticationService,
+                                final UserDetails userDetails,
+                                final String password) {
+        if (!applicationAuthenticationService.isValidPassword(password, userDetails)) {
+            throw new UnauthorizedException(
+                    format("The password given for the username: %s does not match",
+                            userDetails.getUsername()
+                    )
+            );
+        }
+        log.info(
+                format("Regarding to the ApplicationClientDetails: %s, the username: %s exists in database and provided password matches",
+                        applicationClientDetails.getId(),
+                        userDetails.getUsername()
+                )
+        );
+    }
+
+
+    /**
+     *    Loads the {@link UserDetails} related with the given {@code authorizationInformation} of a verified refresh token,
+     * removing it from the blacklist.
+     *
+     * @param applicationClientId
+     *    {@link ApplicationClientDetails#getId()} related with the refresh token
+     * @param applicationAuthenticationService
+     *    {@link IApplicationClientAuthenticationService} used to load the {@link UserDetails}
+     * @param authorizationInformation
+     *    {@link AuthorizationInformationDto} included in the refresh token
+     *
+     * @return {@link UserDetails}
+     *
+     * @throws AccountStatusException if the {@link UserDetails} is disabled
+     * @throws UsernameNotFoundException if the included username does not exist in database
+     */
+    private UserDetails loadRefreshedUser(final String applicationClientId,
+                                          final IApplicationClientAuthenticationService applicationAuthenticationService,
+                                          final AuthorizationInformationDto authorizationInformation) {
         UserDetails userDetails = applicationAuthenticationService.loadUserByUsername(
                 authorizationInformation.getUsername()
         );
@@ -304,11 +834,25 @@ public class AuthenticationService {
                 applicationClientId,
                 userDetails.getUsername()
         );
-        return getAuthenticationInformation(
-                applicationClientDetails,
-                applicationAuthenticationService,
-                userDetails
-        );
+        return userDetails;
+    }
+
+
+    /**
+     * Returns the provided tokens of {@code logoutRequest} that must be revoked.
+     *
+     * @param logoutRequest
+     *   {@link LogoutRequestDto} with the required information to complete the log-out
+     *
+     * @return {@link List} with the access and refresh tokens of {@code logoutRequest}, if they were provided
+     */
+    private static List<String> getTokensToRevoke(final LogoutRequestDto logoutRequest) {
+        return Stream.of(
+                        logoutRequest.getAccessToken(),
+                        logoutRequest.getRefreshToken()
+                )
+                .filter(Objects::nonNull)
+                .toList();
     }
 
 
@@ -1,12 +1,18 @@
 package com.security.custom.service;
 
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
 import com.security.custom.enums.SecurityHandler;
+import com.security.custom.enums.token.TokenKey;
+import com.security.custom.enums.token.TokenType;
 import com.security.custom.exception.ApplicationClientNotFoundException;
 import com.security.custom.exception.token.TokenException;
 import com.security.custom.exception.token.TokenExpiredException;
 import com.security.custom.exception.token.TokenInvalidException;
 import com.security.custom.interfaces.IApplicationClientAuthorizationService;
 import com.security.custom.model.ApplicationClientDetails;
+import com.security.custom.service.cache.VerifiedAccessTokenCacheService;
+import com.security.custom.service.cache.VerifiedAccessTokenCacheService.VerifiedAccessToken;
 import com.security.custom.service.token.TokenService;
 import com.spring6microservices.common.core.util.AssertUtil;
 import com.spring6microservices.common.core.util.StringUtil;
@@ -15,15 +21,28 @@ import com.spring6microservices.common.spring.exception.UnauthorizedException;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationContext;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.function.Tuples;
 
+import java.time.Instant;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
+import static com.security.custom.configuration.scheduler.SchedulerConfiguration.BLOCKING_IO_SCHEDULER;
+import static com.security.custom.configuration.scheduler.SchedulerConfiguration.CRYPTO_SCHEDULER;
+import static com.security.custom.enums.token.TokenKey.EXPIRATION_TIME;
+import static com.security.custom.enums.token.TokenKey.JWT_ID;
+import static com.security.custom.enums.token.TokenKey.REFRESH_JWT_ID;
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
 
@@ -33,22 +52,42 @@ public class AuthorizationService {
 
     private final ApplicationContext applicationContext;
 
+    private final ApplicationClientCryptoContextService applicationClientCryptoContextService;
+
     private final ApplicationClientDetailsService applicationClientDetailsService;
 
     private final ApplicationUserBlackListService applicationUserBlackListService;
 
+    private final RevokedTokenService revokedTokenService;
+
     private final TokenService tokenService;
 
+    private final VerifiedAccessTokenCacheService verifiedAccessTokenCacheService;
+
+    private final Scheduler blockingIoScheduler;
+
+    private final Scheduler cryptoScheduler;
+
 
     @Autowired
     public AuthorizationService(final ApplicationContext applicationContext,
+                                final ApplicationClientCryptoContextService applicationClientCryptoContextService,
                                 final ApplicationClientDetailsService applicationClientDetailsService,
                                 final ApplicationUserBlackListService applicationUserBlackListService,
-                                final TokenService tokenService) {
+                                final RevokedTokenService revokedTokenService,
+                                final TokenService tokenService,
+                                final VerifiedAccessTokenCacheService verifiedAccessTokenCacheService,
+                                @Qualifier(BLOCKING_IO_SCHEDULER) final Scheduler blockingIoScheduler,
+                                @Qualifier(CRYPTO_SCHEDULER) final Scheduler cryptoScheduler) {
         this.applicationContext = applicationContext;
+        this.applicationClientCryptoContextService = applicationClientCryptoContextService;
         this.applicationClientDetailsService = applicationClientDetailsService;
         this.applicationUserBlackListService = applicationUserBlackListService;
+        this.revokedTokenService = revokedTokenService;
         this.tokenService = tokenService;
+        this.verifiedAccessTokenCacheService = verifiedAccessTokenCacheService;
+        this.blockingIoScheduler = blockingIoScheduler;
+        this.cryptoScheduler = cryptoScheduler;
     }
 
 
@@ -56,6 +95,13 @@ public class AuthorizationService {
      *    Verifies the given {@code accessToken}, based on the provided {@code applicationClientId} (belonging to
      * a {@link ApplicationClientDetails}). If provided token is valid then returns and instance of
      * {@link AuthorizationInformationDto} with its content.
+     * <p>
+     *    Already verified access tokens are taken from {@link VerifiedAccessTokenCacheService}, however the revoked
+     * tokens and the blacklist are always checked.
+     * <p>
+     *    {@link AuthorizationInformationDto#getAdditionalInformation()} always includes {@link TokenKey#EXPIRATION_TIME}
+     * with the expiration of {@code accessToken} as seconds since the epoch, so the callers know until when they can
+     * store the result.
      *
      * @param applicationClientId
      *    {@link ApplicationClientDetails#getId()} used to know how to get the specific authorization data to include
@@ -67,7 +113,8 @@ public class AuthorizationService {
      * @throws ApplicationClientNotFoundException if the given {@code applicationClientId} does not exist in database or
      *                                            was not defined in {@link SecurityHandler}
      * @throws BeansException if there was a problem getting the final class instance {@link IApplicationClientAuthorizationService}
-     * @throws UnauthorizedException if the {@code applicationClientId} and the {@code username} added in the {@code accessToken} were blacklisted
+     * @throws UnauthorizedException if {@code accessToken} was revoked, or the {@code applicationClientId} and the {@code username}
+     *                               added in the {@code accessToken} were blacklisted
      * @throws UsernameNotFoundException if the {@code accessToken} does not contain a {@code username}
      * @throws TokenInvalidException if the given {@code accessToken} is not a valid one
      * @throws TokenExpiredException if provided {@code accessToken} is valid but has expired
@@ -75,30 +122,81 @@ public class AuthorizationService {
      */
     public AuthorizationInformationDto checkAccessToken(final String applicationClientId,
                                                         final String accessToken) {
-        IApplicationClientAuthorizationService applicationAuthorizationService = getApplicationClientAuthorizationService(
-                applicationClientId
-        );
-        ApplicationClientDetails applicationClientDetails = applicationClientDetailsService.findById(
-                applicationClientId
-        );
-        AuthorizationInformationDto result = this.getAuthorizationInformation(
-                applicationClientDetails,
-                applicationAuthorizationService,
-                accessToken,
-                true
-        );
-        this.applicationUserBlackListService.notBlackListedOrThrow(
+        VerifiedAccessToken verifiedAccessToken = this.verifiedAccessTokenCacheService.get(
+                        applicationClientId,
+                        accessToken
+                )
+                .orElseGet(() -> {
+                    IApplicationClientAuthorizationService applicationAuthorizationService = getApplicationClientAuthorizationService(
+                            applicationClientId
+                    );
+                    return this.verifyAccessToken(
+                            applicationAuthorizationService,
+                            applicationClientDetailsService.findById(
+                                    applicationClientId
+                            ),
+                            accessToken
+                    );
+                });
+        return this.checkVerifiedAccessToken(
                 applicationClientId,
-                result.getUsername()
+                verifiedAccessToken
         );
-        log.info(
-                format("Regarding to the ApplicationClientDetails: %s, the authorize information of the username: %s "
-                     + "was validated using access token",
-                        applicationClientDetails.getId(),
-                        result.getUsername()
+    }
+
+
+    /**
+     *    Non-blocking version of {@link AuthorizationService#checkAccessToken(String, String)}. The searches in database
+     * and distributed caches are executed in {@link AuthorizationService#blockingIoScheduler}, and the verification of
+     * {@code accessToken} in {@link AuthorizationService#cryptoScheduler}.
+     *
+     * @param applicationClientId
+     *    {@link ApplicationClientDetails#getId()} used to know how to get the specific authorization data to include
+     * @param accessToken
+     *    {@link String} with the access token to use
+     *
+     * @return {@link Mono} with the {@link AuthorizationInformationDto} of {@code accessToken} based on {@link ApplicationClientDetails},
+     *         {@link Mono#error(Throwable)} with the same {@link Exception}s thrown by
+     *         {@link AuthorizationService#checkAccessToken(String, String)}
+     */
+    public Mono<AuthorizationInformationDto> checkAccessTokenReactive(final String applicationClientId,
+                                                                      final String accessToken) {
+        return Mono.defer(() ->
+                        Mono.justOrEmpty(
+                                this.verifiedAccessTokenCacheService.get(
+                                        applicationClientId,
+                                        accessToken
+                                )
+                        )
                 )
-        );
-        return result;
+                .switchIfEmpty(
+                        Mono.fromCallable(() ->
+                                        Tuples.of(
+                                                getApplicationClientAuthorizationService(
+                                                        applicationClientId
+                                                ),
+                                                applicationClientDetailsService.findById(
+                                                        applicationClientId
+                                                )
+                                        )
+                                )
+                                .subscribeOn(blockingIoScheduler)
+                                .publishOn(cryptoScheduler)
+                                .map(authorizationServiceAndApplicationClientDetails ->
+                                        this.verifyAccessToken(
+                                                authorizationServiceAndApplicationClientDetails.getT1(),
+                                                authorizationServiceAndApplicationClientDetails.getT2(),
+                                                accessToken
+                                        )
+                                )
+                )
+                .publishOn(blockingIoScheduler)
+                .map(verifiedAccessToken ->
+                        this.checkVerifiedAccessToken(
+                                applicationClientId,
+                                verifiedAccessToken
+                        )
+                );
     }
 
 
@@ -116,7 +214,8 @@ public class AuthorizationService {
      * @throws ApplicationClientNotFoundException if the given {@code applicationClientDetails} was not defined in {@link SecurityHandler}
      * @throws BeansException if there was a problem getting the final class instance {@link IApplicationClientAuthorizationService}
      * @throws IllegalArgumentException if {@code applicationClientDetails} is {@code null}
-     * @throws UnauthorizedException if the {@code applicationClientDetails}'s identifier and the {@code username} added in the {@code refreshToken} were blacklisted
+     * @throws UnauthorizedException if {@code refreshToken} was revoked, or the {@code applicationClientDetails}'s identifier
+     *                               and the {@code username} added in the {@code refreshToken} were blacklisted
      * @throws UsernameNotFoundException if the {@code refreshToken} does not contain a {@code username}
      * @throws TokenInvalidException if the given {@code refreshToken} is not a valid one
      * @throws TokenExpiredException if provided {@code refreshToken} is valid but has expired
@@ -124,24 +223,410 @@ public class AuthorizationService {
      */
     public AuthorizationInformationDto checkRefreshToken(final ApplicationClientDetails applicationClientDetails,
                                                          final String refreshToken) {
+        return this.checkRefreshToken(
+                applicationClientDetails,
+                refreshToken,
+                false
+        );
+    }
+
+
+    /**
+     *    Verifies the given {@code refreshToken} like {@link AuthorizationService#checkRefreshToken(ApplicationClientDetails, String)},
+     * revoking it once verified, so it cannot be used again (refresh token rotation).
+     *
+     * @param applicationClientDetails
+     *    {@link ApplicationClientDetails} with the details about how to get the specific authorization data to include
+     * @param refreshToken
+     *    {@link String} with the refresh token to use
+     *
+     * @return {@link AuthorizationInformationDto} with the data of {@code refreshToken} based on {@link ApplicationClientDetails}
+     *
+     * @throws ApplicationClientNotFoundException if the given {@code applicationClientDetails} was not defined in {@link SecurityHandler}
+     * @throws BeansException if there was a problem getting the final class instance {@link IApplicationClientAuthorizationService}
+     * @throws IllegalArgumentException if {@code applicationClientDetails} is {@code null}
+     * @throws UnauthorizedException if {@code refreshToken} was revoked or could not be revoked now, or the
+     *                               {@code applicationClientDetails}'s identifier and the {@code username} added in
+     *                               the {@code refreshToken} were blacklisted
+     * @throws UsernameNotFoundException if the {@code refreshToken} does not contain a {@code username}
+     * @throws TokenInvalidException if the given {@code refreshToken} is not a valid one
+     * @throws TokenExpiredException if provided {@code refreshToken} is valid but has expired
+     * @throws TokenException if there was a problem getting the content of {@code refreshToken}
+     */
+    public AuthorizationInformationDto checkAndRevokeRefreshToken(final ApplicationClientDetails applicationClientDetails,
+                                                                  final String refreshToken) {
+        return this.checkRefreshToken(
+                applicationClientDetails,
+                refreshToken,
+                true
+        );
+    }
+
+
+    /**
+     *    Verifies the signature, encryption and expiration of the given {@code refreshToken}, based on the provided
+     * {@link ApplicationClientDetails}, without checking if it was revoked. Used to run this expensive part of
+     * {@link AuthorizationService#checkAndRevokeRefreshToken(ApplicationClientDetails, String)} apart from the searches
+     * in database and distributed caches, completed by {@link AuthorizationService#checkAndRevokeVerifiedRefreshToken(String, VerifiedRefreshToken)}.
+     *
+     * @param applicationClientDetails
+     *    {@link ApplicationClientDetails} with the details about how to get the specific authorization data to include
+     * @param refreshToken
+     *    {@link String} with the refresh token to use
+     *
+     * @return {@link VerifiedRefreshToken} with the data of {@code refreshToken}
+     *
+     * @throws ApplicationClientNotFoundException if the given {@code applicationClientDetails} was not defined in {@link SecurityHandler}
+     * @throws BeansException if there was a problem getting the final class instance {@link IApplicationClientAuthorizationService}
+     * @throws IllegalArgumentException if {@code applicationClientDetails} is {@code null}
+     * @throws UsernameNotFoundException if the {@code refreshToken} does not contain a {@code username}
+     * @throws TokenInvalidException if the given {@code refreshToken} is not a valid one
+     * @throws TokenExpiredException if provided {@code refreshToken} is valid but has expired
+     * @throws TokenException if there was a problem getting the content of {@code refreshToken}
+     */
+    public VerifiedRefreshToken verifyRefreshToken(final ApplicationClientDetails applicationClientDetails,
+                                                   final String refreshToken) {
         AssertUtil.notNull(applicationClientDetails, "applicationClientDetails must be not null");
         IApplicationClientAuthorizationService applicationAuthorizationService = getApplicationClientAuthorizationService(
                 applicationClientDetails.getId()
         );
-        AuthorizationInformationDto result = this.getAuthorizationInformation(
+        Map<String, Object> rawAuthorizationInformation = this.getRawAuthorizationInformation(
                 applicationClientDetails,
-                applicationAuthorizationService,
                 refreshToken,
                 false
         );
-        this.applicationUserBlackListService.notBlackListedOrThrow(
+        return new VerifiedRefreshToken(
+                this.getAuthorizationInformation(
+                        applicationClientDetails,
+                        applicationAuthorizationService,
+                        rawAuthorizationInformation
+                ),
+                this.getIdentifier(
+                        rawAuthorizationInformation,
+                        REFRESH_JWT_ID
+                ),
+                this.getExpiration(
+                        rawAuthorizationInformation
+                )
+        );
+    }
+
+
+    /**
+     *    Checks the given {@code verifiedRefreshToken} was not revoked and its user was not blacklisted, revoking it
+     * so it cannot be used again (refresh token rotation).
+     *
+     * @param applicationClientId
+     *    {@link ApplicationClientDetails#getId()} related with {@code verifiedRefreshToken}
+     * @param verifiedRefreshToken
+     *    {@link VerifiedRefreshToken} returned by {@link AuthorizationService#verifyRefreshToken(ApplicationClientDetails, String)}
+     *
+     * @return {@link AuthorizationInformationDto} with the data of {@code verifiedRefreshToken}
+     *
+     * @throws UnauthorizedException if {@code verifiedRefreshToken} was revoked or could not be revoked now, or the
+     *                               {@code applicationClientId} and its {@code username} were blacklisted
+     */
+    public AuthorizationInformationDto checkAndRevokeVerifiedRefreshToken(final String applicationClientId,
+                                                                          final VerifiedRefreshToken verifiedRefreshToken) {
+        return this.checkVerifiedRefreshToken(
+                applicationClientId,
+                verifiedRefreshToken,
+                true
+        );
+    }
+
+
+    /**
+     *    Revokes the given access or refresh {@code token}, based on the provided {@link ApplicationClientDetails}, so it
+     * will be rejected until it expires.
+     *
+     * @param applicationClientDetails
+     *    {@link ApplicationClientDetails} with the details about how to get token's payload
+     * @param token
+     *    {@link String} with the access or refresh token to revoke
+     *
+     * @return {@code true} if {@code token} was revoked now or before, or it has already expired,
+     *         {@code false} otherwise
+     *
+     * @throws IllegalArgumentException if {@code applicationClientDetails} is {@code null}
+     * @throws TokenInvalidException if the given {@code token} is not a valid one
+     * @throws TokenException if there was a problem getting the content of {@code token}
+     */
+    public boolean revokeToken(final ApplicationClientDetails applicationClientDetails,
+                               final String token) {
+        return this.getTokenToRevoke(
+                        applicationClientDetails,
+                        token
+                )
+                .map(ttr ->
+                        this.revoke(
+                                applicationClientDetails.getId(),
+                                ttr
+                        )
+                )
+                .orElse(true);
+    }
+
+
+    /**
+     *    Verifies the given access or refresh {@code token}, based on the provided {@link ApplicationClientDetails},
+     * returning what is required to revoke it with {@link AuthorizationService#revoke(String, TokenToRevoke)}. Used to
+     * run this expensive part of {@link AuthorizationService#revokeToken(ApplicationClientDetails, String)} apart from
+     * the writes in distributed caches.
+     *
+     * @param applicationClientDetails
+     *    {@link ApplicationClientDetails} with the details about how to get token's payload
+     * @param token
+     *    {@link String} with the access or refresh token to revoke
+     *
+     * @return {@link Optional} with the {@link TokenToRevoke},
+     *         {@link Optional#empty()} if {@code token} has already expired, so it does not need to be revoked
+     *
+     * @throws IllegalArgumentException if {@code applicationClientDetails} is {@code null}
+     * @throws TokenInvalidException if the given {@code token} is not a valid one
+     * @throws TokenException if there was a problem getting the content of {@code token}
+     */
+    public Optional<TokenToRevoke> getTokenToRevoke(final ApplicationClientDetails applicationClientDetails,
+                                                    final String token) {
+        AssertUtil.notNull(applicationClientDetails, "applicationClientDetails must be not null");
+        final Map<String, Object> payload;
+        try {
+            payload = tokenService.getPayloadOfToken(
+                    applicationClientDetails,
+                    token
+            );
+        } catch (TokenExpiredException e) {
+            return Optional.empty();
+        }
+        final TokenKey identifierKey = tokenService.isPayloadRelatedWithAccessToken(payload)
+                ? JWT_ID
+                : REFRESH_JWT_ID;
+
+        return Optional.of(
+                new TokenToRevoke(
+                        identifierKey,
+                        this.getIdentifier(
+                                payload,
+                                identifierKey
+                        ),
+                        this.getExpiration(
+                                payload
+                        )
+                )
+        );
+    }
+
+
+    /**
+     * Revokes the given {@code tokenToRevoke}, so it will be rejected until it expires.
+     *
+     * @param applicationClientId
+     *    {@link ApplicationClientDetails#getId()} related with {@code tokenToRevoke}
+     * @param tokenToRevoke
+     *    {@link TokenToRevoke} returned by {@link AuthorizationService#getTokenToRevoke(ApplicationClientDetails, String)}
+     *
+     * @return {@code true} if {@code tokenToRevoke} was revoked now or before,
+     *         {@code false} otherwise
+     */
+    public boolean revoke(final String applicationClientId,
+                          final TokenToRevoke tokenToRevoke) {
+        return revokedTokenService.save(
+                        applicationClientId,
+                        tokenToRevoke.identifierKey(),
+                        tokenToRevoke.identifier(),
+                        tokenToRevoke.expiration()
+                ) ||
+                revokedTokenService.contains(
+                        applicationClientId,
+                        tokenToRevoke.identifierKey(),
+                        tokenToRevoke.identifier(),
+                        tokenToRevoke.expiration()
+                );
+    }
+
+
+    /**
+     *    Returns the public keys used to verify the access tokens of the given {@code applicationClientId} (belonging to
+     * a {@link ApplicationClientDetails}), with the JWK Set format (RFC 7517). They allow to its microservices to verify
+     * the access tokens locally, without invoking {@link AuthorizationService#checkAccessToken(String, String)}.
+     * <p>
+     *    Only the {@link ApplicationClientDetails} whose {@link ApplicationClientDetails#getTokenType()} is
+     * {@link TokenType#JWS} and signed using an asymmetric algorithm publish their public key, otherwise the tokens can
+     * only be verified by this microservice so the returned set contains no key.
+     *
+     * @param applicationClientId
+     *    {@link ApplicationClientDetails#getId()} to get its public keys
+     *
+     * @return {@link Map} with the JWK Set of {@code applicationClientId}
+     *
+     * @throws ApplicationClientNotFoundException if the given {@code applicationClientId} does not exist in database
+     * @throws TokenException if there was a problem extracting the public key
+     */
+    public Map<String, Object> getVerificationKeys(final String applicationClientId) {
+        return this.getVerificationKeys(
+                applicationClientDetailsService.findById(
+                        applicationClientId
+                )
+        );
+    }
+
+
+    /**
+     *    Non-blocking version of {@link AuthorizationService#getVerificationKeys(String)}. The search in database is
+     * executed in {@link AuthorizationService#blockingIoScheduler}, and the extraction of the public keys in
+     * {@link AuthorizationService#cryptoScheduler}.
+     *
+     * @param applicationClientId
+     *    {@link ApplicationClientDetails#getId()} to get its public keys
+     *
+     * @return {@link Mono} with the JWK Set of {@code applicationClientId},
+     *         {@link Mono#error(Throwable)} with the same {@link Exception}s thrown by
+     *         {@link AuthorizationService#getVerificationKeys(String)}
+     */
+    public Mono<Map<String, Object>> getVerificationKeysReactive(final String applicationClientId) {
+        return Mono.fromCallable(() ->
+                        applicationClientDetailsService.findById(
+                                applicationClientId
+                        )
+                )
+                .subscribeOn(blockingIoScheduler)
+                .publishOn(cryptoScheduler)
+                .map(this::getVerificationKeys);
+    }
+
+
+    /**
+     * Returns the public keys used to verify the access tokens of the given {@link ApplicationClientDetails}.
+     *
+     * @param applicationClientDetails
+     *    {@link ApplicationClientDetails} to get its public keys
+     *
+     * @return {@link Map} with the JWK Set of {@code applicationClientDetails}
+     *
+     * @throws TokenException if there was a problem extracting the public key
+     */
+    private Map<String, Object> getVerificationKeys(final ApplicationClientDetails applicationClientDetails) {
+        List<JWK> keys = TokenType.JWS == applicationClientDetails.getTokenType()
+                ? applicationClientCryptoContextService.get(applicationClientDetails)
+                        .getSignaturePublicJwk()
+                        .map(List::of)
+                        .orElseGet(List::of)
+                : List.of();
+
+        return new JWKSet(keys)
+                .toJSONObject(true);
+    }
+
+
+    /**
+     *    Verifies the given {@code refreshToken}, based on the provided {@link ApplicationClientDetails}. If provided
+     * token is valid then returns and instance of {@link AuthorizationInformationDto} with its content.
+     *
+     * @param applicationClientDetails
+     *    {@link ApplicationClientDetails} with the details about how to get the specific authorization data to include
+     * @param refreshToken
+     *    {@link String} with the refresh token to use
+     * @param revoke
+     *    {@code true} if {@code refreshToken} must be revoked once verified, {@code false} otherwise
+     *
+     * @return {@link AuthorizationInformationDto} with the data of {@code refreshToken} based on {@link ApplicationClientDetails}
+     */
+    private AuthorizationInformationDto checkRefreshToken(final ApplicationClientDetails applicationClientDetails,
+                                                          final String refreshToken,
+                                                          final boolean revoke) {
+        AssertUtil.notNull(applicationClientDetails, "applicationClientDetails must be not null");
+        return this.checkVerifiedRefreshToken(
                 applicationClientDetails.getId(),
+                this.verifyRefreshToken(
+                        applicationClientDetails,
+                        refreshToken
+                ),
+                revoke
+        );
+    }
+
+
+    /**
+     *    Checks the given {@code verifiedAccessToken} was not revoked and its user was not blacklisted.
+     *
+     * @param applicationClientId
+     *    {@link ApplicationClientDetails#getId()} related with {@code verifiedAccessToken}
+     * @param verifiedAccessToken
+     *    {@link VerifiedAccessToken} to check
+     *
+     * @return {@link AuthorizationInformationDto} with the data of {@code verifiedAccessToken}
+     */
+    private AuthorizationInformationDto checkVerifiedAccessToken(final String applicationClientId,
+                                                                 final VerifiedAccessToken verifiedAccessToken) {
+        this.revokedTokenService.notRevokedOrThrow(
+                applicationClientId,
+                JWT_ID,
+                verifiedAccessToken.identifier(),
+                verifiedAccessToken.expiration()
+        );
+        AuthorizationInformationDto result = verifiedAccessToken.authorizationInformation();
+        this.applicationUserBlackListService.notBlackListedOrThrow(
+                applicationClientId,
+                result.getUsername()
+        );
+        log.info(
+                format("Regarding to the ApplicationClientDetails: %s, the authorize information of the username: %s "
+                     + "was validated using access token",
+                        applicationClientId,
+                        result.getUsername()
+                )
+        );
+        return result;
+    }
+
+
+    /**
+     *    Checks the given {@code verifiedRefreshToken} was not revoked and its user was not blacklisted.
+     *
+     * @param applicationClientId
+     *    {@link ApplicationClientDetails#getId()} related with {@code verifiedRefreshToken}
+     * @param verifiedRefreshToken
+     *    {@link VerifiedRefreshToken} to check
+     * @param revoke
+     *    {@code true} if {@code verifiedRefreshToken} must be revoked once checked, {@code false} otherwise
+     *
+     * @return {@link AuthorizationInformationDto} with the data of {@code verifiedRefreshToken}
+     */
+    private AuthorizationInformationDto checkVerifiedRefreshToken(final String applicationClientId,
+                                                                  final VerifiedRefreshToken verifiedRefreshToken,
+                                                                  final boolean revoke) {
+        AuthorizationInformationDto result = verifiedRefreshToken.authorizationInformation();
+        this.revokedTokenService.notRevokedOrThrow(
+                applicationClientId,
+                REFRESH_JWT_ID,
+                verifiedRefreshToken.identifier(),
+                verifiedRefreshToken.expiration()
+        );
+        this.applicationUserBlackListService.notBlackListedOrThrow(
+                applicationClientId,
                 result.getUsername()
         );
+        // Only one of the concurrent requests with the same refresh token can revoke it, the other ones are rejected
+        if (revoke &&
+                !this.revokedTokenService.save(
+                        applicationClientId,
+                        REFRESH_JWT_ID,
+                        verifiedRefreshToken.identifier(),
+                        verifiedRefreshToken.expiration()
+                )) {
+            throw new UnauthorizedException(
+                    format("The refresh token with the %s: %s of the application identifier: %s could not be revoked, so "
+                         + "it cannot be used",
+                            REFRESH_JWT_ID.getKey(),
+                            verifiedRefreshToken.identifier(),
+                            applicationClientId
+                    )
+            );
+        }
         log.info(
                 format("Regarding to the ApplicationClientDetails: %s, the authorize information of the username: %s "
                      + "was validated using refresh token",
-                        applicationClientDetails.getId(),
+                        applicationClientId,
                         result.getUsername()
                 )
         );
@@ -150,33 +635,72 @@ public class AuthorizationService {
 
 
     /**
-     *    Using provided {@code token}, returns an instance of {@link AuthorizationInformationDto} with its content,
-     * based on the provided {@link ApplicationClientDetails}.
+     *    Verifies the given {@code accessToken}, based on the provided {@link ApplicationClientDetails}, storing the result
+     * in the cache of verified access tokens to avoid repeating the process the next times.
+     *
+     * @param applicationAuthorizationService
+     *    {@link IApplicationClientAuthorizationService} to know how to get authorization data
+     * @param applicationClientDetails
+     *    {@link ApplicationClientDetails} with the details about how to get token's payload
+     * @param accessToken
+     *    {@link String} with the access token to use
+     *
+     * @return {@link VerifiedAccessToken} with the data of {@code accessToken} based on {@link ApplicationClientDetails}
+     *
+     * @throws UsernameNotFoundException if the {@code accessToken} does not contain a {@code username}
+     * @throws TokenInvalidException if the given {@code accessToken} is not a valid one
+     * @throws TokenExpiredException if provided {@code accessToken} is valid but has expired
+     * @throws TokenException if there was a problem getting the content of {@code accessToken}
+     */
+    private VerifiedAccessToken verifyAccessToken(final IApplicationClientAuthorizationService applicationAuthorizationService,
+                                                  final ApplicationClientDetails applicationClientDetails,
+                                                  final String accessToken) {
+        Map<String, Object> rawAuthorizationInformation = this.getRawAuthorizationInformation(
+                applicationClientDetails,
+                accessToken,
+                true
+        );
+        VerifiedAccessToken result = new VerifiedAccessToken(
+                this.getAuthorizationInformation(
+                        applicationClientDetails,
+                        applicationAuthorizationService,
+                        rawAuthorizationInformation
+                ),
+                this.getIdentifier(
+                        rawAuthorizationInformation,
+                        JWT_ID
+                ),
+                this.getExpiration(
+                        rawAuthorizationInformation
+                )
+        );
+        this.verifiedAccessTokenCacheService.put(
+                applicationClientDetails.getId(),
+                accessToken,
+                result
+        );
+        return result;
+    }
+
+
+    /**
+     *    Using provided {@code rawAuthorizationInformation}, returns an instance of {@link AuthorizationInformationDto}
+     * with its content, based on the provided {@link ApplicationClientDetails}.
      *
      * @param applicationClientDetails
      *    {@link ApplicationClientDetails} with the details about how to get token's payload
      * @param applicationAuthorizationService
      *    {@link IApplicationClientAuthorizationService} to know how to get authorization data
-     * @param token
-     *    {@link String} with the token of which to extract the payload
-     * @param isAccessToken
-     *    {@code true} if {@code token} is an access one, {@code false} if it is a refresh token
+     * @param rawAuthorizationInformation
+     *    {@link Map} with the payload of the verified token
      *
-     * @return {@link AuthorizationInformationDto} with the data of {@code token} based on {@link ApplicationClientDetails}
+     * @return {@link AuthorizationInformationDto} with the data of {@code rawAuthorizationInformation} based on {@link ApplicationClientDetails}
      *
-     * @throws TokenInvalidException if the given {@code token} is not a valid one
-     * @throws TokenExpiredException if provided {@code token} is valid but has expired
-     * @throws TokenException if there was a problem getting the content of {@code token}
+     * @throws UsernameNotFoundException if {@code rawAuthorizationInformation} does not contain a username value
      */
     private AuthorizationInformationDto getAuthorizationInformation(final ApplicationClientDetails applicationClientDetails,
                                                                     final IApplicationClientAuthorizationService applicationAuthorizationService,
-                                                                    final String token,
-                                                                    final boolean isAccessToken) {
-        Map<String, Object> rawAuthorizationInformation = this.getRawAuthorizationInformation(
-                applicationClientDetails,
-                token,
-                isAccessToken
-        );
+                                                                    final Map<String, Object> rawAuthorizationInformation) {
         return AuthorizationInformationDto.builder()
                 .application(
                         applicationClientDetails.getId()
@@ -240,6 +764,59 @@ public class AuthorizationService {
     }
 
 
+    /**
+     * Returns the identifier included in the given {@code rawAuthorizationInformation}.
+     *
+     * @param rawAuthorizationInformation
+     *    {@link Map} containing all data related to the current authorized user
+     * @param identifierKey
+     *    {@link TokenKey} of the identifier: {@link TokenKey#JWT_ID} or {@link TokenKey#REFRESH_JWT_ID}
+     *
+     * @return {@link String} with the identifier if it exists, {@code null} otherwise
+     */
+    private String getIdentifier(final Map<String, Object> rawAuthorizationInformation,
+                                 final TokenKey identifierKey) {
+        return ofNullable(rawAuthorizationInformation)
+                .map(rai ->
+                        rai.get(
+                                identifierKey.getKey()
+                        )
+                )
+                .map(Object::toString)
+                .orElse(null);
+    }
+
+
+    /**
+     * Returns the expiration time included in the given {@code rawAuthorizationInformation}.
+     *
+     * @param rawAuthorizationInformation
+     *    {@link Map} containing all data related to the current authorized user
+     *
+     * @return {@link Instant} with the expiration time if it exists, {@code null} otherwise
+     */
+    private Instant getExpiration(final Map<String, Object> rawAuthorizationInformation) {
+        return ofNullable(rawAuthorizationInformation)
+                .map(rai ->
+                        rai.get(
+                                EXPIRATION_TIME.getKey()
+                        )
+                )
+                .map(exp -> {
+                    if (exp instanceof Date date) {
+                        return date.toInstant();
+                    }
+                    if (exp instanceof Number seconds) {
+                        return Instant.ofEpochSecond(
+                                seconds.longValue()
+                        );
+                    }
+                    return null;
+                })
+                .orElse(null);
+    }
+
+
     /**
      *    Returns the {@code username} included in the given {@code rawAuthorizationInformation}, based on how the provided
      * {@link ApplicationClientDetails} handles its authorization data.
@@ -297,7 +874,8 @@ public class AuthorizationService {
 
     /**
      *    Returns the additional information included in the given {@code rawAuthorizationInformation}, based on how
-     * the provided {@link ApplicationClientDetails} handles its authorization data.
+     * the provided {@link ApplicationClientDetails} handles its authorization data, plus its {@link TokenKey#EXPIRATION_TIME}
+     * as seconds since the epoch, so the callers know until when they can store it.
      *
      * @param authorizationService
      *    {@link IApplicationClientAuthorizationService} with the details about how to get data in {@code rawAuthorizationInformation}
@@ -308,9 +886,23 @@ public class AuthorizationService {
      */
     private Map<String, Object> getAdditionalInformation(final IApplicationClientAuthorizationService authorizationService,
                                                          final Map<String, Object> rawAuthorizationInformation) {
-        return ofNullable(rawAuthorizationInformation)
-                .map(authorizationService::getAdditionalAuthorizationInformation)
-                .orElseGet(HashMap::new);
+        Map<String, Object> additionalInformation = new HashMap<>(
+                ofNullable(rawAuthorizationInformation)
+                        .map(authorizationService::getAdditionalAuthorizationInformation)
+                        .orElseGet(HashMap::new)
+        );
+        ofNullable(
+                this.getExpiration(
+                        rawAuthorizationInformation
+                )
+        )
+        .ifPresent(expiration ->
+                additionalInformation.put(
+                        EXPIRATION_TIME.getKey(),
+                        expiration.getEpochSecond()
+                )
+        );
+        return additionalInformation;
     }
 
 
@@ -332,4 +924,36 @@ public class AuthorizationService {
         );
     }
 
+
+    /**
+     * Information of a verified refresh token, pending to check if it was revoked or its user was blacklisted.
+     *
+     * @param authorizationInformation
+     *    {@link AuthorizationInformationDto} extracted from the refresh token
+     * @param identifier
+     *    {@link String} with the identifier of the refresh token, if it contains it
+     * @param expiration
+     *    {@link Instant} when the refresh token expires
+     */
+    public record VerifiedRefreshToken(AuthorizationInformationDto authorizationInformation,
+                                       String identifier,
+                                       Instant expiration) {
+    }
+
+
+    /**
+     * Information required to revoke a verified access or refresh token.
+     *
+     * @param identifierKey
+     *    {@link TokenKey} of the identifier: {@link TokenKey#JWT_ID} or {@link TokenKey#REFRESH_JWT_ID}
+     * @param identifier
+     *    {@link String} with the identifier of the token, if it contains it
+     * @param expiration
+     *    {@link Instant} when the token expires
+     */
+    public record TokenToRevoke(TokenKey identifierKey,
+                                String identifier,
+                                Instant expiration) {
+    }
+
 }
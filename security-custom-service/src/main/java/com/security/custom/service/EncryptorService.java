@@ -19,9 +19,12 @@ import java.security.SecureRandom;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.KeySpec;
 import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.security.custom.configuration.security.EncryptionConfiguration.CIPHER_SECRET_PREFIX;
 import static com.security.custom.configuration.Constants.UTF_8;
+import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
 
 @Service
@@ -38,6 +41,36 @@ public class EncryptorService {
     private final int IV_LENGTH_BYTE = 12;
     private final int SALT_LENGTH_BYTE = 16;
 
+    /**
+     *    Version of the key derivation used by {@link EncryptorService#encrypt(String, String)}. Every supported one
+     * must be included in {@link EncryptorService#getVersionedKeySalt(int)}.
+     */
+    private final int CURRENT_KEY_VERSION = 1;
+
+    /**
+     *    Prefix included in the texts encrypted with a versioned key. {@code .} is not part of the Base64 alphabet, so
+     * it is not possible to confuse them with the legacy ones.
+     */
+    private final String VERSIONED_PREFIX = "v";
+    private final String VERSIONED_SEPARATOR = ".";
+
+    /**
+     *    Because versioned keys are derived only once, it is affordable to use a much higher number of iterations than
+     * the legacy {@link EncryptorService#ITERATION_COUNT}.
+     */
+    private final int VERSIONED_ITERATION_COUNT = 210000;
+
+    /**
+     * Shared and thread-safe source of the random IVs and salts.
+     */
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    /**
+     *    Already derived {@link SecretKey}s, using as key the version of the derivation and the {@code password}, to
+     * avoid running PBKDF2 every time a text is encrypted or decrypted.
+     */
+    private final Map<VersionedKeyId, SecretKey> versionedKeys = new ConcurrentHashMap<>();
+
     /**
      *    Default {@link TextEncryptor} based on the configured environment variable: {@code ENCRYPT_KEY}
      * (default symmetric encryption key).
@@ -95,17 +128,19 @@ public class EncryptorService {
 
 
     /**
-     *    Encrypt {@code toEncrypt} using the provided {@code password}. The output consist of iv, password's salt,
-     * encrypted content and auth tag in the following format:
+     *    Encrypt {@code toEncrypt} using the provided {@code password}. The AES key is derived from {@code password}
+     * only once per key version, so the uniqueness of every output only depends on its random IV. The output consist
+     * of the key version, iv, encrypted content and auth tag in the following format:
      *
      * <pre>
-     *   output = byte[] {i i i s s s c c c c c c ...}
+     *   output = v{key version}.{base64 of byte[] {i i i c c c c c c ...}}
      *
      *    i = IV bytes
-     *    s = Salt bytes
      *    c = content bytes (encrypted content)
      * </pre>
      *
+     * The prefix {@code v{key version}.} is also authenticated as additional data of AES-GCM.
+     *
      * @param toEncrypt
      *    {@link String} to encrypt.
      * @param password
@@ -121,49 +156,45 @@ public class EncryptorService {
         AssertUtil.notNull(toEncrypt, "toEncrypt must be not null");
         AssertUtil.notNull(password, "password must be not null");
 
-        // 16 bytes salt
-        byte[] salt = getRandomNonce(SALT_LENGTH_BYTE);
+        String versionedPrefix = VERSIONED_PREFIX + CURRENT_KEY_VERSION + VERSIONED_SEPARATOR;
 
         // Recommended 12 bytes iv
         byte[] iv = getRandomNonce(IV_LENGTH_BYTE);
 
-        // Secret key from password
-        SecretKey aesKeyFromPassword = getSecretKey(
-                SYMMETRIC_ENCRYPTION_ALGORITHM,
-                SECRET_KEY_ALGORITHM,
-                password.toCharArray(),
-                salt,
-                ITERATION_COUNT,
-                KEY_LENGTH
-        );
         Cipher cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM);
 
         // ASE-GCM needs GCMParameterSpec
         cipher.init(
                 Cipher.ENCRYPT_MODE,
-                aesKeyFromPassword,
+                getVersionedKey(
+                        CURRENT_KEY_VERSION,
+                        password
+                ),
                 new GCMParameterSpec(TAG_LENGTH_BIT, iv)
         );
+        cipher.updateAAD(
+                versionedPrefix.getBytes(UTF_8)
+        );
         byte[] cipherText = cipher.doFinal(
                 toEncrypt.getBytes(UTF_8)
         );
 
-        // Prefix IV and Salt to cipher text
-        byte[] cipherTextWithIvSalt = ByteBuffer.allocate(iv.length + salt.length + cipherText.length)
+        // Prefix IV to cipher text
+        byte[] cipherTextWithIv = ByteBuffer.allocate(iv.length + cipherText.length)
                 .put(iv)
-                .put(salt)
                 .put(cipherText)
                 .array();
 
-        // String representation, base64, send this string to other for decryption
-        return Base64.getEncoder()
-                .encodeToString(cipherTextWithIvSalt);
+        return versionedPrefix +
+                Base64.getEncoder()
+                        .encodeToString(cipherTextWithIv);
     }
 
 
     /**
      *    Decrypt {@code toDecrypt} using the provided {@code password}. The given {@code toDecrypt} should have been
-     * encrypted using the {@code encrypt} function, due to have to follow the output format.
+     * encrypted using the {@code encrypt} function, due to have to follow the output format. Texts encrypted with
+     * the legacy format, that is, without key version and with a random salt, are still supported.
      *
      * @param toDecrypt
      *    {@link String} to decrypt.
@@ -180,6 +211,103 @@ public class EncryptorService {
         AssertUtil.notNull(toDecrypt, "toDecrypt must be not null");
         AssertUtil.notNull(password, "password must be not null");
 
+        int separatorIndex = toDecrypt.indexOf(VERSIONED_SEPARATOR);
+        if (toDecrypt.startsWith(VERSIONED_PREFIX) && 0 < separatorIndex) {
+            return versionedDecrypt(
+                    toDecrypt,
+                    password,
+                    separatorIndex
+            );
+        }
+        return legacyDecrypt(
+                toDecrypt,
+                password
+        );
+    }
+
+
+    /**
+     * Decrypts {@code toDecrypt} generated by the current {@link EncryptorService#encrypt(String, String)}.
+     *
+     * @param toDecrypt
+     *    {@link String} to decrypt.
+     * @param password
+     *    {@link String} password used to decrypt {@code toDecrypt}.
+     * @param separatorIndex
+     *    Position of {@link EncryptorService#VERSIONED_SEPARATOR} in {@code toDecrypt}
+     *
+     * @return decrypted {@code toDecrypt}
+     *
+     * @throws GeneralSecurityException if there was a problem decrypting the given {@code toDecrypt}
+     */
+    private String versionedDecrypt(final String toDecrypt,
+                                    final String password,
+                                    final int separatorIndex) throws Exception {
+        String versionedPrefix = toDecrypt.substring(0, separatorIndex + 1);
+        int keyVersion = getKeyVersion(
+                toDecrypt.substring(VERSIONED_PREFIX.length(), separatorIndex)
+        );
+        byte[] decode = Base64.getDecoder()
+                .decode(
+                        toDecrypt.substring(separatorIndex + 1)
+                                .getBytes(UTF_8)
+                );
+
+        // Get back the iv from the cipher text
+        ByteBuffer bb = ByteBuffer.wrap(decode);
+
+        byte[] iv = new byte[IV_LENGTH_BYTE];
+        bb.get(iv);
+
+        byte[] cipherText = new byte[bb.remaining()];
+        bb.get(cipherText);
+
+        Cipher cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM);
+        cipher.init(
+                Cipher.DECRYPT_MODE,
+                getVersionedKey(
+                        keyVersion,
+                        password
+                ),
+                new GCMParameterSpec(
+                        TAG_LENGTH_BIT,
+                        iv
+                )
+        );
+        cipher.updateAAD(
+                versionedPrefix.getBytes(UTF_8)
+        );
+        byte[] plainText = cipher.doFinal(cipherText);
+        return new String(
+                plainText,
+                UTF_8
+        );
+    }
+
+
+    /**
+     *    Decrypts {@code toDecrypt} generated by the legacy version of {@link EncryptorService#encrypt(String, String)},
+     * that includes a random salt, so the AES key must be derived every time. The expected format is:
+     *
+     * <pre>
+     *   input = byte[] {i i i s s s c c c c c c ...}
+     *
+     *    i = IV bytes
+     *    s = Salt bytes
+     *    c = content bytes (encrypted content)
+     * </pre>
+     *
+     * @param toDecrypt
+     *    {@link String} to decrypt.
+     * @param password
+     *    {@link String} password used to decrypt {@code toDecrypt}.
+     *
+     * @return decrypted {@code toDecrypt}
+     *
+     * @throws GeneralSecurityException if there was a problem decrypting the given {@code toDecrypt}
+     */
+    private String legacyDecrypt(final String toDecrypt,
+                                 final String password) throws Exception {
         byte[] decode = Base64.getDecoder()
                 .decode(
                         toDecrypt.getBytes(UTF_8)
@@ -223,6 +351,83 @@ public class EncryptorService {
     }
 
 
+    /**
+     *    Returns the {@link SecretKey} derived from the given {@code password} and {@code keyVersion}, deriving it only
+     * the first time it is requested.
+     *
+     * @param keyVersion
+     *    Version of the key derivation
+     * @param password
+     *    The password
+     *
+     * @return {@link SecretKey}
+     *
+     * @throws GeneralSecurityException if {@code keyVersion} is not supported or there was an error deriving the key
+     */
+    private SecretKey getVersionedKey(final int keyVersion,
+                                      final String password) throws Exception {
+        VersionedKeyId versionedKeyId = new VersionedKeyId(
+                keyVersion,
+                password
+        );
+        SecretKey versionedKey = versionedKeys.get(versionedKeyId);
+        if (null == versionedKey) {
+            versionedKey = getSecretKey(
+                    SYMMETRIC_ENCRYPTION_ALGORITHM,
+                    SECRET_KEY_ALGORITHM,
+                    password.toCharArray(),
+                    getVersionedKeySalt(keyVersion),
+                    VERSIONED_ITERATION_COUNT,
+                    KEY_LENGTH
+            );
+            SecretKey previousKey = versionedKeys.putIfAbsent(
+                    versionedKeyId,
+                    versionedKey
+            );
+            if (null != previousKey) {
+                versionedKey = previousKey;
+            }
+        }
+        return versionedKey;
+    }
+
+
+    /**
+     * Returns the fixed salt used to derive the keys of the given {@code keyVersion}.
+     *
+     * @param keyVersion
+     *    Version of the key derivation
+     *
+     * @return salt bytes
+     *
+     * @throws GeneralSecurityException if {@code keyVersion} is not supported
+     */
+    private byte[] getVersionedKeySalt(final int keyVersion) throws GeneralSecurityException {
+        if (1 == keyVersion) {
+            return "security-custom-service#EncryptorService#v1".getBytes(UTF_8);
+        }
+        throw new GeneralSecurityException(
+                format("The key version: %d is not supported",
+                        keyVersion
+                )
+        );
+    }
+
+
+    private int getKeyVersion(final String keyVersion) throws GeneralSecurityException {
+        try {
+            return Integer.parseInt(keyVersion);
+        } catch (NumberFormatException e) {
+            throw new GeneralSecurityException(
+                    format("The key version: %s is not valid",
+                            keyVersion
+                    ),
+                    e
+            );
+        }
+    }
+
+
     /**
      * Generates a {@link SecretKey} instance.
      *
@@ -268,8 +473,15 @@ public class EncryptorService {
 
     private byte[] getRandomNonce(final int numBytes) {
         byte[] nonce = new byte[numBytes];
-        new SecureRandom().nextBytes(nonce);
+        SECURE_RANDOM.nextBytes(nonce);
         return nonce;
     }
 
+
+    /**
+     * Identifier of every derived {@link SecretKey} stored in {@link EncryptorService#versionedKeys}.
+     */
+    private record VersionedKeyId(int keyVersion,
+                                  String password) {}
+
 }
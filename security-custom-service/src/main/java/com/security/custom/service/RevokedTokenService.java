@@ -0,0 +1,156 @@
+package com.security.custom.service;
+
+import com.security.custom.enums.token.TokenKey;
+import com.security.custom.model.ApplicationClientDetails;
+import com.security.custom.service.cache.RevokedTokenCacheService;
+import com.spring6microservices.common.spring.exception.UnauthorizedException;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+
+import static java.lang.String.format;
+
+@Log4j2
+@Service
+public class RevokedTokenService {
+
+    private final RevokedTokenCacheService cacheService;
+
+
+    @Autowired
+    public RevokedTokenService(final RevokedTokenCacheService cacheService) {
+        this.cacheService = cacheService;
+    }
+
+
+    /**
+     * Checks if the given token was revoked.
+     *
+     * @param applicationClientDetailsId
+     *    {@link ApplicationClientDetails#getId()}
+     * @param tokenKey
+     *    {@link TokenKey} of {@code tokenIdentifier}: {@link TokenKey#JWT_ID} or {@link TokenKey#REFRESH_JWT_ID}
+     * @param tokenIdentifier
+     *    {@link String} with the identifier of the token
+     * @param tokenExpiration
+     *    {@link Instant} when the token expires
+     *
+     * @return {@code true} if the token was revoked, {@code false} otherwise
+     */
+    public boolean contains(final String applicationClientDetailsId,
+                            final TokenKey tokenKey,
+                            final String tokenIdentifier,
+                            final Instant tokenExpiration) {
+        if (!areParametersValid(applicationClientDetailsId, tokenKey, tokenIdentifier, tokenExpiration)) {
+            return false;
+        }
+        return cacheService.contains(
+                applicationClientDetailsId,
+                tokenKey,
+                tokenIdentifier,
+                tokenExpiration
+        );
+    }
+
+
+    /**
+     * Checks if the given token was not revoked, otherwise throws a {@link UnauthorizedException}.
+     *
+     * @param applicationClientDetailsId
+     *    {@link ApplicationClientDetails#getId()}
+     * @param tokenKey
+     *    {@link TokenKey} of {@code tokenIdentifier}: {@link TokenKey#JWT_ID} or {@link TokenKey#REFRESH_JWT_ID}
+     * @param tokenIdentifier
+     *    {@link String} with the identifier of the token
+     * @param tokenExpiration
+     *    {@link Instant} when the token expires
+     *
+     * @throws UnauthorizedException if the token was revoked
+     */
+    public void notRevokedOrThrow(final String applicationClientDetailsId,
+                                  final TokenKey tokenKey,
+                                  final String tokenIdentifier,
+                                  final Instant tokenExpiration) {
+        if (contains(applicationClientDetailsId, tokenKey, tokenIdentifier, tokenExpiration)) {
+            throw new UnauthorizedException(
+                    format("The token with the %s: %s of the application identifier: %s was revoked",
+                            tokenKey.getKey(),
+                            tokenIdentifier,
+                            applicationClientDetailsId
+                    )
+            );
+        }
+    }
+
+
+    /**
+     * Revokes the given token until it expires.
+     *
+     * @param applicationClientDetailsId
+     *    {@link ApplicationClientDetails#getId()}
+     * @param tokenKey
+     *    {@link TokenKey} of {@code tokenIdentifier}: {@link TokenKey#JWT_ID} or {@link TokenKey#REFRESH_JWT_ID}
+     * @param tokenIdentifier
+     *    {@link String} with the identifier of the token
+     * @param tokenExpiration
+     *    {@link Instant} when the token expires
+     *
+     * @return {@code true} if the token was revoked, {@code false} otherwise
+     */
+    public boolean save(final String applicationClientDetailsId,
+                        final TokenKey tokenKey,
+                        final String tokenIdentifier,
+                        final Instant tokenExpiration) {
+        log.info(
+                format("Revoking the token with the %s: %s of the application identifier: %s",
+                        null != tokenKey ? tokenKey.getKey() : "null",
+                        tokenIdentifier,
+                        applicationClientDetailsId
+                )
+        );
+        if (!areParametersValid(applicationClientDetailsId, tokenKey, tokenIdentifier, tokenExpiration)) {
+            return false;
+        }
+        final boolean result = cacheService.put(
+                applicationClientDetailsId,
+                tokenKey,
+                tokenIdentifier,
+                tokenExpiration
+        );
+        log.info(
+                format("Revoking the token, the result was: %s",
+                        result
+                )
+        );
+        return result;
+    }
+
+
+    /**
+     * Checks if the given parameters contain valid values.
+     *
+     * @param applicationClientDetailsId
+     *    {@link ApplicationClientDetails#getId()}
+     * @param tokenKey
+     *    {@link TokenKey} of {@code tokenIdentifier}
+     * @param tokenIdentifier
+     *    {@link String} with the identifier of the token
+     * @param tokenExpiration
+     *    {@link Instant} when the token expires
+     *
+     * @return {@code true} if the given parameters verify the expected checks,
+     *         {@code false} otherwise
+     */
+    private boolean areParametersValid(final String applicationClientDetailsId,
+                                       final TokenKey tokenKey,
+                                       final String tokenIdentifier,
+                                       final Instant tokenExpiration) {
+        return null != applicationClientDetailsId &&
+                null != tokenKey &&
+                null != tokenIdentifier &&
+                null != tokenExpiration;
+    }
+
+}
@@ -0,0 +1,219 @@
+package com.security.custom.service.cache;
+
+import com.security.custom.configuration.cache.ApplicationClientCredentialsCacheConfiguration;
+import com.security.custom.model.ApplicationClientDetails;
+import com.spring6microservices.common.spring.cache.ExpiringLruMap;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+
+import static com.security.custom.configuration.Constants.UTF_8;
+
+/**
+ *    Local and bounded cache of every node with the already verified credentials of the {@link ApplicationClientDetails},
+ * avoiding to run the expensive {@code PasswordEncoder} verification every time an application client is authenticated.
+ * <p>
+ *    The presented passwords are never stored, only their HMAC calculated with a random key generated in every node at
+ * startup. Every entry is related with the stored (encoded) password it was verified against, so a change of the
+ * password in database never matches with the old entries.
+ */
+@Service
+public class ApplicationClientCredentialsCacheService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int HMAC_KEY_LENGTH_BYTE = 32;
+
+    private static final String METRIC_NAME = "cache.application.client.credentials";
+    private static final String METRIC_CACHE_TAG = "cache";
+    private static final String METRIC_RESULT_TAG = "result";
+
+    private final ApplicationClientCredentialsCacheConfiguration cacheConfiguration;
+
+    private final Clock clock;
+
+    // Stored (encoded) password - HMAC of the raw password verified against it
+    private final ExpiringLruMap<String, byte[]> cache;
+
+    private final SecretKeySpec hmacKey;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+
+    @Autowired
+    public ApplicationClientCredentialsCacheService(final ApplicationClientCredentialsCacheConfiguration cacheConfiguration,
+                                                    final MeterRegistry meterRegistry) {
+        this(
+                cacheConfiguration,
+                meterRegistry,
+                Clock.systemUTC()
+        );
+    }
+
+
+    ApplicationClientCredentialsCacheService(final ApplicationClientCredentialsCacheConfiguration cacheConfiguration,
+                                             final MeterRegistry meterRegistry,
+                                             final Clock clock) {
+        this.cacheConfiguration = cacheConfiguration;
+        this.clock = clock;
+        this.cache = new ExpiringLruMap<>(
+                cacheConfiguration.getCacheEntryCapacity(),
+                clock
+        );
+        this.hitCounter = Counter.builder(METRIC_NAME + ".gets")
+                .tag(METRIC_CACHE_TAG, cacheConfiguration.getCacheName())
+                .tag(METRIC_RESULT_TAG, "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME + ".gets")
+                .tag(METRIC_CACHE_TAG, cacheConfiguration.getCacheName())
+                .tag(METRIC_RESULT_TAG, "miss")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", cache, ExpiringLruMap::size)
+                .tag(METRIC_CACHE_TAG, cacheConfiguration.getCacheName())
+                .register(meterRegistry);
+
+        byte[] key = new byte[HMAC_KEY_LENGTH_BYTE];
+        new SecureRandom().nextBytes(key);
+        this.hmacKey = new SecretKeySpec(
+                key,
+                HMAC_ALGORITHM
+        );
+    }
+
+
+    /**
+     * Removes all the stored verified credentials.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+
+    /**
+     *    Checks if the given {@code rawPassword} was already verified against {@code encodedPassword} and the related
+     * entry has not expired.
+     *
+     * @param rawPassword
+     *    Presented password
+     * @param encodedPassword
+     *    Stored password, that is, {@link ApplicationClientDetails#getPassword()}
+     *
+     * @return {@code true} if {@code rawPassword} was already verified against {@code encodedPassword},
+     *         {@code false} otherwise
+     */
+    public boolean contains(final CharSequence rawPassword,
+                            final String encodedPassword) {
+        if (!isEnabled() || null == rawPassword || null == encodedPassword) {
+            return false;
+        }
+        final byte[] rawPasswordHmac = cache.get(encodedPassword);
+        if (null == rawPasswordHmac) {
+            missCounter.increment();
+            return false;
+        }
+        final boolean result = MessageDigest.isEqual(
+                rawPasswordHmac,
+                getHmac(rawPassword)
+        );
+        if (result) {
+            hitCounter.increment();
+        }
+        else {
+            missCounter.increment();
+        }
+        return result;
+    }
+
+
+    /**
+     * Returns the name of the internal cache managed by this service.
+     *
+     * @return {@link String} with the internal cache name
+     */
+    public String getCacheName() {
+        return cacheConfiguration.getCacheName();
+    }
+
+
+    /**
+     *    Stores that {@code rawPassword} was successfully verified against {@code encodedPassword}, during
+     * {@link ApplicationClientCredentialsCacheConfiguration#getCacheExpireInSeconds()}. If the cache is full, the least
+     * recently used entry is removed.
+     *
+     * @param rawPassword
+     *    Presented password
+     * @param encodedPassword
+     *    Stored password, that is, {@link ApplicationClientDetails#getPassword()}
+     *
+     * @return {@code true} if the given credentials were stored,
+     *         {@code false} otherwise
+     */
+    public boolean put(final CharSequence rawPassword,
+                       final String encodedPassword) {
+        if (!isEnabled() || null == rawPassword || null == encodedPassword) {
+            return false;
+        }
+        return cache.put(
+                encodedPassword,
+                getHmac(rawPassword),
+                clock.instant()
+                        .plusSeconds(
+                                cacheConfiguration.getCacheExpireInSeconds()
+                        )
+        );
+    }
+
+
+    /**
+     * Removes the verified credentials related with the given {@code encodedPassword}.
+     *
+     * @param encodedPassword
+     *    Stored password, that is, {@link ApplicationClientDetails#getPassword()}
+     */
+    public void remove(final String encodedPassword) {
+        cache.remove(encodedPassword);
+    }
+
+
+    private boolean isEnabled() {
+        return 0 < cacheConfiguration.getCacheEntryCapacity() &&
+                0 < cacheConfiguration.getCacheExpireInSeconds();
+    }
+
+
+    /**
+     * Returns the HMAC of the given {@code rawPassword} using {@link ApplicationClientCredentialsCacheService#hmacKey}.
+     *
+     * @param rawPassword
+     *    Presented password
+     *
+     * @return HMAC of {@code rawPassword}
+     */
+    private byte[] getHmac(final CharSequence rawPassword) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(hmacKey);
+            return mac.doFinal(
+                    rawPassword.toString()
+                            .getBytes(UTF_8)
+            );
+
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(
+                    HMAC_ALGORITHM + " is not available",
+                    e
+            );
+        }
+    }
+
+}
@@ -87,15 +87,18 @@ public class ApplicationClientDetailsCacheService {
      * @param applicationClientDetails
      *    {@link ApplicationClientDetails} to store
      *
-     * @return {@code true} if the data was stored, {@code false} otherwise
+     * @return {@code true} if the data was stored,
+     *         {@code false} otherwise (like when {@code applicationClientDetails} is {@code null}, because
+     *         {@link CacheService} never stores them)
      */
     public boolean put(final String id,
                        final ApplicationClientDetails applicationClientDetails) {
-        return cacheService.put(
-                cacheConfiguration.getCacheName(),
-                id,
-                applicationClientDetails
-        );
+        return null != applicationClientDetails &&
+                cacheService.put(
+                        cacheConfiguration.getCacheName(),
+                        id,
+                        applicationClientDetails
+                );
     }
 
 }
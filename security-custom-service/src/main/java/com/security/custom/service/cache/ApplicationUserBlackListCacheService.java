@@ -16,12 +16,16 @@ public class ApplicationUserBlackListCacheService {
 
     private final CacheService cacheService;
 
+    private final ApplicationUserBlackListFilterService filterService;
+
 
     @Autowired
     public ApplicationUserBlackListCacheService(final ApplicationUserBlackListCacheConfiguration cacheConfiguration,
-                                                final CacheService cacheService) {
+                                                final CacheService cacheService,
+                                                final ApplicationUserBlackListFilterService filterService) {
         this.cacheConfiguration = cacheConfiguration;
         this.cacheService = cacheService;
+        this.filterService = filterService;
     }
 
 
@@ -39,7 +43,8 @@ public class ApplicationUserBlackListCacheService {
 
 
     /**
-     * Checks if exists the given pair {@code applicationClientDetailsId} and {@code username} inside the related cache.
+     *    Checks if exists the given pair {@code applicationClientDetailsId} and {@code username} inside the related cache.
+     * Only the pairs that could be stored according to {@link ApplicationUserBlackListFilterService} are searched in it.
      *
      * @param applicationClientDetailsId
      *    {@link ApplicationClientDetails#getId()}
@@ -56,6 +61,7 @@ public class ApplicationUserBlackListCacheService {
                 username
         );
         return null != key &&
+                filterService.mightContain(key) &&
                 cacheService.contains(
                         cacheConfiguration.getCacheName(),
                         key
@@ -91,12 +97,19 @@ public class ApplicationUserBlackListCacheService {
                 applicationClientDetailsId,
                 username
         );
-        return null != key &&
-                cacheService.put(
-                        cacheConfiguration.getCacheName(),
-                        key,
-                        DEFAULT_BOOLEAN_VALUE
-                );
+        if (null == key) {
+            return false;
+        }
+        // Included before storing it, so the current filter does not ignore it, and again after doing it, because a
+        // rebuild of the filter that read the keys of the cache meanwhile does not contain it
+        filterService.add(key);
+        final boolean result = cacheService.put(
+                cacheConfiguration.getCacheName(),
+                key,
+                DEFAULT_BOOLEAN_VALUE
+        );
+        filterService.add(key);
+        return result;
     }
 
 
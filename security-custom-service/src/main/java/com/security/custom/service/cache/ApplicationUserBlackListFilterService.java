@@ -0,0 +1,270 @@
+package com.security.custom.service.cache;
+
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapEvent;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryEvictedListener;
+import com.hazelcast.map.listener.EntryExpiredListener;
+import com.hazelcast.map.listener.EntryRemovedListener;
+import com.hazelcast.map.listener.MapClearedListener;
+import com.hazelcast.map.listener.MapEvictedListener;
+import com.security.custom.configuration.cache.ApplicationUserBlackListCacheConfiguration;
+import com.security.custom.util.BloomFilter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.security.custom.configuration.scheduler.SchedulerConfiguration.BLOCKING_IO_SCHEDULER;
+import static java.lang.String.format;
+
+/**
+ *    Local {@link BloomFilter} of every node with the keys stored in the cache of {@link ApplicationUserBlackListCacheService},
+ * so most of the checks of not blacklisted pairs do not need to query the cluster.
+ * <p>
+ *    The filter is built with the keys of the cache when the application is ready, and kept up to date listening its
+ * Hazelcast events: the added keys are included in the filter and, because a {@link BloomFilter} cannot remove values,
+ * the removed, evicted or expired ones trigger a rebuild in background.
+ * <p>
+ *    Until the filter is ready, or if it is disabled, every key is considered a possible one and checked in the cache.
+ * A key is included in the filter before and after storing it in the cache, so this node does not ignore it once
+ * stored, even if a rebuild was reading the keys of the cache at the same time.
+ */
+@Log4j2
+@Service
+public class ApplicationUserBlackListFilterService {
+
+    private final ApplicationUserBlackListCacheConfiguration cacheConfiguration;
+
+    private final HazelcastInstance hazelcastInstance;
+
+    private final Scheduler blockingIoScheduler;
+
+    private final AtomicBoolean rebuildPending;
+
+    private volatile BloomFilter filter;
+
+    private volatile BloomFilter filterInConstruction;
+
+    private IMap<Object, Object> cache;
+
+    private UUID listenerId;
+
+
+    @Autowired
+    public ApplicationUserBlackListFilterService(final ApplicationUserBlackListCacheConfiguration cacheConfiguration,
+                                                 final HazelcastInstance hazelcastInstance,
+                                                 @Qualifier(BLOCKING_IO_SCHEDULER) final Scheduler blockingIoScheduler) {
+        this.cacheConfiguration = cacheConfiguration;
+        this.hazelcastInstance = hazelcastInstance;
+        this.blockingIoScheduler = blockingIoScheduler;
+        this.rebuildPending = new AtomicBoolean(false);
+    }
+
+
+    /**
+     *    Starts listening the events of the Hazelcast cache and builds the filter with its current keys. If the filter
+     * is disabled, nothing is done.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void init() {
+        if (0 >= cacheConfiguration.getFilterExpectedEntries()) {
+            log.info("The local filter of the blacklist is disabled");
+            return;
+        }
+        cache = hazelcastInstance.getMap(
+                cacheConfiguration.getCacheName()
+        );
+        listenerId = cache.addEntryListener(
+                new CacheListener(),
+                false
+        );
+        rebuild();
+    }
+
+
+    /**
+     * Stops listening the events of the Hazelcast cache.
+     */
+    @PreDestroy
+    public synchronized void destroy() {
+        if (null != listenerId) {
+            cache.removeEntryListener(listenerId);
+            listenerId = null;
+        }
+        filter = null;
+    }
+
+
+    /**
+     * Includes the given {@code key} in the filter.
+     *
+     * @param key
+     *    Key stored in the cache
+     */
+    public void add(final String key) {
+        BloomFilter nextFilter;
+        BloomFilter currentFilter;
+        // The order matters: a rebuild replaces filter before cleaning filterInConstruction. If any of them changed
+        // meanwhile, the key is added again, so it is not lost by a rebuild that read the keys before it was stored
+        do {
+            nextFilter = filterInConstruction;
+            if (null != nextFilter) {
+                nextFilter.add(key);
+            }
+            currentFilter = filter;
+            if (null != currentFilter) {
+                currentFilter.add(key);
+            }
+        } while (nextFilter != filterInConstruction ||
+                currentFilter != filter);
+    }
+
+
+    /**
+     * Checks if the given {@code key} could be stored in the cache.
+     *
+     * @param key
+     *    Key to verify
+     *
+     * @return {@code false} if {@code key} is not stored in the cache,
+     *         {@code true} if it could be, or if the filter is not ready or disabled
+     */
+    public boolean mightContain(final String key) {
+        final BloomFilter currentFilter = filter;
+        return null == currentFilter ||
+                currentFilter.mightContain(key);
+    }
+
+
+    /**
+     * Builds a new filter with the current keys of the cache, replacing the existing one.
+     */
+    synchronized void rebuild() {
+        rebuildPending.set(false);
+        if (null == listenerId) {
+            return;
+        }
+        final BloomFilter newFilter = BloomFilter.of(
+                cacheConfiguration.getFilterExpectedEntries(),
+                cacheConfiguration.getFilterFalsePositiveProbability()
+        );
+        // The keys added while the current ones are being read are included by the listener
+        filterInConstruction = newFilter;
+        try {
+            final Collection<Object> keys = cache.keySet();
+            keys.forEach(k ->
+                    newFilter.add(
+                            String.valueOf(k)
+                    )
+            );
+            filter = newFilter;
+            log.debug(
+                    format("The local filter of the blacklist was rebuilt with: %d keys",
+                            keys.size()
+                    )
+            );
+            if (keys.size() > cacheConfiguration.getFilterExpectedEntries()) {
+                log.warn(
+                        format("The blacklist contains: %d keys, more than the expected ones by its local filter: %d",
+                                keys.size(),
+                                cacheConfiguration.getFilterExpectedEntries()
+                        )
+                );
+            }
+        } catch (Exception e) {
+            // Without an up-to-date filter, all the keys must be checked in the cache
+            filter = null;
+            log.error(
+                    "There was an error rebuilding the local filter of the blacklist",
+                    e
+            );
+        } finally {
+            filterInConstruction = null;
+        }
+    }
+
+
+    /**
+     * Rebuilds the filter in background, if there is no other rebuild waiting to start.
+     */
+    private void scheduleRebuild() {
+        if (!rebuildPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            blockingIoScheduler.schedule(this::rebuild);
+
+        } catch (RejectedExecutionException e) {
+            // Until the next rebuild, the removed keys are only false positives
+            rebuildPending.set(false);
+            log.warn(
+                    "The rebuild of the local filter of the blacklist was rejected",
+                    e
+            );
+        }
+    }
+
+
+    /**
+     * Listener of the Hazelcast events of the cache, keeping the filter up to date.
+     */
+    private final class CacheListener implements EntryAddedListener<Object, Object>,
+                                                 EntryRemovedListener<Object, Object>,
+                                                 EntryEvictedListener<Object, Object>,
+                                                 EntryExpiredListener<Object, Object>,
+                                                 MapClearedListener,
+                                                 MapEvictedListener {
+
+        @Override
+        public void entryAdded(final EntryEvent<Object, Object> event) {
+            add(
+                    String.valueOf(
+                            event.getKey()
+                    )
+            );
+        }
+
+
+        @Override
+        public void entryRemoved(final EntryEvent<Object, Object> event) {
+            scheduleRebuild();
+        }
+
+
+        @Override
+        public void entryEvicted(final EntryEvent<Object, Object> event) {
+            scheduleRebuild();
+        }
+
+
+        @Override
+        public void entryExpired(final EntryEvent<Object, Object> event) {
+            scheduleRebuild();
+        }
+
+
+        @Override
+        public void mapCleared(final MapEvent event) {
+            scheduleRebuild();
+        }
+
+
+        @Override
+        public void mapEvicted(final MapEvent event) {
+            scheduleRebuild();
+        }
+    }
+
+}
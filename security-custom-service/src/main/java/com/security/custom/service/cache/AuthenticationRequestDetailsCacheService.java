@@ -69,6 +69,23 @@ public class AuthenticationRequestDetailsCacheService {
     }
 
 
+    /**
+     *    Returns the {@link AuthenticationRequestDetails} related with the given {@code authorizationCode} inside the
+     * related cache, removing it too. Both steps are done atomically, so it will be returned only once.
+     *
+     * @param authorizationCode
+     *    {@link AuthenticationRequestDetails#getAuthorizationCode()} to search
+     *
+     * @return {@link Optional} with the {@link AuthenticationRequestDetails} if it was found, {@link Optional#empty()} otherwise
+     */
+    public Optional<AuthenticationRequestDetails> getAndRemove(final String authorizationCode) {
+        return cacheService.getAndEvict(
+                cacheConfiguration.getCacheName(),
+                authorizationCode
+        );
+    }
+
+
     /**
      * Returns the name of the internal cache managed by this service.
      *
@@ -87,15 +104,18 @@ public class AuthenticationRequestDetailsCacheService {
      * @param authenticationRequestDetails
      *    {@link AuthenticationRequestDetails} to store
      *
-     * @return {@code true} if the data was stored, {@code false} otherwise
+     * @return {@code true} if the data was stored,
+     *         {@code false} otherwise (like when {@code authenticationRequestDetails} is {@code null}, because
+     *         {@link CacheService} never stores them)
      */
     public boolean put(final String authorizationCode,
                        final AuthenticationRequestDetails authenticationRequestDetails) {
-        return cacheService.put(
-                cacheConfiguration.getCacheName(),
-                authorizationCode,
-                authenticationRequestDetails
-        );
+        return null != authenticationRequestDetails &&
+                cacheService.put(
+                        cacheConfiguration.getCacheName(),
+                        authorizationCode,
+                        authenticationRequestDetails
+                );
     }
 
 
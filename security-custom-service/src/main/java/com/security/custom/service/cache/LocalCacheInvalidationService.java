@@ -0,0 +1,126 @@
+package com.security.custom.service.cache;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import com.hazelcast.topic.Message;
+import com.security.custom.model.ApplicationClientDetails;
+import com.security.custom.service.ApplicationClientCryptoContextService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+import static java.lang.String.format;
+
+/**
+ *    Clears the local caches of every node related with the {@link ApplicationClientDetails}: their crypto information
+ * ({@link ApplicationClientCryptoContextService}), verified credentials ({@link ApplicationClientCredentialsCacheService})
+ * and verified access tokens ({@link VerifiedAccessTokenCacheService}).
+ * <p>
+ *    The node that receives the request clears its own ones and publishes it in a Hazelcast's {@link ITopic}, so the
+ * rest of the cluster does the same. The messages of an {@link ITopic} are not stored, so a node not reachable when
+ * one is published keeps its local entries until they expire: {@code cache.applicationClientCredentials.expireInSeconds}
+ * and {@code cache.verifiedAccessToken.expireInSeconds} bound that window.
+ */
+@Log4j2
+@Service
+public class LocalCacheInvalidationService {
+
+    static final String TOPIC_NAME = "applicationClientLocalCachesInvalidation";
+
+    private static final String CLEAR_MESSAGE = "clear";
+
+    private final HazelcastInstance hazelcastInstance;
+
+    private final ApplicationClientCryptoContextService applicationClientCryptoContextService;
+
+    private final ApplicationClientCredentialsCacheService applicationClientCredentialsCacheService;
+
+    private final VerifiedAccessTokenCacheService verifiedAccessTokenCacheService;
+
+    private ITopic<String> topic;
+
+    private UUID listenerId;
+
+
+    @Autowired
+    public LocalCacheInvalidationService(final HazelcastInstance hazelcastInstance,
+                                         final ApplicationClientCryptoContextService applicationClientCryptoContextService,
+                                         final ApplicationClientCredentialsCacheService applicationClientCredentialsCacheService,
+                                         final VerifiedAccessTokenCacheService verifiedAccessTokenCacheService) {
+        this.hazelcastInstance = hazelcastInstance;
+        this.applicationClientCryptoContextService = applicationClientCryptoContextService;
+        this.applicationClientCredentialsCacheService = applicationClientCredentialsCacheService;
+        this.verifiedAccessTokenCacheService = verifiedAccessTokenCacheService;
+    }
+
+
+    /**
+     * Starts listening the requests to clear the local caches published by the other nodes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void init() {
+        topic = hazelcastInstance.getTopic(
+                TOPIC_NAME
+        );
+        listenerId = topic.addMessageListener(
+                this::onMessage
+        );
+    }
+
+
+    /**
+     * Stops listening the requests to clear the local caches.
+     */
+    @PreDestroy
+    public synchronized void destroy() {
+        if (null != listenerId) {
+            topic.removeMessageListener(listenerId);
+            listenerId = null;
+        }
+    }
+
+
+    /**
+     * Clears the local caches of this node and requests the same to the rest of the cluster.
+     */
+    public void clear() {
+        clearLocal();
+        hazelcastInstance.<String>getTopic(TOPIC_NAME)
+                .publish(
+                        CLEAR_MESSAGE
+                );
+    }
+
+
+    private void clearLocal() {
+        applicationClientCryptoContextService.clear();
+        applicationClientCredentialsCacheService.clear();
+        verifiedAccessTokenCacheService.clear();
+    }
+
+
+    /**
+     *    Clears the local caches when the given {@code message} was published by other node, because the one that
+     * published it already did it.
+     *
+     * @param message
+     *    {@link Message} with the request
+     */
+    private void onMessage(final Message<String> message) {
+        if (null != message.getPublishingMember() && message.getPublishingMember().localMember()) {
+            return;
+        }
+        log.info(
+                format("Clearing the local caches as requested by: %s",
+                        message.getPublishingMember()
+                )
+        );
+        clearLocal();
+    }
+
+}
@@ -0,0 +1,313 @@
+package com.security.custom.service.cache;
+
+import com.security.custom.configuration.cache.RevokedTokenCacheConfiguration;
+import com.security.custom.enums.token.TokenKey;
+import com.security.custom.model.ApplicationClientDetails;
+import com.spring6microservices.common.spring.service.CacheService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+/**
+ *    Stores the identifiers of the revoked tokens ({@link TokenKey#JWT_ID} of the access ones and
+ * {@link TokenKey#REFRESH_JWT_ID} of the refresh ones) until they expire.
+ * <p>
+ *    Instead of one entry's TTL per revoked token, the time is split in buckets of
+ * {@link RevokedTokenCacheConfiguration#getBucketSizeInSeconds()} and every token is stored in the cache of the bucket
+ * that contains its expiration time. There is a fixed ring of caches, enough to cover
+ * {@link RevokedTokenCacheConfiguration#getMaxTokenValidityInSeconds()}, so when a bucket ends, all its tokens have
+ * expired and its cache is cleared at once, ready to be reused by a future bucket. That way, the stored entries are
+ * bounded by the number of revoked tokens not expired yet.
+ * <p>
+ *    The bucket is included in the key of every entry, so the ones that were not cleared on time (for example, if there
+ * were no requests during the whole bucket) never match with the tokens of a later bucket using the same cache.
+ * <p>
+ *    The cache of every ended bucket is cleared by a scheduled task every {@link RevokedTokenCacheService#CLEAR_ENDED_BUCKET_DELAY_IN_SECONDS},
+ * so the requests that revoke or check tokens never wait for that remote operation.
+ * <p>
+ *    The metrics of all the caches are published together, tagged with {@link RevokedTokenCacheConfiguration#getCacheName()}.
+ */
+@Service
+public class RevokedTokenCacheService {
+
+    private static final boolean DEFAULT_BOOLEAN_VALUE = true;
+    private static final String CACHE_KEY_SEPARATOR = "__";
+    private static final String CACHE_NAME_SEPARATOR = "_";
+
+    // The bucket before the current one plus the current one itself
+    private static final int EXTRA_BUCKETS = 2;
+
+    // Much lower than the bucket size, the ended bucket must be cleared before its cache is reused by the next one
+    private static final long CLEAR_ENDED_BUCKET_DELAY_IN_SECONDS = 10;
+
+    private final RevokedTokenCacheConfiguration cacheConfiguration;
+
+    private final CacheService cacheService;
+
+    private final Clock clock;
+
+    // Last ended bucket whose cache was cleared by this node
+    private final AtomicLong lastClearedBucket;
+
+
+    @Autowired
+    public RevokedTokenCacheService(final RevokedTokenCacheConfiguration cacheConfiguration,
+                                    final CacheService cacheService) {
+        this(
+                cacheConfiguration,
+                cacheService,
+                Clock.systemUTC()
+        );
+    }
+
+
+    RevokedTokenCacheService(final RevokedTokenCacheConfiguration cacheConfiguration,
+                             final CacheService cacheService,
+                             final Clock clock) {
+        this.cacheConfiguration = cacheConfiguration;
+        this.cacheService = cacheService;
+        this.clock = clock;
+        this.lastClearedBucket = new AtomicLong(
+                isEnabled()
+                        ? getBucket(clock.instant()) - 1
+                        : 0
+        );
+        if (isEnabled()) {
+            cacheService.groupMetrics(
+                    cacheConfiguration.getCacheName(),
+                    LongStream.range(0, getBucketCount())
+                            .mapToObj(this::getBucketCacheName)
+                            .toList()
+            );
+        }
+    }
+
+
+    /**
+     * Clear all the caches used to store the revoked tokens.
+     *
+     * @return {@code true} if all the caches were cleared, {@code false} otherwise
+     */
+    public boolean clear() {
+        if (!isEnabled()) {
+            return false;
+        }
+        return LongStream.range(0, getBucketCount())
+                .mapToObj(this::getBucketCacheName)
+                .map(cacheService::clear)
+                .reduce(
+                        true,
+                        Boolean::logicalAnd
+                );
+    }
+
+
+    /**
+     * Checks if the given token was revoked.
+     *
+     * @param applicationClientDetailsId
+     *    {@link ApplicationClientDetails#getId()}
+     * @param tokenKey
+     *    {@link TokenKey} of {@code tokenIdentifier}: {@link TokenKey#JWT_ID} or {@link TokenKey#REFRESH_JWT_ID}
+     * @param tokenIdentifier
+     *    {@link String} with the identifier of the token
+     * @param tokenExpiration
+     *    {@link Instant} when the token expires
+     *
+     * @return {@code true} if the token was revoked, {@code false} otherwise
+     */
+    public boolean contains(final String applicationClientDetailsId,
+                            final TokenKey tokenKey,
+                            final String tokenIdentifier,
+                            final Instant tokenExpiration) {
+        if (!isEnabled() || null == tokenExpiration) {
+            return false;
+        }
+        final long currentBucket = getBucket(clock.instant());
+        final long bucket = getBucket(tokenExpiration);
+        if (!isLiveBucket(bucket, currentBucket)) {
+            return false;
+        }
+        final String key = this.getKeyValue(
+                bucket,
+                applicationClientDetailsId,
+                tokenKey,
+                tokenIdentifier
+        );
+        return null != key &&
+                cacheService.contains(
+                        getBucketCacheName(bucket),
+                        key
+                );
+    }
+
+
+    /**
+     * Returns the prefix of the name of the internal caches managed by this service.
+     *
+     * @return {@link String} with the prefix of the internal cache names
+     */
+    public String getCacheName() {
+        return cacheConfiguration.getCacheName();
+    }
+
+
+    /**
+     *    Returns the longest validity of the tokens that can be revoked, because their expiration time belongs to a live
+     * bucket.
+     *
+     * @return {@link RevokedTokenCacheConfiguration#getMaxTokenValidityInSeconds()},
+     *         {@link Integer#MAX_VALUE} if the revoked tokens are not stored
+     */
+    public int getMaxTokenValidityInSeconds() {
+        return isEnabled()
+                ? cacheConfiguration.getMaxTokenValidityInSeconds()
+                : Integer.MAX_VALUE;
+    }
+
+
+    /**
+     *    Adds in the cache of the bucket related with {@code tokenExpiration} the given token, using
+     * {@link RevokedTokenCacheService#DEFAULT_BOOLEAN_VALUE} as fake value.
+     *
+     * @param applicationClientDetailsId
+     *    {@link ApplicationClientDetails#getId()}
+     * @param tokenKey
+     *    {@link TokenKey} of {@code tokenIdentifier}: {@link TokenKey#JWT_ID} or {@link TokenKey#REFRESH_JWT_ID}
+     * @param tokenIdentifier
+     *    {@link String} with the identifier of the token
+     * @param tokenExpiration
+     *    {@link Instant} when the token expires
+     *
+     * @return {@code true} if the token was added,
+     *         {@code false} if it was already revoked, has expired, or expires after
+     *         {@link RevokedTokenCacheConfiguration#getMaxTokenValidityInSeconds()}
+     */
+    public boolean put(final String applicationClientDetailsId,
+                       final TokenKey tokenKey,
+                       final String tokenIdentifier,
+                       final Instant tokenExpiration) {
+        if (!isEnabled() || null == tokenExpiration || !tokenExpiration.isAfter(clock.instant())) {
+            return false;
+        }
+        final long currentBucket = getBucket(clock.instant());
+        final long bucket = getBucket(tokenExpiration);
+        if (!isLiveBucket(bucket, currentBucket)) {
+            return false;
+        }
+        final String key = this.getKeyValue(
+                bucket,
+                applicationClientDetailsId,
+                tokenKey,
+                tokenIdentifier
+        );
+        return null != key &&
+                cacheService.putIfAbsent(
+                        getBucketCacheName(bucket),
+                        key,
+                        DEFAULT_BOOLEAN_VALUE
+                );
+    }
+
+
+    /**
+     *    Clears the cache of the bucket before the current one, the only one not used by the live buckets, if it was not
+     * already done by this node.
+     *
+     * @return {@code true} if the cache of the ended bucket was cleared now,
+     *         {@code false} otherwise
+     */
+    @Scheduled(
+            fixedDelay = CLEAR_ENDED_BUCKET_DELAY_IN_SECONDS,
+            timeUnit = TimeUnit.SECONDS
+    )
+    public boolean clearEndedBucket() {
+        if (!isEnabled()) {
+            return false;
+        }
+        final long currentBucket = getBucket(clock.instant());
+        final long lastCleared = lastClearedBucket.get();
+        if (lastCleared < currentBucket - 1 &&
+                lastClearedBucket.compareAndSet(lastCleared, currentBucket - 1)) {
+            cacheService.clear(
+                    getBucketCacheName(currentBucket - 1)
+            );
+            return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * Checks if the tokens of the given {@code bucket} can be stored, that is, they have not expired and its cache is
+     * not the one being cleared.
+     */
+    private boolean isLiveBucket(final long bucket,
+                                 final long currentBucket) {
+        return bucket >= currentBucket &&
+                bucket <= currentBucket + getBucketCount() - EXTRA_BUCKETS;
+    }
+
+
+    private long getBucket(final Instant instant) {
+        return Math.floorDiv(
+                instant.getEpochSecond(),
+                cacheConfiguration.getBucketSizeInSeconds()
+        );
+    }
+
+
+    /**
+     * Number of caches used to store the revoked tokens, enough to cover the longest token validity.
+     */
+    private int getBucketCount() {
+        final int bucketSize = cacheConfiguration.getBucketSizeInSeconds();
+        return (cacheConfiguration.getMaxTokenValidityInSeconds() + bucketSize - 1) / bucketSize
+                + EXTRA_BUCKETS;
+    }
+
+
+    private String getBucketCacheName(final long bucket) {
+        return cacheConfiguration.getCacheName()
+                + CACHE_NAME_SEPARATOR
+                + Math.floorMod(bucket, getBucketCount());
+    }
+
+
+    private boolean isEnabled() {
+        return 0 < cacheConfiguration.getBucketSizeInSeconds() &&
+                0 < cacheConfiguration.getMaxTokenValidityInSeconds();
+    }
+
+
+    /**
+     *    Returns the key value used by the cache by joining {@code bucket}, {@code applicationClientDetailsId},
+     * {@code tokenKey} and {@code tokenIdentifier}.
+     *
+     * @param bucket
+     *    Bucket of the token expiration
+     * @param applicationClientDetailsId
+     *    {@link ApplicationClientDetails#getId()}
+     * @param tokenKey
+     *    {@link TokenKey} of {@code tokenIdentifier}
+     * @param tokenIdentifier
+     *    {@link String} with the identifier of the token
+     *
+     * @return {@link String} with the key value
+     */
+    private String getKeyValue(final long bucket,
+                               final String applicationClientDetailsId,
+                               final TokenKey tokenKey,
+                               final String tokenIdentifier) {
+        return null != applicationClientDetailsId && null != tokenKey && null != tokenIdentifier
+                ? bucket + CACHE_KEY_SEPARATOR + applicationClientDetailsId + CACHE_KEY_SEPARATOR + tokenKey.getKey() + CACHE_KEY_SEPARATOR + tokenIdentifier
+                : null;
+    }
+
+}
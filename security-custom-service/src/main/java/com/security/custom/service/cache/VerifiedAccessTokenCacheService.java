@@ -0,0 +1,231 @@
+package com.security.custom.service.cache;
+
+import com.security.custom.configuration.cache.VerifiedAccessTokenCacheConfiguration;
+import com.security.custom.model.ApplicationClientDetails;
+import com.spring6microservices.common.spring.cache.ExpiringLruMap;
+import com.spring6microservices.common.spring.dto.AuthorizationInformationDto;
+import com.spring6microservices.common.spring.enums.HashAlgorithm;
+import com.spring6microservices.common.spring.util.HashUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+
+/**
+ *    Local and bounded cache of every node with the {@link AuthorizationInformationDto} of the already verified access
+ * tokens, avoiding to verify the same one every time it is received.
+ * <p>
+ *    The tokens are not stored as they are, but a digest of them. Every entry expires when the related token does or
+ * after {@link VerifiedAccessTokenCacheConfiguration#getCacheExpireInSeconds()}, whichever comes first.
+ * <p>
+ *    The identifier and expiration of every token are stored too, so they can be checked against the revoked tokens
+ * without verifying it again.
+ * <p>
+ *    To clear it in every node, use {@link LocalCacheInvalidationService#clear()}.
+ */
+@Service
+public class VerifiedAccessTokenCacheService {
+
+    private static final String CACHE_KEY_SEPARATOR = "__";
+
+    private static final String METRIC_NAME = "cache.verified.access.token";
+    private static final String METRIC_CACHE_TAG = "cache";
+    private static final String METRIC_RESULT_TAG = "result";
+
+    private final VerifiedAccessTokenCacheConfiguration cacheConfiguration;
+
+    private final Clock clock;
+
+    private final ExpiringLruMap<String, VerifiedAccessToken> cache;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+
+    @Autowired
+    public VerifiedAccessTokenCacheService(final VerifiedAccessTokenCacheConfiguration cacheConfiguration,
+                                           final MeterRegistry meterRegistry) {
+        this(
+                cacheConfiguration,
+                meterRegistry,
+                Clock.systemUTC()
+        );
+    }
+
+
+    VerifiedAccessTokenCacheService(final VerifiedAccessTokenCacheConfiguration cacheConfiguration,
+                                    final MeterRegistry meterRegistry,
+                                    final Clock clock) {
+        this.cacheConfiguration = cacheConfiguration;
+        this.clock = clock;
+        this.cache = new ExpiringLruMap<>(
+                cacheConfiguration.getCacheEntryCapacity(),
+                clock
+        );
+        this.hitCounter = Counter.builder(METRIC_NAME + ".gets")
+                .tag(METRIC_CACHE_TAG, cacheConfiguration.getCacheName())
+                .tag(METRIC_RESULT_TAG, "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME + ".gets")
+                .tag(METRIC_CACHE_TAG, cacheConfiguration.getCacheName())
+                .tag(METRIC_RESULT_TAG, "miss")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", cache, ExpiringLruMap::size)
+                .tag(METRIC_CACHE_TAG, cacheConfiguration.getCacheName())
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * Removes all the stored verified access tokens.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+
+    /**
+     *    Returns the {@link VerifiedAccessToken} related with the given {@code applicationClientDetailsId} and
+     * {@code accessToken}, if it was stored and has not expired.
+     *
+     * @param applicationClientDetailsId
+     *    {@link ApplicationClientDetails#getId()}
+     * @param accessToken
+     *    {@link String} with the access token
+     *
+     * @return {@link Optional} with the stored {@link VerifiedAccessToken},
+     *         {@link Optional#empty()} otherwise
+     */
+    public Optional<VerifiedAccessToken> get(final String applicationClientDetailsId,
+                                             final String accessToken) {
+        if (!isEnabled()) {
+            return empty();
+        }
+        final String key = this.getKeyValue(
+                applicationClientDetailsId,
+                accessToken
+        );
+        final VerifiedAccessToken verifiedAccessToken = cache.get(key);
+        if (null == verifiedAccessToken) {
+            missCounter.increment();
+            return empty();
+        }
+        hitCounter.increment();
+        return of(
+                verifiedAccessToken
+        );
+    }
+
+
+    /**
+     * Returns the name of the internal cache managed by this service.
+     *
+     * @return {@link String} with the internal cache name
+     */
+    public String getCacheName() {
+        return cacheConfiguration.getCacheName();
+    }
+
+
+    /**
+     *    Stores the given {@code verifiedAccessToken} related with the pair {@code applicationClientDetailsId} and
+     * {@code accessToken}, until {@link VerifiedAccessToken#expiration()} or the configured maximum time, whichever
+     * comes first. If the cache is full, the least recently used entry is removed.
+     *
+     * @param applicationClientDetailsId
+     *    {@link ApplicationClientDetails#getId()}
+     * @param accessToken
+     *    {@link String} with the verified access token
+     * @param verifiedAccessToken
+     *    {@link VerifiedAccessToken} extracted from {@code accessToken}
+     *
+     * @return {@code true} if the given information was stored,
+     *         {@code false} otherwise
+     */
+    public boolean put(final String applicationClientDetailsId,
+                       final String accessToken,
+                       final VerifiedAccessToken verifiedAccessToken) {
+        if (!isEnabled() || null == verifiedAccessToken ||
+                null == verifiedAccessToken.expiration() || null == verifiedAccessToken.authorizationInformation()) {
+            return false;
+        }
+        final Instant accessTokenExpiration = verifiedAccessToken.expiration();
+        final String key = this.getKeyValue(
+                applicationClientDetailsId,
+                accessToken
+        );
+        if (null == key) {
+            return false;
+        }
+        final Instant now = clock.instant();
+        final Instant maxExpiration = now.plusSeconds(
+                cacheConfiguration.getCacheExpireInSeconds()
+        );
+        final Instant expiration = accessTokenExpiration.isBefore(maxExpiration)
+                ? accessTokenExpiration
+                : maxExpiration;
+
+        return cache.put(
+                key,
+                verifiedAccessToken,
+                expiration
+        );
+    }
+
+
+    private boolean isEnabled() {
+        return 0 < cacheConfiguration.getCacheEntryCapacity() &&
+                0 < cacheConfiguration.getCacheExpireInSeconds();
+    }
+
+
+    /**
+     *    Returns the key value used by the cache by joining {@code applicationClientDetailsId} and the digest of
+     * {@code accessToken}.
+     *
+     * @param applicationClientDetailsId
+     *    {@link ApplicationClientDetails#getId()}
+     * @param accessToken
+     *    {@link String} with the access token
+     *
+     * @return {@link String} with the key value
+     */
+    private String getKeyValue(final String applicationClientDetailsId,
+                               final String accessToken) {
+        if (null == applicationClientDetailsId || null == accessToken) {
+            return null;
+        }
+        return applicationClientDetailsId +
+                CACHE_KEY_SEPARATOR +
+                HashUtil.hashToBase64(
+                        accessToken,
+                        HashAlgorithm.SHA_256
+                );
+    }
+
+
+    /**
+     * Information of every verified access token.
+     *
+     * @param authorizationInformation
+     *    {@link AuthorizationInformationDto} extracted from the access token
+     * @param identifier
+     *    {@link String} with the identifier of the access token, if it contains it
+     * @param expiration
+     *    {@link Instant} when the access token expires
+     */
+    public record VerifiedAccessToken(AuthorizationInformationDto authorizationInformation,
+                                      String identifier,
+                                      Instant expiration) {
+    }
+
+}
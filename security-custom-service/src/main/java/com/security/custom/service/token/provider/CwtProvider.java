@@ -0,0 +1,69 @@
+package com.security.custom.service.token.provider;
+
+import com.security.custom.enums.token.TokenType;
+import com.security.custom.interfaces.ITokenTypeProvider;
+import com.security.custom.model.ApplicationClientCryptoContext;
+import com.security.custom.model.ApplicationClientDetails;
+import com.security.custom.service.ApplicationClientCryptoContextService;
+import com.security.custom.util.CwtUtil;
+import com.spring6microservices.common.core.util.ObjectUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Service
+@TokenTypeProvider(TokenType.CWT)
+public class CwtProvider implements ITokenTypeProvider {
+
+    private final ApplicationClientCryptoContextService cryptoContextService;
+
+
+    @Autowired
+    public CwtProvider(final ApplicationClientCryptoContextService cryptoContextService) {
+        this.cryptoContextService = cryptoContextService;
+    }
+
+
+    @Override
+    public String generateToken(final ApplicationClientDetails applicationClientDetails,
+                                final Map<String, Object> informationToInclude,
+                                final int tokenValidityInSeconds) {
+        verifyApplicationClientDetails(
+                applicationClientDetails,
+                TokenType.CWT
+        );
+        ApplicationClientCryptoContext cryptoContext = cryptoContextService.get(
+                applicationClientDetails
+        );
+        return CwtUtil.generateToken(
+                ObjectUtil.getOrElse(
+                        informationToInclude,
+                        new HashMap<>()
+                ),
+                cryptoContext.getSignatureAlgorithm(),
+                cryptoContext.getSigner(),
+                tokenValidityInSeconds
+        );
+    }
+
+
+    @Override
+    public Map<String, Object> getPayloadOfToken(final ApplicationClientDetails applicationClientDetails,
+                                                 final String token) {
+        verifyApplicationClientDetails(
+                applicationClientDetails,
+                TokenType.CWT
+        );
+        ApplicationClientCryptoContext cryptoContext = cryptoContextService.get(
+                applicationClientDetails
+        );
+        return CwtUtil.getAllClaimsFromToken(
+                token,
+                cryptoContext.getSignatureAlgorithm(),
+                cryptoContext.getVerifier()
+        );
+    }
+
+}
@@ -3,7 +3,9 @@ package com.security.custom.service.token.provider;
 import com.security.custom.configuration.security.EncryptionConfiguration;
 import com.security.custom.enums.token.TokenType;
 import com.security.custom.interfaces.ITokenTypeProvider;
+import com.security.custom.model.ApplicationClientCryptoContext;
 import com.security.custom.model.ApplicationClientDetails;
+import com.security.custom.service.ApplicationClientCryptoContextService;
 import com.security.custom.service.EncryptorService;
 import com.security.custom.util.JweUtil;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,14 +19,18 @@ import static java.lang.String.format;
 @TokenTypeProvider(TokenType.ENCRYPTED_JWE)
 public class EncryptedJweProvider implements ITokenTypeProvider {
 
+    private final ApplicationClientCryptoContextService cryptoContextService;
+
     private final EncryptionConfiguration encryptionConfiguration;
 
     private final EncryptorService encryptorService;
 
 
     @Autowired
-    public EncryptedJweProvider(final EncryptionConfiguration encryptionConfiguration,
+    public EncryptedJweProvider(final ApplicationClientCryptoContextService cryptoContextService,
+                                final EncryptionConfiguration encryptionConfiguration,
                                 final EncryptorService encryptorService) {
+        this.cryptoContextService = cryptoContextService;
         this.encryptionConfiguration = encryptionConfiguration;
         this.encryptorService = encryptorService;
     }
@@ -38,17 +44,16 @@ public class EncryptedJweProvider implements ITokenTypeProvider {
                 applicationClientDetails,
                 TokenType.ENCRYPTED_JWE
         );
+        ApplicationClientCryptoContext cryptoContext = cryptoContextService.get(
+                applicationClientDetails
+        );
         String token = JweUtil.generateToken(
                 informationToInclude,
-                applicationClientDetails.getEncryptionAlgorithm(),
-                applicationClientDetails.getEncryptionMethod(),
-                encryptorService.defaultDecrypt(
-                        applicationClientDetails.getEncryptionSecret()
-                ),
-                applicationClientDetails.getSignatureAlgorithm(),
-                encryptorService.defaultDecrypt(
-                        applicationClientDetails.getSignatureSecret()
-                ),
+                cryptoContext.getEncryptionAlgorithm(),
+                cryptoContext.getEncryptionMethod(),
+                cryptoContext.getEncrypter(),
+                cryptoContext.getSignatureAlgorithm(),
+                cryptoContext.getSigner(),
                 tokenValidityInSeconds
         );
         return encryptToken(
@@ -67,14 +72,13 @@ public class EncryptedJweProvider implements ITokenTypeProvider {
         String decryptedToken = decryptToken(
                 token
         );
+        ApplicationClientCryptoContext cryptoContext = cryptoContextService.get(
+                applicationClientDetails
+        );
         return JweUtil.getAllClaimsFromToken(
                 decryptedToken,
-                encryptorService.defaultDecrypt(
-                        applicationClientDetails.getEncryptionSecret()
-                ),
-                encryptorService.defaultDecrypt(
-                        applicationClientDetails.getSignatureSecret()
-                )
+                cryptoContext.getDecrypter(),
+                cryptoContext.getVerifier()
         );
     }
 
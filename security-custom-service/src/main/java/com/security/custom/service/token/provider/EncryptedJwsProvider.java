@@ -3,7 +3,9 @@ package com.security.custom.service.token.provider;
 import com.security.custom.configuration.security.EncryptionConfiguration;
 import com.security.custom.enums.token.TokenType;
 import com.security.custom.interfaces.ITokenTypeProvider;
+import com.security.custom.model.ApplicationClientCryptoContext;
 import com.security.custom.model.ApplicationClientDetails;
+import com.security.custom.service.ApplicationClientCryptoContextService;
 import com.security.custom.service.EncryptorService;
 import com.security.custom.util.JwsUtil;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,14 +19,18 @@ import static java.lang.String.format;
 @TokenTypeProvider(TokenType.ENCRYPTED_JWS)
 public class EncryptedJwsProvider implements ITokenTypeProvider {
 
+    private final ApplicationClientCryptoContextService cryptoContextService;
+
     private final EncryptionConfiguration encryptionConfiguration;
 
     private final EncryptorService encryptorService;
 
 
     @Autowired
-    public EncryptedJwsProvider(final EncryptionConfiguration encryptionConfiguration,
+    public EncryptedJwsProvider(final ApplicationClientCryptoContextService cryptoContextService,
+                                final EncryptionConfiguration encryptionConfiguration,
                                 final EncryptorService encryptorService) {
+        this.cryptoContextService = cryptoContextService;
         this.encryptionConfiguration = encryptionConfiguration;
         this.encryptorService = encryptorService;
     }
@@ -38,12 +44,13 @@ public class EncryptedJwsProvider implements ITokenTypeProvider {
                 applicationClientDetails,
                 TokenType.ENCRYPTED_JWS
         );
+        ApplicationClientCryptoContext cryptoContext = cryptoContextService.get(
+                applicationClientDetails
+        );
         String token = JwsUtil.generateToken(
                 informationToInclude,
-                applicationClientDetails.getSignatureAlgorithm(),
-                encryptorService.defaultDecrypt(
-                        applicationClientDetails.getSignatureSecret()
-                ),
+                cryptoContext.getSignatureAlgorithm(),
+                cryptoContext.getSigner(),
                 tokenValidityInSeconds
         );
         return encryptToken(
@@ -64,9 +71,8 @@ public class EncryptedJwsProvider implements ITokenTypeProvider {
         );
         return JwsUtil.getAllClaimsFromToken(
                 decryptedToken,
-                encryptorService.defaultDecrypt(
-                        applicationClientDetails.getSignatureSecret()
-                )
+                cryptoContextService.get(applicationClientDetails)
+                        .getVerifier()
         );
     }
 
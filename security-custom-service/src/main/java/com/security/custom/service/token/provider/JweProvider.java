@@ -2,8 +2,9 @@ package com.security.custom.service.token.provider;
 
 import com.security.custom.enums.token.TokenType;
 import com.security.custom.interfaces.ITokenTypeProvider;
+import com.security.custom.model.ApplicationClientCryptoContext;
 import com.security.custom.model.ApplicationClientDetails;
-import com.security.custom.service.EncryptorService;
+import com.security.custom.service.ApplicationClientCryptoContextService;
 import com.security.custom.util.JweUtil;
 import com.spring6microservices.common.core.util.ObjectUtil;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,12 +17,12 @@ import java.util.Map;
 @TokenTypeProvider(TokenType.JWE)
 public class JweProvider implements ITokenTypeProvider {
 
-    private final EncryptorService encryptorService;
+    private final ApplicationClientCryptoContextService cryptoContextService;
 
 
     @Autowired
-    public JweProvider(final EncryptorService encryptorService) {
-        this.encryptorService = encryptorService;
+    public JweProvider(final ApplicationClientCryptoContextService cryptoContextService) {
+        this.cryptoContextService = cryptoContextService;
     }
 
 
@@ -33,20 +34,19 @@ public class JweProvider implements ITokenTypeProvider {
                 applicationClientDetails,
                 TokenType.JWE
         );
+        ApplicationClientCryptoContext cryptoContext = cryptoContextService.get(
+                applicationClientDetails
+        );
         return JweUtil.generateToken(
                 ObjectUtil.getOrElse(
                         informationToInclude,
                         new HashMap<>()
                 ),
-                applicationClientDetails.getEncryptionAlgorithm(),
-                applicationClientDetails.getEncryptionMethod(),
-                encryptorService.defaultDecrypt(
-                        applicationClientDetails.getEncryptionSecret()
-                ),
-                applicationClientDetails.getSignatureAlgorithm(),
-                encryptorService.defaultDecrypt(
-                        applicationClientDetails.getSignatureSecret()
-                ),
+                cryptoContext.getEncryptionAlgorithm(),
+                cryptoContext.getEncryptionMethod(),
+                cryptoContext.getEncrypter(),
+                cryptoContext.getSignatureAlgorithm(),
+                cryptoContext.getSigner(),
                 tokenValidityInSeconds
         );
     }
@@ -59,14 +59,13 @@ public class JweProvider implements ITokenTypeProvider {
                 applicationClientDetails,
                 TokenType.JWE
         );
+        ApplicationClientCryptoContext cryptoContext = cryptoContextService.get(
+                applicationClientDetails
+        );
         return JweUtil.getAllClaimsFromToken(
                 token,
-                encryptorService.defaultDecrypt(
-                        applicationClientDetails.getEncryptionSecret()
-                ),
-                encryptorService.defaultDecrypt(
-                        applicationClientDetails.getSignatureSecret()
-                )
+                cryptoContext.getDecrypter(),
+                cryptoContext.getVerifier()
         );
     }
 
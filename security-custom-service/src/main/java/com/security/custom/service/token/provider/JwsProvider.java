@@ -1,9 +1,11 @@
 package com.security.custom.service.token.provider;
 
+import com.nimbusds.jose.jwk.JWK;
 import com.security.custom.enums.token.TokenType;
 import com.security.custom.interfaces.ITokenTypeProvider;
+import com.security.custom.model.ApplicationClientCryptoContext;
 import com.security.custom.model.ApplicationClientDetails;
-import com.security.custom.service.EncryptorService;
+import com.security.custom.service.ApplicationClientCryptoContextService;
 import com.security.custom.util.JwsUtil;
 import com.spring6microservices.common.core.util.ObjectUtil;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,12 +18,12 @@ import java.util.Map;
 @TokenTypeProvider(TokenType.JWS)
 public class JwsProvider implements ITokenTypeProvider {
 
-    private final EncryptorService encryptorService;
+    private final ApplicationClientCryptoContextService cryptoContextService;
 
 
     @Autowired
-    public JwsProvider(final EncryptorService encryptorService) {
-        this.encryptorService = encryptorService;
+    public JwsProvider(final ApplicationClientCryptoContextService cryptoContextService) {
+        this.cryptoContextService = cryptoContextService;
     }
 
 
@@ -33,15 +35,19 @@ public class JwsProvider implements ITokenTypeProvider {
                 applicationClientDetails,
                 TokenType.JWS
         );
+        ApplicationClientCryptoContext cryptoContext = cryptoContextService.get(
+                applicationClientDetails
+        );
         return JwsUtil.generateToken(
                 ObjectUtil.getOrElse(
                         informationToInclude,
                         new HashMap<>()
                 ),
-                applicationClientDetails.getSignatureAlgorithm(),
-                encryptorService.defaultDecrypt(
-                        applicationClientDetails.getSignatureSecret()
-                ),
+                cryptoContext.getSignatureAlgorithm(),
+                cryptoContext.getSigner(),
+                cryptoContext.getSignaturePublicJwk()
+                        .map(JWK::getKeyID)
+                        .orElse(null),
                 tokenValidityInSeconds
         );
     }
@@ -56,9 +62,8 @@ public class JwsProvider implements ITokenTypeProvider {
         );
         return JwsUtil.getAllClaimsFromToken(
                 token,
-                encryptorService.defaultDecrypt(
-                        applicationClientDetails.getSignatureSecret()
-                )
+                cryptoContextService.get(applicationClientDetails)
+                        .getVerifier()
         );
     }
 
@@ -0,0 +1,156 @@
+package com.security.custom.util;
+
+import com.spring6microservices.common.core.util.AssertUtil;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ *    Thread-safe Bloom filter of {@link String}s: an approximate membership structure that never returns false negatives,
+ * that is, if {@link BloomFilter#mightContain(String)} returns {@code false} the value was never added. On the other hand,
+ * it could return {@code true} for values never added with a probability close to the configured one, as long as the
+ * number of added values does not exceed the expected ones.
+ * <p>
+ *    The values cannot be removed, so it should be rebuilt when the original data contains too many removed ones.
+ */
+public final class BloomFilter {
+
+    private static final double LN_2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+
+    private final int numberOfBits;
+
+    private final int numberOfHashFunctions;
+
+
+    private BloomFilter(final int numberOfBits,
+                        final int numberOfHashFunctions) {
+        this.bits = new AtomicLongArray(
+                (numberOfBits + Long.SIZE - 1) / Long.SIZE
+        );
+        this.numberOfBits = numberOfBits;
+        this.numberOfHashFunctions = numberOfHashFunctions;
+    }
+
+
+    /**
+     * Creates a new empty {@link BloomFilter} sized to store {@code expectedEntries} values.
+     *
+     * @param expectedEntries
+     *    Expected number of values to add
+     * @param falsePositiveProbability
+     *    Desired probability of {@link BloomFilter#mightContain(String)} returning {@code true} for not added values
+     *
+     * @return {@link BloomFilter}
+     *
+     * @throws IllegalArgumentException if {@code expectedEntries} is not positive or {@code falsePositiveProbability}
+     *                                  is not between 0 and 1 (both excluded)
+     */
+    public static BloomFilter of(final int expectedEntries,
+                                 final double falsePositiveProbability) {
+        AssertUtil.isTrue(
+                0 < expectedEntries,
+                "expectedEntries must be greater than 0"
+        );
+        AssertUtil.isTrue(
+                0 < falsePositiveProbability && 1 > falsePositiveProbability,
+                "falsePositiveProbability must be between 0 and 1"
+        );
+        final long numberOfBits = Math.max(
+                Long.SIZE,
+                (long) Math.ceil(-expectedEntries * Math.log(falsePositiveProbability) / (LN_2 * LN_2))
+        );
+        final int numberOfHashFunctions = Math.max(
+                1,
+                (int) Math.round((double) numberOfBits / expectedEntries * LN_2)
+        );
+        return new BloomFilter(
+                (int) Math.min(Integer.MAX_VALUE - Long.SIZE, numberOfBits),
+                numberOfHashFunctions
+        );
+    }
+
+
+    /**
+     * Adds the given {@code value} to the filter. {@code null} values are ignored.
+     *
+     * @param value
+     *    {@link String} to add
+     */
+    public void add(final String value) {
+        if (null == value) {
+            return;
+        }
+        final long hash = hash(value);
+        final int hash1 = (int) hash;
+        final int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numberOfHashFunctions; i++) {
+            final int bitIndex = bitIndex(hash1 + i * hash2);
+            final long mask = 1L << bitIndex;
+            final int wordIndex = bitIndex >>> 6;
+            long word = bits.get(wordIndex);
+            while (0 == (word & mask)) {
+                if (bits.compareAndSet(wordIndex, word, word | mask)) {
+                    break;
+                }
+                word = bits.get(wordIndex);
+            }
+        }
+    }
+
+
+    /**
+     * Checks if the given {@code value} might have been added to the filter.
+     *
+     * @param value
+     *    {@link String} to check
+     *
+     * @return {@code false} if {@code value} is {@code null} or it was never added,
+     *         {@code true} if it might have been added
+     */
+    public boolean mightContain(final String value) {
+        if (null == value) {
+            return false;
+        }
+        final long hash = hash(value);
+        final int hash1 = (int) hash;
+        final int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numberOfHashFunctions; i++) {
+            final int bitIndex = bitIndex(hash1 + i * hash2);
+            if (0 == (bits.get(bitIndex >>> 6) & (1L << bitIndex))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    private int bitIndex(final int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % numberOfBits;
+    }
+
+
+    /**
+     *    64-bit FNV-1a hash of the characters of {@code value}, followed by the MurmurHash3 finalizer to spread the bits.
+     * Its two halves are used as independent hashes to simulate {@link BloomFilter#numberOfHashFunctions} ones.
+     *
+     * @param value
+     *    {@link String} to hash
+     *
+     * @return 64-bit hash of {@code value}
+     */
+    private static long hash(final String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
@@ -0,0 +1,471 @@
+package com.security.custom.util;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.cbor.CBORParser;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.util.Base64URL;
+import com.security.custom.enums.token.TokenKey;
+import com.security.custom.enums.token.TokenSignatureAlgorithm;
+import com.security.custom.exception.token.TokenException;
+import com.security.custom.exception.token.TokenExpiredException;
+import com.security.custom.exception.token.TokenInvalidException;
+import com.spring6microservices.common.core.util.AssertUtil;
+import lombok.experimental.UtilityClass;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.security.custom.enums.token.TokenKey.EXPIRATION_TIME;
+import static com.security.custom.enums.token.TokenKey.ISSUED_AT;
+import static com.security.custom.enums.token.TokenKey.JWT_ID;
+import static com.spring6microservices.common.core.util.ExceptionUtil.getFormattedRootError;
+import static java.lang.String.format;
+import static java.util.Optional.ofNullable;
+
+/**
+ *    Utility class used to manage CBOR Web Tokens (CWT, RFC 8392): a CBOR map of claims signed using a COSE_Sign1 structure
+ * or, for the symmetric {@link TokenSignatureAlgorithm}s, authenticated using a COSE_Mac0 one (RFC 9052). The result is
+ * encoded in base64url without padding, so it can be sent in the same places than a JWS.
+ * <p>
+ *    The claims of {@link TokenKey} are stored using their {@link TokenKey#getCwtKey()} and {@link TokenKey#JWT_ID} is
+ * stored as the {@code cti} byte string, the rest of them use their {@link String} keys. The {@link Date} values are
+ * stored as seconds since the epoch, like {@link TokenKey#EXPIRATION_TIME} and {@link TokenKey#ISSUED_AT}.
+ * <p>
+ *    The signature/MAC is calculated using the same {@link JWSSigner} and {@link JWSVerifier} than the JWS tokens,
+ * because the COSE algorithms used by every {@link TokenSignatureAlgorithm} share their output format with the JOSE ones.
+ * On the other hand, the expected {@link TokenSignatureAlgorithm} must be provided to verify a token, so the one
+ * included in its protected header is only used to reject the tokens signed with a different one.
+ */
+@UtilityClass
+public class CwtUtil {
+
+    private static final int COSE_HEADER_ALGORITHM = 1;
+
+    private static final int COSE_MAC0_TAG = 17;
+
+    private static final String COSE_MAC0_CONTEXT = "MAC0";
+
+    private static final int COSE_SIGN1_TAG = 18;
+
+    private static final String COSE_SIGN1_CONTEXT = "Signature1";
+
+    private static final byte[] EMPTY_EXTERNAL_AAD = new byte[0];
+
+    // Like the JSON claims of a JWS, integer values are returned as Long
+    private static final CBORMapper CBOR_MAPPER = CBORMapper.builder()
+            .enable(DeserializationFeature.USE_LONG_FOR_INTS)
+            .build();
+
+
+    /**
+     *    Using the given {@code informationToInclude} generates a valid CWT token signed with the selected
+     * {@link TokenSignatureAlgorithm} and the provided {@link JWSSigner}.
+     *
+     * @param informationToInclude
+     *    {@link Map} with the information to include in the returned CWT token
+     * @param signatureAlgorithm
+     *    {@link TokenSignatureAlgorithm} used to sign the CWT token
+     * @param signer
+     *    {@link JWSSigner} used to sign the CWT token
+     * @param expirationTimeInSeconds
+     *    How many seconds the CWT token will be valid
+     *
+     * @return {@link String} with the CWT encoded in base64url
+     *
+     * @throws IllegalArgumentException if {@code signatureAlgorithm} or {@code signer} are {@code null}
+     * @throws TokenException if there was a problem generating the CWT token
+     */
+    public static String generateToken(final Map<String, Object> informationToInclude,
+                                       final TokenSignatureAlgorithm signatureAlgorithm,
+                                       final JWSSigner signer,
+                                       final long expirationTimeInSeconds) {
+        AssertUtil.notNull(signatureAlgorithm, "signatureAlgorithm must be not null");
+        AssertUtil.notNull(signer, "signer must be not null");
+        try {
+            final byte[] protectedHeader = encodeProtectedHeader(signatureAlgorithm);
+            final byte[] payload = encodeClaims(
+                    informationToInclude,
+                    expirationTimeInSeconds
+            );
+            final byte[] signature = signer.sign(
+                            new JWSHeader(signatureAlgorithm.getAlgorithm()),
+                            encodeToBeSigned(
+                                    signatureAlgorithm,
+                                    protectedHeader,
+                                    payload
+                            )
+                    )
+                    .decode();
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try (CBORGenerator generator = CBOR_MAPPER.getFactory().createGenerator(output)) {
+                generator.writeTag(
+                        isMac(signatureAlgorithm)
+                                ? COSE_MAC0_TAG
+                                : COSE_SIGN1_TAG
+                );
+                generator.writeStartArray(null, 4);
+                generator.writeBinary(protectedHeader);
+                generator.writeStartObject(null, 0);
+                generator.writeEndObject();
+                generator.writeBinary(payload);
+                generator.writeBinary(signature);
+                generator.writeEndArray();
+            }
+            return Base64.getUrlEncoder()
+                    .withoutPadding()
+                    .encodeToString(
+                            output.toByteArray()
+                    );
+
+        } catch (Exception e) {
+            throw handleMultipleExceptions(
+                    e,
+                    format("The was a problem trying to create a new CWT token using the algorithm: %s",
+                            signatureAlgorithm.name()
+                    )
+            );
+        }
+    }
+
+
+    /**
+     * Extracts from the given {@code cwtToken} all the information included in the payload.
+     *
+     * @param cwtToken
+     *    CWT token to extract the required information
+     * @param signatureAlgorithm
+     *    {@link TokenSignatureAlgorithm} that must have been used to sign {@code cwtToken}
+     * @param verifier
+     *    {@link JWSVerifier} used to verify the signature of the CWT token
+     *
+     * @return {@link Map} of {@link String}-{@link Object} with contain of the payload in {@code cwtToken}
+     *
+     * @throws IllegalArgumentException if {@code cwtToken} is {@code null} or empty, or {@code signatureAlgorithm}
+     *                                  or {@code verifier} are {@code null}
+     * @throws TokenInvalidException if {@code cwtToken} is not a CWT one or its signature does not match with {@code verifier}
+     * @throws TokenExpiredException if {@code cwtToken} is valid but has expired
+     * @throws TokenException if there was a problem getting claims of {@code cwtToken}
+     */
+    public static Map<String, Object> getAllClaimsFromToken(final String cwtToken,
+                                                            final TokenSignatureAlgorithm signatureAlgorithm,
+                                                            final JWSVerifier verifier) {
+        AssertUtil.hasText(cwtToken, "cwtToken cannot be null or empty");
+        AssertUtil.notNull(signatureAlgorithm, "signatureAlgorithm must be not null");
+        AssertUtil.notNull(verifier, "verifier cannot be null");
+        try {
+            final CoseMessage message = decodeCoseMessage(cwtToken);
+            if (message.tag != (isMac(signatureAlgorithm) ? COSE_MAC0_TAG : COSE_SIGN1_TAG) ||
+                    !Objects.equals(coseAlgorithm(signatureAlgorithm), decodeProtectedAlgorithm(message.protectedHeader))) {
+                throw new TokenInvalidException(
+                        format("The CWT token: %s was not signed using the algorithm: %s",
+                                cwtToken,
+                                signatureAlgorithm.name()
+                        )
+                );
+            }
+            final boolean isValidSignature = verifier.verify(
+                    new JWSHeader(signatureAlgorithm.getAlgorithm()),
+                    encodeToBeSigned(
+                            signatureAlgorithm,
+                            message.protectedHeader,
+                            message.payload
+                    ),
+                    Base64URL.encode(message.signature)
+            );
+            if (!isValidSignature) {
+                throw new TokenInvalidException(
+                        format("The CWT token: %s does not match with the provided verifier",
+                                cwtToken
+                        )
+                );
+            }
+            Map<String, Object> claims = decodeClaims(message.payload);
+            Date expirationTime = (Date) claims.get(EXPIRATION_TIME.getKey());
+            if (null == expirationTime || expirationTime.before(new Date())) {
+                throw new TokenExpiredException(
+                        format("The CWT token: %s has expired at %s",
+                                cwtToken,
+                                expirationTime
+                        )
+                );
+            }
+            return claims;
+
+        } catch (Exception e) {
+            throw handleMultipleExceptions(
+                    e,
+                    format("The was an error getting information included in CWT token: %s",
+                            cwtToken
+                    )
+            );
+        }
+    }
+
+
+    /**
+     * Returns the COSE algorithm identifier (RFC 9053 and RFC 8812) of the given {@link TokenSignatureAlgorithm}.
+     *
+     * @param signatureAlgorithm
+     *    {@link TokenSignatureAlgorithm} to convert
+     *
+     * @return COSE algorithm identifier
+     */
+    static int coseAlgorithm(final TokenSignatureAlgorithm signatureAlgorithm) {
+        return switch (signatureAlgorithm) {
+            case ED25519 -> -8;
+            case ES256 -> -7;
+            case ES384 -> -35;
+            case ES512 -> -36;
+            case HS256 -> 5;
+            case HS384 -> 6;
+            case HS512 -> 7;
+            case RS256 -> -257;
+            case RS384 -> -258;
+            case RS512 -> -259;
+        };
+    }
+
+
+    private static boolean isMac(final TokenSignatureAlgorithm signatureAlgorithm) {
+        return switch (signatureAlgorithm) {
+            case HS256, HS384, HS512 -> true;
+            default -> false;
+        };
+    }
+
+
+    private static byte[] encodeProtectedHeader(final TokenSignatureAlgorithm signatureAlgorithm) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (CBORGenerator generator = CBOR_MAPPER.getFactory().createGenerator(output)) {
+            generator.writeStartObject(null, 1);
+            generator.writeFieldId(COSE_HEADER_ALGORITHM);
+            generator.writeNumber(
+                    coseAlgorithm(signatureAlgorithm)
+            );
+            generator.writeEndObject();
+        }
+        return output.toByteArray();
+    }
+
+
+    /**
+     * Returns the CBOR encoded {@code Sig_structure} or {@code MAC_structure} (RFC 9052) to sign.
+     */
+    private static byte[] encodeToBeSigned(final TokenSignatureAlgorithm signatureAlgorithm,
+                                           final byte[] protectedHeader,
+                                           final byte[] payload) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (CBORGenerator generator = CBOR_MAPPER.getFactory().createGenerator(output)) {
+            generator.writeStartArray(null, 4);
+            generator.writeString(
+                    isMac(signatureAlgorithm)
+                            ? COSE_MAC0_CONTEXT
+                            : COSE_SIGN1_CONTEXT
+            );
+            generator.writeBinary(protectedHeader);
+            generator.writeBinary(EMPTY_EXTERNAL_AAD);
+            generator.writeBinary(payload);
+            generator.writeEndArray();
+        }
+        return output.toByteArray();
+    }
+
+
+    private static byte[] encodeClaims(final Map<String, Object> informationToInclude,
+                                       final long expirationTimeInSeconds) throws IOException {
+        Map<String, Object> claims = new LinkedHashMap<>();
+        if (null != informationToInclude) {
+            claims.putAll(informationToInclude);
+        }
+        Instant now = Instant.now();
+        claims.put(
+                ISSUED_AT.getKey(),
+                now.getEpochSecond()
+        );
+        claims.put(
+                EXPIRATION_TIME.getKey(),
+                now.plusSeconds(expirationTimeInSeconds).getEpochSecond()
+        );
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (CBORGenerator generator = CBOR_MAPPER.getFactory().createGenerator(output)) {
+            generator.writeStartObject(null, claims.size());
+            for (Map.Entry<String, Object> claim : claims.entrySet()) {
+                Optional<TokenKey> tokenKey = TokenKey.getByKey(
+                        claim.getKey()
+                );
+                if (tokenKey.isPresent()) {
+                    generator.writeFieldId(
+                            tokenKey.get().getCwtKey()
+                    );
+                } else {
+                    generator.writeFieldName(
+                            claim.getKey()
+                    );
+                }
+                if (JWT_ID.getKey().equals(claim.getKey()) && null != claim.getValue()) {
+                    generator.writeBinary(
+                            claim.getValue().toString().getBytes(StandardCharsets.UTF_8)
+                    );
+                } else if (claim.getValue() instanceof Date date) {
+                    generator.writeNumber(
+                            date.toInstant().getEpochSecond()
+                    );
+                } else {
+                    generator.writeObject(
+                            claim.getValue()
+                    );
+                }
+            }
+            generator.writeEndObject();
+        }
+        return output.toByteArray();
+    }
+
+
+    private static Map<String, Object> decodeClaims(final byte[] payload) throws IOException {
+        Map<String, Object> rawClaims = CBOR_MAPPER.readValue(
+                payload,
+                CBOR_MAPPER.getTypeFactory().constructMapType(LinkedHashMap.class, String.class, Object.class)
+        );
+        Map<String, Object> claims = new LinkedHashMap<>(rawClaims.size());
+        rawClaims.forEach((k, v) -> {
+            // The integer keys are returned as their text representation
+            String key = toInteger(k)
+                    .flatMap(TokenKey::getByCwtKey)
+                    .map(TokenKey::getKey)
+                    .orElse(k);
+
+            Object value = v;
+            if (JWT_ID.getKey().equals(key) && v instanceof byte[] bytes) {
+                value = new String(bytes, StandardCharsets.UTF_8);
+            } else if ((EXPIRATION_TIME.getKey().equals(key) || ISSUED_AT.getKey().equals(key)) && v instanceof Number seconds) {
+                value = Date.from(
+                        Instant.ofEpochSecond(
+                                seconds.longValue()
+                        )
+                );
+            }
+            claims.put(key, value);
+        });
+        return claims;
+    }
+
+
+    private static Integer decodeProtectedAlgorithm(final byte[] protectedHeader) throws IOException {
+        Map<String, Object> header = CBOR_MAPPER.readValue(
+                protectedHeader,
+                CBOR_MAPPER.getTypeFactory().constructMapType(LinkedHashMap.class, String.class, Object.class)
+        );
+        return ofNullable(header.get(String.valueOf(COSE_HEADER_ALGORITHM)))
+                .filter(Number.class::isInstance)
+                .map(alg -> ((Number) alg).intValue())
+                .orElse(null);
+    }
+
+
+    private static CoseMessage decodeCoseMessage(final String cwtToken) {
+        try (CBORParser parser = CBOR_MAPPER.getFactory().createParser(Base64.getUrlDecoder().decode(cwtToken))) {
+            if (JsonToken.START_ARRAY != parser.nextToken()) {
+                throw new IllegalArgumentException("COSE message must be an array");
+            }
+            final int tag = parser.getCurrentTag();
+            final byte[] protectedHeader = nextBinary(parser);
+            if (JsonToken.START_OBJECT != parser.nextToken()) {
+                throw new IllegalArgumentException("COSE unprotected header must be a map");
+            }
+            parser.skipChildren();
+            final byte[] payload = nextBinary(parser);
+            final byte[] signature = nextBinary(parser);
+            if (JsonToken.END_ARRAY != parser.nextToken()) {
+                throw new IllegalArgumentException("COSE message must contain 4 elements");
+            }
+            return new CoseMessage(
+                    tag,
+                    protectedHeader,
+                    payload,
+                    signature
+            );
+
+        } catch (Exception e) {
+            throw new TokenInvalidException(
+                    format("The token: %s is not a CWT one. %s",
+                            cwtToken,
+                            getFormattedRootError(e)
+                    ),
+                    e
+            );
+        }
+    }
+
+
+    private static byte[] nextBinary(final CBORParser parser) throws IOException {
+        if (JsonToken.VALUE_EMBEDDED_OBJECT != parser.nextToken()) {
+            throw new IllegalArgumentException("Expected a byte string in the COSE message");
+        }
+        return parser.getBinaryValue();
+    }
+
+
+    private static Optional<Integer> toInteger(final String key) {
+        try {
+            return Optional.of(
+                    Integer.valueOf(key)
+            );
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+
+    /**
+     * Method used to avoid nested {@link TokenException}s with very similar error messages.
+     *
+     * @param sourceException
+     *    Original {@link Exception} to check
+     * @param errorMessageIfNoTokenException
+     *    {@link String} with the error message to include in the returned {@link Exception} if {@code sourceException}
+     *    is not a {@link TokenException} one
+     *
+     * @return {@link TokenException}
+     */
+    private static TokenException handleMultipleExceptions(final Exception sourceException,
+                                                           final String errorMessageIfNoTokenException) {
+        if (sourceException instanceof TokenException) {
+            return (TokenException) sourceException;
+        }
+        return new TokenException(
+                format("%s. %s",
+                        errorMessageIfNoTokenException,
+                        getFormattedRootError(
+                                sourceException
+                        )
+                ),
+                sourceException
+        );
+    }
+
+
+    /**
+     * Decoded elements of a COSE_Sign1 or COSE_Mac0 structure.
+     */
+    private record CoseMessage(int tag,
+                               byte[] protectedHeader,
+                               byte[] payload,
+                               byte[] signature) {
+    }
+
+}
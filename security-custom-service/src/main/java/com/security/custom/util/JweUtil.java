@@ -8,6 +8,8 @@ import com.nimbusds.jose.JWEDecrypter;
 import com.nimbusds.jose.JWEEncrypter;
 import com.nimbusds.jose.JWEHeader;
 import com.nimbusds.jose.JWEObject;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.Payload;
 import com.nimbusds.jose.util.Base64URL;
 import com.nimbusds.jose.util.JSONObjectUtils;
@@ -29,6 +31,7 @@ import lombok.extern.log4j.Log4j2;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 import static com.spring6microservices.common.core.functional.either.Either.left;
 import static com.spring6microservices.common.core.functional.either.Either.right;
@@ -46,6 +49,8 @@ import static java.util.stream.Collectors.toMap;
  * <ul>
  *   <li>{@link JweUtil#generateToken(String, TokenEncryptionAlgorithm, TokenEncryptionMethod, String)}</li>
  *   <li>{@link JweUtil#generateToken(Map, TokenEncryptionAlgorithm, TokenEncryptionMethod, String, TokenSignatureAlgorithm, String, long)}</li>
+ *   <li>{@link JweUtil#generateToken(String, TokenEncryptionAlgorithm, TokenEncryptionMethod, JWEEncrypter)}</li>
+ *   <li>{@link JweUtil#generateToken(Map, TokenEncryptionAlgorithm, TokenEncryptionMethod, JWEEncrypter, TokenSignatureAlgorithm, JWSSigner, long)}</li>
  * </ul>
  * <p>
  * Depending on selected {@link TokenEncryptionAlgorithm}, the expected value of encryption secrets will be different:
@@ -81,6 +86,7 @@ import static java.util.stream.Collectors.toMap;
  * In the <strong>methods used to decrypt tokens and extract their content</strong>:
  * <ul>
  *   <li>{@link JweUtil#getAllClaimsFromToken(String, String, String)}</li>
+ *   <li>{@link JweUtil#getAllClaimsFromToken(String, JWEDecrypter, JWSVerifier)}</li>
  *   <li>{@link JweUtil#getSafeAllClaimsFromToken(String, String, String)}</li>
  *   <li>{@link JweUtil#getPayloadKeys(String, String, String, Set)}</li>
  *   <li>{@link JweUtil#getPayloadExceptKeys(String, String, String, Set)}</li>
@@ -185,7 +191,48 @@ public class JweUtil {
                 jwsToken,
                 encryptionAlgorithm,
                 encryptionMethod,
-                encryptionSecret
+                getSuitableEncrypter(
+                        encryptionAlgorithm,
+                        encryptionSecret
+                )
+        );
+    }
+
+
+    /**
+     * Using the given {@code jwsToken} generates a valid JWE token (encrypted JWS).
+     *
+     * @apiNote
+     *    This method is useful when the {@link JWEEncrypter} is created only once and reused, avoiding to parse the
+     * encryption secret every time a new token is generated.
+     *
+     * @param jwsToken
+     *    JWS token to encrypt
+     * @param encryptionAlgorithm
+     *    {@link TokenEncryptionAlgorithm} used to encrypt the JWS token
+     * @param encryptionMethod
+     *    {@link TokenEncryptionMethod} used to encrypt the JWS token
+     * @param encrypter
+     *    {@link JWEEncrypter} used to encrypt the JWS token
+     *
+     * @return {@link String} with the JWE with {@code jwsToken} as nested one
+     *
+     * @throws IllegalArgumentException if {@code encryptionAlgorithm}, {@code encryptionMethod} or {@code encrypter} are {@code null}
+     * @throws TokenInvalidException it the given {@code jwsToken} is not a JWS one
+     * @throws TokenException if there was a problem generating the JWE token
+     */
+    public static String generateToken(final String jwsToken,
+                                       final TokenEncryptionAlgorithm encryptionAlgorithm,
+                                       final TokenEncryptionMethod encryptionMethod,
+                                       final JWEEncrypter encrypter) {
+        AssertUtil.notNull(encryptionAlgorithm, "encryptionAlgorithm must be not null");
+        AssertUtil.notNull(encryptionMethod, "encryptionMethod must be not null");
+        AssertUtil.notNull(encrypter, "encrypter must be not null");
+        return encryptJwsToken(
+                jwsToken,
+                encryptionAlgorithm,
+                encryptionMethod,
+                encrypter
         );
     }
 
@@ -240,6 +287,60 @@ public class JweUtil {
     }
 
 
+    /**
+     * Using the given {@code informationToInclude} generates a valid nested JWS inside JWE token (signed + encrypted JWT):
+     * <ul>
+     *   <li><strong>1.</strong> JWS token using provided: {@link TokenSignatureAlgorithm} and {@link JWSSigner}</li>
+     *   <li><strong>2.</strong> JWE token using provided: {@link TokenEncryptionAlgorithm}, {@link TokenEncryptionMethod} and {@link JWEEncrypter}</li>
+     * </ul>
+     *
+     * @apiNote
+     *    This method is useful when the {@link JWEEncrypter} and {@link JWSSigner} are created only once and reused,
+     * avoiding to parse the encryption and signature secrets every time a new token is generated.
+     *
+     * @param informationToInclude
+     *    {@link Map} with the information to include in the returned JWS token
+     * @param encryptionAlgorithm
+     *    {@link TokenEncryptionAlgorithm} used to encrypt the JWS token
+     * @param encryptionMethod
+     *    {@link TokenEncryptionMethod} used to encrypt the JWS token
+     * @param encrypter
+     *    {@link JWEEncrypter} used to encrypt the JWS token
+     * @param signatureAlgorithm
+     *    {@link TokenSignatureAlgorithm} used to sign the JWS token
+     * @param signer
+     *    {@link JWSSigner} used to sign the JWS token
+     * @param expirationTimeInSeconds
+     *    How many seconds the JWS token will be valid
+     *
+     * @return {@link String} with the JWE
+     *
+     * @throws IllegalArgumentException if {@code encryptionAlgorithm}, {@code encryptionMethod}, {@code encrypter},
+     *                                  {@code signatureAlgorithm} or {@code signer} are {@code null}
+     * @throws TokenException if there was a problem generating the JWE token
+     */
+    public static String generateToken(final Map<String, Object> informationToInclude,
+                                       final TokenEncryptionAlgorithm encryptionAlgorithm,
+                                       final TokenEncryptionMethod encryptionMethod,
+                                       final JWEEncrypter encrypter,
+                                       final TokenSignatureAlgorithm signatureAlgorithm,
+                                       final JWSSigner signer,
+                                       final long expirationTimeInSeconds) {
+        String jwsToken = JwsUtil.generateToken(
+                informationToInclude,
+                signatureAlgorithm,
+                signer,
+                expirationTimeInSeconds
+        );
+        return generateToken(
+                jwsToken,
+                encryptionAlgorithm,
+                encryptionMethod,
+                encrypter
+        );
+    }
+
+
     /**
      * Extracts from the given {@code jweToken} all the information included in the payload of the nested JWS one.
      *
@@ -266,7 +367,11 @@ public class JweUtil {
         AssertUtil.hasText(signatureSecret, "signatureSecret cannot be null or empty");
         String jwsToken = decryptJweToken(
                 jweToken,
-                encryptionSecret
+                encryptedJWT ->
+                        getSuitableDecrypter(
+                                encryptedJWT,
+                                encryptionSecret
+                        )
         );
         return JwsUtil.getAllClaimsFromToken(
                 jwsToken,
@@ -275,6 +380,45 @@ public class JweUtil {
     }
 
 
+    /**
+     * Extracts from the given {@code jweToken} all the information included in the payload of the nested JWS one.
+     *
+     * @apiNote
+     *    This method is useful when the {@link JWEDecrypter} and {@link JWSVerifier} are created only once and reused,
+     * avoiding to parse the encryption and signature secrets every time a token is verified.
+     *
+     * @param jweToken
+     *    JWE token to extract the required information
+     * @param decrypter
+     *    {@link JWEDecrypter} used to decrypt the JWE token
+     * @param verifier
+     *    {@link JWSVerifier} used to verify the signature of the nested JWS token
+     *
+     * @return {@link Map} of {@link String}-{@link Object} with contain of the payload of the nested JWS token inside {@code jweToken}
+     *
+     * @throws IllegalArgumentException if {@code jweToken} is {@code null} or empty, or {@code decrypter} or {@code verifier} are {@code null}
+     * @throws TokenInvalidException if {@code jweToken} is not a JWE or the nested JWS is not a signed token one or its
+     *                               signature does not match with {@code verifier}
+     * @throws TokenExpiredException if {@code jweToken} is valid but its nested JWS has expired
+     * @throws TokenException if there was a problem getting claims of {@code jweToken}
+     */
+    public static Map<String, Object> getAllClaimsFromToken(final String jweToken,
+                                                            final JWEDecrypter decrypter,
+                                                            final JWSVerifier verifier) {
+        AssertUtil.hasText(jweToken, "jweToken cannot be null or empty");
+        AssertUtil.notNull(decrypter, "decrypter cannot be null");
+        AssertUtil.notNull(verifier, "verifier cannot be null");
+        String jwsToken = decryptJweToken(
+                jweToken,
+                encryptedJWT -> decrypter
+        );
+        return JwsUtil.getAllClaimsFromToken(
+                jwsToken,
+                verifier
+        );
+    }
+
+
     /**
      *    Returns an {@link Right} with all the information included in the payload of the nested JWS token inside provided
      * {@code jwsToken}. {@link Left} with the {@link Exception} if there was an error trying to extract such payload.
@@ -472,8 +616,8 @@ public class JweUtil {
      *    {@link TokenEncryptionAlgorithm} used to encrypt the JWS token
      * @param encryptionMethod
      *    {@link TokenEncryptionMethod} used to encrypt the JWS token
-     * @param encryptionSecret
-     *    {@link String} used to encrypt the JWS token
+     * @param encrypter
+     *    {@link JWEEncrypter} used to encrypt the JWS token
      *
      * @return {@link String} with the JWE token
      *
@@ -483,7 +627,7 @@ public class JweUtil {
     private static String encryptJwsToken(final String jwsToken,
                                           final TokenEncryptionAlgorithm encryptionAlgorithm,
                                           final TokenEncryptionMethod encryptionMethod,
-                                          final String encryptionSecret) {
+                                          final JWEEncrypter encrypter) {
         try {
             if (!JwsUtil.isJwsToken(jwsToken)) {
                 throw new TokenInvalidException(
@@ -502,10 +646,7 @@ public class JweUtil {
                     new Payload(jwsToken)
             );
             jweObject.encrypt(
-                    getSuitableEncrypter(
-                            encryptionAlgorithm,
-                            encryptionSecret
-                    )
+                    encrypter
             );
             return jweObject.serialize();
 
@@ -523,12 +664,12 @@ public class JweUtil {
 
 
     /**
-     * Decrypts the given JWE token using provided {@code encryptionSecret} and returning the nested JWS token.
+     * Decrypts the given JWE token using the provided {@link JWEDecrypter} and returning the nested JWS token.
      *
      * @param jweToken
      *    {@link String} with the JWE token to decrypt
-     * @param encryptionSecret
-     *    {@link String} used to decrypt the JWE token
+     * @param decrypterProvider
+     *    {@link Function} used to get the {@link JWEDecrypter} of the parsed {@code jweToken}
      *
      * @return {@link String} with the JWS nested token
      *
@@ -536,7 +677,7 @@ public class JweUtil {
      * @throws TokenException it there was a problem decrypting {@code jweToken}
      */
     private static String decryptJweToken(final String jweToken,
-                                          final String encryptionSecret) {
+                                          final Function<EncryptedJWT, JWEDecrypter> decrypterProvider) {
         try {
             if (!isJweToken(jweToken)) {
                 throw new TokenInvalidException(
@@ -547,9 +688,8 @@ public class JweUtil {
             }
             EncryptedJWT encryptedJWT = EncryptedJWT.parse(jweToken);
             encryptedJWT.decrypt(
-                    getSuitableDecrypter(
-                            encryptedJWT,
-                            encryptionSecret
+                    decrypterProvider.apply(
+                            encryptedJWT
                     )
             );
             return encryptedJWT.getPayload()
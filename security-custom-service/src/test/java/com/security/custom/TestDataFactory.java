@@ -183,17 +183,44 @@ public class TestDataFactory {
     public static ClearCacheRequestDto buildClearCacheRequestDto(final boolean applicationClientDetails,
                                                                  final boolean applicationUserBlackList,
                                                                  final boolean authenticationRequestDetails) {
+        return buildClearCacheRequestDto(
+                applicationClientDetails,
+                applicationUserBlackList,
+                authenticationRequestDetails,
+                false
+        );
+    }
+
+
+    public static ClearCacheRequestDto buildClearCacheRequestDto(final boolean applicationClientDetails,
+                                                                 final boolean applicationUserBlackList,
+                                                                 final boolean authenticationRequestDetails,
+                                                                 final boolean revokedToken) {
         return new ClearCacheRequestDto(
                 applicationClientDetails,
                 applicationUserBlackList,
-                authenticationRequestDetails
+                authenticationRequestDetails,
+                revokedToken
         );
     }
 
 
     public static LogoutRequestDto buildLogoutRequestDto(final String username) {
+        return buildLogoutRequestDto(
+                username,
+                null,
+                null
+        );
+    }
+
+
+    public static LogoutRequestDto buildLogoutRequestDto(final String username,
+                                                         final String accessToken,
+                                                         final String refreshToken) {
         return new LogoutRequestDto(
-                username
+                username,
+                accessToken,
+                refreshToken
         );
     }
 
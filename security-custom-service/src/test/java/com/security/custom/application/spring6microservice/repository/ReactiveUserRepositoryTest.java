@@ -0,0 +1,107 @@
+package com.security.custom.application.spring6microservice.repository;
+
+import com.security.custom.application.spring6microservice.model.enums.PermissionEnum;
+import com.security.custom.application.spring6microservice.model.enums.RoleEnum;
+import com.security.custom.application.spring6microservice.model.Role;
+import com.security.custom.application.spring6microservice.model.User;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.samePropertyValuesAs;
+
+@DataR2dbcTest
+@Import(
+        ReactiveUserRepository.class
+)
+public class ReactiveUserRepositoryTest {
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @Autowired
+    private ReactiveUserRepository repository;
+
+
+    @BeforeEach
+    public void init() {
+        new ResourceDatabasePopulator(
+                new ClassPathResource("db/security_schema.sql"),
+                new ClassPathResource("db/spring6microservice_security.sql")
+        )
+        .populate(connectionFactory)
+        .block();
+    }
+
+
+    static Stream<Arguments> findByUsernameTestCases() {
+        Role role = new Role(
+                1,
+                RoleEnum.ROLE_ADMIN.name()
+        );
+        Arrays.stream(
+                PermissionEnum.values()
+        ).forEach(
+                role::addPermission
+        );
+        User existingUser = User.builder()
+                .id(1L)
+                .name("Test user name")
+                .username("Test user username")
+                .password("Test user password")
+                .active(true)
+                .roles(
+                        Set.of(
+                                role
+                        )
+                )
+                .build();
+
+        return Stream.of(
+                //@formatter:off
+                //            username,                     expectedResult
+                Arguments.of( null,                         null ),
+                Arguments.of( "ItDoesNotExist",             null ),
+                Arguments.of( existingUser.getUsername(),   existingUser )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("findByUsernameTestCases")
+    @DisplayName("findByUsername: test cases")
+    public void findByUsername_testCases(String username,
+                                         User expectedResult) {
+        if (null == expectedResult) {
+            StepVerifier.create(repository.findByUsername(username))
+                    .verifyComplete();
+        }
+        else {
+            StepVerifier.create(repository.findByUsername(username))
+                    .assertNext(result ->
+                            assertThat(
+                                    result,
+                                    samePropertyValuesAs(
+                                            expectedResult,
+                                            "createdAt"
+                                    )
+                            )
+                    )
+                    .verifyComplete();
+        }
+    }
+
+}
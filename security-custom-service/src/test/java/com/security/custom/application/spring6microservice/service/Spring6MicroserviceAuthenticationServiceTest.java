@@ -4,6 +4,7 @@ import com.security.custom.application.spring6microservice.model.enums.Permissio
 import com.security.custom.application.spring6microservice.model.enums.RoleEnum;
 import com.security.custom.application.spring6microservice.model.Role;
 import com.security.custom.application.spring6microservice.model.User;
+import com.security.custom.application.spring6microservice.repository.ReactiveUserRepository;
 import com.security.custom.application.spring6microservice.repository.UserRepository;
 import com.security.custom.dto.RawAuthenticationInformationDto;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +21,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.util.HashSet;
 import java.util.List;
@@ -47,6 +50,9 @@ public class Spring6MicroserviceAuthenticationServiceTest {
     @Mock
     private UserRepository mockUserRepository;
 
+    @Mock
+    private ReactiveUserRepository mockReactiveUserRepository;
+
     @Mock
     private PasswordEncoder mockPasswordEncoder;
 
@@ -57,6 +63,7 @@ public class Spring6MicroserviceAuthenticationServiceTest {
     public void init() {
         service = new Spring6MicroserviceAuthenticationService(
                 mockUserRepository,
+                mockReactiveUserRepository,
                 mockPasswordEncoder
         );
     }
@@ -144,6 +151,50 @@ public class Spring6MicroserviceAuthenticationServiceTest {
     }
 
 
+    static Stream<Arguments> findByUsernameTestCases() {
+        User inactiveUser = User.builder()
+                .username("inactiveUser")
+                .active(false)
+                .build();
+        User activeUser = User.builder()
+                .username("activeUser")
+                .active(true)
+                .build();
+        return Stream.of(
+                //@formatter:off
+                //            username,                     repositoryResult,           expectedException,                 expectedResult
+                Arguments.of( null,                         Mono.empty(),               UsernameNotFoundException.class,   null ),
+                Arguments.of( "NotFound",                   Mono.empty(),               UsernameNotFoundException.class,   null ),
+                Arguments.of( inactiveUser.getUsername(),   Mono.just(inactiveUser),    LockedException.class,             null ),
+                Arguments.of( activeUser.getUsername(),     Mono.just(activeUser),      null,                              activeUser )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("findByUsernameTestCases")
+    @DisplayName("findByUsername: test cases")
+    public void findByUsername_testCases(String username,
+                                         Mono<User> repositoryResult,
+                                         Class<? extends Exception> expectedException,
+                                         UserDetails expectedResult) {
+        when(mockReactiveUserRepository.findByUsername(username))
+                .thenReturn(
+                        repositoryResult
+                );
+
+        if (null != expectedException) {
+            StepVerifier.create(service.findByUsername(username))
+                    .expectError(expectedException)
+                    .verify();
+        }
+        else {
+            StepVerifier.create(service.findByUsername(username))
+                    .expectNext(expectedResult)
+                    .verifyComplete();
+        }
+    }
+
+
     static Stream<Arguments> isValidPasswordTestCases() {
         return Stream.of(
                 //@formatter:off
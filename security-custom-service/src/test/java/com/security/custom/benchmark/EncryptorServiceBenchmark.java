@@ -0,0 +1,89 @@
+package com.security.custom.benchmark;
+
+import com.security.custom.service.EncryptorService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ *    Per token cost of {@link EncryptorService#encrypt(String, String)} and {@link EncryptorService#decrypt(String, String)},
+ * comparing the versioned format (key derived only once) with the legacy one (key derived in every invocation).
+ * <p>
+ *    The legacy encryption is not available anymore, but it ran the same PBKDF2 derivation than the legacy decryption,
+ * so {@link EncryptorServiceBenchmark#legacyDecrypt()} is also a good reference of its cost.
+ * <p>
+ *    Throughput and latency percentiles are reported by the measured modes, and the allocation rate by the GC profiler
+ * included by {@link EncryptorServiceBenchmark#main(String[])}.
+ * <p>
+ * Usage: {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.security.custom.benchmark.EncryptorServiceBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncryptorServiceBenchmark {
+
+    private static final String PASSWORD = "23Rhf(@_2-Poas";
+
+    private static final String LEGACY_ENCRYPTED_TEXT = "SGB2pnNj1NUZ7IKV6RpEes/cv76rwV/0fNopGgnIuVeyuy1wdOomylv4i0geFJBHQe0B4VAyjcWGD6gpCEtszrGwcDiu1w==";
+
+    private static final String TEXT_TO_ENCRYPT = "Raw information to encrypt";
+
+    private EncryptorService encryptorService;
+
+    private String versionedEncryptedText;
+
+
+    @Setup
+    public void setup() throws Exception {
+        encryptorService = new EncryptorService(null);
+        versionedEncryptedText = encryptorService.encrypt(
+                TEXT_TO_ENCRYPT,
+                PASSWORD
+        );
+    }
+
+
+    @Benchmark
+    public String versionedEncrypt() throws Exception {
+        return encryptorService.encrypt(
+                TEXT_TO_ENCRYPT,
+                PASSWORD
+        );
+    }
+
+
+    @Benchmark
+    public String versionedDecrypt() throws Exception {
+        return encryptorService.decrypt(
+                versionedEncryptedText,
+                PASSWORD
+        );
+    }
+
+
+    @Benchmark
+    public String legacyDecrypt() throws Exception {
+        return encryptorService.decrypt(
+                LEGACY_ENCRYPTED_TEXT,
+                PASSWORD
+        );
+    }
+
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkFixtures.run(EncryptorServiceBenchmark.class);
+    }
+
+}
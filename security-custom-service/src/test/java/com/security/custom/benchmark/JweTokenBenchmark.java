@@ -0,0 +1,107 @@
+package com.security.custom.benchmark;
+
+import com.security.custom.enums.token.TokenEncryptionAlgorithm;
+import com.security.custom.enums.token.TokenEncryptionMethod;
+import com.security.custom.enums.token.TokenSignatureAlgorithm;
+import com.security.custom.enums.token.TokenType;
+import com.security.custom.interfaces.ITokenTypeProvider;
+import com.security.custom.model.ApplicationClientDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *    Cost of {@link ITokenTypeProvider#generateToken(ApplicationClientDetails, Map, int)} and
+ * {@link ITokenTypeProvider#getPayloadOfToken(ApplicationClientDetails, String)} of the encrypted tokens: {@link TokenType#JWE}
+ * and {@link TokenType#ENCRYPTED_JWE}, with every {@link TokenEncryptionAlgorithm} and {@link TokenEncryptionMethod}.
+ * <p>
+ *    The nested JWS is signed using {@link JweTokenBenchmark#signatureAlgorithm}, whose cost is measured in
+ * {@link JwsTokenBenchmark}, so only one is included by default. Others can be added with: {@code -p signatureAlgorithm=RS256}
+ * <p>
+ *    {@link TokenEncryptionMethod#XC20P} is not supported by the ECDH-1PU algorithms, so it is not included by default.
+ * It can be measured with: {@code -p encryptionMethod=XC20P -p encryptionAlgorithm=DIR,RSA_OAEP_256,RSA_OAEP_384,RSA_OAEP_512}
+ * <p>
+ *    Throughput and latency percentiles are reported by the measured modes, and the allocation rate by the GC profiler
+ * included by {@link JweTokenBenchmark#main(String[])}.
+ * <p>
+ * Usage: {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.security.custom.benchmark.JweTokenBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JweTokenBenchmark {
+
+    @Param({ "JWE", "ENCRYPTED_JWE" })
+    private TokenType tokenType;
+
+    @Param({ "DIR", "ECDH_1PU_A128KW", "ECDH_1PU_A192KW", "ECDH_1PU_A256KW", "RSA_OAEP_256", "RSA_OAEP_384", "RSA_OAEP_512" })
+    private TokenEncryptionAlgorithm encryptionAlgorithm;
+
+    @Param({ "A128CBC_HS256", "A192CBC_HS384", "A256CBC_HS512" })
+    private TokenEncryptionMethod encryptionMethod;
+
+    @Param({ "HS256" })
+    private TokenSignatureAlgorithm signatureAlgorithm;
+
+    private ITokenTypeProvider tokenTypeProvider;
+
+    private ApplicationClientDetails applicationClientDetails;
+
+    private Map<String, Object> informationToInclude;
+
+    private String token;
+
+
+    @Setup
+    public void setup() {
+        tokenTypeProvider = BenchmarkFixtures.tokenTypeProviders()
+                .get(tokenType);
+        applicationClientDetails = BenchmarkFixtures.applicationClientDetails(
+                tokenType,
+                signatureAlgorithm,
+                encryptionAlgorithm,
+                encryptionMethod
+        );
+        informationToInclude = BenchmarkFixtures.informationToInclude();
+        token = generateToken();
+    }
+
+
+    @Benchmark
+    public String generateToken() {
+        return tokenTypeProvider.generateToken(
+                applicationClientDetails,
+                informationToInclude,
+                applicationClientDetails.getAccessTokenValidityInSeconds()
+        );
+    }
+
+
+    @Benchmark
+    public Map<String, Object> getPayloadOfToken() {
+        return tokenTypeProvider.getPayloadOfToken(
+                applicationClientDetails,
+                token
+        );
+    }
+
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkFixtures.run(JweTokenBenchmark.class);
+    }
+
+}
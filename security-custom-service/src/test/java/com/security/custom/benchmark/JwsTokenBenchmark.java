@@ -0,0 +1,96 @@
+package com.security.custom.benchmark;
+
+import com.security.custom.enums.token.TokenSignatureAlgorithm;
+import com.security.custom.enums.token.TokenType;
+import com.security.custom.interfaces.ITokenTypeProvider;
+import com.security.custom.model.ApplicationClientDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *    Cost of {@link ITokenTypeProvider#generateToken(ApplicationClientDetails, Map, int)} and
+ * {@link ITokenTypeProvider#getPayloadOfToken(ApplicationClientDetails, String)} of the signed tokens: {@link TokenType#JWS},
+ * {@link TokenType#ENCRYPTED_JWS} and {@link TokenType#CWT}, with every {@link TokenSignatureAlgorithm}.
+ * <p>
+ *    Throughput and latency percentiles are reported by the measured modes, and the allocation rate by the GC profiler
+ * included by {@link JwsTokenBenchmark#main(String[])}.
+ * <p>
+ *    To compare only the asymmetric algorithms used when the public key is shared with the resource servers, add:
+ * {@code -p signatureAlgorithm=ED25519,ES256,RS256}
+ * <p>
+ * Usage: {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.security.custom.benchmark.JwsTokenBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwsTokenBenchmark {
+
+    @Param({ "JWS", "ENCRYPTED_JWS", "CWT" })
+    private TokenType tokenType;
+
+    @Param({ "ED25519", "ES256", "ES384", "ES512", "HS256", "HS384", "HS512", "RS256", "RS384", "RS512" })
+    private TokenSignatureAlgorithm signatureAlgorithm;
+
+    private ITokenTypeProvider tokenTypeProvider;
+
+    private ApplicationClientDetails applicationClientDetails;
+
+    private Map<String, Object> informationToInclude;
+
+    private String token;
+
+
+    @Setup
+    public void setup() {
+        tokenTypeProvider = BenchmarkFixtures.tokenTypeProviders()
+                .get(tokenType);
+        applicationClientDetails = BenchmarkFixtures.applicationClientDetails(
+                tokenType,
+                signatureAlgorithm,
+                null,
+                null
+        );
+        informationToInclude = BenchmarkFixtures.informationToInclude();
+        token = generateToken();
+    }
+
+
+    @Benchmark
+    public String generateToken() {
+        return tokenTypeProvider.generateToken(
+                applicationClientDetails,
+                informationToInclude,
+                applicationClientDetails.getAccessTokenValidityInSeconds()
+        );
+    }
+
+
+    @Benchmark
+    public Map<String, Object> getPayloadOfToken() {
+        return tokenTypeProvider.getPayloadOfToken(
+                applicationClientDetails,
+                token
+        );
+    }
+
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkFixtures.run(JwsTokenBenchmark.class);
+    }
+
+}
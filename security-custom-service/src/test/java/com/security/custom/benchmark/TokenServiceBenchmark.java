@@ -0,0 +1,90 @@
+package com.security.custom.benchmark;
+
+import com.security.custom.dto.RawAuthenticationInformationDto;
+import com.security.custom.enums.token.TokenEncryptionAlgorithm;
+import com.security.custom.enums.token.TokenEncryptionMethod;
+import com.security.custom.enums.token.TokenSignatureAlgorithm;
+import com.security.custom.enums.token.TokenType;
+import com.security.custom.model.ApplicationClientDetails;
+import com.security.custom.service.token.TokenService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *    Cost of {@link TokenService#createAccessToken(ApplicationClientDetails, RawAuthenticationInformationDto, String)}
+ * with the configuration of the existing application clients, including the merge of the default data and the lookup
+ * of the suitable provider.
+ * <p>
+ *    Throughput and latency percentiles are reported by the measured modes, and the allocation rate by the GC profiler
+ * included by {@link TokenServiceBenchmark#main(String[])}.
+ * <p>
+ * Usage: {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.security.custom.benchmark.TokenServiceBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenServiceBenchmark {
+
+    @Param({ "JWS", "JWE", "ENCRYPTED_JWS", "ENCRYPTED_JWE", "CWT" })
+    private TokenType tokenType;
+
+    private TokenService tokenService;
+
+    private ApplicationClientDetails applicationClientDetails;
+
+    private RawAuthenticationInformationDto rawAuthenticationInformation;
+
+
+    @Setup
+    public void setup() {
+        tokenService = BenchmarkFixtures.tokenService();
+        boolean isJwe = TokenType.JWE == tokenType || TokenType.ENCRYPTED_JWE == tokenType;
+        applicationClientDetails = BenchmarkFixtures.applicationClientDetails(
+                tokenType,
+                TokenSignatureAlgorithm.HS256,
+                isJwe
+                        ? TokenEncryptionAlgorithm.DIR
+                        : null,
+                isJwe
+                        ? TokenEncryptionMethod.A128CBC_HS256
+                        : null
+        );
+        Map<String, Object> informationToInclude = BenchmarkFixtures.informationToInclude();
+        rawAuthenticationInformation = RawAuthenticationInformationDto.builder()
+                .accessAuthenticationInformation(informationToInclude)
+                .refreshAuthenticationInformation(informationToInclude)
+                .additionalAuthenticationInformation(Map.of())
+                .build();
+    }
+
+
+    @Benchmark
+    public String createAccessToken() {
+        return tokenService.createAccessToken(
+                applicationClientDetails,
+                rawAuthenticationInformation,
+                null
+        );
+    }
+
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkFixtures.run(TokenServiceBenchmark.class);
+    }
+
+}
@@ -0,0 +1,583 @@
+package com.security.custom.configuration.cache;
+
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.security.custom.application.spring6microservice.model.User;
+import com.security.custom.application.spring6microservice.model.enums.RoleEnum;
+import com.security.custom.application.spring6microservice.service.Spring6MicroserviceAuthenticationService;
+import com.security.custom.configuration.cache.CacheClusterConfiguration.DiscoveryType;
+import com.security.custom.dto.AuthenticationRequestLoginTokenDto;
+import com.security.custom.dto.RawAuthenticationInformationDto;
+import com.security.custom.enums.SecurityHandler;
+import com.security.custom.enums.token.TokenKey;
+import com.security.custom.exception.AuthenticationRequestDetailsNotFoundException;
+import com.security.custom.interfaces.IApplicationClientAuthenticationService;
+import com.security.custom.model.ApplicationClientDetails;
+import com.security.custom.service.ApplicationClientCryptoContextService;
+import com.security.custom.service.ApplicationClientDetailsService;
+import com.security.custom.service.ApplicationUserBlackListService;
+import com.security.custom.service.AuthenticationRequestDetailsService;
+import com.security.custom.service.AuthenticationService;
+import com.security.custom.service.AuthorizationService;
+import com.security.custom.service.cache.ApplicationClientCredentialsCacheService;
+import com.security.custom.service.cache.ApplicationUserBlackListCacheService;
+import com.security.custom.service.cache.ApplicationUserBlackListFilterService;
+import com.security.custom.service.cache.AuthenticationRequestDetailsCacheService;
+import com.security.custom.service.cache.LocalCacheInvalidationService;
+import com.security.custom.service.cache.RevokedTokenCacheService;
+import com.security.custom.service.cache.VerifiedAccessTokenCacheService;
+import com.security.custom.service.token.TokenService;
+import com.spring6microservices.common.spring.cache.TwoLevelCacheManager;
+import com.spring6microservices.common.spring.dto.AuthenticationInformationAuthorizationCodeDto;
+import com.spring6microservices.common.spring.dto.AuthenticationInformationDto;
+import com.spring6microservices.common.spring.enums.HashAlgorithm;
+import com.spring6microservices.common.spring.service.CacheService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static com.security.custom.TestDataFactory.buildApplicationClientDetailsJWE;
+import static com.security.custom.TestDataFactory.buildAuthenticationInformationDto;
+import static com.security.custom.TestDataFactory.buildAuthenticationRequestLoginAuthorizedDto;
+import static com.security.custom.TestDataFactory.buildAuthenticationRequestLoginTokenDto;
+import static com.security.custom.TestDataFactory.buildAuthorizationInformationDto;
+import static com.security.custom.TestDataFactory.buildRawAuthenticationInformationDto;
+import static com.security.custom.TestDataFactory.buildUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class CacheConfigurationTest {
+
+    private static final String FIRST_MEMBER = "CacheConfigurationTestFirstMember";
+
+    private static final String SECOND_MEMBER = "CacheConfigurationTestSecondMember";
+
+    private static final int PORT = 5801;
+
+    @Mock
+    private ApplicationClientDetailsCacheConfiguration mockApplicationClientDetailsCacheConfiguration;
+
+    @Mock
+    private ApplicationUserBlackListCacheConfiguration mockApplicationUserBlackListCacheConfiguration;
+
+    @Mock
+    private AuthenticationRequestDetailsCacheConfiguration mockAuthenticationRequestDetailsCacheConfiguration;
+
+    @Mock
+    private RevokedTokenCacheConfiguration mockRevokedTokenCacheConfiguration;
+
+    @Mock
+    private VerifiedAccessTokenCacheConfiguration mockVerifiedAccessTokenCacheConfiguration;
+
+    @Mock
+    private CacheClusterConfiguration mockCacheClusterConfiguration;
+
+    @Mock
+    private ObjectProvider<DiscoveryClient> mockDiscoveryClient;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> mockMeterRegistry;
+
+    @Mock
+    private ApplicationContext mockApplicationContext;
+
+    @Mock
+    private ApplicationClientDetailsService mockApplicationClientDetailsService;
+
+    @Mock
+    private ApplicationUserBlackListService mockApplicationUserBlackListService;
+
+    @Mock
+    private AuthorizationService mockAuthorizationService;
+
+    @Mock
+    private TokenService mockTokenService;
+
+    @Mock
+    private Spring6MicroserviceAuthenticationService mockAuthenticationService;
+
+    private CacheConfiguration cacheConfiguration;
+
+
+    @BeforeEach
+    public void init() {
+        when(mockApplicationClientDetailsCacheConfiguration.getCacheName())
+                .thenReturn(
+                        "CacheConfigurationTestApplicationClientDetails"
+                );
+        when(mockApplicationUserBlackListCacheConfiguration.getCacheName())
+                .thenReturn(
+                        "CacheConfigurationTestApplicationUserBlackList"
+                );
+        when(mockAuthenticationRequestDetailsCacheConfiguration.getCacheName())
+                .thenReturn(
+                        "CacheConfigurationTestAuthenticationRequestDetails"
+                );
+        when(mockAuthenticationRequestDetailsCacheConfiguration.getCacheBackupCount())
+                .thenReturn(
+                        1
+                );
+        when(mockAuthenticationRequestDetailsCacheConfiguration.getCacheExpireInSeconds())
+                .thenReturn(
+                        600
+                );
+        when(mockRevokedTokenCacheConfiguration.getCacheName())
+                .thenReturn(
+                        "CacheConfigurationTestRevokedToken"
+                );
+        when(mockCacheClusterConfiguration.getDiscovery())
+                .thenReturn(
+                        DiscoveryType.TCP_IP
+                );
+        when(mockCacheClusterConfiguration.getMembers())
+                .thenReturn(
+                        List.of("127.0.0.1:" + PORT, " 127.0.0.1:" + (PORT + 1))
+                );
+        when(mockCacheClusterConfiguration.getName())
+                .thenReturn(
+                        "CacheConfigurationTest"
+                );
+        when(mockCacheClusterConfiguration.getPort())
+                .thenReturn(
+                        PORT
+                );
+        when(mockMeterRegistry.getIfAvailable(any()))
+                .thenReturn(
+                        new SimpleMeterRegistry()
+                );
+        cacheConfiguration = new CacheConfiguration(
+                mockApplicationClientDetailsCacheConfiguration,
+                mockApplicationUserBlackListCacheConfiguration,
+                mockAuthenticationRequestDetailsCacheConfiguration,
+                mockRevokedTokenCacheConfiguration,
+                mockCacheClusterConfiguration,
+                mockDiscoveryClient
+        );
+    }
+
+
+    @AfterEach
+    public void shutdown() {
+        for (String member : List.of(FIRST_MEMBER, SECOND_MEMBER)) {
+            HazelcastInstance instance = Hazelcast.getHazelcastInstanceByName(member);
+            if (null != instance) {
+                instance.shutdown();
+            }
+        }
+    }
+
+
+    @Test
+    @DisplayName("cacheManager: when TCP-IP discovery is used then the login started in one member is finished in the other one")
+    public void cacheManager_whenTcpIpDiscoveryIsUsed_thenLoginStartedInOneMemberIsFinishedInTheOtherOne() {
+        String applicationClientId = SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId();
+        String username = "username value";
+        String password = "password value";
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWE(applicationClientId);
+        User user = buildUser(username, password, true);
+        RawAuthenticationInformationDto rawAuthenticationInformation = buildRawAuthenticationInformationDto(
+                username,
+                List.of(
+                        RoleEnum.ROLE_ADMIN.name()
+                )
+        );
+        AuthenticationInformationDto expectedResult = buildAuthenticationInformationDto("11");
+
+        when(mockApplicationContext.getBean(ArgumentMatchers.<Class<IApplicationClientAuthenticationService>>any()))
+                .thenReturn(
+                        mockAuthenticationService
+                );
+        when(mockApplicationClientDetailsService.findById(eq(applicationClientId)))
+                .thenReturn(
+                        applicationClientDetails
+                );
+        when(mockAuthenticationService.loadUserByUsername(eq(username)))
+                .thenReturn(
+                        user
+                );
+        when(mockAuthenticationService.isValidPassword(eq(password), eq(user)))
+                .thenReturn(
+                        true
+                );
+        when(mockAuthenticationService.getRawAuthenticationInformation(eq(user)))
+                .thenReturn(
+                        Optional.of(rawAuthenticationInformation)
+                );
+        when(mockTokenService.getNewIdentifier())
+                .thenReturn(
+                        expectedResult.getId()
+                );
+        when(mockTokenService.createAccessToken(eq(applicationClientDetails), eq(rawAuthenticationInformation), eq(expectedResult.getId())))
+                .thenReturn(
+                        expectedResult.getAccessToken()
+                );
+        when(mockTokenService.createRefreshToken(eq(applicationClientDetails), eq(rawAuthenticationInformation), eq(expectedResult.getId())))
+                .thenReturn(
+                        expectedResult.getRefreshToken()
+                );
+
+        AuthenticationService firstMember = buildAuthenticationService(
+                cacheConfiguration.cacheManager(
+                        cacheConfiguration.hazelcastInstance(FIRST_MEMBER)
+                )
+        );
+        AuthenticationService secondMember = buildAuthenticationService(
+                cacheConfiguration.cacheManager(
+                        cacheConfiguration.hazelcastInstance(SECOND_MEMBER)
+                )
+        );
+        assertEquals(
+                2,
+                Hazelcast.getHazelcastInstanceByName(FIRST_MEMBER)
+                        .getCluster()
+                        .getMembers()
+                        .size()
+        );
+
+        // First request of the PKCE flow in the first member
+        Optional<AuthenticationInformationAuthorizationCodeDto> authorizationCode = firstMember.loginAuthorized(
+                applicationClientId,
+                buildAuthenticationRequestLoginAuthorizedDto(
+                        // SHA-384 of the verifier
+                        "f58dd405627d81b1bb902a0dac75848e8f9bc937f1f2f0f111ac781ba2c187f24c2611772b1ffc7a02efb1935958d673",
+                        HashAlgorithm.SHA_384.getAlgorithm()
+                )
+        );
+        assertTrue(authorizationCode.isPresent());
+        AuthenticationRequestLoginTokenDto authenticationRequestLoginToken = buildAuthenticationRequestLoginTokenDto(
+                username,
+                password,
+                authorizationCode.get().getAuthorizationCode(),
+                "verifier value"
+        );
+
+        // Second one, exchanging the authorization code, in the second member
+        assertEquals(
+                Optional.of(expectedResult),
+                secondMember.loginToken(
+                        applicationClientId,
+                        authenticationRequestLoginToken
+                )
+        );
+
+        // The authorization code cannot be used again in any member
+        assertThrows(
+                AuthenticationRequestDetailsNotFoundException.class,
+                () -> firstMember.loginToken(
+                        applicationClientId,
+                        authenticationRequestLoginToken
+                )
+        );
+        assertThrows(
+                AuthenticationRequestDetailsNotFoundException.class,
+                () -> secondMember.loginToken(
+                        applicationClientId,
+                        authenticationRequestLoginToken
+                )
+        );
+    }
+
+
+    @Test
+    @DisplayName("hazelcastInstance: when it is used by the local filter of the blacklist then the filter is active")
+    public void hazelcastInstance_whenItIsUsedByTheLocalFilterOfTheBlacklist_thenTheFilterIsActive() {
+        when(mockCacheClusterConfiguration.getDiscovery())
+                .thenReturn(
+                        DiscoveryType.NONE
+                );
+        when(mockApplicationUserBlackListCacheConfiguration.getFilterExpectedEntries())
+                .thenReturn(
+                        100
+                );
+        when(mockApplicationUserBlackListCacheConfiguration.getFilterFalsePositiveProbability())
+                .thenReturn(
+                        0.01d
+                );
+        HazelcastInstance hazelcastInstance = cacheConfiguration.hazelcastInstance(FIRST_MEMBER);
+        ApplicationUserBlackListFilterService filterService = new ApplicationUserBlackListFilterService(
+                mockApplicationUserBlackListCacheConfiguration,
+                hazelcastInstance,
+                Schedulers.immediate()
+        );
+        ApplicationUserBlackListCacheService blackListCacheService = new ApplicationUserBlackListCacheService(
+                mockApplicationUserBlackListCacheConfiguration,
+                new CacheService(
+                        cacheConfiguration.cacheManager(
+                                hazelcastInstance
+                        ),
+                        mockMeterRegistry
+                ),
+                filterService
+        );
+        filterService.init();
+
+        assertTrue(
+                blackListCacheService.put(
+                        "Spring6Microservices",
+                        "blacklistedUser"
+                )
+        );
+
+        // Only the stored pair is a possible one, so the cache is not queried for the other ones
+        assertTrue(
+                filterService.mightContain("Spring6Microservices__blacklistedUser")
+        );
+        assertFalse(
+                filterService.mightContain("Spring6Microservices__user")
+        );
+        assertTrue(
+                blackListCacheService.contains(
+                        "Spring6Microservices",
+                        "blacklistedUser"
+                )
+        );
+        filterService.destroy();
+    }
+
+
+    @Test
+    @DisplayName("cacheManager: when a pair is blacklisted through the two level cache manager of one member then the local filter of the other one includes it")
+    public void cacheManager_whenAPairIsBlacklistedThroughTheTwoLevelCacheManagerOfOneMember_thenTheLocalFilterOfTheOtherOneIncludesIt() {
+        when(mockApplicationClientDetailsCacheConfiguration.isUseLocalCache())
+                .thenReturn(
+                        true
+                );
+        when(mockApplicationClientDetailsCacheConfiguration.getCacheEntryCapacity())
+                .thenReturn(
+                        100
+                );
+        when(mockApplicationClientDetailsCacheConfiguration.getCacheExpireInSeconds())
+                .thenReturn(
+                        60
+                );
+        when(mockApplicationUserBlackListCacheConfiguration.getFilterExpectedEntries())
+                .thenReturn(
+                        100
+                );
+        when(mockApplicationUserBlackListCacheConfiguration.getFilterFalsePositiveProbability())
+                .thenReturn(
+                        0.01d
+                );
+        HazelcastInstance firstHazelcastInstance = cacheConfiguration.hazelcastInstance(FIRST_MEMBER);
+        HazelcastInstance secondHazelcastInstance = cacheConfiguration.hazelcastInstance(SECOND_MEMBER);
+        CacheManager secondCacheManager = cacheConfiguration.cacheManager(secondHazelcastInstance);
+        assertInstanceOf(
+                TwoLevelCacheManager.class,
+                secondCacheManager
+        );
+        ApplicationUserBlackListFilterService firstFilterService = new ApplicationUserBlackListFilterService(
+                mockApplicationUserBlackListCacheConfiguration,
+                firstHazelcastInstance,
+                Schedulers.immediate()
+        );
+        firstFilterService.init();
+        assertFalse(
+                firstFilterService.mightContain("Spring6Microservices__blacklistedUser")
+        );
+
+        // Blacklisted in the second member
+        assertTrue(
+                new CacheService(
+                        secondCacheManager,
+                        mockMeterRegistry
+                ).put(
+                        "CacheConfigurationTestApplicationUserBlackList",
+                        "Spring6Microservices__blacklistedUser",
+                        true
+                )
+        );
+
+        assertEventually(() ->
+                firstFilterService.mightContain("Spring6Microservices__blacklistedUser")
+        );
+        firstFilterService.destroy();
+    }
+
+
+    @Test
+    @DisplayName("hazelcastInstance: when the local caches are cleared in one member then the verified access tokens of the other one are cleared too")
+    public void hazelcastInstance_whenTheLocalCachesAreClearedInOneMember_thenTheVerifiedAccessTokensOfTheOtherOneAreClearedToo() {
+        when(mockVerifiedAccessTokenCacheConfiguration.getCacheName())
+                .thenReturn(
+                        "CacheConfigurationTestVerifiedAccessToken"
+                );
+        when(mockVerifiedAccessTokenCacheConfiguration.getCacheEntryCapacity())
+                .thenReturn(
+                        100
+                );
+        when(mockVerifiedAccessTokenCacheConfiguration.getCacheExpireInSeconds())
+                .thenReturn(
+                        60
+                );
+        HazelcastInstance firstHazelcastInstance = cacheConfiguration.hazelcastInstance(FIRST_MEMBER);
+        HazelcastInstance secondHazelcastInstance = cacheConfiguration.hazelcastInstance(SECOND_MEMBER);
+        VerifiedAccessTokenCacheService secondVerifiedAccessTokenCacheService = new VerifiedAccessTokenCacheService(
+                mockVerifiedAccessTokenCacheConfiguration,
+                new SimpleMeterRegistry()
+        );
+        LocalCacheInvalidationService firstInvalidationService = new LocalCacheInvalidationService(
+                firstHazelcastInstance,
+                mock(ApplicationClientCryptoContextService.class),
+                mock(ApplicationClientCredentialsCacheService.class),
+                mock(VerifiedAccessTokenCacheService.class)
+        );
+        LocalCacheInvalidationService secondInvalidationService = new LocalCacheInvalidationService(
+                secondHazelcastInstance,
+                mock(ApplicationClientCryptoContextService.class),
+                mock(ApplicationClientCredentialsCacheService.class),
+                secondVerifiedAccessTokenCacheService
+        );
+        firstInvalidationService.init();
+        secondInvalidationService.init();
+        assertTrue(
+                secondVerifiedAccessTokenCacheService.put(
+                        "Spring6Microservices",
+                        "accessToken",
+                        new VerifiedAccessTokenCacheService.VerifiedAccessToken(
+                                buildAuthorizationInformationDto(
+                                        "username",
+                                        Set.of("ADMIN"),
+                                        Map.of()
+                                ),
+                                "accessTokenIdentifier",
+                                Instant.now().plusSeconds(60)
+                        )
+                )
+        );
+
+        firstInvalidationService.clear();
+
+        assertEventually(() ->
+                secondVerifiedAccessTokenCacheService.get("Spring6Microservices", "accessToken")
+                        .isEmpty()
+        );
+        firstInvalidationService.destroy();
+        secondInvalidationService.destroy();
+    }
+
+
+    @Test
+    @DisplayName("hazelcastInstance: when a burst of tokens is revoked then the previous revoked ones are not evicted and they expire after the longest token")
+    public void hazelcastInstance_whenABurstOfTokensIsRevoked_thenThePreviousRevokedOnesAreNotEvictedAndTheyExpireAfterTheLongestToken() {
+        when(mockCacheClusterConfiguration.getDiscovery())
+                .thenReturn(
+                        DiscoveryType.NONE
+                );
+        when(mockRevokedTokenCacheConfiguration.getBucketSizeInSeconds())
+                .thenReturn(
+                        300
+                );
+        when(mockRevokedTokenCacheConfiguration.getMaxTokenValidityInSeconds())
+                .thenReturn(
+                        3600
+                );
+        HazelcastInstance hazelcastInstance = cacheConfiguration.hazelcastInstance(FIRST_MEMBER);
+        RevokedTokenCacheService revokedTokenCacheService = new RevokedTokenCacheService(
+                mockRevokedTokenCacheConfiguration,
+                new CacheService(
+                        cacheConfiguration.cacheManager(
+                                hazelcastInstance
+                        ),
+                        mockMeterRegistry
+                )
+        );
+        Instant tokenExpiration = Instant.now()
+                .plusSeconds(60);
+
+        assertTrue(
+                revokedTokenCacheService.put(
+                        "Spring6Microservices",
+                        TokenKey.REFRESH_JWT_ID,
+                        "revokedTokenIdentifier",
+                        tokenExpiration
+                )
+        );
+        for (int i = 0; i < 5000; i++) {
+            revokedTokenCacheService.put(
+                    "Spring6Microservices",
+                    TokenKey.REFRESH_JWT_ID,
+                    "tokenIdentifier" + i,
+                    tokenExpiration
+            );
+        }
+
+        assertTrue(
+                revokedTokenCacheService.contains(
+                        "Spring6Microservices",
+                        TokenKey.REFRESH_JWT_ID,
+                        "revokedTokenIdentifier",
+                        tokenExpiration
+                )
+        );
+        assertEquals(
+                3600 + 300,
+                hazelcastInstance.getConfig()
+                        .getMapConfig("CacheConfigurationTestRevokedToken_0")
+                        .getTimeToLiveSeconds()
+        );
+    }
+
+
+    @SneakyThrows
+    private static void assertEventually(final Supplier<Boolean> condition) {
+        for (int i = 0; i < 100; i++) {
+            if (condition.get()) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        fail("The expected condition was not verified on time");
+    }
+
+
+    private AuthenticationService buildAuthenticationService(final CacheManager cacheManager) {
+        return new AuthenticationService(
+                mockApplicationContext,
+                mockApplicationClientDetailsService,
+                mockApplicationUserBlackListService,
+                new AuthenticationRequestDetailsService(
+                        new AuthenticationRequestDetailsCacheService(
+                                mockAuthenticationRequestDetailsCacheConfiguration,
+                                new CacheService(
+                                        cacheManager,
+                                        mockMeterRegistry
+                                )
+                        )
+                ),
+                mockAuthorizationService,
+                mockTokenService,
+                Schedulers.immediate(),
+                Schedulers.immediate()
+        );
+    }
+
+}
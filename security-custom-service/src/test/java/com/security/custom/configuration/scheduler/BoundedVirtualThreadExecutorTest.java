@@ -0,0 +1,148 @@
+package com.security.custom.configuration.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedVirtualThreadExecutorTest {
+
+    private static final int MAX_RUNNING_TASKS = 2;
+
+    private static final int MAX_QUEUED_TASKS = 1;
+
+    private AtomicInteger rejections;
+
+    private BoundedVirtualThreadExecutor executor;
+
+
+    @BeforeEach
+    public void init() {
+        rejections = new AtomicInteger();
+        executor = new BoundedVirtualThreadExecutor(
+                MAX_RUNNING_TASKS,
+                MAX_QUEUED_TASKS,
+                Thread.ofVirtual().name("virtualTest-", 0).factory(),
+                () -> {
+                    rejections.incrementAndGet();
+                    return new RejectedExecutionException("virtualTest is full");
+                }
+        );
+    }
+
+
+    @AfterEach
+    public void dispose() {
+        executor.shutdownNow();
+    }
+
+
+    @Test
+    @DisplayName("execute: when a task is accepted then it is run in a new virtual thread")
+    public void execute_whenTaskIsAccepted_thenItIsRunInNewVirtualThread() throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(2);
+        AtomicInteger virtualThreads = new AtomicInteger();
+        Runnable task = () -> {
+            if (Thread.currentThread().isVirtual() &&
+                    Thread.currentThread().getName().startsWith("virtualTest-")) {
+                virtualThreads.incrementAndGet();
+            }
+            finished.countDown();
+        };
+
+        executor.execute(task);
+        executor.execute(task);
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertEquals(2, virtualThreads.get());
+        assertEquals(0, rejections.get());
+    }
+
+
+    @Test
+    @DisplayName("execute: when the maximum running and queued tasks were accepted then the new ones are rejected until one finishes")
+    public void execute_whenMaximumRunningAndQueuedTasksWereAccepted_thenNewOnesAreRejectedUntilOneFinishes() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(MAX_RUNNING_TASKS);
+        CountDownLatch finished = new CountDownLatch(MAX_RUNNING_TASKS + MAX_QUEUED_TASKS + 1);
+        AtomicInteger runningTasks = new AtomicInteger();
+        AtomicInteger maxRunningTasks = new AtomicInteger();
+        Runnable task = () -> {
+            maxRunningTasks.accumulateAndGet(
+                    runningTasks.incrementAndGet(),
+                    Math::max
+            );
+            started.countDown();
+            try {
+                release.await();
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+            } finally {
+                runningTasks.decrementAndGet();
+                finished.countDown();
+            }
+        };
+        for (int i = 0; i < MAX_RUNNING_TASKS + MAX_QUEUED_TASKS; i++) {
+            executor.execute(task);
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(MAX_RUNNING_TASKS, executor.getActiveCount());
+        assertEquals(MAX_QUEUED_TASKS, executor.getQueuedCount());
+
+        assertThrows(
+                RejectedExecutionException.class,
+                () -> executor.execute(task)
+        );
+        assertEquals(1, rejections.get());
+
+        release.countDown();
+        awaitAcceptedTask(task);
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertEquals(MAX_RUNNING_TASKS, maxRunningTasks.get());
+    }
+
+
+    @Test
+    @DisplayName("shutdown: when it is invoked then the new tasks are rejected and the accepted ones finish")
+    public void shutdown_whenItIsInvoked_thenNewTasksAreRejectedAndAcceptedOnesFinish() throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(1);
+        executor.execute(finished::countDown);
+
+        executor.shutdown();
+
+        assertTrue(executor.isShutdown());
+        assertThrows(
+                RejectedExecutionException.class,
+                () -> executor.execute(() -> {})
+        );
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertTrue(executor.isTerminated());
+        assertEquals(0, finished.getCount());
+    }
+
+
+    private void awaitAcceptedTask(final Runnable task) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            try {
+                executor.execute(task);
+                return;
+
+            } catch (RejectedExecutionException e) {
+                Thread.sleep(10);
+            }
+        }
+        fail("The task was never accepted");
+    }
+
+}
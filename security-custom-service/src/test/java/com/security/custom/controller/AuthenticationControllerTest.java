@@ -28,9 +28,11 @@ import reactor.core.publisher.Mono;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Stream;
 
 import static com.security.custom.TestDataFactory.*;
+import static com.spring6microservices.common.spring.enums.RestApiErrorCode.INTERNAL;
 import static com.spring6microservices.common.spring.enums.RestApiErrorCode.VALIDATION;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
@@ -150,9 +152,9 @@ public class AuthenticationControllerTest extends BaseControllerTest {
         String applicationClientId = "ItDoesNotCare";
         AuthenticationRequestLoginDto authenticationRequest = buildAuthenticationRequestLoginDto("usernameValue", "passwordValue");
 
-        when(mockAuthenticationService.login(applicationClientId, authenticationRequest.getUsername(), authenticationRequest.getPassword()))
+        when(mockAuthenticationService.loginReactive(applicationClientId, authenticationRequest.getUsername(), authenticationRequest.getPassword()))
                 .thenReturn(
-                        authenticationServiceResult
+                        Mono.justOrEmpty(authenticationServiceResult)
                 );
 
         WebTestClient.ResponseSpec response = webTestClient.post()
@@ -172,7 +174,7 @@ public class AuthenticationControllerTest extends BaseControllerTest {
                     .isEqualTo(expectedBodyResult);
         }
         verify(mockAuthenticationService, times(1))
-                .login(
+                .loginReactive(
                         applicationClientId,
                         authenticationRequest.getUsername(),
                         authenticationRequest.getPassword()
@@ -180,6 +182,40 @@ public class AuthenticationControllerTest extends BaseControllerTest {
     }
 
 
+    @Test
+    @SneakyThrows
+    @DisplayName("login: when the scheduler rejects the request then service unavailable code is returned")
+    @WithMockUser(username = "ItDoesNotCare")
+    public void login_whenSchedulerRejectsTheRequest_thenServiceUnavailableHttpCodeIsReturned() {
+        String applicationClientId = "ItDoesNotCare";
+        AuthenticationRequestLoginDto authenticationRequest = buildAuthenticationRequestLoginDto("usernameValue", "passwordValue");
+
+        ErrorResponseDto expectedResponse = new ErrorResponseDto(
+                INTERNAL,
+                List.of("The server is too busy to handle the request, try again later")
+        );
+
+        when(mockAuthenticationService.loginReactive(applicationClientId, authenticationRequest.getUsername(), authenticationRequest.getPassword()))
+                .thenReturn(
+                        Mono.error(
+                                new RejectedExecutionException("The scheduler: blocking-io is full")
+                        )
+                );
+
+        webTestClient.post()
+                .uri(RestRoutes.AUTHENTICATION.ROOT + RestRoutes.AUTHENTICATION.LOGIN)
+                .body(
+                        Mono.just(authenticationRequest),
+                        AuthenticationRequestLoginDto.class
+                )
+                .exchange()
+                .expectStatus()
+                .isEqualTo(SERVICE_UNAVAILABLE)
+                .expectBody(ErrorResponseDto.class)
+                .isEqualTo(expectedResponse);
+    }
+
+
     @Test
     @SneakyThrows
     @DisplayName("loginAuthorized: when no basic authentication is provided then unauthorized code is returned")
@@ -461,9 +497,9 @@ public class AuthenticationControllerTest extends BaseControllerTest {
                 "verifierValue"
         );
 
-        when(mockAuthenticationService.loginToken(applicationClientId, authenticationRequest))
+        when(mockAuthenticationService.loginTokenReactive(applicationClientId, authenticationRequest))
                 .thenReturn(
-                        authenticationServiceResult
+                        Mono.justOrEmpty(authenticationServiceResult)
                 );
 
         WebTestClient.ResponseSpec response = webTestClient.post()
@@ -483,7 +519,7 @@ public class AuthenticationControllerTest extends BaseControllerTest {
                     .isEqualTo(expectedBodyResult);
         }
         verify(mockAuthenticationService, times(1))
-                .loginToken(
+                .loginTokenReactive(
                         applicationClientId,
                         authenticationRequest
                 );
@@ -575,9 +611,9 @@ public class AuthenticationControllerTest extends BaseControllerTest {
         String applicationClientId = "ItDoesNotCare";
         LogoutRequestDto logoutRequest = buildLogoutRequestDto("usernameValue");
 
-        when(mockAuthenticationService.logout(applicationClientId, logoutRequest))
+        when(mockAuthenticationService.logoutReactive(applicationClientId, logoutRequest))
                 .thenReturn(
-                        authenticationServiceResult
+                        Mono.just(authenticationServiceResult)
                 );
 
         WebTestClient.ResponseSpec response = webTestClient.post()
@@ -592,7 +628,7 @@ public class AuthenticationControllerTest extends BaseControllerTest {
         response.expectBody().isEmpty();
 
         verify(mockAuthenticationService, times(1))
-                .logout(
+                .logoutReactive(
                         applicationClientId,
                         logoutRequest
                 );
@@ -664,9 +700,9 @@ public class AuthenticationControllerTest extends BaseControllerTest {
         String applicationClientId = "ItDoesNotCare";
         String refreshToken = "refreshToken";
 
-        when(mockAuthenticationService.refresh(applicationClientId, refreshToken))
+        when(mockAuthenticationService.refreshReactive(applicationClientId, refreshToken))
                 .thenReturn(
-                        authenticationServiceResult
+                        Mono.justOrEmpty(authenticationServiceResult)
                 );
 
         WebTestClient.ResponseSpec response = webTestClient.post()
@@ -686,7 +722,7 @@ public class AuthenticationControllerTest extends BaseControllerTest {
                     .isEqualTo(expectedBodyResult);
         }
         verify(mockAuthenticationService, times(1))
-                .refresh(
+                .refreshReactive(
                         applicationClientId,
                         refreshToken
                 );
@@ -2,6 +2,9 @@ package com.security.custom.controller;
 
 import com.security.custom.SecurityCustomServiceApplication;
 import com.security.custom.configuration.rest.RestRoutes;
+import com.security.custom.dto.CheckTokenResultDto;
+import com.security.custom.exception.token.TokenExpiredException;
+import com.security.custom.exception.token.TokenInvalidException;
 import com.security.custom.service.AuthorizationService;
 import com.spring6microservices.common.spring.dto.AuthorizationInformationDto;
 import com.spring6microservices.common.spring.dto.ErrorResponseDto;
@@ -10,6 +13,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.reactive.server.WebTestClient;
@@ -17,14 +21,22 @@ import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.security.custom.TestDataFactory.buildAuthorizationInformationDto;
+import static com.spring6microservices.common.spring.enums.ExtendedHttpStatus.TOKEN_EXPIRED;
+import static com.spring6microservices.common.spring.enums.RestApiErrorCode.SECURITY;
 import static com.spring6microservices.common.spring.enums.RestApiErrorCode.VALIDATION;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.FORBIDDEN;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 @SpringBootTest(
         classes = SecurityCustomServiceApplication.class
@@ -101,9 +113,9 @@ public class AuthorizationControllerTest extends BaseControllerTest {
                 new HashMap<>()
         );
 
-        when(mockAuthorizationService.checkAccessToken(applicationClientId, accessToken))
+        when(mockAuthorizationService.checkAccessTokenReactive(applicationClientId, accessToken))
                 .thenReturn(
-                        authorizationInformation
+                        Mono.just(authorizationInformation)
                 );
 
         webTestClient.post()
@@ -119,10 +131,246 @@ public class AuthorizationControllerTest extends BaseControllerTest {
                 .isEqualTo(authorizationInformation);
 
         verify(mockAuthorizationService, times(1))
-                .checkAccessToken(
+                .checkAccessTokenReactive(
                         applicationClientId,
                         accessToken
                 );
     }
 
+
+    @Test
+    @DisplayName("checkToken: when the token is valid then the response includes its expiration as seconds since the epoch")
+    @WithMockUser(username = "ItDoesNotCare")
+    public void checkToken_whenTokenIsValid_thenResponseIncludesItsExpirationAsSecondsSinceEpoch() {
+        String applicationClientId = "ItDoesNotCare";
+        String accessToken = "accessToken";
+        long expiration = 1_900_000_000L;
+        AuthorizationInformationDto authorizationInformation = buildAuthorizationInformationDto(
+                "username",
+                Set.of("admin"),
+                new HashMap<>(
+                        Map.of(
+                                "exp", expiration
+                        )
+                )
+        );
+
+        when(mockAuthorizationService.checkAccessTokenReactive(applicationClientId, accessToken))
+                .thenReturn(
+                        Mono.just(authorizationInformation)
+                );
+
+        webTestClient.post()
+                .uri(RestRoutes.AUTHORIZATION.ROOT + RestRoutes.AUTHORIZATION.CHECK_TOKEN)
+                .body(
+                        Mono.just(accessToken),
+                        String.class
+                )
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.additionalInformation.exp").isEqualTo(expiration);
+    }
+
+
+    @Test
+    @SneakyThrows
+    @DisplayName("checkTokens: when no basic authentication is provided then unauthorized code is returned")
+    public void checkTokens_whenNoBasicAuthIsProvided_thenUnauthorizedHttpCodeIsReturned() {
+        webTestClient.post()
+                .uri(RestRoutes.AUTHORIZATION.ROOT + RestRoutes.AUTHORIZATION.CHECK_TOKENS)
+                .body(
+                        Mono.just(List.of("ItDoesNotCare")),
+                        List.class
+                )
+                .exchange()
+                .expectStatus()
+                .isUnauthorized();
+
+        verifyNoInteractions(mockAuthorizationService);
+    }
+
+
+    @Test
+    @SneakyThrows
+    @DisplayName("checkTokens: when given parameters do not verify validations then bad request error is returned with validation errors")
+    @WithMockUser
+    public void checkTokens_whenGivenParametersDoNotVerifyValidations_thenBadRequestHttpCodeAndValidationErrorsAreReturned() {
+        ErrorResponseDto expectedResponse = new ErrorResponseDto(
+                VALIDATION,
+                List.of("accessTokens: size must be between 1 and 100")
+        );
+
+        webTestClient.post()
+                .uri(RestRoutes.AUTHORIZATION.ROOT + RestRoutes.AUTHORIZATION.CHECK_TOKENS)
+                .body(
+                        Mono.just(List.of()),
+                        List.class
+                )
+                .exchange()
+                .expectStatus()
+                .isBadRequest()
+                .expectBody(ErrorResponseDto.class)
+                .isEqualTo(expectedResponse);
+
+        verifyNoInteractions(mockAuthorizationService);
+    }
+
+
+    @Test
+    @DisplayName("checkTokens: when given tokens verify the validations then the result of every token is returned in the same order")
+    @WithMockUser(username = "ItDoesNotCare")
+    public void checkTokens_whenParametersVerifyValidations_thenResultOfEveryTokenIsReturnedInSameOrder() {
+        String applicationClientId = "ItDoesNotCare";
+        String validAccessToken = "validAccessToken";
+        String expiredAccessToken = "expiredAccessToken";
+        String invalidAccessToken = "invalidAccessToken";
+        AuthorizationInformationDto authorizationInformation = buildAuthorizationInformationDto(
+                "username",
+                Set.of("admin"),
+                new HashMap<>()
+        );
+        List<CheckTokenResultDto> expectedResponse = List.of(
+                new CheckTokenResultDto(
+                        OK.value(),
+                        authorizationInformation,
+                        null
+                ),
+                new CheckTokenResultDto(
+                        TOKEN_EXPIRED.getValue(),
+                        null,
+                        new ErrorResponseDto(
+                                SECURITY,
+                                List.of("The given authorization token has expired")
+                        )
+                ),
+                new CheckTokenResultDto(
+                        UNAUTHORIZED.value(),
+                        null,
+                        new ErrorResponseDto(
+                                SECURITY,
+                                List.of("The provided token is invalid")
+                        )
+                )
+        );
+
+        when(mockAuthorizationService.checkAccessTokenReactive(applicationClientId, validAccessToken))
+                .thenReturn(
+                        Mono.just(authorizationInformation)
+                );
+        when(mockAuthorizationService.checkAccessTokenReactive(applicationClientId, expiredAccessToken))
+                .thenReturn(
+                        Mono.error(new TokenExpiredException("ItDoesNotCare"))
+                );
+        when(mockAuthorizationService.checkAccessTokenReactive(applicationClientId, invalidAccessToken))
+                .thenReturn(
+                        Mono.error(new TokenInvalidException("ItDoesNotCare"))
+                );
+
+        webTestClient.post()
+                .uri(RestRoutes.AUTHORIZATION.ROOT + RestRoutes.AUTHORIZATION.CHECK_TOKENS)
+                .body(
+                        Mono.just(List.of(validAccessToken, expiredAccessToken, invalidAccessToken)),
+                        List.class
+                )
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBodyList(CheckTokenResultDto.class)
+                .isEqualTo(expectedResponse);
+
+        verify(mockAuthorizationService, times(3))
+                .checkAccessTokenReactive(
+                        eq(applicationClientId),
+                        anyString()
+                );
+    }
+
+
+    @Test
+    @DisplayName("checkTokens: when the account of a token is not valid then the same error as checking it alone is returned")
+    @WithMockUser(username = "ItDoesNotCare")
+    public void checkTokens_whenAccountOfTokenIsNotValid_thenSameErrorAsCheckingItAloneIsReturned() {
+        String applicationClientId = "ItDoesNotCare";
+        String lockedAccessToken = "lockedAccessToken";
+        List<CheckTokenResultDto> expectedResponse = List.of(
+                new CheckTokenResultDto(
+                        FORBIDDEN.value(),
+                        null,
+                        new ErrorResponseDto(
+                                SECURITY,
+                                List.of("The account of the user is disabled")
+                        )
+                )
+        );
+
+        when(mockAuthorizationService.checkAccessTokenReactive(applicationClientId, lockedAccessToken))
+                .thenReturn(
+                        Mono.error(new LockedException("ItDoesNotCare"))
+                );
+
+        webTestClient.post()
+                .uri(RestRoutes.AUTHORIZATION.ROOT + RestRoutes.AUTHORIZATION.CHECK_TOKENS)
+                .body(
+                        Mono.just(List.of(lockedAccessToken)),
+                        List.class
+                )
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBodyList(CheckTokenResultDto.class)
+                .isEqualTo(expectedResponse);
+    }
+
+
+    @Test
+    @DisplayName("jwks: when no basic authentication is provided then unauthorized code is returned")
+    public void jwks_whenNoBasicAuthIsProvided_thenUnauthorizedHttpCodeIsReturned() {
+        webTestClient.get()
+                .uri(RestRoutes.AUTHORIZATION.ROOT + RestRoutes.AUTHORIZATION.JWKS)
+                .exchange()
+                .expectStatus()
+                .isUnauthorized();
+
+        verifyNoInteractions(mockAuthorizationService);
+    }
+
+
+    @Test
+    @DisplayName("jwks: when basic authentication is provided then the public keys of the application are returned")
+    @WithMockUser(username = "ItDoesNotCare")
+    public void jwks_whenBasicAuthIsProvided_thenPublicKeysOfApplicationAreReturned() {
+        String applicationClientId = "ItDoesNotCare";
+        Map<String, Object> jwkSet = Map.of(
+                "keys",
+                List.of(
+                        Map.of(
+                                "kty", "OKP",
+                                "crv", "Ed25519",
+                                "kid", "keyId",
+                                "x", "11qYAYKxCrfVS_7TyWQHOg7hcvPapiMlrwIaaPcHURo"
+                        )
+                )
+        );
+
+        when(mockAuthorizationService.getVerificationKeysReactive(applicationClientId))
+                .thenReturn(
+                        Mono.just(jwkSet)
+                );
+
+        webTestClient.get()
+                .uri(RestRoutes.AUTHORIZATION.ROOT + RestRoutes.AUTHORIZATION.JWKS)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody(Map.class)
+                .isEqualTo(jwkSet);
+
+        verify(mockAuthorizationService, times(1))
+                .getVerificationKeysReactive(
+                        applicationClientId
+                );
+    }
+
 }
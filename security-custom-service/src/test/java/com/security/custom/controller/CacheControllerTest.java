@@ -6,6 +6,8 @@ import com.security.custom.dto.ClearCacheRequestDto;
 import com.security.custom.service.cache.ApplicationClientDetailsCacheService;
 import com.security.custom.service.cache.ApplicationUserBlackListCacheService;
 import com.security.custom.service.cache.AuthenticationRequestDetailsCacheService;
+import com.security.custom.service.cache.LocalCacheInvalidationService;
+import com.security.custom.service.cache.RevokedTokenCacheService;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -43,6 +45,12 @@ public class CacheControllerTest extends BaseControllerTest {
     @MockitoBean
     private AuthenticationRequestDetailsCacheService mockAuthenticationRequestDetailsCacheService;
 
+    @MockitoBean
+    private LocalCacheInvalidationService mockLocalCacheInvalidationService;
+
+    @MockitoBean
+    private RevokedTokenCacheService mockRevokedTokenCacheService;
+
     private WebTestClient webTestClient;
 
 
@@ -89,7 +97,14 @@ public class CacheControllerTest extends BaseControllerTest {
                 false,
                 true
         );
+        ClearCacheRequestDto clearOnlyRevokedTokenCacheRequest = buildClearCacheRequestDto(
+                false,
+                false,
+                false,
+                true
+        );
         ClearCacheRequestDto clearEverythingRequest = buildClearCacheRequestDto(
+                true,
                 true,
                 true,
                 true
@@ -105,6 +120,8 @@ public class CacheControllerTest extends BaseControllerTest {
                 Arguments.of( clearOnlyApplicationUserBlackListCacheRequest,       true,                 OK ),
                 Arguments.of( clearOnlyAuthenticationRequestDetailsCacheRequest,   false,                OK ),
                 Arguments.of( clearOnlyAuthenticationRequestDetailsCacheRequest,   true,                 OK ),
+                Arguments.of( clearOnlyRevokedTokenCacheRequest,                   false,                OK ),
+                Arguments.of( clearOnlyRevokedTokenCacheRequest,                   true,                 OK ),
                 Arguments.of( clearEverythingRequest,                              false,                OK ),
                 Arguments.of( clearEverythingRequest,                              true,                 OK )
         ); //@formatter:on
@@ -130,6 +147,10 @@ public class CacheControllerTest extends BaseControllerTest {
                 .thenReturn(
                         cacheServiceResult
                 );
+        when(mockRevokedTokenCacheService.clear())
+                .thenReturn(
+                        cacheServiceResult
+                );
 
         webTestClient.put()
                 .uri(RestRoutes.CACHE.ROOT + RestRoutes.CACHE.CLEAR)
@@ -160,12 +181,22 @@ public class CacheControllerTest extends BaseControllerTest {
                 ? 1
                 : 0;
 
+        int revokedTokenCacheServiceInvocations = clearCacheRequest.isRevokedToken()
+                ? 1
+                : 0;
+
         verify(mockApplicationClientDetailsCacheService, times(applicationClientDetailsCacheServiceInvocations))
                 .clear();
 
+        verify(mockLocalCacheInvalidationService, times(applicationClientDetailsCacheServiceInvocations))
+                .clear();
+
         verify(mockApplicationUserBlackListCacheService, times(applicationUserBlackListCacheServiceInvocations))
                 .clear();
 
+        verify(mockRevokedTokenCacheService, times(revokedTokenCacheServiceInvocations))
+                .clear();
+
         verify(mockAuthenticationRequestDetailsCacheService, times(authenticationRequestDetailsCacheService))
                 .clear();
     }
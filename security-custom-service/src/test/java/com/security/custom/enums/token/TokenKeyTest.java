@@ -35,4 +35,28 @@ public class TokenKeyTest {
         );
     }
 
+
+
+    static Stream<Arguments> getByCwtKeyTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            cwtKey,                              expectedResult
+                Arguments.of( null,                                empty() ),
+                Arguments.of( 99,                                  empty() ),
+                Arguments.of( TokenKey.EXPIRATION_TIME.getCwtKey(), of(TokenKey.EXPIRATION_TIME) ),
+                Arguments.of( TokenKey.AUTHORITIES.getCwtKey(),    of(TokenKey.AUTHORITIES) )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("getByCwtKeyTestCases")
+    @DisplayName("getByCwtKey: test cases")
+    public void getByCwtKey_testCases(Integer cwtKey,
+                                      Optional<TokenKey> expectedResult) {
+        assertEquals(
+                expectedResult,
+                TokenKey.getByCwtKey(cwtKey)
+        );
+    }
+
 }
@@ -8,6 +8,7 @@ import com.security.custom.enums.token.TokenSignatureAlgorithm;
 import com.security.custom.enums.token.TokenType;
 import com.security.custom.model.ApplicationClientDetails;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -25,6 +26,7 @@ import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.samePropertyValuesAs;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -96,4 +98,14 @@ public class ApplicationClientDetailsRepositoryTest {
         }
     }
 
+
+    @Test
+    @DisplayName("findMaxTokenValidityInSeconds: when there are application client details then the greatest access or refresh token validity is returned")
+    public void findMaxTokenValidityInSeconds_whenThereAreApplicationClientDetails_thenGreatestAccessOrRefreshTokenValidityIsReturned() {
+        assertEquals(
+                of(3600),
+                repository.findMaxTokenValidityInSeconds()
+        );
+    }
+
 }
@@ -0,0 +1,103 @@
+package com.security.custom.repository;
+
+import com.security.custom.enums.SecurityHandler;
+import com.security.custom.enums.token.TokenEncryptionAlgorithm;
+import com.security.custom.enums.token.TokenEncryptionMethod;
+import com.security.custom.enums.token.TokenSignatureAlgorithm;
+import com.security.custom.enums.token.TokenType;
+import com.security.custom.model.ApplicationClientDetails;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.samePropertyValuesAs;
+
+@DataR2dbcTest
+@Import(
+        ReactiveApplicationClientDetailsRepository.class
+)
+public class ReactiveApplicationClientDetailsRepositoryTest {
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @Autowired
+    private ReactiveApplicationClientDetailsRepository repository;
+
+
+    @BeforeEach
+    public void init() {
+        new ResourceDatabasePopulator(
+                new ClassPathResource("db/security_schema.sql"),
+                new ClassPathResource("db/reactive_application_client_details.sql")
+        )
+        .populate(connectionFactory)
+        .block();
+    }
+
+
+    static Stream<Arguments> findByIdTestCases() {
+        ApplicationClientDetails existingAPC = ApplicationClientDetails.builder()
+                .id("Spring6Microservices")
+                .applicationClientSecret("Spring6Microservices-application_client_secret")
+                .signatureAlgorithm(TokenSignatureAlgorithm.HS256)
+                .signatureSecret("hs256SignatureSecret#secret#789(jwt)$3411781_GTDSAET-569016310k")
+                .securityHandler(SecurityHandler.SPRING6_MICROSERVICES)
+                .tokenType(TokenType.JWE)
+                .encryptionAlgorithm(TokenEncryptionAlgorithm.DIR)
+                .encryptionMethod(TokenEncryptionMethod.A128CBC_HS256)
+                .encryptionSecret("dirEncryptionSecret##9991a2(jwe)")
+                .accessTokenValidityInSeconds(900)
+                .refreshTokenValidityInSeconds(3600)
+                .createdAt(
+                        LocalDateTime.now()
+                )
+                .build();
+
+        return Stream.of(
+                //@formatter:off
+                //            id,                    expectedResult
+                Arguments.of( null,                  null ),
+                Arguments.of( "ItDoesNotExist",      null ),
+                Arguments.of( existingAPC.getId(),   existingAPC )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("findByIdTestCases")
+    @DisplayName("findById: test cases")
+    public void findById_testCases(String id,
+                                   ApplicationClientDetails expectedResult) {
+        if (null == expectedResult) {
+            StepVerifier.create(repository.findById(id))
+                    .verifyComplete();
+        }
+        else {
+            StepVerifier.create(repository.findById(id))
+                    .assertNext(result ->
+                            assertThat(
+                                    result,
+                                    samePropertyValuesAs(
+                                            expectedResult,
+                                            "createdAt"
+                                    )
+                            )
+                    )
+                    .verifyComplete();
+        }
+    }
+
+}
@@ -0,0 +1,181 @@
+package com.security.custom.service;
+
+import com.security.custom.enums.token.TokenSignatureAlgorithm;
+import com.security.custom.model.ApplicationClientCryptoContext;
+import com.security.custom.model.ApplicationClientDetails;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static com.security.custom.TestDataFactory.buildApplicationClientDetailsJWE;
+import static com.security.custom.TestDataFactory.buildApplicationClientDetailsJWS;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class ApplicationClientCryptoContextServiceTest {
+
+    @Mock
+    private EncryptorService mockEncryptorService;
+
+    private ApplicationClientCryptoContextService service;
+
+
+    @BeforeEach
+    public void init() {
+        service = new ApplicationClientCryptoContextService(
+                mockEncryptorService
+        );
+        when(mockEncryptorService.defaultDecrypt(anyString()))
+                .then(
+                        returnsFirstArg()
+                );
+    }
+
+
+    @Test
+    @DisplayName("get: when given applicationClientDetails is null then IllegalArgumentException is thrown")
+    public void get_whenGivenApplicationClientDetailsIsNull_thenIllegalArgumentExceptionIsThrown() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> service.get(null)
+        );
+    }
+
+
+    @Test
+    @DisplayName("get: when the same applicationClientDetails is requested several times then the crypto context is built only once")
+    public void get_whenSameApplicationClientDetailsIsRequestedSeveralTimes_thenCryptoContextIsBuiltOnlyOnce() {
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWE("JWE");
+
+        ApplicationClientCryptoContext firstResult = service.get(applicationClientDetails);
+        ApplicationClientCryptoContext secondResult = service.get(applicationClientDetails);
+
+        assertSame(firstResult, secondResult);
+        assertNotNull(firstResult.getSigner());
+        assertNotNull(firstResult.getVerifier());
+        assertNotNull(firstResult.getEncrypter());
+        assertNotNull(firstResult.getDecrypter());
+        assertEquals(applicationClientDetails.getSignatureSecret(), firstResult.getSignatureSecret());
+        assertEquals(applicationClientDetails.getEncryptionSecret(), firstResult.getEncryptionSecret());
+
+        verify(mockEncryptorService, times(1))
+                .defaultDecrypt(
+                        applicationClientDetails.getSignatureSecret()
+                );
+        verify(mockEncryptorService, times(1))
+                .defaultDecrypt(
+                        applicationClientDetails.getEncryptionSecret()
+                );
+    }
+
+
+    @Test
+    @DisplayName("get: when the crypto configuration of applicationClientDetails changes then a new crypto context is built")
+    public void get_whenCryptoConfigurationOfApplicationClientDetailsChanges_thenNewCryptoContextIsBuilt() {
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWS("JWS");
+        ApplicationClientCryptoContext firstResult = service.get(applicationClientDetails);
+
+        ApplicationClientDetails updatedApplicationClientDetails = buildApplicationClientDetailsJWS("JWS");
+        updatedApplicationClientDetails.setSignatureAlgorithm(TokenSignatureAlgorithm.HS512);
+        ApplicationClientCryptoContext secondResult = service.get(updatedApplicationClientDetails);
+
+        assertNotSame(firstResult, secondResult);
+        assertTrue(secondResult.isBuiltFrom(updatedApplicationClientDetails));
+        assertFalse(secondResult.isBuiltFrom(applicationClientDetails));
+    }
+
+
+    @Test
+    @DisplayName("get: when applicationClientDetails has no encryption configuration then only its encryption elements fail")
+    public void get_whenApplicationClientDetailsHasNoEncryptionConfiguration_thenOnlyItsEncryptionElementsFail() {
+        ApplicationClientCryptoContext result = service.get(
+                buildApplicationClientDetailsJWS("JWS")
+        );
+
+        assertNotNull(result.getSigner());
+        assertNotNull(result.getVerifier());
+        assertThrows(
+                RuntimeException.class,
+                result::getEncrypter
+        );
+        assertThrows(
+                RuntimeException.class,
+                result::getDecrypter
+        );
+    }
+
+
+    @Test
+    @DisplayName("get: when the signature secret of applicationClientDetails is not a valid key then the signature elements fail")
+    public void get_whenSignatureSecretOfApplicationClientDetailsIsNotValidKey_thenSignatureElementsFail() {
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWS("JWS");
+        applicationClientDetails.setSignatureAlgorithm(TokenSignatureAlgorithm.ED25519);
+
+        ApplicationClientCryptoContext result = service.get(applicationClientDetails);
+
+        assertFalse(result.isValidSignatureSecret());
+        assertThrows(
+                RuntimeException.class,
+                result::getSigner
+        );
+        assertThrows(
+                RuntimeException.class,
+                result::getVerifier
+        );
+    }
+
+
+    @Test
+    @DisplayName("get: when the signature secret of applicationClientDetails is a valid key then it is reported as valid")
+    public void get_whenSignatureSecretOfApplicationClientDetailsIsValidKey_thenItIsReportedAsValid() {
+        ApplicationClientCryptoContext result = service.get(
+                buildApplicationClientDetailsJWS("JWS")
+        );
+
+        assertTrue(result.isValidSignatureSecret());
+    }
+
+
+    @Test
+    @DisplayName("clear: when it is invoked then the crypto contexts are built again")
+    public void clear_whenItIsInvoked_thenCryptoContextsAreBuiltAgain() {
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWS("JWS");
+        ApplicationClientCryptoContext firstResult = service.get(applicationClientDetails);
+
+        service.clear();
+
+        assertNotSame(
+                firstResult,
+                service.get(applicationClientDetails)
+        );
+    }
+
+
+    @Test
+    @DisplayName("remove: when it is invoked then the crypto context of the given identifier is built again")
+    public void remove_whenItIsInvoked_thenCryptoContextOfGivenIdentifierIsBuiltAgain() {
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWS("JWS");
+        ApplicationClientCryptoContext firstResult = service.get(applicationClientDetails);
+
+        service.remove(null);
+        assertSame(
+                firstResult,
+                service.get(applicationClientDetails)
+        );
+
+        service.remove(applicationClientDetails.getId());
+        assertNotSame(
+                firstResult,
+                service.get(applicationClientDetails)
+        );
+    }
+
+}
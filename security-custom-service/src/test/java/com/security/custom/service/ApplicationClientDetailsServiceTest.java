@@ -1,12 +1,17 @@
 package com.security.custom.service;
 
+import com.security.custom.configuration.cache.ApplicationClientDetailsCacheConfiguration;
 import com.security.custom.enums.token.TokenType;
 import com.security.custom.exception.ApplicationClientNotFoundException;
 import com.security.custom.model.ApplicationClientDetails;
 import com.security.custom.repository.ApplicationClientDetailsRepository;
+import com.security.custom.repository.ReactiveApplicationClientDetailsRepository;
+import com.security.custom.service.cache.ApplicationClientCredentialsCacheService;
 import com.security.custom.service.cache.ApplicationClientDetailsCacheService;
+import com.security.custom.service.cache.RevokedTokenCacheService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -16,9 +21,20 @@ import org.mockito.verification.VerificationMode;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static com.security.custom.TestDataFactory.buildApplicationClientDetailsJWE;
@@ -28,7 +44,9 @@ import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -37,20 +55,51 @@ import static org.mockito.Mockito.*;
 )
 public class ApplicationClientDetailsServiceTest {
 
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    @Mock
+    private ApplicationClientDetailsCacheConfiguration mockCacheConfiguration;
+
     @Mock
     private ApplicationClientDetailsCacheService mockCacheService;
 
+    @Mock
+    private ApplicationClientCredentialsCacheService mockCredentialsCacheService;
+
     @Mock
     private ApplicationClientDetailsRepository mockRepository;
 
+    @Mock
+    private ReactiveApplicationClientDetailsRepository mockReactiveRepository;
+
+    @Mock
+    private RevokedTokenCacheService mockRevokedTokenCacheService;
+
+    @Mock
+    private Clock mockClock;
+
     private ApplicationClientDetailsService service;
 
 
     @BeforeEach
     public void init() {
+        when(mockClock.instant())
+                .thenReturn(
+                        NOW
+                );
+        when(mockRevokedTokenCacheService.getMaxTokenValidityInSeconds())
+                .thenReturn(
+                        Integer.MAX_VALUE
+                );
         service = new ApplicationClientDetailsService(
+                mockCacheConfiguration,
                 mockCacheService,
-                mockRepository
+                mockCredentialsCacheService,
+                mockRepository,
+                mockReactiveRepository,
+                mockRevokedTokenCacheService,
+                Schedulers.immediate(),
+                mockClock
         );
     }
 
@@ -138,15 +187,367 @@ public class ApplicationClientDetailsServiceTest {
     }
 
 
+    static Stream<Arguments> findByIdReactiveThrowingExceptionTestCases() {
+        ApplicationClientDetails invalidApplicationClientDetails = buildApplicationClientDetailsJWE("JWE");
+        invalidApplicationClientDetails.setTokenType(TokenType.JWS);
+        return Stream.of(
+                //@formatter:off
+                //            id,                      repositoryResult,                                cacheServiceResult,                expectedException,
+                Arguments.of( null,                    Mono.empty(),                                    null,                              ApplicationClientNotFoundException.class ),
+                Arguments.of( "NotFound",              Mono.empty(),                                    null,                              ApplicationClientNotFoundException.class ),
+                Arguments.of( "FoundOnlyInDatabase",   Mono.just(invalidApplicationClientDetails),      null,                              UnsupportedOperationException.class ),
+                Arguments.of( "FoundInCache",          Mono.empty(),                                    invalidApplicationClientDetails,   UnsupportedOperationException.class )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("findByIdReactiveThrowingExceptionTestCases")
+    @DisplayName("findByIdReactive: throwing exception test cases")
+    public void findByIdReactiveThrowingException_testCases(String id,
+                                                            Mono<ApplicationClientDetails> repositoryResult,
+                                                            ApplicationClientDetails cacheServiceResult,
+                                                            Class<? extends Exception> expectedException) {
+        when(mockReactiveRepository.findById(id))
+                .thenReturn(
+                        repositoryResult
+                );
+        when(mockCacheService.get(eq(id)))
+                .thenReturn(
+                        ofNullable(cacheServiceResult)
+                );
+
+        StepVerifier.create(service.findByIdReactive(id))
+                .expectError(expectedException)
+                .verify();
+
+        findByIdReactiveVerifyInvocations(
+                id,
+                repositoryResult.blockOptional(),
+                cacheServiceResult
+        );
+    }
+
+
+    static Stream<Arguments> findByIdReactiveValidTestCases() {
+        ApplicationClientDetails applicationClientDetailsJWS = buildApplicationClientDetailsJWS("ItDoesNotCare");
+        ApplicationClientDetails applicationClientDetailsJWE = buildApplicationClientDetailsJWE("ItDoesNotCare");
+        return Stream.of(
+                //@formatter:off
+                //            id,                      repositoryResult,                          cacheServiceResult,            expectedResult
+                Arguments.of( "FoundOnlyInDatabase",   Mono.just(applicationClientDetailsJWS),    null,                          applicationClientDetailsJWS ),
+                Arguments.of( "FoundInCache",          Mono.empty(),                              applicationClientDetailsJWE,   applicationClientDetailsJWE )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("findByIdReactiveValidTestCases")
+    @DisplayName("findByIdReactive: valid test cases")
+    public void findByIdReactiveValid_testCases(String id,
+                                                Mono<ApplicationClientDetails> repositoryResult,
+                                                ApplicationClientDetails cacheServiceResult,
+                                                ApplicationClientDetails expectedResult) {
+        when(mockReactiveRepository.findById(id))
+                .thenReturn(
+                        repositoryResult
+                );
+        when(mockCacheService.get(eq(id)))
+                .thenReturn(
+                        ofNullable(cacheServiceResult)
+                );
+
+        StepVerifier.create(service.findByIdReactive(id))
+                .expectNext(expectedResult)
+                .verifyComplete();
+
+        findByIdReactiveVerifyInvocations(
+                id,
+                repositoryResult.blockOptional(),
+                cacheServiceResult
+        );
+    }
+
+
+    @Test
+    @DisplayName("findByIdReactive: when there are concurrent requests of the same not cached id then database is queried only once")
+    public void findByIdReactive_whenThereAreConcurrentRequestsOfTheSameNotCachedId_thenDatabaseIsQueriedOnlyOnce() {
+        String id = "FoundOnlyInDatabase";
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWS(id);
+        Sinks.One<ApplicationClientDetails> databaseResult = Sinks.one();
+
+        when(mockCacheService.get(eq(id)))
+                .thenReturn(
+                        empty()
+                );
+        when(mockReactiveRepository.findById(id))
+                .thenReturn(
+                        databaseResult.asMono()
+                );
+
+        CompletableFuture<ApplicationClientDetails> firstRequest = service.findByIdReactive(id).toFuture();
+        CompletableFuture<ApplicationClientDetails> secondRequest = service.findByIdReactive(id).toFuture();
+        databaseResult.tryEmitValue(applicationClientDetails);
+
+        assertEquals(
+                applicationClientDetails,
+                firstRequest.join()
+        );
+        assertEquals(
+                applicationClientDetails,
+                secondRequest.join()
+        );
+        verify(mockReactiveRepository, times(1))
+                .findById(eq(id));
+        verify(mockCacheService, times(1))
+                .put(eq(id), eq(applicationClientDetails));
+    }
+
+
+    @Test
+    @DisplayName("findByIdReactive: when the cache is used then it is done in the blocking I/O scheduler")
+    public void findByIdReactive_whenCacheIsUsed_thenItIsDoneInBlockingIoScheduler() {
+        String id = "FoundOnlyInDatabase";
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWS(id);
+        Map<String, String> threadNames = new ConcurrentHashMap<>();
+
+        doAnswer(invocation -> {
+            threadNames.put("get", Thread.currentThread().getName());
+            return empty();
+        }).when(mockCacheService)
+                .get(eq(id));
+        doAnswer(invocation -> {
+            threadNames.put("put", Thread.currentThread().getName());
+            return true;
+        }).when(mockCacheService)
+                .put(
+                        eq(id),
+                        eq(applicationClientDetails)
+                );
+        when(mockReactiveRepository.findById(id))
+                .thenReturn(
+                        Mono.just(applicationClientDetails)
+                );
+
+        Scheduler blockingIoScheduler = Schedulers.newSingle("blockingIoTest");
+        try {
+            StepVerifier.create(
+                            buildService(blockingIoScheduler).findByIdReactive(id)
+                    )
+                    .expectNext(applicationClientDetails)
+                    .verifyComplete();
+            verify(mockCacheService, timeout(1000))
+                    .put(
+                            eq(id),
+                            eq(applicationClientDetails)
+                    );
+        } finally {
+            blockingIoScheduler.dispose();
+        }
+
+        assertTrue(threadNames.get("get").startsWith("blockingIoTest"));
+        assertTrue(threadNames.get("put").startsWith("blockingIoTest"));
+    }
+
+
+    @Test
+    @DisplayName("findByIdReactive: when the storage in the cache cannot be scheduled then the loaded value is returned anyway")
+    public void findByIdReactive_whenStorageInCacheCannotBeScheduled_thenLoadedValueIsReturnedAnyway() {
+        String id = "FoundOnlyInDatabase";
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWS(id);
+
+        when(mockCacheService.get(eq(id)))
+                .thenReturn(
+                        empty()
+                );
+        when(mockReactiveRepository.findById(id))
+                .thenReturn(
+                        Mono.just(applicationClientDetails)
+                );
+
+        // The cache is read in the first task, the storage is rejected as if all the threads were busy
+        AtomicInteger scheduledTasks = new AtomicInteger();
+        Scheduler fullBlockingIoScheduler = Schedulers.fromExecutor(task -> {
+            if (1 < scheduledTasks.incrementAndGet()) {
+                throw new RejectedExecutionException("The scheduler is full");
+            }
+            task.run();
+        });
+        StepVerifier.create(
+                        buildService(fullBlockingIoScheduler).findByIdReactive(id)
+                )
+                .expectNext(applicationClientDetails)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        verify(mockCacheService, never())
+                .put(
+                        anyString(),
+                        any()
+                );
+    }
+
+
+    static Stream<Arguments> findByIdTokenValidityTestCases() {
+        // The test application client details have: accessTokenValidityInSeconds = 900, refreshTokenValidityInSeconds = 3600
+        return Stream.of(
+                //@formatter:off
+                //            maxTokenValidityInSeconds,   expectedException
+                Arguments.of( Integer.MAX_VALUE,           null ),
+                Arguments.of( 3600,                        null ),
+                Arguments.of( 1800,                        UnsupportedOperationException.class ),
+                Arguments.of( 600,                         UnsupportedOperationException.class )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("findByIdTokenValidityTestCases")
+    @DisplayName("findById: when the token validities are greater than the ones that can be revoked then the application client details is rejected")
+    public void findById_whenTokenValiditiesAreGreaterThanTheOnesThatCanBeRevoked_thenApplicationClientDetailsIsRejected(int maxTokenValidityInSeconds,
+                                                                                                                       Class<? extends Exception> expectedException) {
+        String id = "FoundOnlyInDatabase";
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWS(id);
+
+        when(mockRevokedTokenCacheService.getMaxTokenValidityInSeconds())
+                .thenReturn(
+                        maxTokenValidityInSeconds
+                );
+        when(mockCacheService.get(eq(id)))
+                .thenReturn(
+                        empty()
+                );
+        when(mockRepository.findById(id))
+                .thenReturn(
+                        of(applicationClientDetails)
+                );
+
+        if (null != expectedException) {
+            assertThrows(
+                    expectedException,
+                    () -> service.findById(id)
+            );
+        }
+        else {
+            ApplicationClientDetails result = service.findById(id);
+            assertEquals(
+                    applicationClientDetails,
+                    result
+            );
+        }
+        assertEquals(900, applicationClientDetails.getAccessTokenValidityInSeconds());
+        assertEquals(3600, applicationClientDetails.getRefreshTokenValidityInSeconds());
+    }
+
+
+    static Stream<Arguments> verifyTokenValiditiesTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            repositoryResult,   maxTokenValidityInSeconds,   expectedException
+                Arguments.of( empty(),            3600,                        null ),
+                Arguments.of( of(3600),           3600,                        null ),
+                Arguments.of( of(3600),           Integer.MAX_VALUE,           null ),
+                Arguments.of( of(3601),           3600,                        IllegalStateException.class )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("verifyTokenValiditiesTestCases")
+    @DisplayName("verifyTokenValidities: test cases")
+    public void verifyTokenValidities_testCases(Optional<Integer> repositoryResult,
+                                                int maxTokenValidityInSeconds,
+                                                Class<? extends Exception> expectedException) {
+        when(mockRepository.findMaxTokenValidityInSeconds())
+                .thenReturn(
+                        repositoryResult
+                );
+        when(mockRevokedTokenCacheService.getMaxTokenValidityInSeconds())
+                .thenReturn(
+                        maxTokenValidityInSeconds
+                );
+
+        if (null != expectedException) {
+            assertThrows(
+                    expectedException,
+                    () -> service.verifyTokenValidities()
+            );
+        }
+        else {
+            service.verifyTokenValidities();
+        }
+    }
+
+
+    static Stream<Arguments> refreshAheadTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            refreshAheadInSeconds,   requestedAt,            expectedDatabaseQueries
+                Arguments.of( 0,                       NOW.plusSeconds(59),    1 ),
+                Arguments.of( 10,                      NOW.plusSeconds(49),    1 ),
+                Arguments.of( 10,                      NOW.plusSeconds(50),    2 ),
+                Arguments.of( 60,                      NOW.plusSeconds(59),    1 )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("refreshAheadTestCases")
+    @DisplayName("findByIdReactive: refresh-ahead test cases")
+    public void findByIdReactiveRefreshAhead_testCases(int refreshAheadInSeconds,
+                                                       Instant requestedAt,
+                                                       int expectedDatabaseQueries) {
+        String id = "FoundOnlyInDatabase";
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWS(id);
+
+        when(mockCacheConfiguration.getCacheExpireInSeconds())
+                .thenReturn(
+                        60
+                );
+        when(mockCacheConfiguration.getCacheRefreshAheadInSeconds())
+                .thenReturn(
+                        refreshAheadInSeconds
+                );
+        when(mockCacheService.get(eq(id)))
+                .thenReturn(
+                        empty()
+                );
+        when(mockReactiveRepository.findById(id))
+                .thenReturn(
+                        Mono.just(applicationClientDetails)
+                );
+
+        // First request: the application client is loaded from database
+        StepVerifier.create(service.findByIdReactive(id))
+                .expectNext(applicationClientDetails)
+                .verifyComplete();
+
+        // Next ones: the application client is found in the cache
+        when(mockCacheService.get(eq(id)))
+                .thenReturn(
+                        of(applicationClientDetails)
+                );
+        when(mockClock.instant())
+                .thenReturn(
+                        requestedAt
+                );
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(service.findByIdReactive(id))
+                    .expectNext(applicationClientDetails)
+                    .verifyComplete();
+        }
+
+        verify(mockReactiveRepository, times(expectedDatabaseQueries))
+                .findById(eq(id));
+        verify(mockCacheService, times(expectedDatabaseQueries))
+                .put(eq(id), eq(applicationClientDetails));
+    }
+
+
     static Stream<Arguments> findByUsernameThrowingExceptionTestCases() {
         ApplicationClientDetails invalidApplicationClientDetails = buildApplicationClientDetailsJWS("JWS");
         invalidApplicationClientDetails.setTokenType(TokenType.JWE);
         return Stream.of(
                 //@formatter:off
-                //            id,           repositoryResult,                      expectedException
-                Arguments.of( null,         empty(),                               ApplicationClientNotFoundException.class ),
-                Arguments.of( "NotFound",   empty(),                               ApplicationClientNotFoundException.class ),
-                Arguments.of( "Found",      of(invalidApplicationClientDetails),   UnsupportedOperationException.class )
+                //            id,           repositoryResult,                            expectedException
+                Arguments.of( null,         Mono.empty(),                                ApplicationClientNotFoundException.class ),
+                Arguments.of( "NotFound",   Mono.empty(),                                ApplicationClientNotFoundException.class ),
+                Arguments.of( "Found",      Mono.just(invalidApplicationClientDetails),  UnsupportedOperationException.class )
         ); //@formatter:on
     }
 
@@ -154,24 +555,29 @@ public class ApplicationClientDetailsServiceTest {
     @MethodSource("findByUsernameThrowingExceptionTestCases")
     @DisplayName("findByUsername: throwing exception test cases")
     public void findByUsernameThrowingException_testCases(String id,
-                                                          Optional<ApplicationClientDetails> repositoryResult,
+                                                          Mono<ApplicationClientDetails> repositoryResult,
                                                           Class<? extends Exception> expectedException) {
-        when(mockRepository.findById(id))
+        when(mockCacheService.get(eq(id)))
+                .thenReturn(
+                        empty()
+                );
+        when(mockReactiveRepository.findById(id))
                 .thenReturn(
                         repositoryResult
                 );
 
-        assertThrows(
-                expectedException,
-                () -> service.findByUsername(id)
-        );
+        StepVerifier.create(service.findByUsername(id))
+                .expectError(expectedException)
+                .verify();
 
         VerificationMode times = null == id
                 ? never()
                 : times(1);
 
-        verify(mockRepository, times)
+        verify(mockReactiveRepository, times)
                 .findById(eq(id));
+        verify(mockRepository, never())
+                .findById(any());
     }
 
 
@@ -179,8 +585,8 @@ public class ApplicationClientDetailsServiceTest {
         ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWE("ItDoesNotCare");
         return Stream.of(
                 //@formatter:off
-                //            id,        repositoryResult,               expectedResult
-                Arguments.of( "Found",   of(applicationClientDetails),   applicationClientDetails )
+                //            id,        repositoryResult,                       expectedResult
+                Arguments.of( "Found",   Mono.just(applicationClientDetails),    applicationClientDetails )
         ); //@formatter:on
     }
 
@@ -188,9 +594,13 @@ public class ApplicationClientDetailsServiceTest {
     @MethodSource("findByUsernameValidTestCases")
     @DisplayName("findByUsername: valid test cases")
     public void findByUsernameValid_testCases(String id,
-                                              Optional<ApplicationClientDetails> repositoryResult,
+                                              Mono<ApplicationClientDetails> repositoryResult,
                                               ApplicationClientDetails expectedResult) {
-        when(mockRepository.findById(id))
+        when(mockCacheService.get(eq(id)))
+                .thenReturn(
+                        empty()
+                );
+        when(mockReactiveRepository.findById(id))
                 .thenReturn(
                         repositoryResult
                 );
@@ -202,7 +612,7 @@ public class ApplicationClientDetailsServiceTest {
                             expectedResult,
                             userDetails
                     );
-                    verify(mockRepository, times(1))
+                    verify(mockReactiveRepository, times(1))
                             .findById(eq(id));
                     verify(mockCacheService, times(1))
                             .get(eq(id));
@@ -212,6 +622,40 @@ public class ApplicationClientDetailsServiceTest {
     }
 
 
+    private void findByIdReactiveVerifyInvocations(final String id,
+                                                   final Optional<ApplicationClientDetails> repositoryResult,
+                                                   final ApplicationClientDetails cacheServiceResult) {
+        verify(mockRepository, never())
+                .findById(any());
+
+        // No id value provided or found ApplicationClientDetails in cache
+        if (null == id || null != cacheServiceResult) {
+            verify(mockReactiveRepository, never())
+                    .findById(any());
+            verify(mockCacheService, never())
+                    .put(any(), any());
+            verify(mockCredentialsCacheService, never())
+                    .remove(any());
+        }
+        // Found ApplicationClientDetails only in database
+        else if (repositoryResult.isPresent()) {
+            verify(mockReactiveRepository, times(1))
+                    .findById(eq(id));
+            verify(mockCacheService, times(1))
+                    .put(eq(id), eq(repositoryResult.get()));
+            verify(mockCredentialsCacheService, times(1))
+                    .remove(eq(repositoryResult.get().getPassword()));
+        }
+        // Not found ApplicationClientDetails neither in cache nor database
+        else {
+            verify(mockReactiveRepository, times(1))
+                    .findById(eq(id));
+            verify(mockCacheService, never())
+                    .put(any(), any());
+        }
+    }
+
+
     private void findByIdVerifyInvocations(final String id,
                                            final Optional<ApplicationClientDetails> repositoryResult,
                                            final ApplicationClientDetails cacheServiceResult) {
@@ -233,6 +677,8 @@ public class ApplicationClientDetailsServiceTest {
                     .get(eq(id));
             verify(mockCacheService, times(1))
                     .put(eq(id), eq(repositoryResult.get()));
+            verify(mockCredentialsCacheService, times(1))
+                    .remove(eq(repositoryResult.get().getPassword()));
 
         // Found ApplicationClientDetails in cache
         }
@@ -243,6 +689,8 @@ public class ApplicationClientDetailsServiceTest {
                     .get(eq(id));
             verify(mockCacheService, times(0))
                     .put(any(), any());
+            verify(mockCredentialsCacheService, times(0))
+                    .remove(any());
 
         // Not found ApplicationClientDetails neither in cache nor database
         }
@@ -260,4 +708,18 @@ public class ApplicationClientDetailsServiceTest {
         }
     }
 
+
+    private ApplicationClientDetailsService buildService(final Scheduler blockingIoScheduler) {
+        return new ApplicationClientDetailsService(
+                mockCacheConfiguration,
+                mockCacheService,
+                mockCredentialsCacheService,
+                mockRepository,
+                mockReactiveRepository,
+                mockRevokedTokenCacheService,
+                blockingIoScheduler,
+                mockClock
+        );
+    }
+
 }
@@ -65,7 +65,7 @@ public class AuthenticationRequestDetailsServiceTest {
                                                   AuthenticationRequestDetails cacheServiceResult,
                                                   Class<? extends Exception> expectedException,
                                                   AuthenticationRequestDetails expectedResult) {
-        when(mockCacheService.get(eq(authorizationCode)))
+        when(mockCacheService.getAndRemove(eq(authorizationCode)))
                 .thenReturn(
                         ofNullable(cacheServiceResult)
                 );
@@ -185,25 +185,31 @@ public class AuthenticationRequestDetailsServiceTest {
         // No authorizationCode value provided
         if (null == authorizationCode) {
             verify(mockCacheService, times(0))
-                    .get(eq(authorizationCode));
+                    .getAndRemove(eq(authorizationCode));
             verify(mockCacheService, times(0))
-                    .put(any(), any());
+                    .get(any());
+            verify(mockCacheService, times(0))
+                    .remove(any());
 
         // Found AuthenticationRequestDetails in cache
         }
         else if (null != cacheServiceResult) {
             verify(mockCacheService, times(1))
-                    .get(eq(authorizationCode));
+                    .getAndRemove(eq(authorizationCode));
+            verify(mockCacheService, times(0))
+                    .get(any());
             verify(mockCacheService, times(0))
-                    .put(any(), any());
+                    .remove(any());
 
         // Not found AuthenticationRequestDetails in cache
         }
         else if (null == cacheServiceResult) {
             verify(mockCacheService, times(1))
-                    .get(eq(authorizationCode));
+                    .getAndRemove(eq(authorizationCode));
+            verify(mockCacheService, times(0))
+                    .get(any());
             verify(mockCacheService, times(0))
-                    .put(any(), any());
+                    .remove(any());
 
         }
         else {
@@ -12,6 +12,7 @@ import com.security.custom.exception.ApplicationClientMismatchException;
 import com.security.custom.exception.ApplicationClientNotFoundException;
 import com.security.custom.exception.AuthenticationRequestDetailsNotFoundException;
 import com.security.custom.exception.AuthenticationRequestDetailsNotSavedException;
+import com.security.custom.enums.token.TokenKey;
 import com.security.custom.exception.token.TokenException;
 import com.security.custom.interfaces.IApplicationClientAuthenticationService;
 import com.security.custom.model.ApplicationClientDetails;
@@ -32,6 +33,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
+import org.mockito.stubbing.Answer;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.context.ApplicationContext;
@@ -39,11 +41,18 @@ import org.springframework.security.authentication.AccountStatusException;
 import org.springframework.security.authentication.LockedException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
 
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import static com.security.custom.TestDataFactory.*;
@@ -60,6 +69,10 @@ import static org.mockito.Mockito.*;
 )
 public class AuthenticationServiceTest {
 
+    private static final String BLOCKING_IO_THREAD_NAME = "blockingIoTest";
+
+    private static final String CRYPTO_THREAD_NAME = "cryptoTest";
+
     @Mock
     private ApplicationContext mockApplicationContext;
 
@@ -89,7 +102,9 @@ public class AuthenticationServiceTest {
                 mockApplicationUserBlackListService,
                 mockAuthenticationRequestDetailsService,
                 mockAuthorizationService,
-                mockTokenService
+                mockTokenService,
+                Schedulers.immediate(),
+                Schedulers.immediate()
         );
     }
 
@@ -458,6 +473,241 @@ public class AuthenticationServiceTest {
     }
 
 
+    @Test
+    @DisplayName("loginReactive: when the ApplicationClientAuthenticationService is not a reactive one then blocking login is used")
+    public void loginReactive_whenTheApplicationClientAuthenticationServiceIsNotAReactiveOne_thenBlockingLoginIsUsed() {
+        String applicationClientId = SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId();
+        String username = "username value";
+        String password = "password value";
+        IApplicationClientAuthenticationService mockAuthenticationService = mock(
+                IApplicationClientAuthenticationService.class
+        );
+
+        when(mockApplicationContext.getBean(ArgumentMatchers.<Class<IApplicationClientAuthenticationService>>any()))
+                .thenReturn(
+                        mockAuthenticationService
+                );
+        when(mockApplicationClientDetailsService.findById(eq(applicationClientId)))
+                .thenReturn(
+                        buildApplicationClientDetailsJWE(applicationClientId)
+                );
+        when(mockAuthenticationService.loadUserByUsername(eq(username)))
+                .thenThrow(
+                        UsernameNotFoundException.class
+                );
+
+        StepVerifier.create(
+                        service.loginReactive(
+                                applicationClientId,
+                                username,
+                                password
+                        )
+                )
+                .expectError(UsernameNotFoundException.class)
+                .verify();
+
+        verify(mockApplicationClientDetailsService, times(1))
+                .findById(
+                        eq(applicationClientId)
+                );
+        verify(mockApplicationClientDetailsService, never())
+                .findByIdReactive(
+                        any()
+                );
+        verify(mockAuthenticationService, times(1))
+                .loadUserByUsername(
+                        eq(username)
+                );
+    }
+
+
+    @Test
+    @DisplayName("loginReactive: when a User with given username is not found in database then UsernameNotFoundException is returned")
+    public void loginReactive_whenAUserWithGivenUsernameIsNotFoundInDatabase_thenUsernameNotFoundExceptionIsReturned() {
+        String applicationClientId = SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId();
+        String username = "username value";
+        String password = "password value";
+        Spring6MicroserviceAuthenticationService mockAuthenticationService = mock(Spring6MicroserviceAuthenticationService.class);
+
+        when(mockApplicationContext.getBean(ArgumentMatchers.<Class<IApplicationClientAuthenticationService>>any()))
+                .thenReturn(
+                        mockAuthenticationService
+                );
+        when(mockApplicationClientDetailsService.findByIdReactive(eq(applicationClientId)))
+                .thenReturn(
+                        Mono.just(
+                                buildApplicationClientDetailsJWE(applicationClientId)
+                        )
+                );
+        when(mockAuthenticationService.findByUsername(eq(username)))
+                .thenReturn(
+                        Mono.error(
+                                new UsernameNotFoundException("Not found")
+                        )
+                );
+
+        StepVerifier.create(
+                        service.loginReactive(
+                                applicationClientId,
+                                username,
+                                password
+                        )
+                )
+                .expectError(UsernameNotFoundException.class)
+                .verify();
+
+        verify(mockApplicationClientDetailsService, never())
+                .findById(
+                        any()
+                );
+        verify(mockAuthenticationService, never())
+                .loadUserByUsername(
+                        any()
+                );
+        verify(mockAuthenticationService, never())
+                .isValidPassword(
+                        any(),
+                        any()
+                );
+    }
+
+
+    @Test
+    @DisplayName("loginReactive: when User with given username is found in database but passwords do not match then UnauthorizedException is returned")
+    public void loginReactive_whenUserWithGivenUsernameIsFoundInDatabaseButPasswordsDoNotMatch_thenUnauthorizedExceptionIsReturned() {
+        String applicationClientId = SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId();
+        String username = "username value";
+        String password = "password value";
+        Spring6MicroserviceAuthenticationService mockAuthenticationService = mock(Spring6MicroserviceAuthenticationService.class);
+        User user = buildUser(username, password + "V2", true);
+
+        when(mockApplicationContext.getBean(ArgumentMatchers.<Class<IApplicationClientAuthenticationService>>any()))
+                .thenReturn(
+                        mockAuthenticationService
+                );
+        when(mockApplicationClientDetailsService.findByIdReactive(eq(applicationClientId)))
+                .thenReturn(
+                        Mono.just(
+                                buildApplicationClientDetailsJWE(applicationClientId)
+                        )
+                );
+        when(mockAuthenticationService.findByUsername(eq(username)))
+                .thenReturn(
+                        Mono.just(user)
+                );
+        when(mockAuthenticationService.isValidPassword(eq(password), eq(user)))
+                .thenReturn(
+                        false
+                );
+
+        StepVerifier.create(
+                        service.loginReactive(
+                                applicationClientId,
+                                username,
+                                password
+                        )
+                )
+                .expectError(UnauthorizedException.class)
+                .verify();
+
+        verify(mockAuthenticationService, times(1))
+                .isValidPassword(
+                        eq(password),
+                        eq(user)
+                );
+        verify(mockApplicationUserBlackListService, never())
+                .remove(
+                        any(),
+                        any()
+                );
+    }
+
+
+    @ParameterizedTest
+    @MethodSource("loginNoExceptionThrownTestCases")
+    @DisplayName("loginReactive: no exception thrown test cases")
+    public void loginReactiveNoExceptionThrown_testCases(Optional<RawAuthenticationInformationDto> rawAuthenticationInformation,
+                                                         Optional<AuthenticationInformationDto> expectedResult) {
+        String applicationClientId = SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId();
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWE(applicationClientId);
+        String username = "username value";
+        String password = "password value";
+        User user = buildUser(username, password, true);
+        Spring6MicroserviceAuthenticationService mockAuthenticationService = mock(
+                Spring6MicroserviceAuthenticationService.class
+        );
+
+        when(mockApplicationContext.getBean(ArgumentMatchers.<Class<IApplicationClientAuthenticationService>>any()))
+                .thenReturn(
+                        mockAuthenticationService
+                );
+        when(mockApplicationClientDetailsService.findByIdReactive(eq(applicationClientId)))
+                .thenReturn(
+                        Mono.just(applicationClientDetails)
+                );
+        when(mockAuthenticationService.findByUsername(eq(username)))
+                .thenReturn(
+                        Mono.just(user)
+                );
+        when(mockAuthenticationService.isValidPassword(eq(password), eq(user)))
+                .thenReturn(
+                        true
+                );
+        when(mockAuthenticationService.getRawAuthenticationInformation(eq(user)))
+                .thenReturn(
+                        rawAuthenticationInformation
+                );
+
+        if (expectedResult.isPresent()) {
+            when(mockTokenService.getNewIdentifier())
+                    .thenReturn(
+                            expectedResult.get().getId()
+                    );
+            when(mockTokenService.createAccessToken(eq(applicationClientDetails), eq(rawAuthenticationInformation.get()), eq(expectedResult.get().getId())))
+                    .thenReturn(
+                            expectedResult.get().getAccessToken()
+                    );
+            when(mockTokenService.createRefreshToken(eq(applicationClientDetails), eq(rawAuthenticationInformation.get()), eq(expectedResult.get().getId())))
+                    .thenReturn(
+                            expectedResult.get().getRefreshToken()
+                    );
+            StepVerifier.create(
+                            service.loginReactive(
+                                    applicationClientId,
+                                    username,
+                                    password
+                            )
+                    )
+                    .expectNext(expectedResult.get())
+                    .verifyComplete();
+        }
+        else {
+            StepVerifier.create(
+                            service.loginReactive(
+                                    applicationClientId,
+                                    username,
+                                    password
+                            )
+                    )
+                    .verifyComplete();
+        }
+
+        verify(mockApplicationClientDetailsService, never())
+                .findById(
+                        any()
+                );
+        verify(mockAuthenticationService, never())
+                .loadUserByUsername(
+                        any()
+                );
+        verify(mockApplicationUserBlackListService, times(1))
+                .remove(
+                        eq(applicationClientId),
+                        eq(username)
+                );
+    }
+
+
     @Test
     @DisplayName("loginAuthorized: when no applicationClientId is provided then ApplicationClientNotFoundException is thrown")
     public void loginAuthorized_whenNoApplicationClientIdIsProvided_thenApplicationClientNotFoundExceptionIsThrown() {
@@ -841,6 +1091,153 @@ public class AuthenticationServiceTest {
     }
 
 
+    @Test
+    @DisplayName("loginTokenReactive: when the request is valid then the cache and database are accessed in the blocking I/O scheduler and the password and tokens are managed in the crypto one")
+    public void loginTokenReactive_whenRequestIsValid_thenCacheAndDatabaseAreAccessedInBlockingIoSchedulerAndPasswordAndTokensAreManagedInCryptoOne() {
+        String applicationClientId = SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId();
+        String authorizationCode = "Found";
+        String username = "username value";
+        String password = "password value";
+        AuthenticationRequestLoginTokenDto authenticationRequestLoginToken = buildAuthenticationRequestLoginTokenDto(
+                username,
+                password,
+                authorizationCode,
+                "verifier value"
+        );
+        AuthenticationRequestDetails authenticationRequestDetails = buildAuthenticationRequestDetails(
+                authorizationCode,
+                applicationClientId,
+                "f58dd405627d81b1bb902a0dac75848e8f9bc937f1f2f0f111ac781ba2c187f24c2611772b1ffc7a02efb1935958d673",
+                HashAlgorithm.SHA_384
+        );
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWE(applicationClientId);
+        User user = buildUser(username, password, true);
+        RawAuthenticationInformationDto rawAuthenticationInformation = buildRawAuthenticationInformationDto(
+                username,
+                List.of(
+                        RoleEnum.ROLE_ADMIN.name()
+                )
+        );
+        AuthenticationInformationDto expectedResult = buildAuthenticationInformationDto("11");
+        Spring6MicroserviceAuthenticationService mockAuthenticationService = mock(
+                Spring6MicroserviceAuthenticationService.class
+        );
+        Map<String, String> threadNames = new ConcurrentHashMap<>();
+
+        when(mockAuthenticationRequestDetailsService.findByAuthorizationCode(eq(authorizationCode)))
+                .thenAnswer(
+                        returnsRecordingThreadName(threadNames, "findByAuthorizationCode", authenticationRequestDetails)
+                );
+        when(mockApplicationContext.getBean(ArgumentMatchers.<Class<IApplicationClientAuthenticationService>>any()))
+                .thenReturn(
+                        mockAuthenticationService
+                );
+        when(mockApplicationClientDetailsService.findById(eq(applicationClientId)))
+                .thenAnswer(
+                        returnsRecordingThreadName(threadNames, "findById", applicationClientDetails)
+                );
+        when(mockAuthenticationService.loadUserByUsername(eq(username)))
+                .thenAnswer(
+                        returnsRecordingThreadName(threadNames, "loadUserByUsername", user)
+                );
+        when(mockAuthenticationService.isValidPassword(eq(password), eq(user)))
+                .thenAnswer(
+                        returnsRecordingThreadName(threadNames, "isValidPassword", true)
+                );
+        when(mockAuthenticationService.getRawAuthenticationInformation(eq(user)))
+                .thenReturn(
+                        of(rawAuthenticationInformation)
+                );
+        when(mockTokenService.getNewIdentifier())
+                .thenReturn(
+                        expectedResult.getId()
+                );
+        when(mockTokenService.createAccessToken(eq(applicationClientDetails), eq(rawAuthenticationInformation), eq(expectedResult.getId())))
+                .thenAnswer(
+                        returnsRecordingThreadName(threadNames, "createAccessToken", expectedResult.getAccessToken())
+                );
+        when(mockTokenService.createRefreshToken(eq(applicationClientDetails), eq(rawAuthenticationInformation), eq(expectedResult.getId())))
+                .thenReturn(
+                        expectedResult.getRefreshToken()
+                );
+        when(mockApplicationUserBlackListService.remove(eq(applicationClientId), eq(username)))
+                .thenAnswer(
+                        returnsRecordingThreadName(threadNames, "remove", true)
+                );
+
+        Scheduler blockingIoScheduler = Schedulers.newSingle(BLOCKING_IO_THREAD_NAME);
+        Scheduler cryptoScheduler = Schedulers.newSingle(CRYPTO_THREAD_NAME);
+        try {
+            StepVerifier.create(
+                            buildService(blockingIoScheduler, cryptoScheduler).loginTokenReactive(
+                                    applicationClientId,
+                                    authenticationRequestLoginToken
+                            )
+                    )
+                    .expectNext(expectedResult)
+                    .verifyComplete();
+        } finally {
+            blockingIoScheduler.dispose();
+            cryptoScheduler.dispose();
+        }
+
+        assertThreadNameStartsWith(BLOCKING_IO_THREAD_NAME, threadNames, "findByAuthorizationCode", "findById", "loadUserByUsername", "remove");
+        assertThreadNameStartsWith(CRYPTO_THREAD_NAME, threadNames, "isValidPassword", "createAccessToken");
+    }
+
+
+    @Test
+    @DisplayName("loginTokenReactive: when the verifier does not match and the user does not exist then UnauthorizedException is returned")
+    public void loginTokenReactive_whenVerifierDoesNotMatchAndUserDoesNotExist_thenUnauthorizedExceptionIsReturned() {
+        String applicationClientId = SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId();
+        String authorizationCode = "Found";
+        String username = "username value";
+        AuthenticationRequestLoginTokenDto authenticationRequestLoginToken = buildAuthenticationRequestLoginTokenDto(
+                username,
+                "password value",
+                authorizationCode,
+                "not matching verifier value"
+        );
+        AuthenticationRequestDetails authenticationRequestDetails = buildAuthenticationRequestDetails(
+                authorizationCode,
+                applicationClientId,
+                "f58dd405627d81b1bb902a0dac75848e8f9bc937f1f2f0f111ac781ba2c187f24c2611772b1ffc7a02efb1935958d673",
+                HashAlgorithm.SHA_384
+        );
+        Spring6MicroserviceAuthenticationService mockAuthenticationService = mock(
+                Spring6MicroserviceAuthenticationService.class
+        );
+
+        when(mockAuthenticationRequestDetailsService.findByAuthorizationCode(eq(authorizationCode)))
+                .thenReturn(
+                        authenticationRequestDetails
+                );
+        when(mockApplicationContext.getBean(ArgumentMatchers.<Class<IApplicationClientAuthenticationService>>any()))
+                .thenReturn(
+                        mockAuthenticationService
+                );
+        when(mockAuthenticationService.loadUserByUsername(eq(username)))
+                .thenThrow(
+                        UsernameNotFoundException.class
+                );
+
+        StepVerifier.create(
+                        service.loginTokenReactive(
+                                applicationClientId,
+                                authenticationRequestLoginToken
+                        )
+                )
+                .expectError(UnauthorizedException.class)
+                .verify();
+
+        verify(mockApplicationUserBlackListService, never())
+                .remove(
+                        anyString(),
+                        anyString()
+                );
+    }
+
+
     static Stream<Arguments> logoutTestCases() {
         String applicationClientId = SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId();
         LogoutRequestDto logoutRequestDto = buildLogoutRequestDto("username value");
@@ -890,6 +1287,125 @@ public class AuthenticationServiceTest {
     }
 
 
+    @Test
+    @DisplayName("logout: when tokens to revoke are provided then they are revoked too")
+    public void logout_whenTokensToRevokeAreProvided_thenTheyAreRevokedToo() {
+        String applicationClientId = SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId();
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWS(applicationClientId);
+        LogoutRequestDto logoutRequest = buildLogoutRequestDto(
+                "username value",
+                "access token value",
+                "refresh token value"
+        );
+
+        when(mockApplicationUserBlackListService.save(eq(applicationClientId), eq(logoutRequest.getUsername())))
+                .thenReturn(
+                        true
+                );
+        when(mockApplicationClientDetailsService.findById(eq(applicationClientId)))
+                .thenReturn(
+                        applicationClientDetails
+                );
+        when(mockAuthorizationService.revokeToken(eq(applicationClientDetails), eq(logoutRequest.getAccessToken())))
+                .thenReturn(
+                        true
+                );
+        when(mockAuthorizationService.revokeToken(eq(applicationClientDetails), eq(logoutRequest.getRefreshToken())))
+                .thenReturn(
+                        false
+                );
+
+        assertFalse(
+                service.logout(applicationClientId, logoutRequest)
+        );
+
+        verify(mockApplicationUserBlackListService, times(1))
+                .save(
+                        eq(applicationClientId),
+                        eq(logoutRequest.getUsername())
+                );
+        verify(mockAuthorizationService, times(1))
+                .revokeToken(
+                        eq(applicationClientDetails),
+                        eq(logoutRequest.getAccessToken())
+                );
+        verify(mockAuthorizationService, times(1))
+                .revokeToken(
+                        eq(applicationClientDetails),
+                        eq(logoutRequest.getRefreshToken())
+                );
+    }
+
+
+    @Test
+    @DisplayName("logoutReactive: when tokens to revoke are provided then the cache and database are accessed in the blocking I/O scheduler and the tokens are verified in the crypto one")
+    public void logoutReactive_whenTokensToRevokeAreProvided_thenCacheAndDatabaseAreAccessedInBlockingIoSchedulerAndTokensAreVerifiedInCryptoOne() {
+        String applicationClientId = SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId();
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWS(applicationClientId);
+        LogoutRequestDto logoutRequest = buildLogoutRequestDto(
+                "username value",
+                "expired access token value",
+                "refresh token value"
+        );
+        AuthorizationService.TokenToRevoke refreshTokenToRevoke = new AuthorizationService.TokenToRevoke(
+                TokenKey.REFRESH_JWT_ID,
+                "rti value",
+                Instant.now().plusSeconds(60)
+        );
+        Map<String, String> threadNames = new ConcurrentHashMap<>();
+
+        when(mockApplicationUserBlackListService.save(eq(applicationClientId), eq(logoutRequest.getUsername())))
+                .thenAnswer(
+                        returnsRecordingThreadName(threadNames, "save", true)
+                );
+        when(mockApplicationClientDetailsService.findById(eq(applicationClientId)))
+                .thenAnswer(
+                        returnsRecordingThreadName(threadNames, "findById", applicationClientDetails)
+                );
+        when(mockAuthorizationService.getTokenToRevoke(eq(applicationClientDetails), eq(logoutRequest.getAccessToken())))
+                .thenReturn(
+                        empty()
+                );
+        when(mockAuthorizationService.getTokenToRevoke(eq(applicationClientDetails), eq(logoutRequest.getRefreshToken())))
+                .thenAnswer(
+                        returnsRecordingThreadName(threadNames, "getTokenToRevoke", of(refreshTokenToRevoke))
+                );
+        when(mockAuthorizationService.revoke(eq(applicationClientId), eq(refreshTokenToRevoke)))
+                .thenAnswer(
+                        returnsRecordingThreadName(threadNames, "revoke", true)
+                );
+
+        Scheduler blockingIoScheduler = Schedulers.newSingle(BLOCKING_IO_THREAD_NAME);
+        Scheduler cryptoScheduler = Schedulers.newSingle(CRYPTO_THREAD_NAME);
+        try {
+            StepVerifier.create(
+                            buildService(blockingIoScheduler, cryptoScheduler).logoutReactive(
+                                    applicationClientId,
+                                    logoutRequest
+                            )
+                    )
+                    .expectNext(true)
+                    .verifyComplete();
+        } finally {
+            blockingIoScheduler.dispose();
+            cryptoScheduler.dispose();
+        }
+
+        assertThreadNameStartsWith(BLOCKING_IO_THREAD_NAME, threadNames, "save", "findById", "revoke");
+        assertThreadNameStartsWith(CRYPTO_THREAD_NAME, threadNames, "getTokenToRevoke");
+        verify(mockAuthorizationService, times(1))
+                .revoke(
+                        any(),
+                        any()
+                );
+        verify(mockAuthorizationService, never())
+                .revokeToken(
+                        any(),
+                        any()
+                );
+    }
+
+
     @Test
     @DisplayName("refresh: when no applicationClientId is found in SecurityHandler then ApplicationClientNotFoundException is thrown")
     public void refresh_whenNoApplicationClientIdIsFoundInSecurityHandler_thenApplicationClientNotFoundExceptionIsThrown() {
@@ -986,7 +1502,7 @@ public class AuthenticationServiceTest {
                 .thenReturn(
                         applicationClientDetails
                 );
-        when(mockAuthorizationService.checkRefreshToken(eq(applicationClientDetails), eq(refreshToken)))
+        when(mockAuthorizationService.checkAndRevokeRefreshToken(eq(applicationClientDetails), eq(refreshToken)))
                 .thenThrow(
                         TokenException.class
                 );
@@ -1008,7 +1524,7 @@ public class AuthenticationServiceTest {
                         eq(applicationClientId)
                 );
         verify(mockAuthorizationService, times(1))
-                .checkRefreshToken(
+                .checkAndRevokeRefreshToken(
                         eq(applicationClientDetails),
                         eq(refreshToken)
                 );
@@ -1031,7 +1547,7 @@ public class AuthenticationServiceTest {
                 .thenReturn(
                         applicationClientDetails
                 );
-        when(mockAuthorizationService.checkRefreshToken(eq(applicationClientDetails), eq(refreshToken)))
+        when(mockAuthorizationService.checkAndRevokeRefreshToken(eq(applicationClientDetails), eq(refreshToken)))
                 .thenThrow(
                         UsernameNotFoundException.class
                 );
@@ -1053,7 +1569,7 @@ public class AuthenticationServiceTest {
                         eq(applicationClientId)
                 );
         verify(mockAuthorizationService, times(1))
-                .checkRefreshToken(
+                .checkAndRevokeRefreshToken(
                         eq(applicationClientDetails),
                         eq(refreshToken)
                 );
@@ -1080,7 +1596,7 @@ public class AuthenticationServiceTest {
                 .thenReturn(
                         applicationClientDetails
                 );
-        when(mockAuthorizationService.checkRefreshToken(eq(applicationClientDetails), eq(refreshToken)))
+        when(mockAuthorizationService.checkAndRevokeRefreshToken(eq(applicationClientDetails), eq(refreshToken)))
                 .thenReturn(
                         authorizationInformation
                 );
@@ -1106,7 +1622,7 @@ public class AuthenticationServiceTest {
                         eq(applicationClientId)
                 );
         verify(mockAuthorizationService, times(1))
-                .checkRefreshToken(
+                .checkAndRevokeRefreshToken(
                         eq(applicationClientDetails),
                         eq(refreshToken)
                 );
@@ -1137,7 +1653,7 @@ public class AuthenticationServiceTest {
                 .thenReturn(
                         applicationClientDetails
                 );
-        when(mockAuthorizationService.checkRefreshToken(eq(applicationClientDetails), eq(refreshToken)))
+        when(mockAuthorizationService.checkAndRevokeRefreshToken(eq(applicationClientDetails), eq(refreshToken)))
                 .thenReturn(
                         authorizationInformation
                 );
@@ -1163,7 +1679,7 @@ public class AuthenticationServiceTest {
                         eq(applicationClientId)
                 );
         verify(mockAuthorizationService, times(1))
-                .checkRefreshToken(
+                .checkAndRevokeRefreshToken(
                         eq(applicationClientDetails),
                         eq(refreshToken)
                 );
@@ -1224,7 +1740,7 @@ public class AuthenticationServiceTest {
                 .thenReturn(
                         applicationClientDetails
                 );
-        when(mockAuthorizationService.checkRefreshToken(eq(applicationClientDetails), eq(refreshToken)))
+        when(mockAuthorizationService.checkAndRevokeRefreshToken(eq(applicationClientDetails), eq(refreshToken)))
                 .thenReturn(
                         authorizationInformation
                 );
@@ -1283,7 +1799,7 @@ public class AuthenticationServiceTest {
                         eq(applicationClientId)
                 );
         verify(mockAuthorizationService, times(1))
-                .checkRefreshToken(
+                .checkAndRevokeRefreshToken(
                         eq(applicationClientDetails),
                         eq(refreshToken)
                 );
@@ -1314,4 +1830,147 @@ public class AuthenticationServiceTest {
                 );
     }
 
+
+    @Test
+    @DisplayName("refreshReactive: when the refresh token is valid then the cache and database are accessed in the blocking I/O scheduler and the tokens are managed in the crypto one")
+    public void refreshReactive_whenRefreshTokenIsValid_thenCacheAndDatabaseAreAccessedInBlockingIoSchedulerAndTokensAreManagedInCryptoOne() {
+        String applicationClientId = SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId();
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWE(applicationClientId);
+        String refreshToken = "ItDoesNotCare";
+        String username = "username value";
+        AuthorizationInformationDto authorizationInformation = AuthorizationInformationDto.builder()
+                .username(username)
+                .authorities(
+                        Set.of(RoleEnum.ROLE_ADMIN.name())
+                )
+                .additionalInformation(new HashMap<>())
+                .build();
+        AuthorizationService.VerifiedRefreshToken verifiedRefreshToken = new AuthorizationService.VerifiedRefreshToken(
+                authorizationInformation,
+                "rti value",
+                Instant.now().plusSeconds(60)
+        );
+        User user = buildUser(username, "password value", true);
+        RawAuthenticationInformationDto rawAuthenticationInformation = buildRawAuthenticationInformationDto(
+                username,
+                List.of(
+                        RoleEnum.ROLE_ADMIN.name()
+                )
+        );
+        AuthenticationInformationDto expectedResult = buildAuthenticationInformationDto("11");
+        Spring6MicroserviceAuthenticationService mockAuthenticationService = mock(
+                Spring6MicroserviceAuthenticationService.class
+        );
+        Map<String, String> threadNames = new ConcurrentHashMap<>();
+
+        when(mockApplicationContext.getBean(ArgumentMatchers.<Class<IApplicationClientAuthenticationService>>any()))
+                .thenReturn(
+                        mockAuthenticationService
+                );
+        when(mockApplicationClientDetailsService.findById(eq(applicationClientId)))
+                .thenAnswer(
+                        returnsRecordingThreadName(threadNames, "findById", applicationClientDetails)
+                );
+        when(mockAuthorizationService.verifyRefreshToken(eq(applicationClientDetails), eq(refreshToken)))
+                .thenAnswer(
+                        returnsRecordingThreadName(threadNames, "verifyRefreshToken", verifiedRefreshToken)
+                );
+        when(mockAuthorizationService.checkAndRevokeVerifiedRefreshToken(eq(applicationClientId), eq(verifiedRefreshToken)))
+                .thenAnswer(
+                        returnsRecordingThreadName(threadNames, "checkAndRevokeVerifiedRefreshToken", authorizationInformation)
+                );
+        when(mockAuthenticationService.loadUserByUsername(eq(username)))
+                .thenAnswer(
+                        returnsRecordingThreadName(threadNames, "loadUserByUsername", user)
+                );
+        when(mockAuthenticationService.getRawAuthenticationInformation(eq(user)))
+                .thenReturn(
+                        of(rawAuthenticationInformation)
+                );
+        when(mockApplicationUserBlackListService.remove(eq(applicationClientId), eq(username)))
+                .thenAnswer(
+                        returnsRecordingThreadName(threadNames, "remove", true)
+                );
+        when(mockTokenService.getNewIdentifier())
+                .thenReturn(
+                        expectedResult.getId()
+                );
+        when(mockTokenService.createAccessToken(eq(applicationClientDetails), eq(rawAuthenticationInformation), eq(expectedResult.getId())))
+                .thenAnswer(
+                        returnsRecordingThreadName(threadNames, "createAccessToken", expectedResult.getAccessToken())
+                );
+        when(mockTokenService.createRefreshToken(eq(applicationClientDetails), eq(rawAuthenticationInformation), eq(expectedResult.getId())))
+                .thenReturn(
+                        expectedResult.getRefreshToken()
+                );
+
+        Scheduler blockingIoScheduler = Schedulers.newSingle(BLOCKING_IO_THREAD_NAME);
+        Scheduler cryptoScheduler = Schedulers.newSingle(CRYPTO_THREAD_NAME);
+        try {
+            StepVerifier.create(
+                            buildService(blockingIoScheduler, cryptoScheduler).refreshReactive(
+                                    applicationClientId,
+                                    refreshToken
+                            )
+                    )
+                    .expectNext(expectedResult)
+                    .verifyComplete();
+        } finally {
+            blockingIoScheduler.dispose();
+            cryptoScheduler.dispose();
+        }
+
+        assertThreadNameStartsWith(BLOCKING_IO_THREAD_NAME, threadNames, "findById", "checkAndRevokeVerifiedRefreshToken", "loadUserByUsername", "remove");
+        assertThreadNameStartsWith(CRYPTO_THREAD_NAME, threadNames, "verifyRefreshToken", "createAccessToken");
+        verify(mockAuthorizationService, never())
+                .checkAndRevokeRefreshToken(
+                        any(),
+                        any()
+                );
+    }
+
+
+    private AuthenticationService buildService(final Scheduler blockingIoScheduler,
+                                               final Scheduler cryptoScheduler) {
+        return new AuthenticationService(
+                mockApplicationContext,
+                mockApplicationClientDetailsService,
+                mockApplicationUserBlackListService,
+                mockAuthenticationRequestDetailsService,
+                mockAuthorizationService,
+                mockTokenService,
+                blockingIoScheduler,
+                cryptoScheduler
+        );
+    }
+
+
+    private static <T> Answer<T> returnsRecordingThreadName(final Map<String, String> threadNames,
+                                                            final String operation,
+                                                            final T result) {
+        return invocation -> {
+            threadNames.put(
+                    operation,
+                    Thread.currentThread().getName()
+            );
+            return result;
+        };
+    }
+
+
+    private static void assertThreadNameStartsWith(final String expectedThreadNamePrefix,
+                                                   final Map<String, String> threadNames,
+                                                   final String... operations) {
+        for (String operation : operations) {
+            assertNotNull(
+                    threadNames.get(operation),
+                    operation
+            );
+            assertTrue(
+                    threadNames.get(operation).startsWith(expectedThreadNamePrefix),
+                    operation + " was executed in: " + threadNames.get(operation)
+            );
+        }
+    }
+
 }
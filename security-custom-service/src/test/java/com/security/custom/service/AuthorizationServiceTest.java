@@ -1,20 +1,32 @@
 package com.security.custom.service;
 
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.gen.OctetKeyPairGenerator;
 import com.security.custom.application.spring6microservice.model.enums.RoleEnum;
 import com.security.custom.application.spring6microservice.service.Spring6MicroserviceAuthorizationService;
 import com.security.custom.enums.SecurityHandler;
+import com.security.custom.enums.token.TokenKey;
 import com.security.custom.exception.ApplicationClientNotFoundException;
 import com.security.custom.exception.token.TokenException;
+import com.security.custom.exception.token.TokenExpiredException;
 import com.security.custom.interfaces.IApplicationClientAuthenticationService;
 import com.security.custom.interfaces.IApplicationClientAuthorizationService;
+import com.security.custom.model.ApplicationClientCryptoContext;
 import com.security.custom.model.ApplicationClientDetails;
+import com.security.custom.service.cache.VerifiedAccessTokenCacheService;
+import com.security.custom.service.cache.VerifiedAccessTokenCacheService.VerifiedAccessToken;
 import com.security.custom.service.token.TokenService;
 import com.spring6microservices.common.spring.dto.AuthorizationInformationDto;
 import com.spring6microservices.common.spring.exception.UnauthorizedException;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.springframework.beans.BeansException;
@@ -22,18 +34,39 @@ import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
 
+import java.time.Instant;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static com.security.custom.TestDataFactory.buildApplicationClientDetailsJWE;
+import static com.security.custom.TestDataFactory.buildApplicationClientDetailsJWS;
 import static com.security.custom.TestDataFactory.buildAuthorizationInformationDto;
 import static com.security.custom.enums.token.TokenKey.AUTHORITIES;
+import static com.security.custom.enums.token.TokenKey.EXPIRATION_TIME;
+import static com.security.custom.enums.token.TokenKey.JWT_ID;
+import static com.security.custom.enums.token.TokenKey.REFRESH_JWT_ID;
 import static com.security.custom.enums.token.TokenKey.USERNAME;
 import static java.util.Optional.of;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -45,15 +78,24 @@ public class AuthorizationServiceTest {
     @Mock
     private ApplicationContext mockApplicationContext;
 
+    @Mock
+    private ApplicationClientCryptoContextService mockApplicationClientCryptoContextService;
+
     @Mock
     private ApplicationClientDetailsService mockApplicationClientDetailsService;
 
     @Mock
     private ApplicationUserBlackListService mockApplicationUserBlackListService;
 
+    @Mock
+    private RevokedTokenService mockRevokedTokenService;
+
     @Mock
     private TokenService mockTokenService;
 
+    @Mock
+    private VerifiedAccessTokenCacheService mockVerifiedAccessTokenCacheService;
+
     private AuthorizationService service;
 
 
@@ -61,9 +103,14 @@ public class AuthorizationServiceTest {
     public void init() {
         service = new AuthorizationService(
                 mockApplicationContext,
+                mockApplicationClientCryptoContextService,
                 mockApplicationClientDetailsService,
                 mockApplicationUserBlackListService,
-                mockTokenService
+                mockRevokedTokenService,
+                mockTokenService,
+                mockVerifiedAccessTokenCacheService,
+                Schedulers.immediate(),
+                Schedulers.immediate()
         );
     }
 
@@ -418,6 +465,267 @@ public class AuthorizationServiceTest {
                         eq(applicationClientId),
                         eq(username)
                 );
+        verify(mockVerifiedAccessTokenCacheService, times(1))
+                .put(
+                        eq(applicationClientId),
+                        eq(accessToken),
+                        eq(
+                                new VerifiedAccessToken(
+                                        authorizationInformation,
+                                        null,
+                                        null
+                                )
+                        )
+                );
+    }
+
+
+    @Test
+    @DisplayName("checkAccessToken: when accessToken contains its expiration then it is included in the additional information")
+    public void checkAccessToken_whenAccessTokenContainsItsExpiration_thenItIsIncludedInTheAdditionalInformation() {
+        String applicationClientId = SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId();
+        String accessToken = "ItDoesNotCare";
+        String username = "username value";
+        Instant expiration = Instant.parse("2025-01-01T10:15:00Z");
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWE(applicationClientId);
+        Spring6MicroserviceAuthorizationService mockAuthorizationService = mock(Spring6MicroserviceAuthorizationService.class);
+        Map<String, Object> tokenPayload = new HashMap<>() {{
+            put(USERNAME.getKey(), username);
+            put(EXPIRATION_TIME.getKey(), Date.from(expiration));
+        }};
+
+        when(mockApplicationContext.getBean(ArgumentMatchers.<Class<IApplicationClientAuthorizationService>>any()))
+                .thenReturn(
+                        mockAuthorizationService
+                );
+        when(mockApplicationClientDetailsService.findById(eq(applicationClientId)))
+                .thenReturn(
+                        applicationClientDetails
+                );
+        when(mockTokenService.getPayloadOfToken(eq(applicationClientDetails), eq(accessToken)))
+                .thenReturn(
+                        tokenPayload
+                );
+        when(mockTokenService.isPayloadRelatedWithAccessToken(eq(tokenPayload)))
+                .thenReturn(
+                        true
+                );
+        when(mockAuthorizationService.getUsername(eq(tokenPayload)))
+                .thenReturn(
+                        of(username)
+                );
+        when(mockAuthorizationService.getAdditionalAuthorizationInformation(eq(tokenPayload)))
+                .thenReturn(
+                        Map.of(
+                                USERNAME.getKey(), username
+                        )
+                );
+
+        AuthorizationInformationDto result = service.checkAccessToken(
+                applicationClientId,
+                accessToken
+        );
+
+        assertEquals(
+                Map.of(
+                        USERNAME.getKey(), username,
+                        EXPIRATION_TIME.getKey(), expiration.getEpochSecond()
+                ),
+                result.getAdditionalInformation()
+        );
+    }
+
+
+    @Test
+    @DisplayName("checkAccessToken: when accessToken was already verified then it is not verified again but the revoked tokens and blacklist are checked")
+    public void checkAccessToken_whenAccessTokenWasAlreadyVerified_thenItIsNotVerifiedAgainButRevokedTokensAndBlacklistAreChecked() {
+        String applicationClientId = SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId();
+        String accessToken = "ItDoesNotCare";
+        String username = "username value";
+        AuthorizationInformationDto authorizationInformation = buildAuthorizationInformationDto(
+                username,
+                Set.of(
+                        RoleEnum.ROLE_ADMIN.name()
+                ),
+                new HashMap<>()
+        );
+
+        Instant expiration = Instant.now().plusSeconds(60);
+
+        when(mockVerifiedAccessTokenCacheService.get(eq(applicationClientId), eq(accessToken)))
+                .thenReturn(
+                        of(
+                                new VerifiedAccessToken(
+                                        authorizationInformation,
+                                        "jti value",
+                                        expiration
+                                )
+                        )
+                );
+
+        assertEquals(
+                authorizationInformation,
+                service.checkAccessToken(
+                        applicationClientId,
+                        accessToken
+                )
+        );
+
+        verifyNoInteractions(mockApplicationContext);
+        verifyNoInteractions(mockApplicationClientDetailsService);
+        verifyNoInteractions(mockTokenService);
+        verify(mockRevokedTokenService, times(1))
+                .notRevokedOrThrow(
+                        eq(applicationClientId),
+                        eq(JWT_ID),
+                        eq("jti value"),
+                        eq(expiration)
+                );
+        verify(mockApplicationUserBlackListService, times(1))
+                .notBlackListedOrThrow(
+                        eq(applicationClientId),
+                        eq(username)
+                );
+        verify(mockVerifiedAccessTokenCacheService, never())
+                .put(
+                        any(),
+                        any(),
+                        any()
+                );
+    }
+
+
+    @Test
+    @DisplayName("checkAccessTokenReactive: when accessToken was not verified then the database and caches are accessed in the blocking I/O scheduler and accessToken is verified in the crypto one")
+    public void checkAccessTokenReactive_whenAccessTokenWasNotVerified_thenDatabaseAndCachesAreAccessedInBlockingIoSchedulerAndAccessTokenIsVerifiedInCryptoOne() {
+        String applicationClientId = SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId();
+        String accessToken = "ItDoesNotCare";
+        String username = "username value";
+        Set<String> authorities = Set.of(
+                RoleEnum.ROLE_ADMIN.name()
+        );
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWE(applicationClientId);
+        Spring6MicroserviceAuthorizationService mockAuthorizationService = mock(Spring6MicroserviceAuthorizationService.class);
+        Map<String, Object> tokenPayload = new HashMap<>() {{
+            put(USERNAME.getKey(), username);
+            put(AUTHORITIES.getKey(), authorities);
+        }};
+        AuthorizationInformationDto authorizationInformation = buildAuthorizationInformationDto(
+                username,
+                authorities,
+                new HashMap<>()
+        );
+        Map<String, String> threadNames = new ConcurrentHashMap<>();
+
+        when(mockApplicationContext.getBean(ArgumentMatchers.<Class<IApplicationClientAuthorizationService>>any()))
+                .thenReturn(
+                        mockAuthorizationService
+                );
+        when(mockApplicationClientDetailsService.findById(eq(applicationClientId)))
+                .thenAnswer(invocation -> {
+                    threadNames.put("findById", Thread.currentThread().getName());
+                    return applicationClientDetails;
+                });
+        when(mockTokenService.getPayloadOfToken(eq(applicationClientDetails), eq(accessToken)))
+                .thenAnswer(invocation -> {
+                    threadNames.put("getPayloadOfToken", Thread.currentThread().getName());
+                    return tokenPayload;
+                });
+        when(mockTokenService.isPayloadRelatedWithAccessToken(eq(tokenPayload)))
+                .thenReturn(
+                        true
+                );
+        when(mockAuthorizationService.getUsername(eq(tokenPayload)))
+                .thenReturn(
+                        of(username)
+                );
+        when(mockAuthorizationService.getAuthorities(eq(tokenPayload)))
+                .thenReturn(
+                        authorities
+                );
+        when(mockAuthorizationService.getAdditionalAuthorizationInformation(eq(tokenPayload)))
+                .thenReturn(
+                        new HashMap<>()
+                );
+        doAnswer(invocation -> {
+            threadNames.put("notBlackListedOrThrow", Thread.currentThread().getName());
+            return null;
+        }).when(mockApplicationUserBlackListService)
+                .notBlackListedOrThrow(
+                        eq(applicationClientId),
+                        eq(username)
+                );
+
+        Scheduler blockingIoScheduler = Schedulers.newSingle("blockingIoTest");
+        Scheduler cryptoScheduler = Schedulers.newSingle("cryptoTest");
+        try {
+            StepVerifier.create(
+                            buildService(blockingIoScheduler, cryptoScheduler).checkAccessTokenReactive(
+                                    applicationClientId,
+                                    accessToken
+                            )
+                    )
+                    .expectNext(authorizationInformation)
+                    .verifyComplete();
+        } finally {
+            blockingIoScheduler.dispose();
+            cryptoScheduler.dispose();
+        }
+
+        assertTrue(threadNames.get("findById").startsWith("blockingIoTest"));
+        assertTrue(threadNames.get("getPayloadOfToken").startsWith("cryptoTest"));
+        assertTrue(threadNames.get("notBlackListedOrThrow").startsWith("blockingIoTest"));
+        verify(mockVerifiedAccessTokenCacheService, times(1))
+                .put(
+                        eq(applicationClientId),
+                        eq(accessToken),
+                        any(VerifiedAccessToken.class)
+                );
+    }
+
+
+    @Test
+    @DisplayName("checkAccessTokenReactive: when the checked accessToken was revoked then UnauthorizedException is returned")
+    public void checkAccessTokenReactive_whenCheckedAccessTokenWasRevoked_thenUnauthorizedExceptionIsReturned() {
+        String applicationClientId = SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId();
+        String accessToken = "ItDoesNotCare";
+        Instant expiration = Instant.now().plusSeconds(60);
+
+        when(mockVerifiedAccessTokenCacheService.get(eq(applicationClientId), eq(accessToken)))
+                .thenReturn(
+                        of(
+                                new VerifiedAccessToken(
+                                        buildAuthorizationInformationDto(
+                                                "username value",
+                                                Set.of(),
+                                                new HashMap<>()
+                                        ),
+                                        "jti value",
+                                        expiration
+                                )
+                        )
+                );
+        doThrow(new UnauthorizedException("ItDoesNotCare"))
+                .when(mockRevokedTokenService)
+                .notRevokedOrThrow(
+                        eq(applicationClientId),
+                        eq(JWT_ID),
+                        eq("jti value"),
+                        eq(expiration)
+                );
+
+        StepVerifier.create(
+                        service.checkAccessTokenReactive(
+                                applicationClientId,
+                                accessToken
+                        )
+                )
+                .expectError(UnauthorizedException.class)
+                .verify();
+
+        verifyNoInteractions(mockApplicationClientDetailsService);
+        verifyNoInteractions(mockTokenService);
+        verifyNoInteractions(mockApplicationUserBlackListService);
     }
 
 
@@ -737,4 +1045,445 @@ public class AuthorizationServiceTest {
                 );
     }
 
+
+    @Test
+    @DisplayName("checkRefreshToken: when refreshToken was revoked then UnauthorizedException is thrown")
+    public void checkRefreshToken_whenRefreshTokenWasRevoked_thenUnauthorizedExceptionIsThrown() {
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWE(
+                SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId()
+        );
+        String refreshToken = "ItDoesNotCare";
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        Map<String, Object> tokenPayload = mockRefreshTokenPayload(
+                applicationClientDetails,
+                refreshToken,
+                expiration
+        );
+        doThrow(new UnauthorizedException())
+                .when(mockRevokedTokenService)
+                .notRevokedOrThrow(eq(applicationClientDetails.getId()), eq(REFRESH_JWT_ID), eq("rti value"), eq(expiration.toInstant()));
+
+        assertThrows(
+                UnauthorizedException.class,
+                () -> service.checkRefreshToken(
+                        applicationClientDetails,
+                        refreshToken
+                )
+        );
+
+        verify(mockTokenService, times(1))
+                .getPayloadOfToken(
+                        eq(applicationClientDetails),
+                        eq(refreshToken)
+                );
+        verify(mockTokenService, times(1))
+                .isPayloadRelatedWithAccessToken(
+                        eq(tokenPayload)
+                );
+        verifyNoInteractions(mockApplicationUserBlackListService);
+        verify(mockRevokedTokenService, never())
+                .save(
+                        any(),
+                        any(),
+                        any(),
+                        any()
+                );
+    }
+
+
+    @Test
+    @DisplayName("checkRefreshToken: when refreshToken is valid then it is not revoked")
+    public void checkRefreshToken_whenRefreshTokenIsValid_thenItIsNotRevoked() {
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWE(
+                SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId()
+        );
+        String refreshToken = "ItDoesNotCare";
+        mockRefreshTokenPayload(
+                applicationClientDetails,
+                refreshToken,
+                new Date(System.currentTimeMillis() + 60_000)
+        );
+
+        service.checkRefreshToken(
+                applicationClientDetails,
+                refreshToken
+        );
+
+        verify(mockRevokedTokenService, never())
+                .save(
+                        any(),
+                        any(),
+                        any(),
+                        any()
+                );
+    }
+
+
+    @Test
+    @DisplayName("checkAndRevokeRefreshToken: when refreshToken is valid then it is revoked")
+    public void checkAndRevokeRefreshToken_whenRefreshTokenIsValid_thenItIsRevoked() {
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWE(
+                SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId()
+        );
+        String refreshToken = "ItDoesNotCare";
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        mockRefreshTokenPayload(
+                applicationClientDetails,
+                refreshToken,
+                expiration
+        );
+        when(mockRevokedTokenService.save(eq(applicationClientDetails.getId()), eq(REFRESH_JWT_ID), eq("rti value"), eq(expiration.toInstant())))
+                .thenReturn(
+                        true
+                );
+
+        assertEquals(
+                "username value",
+                service.checkAndRevokeRefreshToken(
+                        applicationClientDetails,
+                        refreshToken
+                ).getUsername()
+        );
+
+        verify(mockRevokedTokenService, times(1))
+                .notRevokedOrThrow(
+                        eq(applicationClientDetails.getId()),
+                        eq(REFRESH_JWT_ID),
+                        eq("rti value"),
+                        eq(expiration.toInstant())
+                );
+        verify(mockApplicationUserBlackListService, times(1))
+                .notBlackListedOrThrow(
+                        eq(applicationClientDetails.getId()),
+                        eq("username value")
+                );
+        verify(mockRevokedTokenService, times(1))
+                .save(
+                        eq(applicationClientDetails.getId()),
+                        eq(REFRESH_JWT_ID),
+                        eq("rti value"),
+                        eq(expiration.toInstant())
+                );
+    }
+
+
+    @Test
+    @SneakyThrows
+    @DisplayName("checkAndRevokeRefreshToken: when the same refreshToken is used by concurrent requests then only one of them revokes it and the other one is rejected")
+    public void checkAndRevokeRefreshToken_whenTheSameRefreshTokenIsUsedByConcurrentRequests_thenOnlyOneOfThemRevokesItAndTheOtherOneIsRejected() {
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWE(
+                SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId()
+        );
+        String refreshToken = "ItDoesNotCare";
+        mockRefreshTokenPayload(
+                applicationClientDetails,
+                refreshToken,
+                new Date(System.currentTimeMillis() + 60_000)
+        );
+        // Both requests verify the refresh token was not revoked before any of them revokes it
+        CyclicBarrier bothChecked = new CyclicBarrier(2);
+        doAnswer(invocation -> {
+            bothChecked.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(mockRevokedTokenService)
+                .notRevokedOrThrow(any(), any(), any(), any());
+
+        Set<String> revokedTokens = ConcurrentHashMap.newKeySet();
+        when(mockRevokedTokenService.save(any(), any(), any(), any()))
+                .thenAnswer(invocation ->
+                        revokedTokens.add(
+                                invocation.getArgument(2)
+                        )
+                );
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<AuthorizationInformationDto>> results = executor.invokeAll(
+                    List.of(
+                            () -> service.checkAndRevokeRefreshToken(applicationClientDetails, refreshToken),
+                            () -> service.checkAndRevokeRefreshToken(applicationClientDetails, refreshToken)
+                    )
+            );
+            int successes = 0;
+            int rejections = 0;
+            for (Future<AuthorizationInformationDto> result : results) {
+                try {
+                    assertEquals("username value", result.get().getUsername());
+                    successes++;
+                } catch (ExecutionException e) {
+                    assertTrue(e.getCause() instanceof UnauthorizedException);
+                    rejections++;
+                }
+            }
+            assertEquals(1, successes);
+            assertEquals(1, rejections);
+
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(mockRevokedTokenService, times(2))
+                .save(
+                        eq(applicationClientDetails.getId()),
+                        eq(REFRESH_JWT_ID),
+                        eq("rti value"),
+                        any()
+                );
+    }
+
+
+    static Stream<Arguments> revokeTokenTestCases() {
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        Map<String, Object> accessTokenPayload = Map.of(
+                JWT_ID.getKey(), "jti value",
+                EXPIRATION_TIME.getKey(), expiration
+        );
+        Map<String, Object> refreshTokenPayload = Map.of(
+                JWT_ID.getKey(), "jti value",
+                REFRESH_JWT_ID.getKey(), "jti value",
+                EXPIRATION_TIME.getKey(), expiration
+        );
+        return Stream.of(
+                //@formatter:off
+                //            payload,               isAccessToken,   expectedTokenKey,   saveResult,   containsResult,   expectedResult
+                Arguments.of( accessTokenPayload,    true,            JWT_ID,             true,         false,            true ),
+                Arguments.of( accessTokenPayload,    true,            JWT_ID,             false,        false,            false ),
+                Arguments.of( refreshTokenPayload,   false,           REFRESH_JWT_ID,     true,         false,            true ),
+                Arguments.of( refreshTokenPayload,   false,           REFRESH_JWT_ID,     false,        true,             true )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("revokeTokenTestCases")
+    @DisplayName("revokeToken: test cases")
+    public void revokeToken_testCases(Map<String, Object> payload,
+                                      boolean isAccessToken,
+                                      TokenKey expectedTokenKey,
+                                      boolean saveResult,
+                                      boolean containsResult,
+                                      boolean expectedResult) {
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWE(
+                SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId()
+        );
+        String token = "ItDoesNotCare";
+        Instant expiration = ((Date) payload.get(EXPIRATION_TIME.getKey())).toInstant();
+
+        when(mockTokenService.getPayloadOfToken(eq(applicationClientDetails), eq(token)))
+                .thenReturn(
+                        payload
+                );
+        when(mockTokenService.isPayloadRelatedWithAccessToken(eq(payload)))
+                .thenReturn(
+                        isAccessToken
+                );
+        when(mockRevokedTokenService.save(eq(applicationClientDetails.getId()), eq(expectedTokenKey), eq("jti value"), eq(expiration)))
+                .thenReturn(
+                        saveResult
+                );
+        when(mockRevokedTokenService.contains(eq(applicationClientDetails.getId()), eq(expectedTokenKey), eq("jti value"), eq(expiration)))
+                .thenReturn(
+                        containsResult
+                );
+
+        assertEquals(
+                expectedResult,
+                service.revokeToken(
+                        applicationClientDetails,
+                        token
+                )
+        );
+    }
+
+
+    @Test
+    @DisplayName("revokeToken: when applicationClientDetails is null then IllegalArgumentException is thrown")
+    public void revokeToken_whenApplicationClientDetailsIsNull_thenIllegalArgumentExceptionIsThrown() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> service.revokeToken(
+                        null,
+                        "ItDoesNotCare"
+                )
+        );
+
+        verifyNoInteractions(mockTokenService);
+        verifyNoInteractions(mockRevokedTokenService);
+    }
+
+
+    @Test
+    @DisplayName("revokeToken: when the token has expired then true is returned and nothing is stored")
+    public void revokeToken_whenTheTokenHasExpired_thenTrueIsReturnedAndNothingIsStored() {
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWE(
+                SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId()
+        );
+        String token = "ItDoesNotCare";
+
+        when(mockTokenService.getPayloadOfToken(eq(applicationClientDetails), eq(token)))
+                .thenThrow(
+                        new TokenExpiredException()
+                );
+
+        assertTrue(
+                service.revokeToken(
+                        applicationClientDetails,
+                        token
+                )
+        );
+
+        verifyNoInteractions(mockRevokedTokenService);
+    }
+
+
+    @Test
+    @DisplayName("getVerificationKeys: when the application client details does not use JWS tokens then no key is returned")
+    public void getVerificationKeys_whenApplicationClientDetailsDoesNotUseJwsTokens_thenNoKeyIsReturned() {
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWE(
+                SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId()
+        );
+
+        when(mockApplicationClientDetailsService.findById(applicationClientDetails.getId()))
+                .thenReturn(
+                        applicationClientDetails
+                );
+
+        assertEquals(
+                Map.of("keys", List.of()),
+                service.getVerificationKeys(
+                        applicationClientDetails.getId()
+                )
+        );
+
+        verifyNoInteractions(mockApplicationClientCryptoContextService);
+    }
+
+
+    @Test
+    @SneakyThrows
+    @DisplayName("getVerificationKeys: when the application client details uses JWS tokens then its public key is returned")
+    public void getVerificationKeys_whenApplicationClientDetailsUsesJwsTokens_thenItsPublicKeyIsReturned() {
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWS(
+                SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId()
+        );
+        JWK publicJwk = new OctetKeyPairGenerator(Curve.Ed25519)
+                .keyIDFromThumbprint(true)
+                .generate()
+                .toPublicJWK();
+        ApplicationClientCryptoContext mockCryptoContext = mock(ApplicationClientCryptoContext.class);
+
+        when(mockApplicationClientDetailsService.findById(applicationClientDetails.getId()))
+                .thenReturn(
+                        applicationClientDetails
+                );
+        when(mockApplicationClientCryptoContextService.get(applicationClientDetails))
+                .thenReturn(
+                        mockCryptoContext
+                );
+        when(mockCryptoContext.getSignaturePublicJwk())
+                .thenReturn(
+                        Optional.of(publicJwk)
+                );
+
+        assertEquals(
+                Map.of("keys", List.of(publicJwk.toJSONObject())),
+                service.getVerificationKeys(
+                        applicationClientDetails.getId()
+                )
+        );
+    }
+
+
+    @Test
+    @SneakyThrows
+    @DisplayName("getVerificationKeysReactive: when the application client details uses JWS tokens then it is searched in the blocking I/O scheduler and its public key is extracted in the crypto one")
+    public void getVerificationKeysReactive_whenApplicationClientDetailsUsesJwsTokens_thenItIsSearchedInBlockingIoSchedulerAndItsPublicKeyIsExtractedInCryptoOne() {
+        ApplicationClientDetails applicationClientDetails = buildApplicationClientDetailsJWS(
+                SecurityHandler.SPRING6_MICROSERVICES.getApplicationClientId()
+        );
+        JWK publicJwk = new OctetKeyPairGenerator(Curve.Ed25519)
+                .keyIDFromThumbprint(true)
+                .generate()
+                .toPublicJWK();
+        ApplicationClientCryptoContext mockCryptoContext = mock(ApplicationClientCryptoContext.class);
+        Map<String, String> threadNames = new ConcurrentHashMap<>();
+
+        when(mockApplicationClientDetailsService.findById(applicationClientDetails.getId()))
+                .thenAnswer(invocation -> {
+                    threadNames.put("findById", Thread.currentThread().getName());
+                    return applicationClientDetails;
+                });
+        when(mockApplicationClientCryptoContextService.get(applicationClientDetails))
+                .thenAnswer(invocation -> {
+                    threadNames.put("get", Thread.currentThread().getName());
+                    return mockCryptoContext;
+                });
+        when(mockCryptoContext.getSignaturePublicJwk())
+                .thenReturn(
+                        Optional.of(publicJwk)
+                );
+
+        Scheduler blockingIoScheduler = Schedulers.newSingle("blockingIoTest");
+        Scheduler cryptoScheduler = Schedulers.newSingle("cryptoTest");
+        try {
+            StepVerifier.create(
+                            buildService(blockingIoScheduler, cryptoScheduler).getVerificationKeysReactive(
+                                    applicationClientDetails.getId()
+                            )
+                    )
+                    .expectNext(Map.of("keys", List.of(publicJwk.toJSONObject())))
+                    .verifyComplete();
+        } finally {
+            blockingIoScheduler.dispose();
+            cryptoScheduler.dispose();
+        }
+
+        assertTrue(threadNames.get("findById").startsWith("blockingIoTest"));
+        assertTrue(threadNames.get("get").startsWith("cryptoTest"));
+    }
+
+
+    private AuthorizationService buildService(final Scheduler blockingIoScheduler,
+                                              final Scheduler cryptoScheduler) {
+        return new AuthorizationService(
+                mockApplicationContext,
+                mockApplicationClientCryptoContextService,
+                mockApplicationClientDetailsService,
+                mockApplicationUserBlackListService,
+                mockRevokedTokenService,
+                mockTokenService,
+                mockVerifiedAccessTokenCacheService,
+                blockingIoScheduler,
+                cryptoScheduler
+        );
+    }
+
+
+    private Map<String, Object> mockRefreshTokenPayload(final ApplicationClientDetails applicationClientDetails,
+                                                        final String refreshToken,
+                                                        final Date expiration) {
+        String username = "username value";
+        Spring6MicroserviceAuthorizationService mockAuthorizationService = mock(Spring6MicroserviceAuthorizationService.class);
+        Map<String, Object> tokenPayload = new HashMap<>() {{
+            put(USERNAME.getKey(), username);
+            put(REFRESH_JWT_ID.getKey(), "rti value");
+            put(EXPIRATION_TIME.getKey(), expiration);
+        }};
+        when(mockApplicationContext.getBean(ArgumentMatchers.<Class<IApplicationClientAuthorizationService>>any()))
+                .thenReturn(
+                        mockAuthorizationService
+                );
+        when(mockTokenService.getPayloadOfToken(eq(applicationClientDetails), eq(refreshToken)))
+                .thenReturn(
+                        tokenPayload
+                );
+        when(mockTokenService.isPayloadRelatedWithAccessToken(eq(tokenPayload)))
+                .thenReturn(
+                        false
+                );
+        when(mockAuthorizationService.getUsername(eq(tokenPayload)))
+                .thenReturn(
+                        of(username)
+                );
+        return tokenPayload;
+    }
+
 }
@@ -13,6 +13,7 @@ import org.mockito.verification.VerificationMode;
 import org.springframework.security.crypto.encrypt.TextEncryptor;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.security.GeneralSecurityException;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -138,7 +139,18 @@ public class EncryptorServiceTest {
             );
         }
         else {
-            assertNotNull(service.encrypt(toEncrypt, password));
+            String encrypted = service.encrypt(toEncrypt, password);
+
+            assertNotNull(encrypted);
+            assertTrue(encrypted.startsWith("v1."));
+            assertNotEquals(
+                    encrypted,
+                    service.encrypt(toEncrypt, password)
+            );
+            assertEquals(
+                    toEncrypt,
+                    service.decrypt(encrypted, password)
+            );
         }
     }
 
@@ -146,13 +158,18 @@ public class EncryptorServiceTest {
     static Stream<Arguments> decryptTestCases() {
         String toDecrypt = "SGB2pnNj1NUZ7IKV6RpEes/cv76rwV/0fNopGgnIuVeyuy1wdOomylv4i0geFJBHQe0B4VAyjcWGD6gpCEtszrGwcDiu1w==";
         String password = "23Rhf(@_2-Poas";
+        String versionedToDecrypt = "v1.35/wZJXKAqx30Paw3Ya4Au8N3ytQ+g2d7xq8z8CLNhaXEDx2K9J1lMNkXpxHdn2Km2xUlIOP";
         String decrypted = "Raw information to encrypt";
         return Stream.of(
                 //@formatter:off
-                //            toDecrypt,   password,   expectedException,                expectedResult
-                Arguments.of( null,        null,       IllegalArgumentException.class,   null ),
-                Arguments.of( toDecrypt,   null,       IllegalArgumentException.class,   null ),
-                Arguments.of( toDecrypt,   password,   null,                             decrypted )
+                //            toDecrypt,                                  password,   expectedException,                expectedResult
+                Arguments.of( null,                                       null,       IllegalArgumentException.class,   null ),
+                Arguments.of( toDecrypt,                                  null,       IllegalArgumentException.class,   null ),
+                Arguments.of( versionedToDecrypt.replace("v1.", "v2."),   password,   GeneralSecurityException.class,   null ),
+                Arguments.of( versionedToDecrypt.replace("v1.", "vA."),   password,   GeneralSecurityException.class,   null ),
+                Arguments.of( versionedToDecrypt,                         "other",    GeneralSecurityException.class,   null ),
+                Arguments.of( toDecrypt,                                  password,   null,                             decrypted ),
+                Arguments.of( versionedToDecrypt,                         password,   null,                             decrypted )
         ); //@formatter:on
     }
 
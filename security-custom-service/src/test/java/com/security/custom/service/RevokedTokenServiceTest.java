@@ -0,0 +1,176 @@
+package com.security.custom.service;
+
+import com.security.custom.enums.token.TokenKey;
+import com.security.custom.service.cache.RevokedTokenCacheService;
+import com.spring6microservices.common.spring.exception.UnauthorizedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static com.security.custom.enums.token.TokenKey.JWT_ID;
+import static com.security.custom.enums.token.TokenKey.REFRESH_JWT_ID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(
+        SpringExtension.class
+)
+public class RevokedTokenServiceTest {
+
+    private static final String APPLICATION_CLIENT_DETAILS_ID = "123ABC";
+
+    private static final String TOKEN_IDENTIFIER = "jti value";
+
+    private static final Instant TOKEN_EXPIRATION = Instant.parse("2025-01-01T10:00:00Z");
+
+    @Mock
+    private RevokedTokenCacheService mockCacheService;
+
+    private RevokedTokenService service;
+
+
+    @BeforeEach
+    public void init() {
+        service = new RevokedTokenService(
+                mockCacheService
+        );
+    }
+
+
+    static Stream<Arguments> containsTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            applicationClientDetailsId,      tokenKey,         tokenIdentifier,    tokenExpiration,    cacheServiceResult,   expectedResult
+                Arguments.of( null,                            null,             null,               null,               null,                 false ),
+                Arguments.of( null,                            JWT_ID,           TOKEN_IDENTIFIER,   TOKEN_EXPIRATION,   null,                 false ),
+                Arguments.of( APPLICATION_CLIENT_DETAILS_ID,   null,             TOKEN_IDENTIFIER,   TOKEN_EXPIRATION,   null,                 false ),
+                Arguments.of( APPLICATION_CLIENT_DETAILS_ID,   JWT_ID,           null,               TOKEN_EXPIRATION,   null,                 false ),
+                Arguments.of( APPLICATION_CLIENT_DETAILS_ID,   JWT_ID,           TOKEN_IDENTIFIER,   null,               null,                 false ),
+                Arguments.of( APPLICATION_CLIENT_DETAILS_ID,   JWT_ID,           TOKEN_IDENTIFIER,   TOKEN_EXPIRATION,   false,                false ),
+                Arguments.of( APPLICATION_CLIENT_DETAILS_ID,   REFRESH_JWT_ID,   TOKEN_IDENTIFIER,   TOKEN_EXPIRATION,   true,                 true )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("containsTestCases")
+    @DisplayName("contains: test cases")
+    public void contains_testCases(String applicationClientDetailsId,
+                                   TokenKey tokenKey,
+                                   String tokenIdentifier,
+                                   Instant tokenExpiration,
+                                   Boolean cacheServiceResult,
+                                   boolean expectedResult) {
+        if (null != cacheServiceResult) {
+            when(mockCacheService.contains(eq(applicationClientDetailsId), eq(tokenKey), eq(tokenIdentifier), eq(tokenExpiration)))
+                    .thenReturn(
+                            cacheServiceResult
+                    );
+        }
+
+        assertEquals(
+                expectedResult,
+                service.contains(applicationClientDetailsId, tokenKey, tokenIdentifier, tokenExpiration)
+        );
+
+        verify(mockCacheService, times(null != cacheServiceResult ? 1 : 0))
+                .contains(
+                        any(),
+                        any(),
+                        any(),
+                        any()
+                );
+    }
+
+
+    static Stream<Arguments> notRevokedOrThrowTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            applicationClientDetailsId,      tokenIdentifier,    cacheServiceResult,   expectedException
+                Arguments.of( null,                            null,               true,                 null ),
+                Arguments.of( APPLICATION_CLIENT_DETAILS_ID,   null,               true,                 null ),
+                Arguments.of( APPLICATION_CLIENT_DETAILS_ID,   TOKEN_IDENTIFIER,   false,                null ),
+                Arguments.of( APPLICATION_CLIENT_DETAILS_ID,   TOKEN_IDENTIFIER,   true,                 UnauthorizedException.class )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("notRevokedOrThrowTestCases")
+    @DisplayName("notRevokedOrThrow: test cases")
+    public void notRevokedOrThrow_testCases(String applicationClientDetailsId,
+                                            String tokenIdentifier,
+                                            boolean cacheServiceResult,
+                                            Class<? extends Exception> expectedException) {
+        when(mockCacheService.contains(any(), any(), any(), any()))
+                .thenReturn(
+                        cacheServiceResult
+                );
+
+        if (null != expectedException) {
+            assertThrows(
+                    expectedException,
+                    () -> service.notRevokedOrThrow(applicationClientDetailsId, JWT_ID, tokenIdentifier, TOKEN_EXPIRATION)
+            );
+        }
+        else {
+            assertDoesNotThrow(
+                    () -> service.notRevokedOrThrow(applicationClientDetailsId, JWT_ID, tokenIdentifier, TOKEN_EXPIRATION)
+            );
+        }
+    }
+
+
+    static Stream<Arguments> saveTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            applicationClientDetailsId,      tokenKey,         tokenIdentifier,    tokenExpiration,    cacheServiceResult,   expectedResult
+                Arguments.of( null,                            null,             null,               null,               null,                 false ),
+                Arguments.of( null,                            JWT_ID,           TOKEN_IDENTIFIER,   TOKEN_EXPIRATION,   null,                 false ),
+                Arguments.of( APPLICATION_CLIENT_DETAILS_ID,   null,             TOKEN_IDENTIFIER,   TOKEN_EXPIRATION,   null,                 false ),
+                Arguments.of( APPLICATION_CLIENT_DETAILS_ID,   JWT_ID,           null,               TOKEN_EXPIRATION,   null,                 false ),
+                Arguments.of( APPLICATION_CLIENT_DETAILS_ID,   JWT_ID,           TOKEN_IDENTIFIER,   null,               null,                 false ),
+                Arguments.of( APPLICATION_CLIENT_DETAILS_ID,   JWT_ID,           TOKEN_IDENTIFIER,   TOKEN_EXPIRATION,   false,                false ),
+                Arguments.of( APPLICATION_CLIENT_DETAILS_ID,   REFRESH_JWT_ID,   TOKEN_IDENTIFIER,   TOKEN_EXPIRATION,   true,                 true )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("saveTestCases")
+    @DisplayName("save: test cases")
+    public void save_testCases(String applicationClientDetailsId,
+                               TokenKey tokenKey,
+                               String tokenIdentifier,
+                               Instant tokenExpiration,
+                               Boolean cacheServiceResult,
+                               boolean expectedResult) {
+        if (null != cacheServiceResult) {
+            when(mockCacheService.put(eq(applicationClientDetailsId), eq(tokenKey), eq(tokenIdentifier), eq(tokenExpiration)))
+                    .thenReturn(
+                            cacheServiceResult
+                    );
+        }
+
+        assertEquals(
+                expectedResult,
+                service.save(applicationClientDetailsId, tokenKey, tokenIdentifier, tokenExpiration)
+        );
+
+        verify(mockCacheService, times(null != cacheServiceResult ? 1 : 0))
+                .put(
+                        any(),
+                        any(),
+                        any(),
+                        any()
+                );
+    }
+
+}
@@ -0,0 +1,263 @@
+package com.security.custom.service.cache;
+
+import com.security.custom.configuration.cache.ApplicationClientCredentialsCacheConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(
+        SpringExtension.class
+)
+public class ApplicationClientCredentialsCacheServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    private static final int EXPIRE_IN_SECONDS = 60;
+
+    private static final String RAW_PASSWORD = "rawPassword";
+
+    private static final String ENCODED_PASSWORD = "{bcrypt}encodedPassword";
+
+    @Mock
+    private ApplicationClientCredentialsCacheConfiguration mockCacheConfiguration;
+
+    @Mock
+    private Clock mockClock;
+
+    private MeterRegistry meterRegistry;
+
+    private ApplicationClientCredentialsCacheService service;
+
+
+    @BeforeEach
+    public void init() {
+        when(mockCacheConfiguration.getCacheName())
+                .thenReturn(
+                        "TestCache"
+                );
+        when(mockCacheConfiguration.getCacheEntryCapacity())
+                .thenReturn(
+                        2
+                );
+        when(mockCacheConfiguration.getCacheExpireInSeconds())
+                .thenReturn(
+                        EXPIRE_IN_SECONDS
+                );
+        when(mockClock.instant())
+                .thenReturn(
+                        NOW
+                );
+        meterRegistry = new SimpleMeterRegistry();
+        service = new ApplicationClientCredentialsCacheService(
+                mockCacheConfiguration,
+                meterRegistry,
+                mockClock
+        );
+    }
+
+
+    static Stream<Arguments> putTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            rawPassword,    encodedPassword,    expectedResult
+                Arguments.of( null,           null,               false ),
+                Arguments.of( RAW_PASSWORD,   null,               false ),
+                Arguments.of( null,           ENCODED_PASSWORD,   false ),
+                Arguments.of( RAW_PASSWORD,   ENCODED_PASSWORD,   true )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("putTestCases")
+    @DisplayName("put: test cases")
+    public void put_testCases(String rawPassword,
+                              String encodedPassword,
+                              boolean expectedResult) {
+        assertEquals(
+                expectedResult,
+                service.put(
+                        rawPassword,
+                        encodedPassword
+                )
+        );
+    }
+
+
+    static Stream<Arguments> containsTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            rawPassword,       encodedPassword,      requestedAt,                                 expectedResult
+                Arguments.of( null,              null,                 NOW,                                         false ),
+                Arguments.of( RAW_PASSWORD,      null,                 NOW,                                         false ),
+                Arguments.of( null,              ENCODED_PASSWORD,     NOW,                                         false ),
+                Arguments.of( "otherPassword",   ENCODED_PASSWORD,     NOW,                                         false ),
+                Arguments.of( RAW_PASSWORD,      "{bcrypt}changed",    NOW,                                         false ),
+                Arguments.of( RAW_PASSWORD,      ENCODED_PASSWORD,     NOW.plusSeconds(EXPIRE_IN_SECONDS),          false ),
+                Arguments.of( RAW_PASSWORD,      ENCODED_PASSWORD,     NOW.plusSeconds(EXPIRE_IN_SECONDS - 1),      true )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("containsTestCases")
+    @DisplayName("contains: test cases")
+    public void contains_testCases(String rawPassword,
+                                   String encodedPassword,
+                                   Instant requestedAt,
+                                   boolean expectedResult) {
+        service.put(
+                RAW_PASSWORD,
+                ENCODED_PASSWORD
+        );
+        when(mockClock.instant())
+                .thenReturn(
+                        requestedAt
+                );
+
+        assertEquals(
+                expectedResult,
+                service.contains(
+                        rawPassword,
+                        encodedPassword
+                )
+        );
+    }
+
+
+    @Test
+    @DisplayName("put: when the cache is disabled then nothing is stored")
+    public void put_whenCacheIsDisabled_thenNothingIsStored() {
+        when(mockCacheConfiguration.getCacheEntryCapacity())
+                .thenReturn(
+                        0
+                );
+
+        assertFalse(
+                service.put(
+                        RAW_PASSWORD,
+                        ENCODED_PASSWORD
+                )
+        );
+        assertFalse(
+                service.contains(
+                        RAW_PASSWORD,
+                        ENCODED_PASSWORD
+                )
+        );
+    }
+
+
+    @Test
+    @DisplayName("put: when the cache is full then the new credentials are stored anyway")
+    public void put_whenCacheIsFull_thenNewCredentialsAreStoredAnyway() {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(
+                    service.put(
+                            RAW_PASSWORD + i,
+                            ENCODED_PASSWORD + i
+                    )
+            );
+        }
+        assertTrue(
+                service.contains(
+                        RAW_PASSWORD + 4,
+                        ENCODED_PASSWORD + 4
+                )
+        );
+    }
+
+
+    @Test
+    @DisplayName("remove: when it is invoked then the related credentials are not stored anymore")
+    public void remove_whenItIsInvoked_thenRelatedCredentialsAreNotStoredAnymore() {
+        service.put(
+                RAW_PASSWORD,
+                ENCODED_PASSWORD
+        );
+
+        service.remove(null);
+        assertTrue(
+                service.contains(
+                        RAW_PASSWORD,
+                        ENCODED_PASSWORD
+                )
+        );
+
+        service.remove(ENCODED_PASSWORD);
+        assertFalse(
+                service.contains(
+                        RAW_PASSWORD,
+                        ENCODED_PASSWORD
+                )
+        );
+    }
+
+
+    @Test
+    @DisplayName("clear: when it is invoked then all stored credentials are removed")
+    public void clear_whenItIsInvoked_thenAllStoredCredentialsAreRemoved() {
+        service.put(
+                RAW_PASSWORD,
+                ENCODED_PASSWORD
+        );
+
+        service.clear();
+
+        assertFalse(
+                service.contains(
+                        RAW_PASSWORD,
+                        ENCODED_PASSWORD
+                )
+        );
+    }
+
+
+    @Test
+    @DisplayName("contains: when it is invoked then hit and miss metrics are updated")
+    public void contains_whenItIsInvoked_thenHitAndMissMetricsAreUpdated() {
+        service.put(RAW_PASSWORD, ENCODED_PASSWORD);
+
+        service.contains(RAW_PASSWORD, ENCODED_PASSWORD);
+        service.contains(RAW_PASSWORD, ENCODED_PASSWORD);
+        service.contains("otherRawPassword", ENCODED_PASSWORD);
+        service.contains(RAW_PASSWORD, "{bcrypt}otherEncodedPassword");
+
+        assertEquals(
+                2,
+                meterRegistry.get("cache.application.client.credentials.gets")
+                        .tag("result", "hit")
+                        .counter()
+                        .count()
+        );
+        assertEquals(
+                2,
+                meterRegistry.get("cache.application.client.credentials.gets")
+                        .tag("result", "miss")
+                        .counter()
+                        .count()
+        );
+        assertEquals(
+                1,
+                meterRegistry.get("cache.application.client.credentials.size")
+                        .gauge()
+                        .value()
+        );
+    }
+
+}
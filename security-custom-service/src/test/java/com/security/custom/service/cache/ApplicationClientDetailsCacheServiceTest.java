@@ -171,7 +171,7 @@ public class ApplicationClientDetailsCacheServiceTest {
                 //            id,     applicationClientDetails,   cacheServiceResult,   expectedResult
                 Arguments.of( null,   null,                       false,                false ),
                 Arguments.of( id,     null,                       false,                false ),
-                Arguments.of( id,     null,                       true,                 true ),
+                Arguments.of( id,     null,                       true,                 false ),
                 Arguments.of( id,     applicationClientDetails,   true,                 true )
         ); //@formatter:on
     }
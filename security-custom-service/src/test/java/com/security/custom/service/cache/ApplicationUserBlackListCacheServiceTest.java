@@ -1,5 +1,8 @@
 package com.security.custom.service.cache;
 
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.listener.MapListener;
 import com.security.custom.configuration.cache.ApplicationUserBlackListCacheConfiguration;
 import com.spring6microservices.common.spring.service.CacheService;
 import lombok.SneakyThrows;
@@ -12,10 +15,16 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -30,6 +39,9 @@ public class ApplicationUserBlackListCacheServiceTest {
     @Mock
     private CacheService mockCacheService;
 
+    @Mock
+    private ApplicationUserBlackListFilterService mockFilterService;
+
     private ApplicationUserBlackListCacheService service;
 
 
@@ -37,7 +49,8 @@ public class ApplicationUserBlackListCacheServiceTest {
     public void init() {
         service = new ApplicationUserBlackListCacheService(
                 mockCacheConfiguration,
-                mockCacheService
+                mockCacheService,
+                mockFilterService
         );
         when(mockCacheConfiguration.getCacheName())
                 .thenReturn(
@@ -79,12 +92,13 @@ public class ApplicationUserBlackListCacheServiceTest {
         String username = "testUser";
         return Stream.of(
                 //@formatter:off
-                //            applicationClientDetailsId,   username,   cacheServiceResult,   expectedResult
-                Arguments.of( null,                         null,       false,                false ),
-                Arguments.of( applicationClientDetailsId,   null,       false,                false ),
-                Arguments.of( null,                         username,   false,                false ),
-                Arguments.of( applicationClientDetailsId,   username,   false,                false ),
-                Arguments.of( applicationClientDetailsId,   username,   true,                 true )
+                //            applicationClientDetailsId,   username,   filterServiceResult,   cacheServiceResult,   expectedResult
+                Arguments.of( null,                         null,       true,                  false,                false ),
+                Arguments.of( applicationClientDetailsId,   null,       true,                  false,                false ),
+                Arguments.of( null,                         username,   true,                  false,                false ),
+                Arguments.of( applicationClientDetailsId,   username,   false,                 true,                 false ),
+                Arguments.of( applicationClientDetailsId,   username,   true,                  false,                false ),
+                Arguments.of( applicationClientDetailsId,   username,   true,                  true,                 true )
         ); //@formatter:on
     }
 
@@ -93,8 +107,13 @@ public class ApplicationUserBlackListCacheServiceTest {
     @DisplayName("contains: test cases")
     public void contains_testCases(String applicationClientDetailsId,
                                    String username,
+                                   boolean filterServiceResult,
                                    boolean cacheServiceResult,
                                    boolean expectedResult) {
+        when(mockFilterService.mightContain(anyString()))
+                .thenReturn(
+                        filterServiceResult
+                );
         when(mockCacheService.contains(anyString(), anyString()))
                 .thenReturn(
                         cacheServiceResult
@@ -107,7 +126,7 @@ public class ApplicationUserBlackListCacheServiceTest {
                 result
         );
 
-        if (null == applicationClientDetailsId || null == username) {
+        if (null == applicationClientDetailsId || null == username || !filterServiceResult) {
             verify(mockCacheService, times(0))
                     .contains(anyString(), anyString());
         }
@@ -172,14 +191,78 @@ public class ApplicationUserBlackListCacheServiceTest {
         if (null == applicationClientDetailsId || null == username) {
             verify(mockCacheService, times(0))
                     .put(anyString(), anyString(), eq(true));
+            verify(mockFilterService, times(0))
+                    .add(anyString());
         }
         else {
             verify(mockCacheService, times(1))
                     .put(anyString(), anyString(), eq(true));
+            verify(mockFilterService, times(2))
+                    .add(anyString());
         }
     }
 
 
+    @Test
+    @DisplayName("put: when the local filter is rebuilt while the pair is stored then the pair is not ignored")
+    public void put_whenLocalFilterIsRebuiltWhileThePairIsStored_thenThePairIsNotIgnored() {
+        String applicationClientDetailsId = "123ABC";
+        String username = "testUser";
+        HazelcastInstance mockHazelcastInstance = mock(HazelcastInstance.class);
+        IMap<Object, Object> mockCache = mock(IMap.class);
+        ApplicationUserBlackListFilterService filterService = new ApplicationUserBlackListFilterService(
+                mockCacheConfiguration,
+                mockHazelcastInstance,
+                Schedulers.immediate()
+        );
+        service = new ApplicationUserBlackListCacheService(
+                mockCacheConfiguration,
+                mockCacheService,
+                filterService
+        );
+
+        when(mockCacheConfiguration.getFilterExpectedEntries())
+                .thenReturn(
+                        100
+                );
+        when(mockCacheConfiguration.getFilterFalsePositiveProbability())
+                .thenReturn(
+                        0.01d
+                );
+        when(mockHazelcastInstance.getMap(eq("TestCache")))
+                .thenReturn(
+                        mockCache
+                );
+        when(mockCache.addEntryListener(any(MapListener.class), anyBoolean()))
+                .thenReturn(
+                        UUID.randomUUID()
+                );
+        when(mockCache.keySet())
+                .thenReturn(
+                        Set.of()
+                );
+        // Other thread rebuilds the filter reading the keys of the cache before the pair is included
+        when(mockCacheService.put(anyString(), anyString(), eq(true)))
+                .thenAnswer(invocation -> {
+                    filterService.rebuild();
+                    return true;
+                });
+        when(mockCacheService.contains(anyString(), anyString()))
+                .thenReturn(
+                        true
+                );
+        filterService.init();
+
+        assertTrue(
+                service.put(applicationClientDetailsId, username)
+        );
+        assertTrue(
+                service.contains(applicationClientDetailsId, username)
+        );
+        verify(mockCache, times(2))
+                .keySet();
+    }
+
 
     static Stream<Arguments> removeTestCases() {
         String applicationClientDetailsId = "123ABC";
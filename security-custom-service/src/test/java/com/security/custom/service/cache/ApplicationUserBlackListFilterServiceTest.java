@@ -0,0 +1,255 @@
+package com.security.custom.service.cache;
+
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapEvent;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryRemovedListener;
+import com.hazelcast.map.listener.MapClearedListener;
+import com.hazelcast.map.listener.MapListener;
+import com.security.custom.configuration.cache.ApplicationUserBlackListCacheConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(
+        SpringExtension.class
+)
+public class ApplicationUserBlackListFilterServiceTest {
+
+    private static final String CACHE_NAME = "TestCache";
+
+    private static final String BLACKLISTED_KEY = "Spring6Microservices__blacklistedUser";
+
+    private static final String NOT_BLACKLISTED_KEY = "Spring6Microservices__user";
+
+    @Mock
+    private ApplicationUserBlackListCacheConfiguration mockCacheConfiguration;
+
+    @Mock
+    private HazelcastInstance mockHazelcastInstance;
+
+    @Mock
+    private IMap<Object, Object> mockCache;
+
+    private ApplicationUserBlackListFilterService service;
+
+
+    @BeforeEach
+    public void init() {
+        when(mockCacheConfiguration.getCacheName())
+                .thenReturn(
+                        CACHE_NAME
+                );
+        when(mockCacheConfiguration.getFilterExpectedEntries())
+                .thenReturn(
+                        100
+                );
+        when(mockCacheConfiguration.getFilterFalsePositiveProbability())
+                .thenReturn(
+                        0.01d
+                );
+        when(mockHazelcastInstance.getMap(eq(CACHE_NAME)))
+                .thenReturn(
+                        mockCache
+                );
+        when(mockCache.addEntryListener(any(MapListener.class), anyBoolean()))
+                .thenReturn(
+                        UUID.randomUUID()
+                );
+        when(mockCache.keySet())
+                .thenReturn(
+                        Set.of(BLACKLISTED_KEY)
+                );
+        service = new ApplicationUserBlackListFilterService(
+                mockCacheConfiguration,
+                mockHazelcastInstance,
+                Schedulers.immediate()
+        );
+    }
+
+
+    @Test
+    @DisplayName("mightContain: when the filter is not ready then true is returned")
+    public void mightContain_whenTheFilterIsNotReady_thenTrueIsReturned() {
+        assertTrue(
+                service.mightContain(NOT_BLACKLISTED_KEY)
+        );
+    }
+
+
+    @Test
+    @DisplayName("mightContain: when the filter is disabled then true is returned")
+    public void mightContain_whenTheFilterIsDisabled_thenTrueIsReturned() {
+        when(mockCacheConfiguration.getFilterExpectedEntries())
+                .thenReturn(
+                        0
+                );
+
+        service.init();
+
+        assertTrue(
+                service.mightContain(NOT_BLACKLISTED_KEY)
+        );
+        verify(mockCache, never())
+                .addEntryListener(any(MapListener.class), anyBoolean());
+    }
+
+
+    @Test
+    @DisplayName("mightContain: when the filter is ready then only the keys of the cache are possible ones")
+    public void mightContain_whenTheFilterIsReady_thenOnlyTheKeysOfTheCacheArePossibleOnes() {
+        service.init();
+
+        assertTrue(
+                service.mightContain(BLACKLISTED_KEY)
+        );
+        assertFalse(
+                service.mightContain(NOT_BLACKLISTED_KEY)
+        );
+        verify(mockCache, times(1))
+                .keySet();
+    }
+
+
+    @Test
+    @DisplayName("add: when a key is added then it is a possible one")
+    public void add_whenAKeyIsAdded_thenItIsAPossibleOne() {
+        service.init();
+
+        service.add(NOT_BLACKLISTED_KEY);
+
+        assertTrue(
+                service.mightContain(NOT_BLACKLISTED_KEY)
+        );
+    }
+
+
+    @Test
+    @DisplayName("add: when a rebuild read the keys of the cache before the key was stored then it is a possible one once added again")
+    public void add_whenARebuildReadTheKeysOfTheCacheBeforeTheKeyWasStored_thenItIsAPossibleOneOnceAddedAgain() {
+        service.init();
+
+        // Before storing the key
+        service.add(NOT_BLACKLISTED_KEY);
+        // Rebuild that read the keys of the cache without the new one
+        service.rebuild();
+
+        assertFalse(
+                service.mightContain(NOT_BLACKLISTED_KEY)
+        );
+
+        // After storing the key
+        service.add(NOT_BLACKLISTED_KEY);
+
+        assertTrue(
+                service.mightContain(NOT_BLACKLISTED_KEY)
+        );
+    }
+
+
+    @Test
+    @DisplayName("cache events: when keys are added or removed in other nodes then the filter is updated")
+    @SuppressWarnings("unchecked")
+    public void cacheEvents_whenKeysAreAddedOrRemovedInOtherNodes_thenTheFilterIsUpdated() {
+        ArgumentCaptor<MapListener> listenerCaptor = ArgumentCaptor.forClass(MapListener.class);
+        service.init();
+        verify(mockCache)
+                .addEntryListener(listenerCaptor.capture(), eq(false));
+
+        // Added in other node
+        EntryEvent<Object, Object> addedEvent = mock(EntryEvent.class);
+        when(addedEvent.getKey())
+                .thenReturn(
+                        NOT_BLACKLISTED_KEY
+                );
+        ((EntryAddedListener<Object, Object>) listenerCaptor.getValue())
+                .entryAdded(addedEvent);
+
+        assertTrue(
+                service.mightContain(NOT_BLACKLISTED_KEY)
+        );
+
+        // Removed in other node
+        when(mockCache.keySet())
+                .thenReturn(
+                        Set.of(NOT_BLACKLISTED_KEY)
+                );
+        ((EntryRemovedListener<Object, Object>) listenerCaptor.getValue())
+                .entryRemoved(mock(EntryEvent.class));
+
+        assertFalse(
+                service.mightContain(BLACKLISTED_KEY)
+        );
+        assertTrue(
+                service.mightContain(NOT_BLACKLISTED_KEY)
+        );
+
+        // Cleared in other node
+        when(mockCache.keySet())
+                .thenReturn(
+                        Set.of()
+                );
+        ((MapClearedListener) listenerCaptor.getValue())
+                .mapCleared(mock(MapEvent.class));
+
+        assertFalse(
+                service.mightContain(NOT_BLACKLISTED_KEY)
+        );
+        verify(mockCache, times(3))
+                .keySet();
+    }
+
+
+    @Test
+    @DisplayName("rebuild: when the keys of the cache cannot be read then true is returned")
+    public void rebuild_whenTheKeysOfTheCacheCannotBeRead_thenTrueIsReturned() {
+        service.init();
+        when(mockCache.keySet())
+                .thenThrow(
+                        new IllegalStateException("Cluster not available")
+                );
+
+        service.rebuild();
+
+        assertTrue(
+                service.mightContain(NOT_BLACKLISTED_KEY)
+        );
+    }
+
+
+    @Test
+    @DisplayName("destroy: when it is invoked then the listener is removed and the filter is not used anymore")
+    public void destroy_whenItIsInvoked_thenTheListenerIsRemovedAndTheFilterIsNotUsedAnymore() {
+        service.init();
+
+        service.destroy();
+
+        assertTrue(
+                service.mightContain(NOT_BLACKLISTED_KEY)
+        );
+        verify(mockCache, times(1))
+                .removeEntryListener(any(UUID.class));
+    }
+
+}
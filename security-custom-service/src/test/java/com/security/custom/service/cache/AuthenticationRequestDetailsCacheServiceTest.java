@@ -149,6 +149,42 @@ public class AuthenticationRequestDetailsCacheServiceTest {
     }
 
 
+    static Stream<Arguments> getAndRemoveTestCases() {
+        String authorizationCode = "123ABC";
+        Optional<AuthenticationRequestDetails> cacheServiceResult = of(
+                buildAuthenticationRequestDetails(authorizationCode)
+        );
+        return Stream.of(
+                //@formatter:off
+                //            authorizationCode,   cacheServiceResult,   expectedResult
+                Arguments.of( null,                empty(),              empty() ),
+                Arguments.of( authorizationCode,   empty(),              empty() ),
+                Arguments.of( authorizationCode,   cacheServiceResult,   cacheServiceResult )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("getAndRemoveTestCases")
+    @DisplayName("getAndRemove: test cases")
+    public void getAndRemove_testCases(String authorizationCode,
+                                       Optional<AuthenticationRequestDetails> cacheServiceResult,
+                                       Optional<AuthenticationRequestDetails> expectedResult) {
+        when(mockCacheService.getAndEvict(anyString(), eq(authorizationCode)))
+                .thenReturn(
+                        (Optional)cacheServiceResult
+                );
+
+        Optional<AuthenticationRequestDetails> result = service.getAndRemove(
+                authorizationCode
+        );
+
+        assertEquals(
+                expectedResult,
+                result
+        );
+    }
+
+
     @Test
     @SneakyThrows
     @DisplayName("getCacheName: then return the name of the internal cache")
@@ -175,7 +211,7 @@ public class AuthenticationRequestDetailsCacheServiceTest {
                 //            authorizationCode,   authenticationRequestDetails,   cacheServiceResult,   expectedResult
                 Arguments.of( null,                null,                           false,                false ),
                 Arguments.of( authorizationCode,   null,                           false,                false ),
-                Arguments.of( authorizationCode,   null,                           true,                 true ),
+                Arguments.of( authorizationCode,   null,                           true,                 false ),
                 Arguments.of( authorizationCode,   authenticationRequestDetails,   true,                 true )
         ); //@formatter:on
     }
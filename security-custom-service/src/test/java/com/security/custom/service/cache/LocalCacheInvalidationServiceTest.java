@@ -0,0 +1,156 @@
+package com.security.custom.service.cache;
+
+import com.hazelcast.cluster.Member;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import com.hazelcast.topic.Message;
+import com.hazelcast.topic.MessageListener;
+import com.security.custom.service.ApplicationClientCryptoContextService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.UUID;
+
+import static com.security.custom.service.cache.LocalCacheInvalidationService.TOPIC_NAME;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(
+        SpringExtension.class
+)
+public class LocalCacheInvalidationServiceTest {
+
+    @Mock
+    private HazelcastInstance mockHazelcastInstance;
+
+    @Mock
+    private ITopic<Object> mockTopic;
+
+    @Mock
+    private ApplicationClientCryptoContextService mockApplicationClientCryptoContextService;
+
+    @Mock
+    private ApplicationClientCredentialsCacheService mockApplicationClientCredentialsCacheService;
+
+    @Mock
+    private VerifiedAccessTokenCacheService mockVerifiedAccessTokenCacheService;
+
+    private LocalCacheInvalidationService service;
+
+
+    @BeforeEach
+    public void init() {
+        when(mockHazelcastInstance.getTopic(TOPIC_NAME))
+                .thenReturn(
+                        mockTopic
+                );
+        when(mockTopic.addMessageListener(any()))
+                .thenReturn(
+                        UUID.randomUUID()
+                );
+        service = new LocalCacheInvalidationService(
+                mockHazelcastInstance,
+                mockApplicationClientCryptoContextService,
+                mockApplicationClientCredentialsCacheService,
+                mockVerifiedAccessTokenCacheService
+        );
+    }
+
+
+    @Test
+    @DisplayName("clear: when it is invoked then the local caches are cleared and the request is published")
+    public void clear_whenItIsInvoked_thenLocalCachesAreClearedAndRequestIsPublished() {
+        service.clear();
+
+        verifyLocalCachesWereCleared(1);
+        verify(mockTopic, times(1))
+                .publish(anyString());
+    }
+
+
+    @Test
+    @DisplayName("init: when a request is published by other node then the local caches are cleared")
+    public void init_whenRequestIsPublishedByOtherNode_thenLocalCachesAreCleared() {
+        MessageListener<Object> listener = initAndGetListener();
+
+        listener.onMessage(
+                buildMessage(false)
+        );
+
+        verifyLocalCachesWereCleared(1);
+    }
+
+
+    @Test
+    @DisplayName("init: when a request is published by this node then the local caches are not cleared again")
+    public void init_whenRequestIsPublishedByThisNode_thenLocalCachesAreNotClearedAgain() {
+        MessageListener<Object> listener = initAndGetListener();
+
+        listener.onMessage(
+                buildMessage(true)
+        );
+
+        verifyLocalCachesWereCleared(0);
+    }
+
+
+    @Test
+    @DisplayName("destroy: when it is invoked then the listener is removed")
+    public void destroy_whenItIsInvoked_thenListenerIsRemoved() {
+        service.init();
+
+        service.destroy();
+        service.destroy();
+
+        verify(mockTopic, times(1))
+                .removeMessageListener(any(UUID.class));
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private MessageListener<Object> initAndGetListener() {
+        ArgumentCaptor<MessageListener<Object>> listener = ArgumentCaptor.forClass(MessageListener.class);
+        service.init();
+        verify(mockTopic)
+                .addMessageListener(listener.capture());
+        verify(mockApplicationClientCryptoContextService, never())
+                .clear();
+        return listener.getValue();
+    }
+
+
+    private Message<Object> buildMessage(final boolean localMember) {
+        Member member = mock(Member.class);
+        when(member.localMember())
+                .thenReturn(
+                        localMember
+                );
+        return new Message<>(
+                TOPIC_NAME,
+                "clear",
+                System.currentTimeMillis(),
+                member
+        );
+    }
+
+
+    private void verifyLocalCachesWereCleared(final int invocations) {
+        verify(mockApplicationClientCryptoContextService, times(invocations))
+                .clear();
+        verify(mockApplicationClientCredentialsCacheService, times(invocations))
+                .clear();
+        verify(mockVerifiedAccessTokenCacheService, times(invocations))
+                .clear();
+    }
+
+}
@@ -0,0 +1,384 @@
+package com.security.custom.service.cache;
+
+import com.security.custom.configuration.cache.RevokedTokenCacheConfiguration;
+import com.security.custom.enums.token.TokenKey;
+import com.spring6microservices.common.spring.service.CacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.security.custom.enums.token.TokenKey.JWT_ID;
+import static com.security.custom.enums.token.TokenKey.REFRESH_JWT_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(
+        SpringExtension.class
+)
+public class RevokedTokenCacheServiceTest {
+
+    // Beginning of the bucket 28928760, stored in the cache: 28928760 % 7 = 0
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    private static final int BUCKET_SIZE_IN_SECONDS = 60;
+
+    // 300 / 60 + 2 = 7 caches
+    private static final int MAX_TOKEN_VALIDITY_IN_SECONDS = 300;
+
+    @Mock
+    private RevokedTokenCacheConfiguration mockCacheConfiguration;
+
+    @Mock
+    private CacheService mockCacheService;
+
+    @Mock
+    private Clock mockClock;
+
+    private RevokedTokenCacheService service;
+
+
+    @BeforeEach
+    public void init() {
+        when(mockCacheConfiguration.getCacheName())
+                .thenReturn(
+                        "TestCache"
+                );
+        when(mockCacheConfiguration.getBucketSizeInSeconds())
+                .thenReturn(
+                        BUCKET_SIZE_IN_SECONDS
+                );
+        when(mockCacheConfiguration.getMaxTokenValidityInSeconds())
+                .thenReturn(
+                        MAX_TOKEN_VALIDITY_IN_SECONDS
+                );
+        when(mockClock.instant())
+                .thenReturn(
+                        NOW
+                );
+        service = new RevokedTokenCacheService(
+                mockCacheConfiguration,
+                mockCacheService,
+                mockClock
+        );
+    }
+
+
+    @Test
+    @DisplayName("RevokedTokenCacheService: when it is created then the metrics of all its caches are grouped")
+    public void revokedTokenCacheService_whenItIsCreated_thenTheMetricsOfAllItsCachesAreGrouped() {
+        verify(mockCacheService, times(1))
+                .groupMetrics(
+                        eq("TestCache"),
+                        eq(
+                                List.of("TestCache_0", "TestCache_1", "TestCache_2", "TestCache_3", "TestCache_4", "TestCache_5", "TestCache_6")
+                        )
+                );
+    }
+
+
+    static Stream<Arguments> clearTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            cacheServiceResult,   expectedResult
+                Arguments.of( false,                false ),
+                Arguments.of( true,                 true )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("clearTestCases")
+    @DisplayName("clear: test cases")
+    public void clear_testCases(boolean cacheServiceResult,
+                                boolean expectedResult) {
+        when(mockCacheService.clear(anyString()))
+                .thenReturn(
+                        cacheServiceResult
+                );
+
+        assertEquals(
+                expectedResult,
+                service.clear()
+        );
+
+        for (int i = 0; i < 7; i++) {
+            verify(mockCacheService, times(1))
+                    .clear(
+                            eq("TestCache_" + i)
+                    );
+        }
+        verify(mockCacheService, times(7))
+                .clear(
+                        anyString()
+                );
+    }
+
+
+    static Stream<Arguments> containsTestCases() {
+        String applicationClientDetailsId = "123ABC";
+        String tokenIdentifier = "jti value";
+        return Stream.of(
+                //@formatter:off
+                //            applicationClientDetailsId,   tokenKey,         tokenIdentifier,   tokenExpiration,         cacheServiceResult,   expectedCacheName,   expectedResult
+                Arguments.of( null,                         null,             null,              null,                    true,                 null,                false ),
+                Arguments.of( null,                         JWT_ID,           tokenIdentifier,   NOW.plusSeconds(30),     true,                 null,                false ),
+                Arguments.of( applicationClientDetailsId,   null,             tokenIdentifier,   NOW.plusSeconds(30),     true,                 null,                false ),
+                Arguments.of( applicationClientDetailsId,   JWT_ID,           null,              NOW.plusSeconds(30),     true,                 null,                false ),
+                Arguments.of( applicationClientDetailsId,   JWT_ID,           tokenIdentifier,   null,                    true,                 null,                false ),
+                // Expired in a previous bucket
+                Arguments.of( applicationClientDetailsId,   JWT_ID,           tokenIdentifier,   NOW.minusSeconds(1),     true,                 null,                false ),
+                // Further than the last live bucket
+                Arguments.of( applicationClientDetailsId,   JWT_ID,           tokenIdentifier,   NOW.plusSeconds(360),    true,                 null,                false ),
+                Arguments.of( applicationClientDetailsId,   JWT_ID,           tokenIdentifier,   NOW.plusSeconds(30),     false,                "TestCache_0",       false ),
+                Arguments.of( applicationClientDetailsId,   JWT_ID,           tokenIdentifier,   NOW.plusSeconds(30),     true,                 "TestCache_0",       true ),
+                Arguments.of( applicationClientDetailsId,   REFRESH_JWT_ID,   tokenIdentifier,   NOW.plusSeconds(300),    true,                 "TestCache_5",       true )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("containsTestCases")
+    @DisplayName("contains: test cases")
+    public void contains_testCases(String applicationClientDetailsId,
+                                   TokenKey tokenKey,
+                                   String tokenIdentifier,
+                                   Instant tokenExpiration,
+                                   boolean cacheServiceResult,
+                                   String expectedCacheName,
+                                   boolean expectedResult) {
+        when(mockCacheService.contains(anyString(), anyString()))
+                .thenReturn(
+                        cacheServiceResult
+                );
+
+        assertEquals(
+                expectedResult,
+                service.contains(
+                        applicationClientDetailsId,
+                        tokenKey,
+                        tokenIdentifier,
+                        tokenExpiration
+                )
+        );
+
+        if (null == expectedCacheName) {
+            verify(mockCacheService, never())
+                    .contains(
+                            anyString(),
+                            any()
+                    );
+        }
+        else {
+            verify(mockCacheService, times(1))
+                    .contains(
+                            eq(expectedCacheName),
+                            eq(getBucket(tokenExpiration) + "__" + applicationClientDetailsId + "__" + tokenKey.getKey() + "__" + tokenIdentifier)
+                    );
+        }
+    }
+
+
+    static Stream<Arguments> putTestCases() {
+        String applicationClientDetailsId = "123ABC";
+        String tokenIdentifier = "jti value";
+        return Stream.of(
+                //@formatter:off
+                //            applicationClientDetailsId,   tokenKey,         tokenIdentifier,   tokenExpiration,         cacheServiceResult,   expectedCacheName,   expectedResult
+                Arguments.of( null,                         null,             null,              null,                    true,                 null,                false ),
+                Arguments.of( null,                         JWT_ID,           tokenIdentifier,   NOW.plusSeconds(30),     true,                 null,                false ),
+                Arguments.of( applicationClientDetailsId,   null,             tokenIdentifier,   NOW.plusSeconds(30),     true,                 null,                false ),
+                Arguments.of( applicationClientDetailsId,   JWT_ID,           null,              NOW.plusSeconds(30),     true,                 null,                false ),
+                Arguments.of( applicationClientDetailsId,   JWT_ID,           tokenIdentifier,   null,                    true,                 null,                false ),
+                // Already expired
+                Arguments.of( applicationClientDetailsId,   JWT_ID,           tokenIdentifier,   NOW,                     true,                 null,                false ),
+                // Further than the last live bucket
+                Arguments.of( applicationClientDetailsId,   JWT_ID,           tokenIdentifier,   NOW.plusSeconds(360),    true,                 null,                false ),
+                // Already revoked
+                Arguments.of( applicationClientDetailsId,   JWT_ID,           tokenIdentifier,   NOW.plusSeconds(30),     false,                "TestCache_0",       false ),
+                Arguments.of( applicationClientDetailsId,   JWT_ID,           tokenIdentifier,   NOW.plusSeconds(30),     true,                 "TestCache_0",       true ),
+                Arguments.of( applicationClientDetailsId,   REFRESH_JWT_ID,   tokenIdentifier,   NOW.plusSeconds(359),    true,                 "TestCache_5",       true )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("putTestCases")
+    @DisplayName("put: test cases")
+    public void put_testCases(String applicationClientDetailsId,
+                              TokenKey tokenKey,
+                              String tokenIdentifier,
+                              Instant tokenExpiration,
+                              boolean cacheServiceResult,
+                              String expectedCacheName,
+                              boolean expectedResult) {
+        when(mockCacheService.putIfAbsent(anyString(), anyString(), eq(true)))
+                .thenReturn(
+                        cacheServiceResult
+                );
+
+        assertEquals(
+                expectedResult,
+                service.put(
+                        applicationClientDetailsId,
+                        tokenKey,
+                        tokenIdentifier,
+                        tokenExpiration
+                )
+        );
+
+        if (null == expectedCacheName) {
+            verify(mockCacheService, never())
+                    .putIfAbsent(
+                            anyString(),
+                            any(),
+                            any()
+                    );
+        }
+        else {
+            verify(mockCacheService, times(1))
+                    .putIfAbsent(
+                            eq(expectedCacheName),
+                            eq(getBucket(tokenExpiration) + "__" + applicationClientDetailsId + "__" + tokenKey.getKey() + "__" + tokenIdentifier),
+                            eq(true)
+                    );
+        }
+    }
+
+
+    @Test
+    @DisplayName("clearEndedBucket: when a bucket ends then its cache is cleared only once, never by contains and put")
+    public void clearEndedBucket_whenBucketEnds_thenItsCacheIsClearedOnlyOnceNeverByContainsAndPut() {
+        assertFalse(
+                service.clearEndedBucket()
+        );
+
+        // Next bucket: 28928761, so the ended one 28928760 is stored in the cache: 28928760 % 7 = 0
+        when(mockClock.instant())
+                .thenReturn(
+                        NOW.plusSeconds(BUCKET_SIZE_IN_SECONDS)
+                );
+
+        service.contains("123ABC", JWT_ID, "jti value", NOW.plusSeconds(90));
+        service.put("123ABC", JWT_ID, "jti value", NOW.plusSeconds(90));
+
+        verify(mockCacheService, never())
+                .clear(
+                        anyString()
+                );
+
+        assertTrue(
+                service.clearEndedBucket()
+        );
+        assertFalse(
+                service.clearEndedBucket()
+        );
+
+        verify(mockCacheService, times(1))
+                .clear(
+                        eq("TestCache_0")
+                );
+        verify(mockCacheService, times(1))
+                .clear(
+                        anyString()
+                );
+    }
+
+
+    @Test
+    @DisplayName("contains and put: when the cache is disabled then nothing is stored")
+    public void containsAndPut_whenCacheIsDisabled_thenNothingIsStored() {
+        when(mockCacheConfiguration.getBucketSizeInSeconds())
+                .thenReturn(
+                        0
+                );
+        clearInvocations(mockCacheService);
+        service = new RevokedTokenCacheService(
+                mockCacheConfiguration,
+                mockCacheService,
+                mockClock
+        );
+
+        assertFalse(
+                service.put("123ABC", JWT_ID, "jti value", NOW.plusSeconds(30))
+        );
+        assertFalse(
+                service.contains("123ABC", JWT_ID, "jti value", NOW.plusSeconds(30))
+        );
+        assertFalse(
+                service.clear()
+        );
+        assertFalse(
+                service.clearEndedBucket()
+        );
+
+        verifyNoInteractions(mockCacheService);
+    }
+
+
+    static Stream<Arguments> getMaxTokenValidityInSecondsTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            bucketSizeInSeconds,      maxTokenValidityInSeconds,       expectedResult
+                Arguments.of( 0,                        MAX_TOKEN_VALIDITY_IN_SECONDS,   Integer.MAX_VALUE ),
+                Arguments.of( BUCKET_SIZE_IN_SECONDS,   0,                               Integer.MAX_VALUE ),
+                Arguments.of( BUCKET_SIZE_IN_SECONDS,   MAX_TOKEN_VALIDITY_IN_SECONDS,   MAX_TOKEN_VALIDITY_IN_SECONDS )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("getMaxTokenValidityInSecondsTestCases")
+    @DisplayName("getMaxTokenValidityInSeconds: test cases")
+    public void getMaxTokenValidityInSeconds_testCases(int bucketSizeInSeconds,
+                                                       int maxTokenValidityInSeconds,
+                                                       int expectedResult) {
+        when(mockCacheConfiguration.getBucketSizeInSeconds())
+                .thenReturn(
+                        bucketSizeInSeconds
+                );
+        when(mockCacheConfiguration.getMaxTokenValidityInSeconds())
+                .thenReturn(
+                        maxTokenValidityInSeconds
+                );
+
+        assertEquals(
+                expectedResult,
+                service.getMaxTokenValidityInSeconds()
+        );
+    }
+
+
+    @Test
+    @DisplayName("put: when the token expires after the max token validity of the cache then it is not stored, but it is when it expires at that time")
+    public void put_whenTokenExpiresAfterTheMaxTokenValidity_thenItIsNotStoredButItIsWhenItExpiresAtThatTime() {
+        when(mockCacheService.putIfAbsent(anyString(), anyString(), any()))
+                .thenReturn(
+                        true
+                );
+
+        assertFalse(
+                service.put("123ABC", REFRESH_JWT_ID, "jti value", NOW.plusSeconds(MAX_TOKEN_VALIDITY_IN_SECONDS * 2))
+        );
+        assertTrue(
+                service.put("123ABC", REFRESH_JWT_ID, "jti value", NOW.plusSeconds(service.getMaxTokenValidityInSeconds()))
+        );
+    }
+
+
+    private static long getBucket(final Instant instant) {
+        return instant.getEpochSecond() / BUCKET_SIZE_IN_SECONDS;
+    }
+
+}
@@ -0,0 +1,325 @@
+package com.security.custom.service.cache;
+
+import com.security.custom.configuration.cache.VerifiedAccessTokenCacheConfiguration;
+import com.security.custom.service.cache.VerifiedAccessTokenCacheService.VerifiedAccessToken;
+import com.spring6microservices.common.spring.dto.AuthorizationInformationDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static com.security.custom.TestDataFactory.buildAuthorizationInformationDto;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(
+        SpringExtension.class
+)
+public class VerifiedAccessTokenCacheServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    private static final int MAX_EXPIRE_IN_SECONDS = 60;
+
+    @Mock
+    private VerifiedAccessTokenCacheConfiguration mockCacheConfiguration;
+
+    @Mock
+    private Clock mockClock;
+
+    private MeterRegistry meterRegistry;
+
+    private VerifiedAccessTokenCacheService service;
+
+
+    @BeforeEach
+    public void init() {
+        when(mockCacheConfiguration.getCacheName())
+                .thenReturn(
+                        "TestCache"
+                );
+        when(mockCacheConfiguration.getCacheEntryCapacity())
+                .thenReturn(
+                        2
+                );
+        when(mockCacheConfiguration.getCacheExpireInSeconds())
+                .thenReturn(
+                        MAX_EXPIRE_IN_SECONDS
+                );
+        when(mockClock.instant())
+                .thenReturn(
+                        NOW
+                );
+        meterRegistry = new SimpleMeterRegistry();
+        service = new VerifiedAccessTokenCacheService(
+                mockCacheConfiguration,
+                meterRegistry,
+                mockClock
+        );
+    }
+
+
+    static Stream<Arguments> putTestCases() {
+        String applicationClientId = "ItDoesNotCare";
+        String accessToken = "ItDoesNotCare";
+        AuthorizationInformationDto authorizationInformation = buildAuthorizationInformation();
+        return Stream.of(
+                //@formatter:off
+                //            applicationClientId,   accessToken,   accessTokenExpiration,   authorizationInformation,   expectedResult
+                Arguments.of( null,                  null,          null,                    null,                       false ),
+                Arguments.of( applicationClientId,   null,          NOW.plusSeconds(30),     authorizationInformation,   false ),
+                Arguments.of( null,                  accessToken,   NOW.plusSeconds(30),     authorizationInformation,   false ),
+                Arguments.of( applicationClientId,   accessToken,   null,                    authorizationInformation,   false ),
+                Arguments.of( applicationClientId,   accessToken,   NOW.plusSeconds(30),     null,                       false ),
+                Arguments.of( applicationClientId,   accessToken,   NOW,                     authorizationInformation,   false ),
+                Arguments.of( applicationClientId,   accessToken,   NOW.plusSeconds(30),     authorizationInformation,   true )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("putTestCases")
+    @DisplayName("put: test cases")
+    public void put_testCases(String applicationClientId,
+                              String accessToken,
+                              Instant accessTokenExpiration,
+                              AuthorizationInformationDto authorizationInformation,
+                              boolean expectedResult) {
+        assertEquals(
+                expectedResult,
+                service.put(
+                        applicationClientId,
+                        accessToken,
+                        null == accessTokenExpiration && null == authorizationInformation
+                                ? null
+                                : new VerifiedAccessToken(
+                                        authorizationInformation,
+                                        "ItDoesNotCare",
+                                        accessTokenExpiration
+                                  )
+                )
+        );
+    }
+
+
+    static Stream<Arguments> getTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            accessTokenExpiration,                           requestedAt,                                     expectedResult
+                // Token expiration before the configured maximum
+                Arguments.of( NOW.plusSeconds(30),                             NOW.plusSeconds(29),                             of(buildVerifiedAccessToken(NOW.plusSeconds(30))) ),
+                Arguments.of( NOW.plusSeconds(30),                             NOW.plusSeconds(30),                             empty() ),
+                // Configured maximum before token expiration
+                Arguments.of( NOW.plusSeconds(MAX_EXPIRE_IN_SECONDS * 10),     NOW.plusSeconds(MAX_EXPIRE_IN_SECONDS - 1),      of(buildVerifiedAccessToken(NOW.plusSeconds(MAX_EXPIRE_IN_SECONDS * 10))) ),
+                Arguments.of( NOW.plusSeconds(MAX_EXPIRE_IN_SECONDS * 10),     NOW.plusSeconds(MAX_EXPIRE_IN_SECONDS),          empty() )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("getTestCases")
+    @DisplayName("get: test cases")
+    public void get_testCases(Instant accessTokenExpiration,
+                              Instant requestedAt,
+                              Optional<VerifiedAccessToken> expectedResult) {
+        String applicationClientId = "ItDoesNotCare";
+        String accessToken = "ItDoesNotCare";
+        service.put(
+                applicationClientId,
+                accessToken,
+                buildVerifiedAccessToken(
+                        accessTokenExpiration
+                )
+        );
+        when(mockClock.instant())
+                .thenReturn(
+                        requestedAt
+                );
+
+        assertEquals(
+                expectedResult,
+                service.get(
+                        applicationClientId,
+                        accessToken
+                )
+        );
+    }
+
+
+    @Test
+    @DisplayName("get: when the pair applicationClientId and accessToken does not match then empty is returned")
+    public void get_whenPairApplicationClientIdAndAccessTokenDoesNotMatch_thenEmptyIsReturned() {
+        service.put(
+                "client1",
+                "token1",
+                buildVerifiedAccessToken(
+                        NOW.plusSeconds(30)
+                )
+        );
+
+        assertEquals(empty(), service.get(null, null));
+        assertEquals(empty(), service.get("client2", "token1"));
+        assertEquals(empty(), service.get("client1", "token2"));
+        assertTrue(service.get("client1", "token1").isPresent());
+    }
+
+
+    @Test
+    @DisplayName("get: when it is invoked then hit and miss metrics are updated")
+    public void get_whenItIsInvoked_thenHitAndMissMetricsAreUpdated() {
+        service.put(
+                "client1",
+                "token1",
+                buildVerifiedAccessToken(
+                        NOW.plusSeconds(30)
+                )
+        );
+        service.get("client1", "token1");
+        service.get("client1", "token1");
+        service.get("client1", "token2");
+
+        assertEquals(
+                2,
+                meterRegistry.get("cache.verified.access.token.gets")
+                        .tag("result", "hit")
+                        .counter()
+                        .count()
+        );
+        assertEquals(
+                1,
+                meterRegistry.get("cache.verified.access.token.gets")
+                        .tag("result", "miss")
+                        .counter()
+                        .count()
+        );
+        assertEquals(
+                1,
+                meterRegistry.get("cache.verified.access.token.size")
+                        .gauge()
+                        .value()
+        );
+    }
+
+
+    @Test
+    @DisplayName("put: when the cache is full then it never contains more entries than the configured capacity")
+    public void put_whenCacheIsFull_thenItNeverContainsMoreEntriesThanConfiguredCapacity() {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(
+                    service.put(
+                            "client",
+                            "token" + i,
+                            buildVerifiedAccessToken(
+                                    NOW.plusSeconds(30)
+                            )
+                    )
+            );
+        }
+        assertTrue(service.get("client", "token4").isPresent());
+        assertEquals(
+                2,
+                meterRegistry.get("cache.verified.access.token.size")
+                        .gauge()
+                        .value()
+        );
+    }
+
+
+    @Test
+    @DisplayName("put: when the cache is full then the least recently used entry is removed")
+    public void put_whenCacheIsFull_thenLeastRecentlyUsedEntryIsRemoved() {
+        service.put("client", "token1", buildVerifiedAccessToken(NOW.plusSeconds(30)));
+        service.put("client", "token2", buildVerifiedAccessToken(NOW.plusSeconds(30)));
+
+        // token1 becomes the most recently used one
+        assertTrue(service.get("client", "token1").isPresent());
+
+        service.put("client", "token3", buildVerifiedAccessToken(NOW.plusSeconds(30)));
+
+        assertTrue(service.get("client", "token1").isPresent());
+        assertEquals(
+                empty(),
+                service.get("client", "token2")
+        );
+        assertTrue(service.get("client", "token3").isPresent());
+    }
+
+
+    @Test
+    @DisplayName("put: when the cache is disabled then nothing is stored")
+    public void put_whenCacheIsDisabled_thenNothingIsStored() {
+        when(mockCacheConfiguration.getCacheEntryCapacity())
+                .thenReturn(
+                        0
+                );
+
+        assertFalse(
+                service.put(
+                        "client",
+                        "token",
+                        buildVerifiedAccessToken(
+                                NOW.plusSeconds(30)
+                        )
+                )
+        );
+        assertEquals(
+                empty(),
+                service.get("client", "token")
+        );
+    }
+
+
+    @Test
+    @DisplayName("clear: when it is invoked then all stored entries are removed")
+    public void clear_whenItIsInvoked_thenAllStoredEntriesAreRemoved() {
+        service.put(
+                "client",
+                "token",
+                buildVerifiedAccessToken(
+                        NOW.plusSeconds(30)
+                )
+        );
+
+        service.clear();
+
+        assertEquals(
+                empty(),
+                service.get("client", "token")
+        );
+    }
+
+
+    private static VerifiedAccessToken buildVerifiedAccessToken(final Instant expiration) {
+        return new VerifiedAccessToken(
+                buildAuthorizationInformation(),
+                "ItDoesNotCare",
+                expiration
+        );
+    }
+
+
+    private static AuthorizationInformationDto buildAuthorizationInformation() {
+        return buildAuthorizationInformationDto(
+                "username value",
+                Set.of("ROLE_ADMIN"),
+                new HashMap<>()
+        );
+    }
+
+}
@@ -0,0 +1,185 @@
+package com.security.custom.service.token.provider;
+
+import com.security.custom.exception.token.TokenExpiredException;
+import com.security.custom.exception.token.TokenInvalidException;
+import com.security.custom.exception.token.TokenTypeProviderException;
+import com.security.custom.enums.token.TokenType;
+import com.security.custom.model.ApplicationClientDetails;
+import com.security.custom.service.ApplicationClientCryptoContextService;
+import com.security.custom.service.EncryptorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.security.custom.TestDataFactory.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class CwtProviderTest {
+
+    @Mock
+    private EncryptorService mockEncryptorService;
+
+    private CwtProvider provider;
+
+
+    @BeforeEach
+    public void init() {
+        provider = new CwtProvider(
+                new ApplicationClientCryptoContextService(
+                        mockEncryptorService
+                )
+        );
+        when(mockEncryptorService.defaultDecrypt(anyString()))
+                .then(
+                        returnsFirstArg()
+                );
+    }
+
+
+    static Stream<Arguments> generateTokenTestCases() {
+        Map<String, Object> informationToInclude = new LinkedHashMap<>() {{
+            put("username", "username value");
+            put("roles", List.of("admin", "user"));
+            put("name", "name value");
+        }};
+        return Stream.of(
+                //@formatter:off
+                //            applicationClientDetails,         informationToInclude,   tokenValidityInSeconds,   expectedException
+                Arguments.of( null,                             null,                   1,                        IllegalArgumentException.class ),
+                Arguments.of( null,                             informationToInclude,   1,                        IllegalArgumentException.class ),
+                Arguments.of( APPLICATION_CLIENT_DETAILS_JWS,   null,                   1,                        TokenTypeProviderException.class ),
+                Arguments.of( APPLICATION_CLIENT_DETAILS_JWS,   informationToInclude,   1,                        TokenTypeProviderException.class ),
+                Arguments.of( APPLICATION_CLIENT_DETAILS_CWT,   null,                   1,                        null ),
+                Arguments.of( APPLICATION_CLIENT_DETAILS_CWT,   informationToInclude,   1,                        null )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("generateTokenTestCases")
+    @DisplayName("generateToken: test cases")
+    public void generateToken_testCases(ApplicationClientDetails applicationClientDetails,
+                                        Map<String, Object> informationToInclude,
+                                        int tokenValidityInSeconds,
+                                        Class<? extends Exception> expectedException) {
+        if (null != expectedException) {
+            assertThrows(
+                    expectedException,
+                    () -> provider.generateToken(applicationClientDetails, informationToInclude, tokenValidityInSeconds)
+            );
+        }
+        else {
+            assertNotNull(
+                    provider.generateToken(applicationClientDetails, informationToInclude, tokenValidityInSeconds)
+            );
+        }
+    }
+
+
+    static Stream<Arguments> getPayloadOfTokenTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            applicationClientDetails,         token,              expectedException
+                Arguments.of( null,                             null,               IllegalArgumentException.class ),
+                Arguments.of( null,                             "ItDoesNotCare",    IllegalArgumentException.class ),
+                Arguments.of( APPLICATION_CLIENT_DETAILS_JWS,   null,               TokenTypeProviderException.class ),
+                Arguments.of( APPLICATION_CLIENT_DETAILS_JWS,   "ItDoesNotCare",    TokenTypeProviderException.class ),
+                Arguments.of( APPLICATION_CLIENT_DETAILS_CWT,   NOT_CWT_TOKEN,      TokenInvalidException.class )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("getPayloadOfTokenTestCases")
+    @DisplayName("getPayloadOfToken: test cases")
+    public void getPayloadOfToken_testCases(ApplicationClientDetails applicationClientDetails,
+                                            String token,
+                                            Class<? extends Exception> expectedException) {
+        assertThrows(
+                expectedException,
+                () -> provider.getPayloadOfToken(applicationClientDetails, token)
+        );
+    }
+
+
+    @Test
+    @DisplayName("getPayloadOfToken: when the token has expired then TokenExpiredException is thrown")
+    public void getPayloadOfToken_whenTheTokenHasExpired_thenTokenExpiredExceptionIsThrown() {
+        String token = provider.generateToken(
+                APPLICATION_CLIENT_DETAILS_CWT,
+                Map.of("username", "username value"),
+                -1
+        );
+
+        assertThrows(
+                TokenExpiredException.class,
+                () -> provider.getPayloadOfToken(APPLICATION_CLIENT_DETAILS_CWT, token)
+        );
+    }
+
+
+    @Test
+    @DisplayName("getPayloadOfToken: when the token was generated by the provider then its payload is returned")
+    public void getPayloadOfToken_whenTheTokenWasGeneratedByTheProvider_thenItsPayloadIsReturned() {
+        Map<String, Object> informationToInclude = new LinkedHashMap<>() {{
+            put("username", "username value");
+            put("authorities", List.of("admin", "user"));
+            put("jti", "8cbccfe1-8d89-4f4f-84f1-20f90a268986");
+            put("age", 23L);
+        }};
+        String token = provider.generateToken(
+                APPLICATION_CLIENT_DETAILS_CWT,
+                informationToInclude,
+                90
+        );
+
+        Map<String, Object> result = provider.getPayloadOfToken(
+                APPLICATION_CLIENT_DETAILS_CWT,
+                token
+        );
+
+        assertNotNull(result);
+        informationToInclude.forEach((k, v) ->
+                assertEquals(
+                        v,
+                        result.get(k)
+                )
+        );
+        assertInstanceOf(
+                Date.class,
+                result.get("exp")
+        );
+        assertInstanceOf(
+                Date.class,
+                result.get("iat")
+        );
+    }
+
+
+
+    private static final ApplicationClientDetails APPLICATION_CLIENT_DETAILS_JWS = buildApplicationClientDetailsJWS("JWS");
+
+    private static final ApplicationClientDetails APPLICATION_CLIENT_DETAILS_CWT = buildApplicationClientDetailsJWS("CWT");
+
+    static {
+        APPLICATION_CLIENT_DETAILS_CWT.setTokenType(TokenType.CWT);
+    }
+
+    private static final String NOT_CWT_TOKEN = "eyJhbGciOiJIUzI1NiJ9.eyJuYW1lIjoibmFtZSB2YWx1ZSIsImV4cCI6NTAwMDAwMDAwMCwiaWF0IjoxNzAwMDAwMDAwLCJ"
+            + "hZ2UiOjIzLCJyb2xlcyI6WyJhZG1pbiIsInVzZXIiXSwidXNlcm5hbWUiOiJ1c2VybmFtZSB2YWx1ZSJ9.xhFgeEc5bGDJ_EOhxcefDQ4olqViOzPCxjjFH2NIGhk";
+
+}
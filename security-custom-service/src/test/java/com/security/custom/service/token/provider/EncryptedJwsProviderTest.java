@@ -6,6 +6,7 @@ import com.security.custom.exception.token.TokenExpiredException;
 import com.security.custom.exception.token.TokenInvalidException;
 import com.security.custom.exception.token.TokenTypeProviderException;
 import com.security.custom.model.ApplicationClientDetails;
+import com.security.custom.service.ApplicationClientCryptoContextService;
 import com.security.custom.service.EncryptorService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -43,6 +44,9 @@ public class EncryptedJwsProviderTest {
     @BeforeEach
     public void init() {
         provider = new EncryptedJwsProvider(
+                new ApplicationClientCryptoContextService(
+                        mockEncryptorService
+                ),
                 mockEncryptionConfiguration,
                 mockEncryptorService
         );
@@ -4,6 +4,7 @@ import com.security.custom.exception.token.TokenExpiredException;
 import com.security.custom.exception.token.TokenInvalidException;
 import com.security.custom.exception.token.TokenTypeProviderException;
 import com.security.custom.model.ApplicationClientDetails;
+import com.security.custom.service.ApplicationClientCryptoContextService;
 import com.security.custom.service.EncryptorService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -38,7 +39,9 @@ public class JwsProviderTest {
     @BeforeEach
     public void init() {
         provider = new JwsProvider(
-                mockEncryptorService
+                new ApplicationClientCryptoContextService(
+                        mockEncryptorService
+                )
         );
         when(mockEncryptorService.defaultDecrypt(anyString()))
                 .then(
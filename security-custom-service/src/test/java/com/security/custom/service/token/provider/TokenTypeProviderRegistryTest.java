@@ -22,6 +22,9 @@ import static org.junit.jupiter.api.Assertions.*;
 @ExtendWith(SpringExtension.class)
 public class TokenTypeProviderRegistryTest {
 
+    @Mock
+    private CwtProvider mockCwtProvider;
+
     @Mock
     private EncryptedJweProvider mockEncryptedJweProvider;
 
@@ -91,6 +94,7 @@ public class TokenTypeProviderRegistryTest {
     @DisplayName("constructor: when iTokenTypeProviders cover all TokenType values then the instance is created successfully")
     public void constructor_whenITokenTypeProvidersCoverAllTokenTypeValues_thenTheInstanceIsCreatedSuccessfully() {
         List<ITokenTypeProvider> iTokenTypeProviders = List.of(
+                mockCwtProvider,
                 mockEncryptedJweProvider,
                 mockEncryptedJwsProvider,
                 mockJweProvider,
@@ -107,6 +111,7 @@ public class TokenTypeProviderRegistryTest {
     @DisplayName("getTokenTypeProvider: when there is a iTokenTypeProvider related with given tokenType then the instance is returned")
     public void getTokenTypeProvider_whenThereIsAITokenTypeProviderRelatedWithGivenTokenType_thenTheInstanceIsReturned() {
         List<ITokenTypeProvider> iTokenTypeProviders = List.of(
+                mockCwtProvider,
                 mockEncryptedJweProvider,
                 mockEncryptedJwsProvider,
                 mockJweProvider,
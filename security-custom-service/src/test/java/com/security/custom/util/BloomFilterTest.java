@@ -0,0 +1,104 @@
+package com.security.custom.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BloomFilterTest {
+
+    static Stream<Arguments> ofTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            expectedEntries,   falsePositiveProbability,   expectedException
+                Arguments.of( 0,                 0.01d,                      IllegalArgumentException.class ),
+                Arguments.of( -1,                0.01d,                      IllegalArgumentException.class ),
+                Arguments.of( 100,               0d,                         IllegalArgumentException.class ),
+                Arguments.of( 100,               1d,                         IllegalArgumentException.class ),
+                Arguments.of( 1,                 0.5d,                       null ),
+                Arguments.of( 100,               0.01d,                      null )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("ofTestCases")
+    @DisplayName("of: test cases")
+    public void of_testCases(int expectedEntries,
+                             double falsePositiveProbability,
+                             Class<? extends Exception> expectedException) {
+        if (null != expectedException) {
+            assertThrows(
+                    expectedException,
+                    () -> BloomFilter.of(expectedEntries, falsePositiveProbability)
+            );
+        }
+        else {
+            assertNotNull(
+                    BloomFilter.of(expectedEntries, falsePositiveProbability)
+            );
+        }
+    }
+
+
+    @Test
+    @DisplayName("mightContain: when null value is given then false is returned")
+    public void mightContain_whenNullValueIsGiven_thenFalseIsReturned() {
+        BloomFilter filter = BloomFilter.of(10, 0.01d);
+        filter.add(null);
+
+        assertFalse(
+                filter.mightContain(null)
+        );
+    }
+
+
+    @Test
+    @DisplayName("mightContain: when values were added then true is returned for all of them")
+    public void mightContain_whenValuesWereAdded_thenTrueIsReturnedForAllOfThem() {
+        BloomFilter filter = BloomFilter.of(1_000, 0.01d);
+        IntStream.range(0, 1_000)
+                .forEach(i ->
+                        filter.add("Spring6Microservices__user" + i)
+                );
+
+        IntStream.range(0, 1_000)
+                .forEach(i ->
+                        assertTrue(
+                                filter.mightContain("Spring6Microservices__user" + i)
+                        )
+                );
+    }
+
+
+    @Test
+    @DisplayName("mightContain: when values were not added then the false positives are close to the configured probability")
+    public void mightContain_whenValuesWereNotAdded_thenFalsePositivesAreCloseToConfiguredProbability() {
+        BloomFilter filter = BloomFilter.of(1_000, 0.01d);
+        IntStream.range(0, 1_000)
+                .forEach(i ->
+                        filter.add("Spring6Microservices__user" + i)
+                );
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i ->
+                        filter.mightContain("Spring6Microservices__notAddedUser" + i)
+                )
+                .count();
+
+        // 1% expected, using a margin to avoid flaky results
+        assertTrue(
+                falsePositives < 2_000,
+                "Too many false positives: " + falsePositives
+        );
+    }
+
+}
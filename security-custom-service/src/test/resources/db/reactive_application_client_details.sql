@@ -0,0 +1,49 @@
+---------------------------------------------------------------
+-- Required for ReactiveApplicationClientDetailsRepositoryTest
+---------------------------------------------------------------
+
+---------------------
+-- Tables definition
+CREATE TABLE IF NOT EXISTS security.application_client_details (
+    id                                  varchar(64)    not null    constraint application_client_details_pk primary key,
+    application_client_secret           varchar(256)   not null,
+    signature_algorithm                 varchar(16)    not null,
+    signature_secret                    text           not null,
+    security_handler                    varchar(64)    not null,
+    token_type                          varchar(16)    not null,
+    encryption_algorithm                varchar(32),
+    encryption_method                   varchar(32),
+    encryption_secret                   text,
+    access_token_validity_in_seconds    int            not null,
+    refresh_token_validity_in_seconds   int            not null,
+    created_at                          timestamp      not null    default current_timestamp
+);
+
+
+---------------------
+-- Data
+MERGE INTO security.application_client_details (id
+                                               ,application_client_secret
+                                               ,signature_algorithm
+                                               ,signature_secret
+                                               ,security_handler
+                                               ,token_type
+                                               ,encryption_algorithm
+                                               ,encryption_method
+                                               ,encryption_secret
+                                               ,access_token_validity_in_seconds
+                                               ,refresh_token_validity_in_seconds
+                                               ,created_at)
+    KEY (id)
+    VALUES ('Spring6Microservices'
+           ,'Spring6Microservices-application_client_secret'
+           ,'HS256'
+           ,'hs256SignatureSecret#secret#789(jwt)$3411781_GTDSAET-569016310k'
+           ,'SPRING6_MICROSERVICES'
+           ,'JWE'
+           ,'DIR'
+           ,'A128CBC_HS256'
+           ,'dirEncryptionSecret##9991a2(jwe)'
+           ,900
+           ,3600
+           ,current_timestamp);
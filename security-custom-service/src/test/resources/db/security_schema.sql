@@ -0,0 +1,5 @@
+---------------------------------------------------------------------------------------
+-- Required for ReactiveApplicationClientDetailsRepositoryTest and ReactiveUserRepositoryTest
+---------------------------------------------------------------------------------------
+
+CREATE SCHEMA IF NOT EXISTS security;
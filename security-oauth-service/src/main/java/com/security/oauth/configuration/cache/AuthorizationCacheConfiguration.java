@@ -0,0 +1,27 @@
+package com.security.oauth.configuration.cache;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.server.authorization.OAuth2Authorization;
+
+/**
+ * With the cache configuration related with the issued authorizations shared by all the nodes: {@link OAuth2Authorization}
+ */
+@Configuration
+@Getter
+public class AuthorizationCacheConfiguration {
+
+    @Value("${cache.authorization.backupCount}")
+    private int cacheBackupCount;
+
+    @Value("${cache.authorization.expireInSeconds}")
+    private int cacheExpireInSeconds;
+
+    @Value("${cache.authorization.name}")
+    private String cacheName;
+
+    @Value("${cache.authorization.tokenName}")
+    private String tokenCacheName;
+
+}
@@ -5,6 +5,9 @@ import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.spring.cache.HazelcastCacheManager;
 import com.security.oauth.configuration.Constants;
+import com.security.oauth.model.User;
+import com.spring6microservices.common.spring.cache.TwoLevelCacheManager;
+import com.spring6microservices.common.spring.cache.TwoLevelCacheManager.LocalCacheConfiguration;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -12,41 +15,101 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
 @Configuration
 @ComponentScan(basePackages = { Constants.PATH.EXTERNAL.COMMON_SPRING })
 @EnableCaching
 public class CacheConfiguration {
 
+    private final AuthorizationCacheConfiguration authorizationCacheConfiguration;
+
     private final RegisteredClientCacheConfiguration registeredClientCacheConfiguration;
 
+    private final UserCacheConfiguration userCacheConfiguration;
+
 
     @Autowired
-    public CacheConfiguration(final RegisteredClientCacheConfiguration registeredClientCacheConfiguration) {
+    public CacheConfiguration(final AuthorizationCacheConfiguration authorizationCacheConfiguration,
+                              final RegisteredClientCacheConfiguration registeredClientCacheConfiguration,
+                              final UserCacheConfiguration userCacheConfiguration) {
+        this.authorizationCacheConfiguration = authorizationCacheConfiguration;
         this.registeredClientCacheConfiguration = registeredClientCacheConfiguration;
+        this.userCacheConfiguration = userCacheConfiguration;
     }
 
 
     /**
-     * Centralized cache configuration to manage the information we want to cache
+     *    Hazelcast member of this node, shared by the {@link CacheManager} and the services that need to work with
+     * the distributed maps directly.
      *
-     * @return {@link CacheManager}
+     * @return {@link HazelcastInstance}
      */
     @Bean
-    public CacheManager cacheManager() {
+    public HazelcastInstance hazelcastInstance() {
         HazelcastInstance existingInstance = Hazelcast.getHazelcastInstanceByName(
                 Constants.APPLICATION.CACHE_INSTANCE_NAME
         );
-        HazelcastInstance hazelcastInstance = null != existingInstance
+        return null != existingInstance
                 ? existingInstance
                 : Hazelcast.newHazelcastInstance(
                         hazelCastConfig()
                   );
-        return new HazelcastCacheManager(
-                hazelcastInstance
+    }
+
+
+    /**
+     *    Centralized cache configuration to manage the information we want to cache. The caches configured to use a
+     * local one get a local copy in every node in front of Hazelcast.
+     *
+     * @param hazelcastInstance
+     *    {@link HazelcastInstance} with the distributed caches
+     *
+     * @return {@link CacheManager}
+     */
+    @Bean
+    public CacheManager cacheManager(final HazelcastInstance hazelcastInstance) {
+        return new TwoLevelCacheManager(
+                new HazelcastCacheManager(
+                        hazelcastInstance
+                ),
+                getLocalCaches()
         );
     }
 
 
+    /**
+     * Returns the caches that will keep a local copy in every node, with their configuration.
+     *
+     * @return {@link Map} with the names of the caches and their {@link LocalCacheConfiguration}
+     */
+    private Map<String, LocalCacheConfiguration> getLocalCaches() {
+        Map<String, LocalCacheConfiguration> localCaches = new HashMap<>();
+        if (this.registeredClientCacheConfiguration.isUseLocalCache()) {
+            localCaches.put(
+                    this.registeredClientCacheConfiguration.getCacheName(),
+                    new LocalCacheConfiguration(
+                            this.registeredClientCacheConfiguration.getCacheEntryCapacity(),
+                            this.registeredClientCacheConfiguration.getCacheExpireInSeconds()
+                    )
+            );
+        }
+        if (this.userCacheConfiguration.isUseLocalCache()) {
+            localCaches.put(
+                    this.userCacheConfiguration.getCacheName(),
+                    new LocalCacheConfiguration(
+                            this.userCacheConfiguration.getCacheEntryCapacity(),
+                            this.userCacheConfiguration.getCacheExpireInSeconds(),
+                            u -> copy((User) u)
+                    )
+            );
+        }
+        return localCaches;
+    }
+
+
     /**
      * Include all configuration options and different caches used in the application.
      *
@@ -57,10 +120,72 @@ public class CacheConfiguration {
                 .setInstanceName(
                         Constants.APPLICATION.CACHE_INSTANCE_NAME
                 )
+                .addMapConfig(
+                        addAuthorizationCache(
+                                this.authorizationCacheConfiguration
+                        )
+                )
+                .addMapConfig(
+                        addAuthorizationTokenCache(
+                                this.authorizationCacheConfiguration
+                        )
+                )
                 .addMapConfig(
                         addRegisteredClientCache(
                                 this.registeredClientCacheConfiguration
                         )
+                )
+                .addMapConfig(
+                        addUserCache(
+                                this.userCacheConfiguration
+                        )
+                );
+    }
+
+
+    /**
+     *    Creates the {@link MapConfig} related with the issued authorizations of {@link AuthorizationCacheConfiguration}.
+     * There is no eviction, because removing an entry would invalidate its tokens, and every entry defines its own
+     * time to live: {@link AuthorizationCacheConfiguration#getCacheExpireInSeconds()} is only used when it does not.
+     *
+     * @param cacheConfiguration
+     *    {@link AuthorizationCacheConfiguration} with its specific configuration values
+     *
+     * @return {@link MapConfig}
+     */
+    private MapConfig addAuthorizationCache(final AuthorizationCacheConfiguration cacheConfiguration) {
+        return new MapConfig()
+                .setName(
+                        cacheConfiguration.getCacheName()
+                )
+                .setBackupCount(
+                        cacheConfiguration.getCacheBackupCount()
+                )
+                .setTimeToLiveSeconds(
+                        cacheConfiguration.getCacheExpireInSeconds()
+                );
+    }
+
+
+    /**
+     *    Creates the {@link MapConfig} related with the index of the tokens of the issued authorizations of
+     * {@link AuthorizationCacheConfiguration}, following the same rules as {@link #addAuthorizationCache(AuthorizationCacheConfiguration)}.
+     *
+     * @param cacheConfiguration
+     *    {@link AuthorizationCacheConfiguration} with its specific configuration values
+     *
+     * @return {@link MapConfig}
+     */
+    private MapConfig addAuthorizationTokenCache(final AuthorizationCacheConfiguration cacheConfiguration) {
+        return new MapConfig()
+                .setName(
+                        cacheConfiguration.getTokenCacheName()
+                )
+                .setBackupCount(
+                        cacheConfiguration.getCacheBackupCount()
+                )
+                .setTimeToLiveSeconds(
+                        cacheConfiguration.getCacheExpireInSeconds()
                 );
     }
 
@@ -95,4 +220,55 @@ public class CacheConfiguration {
                 );
     }
 
-}
\ No newline at end of file
+
+    /**
+     * Creates the {@link MapConfig} related with {@link UserCacheConfiguration}.
+     *
+     * @param cacheConfiguration
+     *    {@link UserCacheConfiguration} with its specific configuration values
+     *
+     * @return {@link MapConfig}
+     */
+    private MapConfig addUserCache(final UserCacheConfiguration cacheConfiguration) {
+        return new MapConfig()
+                .setName(
+                        cacheConfiguration.getCacheName()
+                )
+                .setEvictionConfig(
+                        new EvictionConfig()
+                                .setSize(
+                                        cacheConfiguration.getCacheEntryCapacity()
+                                )
+                                .setMaxSizePolicy(
+                                        MaxSizePolicy.PER_NODE
+                                )
+                                .setEvictionPolicy(
+                                        EvictionPolicy.LRU
+                                )
+                )
+                .setTimeToLiveSeconds(
+                        cacheConfiguration.getCacheExpireInSeconds()
+                );
+    }
+
+
+    /**
+     *    Returns a copy of the given {@link User}, with its own {@link User#getRoles()}, so the instances returned by the
+     * local cache are not shared between the requests that use them.
+     *
+     * @param user
+     *    {@link User} to copy
+     *
+     * @return new {@link User} with the same values
+     */
+    private static User copy(final User user) {
+        return user.toBuilder()
+                .roles(
+                        null == user.getRoles()
+                                ? null
+                                : new HashSet<>(user.getRoles())
+                )
+                .build();
+    }
+
+}
@@ -21,4 +21,7 @@ public class RegisteredClientCacheConfiguration {
     @Value("${cache.registeredClient.name}")
     private String cacheName;
 
+    @Value("${cache.registeredClient.useLocalCache}")
+    private boolean useLocalCache;
+
 }
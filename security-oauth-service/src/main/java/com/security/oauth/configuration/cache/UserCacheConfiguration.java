@@ -0,0 +1,27 @@
+package com.security.oauth.configuration.cache;
+
+import com.security.oauth.model.User;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * With the cache configuration related with the users who log in this security microservice: {@link User}
+ */
+@Configuration
+@Getter
+public class UserCacheConfiguration {
+
+    @Value("${cache.user.entryCapacity}")
+    private int cacheEntryCapacity;
+
+    @Value("${cache.user.expireInSeconds}")
+    private int cacheExpireInSeconds;
+
+    @Value("${cache.user.name}")
+    private String cacheName;
+
+    @Value("${cache.user.useLocalCache}")
+    private boolean useLocalCache;
+
+}
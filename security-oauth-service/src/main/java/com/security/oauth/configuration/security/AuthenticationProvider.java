@@ -2,7 +2,10 @@ package com.security.oauth.configuration.security;
 
 import com.security.oauth.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -13,13 +16,53 @@ import org.springframework.stereotype.Component;
 @Component
 public class AuthenticationProvider extends DaoAuthenticationProvider {
 
+    private final UserService userService;
+
+
     @Autowired
     public AuthenticationProvider(final UserService userService,
                                   final PasswordEncoder passwordEncoder) {
         super(passwordEncoder);
+        this.userService = userService;
         this.setUserDetailsService(
                 userService
         );
     }
 
+
+    /**
+     *    Authenticates the given {@link Authentication} like {@link DaoAuthenticationProvider}, but if its credentials
+     * were checked against a stored user, that one is evicted and the authentication is retried with the current
+     * information in database. That way, a password changed in database is applied in the next login.
+     *
+     * @param authentication
+     *    {@link Authentication} to verify
+     *
+     * @return {@link Authentication} fully authenticated
+     *
+     * @throws AuthenticationException if the authentication fails
+     */
+    @Override
+    public Authentication authenticate(final Authentication authentication) throws AuthenticationException {
+        final boolean wasCached = userService.isCached(
+                authentication.getName()
+        );
+        try {
+            return super.authenticate(
+                    authentication
+            );
+
+        } catch (BadCredentialsException e) {
+            if (!wasCached) {
+                throw e;
+            }
+            userService.evict(
+                    authentication.getName()
+            );
+            return super.authenticate(
+                    authentication
+            );
+        }
+    }
+
 }
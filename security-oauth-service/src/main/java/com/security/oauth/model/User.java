@@ -19,7 +19,7 @@ import static com.spring6microservices.common.core.util.CollectionUtil.addIfNotN
 import static com.spring6microservices.common.core.util.ObjectUtil.getOrElse;
 
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Data
 @EqualsAndHashCode(
         of = {"username"}
@@ -80,20 +80,14 @@ public class CustomJdbcRegisteredClientRepository extends JdbcRegisteredClientRe
     @Override
     public RegisteredClient findById(final String id) {
         AssertUtil.hasText(id, "id cannot be empty");
-        return cacheService.get(id)
-                .orElseGet(() -> {
-                    RegisteredClient registeredClient = findBy(
-                            "id = ?",
-                            id
-                    );
-                    if (null != registeredClient) {
-                        cacheService.put(
-                                id,
-                                registeredClient
-                        );
-                    }
-                    return registeredClient;
-                });
+        return cacheService.computeIfAbsent(
+                        id,
+                        i -> findBy(
+                                "id = ?",
+                                i
+                        )
+                )
+                .orElse(null);
     }
 
 
@@ -0,0 +1,299 @@
+package com.security.oauth.service;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.security.oauth.configuration.cache.AuthorizationCacheConfiguration;
+import com.spring6microservices.common.core.util.AssertUtil;
+import com.spring6microservices.common.spring.enums.HashAlgorithm;
+import com.spring6microservices.common.spring.util.HashUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2DeviceCode;
+import org.springframework.security.oauth2.core.OAuth2RefreshToken;
+import org.springframework.security.oauth2.core.OAuth2Token;
+import org.springframework.security.oauth2.core.OAuth2UserCode;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.core.oidc.endpoint.OidcParameterNames;
+import org.springframework.security.oauth2.server.authorization.OAuth2Authorization;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationCode;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationService;
+import org.springframework.security.oauth2.server.authorization.OAuth2TokenType;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *    {@link OAuth2AuthorizationService} that stores the issued {@link OAuth2Authorization}s in Hazelcast, so they are
+ * shared by all the nodes of the microservice and any of them is able to introspect or revoke their tokens.
+ * <p>
+ *    Two distributed maps are used:
+ * <ul>
+ *   <li>{@link AuthorizationCacheConfiguration#getCacheName()}: {@link OAuth2Authorization#getId()} - {@link OAuth2Authorization}</li>
+ *   <li>
+ *      {@link AuthorizationCacheConfiguration#getTokenCacheName()}: digest of every token and state - {@link OAuth2Authorization#getId()},
+ *      to find the {@link OAuth2Authorization} related with a token without iterating over all of them.
+ *   </li>
+ * </ul>
+ *    Every entry expires with its tokens, the {@link OAuth2Authorization} when the last one does, and if there is no
+ * token with expiration yet, after {@link AuthorizationCacheConfiguration#getCacheExpireInSeconds()}.
+ */
+@Service
+public class HazelcastOAuth2AuthorizationService implements OAuth2AuthorizationService {
+
+    private static final Map<String, Class<? extends OAuth2Token>> TOKEN_CLASSES = Map.of(
+            OAuth2ParameterNames.CODE, OAuth2AuthorizationCode.class,
+            OAuth2TokenType.ACCESS_TOKEN.getValue(), OAuth2AccessToken.class,
+            OAuth2TokenType.REFRESH_TOKEN.getValue(), OAuth2RefreshToken.class,
+            OidcParameterNames.ID_TOKEN, OidcIdToken.class,
+            OAuth2ParameterNames.DEVICE_CODE, OAuth2DeviceCode.class,
+            OAuth2ParameterNames.USER_CODE, OAuth2UserCode.class
+    );
+
+    private final AuthorizationCacheConfiguration cacheConfiguration;
+
+    private final HazelcastInstance hazelcastInstance;
+
+    private final Clock clock;
+
+
+    @Autowired
+    public HazelcastOAuth2AuthorizationService(final AuthorizationCacheConfiguration cacheConfiguration,
+                                               final HazelcastInstance hazelcastInstance) {
+        this(
+                cacheConfiguration,
+                hazelcastInstance,
+                Clock.systemUTC()
+        );
+    }
+
+
+    HazelcastOAuth2AuthorizationService(final AuthorizationCacheConfiguration cacheConfiguration,
+                                        final HazelcastInstance hazelcastInstance,
+                                        final Clock clock) {
+        this.cacheConfiguration = cacheConfiguration;
+        this.hazelcastInstance = hazelcastInstance;
+        this.clock = clock;
+    }
+
+
+    @Override
+    public void save(final OAuth2Authorization authorization) {
+        AssertUtil.notNull(authorization, "authorization cannot be null");
+        final Instant now = clock.instant();
+        final Map<String, Instant> tokenKeys = getTokenKeys(authorization);
+
+        final OAuth2Authorization previousAuthorization = getAuthorizations().put(
+                authorization.getId(),
+                authorization,
+                getTimeToLiveInSeconds(
+                        getLastExpiration(tokenKeys),
+                        now
+                ),
+                TimeUnit.SECONDS
+        );
+        if (null != previousAuthorization) {
+            getTokenKeys(previousAuthorization).keySet()
+                    .stream()
+                    .filter(key ->
+                            !tokenKeys.containsKey(key)
+                    )
+                    .forEach(getTokens()::delete);
+        }
+        tokenKeys.forEach((key, expiresAt) ->
+                getTokens().set(
+                        key,
+                        authorization.getId(),
+                        getTimeToLiveInSeconds(
+                                expiresAt,
+                                now
+                        ),
+                        TimeUnit.SECONDS
+                )
+        );
+    }
+
+
+    @Override
+    public void remove(final OAuth2Authorization authorization) {
+        AssertUtil.notNull(authorization, "authorization cannot be null");
+        final OAuth2Authorization storedAuthorization = getAuthorizations().remove(
+                authorization.getId()
+        );
+        getTokenKeys(authorization).keySet()
+                .forEach(getTokens()::delete);
+
+        if (null != storedAuthorization) {
+            getTokenKeys(storedAuthorization).keySet()
+                    .forEach(getTokens()::delete);
+        }
+    }
+
+
+    @Override
+    public OAuth2Authorization findById(final String id) {
+        AssertUtil.hasText(id, "id cannot be empty");
+        return getAuthorizations().get(
+                id
+        );
+    }
+
+
+    @Override
+    public OAuth2Authorization findByToken(final String token,
+                                           final OAuth2TokenType tokenType) {
+        AssertUtil.hasText(token, "token cannot be empty");
+        final String id = getTokens().get(
+                HashUtil.hashToBase64(
+                        token,
+                        HashAlgorithm.SHA_256
+                )
+        );
+        if (null == id) {
+            return null;
+        }
+        final OAuth2Authorization authorization = getAuthorizations().get(
+                id
+        );
+        return null != authorization && hasToken(authorization, token, tokenType)
+                ? authorization
+                : null;
+    }
+
+
+    /**
+     * Returns the digest of every token and state included in the given {@code authorization}, with their expiration.
+     *
+     * @param authorization
+     *    {@link OAuth2Authorization} to get its tokens
+     *
+     * @return {@link Map} with the digest of every token and when it expires, {@code null} if it has no expiration
+     */
+    private Map<String, Instant> getTokenKeys(final OAuth2Authorization authorization) {
+        final Map<String, Instant> tokenKeys = new HashMap<>();
+        final String state = authorization.getAttribute(
+                OAuth2ParameterNames.STATE
+        );
+        if (null != state) {
+            tokenKeys.put(
+                    HashUtil.hashToBase64(
+                            state,
+                            HashAlgorithm.SHA_256
+                    ),
+                    null
+            );
+        }
+        TOKEN_CLASSES.values()
+                .forEach(tokenClass -> {
+                    OAuth2Authorization.Token<? extends OAuth2Token> token = authorization.getToken(tokenClass);
+                    if (null != token) {
+                        tokenKeys.put(
+                                HashUtil.hashToBase64(
+                                        token.getToken().getTokenValue(),
+                                        HashAlgorithm.SHA_256
+                                ),
+                                token.getToken().getExpiresAt()
+                        );
+                    }
+                });
+        return tokenKeys;
+    }
+
+
+    /**
+     * Returns the last expiration of the given tokens.
+     *
+     * @param tokenKeys
+     *    {@link Map} with the digest of every token and when it expires
+     *
+     * @return {@link Instant} with the last expiration, {@code null} if no token has expiration
+     */
+    private static Instant getLastExpiration(final Map<String, Instant> tokenKeys) {
+        return tokenKeys.values()
+                .stream()
+                .filter(expiresAt ->
+                        null != expiresAt
+                )
+                .max(Instant::compareTo)
+                .orElse(null);
+    }
+
+
+    /**
+     *    Returns the time to live of an entry that expires at {@code expiresAt}. Hazelcast considers {@code 0} as no
+     * expiration, so an already expired entry lives one more second.
+     *
+     * @param expiresAt
+     *    When the entry expires, {@code null} if it has no expiration
+     * @param now
+     *    Current {@link Instant}
+     *
+     * @return time to live in seconds
+     */
+    private long getTimeToLiveInSeconds(final Instant expiresAt,
+                                        final Instant now) {
+        if (null == expiresAt) {
+            return cacheConfiguration.getCacheExpireInSeconds();
+        }
+        final Duration timeToLive = Duration.between(now, expiresAt);
+        return Math.max(
+                1,
+                timeToLive.toSeconds() + (0 < timeToLive.toNanosPart() ? 1 : 0)
+        );
+    }
+
+
+    /**
+     * Checks if the given {@code token} of type {@code tokenType} belongs to {@code authorization}.
+     *
+     * @param authorization
+     *    {@link OAuth2Authorization} to verify
+     * @param token
+     *    Token or state to search
+     * @param tokenType
+     *    {@link OAuth2TokenType} of {@code token}, {@code null} if it is unknown
+     *
+     * @return {@code true} if {@code token} belongs to {@code authorization}, {@code false} otherwise
+     */
+    private static boolean hasToken(final OAuth2Authorization authorization,
+                                    final String token,
+                                    final OAuth2TokenType tokenType) {
+        if (null == tokenType) {
+            return token.equals(authorization.getAttribute(OAuth2ParameterNames.STATE)) ||
+                    null != authorization.getToken(token);
+        }
+        if (OAuth2ParameterNames.STATE.equals(tokenType.getValue())) {
+            return token.equals(authorization.getAttribute(OAuth2ParameterNames.STATE));
+        }
+        final Class<? extends OAuth2Token> tokenClass = TOKEN_CLASSES.get(
+                tokenType.getValue()
+        );
+        if (null == tokenClass) {
+            return false;
+        }
+        final OAuth2Authorization.Token<? extends OAuth2Token> authorizationToken = authorization.getToken(tokenClass);
+        return null != authorizationToken &&
+                token.equals(authorizationToken.getToken().getTokenValue());
+    }
+
+
+    private IMap<String, OAuth2Authorization> getAuthorizations() {
+        return hazelcastInstance.getMap(
+                cacheConfiguration.getCacheName()
+        );
+    }
+
+
+    private IMap<String, String> getTokens() {
+        return hazelcastInstance.getMap(
+                cacheConfiguration.getTokenCacheName()
+        );
+    }
+
+
+}
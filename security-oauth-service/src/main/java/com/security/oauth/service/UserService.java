@@ -2,6 +2,7 @@ package com.security.oauth.service;
 
 import com.security.oauth.model.User;
 import com.security.oauth.repository.UserRepository;
+import com.security.oauth.service.cache.UserCacheService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -9,6 +10,8 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
 
@@ -17,15 +20,20 @@ public class UserService implements UserDetailsService {
 
     private final UserRepository repository;
 
+    private final UserCacheService userCacheService;
+
 
     @Autowired
-    public UserService(final UserRepository userRepository) {
+    public UserService(final UserRepository userRepository,
+                       final UserCacheService userCacheService) {
         this.repository = userRepository;
+        this.userCacheService = userCacheService;
     }
 
 
     /**
-     * Gets {@link UserDetails} information in database related with the given {@link User#getUsername()}
+     *    Gets {@link UserDetails} information related with the given {@link User#getUsername()}, from {@link UserCacheService}
+     * when it was stored and from database otherwise.
      *
      * @param username
      *    Username to search a coincidence in {@link User#getUsername()}
@@ -38,7 +46,7 @@ public class UserService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         return ofNullable(username)
-                .flatMap(repository::findByUsername)
+                .flatMap(this::findByUsername)
                 .map(u ->  {
                     new AccountStatusUserDetailsChecker()
                             .check(u);
@@ -52,4 +60,60 @@ public class UserService implements UserDetailsService {
                 );
     }
 
+
+    /**
+     *    Removes the stored information of the given {@code username}, so the next time it logs in, it will be read again
+     * from database. It must be invoked every time the user or any of its roles changes.
+     *
+     * @param username
+     *    {@link User#getUsername()} to remove
+     *
+     * @return {@code true} if no problem was found during the operation, {@code false} otherwise
+     */
+    public boolean evict(final String username) {
+        return userCacheService.remove(
+                username
+        );
+    }
+
+
+    /**
+     * Checks if the information of the given {@code username} is stored, so it would not be read from database.
+     *
+     * @param username
+     *    {@link User#getUsername()} to search
+     *
+     * @return {@code true} if the {@code username} is stored, {@code false} otherwise
+     */
+    public boolean isCached(final String username) {
+        return userCacheService.contains(
+                username
+        );
+    }
+
+
+    /**
+     *    Returns the {@link User} related with the given {@code username}, using the stored one if it exists and, if it
+     * does not, getting all the information from database and storing it.
+     *
+     * @param username
+     *    {@link User#getUsername()} to search
+     *
+     * @return {@link Optional} with the {@link User} which {@link User#getUsername()} matches with the given one,
+     *         {@link Optional#empty()} otherwise.
+     */
+    private Optional<User> findByUsername(final String username) {
+        final Optional<User> cachedUser = userCacheService.get(
+                username
+        );
+        if (cachedUser.isPresent()) {
+            return cachedUser;
+        }
+        return repository.findByUsername(username)
+                .map(u -> {
+                    userCacheService.put(u);
+                    return u;
+                });
+    }
+
 }
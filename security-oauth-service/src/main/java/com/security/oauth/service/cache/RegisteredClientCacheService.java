@@ -7,6 +7,7 @@ import org.springframework.security.oauth2.server.authorization.client.Registere
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
+import java.util.function.Function;
 
 @Service
 public class RegisteredClientCacheService {
@@ -53,6 +54,27 @@ public class RegisteredClientCacheService {
     }
 
 
+    /**
+     *    Returns the {@link RegisteredClient} related with the given {@code id} inside the related cache. If it does not
+     * exist, {@code loader} is used to get it and, if it is not {@code null}, store it in the cache.
+     *
+     * @param id
+     *    {@link RegisteredClient#getId()} to search
+     * @param loader
+     *    {@link Function} used to get the {@link RegisteredClient} if it is not in the cache
+     *
+     * @return {@link Optional} with the {@link RegisteredClient} if it was found or loaded, {@link Optional#empty()} otherwise
+     */
+    public Optional<RegisteredClient> computeIfAbsent(final String id,
+                                                      final Function<String, RegisteredClient> loader) {
+        return cacheService.computeIfAbsent(
+                cacheConfiguration.getCacheName(),
+                id,
+                loader
+        );
+    }
+
+
     /**
      * Return the {@link RegisteredClient} related with the given {@code id} inside the related cache.
      *
@@ -87,15 +109,18 @@ public class RegisteredClientCacheService {
      * @param registeredClient
      *    {@link RegisteredClient} to store
      *
-     * @return {@code true} if the data was stored, {@code false} otherwise
+     * @return {@code true} if the data was stored,
+     *         {@code false} otherwise (like when {@code registeredClient} is {@code null}, because
+     *         {@link CacheService} never stores them)
      */
     public boolean put(final String id,
                        final RegisteredClient registeredClient) {
-        return cacheService.put(
-                cacheConfiguration.getCacheName(),
-                id,
-                registeredClient
-        );
+        return null != registeredClient &&
+                cacheService.put(
+                        cacheConfiguration.getCacheName(),
+                        id,
+                        registeredClient
+                );
     }
 
 }
@@ -0,0 +1,128 @@
+package com.security.oauth.service.cache;
+
+import com.security.oauth.configuration.cache.UserCacheConfiguration;
+import com.security.oauth.model.User;
+import com.spring6microservices.common.spring.service.CacheService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+import static java.util.Optional.empty;
+
+/**
+ *    Stores the {@link User}s, with their {@link User#getRoles()} and encoded password, to avoid resolving them in
+ * database every time they log in.
+ */
+@Service
+public class UserCacheService {
+
+    private final UserCacheConfiguration cacheConfiguration;
+
+    private final CacheService cacheService;
+
+
+    @Autowired
+    public UserCacheService(final UserCacheConfiguration cacheConfiguration,
+                            final CacheService cacheService) {
+        this.cacheConfiguration = cacheConfiguration;
+        this.cacheService = cacheService;
+    }
+
+
+    /**
+     * Clear the cache used to store {@link User} information.
+     *
+     * @return {@code true} if the cache was cleared, {@code false} otherwise
+     */
+    public boolean clear() {
+        return cacheService.clear(
+                cacheConfiguration.getCacheName()
+        );
+    }
+
+
+    /**
+     * Check if exists the given {@link User#getUsername()} inside the related cache.
+     *
+     * @param username
+     *    {@link User#getUsername()} to search
+     *
+     * @return {@code true} if the {@code username} exists, {@code false} otherwise
+     */
+    public boolean contains(final String username) {
+        return null != username &&
+                cacheService.contains(
+                        cacheConfiguration.getCacheName(),
+                        username
+                );
+    }
+
+
+    /**
+     * Return the {@link User} related with the given {@code username} inside the related cache.
+     *
+     * @param username
+     *    {@link User#getUsername()} to search
+     *
+     * @return {@link Optional} with the {@link User} if it was found, {@link Optional#empty()} otherwise
+     */
+    public Optional<User> get(final String username) {
+        if (null == username) {
+            return empty();
+        }
+        return cacheService.get(
+                cacheConfiguration.getCacheName(),
+                username
+        );
+    }
+
+
+    /**
+     * Returns the name of the internal cache managed by this service.
+     *
+     * @return {@link String} with the internal cache name
+     */
+    public String getCacheName() {
+        return cacheConfiguration.getCacheName();
+    }
+
+
+    /**
+     * Include the given {@link User} inside the related cache, using {@link User#getUsername()} as key.
+     *
+     * @param user
+     *    {@link User} to store
+     *
+     * @return {@code true} if the data was stored, {@code false} otherwise
+     */
+    public boolean put(final User user) {
+        return null != user &&
+                null != user.getUsername() &&
+                cacheService.put(
+                        cacheConfiguration.getCacheName(),
+                        user.getUsername(),
+                        user
+                );
+    }
+
+
+    /**
+     *    Removes the given {@code username} of the cache. It must be invoked every time the {@link User}, or any of
+     * its {@link User#getRoles()}, changes.
+     *
+     * @param username
+     *    {@link User#getUsername()} used to identify the {@link User} to remove
+     *
+     * @return {@code true} if no problem was found during the operation,
+     *         {@code false} otherwise
+     */
+    public boolean remove(final String username) {
+        return null != username &&
+                cacheService.remove(
+                        cacheConfiguration.getCacheName(),
+                        username
+                );
+    }
+
+}
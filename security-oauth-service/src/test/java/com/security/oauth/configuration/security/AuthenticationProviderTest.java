@@ -0,0 +1,116 @@
+package com.security.oauth.configuration.security;
+
+import com.security.oauth.model.User;
+import com.security.oauth.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class AuthenticationProviderTest {
+
+    @Mock
+    private UserService mockUserService;
+
+    private AuthenticationProvider provider;
+
+
+    @BeforeEach
+    public void init() {
+        provider = new AuthenticationProvider(
+                mockUserService,
+                NoOpPasswordEncoder.getInstance()
+        );
+    }
+
+
+    @Test
+    @DisplayName("authenticate: when the stored user has an old password then it is evicted and the current one is used")
+    public void authenticate_whenStoredUserHasOldPassword_thenItIsEvictedAndCurrentOneIsUsed() {
+        when(mockUserService.isCached("username"))
+                .thenReturn(
+                        true
+                );
+        when(mockUserService.loadUserByUsername("username"))
+                .thenReturn(
+                        buildUser("oldPassword")
+                )
+                .thenReturn(
+                        buildUser("newPassword")
+                );
+
+        Authentication result = provider.authenticate(
+                new UsernamePasswordAuthenticationToken(
+                        "username",
+                        "newPassword"
+                )
+        );
+
+        assertNotNull(result);
+        assertTrue(result.isAuthenticated());
+        verify(mockUserService, times(1))
+                .evict("username");
+        verify(mockUserService, times(2))
+                .loadUserByUsername("username");
+    }
+
+
+    @Test
+    @DisplayName("authenticate: when the user was not stored and the password does not match then it is not retried")
+    public void authenticate_whenUserWasNotStoredAndPasswordDoesNotMatch_thenItIsNotRetried() {
+        when(mockUserService.isCached("username"))
+                .thenReturn(
+                        false
+                );
+        when(mockUserService.loadUserByUsername("username"))
+                .thenReturn(
+                        buildUser("password")
+                );
+
+        assertThrows(
+                BadCredentialsException.class,
+                () -> provider.authenticate(
+                        new UsernamePasswordAuthenticationToken(
+                                "username",
+                                "wrongPassword"
+                        )
+                )
+        );
+
+        verify(mockUserService, never())
+                .evict(anyString());
+        verify(mockUserService, times(1))
+                .loadUserByUsername("username");
+    }
+
+
+    private static User buildUser(final String password) {
+        return User.builder()
+                .username("username")
+                .password(password)
+                .active(true)
+                .roles(
+                        new HashSet<>()
+                )
+                .build();
+    }
+
+}
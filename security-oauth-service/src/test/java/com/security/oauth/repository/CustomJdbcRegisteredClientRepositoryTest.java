@@ -20,14 +20,17 @@ import org.springframework.security.oauth2.server.authorization.client.Registere
 import org.springframework.test.context.jdbc.Sql;
 
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static com.security.oauth.TestDataFactory.buildRegisteredClient;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
+import static java.util.Optional.ofNullable;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.samePropertyValuesAs;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -94,10 +97,13 @@ public class CustomJdbcRegisteredClientRepositoryTest {
                                    Optional<RegisteredClient> cacheServiceResult,
                                    Class<? extends Exception> expectedException,
                                    RegisteredClient expectedResult) {
-        when(mockRegisteredClientCacheService.get(id))
-                .thenReturn(
-                        cacheServiceResult
-                );
+        when(mockRegisteredClientCacheService.computeIfAbsent(eq(id), any()))
+                .thenAnswer(invocation -> {
+                    Function<String, RegisteredClient> loader = invocation.getArgument(1);
+                    return cacheServiceResult.or(() ->
+                            ofNullable(loader.apply(id))
+                    );
+                });
 
         if (null != expectedException) {
             assertThrows(
@@ -126,11 +132,11 @@ public class CustomJdbcRegisteredClientRepositoryTest {
                         )
                 );
             }
-            verifyRegisteredClientCacheServiceInvocationsFindBy(
-                    id,
-                    cacheServiceResult,
-                    expectedResult
-            );
+            verify(mockRegisteredClientCacheService, times(1))
+                    .computeIfAbsent(
+                            eq(id),
+                            any()
+                    );
         }
     }
 
@@ -0,0 +1,255 @@
+package com.security.oauth.service;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.security.oauth.configuration.cache.AuthorizationCacheConfiguration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2RefreshToken;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.security.oauth2.server.authorization.OAuth2Authorization;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationCode;
+import org.springframework.security.oauth2.server.authorization.OAuth2TokenType;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static com.security.oauth.TestDataFactory.buildRegisteredClient;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class HazelcastOAuth2AuthorizationServiceTest {
+
+    private static final String INSTANCE_NAME = "HazelcastOAuth2AuthorizationServiceTest";
+
+    private static final Instant NOW = Instant.now();
+
+    private static HazelcastInstance hazelcastInstance;
+
+    @Mock
+    private AuthorizationCacheConfiguration mockCacheConfiguration;
+
+    @Mock
+    private Clock mockClock;
+
+    private HazelcastOAuth2AuthorizationService service;
+
+
+    @BeforeAll
+    public static void initHazelcast() {
+        Config config = new Config()
+                .setInstanceName(INSTANCE_NAME)
+                .setClusterName(INSTANCE_NAME);
+        config.getNetworkConfig()
+                .getJoin()
+                .getMulticastConfig()
+                .setEnabled(false);
+        config.getNetworkConfig()
+                .getJoin()
+                .getAutoDetectionConfig()
+                .setEnabled(false);
+        hazelcastInstance = Hazelcast.newHazelcastInstance(config);
+    }
+
+
+    @AfterAll
+    public static void shutdownHazelcast() {
+        hazelcastInstance.shutdown();
+    }
+
+
+    @BeforeEach
+    public void init() {
+        when(mockCacheConfiguration.getCacheExpireInSeconds())
+                .thenReturn(600);
+        when(mockCacheConfiguration.getCacheName())
+                .thenReturn("TestAuthorization_" + UUID.randomUUID());
+        when(mockCacheConfiguration.getTokenCacheName())
+                .thenReturn("TestAuthorizationToken_" + UUID.randomUUID());
+        when(mockClock.instant())
+                .thenReturn(NOW);
+
+        service = new HazelcastOAuth2AuthorizationService(
+                mockCacheConfiguration,
+                hazelcastInstance,
+                mockClock
+        );
+    }
+
+
+    @Test
+    @DisplayName("save: when null authorization is given then IllegalArgumentException is thrown")
+    public void save_whenNullAuthorizationIsGiven_thenIllegalArgumentExceptionIsThrown() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> service.save(null)
+        );
+    }
+
+
+    @Test
+    @DisplayName("findById: when the authorization was saved then it is returned")
+    public void findById_whenAuthorizationWasSaved_thenItIsReturned() {
+        OAuth2Authorization authorization = buildAuthorization("id1", "state1", "code1", "access1", "refresh1");
+
+        service.save(authorization);
+
+        assertEquals(authorization, service.findById("id1"));
+        assertNull(service.findById("id2"));
+    }
+
+
+    static Stream<Arguments> findByTokenTestCases() {
+        OAuth2TokenType stateTokenType = new OAuth2TokenType(OAuth2ParameterNames.STATE);
+        OAuth2TokenType codeTokenType = new OAuth2TokenType(OAuth2ParameterNames.CODE);
+        return Stream.of(
+                //@formatter:off
+                //            token,           tokenType,                         isFound
+                Arguments.of( "notSaved",      null,                              false ),
+                Arguments.of( "access1",       OAuth2TokenType.REFRESH_TOKEN,     false ),
+                Arguments.of( "refresh1",      OAuth2TokenType.ACCESS_TOKEN,      false ),
+                Arguments.of( "code1",         stateTokenType,                    false ),
+                Arguments.of( "state1",        null,                              true ),
+                Arguments.of( "state1",        stateTokenType,                    true ),
+                Arguments.of( "code1",         null,                              true ),
+                Arguments.of( "code1",         codeTokenType,                     true ),
+                Arguments.of( "access1",       null,                              true ),
+                Arguments.of( "access1",       OAuth2TokenType.ACCESS_TOKEN,      true ),
+                Arguments.of( "refresh1",      null,                              true ),
+                Arguments.of( "refresh1",      OAuth2TokenType.REFRESH_TOKEN,     true )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("findByTokenTestCases")
+    @DisplayName("findByToken: test cases")
+    public void findByToken_testCases(String token,
+                                      OAuth2TokenType tokenType,
+                                      boolean isFound) {
+        OAuth2Authorization authorization = buildAuthorization("id1", "state1", "code1", "access1", "refresh1");
+        service.save(authorization);
+
+        OAuth2Authorization result = service.findByToken(token, tokenType);
+
+        assertEquals(
+                isFound ? authorization : null,
+                result
+        );
+    }
+
+
+    @Test
+    @DisplayName("save: when the tokens of an authorization are replaced then the old ones are not found anymore")
+    public void save_whenTokensOfAuthorizationAreReplaced_thenOldOnesAreNotFoundAnymore() {
+        service.save(
+                buildAuthorization("id1", "state1", "code1", "access1", "refresh1")
+        );
+        OAuth2Authorization refreshedAuthorization = buildAuthorization("id1", "state1", "code1", "access2", "refresh2");
+
+        service.save(refreshedAuthorization);
+
+        assertNull(service.findByToken("access1", null));
+        assertNull(service.findByToken("refresh1", null));
+        assertEquals(refreshedAuthorization, service.findByToken("access2", OAuth2TokenType.ACCESS_TOKEN));
+        assertEquals(refreshedAuthorization, service.findByToken("refresh2", OAuth2TokenType.REFRESH_TOKEN));
+    }
+
+
+    @Test
+    @DisplayName("save: when the authorization has tokens then its entries expire with them")
+    public void save_whenAuthorizationHasTokens_thenItsEntriesExpireWithThem() {
+        service.save(
+                buildAuthorization("id1", "state1", "code1", "access1", "refresh1")
+        );
+        service.save(
+                buildAuthorization("id2", "state2", null, null, null)
+        );
+
+        // The refresh token is the last one to expire
+        assertEquals(
+                3600_000,
+                hazelcastInstance.getMap(mockCacheConfiguration.getCacheName())
+                        .getEntryView("id1")
+                        .getTtl()
+        );
+        // Without tokens the configured time is used
+        assertEquals(
+                600_000,
+                hazelcastInstance.getMap(mockCacheConfiguration.getCacheName())
+                        .getEntryView("id2")
+                        .getTtl()
+        );
+    }
+
+
+    @Test
+    @DisplayName("remove: when the authorization was saved then neither it nor its tokens are found")
+    public void remove_whenAuthorizationWasSaved_thenNeitherItNorItsTokensAreFound() {
+        OAuth2Authorization authorization = buildAuthorization("id1", "state1", "code1", "access1", "refresh1");
+        service.save(authorization);
+
+        service.remove(authorization);
+
+        assertNull(service.findById("id1"));
+        for (String token : Set.of("state1", "code1", "access1", "refresh1")) {
+            assertNull(service.findByToken(token, null));
+        }
+        assertEquals(
+                0,
+                hazelcastInstance.getMap(mockCacheConfiguration.getTokenCacheName())
+                        .size()
+        );
+    }
+
+
+    private static OAuth2Authorization buildAuthorization(final String id,
+                                                          final String state,
+                                                          final String code,
+                                                          final String accessToken,
+                                                          final String refreshToken) {
+        OAuth2Authorization.Builder builder = OAuth2Authorization
+                .withRegisteredClient(
+                        buildRegisteredClient("registeredClientId", "clientId")
+                )
+                .id(id)
+                .principalName("principalName")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .attribute(OAuth2ParameterNames.STATE, state);
+
+        if (null != code) {
+            builder.token(
+                    new OAuth2AuthorizationCode(code, NOW, NOW.plusSeconds(300))
+            );
+        }
+        if (null != accessToken) {
+            builder.accessToken(
+                    new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, accessToken, NOW, NOW.plusSeconds(900))
+            );
+        }
+        if (null != refreshToken) {
+            builder.refreshToken(
+                    new OAuth2RefreshToken(refreshToken, NOW, NOW.plusSeconds(3600))
+            );
+        }
+        return builder.build();
+    }
+
+}
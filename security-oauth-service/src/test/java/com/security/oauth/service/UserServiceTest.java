@@ -1,9 +1,13 @@
 package com.security.oauth.service;
 
 import com.security.oauth.model.User;
+import com.security.oauth.model.Role;
+import com.security.oauth.model.enums.RoleEnum;
 import com.security.oauth.repository.UserRepository;
+import com.security.oauth.service.cache.UserCacheService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -15,12 +19,20 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -29,13 +41,17 @@ public class UserServiceTest {
     @Mock
     private UserRepository mockRepository;
 
+    @Mock
+    private UserCacheService mockUserCacheService;
+
     private UserService service;
 
 
     @BeforeEach
     public void init() {
         service = new UserService(
-                mockRepository
+                mockRepository,
+                mockUserCacheService
         );
     }
 
@@ -79,4 +95,106 @@ public class UserServiceTest {
         }
     }
 
+
+    @Test
+    @DisplayName("loadUserByUsername: when the user was not stored then it is read from database and stored")
+    public void loadUserByUsername_whenUserWasNotStored_thenItIsReadFromDatabaseAndStored() {
+        User user = buildUser();
+        when(mockUserCacheService.get(user.getUsername()))
+                .thenReturn(
+                        empty()
+                );
+        when(mockRepository.findByUsername(user.getUsername()))
+                .thenReturn(
+                        of(user)
+                );
+
+        UserDetails result = service.loadUserByUsername(user.getUsername());
+
+        assertEquals(
+                user,
+                result
+        );
+        verify(mockUserCacheService, times(1))
+                .put(user);
+    }
+
+
+    @Test
+    @DisplayName("loadUserByUsername: when the user was stored then database is not used")
+    public void loadUserByUsername_whenUserWasStored_thenDatabaseIsNotUsed() {
+        User cachedUser = buildUser();
+        when(mockUserCacheService.get(cachedUser.getUsername()))
+                .thenReturn(
+                        of(cachedUser)
+                );
+
+        UserDetails result = service.loadUserByUsername(cachedUser.getUsername());
+
+        assertEquals(
+                cachedUser,
+                result
+        );
+        assertEquals(
+                "password",
+                result.getPassword()
+        );
+        assertEquals(
+                cachedUser.getAuthorities(),
+                result.getAuthorities()
+        );
+        verify(mockRepository, never())
+                .findByUsername(anyString());
+        verify(mockUserCacheService, never())
+                .put(any());
+    }
+
+
+    @Test
+    @DisplayName("evict: when it is invoked then the user is removed from the cache")
+    public void evict_whenItIsInvoked_thenUserIsRemovedFromTheCache() {
+        when(mockUserCacheService.remove("username"))
+                .thenReturn(
+                        true
+                );
+
+        assertTrue(
+                service.evict("username")
+        );
+    }
+
+
+    @Test
+    @DisplayName("isCached: when it is invoked then the cache is checked")
+    public void isCached_whenItIsInvoked_thenCacheIsChecked() {
+        when(mockUserCacheService.contains("username"))
+                .thenReturn(
+                        true
+                );
+
+        assertTrue(
+                service.isCached("username")
+        );
+        assertFalse(
+                service.isCached("otherUsername")
+        );
+    }
+
+
+    private static User buildUser() {
+        return User.builder()
+                .username("username")
+                .password("password")
+                .active(true)
+                .roles(
+                        Set.of(
+                                new Role(
+                                        1,
+                                        RoleEnum.ROLE_ADMIN.name()
+                                )
+                        )
+                )
+                .build();
+    }
+
 }
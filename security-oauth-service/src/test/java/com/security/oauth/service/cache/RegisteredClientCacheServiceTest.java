@@ -15,12 +15,14 @@ import org.springframework.security.oauth2.server.authorization.client.Registere
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static com.security.oauth.TestDataFactory.buildRegisteredClient;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
@@ -78,6 +80,44 @@ public class RegisteredClientCacheServiceTest {
     }
 
 
+    static Stream<Arguments> computeIfAbsentTestCases() {
+        String id = "Spring6Microservices";
+        Optional<RegisteredClient> cacheServiceResult = of(
+                buildRegisteredClient(
+                        id,
+                        id
+                )
+        );
+        return Stream.of(
+                //@formatter:off
+                //            id,     cacheServiceResult,   expectedResult
+                Arguments.of( null,   empty(),              empty() ),
+                Arguments.of( id,     empty(),              empty() ),
+                Arguments.of( id,     cacheServiceResult,   cacheServiceResult )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("computeIfAbsentTestCases")
+    @DisplayName("computeIfAbsent: test cases")
+    public void computeIfAbsent_testCases(String id,
+                                          Optional<RegisteredClient> cacheServiceResult,
+                                          Optional<RegisteredClient> expectedResult) {
+        Function<String, RegisteredClient> loader = i -> null;
+        when(mockCacheService.computeIfAbsent(anyString(), eq(id), any(Function.class)))
+                .thenReturn(
+                        (Optional)cacheServiceResult
+                );
+
+        Optional<RegisteredClient> operationResult = service.computeIfAbsent(id, loader);
+
+        assertEquals(
+                expectedResult,
+                operationResult
+        );
+    }
+
+
     static Stream<Arguments> containsTestCases() {
         String id = "123ABC";
         return Stream.of(
@@ -175,7 +215,7 @@ public class RegisteredClientCacheServiceTest {
                 //            id,     registeredClient,   cacheServiceResult,   expectedResult
                 Arguments.of( null,   null,               false,                false ),
                 Arguments.of( id,     null,               false,                false ),
-                Arguments.of( id,     null,               true,                 true ),
+                Arguments.of( id,     null,               true,                 false ),
                 Arguments.of( id,     registeredClient,   true,                 true )
         ); //@formatter:on
     }
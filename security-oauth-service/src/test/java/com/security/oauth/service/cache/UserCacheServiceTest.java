@@ -0,0 +1,214 @@
+package com.security.oauth.service.cache;
+
+import com.security.oauth.configuration.cache.UserCacheConfiguration;
+import com.security.oauth.model.User;
+import com.spring6microservices.common.spring.service.CacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class UserCacheServiceTest {
+
+    @Mock
+    private UserCacheConfiguration mockCacheConfiguration;
+
+    @Mock
+    private CacheService mockCacheService;
+
+    private UserCacheService service;
+
+
+    @BeforeEach
+    public void init() {
+        service = new UserCacheService(
+                mockCacheConfiguration,
+                mockCacheService
+        );
+        when(mockCacheConfiguration.getCacheName())
+                .thenReturn(
+                        "TestCache"
+                );
+    }
+
+
+    static Stream<Arguments> clearTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            cacheServiceResult,   expectedResult
+                Arguments.of( false,                false ),
+                Arguments.of( true,                 true )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("clearTestCases")
+    @DisplayName("clear: test cases")
+    public void clear_testCases(boolean cacheServiceResult,
+                                boolean expectedResult) {
+        when(mockCacheService.clear(anyString()))
+                .thenReturn(
+                        cacheServiceResult
+                );
+
+        boolean result = service.clear();
+
+        assertEquals(
+                expectedResult,
+                result
+        );
+    }
+
+
+    static Stream<Arguments> containsTestCases() {
+        String username = "username";
+        return Stream.of(
+                //@formatter:off
+                //            username,   cacheServiceResult,   expectedResult
+                Arguments.of( null,       false,                false ),
+                Arguments.of( username,   false,                false ),
+                Arguments.of( username,   true,                 true )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("containsTestCases")
+    @DisplayName("contains: test cases")
+    public void contains_testCases(String username,
+                                   boolean cacheServiceResult,
+                                   boolean expectedResult) {
+        when(mockCacheService.contains(anyString(), eq(username)))
+                .thenReturn(
+                        cacheServiceResult
+                );
+
+        boolean operationResult = service.contains(username);
+
+        assertEquals(
+                expectedResult,
+                operationResult
+        );
+    }
+
+
+    static Stream<Arguments> getTestCases() {
+        String username = "username";
+        Optional<User> cacheServiceResult = of(
+                User.builder()
+                        .username(username)
+                        .build()
+        );
+        return Stream.of(
+                //@formatter:off
+                //            username,   cacheServiceResult,   expectedResult
+                Arguments.of( null,       empty(),              empty() ),
+                Arguments.of( username,   empty(),              empty() ),
+                Arguments.of( username,   cacheServiceResult,   cacheServiceResult )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("getTestCases")
+    @DisplayName("get: test cases")
+    public void get_testCases(String username,
+                              Optional<User> cacheServiceResult,
+                              Optional<User> expectedResult) {
+        when(mockCacheService.get(anyString(), eq(username)))
+                .thenReturn(
+                        (Optional)cacheServiceResult
+                );
+
+        Optional<User> operationResult = service.get(username);
+
+        assertEquals(
+                expectedResult,
+                operationResult
+        );
+    }
+
+
+    static Stream<Arguments> putTestCases() {
+        User userWithoutUsername = User.builder()
+                .password("password")
+                .build();
+        User user = User.builder()
+                .username("username")
+                .password("password")
+                .build();
+        return Stream.of(
+                //@formatter:off
+                //            user,                  cacheServiceResult,   expectedResult
+                Arguments.of( null,                  true,                 false ),
+                Arguments.of( userWithoutUsername,   true,                 false ),
+                Arguments.of( user,                  false,                false ),
+                Arguments.of( user,                  true,                 true )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("putTestCases")
+    @DisplayName("put: test cases")
+    public void put_testCases(User user,
+                              boolean cacheServiceResult,
+                              boolean expectedResult) {
+        when(mockCacheService.put(anyString(), anyString(), any(User.class)))
+                .thenReturn(
+                        cacheServiceResult
+                );
+
+        boolean operationResult = service.put(user);
+
+        assertEquals(
+                expectedResult,
+                operationResult
+        );
+    }
+
+
+    static Stream<Arguments> removeTestCases() {
+        String username = "username";
+        return Stream.of(
+                //@formatter:off
+                //            username,   cacheServiceResult,   expectedResult
+                Arguments.of( null,       true,                 false ),
+                Arguments.of( username,   false,                false ),
+                Arguments.of( username,   true,                 true )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("removeTestCases")
+    @DisplayName("remove: test cases")
+    public void remove_testCases(String username,
+                                 boolean cacheServiceResult,
+                                 boolean expectedResult) {
+        when(mockCacheService.remove(anyString(), eq(username)))
+                .thenReturn(
+                        cacheServiceResult
+                );
+
+        boolean operationResult = service.remove(username);
+
+        assertEquals(
+                expectedResult,
+                operationResult
+        );
+    }
+
+}